@@ -0,0 +1,115 @@
+/*
+ * SonarQube, open source software quality management tool.
+ * Copyright (C) 2008-2014 SonarSource
+ * mailto:contact AT sonarsource DOT com
+ *
+ * SonarQube is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SonarQube is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.microbenchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.sonar.duplications.java.JavaStatementBuilder;
+import org.sonar.duplications.java.JavaStatementChunker;
+import org.sonar.duplications.java.JavaTokenProducer;
+import org.sonar.duplications.statement.StatementChunker;
+import org.sonar.duplications.token.TokenChunker;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Conversion of Java source code into statements for CPD, regex-based {@link TokenChunker} and {@link StatementChunker}
+ * versus {@link JavaStatementChunker}.
+ */
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 3)
+@BenchmarkMode(Mode.Throughput)
+public class JavaCpdChunkerBenchmark {
+
+  @Param({"100", "1000"})
+  public int nbMethods;
+
+  String sourceCode;
+  TokenChunker tokenChunker;
+  StatementChunker statementChunker;
+  JavaStatementChunker javaStatementChunker;
+
+  @Setup
+  public void setup() throws Exception {
+    StringBuilder sb = new StringBuilder();
+    sb.append("package org.sonar.foo;\n\nimport java.util.List;\nimport java.util.Map;\n\n/**\n * Generated\n */\npublic class Foo {\n");
+    for (int i = 0; i < nbMethods; i++) {
+      sb.append("  @Override\n")
+        .append("  public int method").append(i).append("(List<String> list, Map<String, Integer> map) {\n")
+        .append("    // line comment ").append(i).append('\n')
+        .append("    int count = ").append(i).append(";\n")
+        .append("    double d = ").append(i).append(".5e3 + 0x1F;\n")
+        .append("    for (String s : list) {\n")
+        .append("      if (s.startsWith(\"prefix").append(i).append("\") && s.charAt(0) != '\\n') {\n")
+        .append("        count += map.get(s);\n")
+        .append("      } else {\n")
+        .append("        /* block comment */ count--;\n")
+        .append("      }\n")
+        .append("    }\n")
+        .append("    switch (count) {\n")
+        .append("      case 1: return -1;\n")
+        .append("      default: return count;\n")
+        .append("    }\n")
+        .append("  }\n\n");
+    }
+    sb.append("}\n");
+    sourceCode = sb.toString();
+    tokenChunker = JavaTokenProducer.build();
+    statementChunker = JavaStatementBuilder.build();
+    javaStatementChunker = new JavaStatementChunker();
+  }
+
+  @Benchmark
+  public int regexChunkers() {
+    return statementChunker.chunk(tokenChunker.chunk(sourceCode)).size();
+  }
+
+  @Benchmark
+  public int javaStatementChunker() {
+    return javaStatementChunker.chunk(sourceCode).size();
+  }
+
+  /**
+   * You can this benchmark with maven command-line (see run.sh) or by executing this method
+   * in IDE
+   */
+  public static void main(String[] args) throws RunnerException {
+    Options opt = new OptionsBuilder()
+      .include(JavaCpdChunkerBenchmark.class.getSimpleName())
+      .build();
+    new Runner(opt).run();
+  }
+}
@@ -0,0 +1,140 @@
+/*
+ * SonarQube, open source software quality management tool.
+ * Copyright (C) 2008-2014 SonarSource
+ * mailto:contact AT sonarsource DOT com
+ *
+ * SonarQube is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SonarQube is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.microbenchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.sonar.duplications.block.Block;
+import org.sonar.duplications.block.ByteArray;
+import org.sonar.duplications.detector.suffixtree.DuplicationsCollector;
+import org.sonar.duplications.detector.suffixtree.PackedSuffixTree;
+import org.sonar.duplications.detector.suffixtree.Search;
+import org.sonar.duplications.detector.suffixtree.TextSet;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Detection of clones with object-based suffix tree ({@link Search}) versus reusable {@link PackedSuffixTree}.
+ * Each text is made of a file and of other files, all of them being built from a small set of duplicated snippets
+ * separated by unique blocks.
+ */
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 3)
+@BenchmarkMode(Mode.Throughput)
+public class SuffixTreeBenchmark {
+
+  private static final int NB_TEXTS = 20;
+  private static final int NB_OTHER_FILES = 5;
+  private static final int NB_SNIPPETS = 20;
+  private static final int SNIPPET_SIZE = 15;
+
+  @Param({"100", "1000"})
+  public int nbBlocksPerFile;
+
+  List<TextSet> texts = new ArrayList<TextSet>();
+  PackedSuffixTree packedSuffixTree = new PackedSuffixTree();
+
+  @Setup
+  public void setup() throws Exception {
+    Random random = new Random(1);
+    int uniqueHash = NB_SNIPPETS * SNIPPET_SIZE;
+    for (int t = 0; t < NB_TEXTS; t++) {
+      TextSet.Builder builder = TextSet.builder();
+      for (int f = 0; f <= NB_OTHER_FILES; f++) {
+        List<Block> blocks = new ArrayList<Block>(nbBlocksPerFile);
+        String resourceId = "text" + t + "file" + f;
+        while (blocks.size() < nbBlocksPerFile) {
+          if (random.nextBoolean()) {
+            int snippet = random.nextInt(NB_SNIPPETS);
+            for (int i = 0; i < SNIPPET_SIZE; i++) {
+              blocks.add(block(resourceId, blocks.size(), snippet * SNIPPET_SIZE + i));
+            }
+          } else {
+            blocks.add(block(resourceId, blocks.size(), uniqueHash++));
+          }
+        }
+        builder.add(blocks);
+      }
+      texts.add(builder.build());
+    }
+  }
+
+  private static Block block(String resourceId, int index, int hash) {
+    return Block.builder()
+      .setResourceId(resourceId)
+      .setBlockHash(new ByteArray(hash))
+      .setIndexInFile(index)
+      .setLines(index, index + 10)
+      .setUnit(index, index + 10)
+      .build();
+  }
+
+  @Benchmark
+  public int objectSuffixTree() {
+    int groups = 0;
+    for (TextSet text : texts) {
+      DuplicationsCollector collector = new DuplicationsCollector(text);
+      Search.perform(text, collector);
+      groups += collector.getResult().size();
+    }
+    return groups;
+  }
+
+  @Benchmark
+  public int packedSuffixTree() {
+    int groups = 0;
+    for (TextSet text : texts) {
+      DuplicationsCollector collector = new DuplicationsCollector(text);
+      packedSuffixTree.perform(text, collector);
+      groups += collector.getResult().size();
+    }
+    return groups;
+  }
+
+  /**
+   * You can this benchmark with maven command-line (see run.sh) or by executing this method
+   * in IDE
+   */
+  public static void main(String[] args) throws RunnerException {
+    Options opt = new OptionsBuilder()
+      .include(SuffixTreeBenchmark.class.getSimpleName())
+      .build();
+    new Runner(opt).run();
+  }
+}
@@ -0,0 +1,123 @@
+/*
+ * SonarQube, open source software quality management tool.
+ * Copyright (C) 2008-2014 SonarSource
+ * mailto:contact AT sonarsource DOT com
+ *
+ * SonarQube is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SonarQube is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.microbenchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.sonar.api.utils.WildcardPattern;
+import org.sonar.api.utils.internal.WildcardPatternSet;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Matching of file paths against a set of inclusion/exclusion patterns, one {@link WildcardPattern}
+ * after the other versus a single {@link WildcardPatternSet}.
+ */
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 3)
+@BenchmarkMode(Mode.Throughput)
+public class WildcardPatternBenchmark {
+
+  private static final int NB_PATHS = 1000;
+
+  @Param({"10", "100", "500"})
+  public int nbPatterns;
+
+  String[] paths;
+  WildcardPattern[] patterns;
+  WildcardPatternSet patternSet;
+
+  @Setup
+  public void setup() throws Exception {
+    String[] globs = new String[nbPatterns];
+    for (int i = 0; i < nbPatterns; i++) {
+      switch (i % 4) {
+        case 0:
+          globs[i] = "**/generated" + i + "/**";
+          break;
+        case 1:
+          globs[i] = "**/*.ext" + i;
+          break;
+        case 2:
+          globs[i] = "src/main/java/org/sonar/pkg" + i + "/*Dao.java";
+          break;
+        default:
+          globs[i] = "**/module" + i + "/**/*Test?.java";
+          break;
+      }
+    }
+    patterns = WildcardPattern.create(globs);
+    patternSet = WildcardPatternSet.create(globs);
+
+    paths = new String[NB_PATHS];
+    for (int i = 0; i < NB_PATHS; i++) {
+      paths[i] = "src/main/java/org/sonar/pkg" + (i % 50) + "/sub" + (i % 7) + "/File" + i + (i % 10 == 0 ? "Dao.java" : ".java");
+    }
+  }
+
+  @Benchmark
+  public int wildcardPatterns() {
+    int count = 0;
+    for (String path : paths) {
+      if (WildcardPattern.match(patterns, path)) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  @Benchmark
+  public int wildcardPatternSet() {
+    int count = 0;
+    for (String path : paths) {
+      if (patternSet.matchAny(path)) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  /**
+   * You can this benchmark with maven command-line (see run.sh) or by executing this method
+   * in IDE
+   */
+  public static void main(String[] args) throws RunnerException {
+    Options opt = new OptionsBuilder()
+      .include(WildcardPatternBenchmark.class.getSimpleName())
+      .build();
+    new Runner(opt).run();
+  }
+}
@@ -46,6 +46,8 @@ public class JavaProcessLauncher {
     try {
       // cleanup existing monitor files
       ProcessCommands commands = new ProcessCommands(command.getTempDir(), command.getProcessIndex());
+      // child process waits for this lock to be released
+      commands.lockStop();
 
       ProcessBuilder processBuilder = create(command);
       LoggerFactory.getLogger(getClass()).info("Launch process[{}]: {}",
@@ -24,20 +24,31 @@ import org.sonar.process.MessageException;
 import org.sonar.process.ProcessCommands;
 import org.sonar.process.ProcessUtils;
 
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
 class ProcessRef {
 
+  /**
+   * Delay between checks while JVM of child process boots, before it holds its lock on readiness
+   */
+  private static final long BOOT_CHECK_DELAY_MS = 10L;
+
   private final String key;
   private final ProcessCommands commands;
   private final Process process;
   private final StreamGobbler gobbler;
-  private volatile boolean stopped = false;
+  // released as soon as process is physically down
+  private final CountDownLatch stopLatch = new CountDownLatch(1);
 
   ProcessRef(String key, ProcessCommands commands, Process process, StreamGobbler gobbler) {
     this.key = key;
     this.commands = commands;
     this.process = process;
-    this.stopped = !ProcessUtils.isAlive(process);
     this.gobbler = gobbler;
+    if (!ProcessUtils.isAlive(process)) {
+      stopLatch.countDown();
+    }
   }
 
   /**
@@ -54,18 +65,27 @@ class ProcessRef {
     return process;
   }
 
+  /**
+   * Blocks until process declares that it's ready. Stops blocking as soon as process goes down.
+   */
   void waitForReady() {
-    boolean ready = false;
-    while (!ready) {
-      if (isStopped()) {
-        throw new MessageException(String.format("%s failed to start", this));
-      }
-      ready = commands.isReady();
-      try {
-        Thread.sleep(200L);
-      } catch (InterruptedException e) {
-        throw new IllegalStateException(String.format("Interrupted while waiting for %s to be ready", this), e);
+    try {
+      while (!commands.isReady()) {
+        if (isStopped()) {
+          throw new MessageException(String.format("%s failed to start", this));
+        }
+        if (commands.isStarting()) {
+          // lock is released when process is ready or down
+          commands.waitForReadyLock();
+          if (!commands.isReady()) {
+            stopLatch.await();
+          }
+        } else {
+          stopLatch.await(BOOT_CHECK_DELAY_MS, TimeUnit.MILLISECONDS);
+        }
       }
+    } catch (InterruptedException e) {
+      throw new IllegalStateException(String.format("Interrupted while waiting for %s to be ready", this), e);
     }
   }
 
@@ -73,7 +93,15 @@ class ProcessRef {
    * True if process is physically down
    */
   boolean isStopped() {
-    return stopped;
+    return stopLatch.getCount() == 0L;
+  }
+
+  /**
+   * Blocks until process is physically down, or until timeout expires.
+   * @return true if process is down
+   */
+  boolean awaitStop(long timeoutMs) throws InterruptedException {
+    return stopLatch.await(timeoutMs, TimeUnit.MILLISECONDS);
   }
 
   void askForGracefulAsyncStop() {
@@ -98,7 +126,7 @@ class ProcessRef {
     }
     ProcessUtils.closeStreams(process);
     StreamGobbler.waitUntilFinish(gobbler);
-    stopped = true;
+    stopLatch.countDown();
   }
 
   @Override
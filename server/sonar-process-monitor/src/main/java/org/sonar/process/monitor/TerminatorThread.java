@@ -55,16 +55,15 @@ class TerminatorThread extends Thread {
         LoggerFactory.getLogger(getClass()).info(String.format("%s is stopping", ref));
         ref.askForGracefulAsyncStop();
 
-        long killAt = System.currentTimeMillis() + timeouts.getTerminationTimeout();
-        while (!ref.isStopped() && System.currentTimeMillis() < killAt) {
-          try {
-            Thread.sleep(100L);
-          } catch (InterruptedException e) {
-            // stop asking for graceful stops, Monitor will hardly kill all processes
-            return;
-          }
+        boolean stopped;
+        try {
+          // woken up as soon as process is down
+          stopped = ref.awaitStop(timeouts.getTerminationTimeout());
+        } catch (InterruptedException e) {
+          // stop asking for graceful stops, Monitor will hardly kill all processes
+          return;
         }
-        if (!ref.isStopped()) {
+        if (!stopped) {
           LoggerFactory.getLogger(getClass()).info(String.format("%s failed to stop in a timely fashion. Killing it.", ref));
         }
         ref.stop();
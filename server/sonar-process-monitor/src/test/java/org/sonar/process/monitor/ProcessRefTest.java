@@ -0,0 +1,137 @@
+/*
+ * SonarQube, open source software quality management tool.
+ * Copyright (C) 2008-2014 SonarSource
+ * mailto:contact AT sonarsource DOT com
+ *
+ * SonarQube is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SonarQube is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.process.monitor;
+
+import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+import org.sonar.process.MessageException;
+import org.sonar.process.ProcessCommands;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class ProcessRefTest {
+
+  @Test
+  public void process_is_stopped_if_not_alive() throws Exception {
+    Process process = mock(Process.class);
+    when(process.exitValue()).thenReturn(0);
+
+    ProcessRef ref = new ProcessRef("foo", mock(ProcessCommands.class), process, null);
+
+    assertThat(ref.isStopped()).isTrue();
+    assertThat(ref.awaitStop(0L)).isTrue();
+  }
+
+  @Test(timeout = 5000L)
+  public void wait_for_ready_blocks_on_lock_of_starting_process() throws Exception {
+    final AtomicBoolean ready = new AtomicBoolean(false);
+    ProcessCommands commands = mock(ProcessCommands.class);
+    when(commands.isStarting()).thenReturn(true);
+    when(commands.isReady()).thenAnswer(new Answer<Boolean>() {
+      @Override
+      public Boolean answer(InvocationOnMock invocation) {
+        return ready.get();
+      }
+    });
+    doAnswer(new Answer<Void>() {
+      @Override
+      public Void answer(InvocationOnMock invocation) {
+        // lock is released by process when it's ready
+        ready.set(true);
+        return null;
+      }
+    }).when(commands).waitForReadyLock();
+    ProcessRef ref = new ProcessRef("foo", commands, aliveProcess(), null);
+
+    ref.waitForReady();
+
+    verify(commands).waitForReadyLock();
+  }
+
+  @Test(timeout = 5000L)
+  public void fail_to_wait_for_ready_if_lock_is_released_by_stopped_process() throws Exception {
+    ProcessCommands commands = mock(ProcessCommands.class);
+    when(commands.isStarting()).thenReturn(true);
+    final ProcessRef ref = new ProcessRef("foo", commands, aliveProcess(), null);
+    stopLater(ref);
+
+    try {
+      ref.waitForReady();
+      fail();
+    } catch (MessageException e) {
+      assertThat(e).hasMessage("Process[foo] failed to start");
+    }
+  }
+
+  @Test(timeout = 5000L)
+  public void fail_to_wait_for_ready_as_soon_as_process_is_stopped() throws Exception {
+    // process did not lock readiness yet
+    ProcessRef ref = new ProcessRef("foo", mock(ProcessCommands.class), aliveProcess(), null);
+    stopLater(ref);
+
+    try {
+      ref.waitForReady();
+      fail();
+    } catch (MessageException e) {
+      assertThat(e).hasMessage("Process[foo] failed to start");
+    }
+  }
+
+  @Test(timeout = 5000L)
+  public void await_stop() throws Exception {
+    ProcessRef ref = new ProcessRef("foo", mock(ProcessCommands.class), aliveProcess(), null);
+
+    assertThat(ref.isStopped()).isFalse();
+    assertThat(ref.awaitStop(10L)).isFalse();
+
+    ref.stop();
+
+    assertThat(ref.isStopped()).isTrue();
+    assertThat(ref.awaitStop(10L)).isTrue();
+  }
+
+  private static void stopLater(final ProcessRef ref) {
+    new Thread() {
+      @Override
+      public void run() {
+        try {
+          Thread.sleep(50L);
+        } catch (InterruptedException ignored) {
+          // stop immediately
+        }
+        ref.stop();
+      }
+    }.start();
+  }
+
+  private static Process aliveProcess() {
+    Process process = mock(Process.class);
+    when(process.exitValue()).thenThrow(new IllegalThreadStateException());
+    return process;
+  }
+}
@@ -22,11 +22,16 @@ package org.sonar.process;
 import org.apache.commons.io.IOUtils;
 import org.slf4j.LoggerFactory;
 
+import javax.annotation.Nullable;
+
 import java.io.File;
 import java.io.IOException;
 import java.io.RandomAccessFile;
 import java.nio.MappedByteBuffer;
+import java.nio.channels.ClosedByInterruptException;
 import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.FileLockInterruptionException;
 
 /**
  * Process inter-communication to :
@@ -43,6 +48,11 @@ import java.nio.channels.FileChannel;
  *   <li>java.lang.Process#destroy(): shutdown hooks are not executed on some OS (mostly MSWindows)</li>
  *   <li>execute OS-specific commands (for instance kill on *nix): OS-specific, so hell to support. Moreover how to get identify a process ?</li>
  * </ul>
+ *
+ * <p/>
+ * Processes block on file locks to be notified of state changes. Child process holds a lock until it's ready,
+ * and monitor process holds a lock until it asks for stop. Locks are released by the operating system when
+ * the process holding them goes down.
  */
 public class ProcessCommands {
 
@@ -55,7 +65,8 @@ public class ProcessCommands {
    *
    * Description of ten bytes of each process :
    * <ul>
-   *   <li>First byte will contains the state 0x00 until READY 0x01</li>
+   *   <li>First byte will contains the state 0x00, then STARTING 0x02 when child process holds its lock on readiness,
+   *   then READY 0x01</li>
    *   <li>The second byte will contains the request for stopping 0x00 or STOP (0xFF)</li>
    *   <li>The next 8 bytes contains a long (System.currentTimeInMillis for ping)</li>
    * </ul>
@@ -68,11 +79,22 @@ public class ProcessCommands {
   // With this shared memory we can handle up to MAX_PROCESSES processes
   private static final int MAX_SHARED_MEMORY = BYTE_LENGTH_FOR_ONE_PROCESS * MAX_PROCESSES;
 
+  // Locks are set on the bytes that follow the shared memory, two for each process: readiness then stop
+  private static final int LOCKS_PER_PROCESS = 2;
+
   public static final byte STOP = (byte) 0xFF;
   public static final byte READY = (byte) 0x01;
+  public static final byte STARTING = (byte) 0x02;
   public static final byte EMPTY = (byte) 0x00;
 
+  /**
+   * Delay between checks of stop request while child process holds its lock on readiness
+   */
+  private static final long STARTING_STOP_CHECK_DELAY_MS = 100L;
+
   private int processNumber;
+  private volatile FileLock readyLock;
+  private FileLock stopLock;
 
   public ProcessCommands(File directory, int processNumber) {
     // processNumber should not excess MAX_PROCESSES and must not be below -1
@@ -97,12 +119,41 @@ public class ProcessCommands {
     return canBeMonitored() && mappedByteBuffer.get(offset()) == READY;
   }
 
+  /**
+   * True if child process holds, or held, its lock on readiness
+   */
+  public boolean isStarting() {
+    return canBeMonitored() && mappedByteBuffer.get(offset()) == STARTING;
+  }
+
+  /**
+   * To be executed by child process as soon as it's launched. The lock on readiness is held until {@link #setReady()}.
+   */
+  public void setStarting() {
+    if (canBeMonitored()) {
+      readyLock = tryLock(readyLockPosition());
+      mappedByteBuffer.put(offset(), STARTING);
+    }
+  }
+
   /**
    * To be executed by child process to declare that it's ready
    */
   public void setReady() {
     if (canBeMonitored()) {
       mappedByteBuffer.put(offset(), READY);
+      release(readyLock);
+      readyLock = null;
+    }
+  }
+
+  /**
+   * To be executed by monitor process once child process is {@link #isStarting() starting}. Blocks until child
+   * process is ready or down.
+   */
+  public void waitForReadyLock() throws InterruptedException {
+    if (canBeMonitored()) {
+      release(lock(readyLockPosition()));
     }
   }
 
@@ -120,17 +171,50 @@ public class ProcessCommands {
     }
   }
 
+  /**
+   * To be executed by monitor process before launching child process. The lock on stop is held until
+   * {@link #askForStop()}.
+   */
+  public void lockStop() {
+    if (canBeMonitored()) {
+      stopLock = tryLock(stopLockPosition());
+    }
+  }
+
   /**
    * To be executed by monitor process to ask for child process termination
    */
   public void askForStop() {
     mappedByteBuffer.put(offset() + 1, STOP);
+    release(stopLock);
+    stopLock = null;
   }
 
   public boolean askedForStop() {
     return mappedByteBuffer.get(offset() + 1) == STOP;
   }
 
+  /**
+   * To be executed by child process. Blocks until monitor process asks for stop or is down.
+   * <p/>
+   * While child process holds its lock on readiness, the request is checked every 100ms instead: monitor process
+   * blocks on this lock while holding the lock on stop, so blocking on the lock on stop would be rejected
+   * as a deadlock by operating system.
+   * @return true if stop is requested, false if monitor process does not hold the lock on stop anymore
+   * without having asked for stop
+   */
+  public boolean waitForStopRequest() throws InterruptedException {
+    if (canBeMonitored()) {
+      while (readyLock != null && !askedForStop()) {
+        Thread.sleep(STARTING_STOP_CHECK_DELAY_MS);
+      }
+      if (!askedForStop()) {
+        release(lock(stopLockPosition()));
+      }
+    }
+    return askedForStop();
+  }
+
   public void endWatch() {
     IOUtils.closeQuietly(sharedMemory);
   }
@@ -139,6 +223,53 @@ public class ProcessCommands {
     return BYTE_LENGTH_FOR_ONE_PROCESS * processNumber;
   }
 
+  private long readyLockPosition() {
+    return MAX_SHARED_MEMORY + LOCKS_PER_PROCESS * processNumber;
+  }
+
+  private long stopLockPosition() {
+    return readyLockPosition() + 1;
+  }
+
+  /**
+   * Exclusively locks the byte at the given position, which must not be locked by another process
+   */
+  private FileLock tryLock(long position) {
+    FileLock lock;
+    try {
+      lock = sharedMemory.getChannel().tryLock(position, 1L, false);
+    } catch (IOException e) {
+      throw new IllegalStateException("Unable to lock shared memory", e);
+    }
+    if (lock == null) {
+      throw new IllegalStateException("Shared memory is locked by another process");
+    }
+    return lock;
+  }
+
+  /**
+   * Blocks until the byte at the given position is exclusively locked
+   */
+  private FileLock lock(long position) throws InterruptedException {
+    try {
+      return sharedMemory.getChannel().lock(position, 1L, false);
+    } catch (FileLockInterruptionException | ClosedByInterruptException e) {
+      throw new InterruptedException("Interrupted while locking shared memory");
+    } catch (IOException e) {
+      throw new IllegalStateException("Unable to lock shared memory", e);
+    }
+  }
+
+  private static void release(@Nullable FileLock lock) {
+    if (lock != null && lock.isValid()) {
+      try {
+        lock.release();
+      } catch (IOException e) {
+        // channel is closed, so lock is already released
+      }
+    }
+  }
+
   private boolean canBeMonitored() {
     boolean result = processNumber >= 0 && processNumber < MAX_PROCESSES;
     if (!result) {
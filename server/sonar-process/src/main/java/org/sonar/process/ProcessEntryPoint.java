@@ -28,6 +28,9 @@ public class ProcessEntryPoint implements Stoppable {
   public static final String PROPERTY_TERMINATION_TIMEOUT = "process.terminationTimeout";
   public static final String PROPERTY_SHARED_PATH = "process.sharedDir";
 
+  private static final long READY_CHECK_MIN_DELAY_MS = 10L;
+  private static final long READY_CHECK_MAX_DELAY_MS = 200L;
+
   private final Props props;
   private final Lifecycle lifecycle = new Lifecycle();
   private final ProcessCommands commands;
@@ -71,21 +74,21 @@ public class ProcessEntryPoint implements Stoppable {
 
     try {
       LoggerFactory.getLogger(getClass()).info("Starting " + getKey());
+      // monitor blocks on readiness until process is ready or down
+      commands.setStarting();
       Runtime.getRuntime().addShutdownHook(shutdownHook);
       stopWatcher.start();
 
       monitored.start();
-      boolean ready = false;
-      while (!ready) {
-        ready = monitored.isReady();
-        Thread.sleep(200L);
-      }
+      boolean ready = waitForReady();
 
-      // notify monitor that process is ready
-      commands.setReady();
+      if (ready) {
+        // notify monitor that process is ready
+        commands.setReady();
 
-      if (lifecycle.tryToMoveTo(Lifecycle.State.STARTED)) {
-        monitored.awaitStop();
+        if (lifecycle.tryToMoveTo(Lifecycle.State.STARTED)) {
+          monitored.awaitStop();
+        }
       }
     } catch (Exception e) {
       LoggerFactory.getLogger(getClass()).warn("Fail to start " + getKey(), e);
@@ -95,6 +98,23 @@ public class ProcessEntryPoint implements Stoppable {
     }
   }
 
+  /**
+   * Checks readiness with an increasing delay, from 10ms up to 200ms, until process is ready or asked for stop
+   */
+  private boolean waitForReady() throws InterruptedException {
+    boolean ready = monitored.isReady();
+    long delayMs = READY_CHECK_MIN_DELAY_MS;
+    if (!ready) {
+      LoggerFactory.getLogger(getClass()).info(getKey() + " is still starting");
+    }
+    while (!ready && lifecycle.getState() == Lifecycle.State.STARTING) {
+      Thread.sleep(delayMs);
+      delayMs = Math.min(2 * delayMs, READY_CHECK_MAX_DELAY_MS);
+      ready = monitored.isReady();
+    }
+    return ready;
+  }
+
   boolean isStarted() {
     return lifecycle.getState() == Lifecycle.State.STARTED;
   }
@@ -22,49 +22,36 @@ package org.sonar.process;
 import org.slf4j.LoggerFactory;
 
 /**
- * This watchdog asks for graceful termination of process when the file
- * &lt;process_key&gt;.stop is created in temp directory.
+ * This watchdog asks for graceful termination of process when monitor process
+ * requests it through {@link ProcessCommands}.
  */
 public class StopWatcher extends Thread {
 
   private final Stoppable stoppable;
   private final ProcessCommands commands;
-  private boolean watching = true;
-  private final long delayMs;
 
   public StopWatcher(ProcessCommands commands, Stoppable stoppable) {
-    this(commands, stoppable, 500L);
-  }
-
-  StopWatcher(ProcessCommands commands, Stoppable stoppable, long delayMs) {
     super("Stop Watcher");
     this.commands = commands;
     this.stoppable = stoppable;
-    this.delayMs = delayMs;
   }
 
   @Override
   public void run() {
     try {
-      while (watching) {
-        if (commands.askedForStop()) {
-          LoggerFactory.getLogger(getClass()).info("Stopping process");
-          stoppable.stopAsync();
-          watching = false;
-        } else {
-          try {
-            Thread.sleep(delayMs);
-          } catch (InterruptedException ignored) {
-            watching = false;
-          }
-        }
+      // blocks until monitor process releases its lock on stop
+      if (commands.waitForStopRequest()) {
+        LoggerFactory.getLogger(getClass()).info("Stopping process");
+        stoppable.stopAsync();
       }
+    } catch (InterruptedException ignored) {
+      // stop watching
     } finally {
       commands.endWatch();
     }
   }
 
   public void stopWatching() {
-    watching = false;
+    interrupt();
   }
 }
@@ -79,6 +79,69 @@ public class ProcessCommandsTest {
     assertThat(commands.mappedByteBuffer.get(commands.offset() + 1)).isEqualTo(ProcessCommands.STOP);
   }
 
+  @Test
+  public void hold_lock_on_readiness_until_ready() throws Exception {
+    File dir = temp.newFolder();
+
+    ProcessCommands commands = new ProcessCommands(dir, 1);
+    assertThat(commands.isStarting()).isFalse();
+
+    commands.setStarting();
+    assertThat(commands.isStarting()).isTrue();
+    assertThat(commands.isReady()).isFalse();
+
+    commands.setReady();
+    assertThat(commands.isStarting()).isFalse();
+    assertThat(commands.isReady()).isTrue();
+    // lock is released, so does not block
+    commands.waitForReadyLock();
+  }
+
+  @Test
+  public void hold_lock_on_stop_until_stop_is_requested() throws Exception {
+    File dir = temp.newFolder();
+
+    ProcessCommands commands = new ProcessCommands(dir, 1);
+    commands.lockStop();
+    commands.askForStop();
+
+    // lock is released, so does not block
+    assertThat(commands.waitForStopRequest()).isTrue();
+  }
+
+  @Test
+  public void check_stop_request_while_holding_lock_on_readiness() throws Exception {
+    File dir = temp.newFolder();
+
+    final ProcessCommands commands = new ProcessCommands(dir, 1);
+    commands.setStarting();
+    Thread monitor = new Thread() {
+      @Override
+      public void run() {
+        try {
+          Thread.sleep(200L);
+        } catch (InterruptedException e) {
+          // ignored
+        }
+        commands.askForStop();
+      }
+    };
+    monitor.start();
+
+    // does not block on the lock on stop, which is not held
+    assertThat(commands.waitForStopRequest()).isTrue();
+    monitor.join();
+  }
+
+  @Test
+  public void stop_is_not_requested_if_lock_on_stop_is_not_held() throws Exception {
+    File dir = temp.newFolder();
+
+    ProcessCommands commands = new ProcessCommands(dir, 1);
+
+    assertThat(commands.waitForStopRequest()).isFalse();
+  }
+
   @Test
   public void test_max_processes() throws Exception {
     File dir = temp.newFolder();
@@ -113,6 +113,34 @@ public class ProcessEntryPointTest {
     assertThat(process.getState()).isEqualTo(State.STOPPED);
   }
 
+  @Test
+  public void stop_if_requested_while_starting() throws Exception {
+    Props props = new Props(new Properties());
+    props.set(ProcessEntryPoint.PROPERTY_PROCESS_KEY, "test");
+    props.set(ProcessEntryPoint.PROPERTY_TERMINATION_TIMEOUT, "30000");
+    final ProcessCommands commands = new ProcessCommands(temp.newFolder(), 1);
+    final ProcessEntryPoint entryPoint = new ProcessEntryPoint(props, exit, commands);
+    final NeverReadyProcess process = new NeverReadyProcess();
+
+    Thread runner = new Thread() {
+      @Override
+      public void run() {
+        entryPoint.launch(process);
+      }
+    };
+    runner.start();
+    while (!commands.isStarting()) {
+      Thread.sleep(10L);
+    }
+
+    commands.askForStop();
+    runner.join();
+
+    assertThat(process.stopped).isTrue();
+    assertThat(commands.isReady()).isFalse();
+    assertThat(entryPoint.getState()).isEqualTo(State.STOPPED);
+  }
+
   @Test
   public void terminate_if_unexpected_shutdown() throws Exception {
     Props props = new Props(new Properties());
@@ -180,6 +208,30 @@ public class ProcessEntryPointTest {
     }
   }
 
+  private static class NeverReadyProcess implements Monitored {
+    private volatile boolean stopped = false;
+
+    @Override
+    public void start() {
+
+    }
+
+    @Override
+    public boolean isReady() {
+      return false;
+    }
+
+    @Override
+    public void awaitStop() {
+
+    }
+
+    @Override
+    public void stop() {
+      stopped = true;
+    }
+  }
+
   private static class StartupErrorProcess implements Monitored {
 
     @Override
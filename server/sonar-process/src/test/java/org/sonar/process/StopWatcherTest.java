@@ -19,41 +19,66 @@
  */
 package org.sonar.process;
 
-import org.junit.Rule;
 import org.junit.Test;
-import org.junit.rules.TemporaryFolder;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+import java.util.concurrent.CountDownLatch;
 
 import static org.mockito.Mockito.*;
 
 public class StopWatcherTest {
 
-  @Rule
-  public TemporaryFolder temp = new TemporaryFolder();
-
   @Test(timeout = 1000L)
   public void stop_if_receive_command() throws Exception {
     ProcessCommands commands = mock(ProcessCommands.class);
-    when(commands.askedForStop()).thenReturn(false).thenReturn(true);
+    when(commands.waitForStopRequest()).thenReturn(true);
     Stoppable stoppable = mock(Stoppable.class);
 
-    StopWatcher watcher = new StopWatcher(commands, stoppable, 10L);
+    StopWatcher watcher = new StopWatcher(commands, stoppable);
     watcher.start();
     watcher.join();
 
     verify(stoppable).stopAsync();
+    verify(commands).endWatch();
+  }
+
+  @Test(timeout = 1000L)
+  public void do_not_stop_if_monitor_released_lock_without_asking_for_stop() throws Exception {
+    ProcessCommands commands = mock(ProcessCommands.class);
+    when(commands.waitForStopRequest()).thenReturn(false);
+    Stoppable stoppable = mock(Stoppable.class);
+
+    StopWatcher watcher = new StopWatcher(commands, stoppable);
+    watcher.start();
+    watcher.join();
+
+    verify(stoppable, never()).stopAsync();
+    verify(commands).endWatch();
   }
 
   @Test(timeout = 1000L)
   public void stop_watching_on_interruption() throws Exception {
     ProcessCommands commands = mock(ProcessCommands.class);
-    when(commands.askedForStop()).thenReturn(false);
+    final CountDownLatch waiting = new CountDownLatch(1);
+    when(commands.waitForStopRequest()).thenAnswer(new Answer<Boolean>() {
+      @Override
+      public Boolean answer(InvocationOnMock invocation) throws InterruptedException {
+        waiting.countDown();
+        // blocks until interrupted
+        new CountDownLatch(1).await();
+        return true;
+      }
+    });
     Stoppable stoppable = mock(Stoppable.class);
 
-    StopWatcher watcher = new StopWatcher(commands, stoppable, 1000L);
+    StopWatcher watcher = new StopWatcher(commands, stoppable);
     watcher.start();
-    Thread.sleep(50L);
-    watcher.interrupt();
+    waiting.await();
+    watcher.stopWatching();
+    watcher.join();
 
     verify(stoppable, never()).stopAsync();
+    verify(commands).endWatch();
   }
 }
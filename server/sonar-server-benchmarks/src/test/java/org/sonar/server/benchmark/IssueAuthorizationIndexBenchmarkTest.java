@@ -0,0 +1,136 @@
+/*
+ * SonarQube, open source software quality management tool.
+ * Copyright (C) 2008-2014 SonarSource
+ * mailto:contact AT sonarsource DOT com
+ *
+ * SonarQube is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SonarQube is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.server.benchmark;
+
+import com.google.common.collect.Lists;
+import org.apache.commons.dbutils.DbUtils;
+import org.junit.Rule;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.sonar.api.config.Settings;
+import org.sonar.core.persistence.DbTester;
+import org.sonar.server.db.DbClient;
+import org.sonar.server.es.EsTester;
+import org.sonar.server.issue.index.IssueAuthorizationIndexer;
+import org.sonar.server.issue.index.IssueIndexDefinition;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class IssueAuthorizationIndexBenchmarkTest {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger("benchmarkIssueAuthorizations");
+
+  static final int PROJECTS = 50000;
+
+  /**
+   * Number of projects impacted by a bulk application of permission template
+   */
+  static final int CHANGED_PROJECTS = 1000;
+
+  @Rule
+  public DbTester dbTester = new DbTester();
+
+  @Rule
+  public EsTester esTester = new EsTester().addDefinitions(new IssueIndexDefinition(new Settings()));
+
+  @Rule
+  public Benchmark benchmark = new Benchmark();
+
+  @Test
+  public void benchmark() throws Exception {
+    prepareTables();
+
+    IssueAuthorizationIndexer indexer = new IssueAuthorizationIndexer(new DbClient(dbTester.database(), dbTester.myBatis()), esTester.client());
+    indexer.setEnabled(true);
+
+    benchmarkFullIndexing(indexer);
+    benchmarkIndexingOfChangedProjects(indexer);
+  }
+
+  private void benchmarkFullIndexing(IssueAuthorizationIndexer indexer) {
+    LOGGER.info("Indexing authorizations of all projects");
+    long start = System.currentTimeMillis();
+    indexer.index();
+    long period = System.currentTimeMillis() - start;
+    LOGGER.info(String.format("%d project authorizations indexed in %d ms", PROJECTS, period));
+    assertThat(esTester.countDocuments(IssueIndexDefinition.INDEX, IssueIndexDefinition.TYPE_AUTHORIZATION)).isEqualTo(PROJECTS);
+  }
+
+  private void benchmarkIndexingOfChangedProjects(IssueAuthorizationIndexer indexer) {
+    LOGGER.info("Indexing authorizations of changed projects");
+    List<String> projectUuids = Lists.newArrayList();
+    for (int i = 0; i < CHANGED_PROJECTS; i++) {
+      projectUuids.add(projectUuid(i * (PROJECTS / CHANGED_PROJECTS)));
+    }
+    long start = System.currentTimeMillis();
+    indexer.indexProjects(projectUuids);
+    long period = System.currentTimeMillis() - start;
+    LOGGER.info(String.format("%d project authorizations indexed in %d ms", CHANGED_PROJECTS, period));
+    benchmark.expectBetween("Time to index authorizations of changed projects", period, 10L, 2000L);
+  }
+
+  private void prepareTables() throws SQLException {
+    LOGGER.info("Populate tables PROJECTS and GROUP_ROLES");
+    Connection connection = dbTester.openConnection();
+    PreparedStatement projectStmt = null;
+    PreparedStatement roleStmt = null;
+    try {
+      connection.setAutoCommit(false);
+      projectStmt = connection.prepareStatement("INSERT INTO projects (id, uuid, project_uuid, kee, scope, qualifier, enabled, authorization_updated_at) " +
+        "VALUES (?, ?, ?, ?, 'PRJ', 'TRK', ?, ?)");
+      roleStmt = connection.prepareStatement("INSERT INTO group_roles (group_id, resource_id, role) VALUES (NULL, ?, 'user')");
+      long now = System.currentTimeMillis();
+      for (int i = 0; i < PROJECTS; i++) {
+        String uuid = projectUuid(i);
+        projectStmt.setInt(1, i + 1);
+        projectStmt.setString(2, uuid);
+        projectStmt.setString(3, uuid);
+        projectStmt.setString(4, "project:" + i);
+        projectStmt.setBoolean(5, true);
+        projectStmt.setLong(6, now);
+        projectStmt.addBatch();
+        roleStmt.setInt(1, i + 1);
+        roleStmt.addBatch();
+        if (i % 1000 == 0) {
+          projectStmt.executeBatch();
+          roleStmt.executeBatch();
+          connection.commit();
+        }
+      }
+      projectStmt.executeBatch();
+      roleStmt.executeBatch();
+      connection.commit();
+    } finally {
+      DbUtils.closeQuietly(projectStmt);
+      DbUtils.closeQuietly(roleStmt);
+      DbUtils.closeQuietly(connection);
+    }
+  }
+
+  private static String projectUuid(int index) {
+    return "PROJECT" + index;
+  }
+}
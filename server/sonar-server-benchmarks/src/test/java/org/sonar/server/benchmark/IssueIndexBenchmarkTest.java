@@ -32,6 +32,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.sonar.api.issue.Issue;
 import org.sonar.api.rule.Severity;
+import org.sonar.api.server.ws.WebService;
 import org.sonar.api.utils.internal.Uuids;
 import org.sonar.server.es.EsClient;
 import org.sonar.server.es.SearchOptions;
@@ -42,9 +43,14 @@ import org.sonar.server.issue.index.IssueAuthorizationIndexer;
 import org.sonar.server.issue.index.IssueDoc;
 import org.sonar.server.issue.index.IssueIndex;
 import org.sonar.server.issue.index.IssueIndexer;
+import org.sonar.server.issue.ws.IssuesWs;
+import org.sonar.server.issue.ws.SearchAction;
 import org.sonar.server.tester.ServerTester;
 import org.sonar.server.user.MockUserSession;
+import org.sonar.server.ws.WsTester;
 
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
 import java.util.Arrays;
 import java.util.Date;
 import java.util.Iterator;
@@ -76,6 +82,9 @@ public class IssueIndexBenchmarkTest {
 
     // execute some queries
     benchmarkQueries();
+
+    // execute web service requests
+    benchmarkWsSearch();
   }
 
   private void indexAuthorizations() {
@@ -144,6 +153,36 @@ public class IssueIndexBenchmarkTest {
     }
   }
 
+  private void benchmarkWsSearch() throws Exception {
+    MockUserSession.set().setLogin("admin").setUserGroups("sonar-users");
+    WsTester wsTester = tester.get(WsTester.class);
+    ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+    // counter of allocated memory is not part of the standard management API
+    com.sun.management.ThreadMXBean allocationBean = threadBean instanceof com.sun.management.ThreadMXBean ? (com.sun.management.ThreadMXBean) threadBean : null;
+    long threadId = Thread.currentThread().getId();
+    long allocatedBytes = 0L;
+    for (int i = 0; i < 10; i++) {
+      long allocatedBefore = allocationBean != null ? allocationBean.getThreadAllocatedBytes(threadId) : 0L;
+      long start = System.currentTimeMillis();
+      WsTester.Result result = wsTester.newGetRequest(IssuesWs.API_ENDPOINT, SearchAction.SEARCH_ACTION)
+        .setParam(WebService.Param.PAGE_SIZE, "500")
+        .setParam(WebService.Param.FACETS, "assignees,reporters,actionPlans")
+        .setParam("extra_fields", "assigneeName,reporterName,actionPlanName")
+        .execute();
+      long end = System.currentTimeMillis();
+      if (allocationBean != null) {
+        allocatedBytes = allocationBean.getThreadAllocatedBytes(threadId) - allocatedBefore;
+        LOGGER.info("WS request (issues search): {} chars in {} ms, {} allocated", result.outputAsString().length(), end - start,
+          FileUtils.byteCountToDisplaySize(allocatedBytes));
+      } else {
+        LOGGER.info("WS request (issues search): {} chars in {} ms", result.outputAsString().length(), end - start);
+      }
+    }
+    if (allocationBean != null) {
+      benchmark.expectBetween("Allocated memory per issues search request (b)", allocatedBytes, 10L * FileUtils.ONE_MB, 200L * FileUtils.ONE_MB);
+    }
+  }
+
   private static class IssueIterator implements Iterator<IssueDoc> {
     private final int nbProjects, nbFilesPerProject, nbIssuesPerFile;
     private int currentProject = 0, currentFile = 0;
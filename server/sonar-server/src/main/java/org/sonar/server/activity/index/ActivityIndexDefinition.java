@@ -20,9 +20,7 @@
 package org.sonar.server.activity.index;
 
 import com.google.common.collect.ImmutableMap;
-import org.elasticsearch.cluster.metadata.IndexMetaData;
 import org.sonar.api.config.Settings;
-import org.sonar.process.ProcessConstants;
 import org.sonar.server.es.IndexDefinition;
 import org.sonar.server.es.NewIndex;
 
@@ -54,12 +52,7 @@ public class ActivityIndexDefinition implements IndexDefinition {
     index.getSettings().put("analysis.analyzer.default.type", "keyword");
 
     // shards
-    boolean clusterMode = settings.getBoolean(ProcessConstants.CLUSTER_ACTIVATE);
-    if (clusterMode) {
-      index.getSettings().put(IndexMetaData.SETTING_NUMBER_OF_SHARDS, 4);
-      index.getSettings().put(IndexMetaData.SETTING_NUMBER_OF_REPLICAS, 1);
-      // else keep defaults (one shard)
-    }
+    index.configureShards(settings);
 
     // type "activity"
     NewIndex.NewIndexType mapping = index.createType(TYPE);
@@ -33,6 +33,9 @@ public class ProjectRepositoryAction implements RequestHandler {
   private static final String PARAM_KEY = "key";
   private static final String PARAM_PROFILE = "profile";
   private static final String PARAM_PREVIEW = "preview";
+  private static final String PARAM_FORMAT = "format";
+  private static final String FORMAT_JSON = "json";
+  private static final String FORMAT_PROTOBUF = "protobuf";
 
   private final ProjectRepositoryLoader projectReferentialsLoader;
 
@@ -63,6 +66,12 @@ public class ProjectRepositoryAction implements RequestHandler {
       .setDescription("Preview mode or not")
       .setDefaultValue(false)
       .setBooleanPossibleValues();
+
+    action
+      .createParam(PARAM_FORMAT)
+      .setDescription("Format of response. Protobuf response is a sequence of delimited ProjectRepositoriesEntry messages.")
+      .setDefaultValue(FORMAT_JSON)
+      .setPossibleValues(FORMAT_JSON, FORMAT_PROTOBUF);
   }
 
   @Override
@@ -71,8 +80,13 @@ public class ProjectRepositoryAction implements RequestHandler {
       .setModuleKey(request.mandatoryParam(PARAM_KEY))
       .setProfileName(request.param(PARAM_PROFILE))
       .setPreview(request.mandatoryParamAsBoolean(PARAM_PREVIEW)));
-    response.stream().setMediaType(MimeTypes.JSON);
-    IOUtils.write(ref.toJson(), response.stream().output());
+    if (FORMAT_PROTOBUF.equals(request.mandatoryParam(PARAM_FORMAT))) {
+      response.stream().setMediaType(MimeTypes.PROTOBUF);
+      ref.writeDelimitedTo(response.stream().output());
+    } else {
+      response.stream().setMediaType(MimeTypes.JSON);
+      IOUtils.write(ref.toJson(), response.stream().output());
+    }
   }
 
 }
@@ -54,6 +54,7 @@ import org.sonar.server.search.QueryContext;
 import org.sonar.server.search.Result;
 import org.sonar.server.user.UserSession;
 
+import javax.annotation.CheckForNull;
 import javax.annotation.Nullable;
 
 import java.util.*;
@@ -96,19 +97,20 @@ public class ProjectRepositoryLoader implements ServerComponent {
           throw new ForbiddenException("You're not authorized to access to project '" + module.name() + "', please contact your SonarQube administrator.");
         }
 
-        ComponentDto project = getProject(module, session);
-        if (!project.key().equals(module.key())) {
-          addSettings(ref, module.getKey(), getSettingsFromParents(module, hasScanPerm, session));
-          projectKey = project.key();
-        }
-
-        List<ComponentDto> modulesTree = dbClient.componentDao().selectModulesTree(session, module.uuid());
+        // Modules and settings of the whole project are loaded at once, so that parent modules do not need to be loaded one by one
+        List<ComponentDto> modulesTree = dbClient.componentDao().selectModulesTree(session, module.projectUuid());
         Map<String, String> moduleUuidsByKey = moduleUuidsByKey(module, modulesTree);
         Map<String, Long> moduleIdsByKey = moduleIdsByKey(module, modulesTree);
 
-        List<PropertyDto> modulesTreeSettings = dbClient.propertiesDao().selectModulePropertiesTree(module.uuid(), session);
+        List<PropertyDto> modulesTreeSettings = dbClient.propertiesDao().selectModulePropertiesTree(module.projectUuid(), session);
         TreeModuleSettings treeModuleSettings = new TreeModuleSettings(moduleUuidsByKey, moduleIdsByKey, modulesTree, modulesTreeSettings, module);
 
+        ComponentDto project = getProject(module, treeModuleSettings, session);
+        if (!project.key().equals(module.key())) {
+          addSettings(ref, module.getKey(), getSettingsFromParents(module, treeModuleSettings, hasScanPerm));
+          projectKey = project.key();
+        }
+
         addSettingsToChildrenModules(ref, query.getModuleKey(), Maps.<String, String>newHashMap(), treeModuleSettings, hasScanPerm, session);
         addFileData(session, ref, modulesTree, module.uuid());
 
@@ -128,33 +130,34 @@ public class ProjectRepositoryLoader implements ServerComponent {
     }
   }
 
-  private ComponentDto getProject(ComponentDto module, DbSession session) {
+  private ComponentDto getProject(ComponentDto module, TreeModuleSettings treeModuleSettings, DbSession session) {
     if (!module.isRootProject()) {
-      return dbClient.componentDao().getNullableByUuid(session, module.projectUuid());
+      ComponentDto project = treeModuleSettings.findModule(module.projectUuid());
+      return project != null ? project : dbClient.componentDao().getNullableByUuid(session, module.projectUuid());
     } else {
       return module;
     }
   }
 
-  private Map<String, String> getSettingsFromParents(ComponentDto module, boolean hasScanPerm, DbSession session) {
+  private Map<String, String> getSettingsFromParents(ComponentDto module, TreeModuleSettings treeModuleSettings, boolean hasScanPerm) {
     List<ComponentDto> parents = newArrayList();
-    aggregateParentModules(module, parents, session);
+    aggregateParentModules(module, parents, treeModuleSettings);
     Collections.reverse(parents);
 
     Map<String, String> parentProperties = newHashMap();
     for (ComponentDto parent : parents) {
-      parentProperties.putAll(getPropertiesMap(dbClient.propertiesDao().selectProjectProperties(parent.key(), session), hasScanPerm));
+      parentProperties.putAll(getPropertiesMap(treeModuleSettings.findModuleSettings(parent.key()), hasScanPerm));
     }
     return parentProperties;
   }
 
-  private void aggregateParentModules(ComponentDto component, List<ComponentDto> parents, DbSession session) {
+  private static void aggregateParentModules(ComponentDto component, List<ComponentDto> parents, TreeModuleSettings treeModuleSettings) {
     String moduleUuid = component.moduleUuid();
     if (moduleUuid != null) {
-      ComponentDto parent = dbClient.componentDao().getByUuid(session, moduleUuid);
+      ComponentDto parent = treeModuleSettings.findModule(moduleUuid);
       if (parent != null) {
         parents.add(parent);
-        aggregateParentModules(parent, parents, session);
+        aggregateParentModules(parent, parents, treeModuleSettings);
       }
     }
   }
@@ -332,6 +335,7 @@ public class ProjectRepositoryLoader implements ServerComponent {
     private Map<String, String> moduleUuidsByKey;
     private Multimap<Long, PropertyDto> propertiesByModuleId;
     private Multimap<String, ComponentDto> moduleChildrenByModuleUuid;
+    private Map<String, ComponentDto> modulesByUuid;
 
     private TreeModuleSettings(Map<String, String> moduleUuidsByKey, Map<String, Long> moduleIdsByKey, List<ComponentDto> moduleChildren,
       List<PropertyDto> moduleChildrenSettings, ComponentDto module) {
@@ -339,12 +343,14 @@ public class ProjectRepositoryLoader implements ServerComponent {
       this.moduleUuidsByKey = moduleUuidsByKey;
       propertiesByModuleId = ArrayListMultimap.create();
       moduleChildrenByModuleUuid = ArrayListMultimap.create();
+      modulesByUuid = newHashMap();
 
       for (PropertyDto settings : moduleChildrenSettings) {
         propertiesByModuleId.put(settings.getResourceId(), settings);
       }
 
       for (ComponentDto componentDto : moduleChildren) {
+        modulesByUuid.put(componentDto.uuid(), componentDto);
         String moduleUuid = componentDto.moduleUuid();
         if (moduleUuid != null) {
           moduleChildrenByModuleUuid.put(moduleUuid, componentDto);
@@ -357,6 +363,11 @@ public class ProjectRepositoryLoader implements ServerComponent {
       return newArrayList(propertiesByModuleId.get(moduleId));
     }
 
+    @CheckForNull
+    ComponentDto findModule(String moduleUuid) {
+      return modulesByUuid.get(moduleUuid);
+    }
+
     List<ComponentDto> findChildrenModule(String moduleKey) {
       String moduleUuid = moduleUuidsByKey.get(moduleKey);
       return newArrayList(moduleChildrenByModuleUuid.get(moduleUuid));
@@ -34,6 +34,7 @@ public class ComputationContext {
   // cache of metadata as it's frequently accessed
   private final BatchReport.Metadata reportMetadata;
   private Settings projectSettings;
+  private long processedItems = 0L;
 
   public ComputationContext(BatchReportReader reportReader, ComponentDto project) {
     this.reportReader = reportReader;
@@ -61,4 +62,15 @@ public class ComputationContext {
     checkState(this.projectSettings == null, "can't set project settings twice");
     this.projectSettings = projectSettings;
   }
+
+  /**
+   * Used by steps to declare the number of items (components, issues, ...) they processed. See {@link ReportStatistics}
+   */
+  public void addProcessedItems(long count) {
+    this.processedItems += count;
+  }
+
+  public long getProcessedItems() {
+    return processedItems;
+  }
 }
@@ -24,6 +24,7 @@ import com.google.common.base.Throwables;
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.lang.ArrayUtils;
 import org.sonar.api.ServerComponent;
+import org.sonar.api.utils.KeyValueFormat;
 import org.sonar.api.utils.System2;
 import org.sonar.api.utils.TempFolder;
 import org.sonar.api.utils.ZipUtils;
@@ -58,21 +59,26 @@ public class ComputationService implements ServerComponent {
   private final ProjectSettingsFactory projectSettingsFactory;
   private final TempFolder tempFolder;
   private final System2 system;
+  private final ComputationStatistics statistics;
 
-  public ComputationService(DbClient dbClient, ComputationSteps steps, ActivityService activityService, 
-                            ProjectSettingsFactory projectSettingsFactory, TempFolder tempFolder, System2 system) {
+  public ComputationService(DbClient dbClient, ComputationSteps steps, ActivityService activityService,
+                            ProjectSettingsFactory projectSettingsFactory, TempFolder tempFolder, System2 system,
+                            ComputationStatistics statistics) {
     this.dbClient = dbClient;
     this.steps = steps;
     this.activityService = activityService;
     this.projectSettingsFactory = projectSettingsFactory;
     this.tempFolder = tempFolder;
     this.system = system;
+    this.statistics = statistics;
   }
 
   public void process(ReportQueue.Item item) {
     Profiler profiler = Profiler.create(LOG).startDebug(String.format(
       "Analysis of project %s (report %d)", item.dto.getProjectKey(), item.dto.getId()));
 
+    long startedAt = system.now();
+    ReportStatistics reportStatistics = new ReportStatistics(item.dto.getId(), item.dto.getProjectKey(), queueWaitTime(item.dto, startedAt));
     ComponentDto project = loadProject(item);
     try {
       File reportDir = extractReportInDir(item);
@@ -81,9 +87,7 @@ public class ComputationService implements ServerComponent {
       context.setProjectSettings(projectSettingsFactory.newProjectSettings(project.getId()));
       for (ComputationStep step : steps.orderedSteps()) {
         if (ArrayUtils.contains(step.supportedProjectQualifiers(), context.getProject().qualifier())) {
-          Profiler stepProfiler = Profiler.createIfDebug(LOG).startDebug(step.getDescription());
-          step.execute(context);
-          stepProfiler.stopDebug();
+          executeStep(step, context, reportStatistics);
         }
       }
       item.dto.succeed();
@@ -94,11 +98,41 @@ public class ComputationService implements ServerComponent {
 
     } finally {
       item.dto.setFinishedAt(system.now());
-      saveActivity(item.dto, project);
+      reportStatistics.setExecutionTime(item.dto.getFinishedAt() - startedAt);
+      statistics.add(reportStatistics);
+      saveActivity(item.dto, project, reportStatistics);
       profiler.stopInfo();
     }
   }
 
+  private void executeStep(ComputationStep step, ComputationContext context, ReportStatistics reportStatistics) {
+    Profiler stepProfiler = Profiler.createIfDebug(LOG).startDebug(step.getDescription());
+    long itemsBefore = context.getProcessedItems();
+    long bytesBefore = context.getReportReader().getReadBytes();
+    long stepStartedAt = system.now();
+    boolean succeeded = false;
+    try {
+      step.execute(context);
+      succeeded = true;
+    } finally {
+      // statistics of a failed step are kept, they help to understand where the integration broke
+      ReportStatistics.Step stepStatistics = new ReportStatistics.Step(step.getDescription(), system.now() - stepStartedAt,
+        context.getProcessedItems() - itemsBefore, context.getReportReader().getReadBytes() - bytesBefore);
+      reportStatistics.addStep(stepStatistics);
+      if (succeeded) {
+        stepProfiler.stopDebug();
+      } else {
+        LOG.error(String.format("Step '%s' failed | time=%dms | processedItems=%d | readBytes=%d", stepStatistics.getDescription(),
+          stepStatistics.getDuration(), stepStatistics.getProcessedItems(), stepStatistics.getReadBytes()));
+      }
+    }
+  }
+
+  private static long queueWaitTime(AnalysisReportDto report, long startedAt) {
+    Long submittedAt = report.getCreatedAt();
+    return submittedAt == null ? 0L : Math.max(0L, startedAt - submittedAt);
+  }
+
   private File extractReportInDir(ReportQueue.Item item) {
     File dir = tempFolder.newDir();
     try {
@@ -124,7 +158,7 @@ public class ComputationService implements ServerComponent {
     }
   }
 
-  private void saveActivity(AnalysisReportDto report, ComponentDto project) {
+  private void saveActivity(AnalysisReportDto report, ComponentDto project, ReportStatistics reportStatistics) {
     Activity activity = new Activity();
     activity.setType(Activity.Type.ANALYSIS_REPORT);
     activity.setAction("LOG_ANALYSIS_REPORT");
@@ -136,7 +170,12 @@ public class ComputationService implements ServerComponent {
       .setData("status", String.valueOf(report.getStatus()))
       .setData("submittedAt", formatDateTimeNullSafe(longToDate(report.getCreatedAt())))
       .setData("startedAt", formatDateTimeNullSafe(longToDate(report.getStartedAt())))
-      .setData("finishedAt", formatDateTimeNullSafe(longToDate(report.getFinishedAt())));
+      .setData("finishedAt", formatDateTimeNullSafe(longToDate(report.getFinishedAt())))
+      .setData("queueWaitTime", String.valueOf(reportStatistics.getQueueWaitTime()))
+      .setData("executionTime", String.valueOf(reportStatistics.getExecutionTime()))
+      .setData("stepDurations", KeyValueFormat.format(reportStatistics.durationsByStep()))
+      .setData("stepProcessedItems", KeyValueFormat.format(reportStatistics.processedItemsByStep()))
+      .setData("stepReadBytes", KeyValueFormat.format(reportStatistics.readBytesByStep()));
     activityService.save(activity);
   }
 }
@@ -0,0 +1,168 @@
+/*
+ * SonarQube, open source software quality management tool.
+ * Copyright (C) 2008-2014 SonarSource
+ * mailto:contact AT sonarsource DOT com
+ *
+ * SonarQube is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SonarQube is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.server.computation;
+
+import com.google.common.collect.ImmutableList;
+import org.sonar.api.ServerComponent;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Aggregated performance of the analysis reports integrated since server startup. It is
+ * used to identify the slowest steps and projects. See
+ * {@link org.sonar.server.platform.monitoring.ComputationMonitor} and
+ * {@link org.sonar.server.computation.ws.StatisticsWsAction}
+ */
+public class ComputationStatistics implements ServerComponent {
+
+  static final int MAX_SLOWEST_REPORTS = 10;
+
+  public static class StepAggregate {
+    private final String description;
+    private long executions = 0L;
+    private long totalDuration = 0L;
+    private long maxDuration = 0L;
+    private long processedItems = 0L;
+    private long readBytes = 0L;
+
+    private StepAggregate(String description) {
+      this.description = description;
+    }
+
+    private void add(ReportStatistics.Step step) {
+      executions++;
+      totalDuration += step.getDuration();
+      maxDuration = Math.max(maxDuration, step.getDuration());
+      processedItems += step.getProcessedItems();
+      readBytes += step.getReadBytes();
+    }
+
+    private StepAggregate copy() {
+      StepAggregate copy = new StepAggregate(description);
+      copy.executions = executions;
+      copy.totalDuration = totalDuration;
+      copy.maxDuration = maxDuration;
+      copy.processedItems = processedItems;
+      copy.readBytes = readBytes;
+      return copy;
+    }
+
+    public String getDescription() {
+      return description;
+    }
+
+    public long getExecutions() {
+      return executions;
+    }
+
+    public long getTotalDuration() {
+      return totalDuration;
+    }
+
+    public long getMaxDuration() {
+      return maxDuration;
+    }
+
+    public long getAverageDuration() {
+      return executions == 0L ? 0L : (totalDuration / executions);
+    }
+
+    public long getProcessedItems() {
+      return processedItems;
+    }
+
+    public long getReadBytes() {
+      return readBytes;
+    }
+  }
+
+  private static final Comparator<ReportStatistics> SLOWEST_FIRST = new Comparator<ReportStatistics>() {
+    @Override
+    public int compare(ReportStatistics r1, ReportStatistics r2) {
+      return Long.compare(r2.getExecutionTime(), r1.getExecutionTime());
+    }
+  };
+
+  private long reports = 0L;
+  private long totalQueueWaitTime = 0L;
+  private long maxQueueWaitTime = 0L;
+  private long totalExecutionTime = 0L;
+  private final Map<String, StepAggregate> stepsByDescription = new LinkedHashMap<>();
+  private final List<ReportStatistics> slowestReports = new ArrayList<>();
+
+  public synchronized void add(ReportStatistics report) {
+    reports++;
+    totalQueueWaitTime += report.getQueueWaitTime();
+    maxQueueWaitTime = Math.max(maxQueueWaitTime, report.getQueueWaitTime());
+    totalExecutionTime += report.getExecutionTime();
+    for (ReportStatistics.Step step : report.getSteps()) {
+      StepAggregate aggregate = stepsByDescription.get(step.getDescription());
+      if (aggregate == null) {
+        aggregate = new StepAggregate(step.getDescription());
+        stepsByDescription.put(step.getDescription(), aggregate);
+      }
+      aggregate.add(step);
+    }
+    slowestReports.add(report);
+    Collections.sort(slowestReports, SLOWEST_FIRST);
+    if (slowestReports.size() > MAX_SLOWEST_REPORTS) {
+      slowestReports.remove(slowestReports.size() - 1);
+    }
+  }
+
+  public synchronized long getReports() {
+    return reports;
+  }
+
+  public synchronized long getAverageQueueWaitTime() {
+    return reports == 0L ? 0L : (totalQueueWaitTime / reports);
+  }
+
+  public synchronized long getMaxQueueWaitTime() {
+    return maxQueueWaitTime;
+  }
+
+  public synchronized long getAverageExecutionTime() {
+    return reports == 0L ? 0L : (totalExecutionTime / reports);
+  }
+
+  /**
+   * Copy of aggregates, ordered by first execution of steps
+   */
+  public synchronized List<StepAggregate> getSteps() {
+    List<StepAggregate> result = new ArrayList<>();
+    for (StepAggregate aggregate : stepsByDescription.values()) {
+      result.add(aggregate.copy());
+    }
+    return result;
+  }
+
+  /**
+   * The {@link #MAX_SLOWEST_REPORTS} reports with the longest execution time, slowest first
+   */
+  public synchronized List<ReportStatistics> getSlowestReports() {
+    return ImmutableList.copyOf(slowestReports);
+  }
+}
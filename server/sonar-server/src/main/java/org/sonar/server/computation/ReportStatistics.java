@@ -0,0 +1,145 @@
+/*
+ * SonarQube, open source software quality management tool.
+ * Copyright (C) 2008-2014 SonarSource
+ * mailto:contact AT sonarsource DOT com
+ *
+ * SonarQube is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SonarQube is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.server.computation;
+
+import com.google.common.collect.ImmutableList;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Performance of the integration of an analysis report : time spent in queue and
+ * statistics of each executed {@link org.sonar.server.computation.step.ComputationStep}
+ */
+public class ReportStatistics {
+
+  public static class Step {
+    private final String description;
+    private final long duration;
+    private final long processedItems;
+    private final long readBytes;
+
+    public Step(String description, long duration, long processedItems, long readBytes) {
+      this.description = description;
+      this.duration = duration;
+      this.processedItems = processedItems;
+      this.readBytes = readBytes;
+    }
+
+    public String getDescription() {
+      return description;
+    }
+
+    /**
+     * Execution time, in milliseconds
+     */
+    public long getDuration() {
+      return duration;
+    }
+
+    public long getProcessedItems() {
+      return processedItems;
+    }
+
+    /**
+     * Size of the files read from the analysis report, in bytes
+     */
+    public long getReadBytes() {
+      return readBytes;
+    }
+  }
+
+  private final long reportId;
+  private final String projectKey;
+  private final long queueWaitTime;
+  private final List<Step> steps = new ArrayList<>();
+  private long executionTime = 0L;
+
+  public ReportStatistics(long reportId, String projectKey, long queueWaitTime) {
+    this.reportId = reportId;
+    this.projectKey = projectKey;
+    this.queueWaitTime = queueWaitTime;
+  }
+
+  public long getReportId() {
+    return reportId;
+  }
+
+  public String getProjectKey() {
+    return projectKey;
+  }
+
+  /**
+   * Time between submission of report and start of its integration, in milliseconds
+   */
+  public long getQueueWaitTime() {
+    return queueWaitTime;
+  }
+
+  /**
+   * Total time of integration, in milliseconds
+   */
+  public long getExecutionTime() {
+    return executionTime;
+  }
+
+  public ReportStatistics setExecutionTime(long executionTime) {
+    this.executionTime = executionTime;
+    return this;
+  }
+
+  public ReportStatistics addStep(Step step) {
+    steps.add(step);
+    return this;
+  }
+
+  public List<Step> getSteps() {
+    return ImmutableList.copyOf(steps);
+  }
+
+  /**
+   * Duration of each step, by step description. Ordered by execution.
+   */
+  public Map<String, Long> durationsByStep() {
+    Map<String, Long> result = new LinkedHashMap<>();
+    for (Step step : steps) {
+      result.put(step.getDescription(), step.getDuration());
+    }
+    return result;
+  }
+
+  public Map<String, Long> processedItemsByStep() {
+    Map<String, Long> result = new LinkedHashMap<>();
+    for (Step step : steps) {
+      result.put(step.getDescription(), step.getProcessedItems());
+    }
+    return result;
+  }
+
+  public Map<String, Long> readBytesByStep() {
+    Map<String, Long> result = new LinkedHashMap<>();
+    for (Step step : steps) {
+      result.put(step.getDescription(), step.getReadBytes());
+    }
+    return result;
+  }
+}
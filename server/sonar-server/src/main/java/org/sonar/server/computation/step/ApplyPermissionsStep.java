@@ -24,6 +24,8 @@ import org.sonar.api.resources.Qualifiers;
 import org.sonar.server.computation.ComputationContext;
 import org.sonar.server.issue.index.IssueAuthorizationIndexer;
 
+import java.util.Arrays;
+
 public class ApplyPermissionsStep implements ComputationStep {
 
   private final IssueAuthorizationIndexer indexer;
@@ -39,7 +41,7 @@ public class ApplyPermissionsStep implements ComputationStep {
 
   @Override
   public void execute(ComputationContext context) {
-    indexer.index();
+    indexer.indexProjects(Arrays.asList(context.getProject().uuid()));
   }
 
   @Override
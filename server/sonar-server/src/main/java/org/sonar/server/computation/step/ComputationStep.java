@@ -32,6 +32,12 @@ public interface ComputationStep {
    */
   String[] supportedProjectQualifiers();
 
+  /**
+   * Steps iterating on items of the report or of the database (components, issues, snapshots, ...) declare
+   * how many of them they processed with {@link ComputationContext#addProcessedItems(long)}. Steps delegating
+   * to Elasticsearch indexers or to batch SQL updates do not, as these components do not expose such a
+   * count. Only their duration is recorded.
+   */
   void execute(ComputationContext context);
 
   String getDescription();
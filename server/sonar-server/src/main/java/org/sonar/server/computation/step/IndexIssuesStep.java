@@ -22,16 +22,17 @@ package org.sonar.server.computation.step;
 
 import org.sonar.api.resources.Qualifiers;
 import org.sonar.server.computation.ComputationContext;
-import org.sonar.server.issue.index.IssueAuthorizationIndexer;
 import org.sonar.server.issue.index.IssueIndexer;
 
+/**
+ * Authorizations of the analyzed project, which are the parents of issue documents, are indexed before
+ * by {@link ApplyPermissionsStep}. Date-based indexing of all authorizations is done only at server startup.
+ */
 public class IndexIssuesStep implements ComputationStep {
 
-  private final IssueAuthorizationIndexer authorizationIndexer;
   private final IssueIndexer indexer;
 
-  public IndexIssuesStep(IssueAuthorizationIndexer authorizationIndexer, IssueIndexer indexer) {
-    this.authorizationIndexer = authorizationIndexer;
+  public IndexIssuesStep(IssueIndexer indexer) {
     this.indexer = indexer;
   }
 
@@ -42,7 +43,6 @@ public class IndexIssuesStep implements ComputationStep {
 
   @Override
   public void execute(ComputationContext context) {
-    authorizationIndexer.index();
     indexer.index();
   }
 
@@ -54,6 +54,7 @@ public class ParseReportStep implements ComputationStep {
     BatchReport.Component component = reportReader.readComponent(componentRef);
     List<BatchReport.Issue> issues = reportReader.readComponentIssues(componentRef);
     issueComputation.processComponentIssues(context, component.getUuid(), issues);
+    context.addProcessedItems(issues.size());
     for (Integer childRef : component.getChildRefsList()) {
       recursivelyProcessComponent(context, childRef);
     }
@@ -64,6 +65,7 @@ public class ParseReportStep implements ComputationStep {
     for (int componentRef = 1; componentRef <= deletedComponentsCount; componentRef++) {
       BatchReport.Issues issues = context.getReportReader().readDeletedComponentIssues(componentRef);
       issueComputation.processComponentIssues(context, issues.getComponentUuid(), issues.getListList());
+      context.addProcessedItems(issues.getListCount());
     }
   }
 
@@ -82,6 +82,7 @@ public class PersistComponentLinksStep implements ComputationStep {
     BatchReportReader reportReader = context.getReportReader();
     BatchReport.Component component = reportReader.readComponent(componentRef);
     processLinks(session, component);
+    context.addProcessedItems(1);
 
     for (Integer childRef : component.getChildRefsList()) {
       recursivelyProcessComponent(session, context, childRef);
@@ -97,6 +97,7 @@ public class PersistIssuesStep implements ComputationStep {
           saved = true;
         }
         if (saved) {
+          context.addProcessedItems(1);
           count += insertChanges(changeMapper, issue);
           if (count > BatchSession.MAX_BATCH_SIZE) {
             session.flushStatements();
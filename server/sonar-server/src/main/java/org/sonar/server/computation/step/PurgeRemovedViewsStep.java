@@ -60,6 +60,7 @@ public class PurgeRemovedViewsStep implements ComputationStep {
       Set<String> viewUuidInDb = newHashSet(dbClient.componentDao().selectExistingUuids(session, viewUuidsInIndex));
       Set<String> viewsToRemove = Sets.difference(viewUuidsInIndex, viewUuidInDb);
       index.delete(viewsToRemove);
+      context.addProcessedItems(viewsToRemove.size());
     } finally {
       session.close();
     }
@@ -75,6 +75,7 @@ public class SendIssueNotificationsStep implements ComputationStep {
     try {
       while (issues.hasNext()) {
         DefaultIssue issue = issues.next();
+        context.addProcessedItems(1);
         if (issue.isNew() && issue.resolution() == null) {
           newIssuesStats.add(issue);
         } else if (issue.isChanged() && issue.mustSendNotifications()) {
@@ -48,8 +48,9 @@ public class SwitchSnapshotStep implements ComputationStep {
     DbSession session = dbClient.openSession(true);
     try {
       long snapshotId = context.getReportMetadata().getSnapshotId();
-      disablePreviousSnapshot(session, snapshotId);
+      context.addProcessedItems(disablePreviousSnapshot(session, snapshotId));
       enableCurrentSnapshot(session, snapshotId);
+      context.addProcessedItems(1);
     } finally {
       MyBatis.closeQuietly(session);
     }
@@ -60,15 +61,21 @@ public class SwitchSnapshotStep implements ComputationStep {
     return "Switch last snapshot flag";
   }
 
-  private void disablePreviousSnapshot(DbSession session, long reportSnapshotId) {
+  /**
+   * @return the number of snapshots that are no more flagged as last
+   */
+  private int disablePreviousSnapshot(DbSession session, long reportSnapshotId) {
+    int count = 0;
     List<SnapshotDto> snapshots = dbClient.snapshotDao().findSnapshotAndChildrenOfProjectScope(session, dbClient.snapshotDao().getByKey(session, reportSnapshotId));
     for (SnapshotDto snapshot : snapshots) {
       SnapshotDto previousLastSnapshot = dbClient.snapshotDao().getLastSnapshot(session, snapshot);
       if (previousLastSnapshot != null) {
         dbClient.snapshotDao().updateSnapshotAndChildrenLastFlag(session, previousLastSnapshot, false);
         session.commit();
+        count++;
       }
     }
+    return count;
   }
 
   private void enableCurrentSnapshot(DbSession session, long reportSnapshotId) {
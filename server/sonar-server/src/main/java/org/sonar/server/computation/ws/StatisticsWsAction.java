@@ -0,0 +1,102 @@
+/*
+ * SonarQube, open source software quality management tool.
+ * Copyright (C) 2008-2014 SonarSource
+ * mailto:contact AT sonarsource DOT com
+ *
+ * SonarQube is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SonarQube is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.server.computation.ws;
+
+import org.sonar.api.server.ws.Request;
+import org.sonar.api.server.ws.RequestHandler;
+import org.sonar.api.server.ws.Response;
+import org.sonar.api.server.ws.WebService;
+import org.sonar.api.utils.text.JsonWriter;
+import org.sonar.core.permission.GlobalPermissions;
+import org.sonar.server.computation.ComputationStatistics;
+import org.sonar.server.computation.ReportStatistics;
+import org.sonar.server.user.UserSession;
+
+/**
+ * Performance of the integration of analysis reports since server startup
+ * @since 5.2
+ */
+public class StatisticsWsAction implements ComputationWsAction, RequestHandler {
+
+  private final ComputationStatistics statistics;
+
+  public StatisticsWsAction(ComputationStatistics statistics) {
+    this.statistics = statistics;
+  }
+
+  @Override
+  public void define(WebService.NewController controller) {
+    controller
+      .createAction("statistics")
+      .setDescription("Performance of the integration of analysis reports since server startup: time spent in queue, " +
+        "duration and volume of each step, slowest reports. Durations are in milliseconds. Requires Administer System permission.")
+      .setSince("5.2")
+      .setInternal(true)
+      .setHandler(this);
+  }
+
+  @Override
+  public void handle(Request request, Response response) throws Exception {
+    UserSession.get().checkGlobalPermission(GlobalPermissions.SYSTEM_ADMIN);
+
+    JsonWriter json = response.newJsonWriter().beginObject();
+    json.prop("reports", statistics.getReports());
+    json.prop("averageQueueWaitTime", statistics.getAverageQueueWaitTime());
+    json.prop("maxQueueWaitTime", statistics.getMaxQueueWaitTime());
+    json.prop("averageExecutionTime", statistics.getAverageExecutionTime());
+    writeSteps(json);
+    writeSlowestReports(json);
+    json.endObject().close();
+  }
+
+  private void writeSteps(JsonWriter json) {
+    json.name("steps").beginArray();
+    for (ComputationStatistics.StepAggregate step : statistics.getSteps()) {
+      json.beginObject()
+        .prop("description", step.getDescription())
+        .prop("executions", step.getExecutions())
+        .prop("totalTime", step.getTotalDuration())
+        .prop("averageTime", step.getAverageDuration())
+        .prop("maxTime", step.getMaxDuration())
+        .prop("processedItems", step.getProcessedItems())
+        .prop("readBytes", step.getReadBytes())
+        .endObject();
+    }
+    json.endArray();
+  }
+
+  private void writeSlowestReports(JsonWriter json) {
+    json.name("slowestReports").beginArray();
+    for (ReportStatistics report : statistics.getSlowestReports()) {
+      json.beginObject()
+        .prop("key", report.getReportId())
+        .prop("projectKey", report.getProjectKey())
+        .prop("queueWaitTime", report.getQueueWaitTime())
+        .prop("executionTime", report.getExecutionTime());
+      json.name("steps").beginObject();
+      for (ReportStatistics.Step step : report.getSteps()) {
+        json.prop(step.getDescription(), step.getDuration());
+      }
+      json.endObject();
+      json.endObject();
+    }
+    json.endArray();
+  }
+}
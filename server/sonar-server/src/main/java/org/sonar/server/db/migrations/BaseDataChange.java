@@ -39,8 +39,7 @@ public abstract class BaseDataChange implements DataChange, DatabaseMigration {
     try {
       readConnection = openConnection();
 
-      writeConnection = db.getDataSource().getConnection();
-      writeConnection.setAutoCommit(false);
+      writeConnection = openWriteConnection(db);
       Context context = new Context(db, readConnection, writeConnection);
       execute(context);
 
@@ -54,6 +53,10 @@ public abstract class BaseDataChange implements DataChange, DatabaseMigration {
    * Do not forget to close it !
    */
   protected Connection openConnection() throws SQLException {
+    return openReadConnection(db);
+  }
+
+  static Connection openReadConnection(Database db) throws SQLException {
     Connection connection = db.getDataSource().getConnection();
     connection.setAutoCommit(false);
     if (connection.getMetaData().supportsTransactionIsolationLevel(Connection.TRANSACTION_READ_UNCOMMITTED)) {
@@ -62,4 +65,10 @@ public abstract class BaseDataChange implements DataChange, DatabaseMigration {
     return connection;
   }
 
+  static Connection openWriteConnection(Database db) throws SQLException {
+    Connection connection = db.getDataSource().getConnection();
+    connection.setAutoCommit(false);
+    return connection;
+  }
+
 }
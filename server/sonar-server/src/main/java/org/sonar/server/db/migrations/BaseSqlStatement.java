@@ -31,6 +31,7 @@ import java.util.Date;
 
 class BaseSqlStatement<CHILD extends SqlStatement> implements SqlStatement<CHILD> {
   protected PreparedStatement pstmt;
+  private boolean parametersSet = false;
 
   protected BaseSqlStatement(PreparedStatement pstmt) {
     this.pstmt = pstmt;
@@ -46,12 +47,14 @@ class BaseSqlStatement<CHILD extends SqlStatement> implements SqlStatement<CHILD
   @Override
   public CHILD setString(int columnIndex, @Nullable String value) throws SQLException {
     pstmt.setString(columnIndex, value);
+    parametersSet = true;
     return (CHILD) this;
   }
 
   @Override
   public CHILD setBytes(int columnIndex, @Nullable byte[] value) throws SQLException {
     pstmt.setBytes(columnIndex, value);
+    parametersSet = true;
     return (CHILD) this;
   }
 
@@ -62,6 +65,7 @@ class BaseSqlStatement<CHILD extends SqlStatement> implements SqlStatement<CHILD
     } else {
       pstmt.setInt(columnIndex, value);
     }
+    parametersSet = true;
     return (CHILD) this;
   }
 
@@ -72,6 +76,7 @@ class BaseSqlStatement<CHILD extends SqlStatement> implements SqlStatement<CHILD
     } else {
       pstmt.setLong(columnIndex, value);
     }
+    parametersSet = true;
     return (CHILD) this;
   }
 
@@ -82,6 +87,7 @@ class BaseSqlStatement<CHILD extends SqlStatement> implements SqlStatement<CHILD
     } else {
       pstmt.setBoolean(columnIndex, value);
     }
+    parametersSet = true;
     return (CHILD) this;
   }
 
@@ -92,6 +98,7 @@ class BaseSqlStatement<CHILD extends SqlStatement> implements SqlStatement<CHILD
     } else {
       pstmt.setDouble(columnIndex, value);
     }
+    parametersSet = true;
     return (CHILD) this;
   }
 
@@ -102,6 +109,14 @@ class BaseSqlStatement<CHILD extends SqlStatement> implements SqlStatement<CHILD
     } else {
       pstmt.setTimestamp(columnIndex, new Timestamp(value.getTime()));
     }
+    parametersSet = true;
     return (CHILD) this;
   }
+
+  /**
+   * Whether at least one parameter has been set since the statement was created
+   */
+  boolean hasParameters() {
+    return parametersSet;
+  }
 }
@@ -19,11 +19,21 @@
  */
 package org.sonar.server.db.migrations;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.apache.commons.dbutils.DbUtils;
+import org.sonar.core.persistence.BatchSession;
 import org.sonar.core.persistence.Database;
 import org.sonar.server.util.ProgressLogger;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 
 public class MassUpdate {
@@ -31,6 +41,8 @@ public class MassUpdate {
   public static interface Handler {
     /**
      * Convert some column values of a given row.
+     * <p/>
+     * Must be thread-safe when more than one worker is used, see {@link MassUpdate#workers(int)}.
      *
      * @return true if the row must be updated, else false. If false, then the update parameter must not be touched.
      */
@@ -44,6 +56,11 @@ public class MassUpdate {
 
   private Select select;
   private Upsert update;
+  private String selectSql, updateSql;
+  private String idBoundsSql;
+  private long idRangeSize;
+  private int workers = 1;
+  private int commitInterval = BatchSession.MAX_BATCH_SIZE;
 
   MassUpdate(Database db, Connection readConnection, Connection writeConnection) {
     this.db = db;
@@ -53,11 +70,13 @@ public class MassUpdate {
 
   public SqlStatement select(String sql) throws SQLException {
     this.select = SelectImpl.create(db, readConnection, sql);
+    this.selectSql = sql;
     return this.select;
   }
 
   public MassUpdate update(String sql) throws SQLException {
     this.update = UpsertImpl.create(writeConnection, sql);
+    this.updateSql = sql;
     return this;
   }
 
@@ -66,26 +85,61 @@ public class MassUpdate {
     return this;
   }
 
+  /**
+   * Splits rows into ranges of primary keys that are processed independently, each one
+   * being committed when completed. The request {@code idBoundsSql} must return the minimum and maximum
+   * ids of the rows to be processed, for example "SELECT MIN(id), MAX(id) FROM issues WHERE component_uuid IS NULL".
+   * The request passed to {@link #select(String)} must have exactly two parameters, the first id of the range (inclusive)
+   * and the last id of the range (exclusive), for example "SELECT ... WHERE component_uuid IS NULL AND id>=? AND id<?".
+   * Parameters must not be set on the statement returned by {@link #select(String)}, else execution fails.
+   */
+  public MassUpdate partitionByIds(String idBoundsSql, long idRangeSize) {
+    if (idRangeSize <= 0L) {
+      throw new IllegalArgumentException("Size of id ranges must be positive: " + idRangeSize);
+    }
+    this.idBoundsSql = idBoundsSql;
+    this.idRangeSize = idRangeSize;
+    return this;
+  }
+
+  /**
+   * Number of id ranges that are processed concurrently, each one on its own connections. Default is 1.
+   * Requires {@link #partitionByIds(String, long)}.
+   */
+  public MassUpdate workers(int i) {
+    if (i < 1) {
+      throw new IllegalArgumentException("Number of workers must be positive: " + i);
+    }
+    this.workers = i;
+    return this;
+  }
+
+  /**
+   * Number of updated rows between two commits. Default is {@link BatchSession#MAX_BATCH_SIZE}.
+   */
+  public MassUpdate commitInterval(int i) {
+    if (i < 1) {
+      throw new IllegalArgumentException("Commit interval must be positive: " + i);
+    }
+    this.commitInterval = i;
+    return this;
+  }
+
   public void execute(final Handler handler) throws SQLException {
     if (select == null || update == null) {
       throw new IllegalStateException("SELECT or UPDATE requests are not defined");
     }
+    if (workers > 1 && idBoundsSql == null) {
+      throw new IllegalStateException("Rows must be partitioned by ids to be processed by several workers");
+    }
 
     progress.start();
     try {
-      select.scroll(new Select.RowHandler() {
-        @Override
-        public void handle(Select.Row row) throws SQLException {
-          if (handler.handle(row, update)) {
-            update.addBatch();
-          }
-          counter.getAndIncrement();
-        }
-      });
-      if (((UpsertImpl) update).getBatchCount() > 0L) {
-        update.execute().commit();
+      if (idBoundsSql == null) {
+        executeSequentially(handler);
+      } else {
+        executeByIdRanges(handler);
       }
-      update.close();
 
       // log the total number of processed rows
       progress.log();
@@ -94,4 +148,155 @@ public class MassUpdate {
     }
   }
 
+  private void executeSequentially(final Handler handler) throws SQLException {
+    ((UpsertImpl) update).setBatchSize(commitInterval);
+    select.scroll(new Select.RowHandler() {
+      @Override
+      public void handle(Select.Row row) throws SQLException {
+        if (handler.handle(row, update)) {
+          update.addBatch();
+        }
+        counter.getAndIncrement();
+      }
+    });
+    if (((UpsertImpl) update).getBatchCount() > 0L) {
+      update.execute().commit();
+    }
+    update.close();
+  }
+
+  private void executeByIdRanges(Handler handler) throws SQLException {
+    if (((SelectImpl) select).hasParameters()) {
+      throw new IllegalStateException("Parameters of SELECT request must not be set when rows are partitioned by ids");
+    }
+    select.close();
+    update.close();
+
+    Long[] bounds = SelectImpl.create(db, readConnection, idBoundsSql).get(new Select.RowReader<Long[]>() {
+      @Override
+      public Long[] read(Select.Row row) throws SQLException {
+        return new Long[] {row.getNullableLong(1), row.getNullableLong(2)};
+      }
+    });
+    if (bounds == null || bounds[0] == null || bounds[1] == null) {
+      // no rows to process
+      return;
+    }
+
+    IdRanges ranges = new IdRanges(bounds[0], bounds[1], idRangeSize);
+    ExecutorService executor = Executors.newFixedThreadPool(workers, new ThreadFactoryBuilder()
+      .setNameFormat(getClass().getSimpleName() + "-%d")
+      .setDaemon(true)
+      .build());
+    try {
+      CompletionService<Void> completionService = new ExecutorCompletionService<>(executor);
+      for (int i = 0; i < workers; i++) {
+        completionService.submit(new RangeWorker(handler, ranges));
+      }
+      // the first failure is reported as soon as it occurs, whatever the worker
+      for (int i = 0; i < workers; i++) {
+        waitFor(completionService, ranges);
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private static void waitFor(CompletionService<Void> completionService, IdRanges ranges) throws SQLException {
+    try {
+      completionService.take().get();
+    } catch (InterruptedException e) {
+      ranges.cancel();
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted during mass update", e);
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof SQLException) {
+        throw (SQLException) cause;
+      }
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      throw new IllegalStateException("Fail to execute mass update", cause);
+    }
+  }
+
+  /**
+   * Processes id ranges until all ranges are consumed, on its own read and write connections
+   */
+  private class RangeWorker implements Callable<Void> {
+    private final Handler handler;
+    private final IdRanges ranges;
+
+    private RangeWorker(Handler handler, IdRanges ranges) {
+      this.handler = handler;
+      this.ranges = ranges;
+    }
+
+    @Override
+    public Void call() throws SQLException {
+      Connection rangeReadConnection = null, rangeWriteConnection = null;
+      try {
+        rangeReadConnection = BaseDataChange.openReadConnection(db);
+        rangeWriteConnection = BaseDataChange.openWriteConnection(db);
+        final UpsertImpl rangeUpdate = UpsertImpl.create(rangeWriteConnection, updateSql).setBatchSize(commitInterval);
+        for (long start = ranges.next(); start != IdRanges.NONE; start = ranges.next()) {
+          Select rangeSelect = SelectImpl.create(db, rangeReadConnection, selectSql)
+            .setLong(1, start)
+            .setLong(2, start + idRangeSize);
+          rangeSelect.scroll(new Select.RowHandler() {
+            @Override
+            public void handle(Select.Row row) throws SQLException {
+              if (handler.handle(row, rangeUpdate)) {
+                rangeUpdate.addBatch();
+              }
+              counter.getAndIncrement();
+            }
+          });
+          if (rangeUpdate.getBatchCount() > 0L) {
+            rangeUpdate.execute().commit();
+          }
+        }
+        rangeUpdate.close();
+        return null;
+      } catch (SQLException | RuntimeException e) {
+        // other workers stop after their current range, so that already processed ranges are committed
+        ranges.cancel();
+        throw e;
+      } finally {
+        DbUtils.closeQuietly(rangeReadConnection);
+        DbUtils.closeQuietly(rangeWriteConnection);
+      }
+    }
+  }
+
+  /**
+   * Thread-safe supplier of the first ids of ranges
+   */
+  static class IdRanges {
+    static final long NONE = Long.MIN_VALUE;
+
+    private final AtomicLong nextStart;
+    private final long maxId;
+    private final long rangeSize;
+    private final AtomicBoolean cancelled = new AtomicBoolean(false);
+
+    IdRanges(long minId, long maxId, long rangeSize) {
+      this.nextStart = new AtomicLong(minId);
+      this.maxId = maxId;
+      this.rangeSize = rangeSize;
+    }
+
+    long next() {
+      if (cancelled.get()) {
+        return NONE;
+      }
+      long start = nextStart.getAndAdd(rangeSize);
+      return start <= maxId ? start : NONE;
+    }
+
+    void cancel() {
+      cancelled.set(true);
+    }
+  }
 }
@@ -28,6 +28,7 @@ import java.sql.SQLException;
 public class UpsertImpl extends BaseSqlStatement<Upsert> implements Upsert {
 
   private long batchCount = 0L;
+  private int batchSize = BatchSession.MAX_BATCH_SIZE;
 
   private UpsertImpl(PreparedStatement pstmt) {
     super(pstmt);
@@ -38,7 +39,7 @@ public class UpsertImpl extends BaseSqlStatement<Upsert> implements Upsert {
     pstmt.addBatch();
     pstmt.clearParameters();
     batchCount++;
-    if (batchCount % BatchSession.MAX_BATCH_SIZE == 0L) {
+    if (batchCount % batchSize == 0L) {
       pstmt.executeBatch();
       pstmt.getConnection().commit();
     }
@@ -55,6 +56,14 @@ public class UpsertImpl extends BaseSqlStatement<Upsert> implements Upsert {
     return this;
   }
 
+  /**
+   * Number of rows added to batch between two executions and commits. Default is {@link BatchSession#MAX_BATCH_SIZE}.
+   */
+  UpsertImpl setBatchSize(int i) {
+    this.batchSize = i;
+    return this;
+  }
+
   public long getBatchCount() {
     return batchCount;
   }
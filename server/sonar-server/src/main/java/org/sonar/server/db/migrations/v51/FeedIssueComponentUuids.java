@@ -31,6 +31,9 @@ import java.sql.SQLException;
 
 public class FeedIssueComponentUuids extends BaseDataChange {
 
+  private static final long ID_RANGE_SIZE = 10000L;
+  private static final int WORKERS = 4;
+
   public FeedIssueComponentUuids(Database db) {
     super(db);
   }
@@ -42,8 +45,10 @@ public class FeedIssueComponentUuids extends BaseDataChange {
       "SELECT c.uuid, c.project_uuid, i.id " +
         "FROM issues i " +
         "INNER JOIN projects c ON i.component_id=c.id " +
-        "WHERE i.component_uuid is null");
+        "WHERE i.component_uuid is null AND i.id>=? AND i.id<?");
     update.update("UPDATE issues SET component_uuid=?, project_uuid=? WHERE id=?");
+    update.partitionByIds("SELECT MIN(i.id), MAX(i.id) FROM issues i WHERE i.component_uuid is null", ID_RANGE_SIZE);
+    update.workers(WORKERS);
     update.execute(new Handler() {
       @Override
       public boolean handle(Row row, SqlStatement update) throws SQLException {
@@ -29,10 +29,14 @@ import org.sonar.server.component.db.ComponentDao;
 
 import javax.annotation.Nullable;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import static com.google.common.collect.Maps.newHashMap;
+import static com.google.common.collect.Maps.newLinkedHashMap;
+import static com.google.common.collect.Sets.newHashSet;
 
 public class DuplicationsJsonWriter implements ServerComponent {
 
@@ -45,26 +49,28 @@ public class DuplicationsJsonWriter implements ServerComponent {
   @VisibleForTesting
   void write(List<DuplicationsParser.Block> blocks, JsonWriter json, DbSession session) {
     Map<String, String> refByComponentKey = newHashMap();
+    Map<String, ComponentDto> filesByRef = newLinkedHashMap();
     json.name("duplications").beginArray();
-    writeDuplications(blocks, refByComponentKey, json);
+    writeDuplications(blocks, refByComponentKey, filesByRef, json);
     json.endArray();
 
     json.name("files").beginObject();
-    writeFiles(refByComponentKey, json, session);
+    writeFiles(filesByRef, json, session);
     json.endObject();
   }
 
-  private void writeDuplications(List<DuplicationsParser.Block> blocks, Map<String, String> refByComponentKey, JsonWriter json) {
+  private void writeDuplications(List<DuplicationsParser.Block> blocks, Map<String, String> refByComponentKey, Map<String, ComponentDto> filesByRef, JsonWriter json) {
     for (DuplicationsParser.Block block : blocks) {
       json.beginObject().name("blocks").beginArray();
       for (DuplicationsParser.Duplication duplication : block.duplications()) {
-        writeDuplication(refByComponentKey, duplication, json);
+        writeDuplication(refByComponentKey, filesByRef, duplication, json);
       }
       json.endArray().endObject();
     }
   }
 
-  private void writeDuplication(Map<String, String> refByComponentKey, DuplicationsParser.Duplication duplication, JsonWriter json) {
+  private void writeDuplication(Map<String, String> refByComponentKey, Map<String, ComponentDto> filesByRef, DuplicationsParser.Duplication duplication,
+    JsonWriter json) {
     String ref = null;
     ComponentDto componentDto = duplication.file();
     if (componentDto != null) {
@@ -73,6 +79,7 @@ public class DuplicationsJsonWriter implements ServerComponent {
       if (ref == null) {
         ref = Integer.toString(refByComponentKey.size() + 1);
         refByComponentKey.put(componentKey, ref);
+        filesByRef.put(ref, componentDto);
       }
     }
 
@@ -83,23 +90,21 @@ public class DuplicationsJsonWriter implements ServerComponent {
     json.endObject();
   }
 
-  private void writeFiles(Map<String, String> refByComponentKey, JsonWriter json, DbSession session) {
-    Map<String, ComponentDto> projectsByUuid = newHashMap();
-    Map<Long, ComponentDto> parentProjectsById = newHashMap();
-    for (Map.Entry<String, String> entry : refByComponentKey.entrySet()) {
-      String componentKey = entry.getKey();
-      String ref = entry.getValue();
-      ComponentDto file = componentDao.getNullableByKey(session, componentKey);
-      if (file != null) {
-        json.name(ref).beginObject();
-
-        addFile(json, file);
-        ComponentDto project = getProject(file.projectUuid(), projectsByUuid, session);
-        ComponentDto parentProject = getParentProject(file.parentProjectId(), parentProjectsById, session);
-        addProject(json, project, parentProject);
-
-        json.endObject();
-      }
+  private void writeFiles(Map<String, ComponentDto> filesByRef, JsonWriter json, DbSession session) {
+    Map<String, ComponentDto> projectsByUuid = loadProjects(filesByRef.values(), session);
+    Map<Long, ComponentDto> parentProjectsById = loadParentProjects(filesByRef.values(), session);
+    for (Map.Entry<String, ComponentDto> entry : filesByRef.entrySet()) {
+      String ref = entry.getKey();
+      ComponentDto file = entry.getValue();
+      json.name(ref).beginObject();
+
+      addFile(json, file);
+      ComponentDto project = projectsByUuid.get(file.projectUuid());
+      Long parentProjectId = file.parentProjectId();
+      ComponentDto parentProject = parentProjectId == null ? null : parentProjectsById.get(parentProjectId);
+      addProject(json, project, parentProject);
+
+      json.endObject();
     }
   }
 
@@ -125,26 +130,31 @@ public class DuplicationsJsonWriter implements ServerComponent {
     }
   }
 
-  private ComponentDto getProject(String projectUuid, Map<String, ComponentDto> projectsByUuid, DbSession session) {
-    ComponentDto project = projectsByUuid.get(projectUuid);
-    if (project == null) {
-      project = componentDao.getNullableByUuid(session, projectUuid);
-      if (project != null) {
-        projectsByUuid.put(project.uuid(), project);
-      }
+  private Map<String, ComponentDto> loadProjects(Collection<ComponentDto> files, DbSession session) {
+    Set<String> projectUuids = newHashSet();
+    for (ComponentDto file : files) {
+      projectUuids.add(file.projectUuid());
     }
-    return project;
+    Map<String, ComponentDto> projectsByUuid = newHashMap();
+    for (ComponentDto project : componentDao.getByUuids(session, projectUuids)) {
+      projectsByUuid.put(project.uuid(), project);
+    }
+    return projectsByUuid;
   }
 
-  private ComponentDto getParentProject(@Nullable Long projectId, Map<Long, ComponentDto> subProjectsById, DbSession session) {
-    ComponentDto project = subProjectsById.get(projectId);
-    if (project == null && projectId != null) {
-      project = componentDao.getNullableById(projectId, session);
-      if (project != null) {
-        subProjectsById.put(project.getId(), project);
+  private Map<Long, ComponentDto> loadParentProjects(Collection<ComponentDto> files, DbSession session) {
+    Set<Long> parentProjectIds = newHashSet();
+    for (ComponentDto file : files) {
+      Long parentProjectId = file.parentProjectId();
+      if (parentProjectId != null) {
+        parentProjectIds.add(parentProjectId);
       }
     }
-    return project;
+    Map<Long, ComponentDto> parentProjectsById = newHashMap();
+    for (ComponentDto parentProject : componentDao.getByIds(session, parentProjectIds)) {
+      parentProjectsById.put(parentProject.getId(), parentProject);
+    }
+    return parentProjectsById;
   }
 
 }
@@ -41,56 +41,85 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import static com.google.common.collect.Lists.newArrayList;
 import static com.google.common.collect.Maps.newHashMap;
+import static com.google.common.collect.Sets.newHashSet;
 
 public class DuplicationsParser implements ServerComponent {
 
   private final ComponentDao componentDao;
+  private final SMInputFactory inputFactory;
 
   public DuplicationsParser(ComponentDao componentDao) {
     this.componentDao = componentDao;
+    this.inputFactory = initStax();
   }
 
   public List<Block> parse(ComponentDto component, @Nullable String duplicationsData, DbSession session) {
-    Map<String, ComponentDto> componentsByKey = newHashMap();
     List<Block> blocks = newArrayList();
     if (duplicationsData != null) {
-      try {
-        SMInputFactory inputFactory = initStax();
-        SMHierarchicCursor root = inputFactory.rootElementCursor(new StringReader(duplicationsData));
-        root.advance(); // <duplications>
-        SMInputCursor cursor = root.childElementCursor("g");
-        while (cursor.getNext() != null) {
-          List<Duplication> duplications = newArrayList();
-          SMInputCursor bCursor = cursor.childElementCursor("b");
-          while (bCursor.getNext() != null) {
-            String from = bCursor.getAttrValue("s");
-            String size = bCursor.getAttrValue("l");
-            String componentKey = bCursor.getAttrValue("r");
-            if (from != null && size != null && componentKey != null) {
-              duplications.add(createDuplication(componentsByKey, from, size, componentKey, session));
-            }
-          }
-          Collections.sort(duplications, new DuplicationComparator(component.uuid(), component.projectUuid()));
-          blocks.add(new Block(duplications));
+      List<List<DuplicationRef>> groups = parseGroups(duplicationsData);
+      Map<String, ComponentDto> componentsByKey = loadComponents(component, groups, session);
+      DuplicationComparator duplicationComparator = new DuplicationComparator(component.uuid(), component.projectUuid());
+      for (List<DuplicationRef> group : groups) {
+        List<Duplication> duplications = newArrayList();
+        for (DuplicationRef ref : group) {
+          duplications.add(new Duplication(componentsByKey.get(ref.componentKey), ref.from, ref.size));
         }
-        Collections.sort(blocks, new BlockComparator());
-      } catch (XMLStreamException e) {
-        throw new IllegalStateException("XML is not valid", e);
+        Collections.sort(duplications, duplicationComparator);
+        blocks.add(new Block(duplications));
       }
+      Collections.sort(blocks, new BlockComparator());
     }
     return blocks;
   }
 
-  private Duplication createDuplication(Map<String, ComponentDto> componentsByKey, String from, String size, String componentKey, DbSession session) {
-    ComponentDto component = componentsByKey.get(componentKey);
-    if (component == null) {
-      component = componentDao.getNullableByKey(session, componentKey);
-      componentsByKey.put(componentKey, component);
+  private List<List<DuplicationRef>> parseGroups(String duplicationsData) {
+    List<List<DuplicationRef>> groups = newArrayList();
+    try {
+      SMHierarchicCursor root = inputFactory.rootElementCursor(new StringReader(duplicationsData));
+      root.advance(); // <duplications>
+      SMInputCursor cursor = root.childElementCursor("g");
+      while (cursor.getNext() != null) {
+        List<DuplicationRef> group = newArrayList();
+        SMInputCursor bCursor = cursor.childElementCursor("b");
+        while (bCursor.getNext() != null) {
+          String from = bCursor.getAttrValue("s");
+          String size = bCursor.getAttrValue("l");
+          String componentKey = bCursor.getAttrValue("r");
+          if (from != null && size != null && componentKey != null) {
+            group.add(new DuplicationRef(componentKey, Integer.valueOf(from), Integer.valueOf(size)));
+          }
+        }
+        groups.add(group);
+      }
+    } catch (XMLStreamException e) {
+      throw new IllegalStateException("XML is not valid", e);
     }
-    return new Duplication(component, Integer.valueOf(from), Integer.valueOf(size));
+    return groups;
+  }
+
+  /**
+   * Loads all the components referenced by the duplications in a single query. Keys of removed components
+   * are not in the returned map.
+   */
+  private Map<String, ComponentDto> loadComponents(ComponentDto component, List<List<DuplicationRef>> groups, DbSession session) {
+    Map<String, ComponentDto> componentsByKey = newHashMap();
+    componentsByKey.put(component.key(), component);
+    Set<String> keysToLoad = newHashSet();
+    for (List<DuplicationRef> group : groups) {
+      for (DuplicationRef ref : group) {
+        if (!componentsByKey.containsKey(ref.componentKey)) {
+          keysToLoad.add(ref.componentKey);
+        }
+      }
+    }
+    for (ComponentDto dto : componentDao.getByKeys(session, keysToLoad)) {
+      componentsByKey.put(dto.key(), dto);
+    }
+    return componentsByKey;
   }
 
   private static SMInputFactory initStax() {
@@ -167,6 +196,17 @@ public class DuplicationsParser implements ServerComponent {
     }
   }
 
+  private static class DuplicationRef {
+    private final String componentKey;
+    private final Integer from, size;
+
+    DuplicationRef(String componentKey, Integer from, Integer size) {
+      this.componentKey = componentKey;
+      this.from = from;
+      this.size = size;
+    }
+  }
+
   public static class Duplication {
     private final ComponentDto file;
     private final Integer from, size;
@@ -79,6 +79,20 @@ public abstract class BaseIndexer implements ServerComponent, Startable {
     }
   }
 
+  /**
+   * Partial indexing, for example of a given set of documents. Task is executed by the thread of {@link #index()},
+   * so it's never executed concurrently with full or date-based indexing. Nothing is done if indexer is disabled.
+   */
+  protected void index(Runnable task) {
+    if (enabled) {
+      try {
+        Uninterruptibles.getUninterruptibly(executor.submit(task));
+      } catch (ExecutionException e) {
+        Throwables.propagate(e);
+      }
+    }
+  }
+
   protected abstract long doIndex(long lastUpdatedAt);
 
   public BaseIndexer setEnabled(boolean b) {
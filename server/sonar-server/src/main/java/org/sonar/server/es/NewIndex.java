@@ -23,7 +23,10 @@ import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSortedMap;
 import org.apache.commons.lang.StringUtils;
+import org.elasticsearch.cluster.metadata.IndexMetaData;
 import org.elasticsearch.common.settings.ImmutableSettings;
+import org.sonar.api.config.Settings;
+import org.sonar.process.ProcessConstants;
 import org.sonar.server.search.IndexField;
 
 import javax.annotation.CheckForNull;
@@ -227,6 +230,14 @@ public class NewIndex {
     }
   }
 
+  /**
+   * Pattern of the property overriding the number of shards of an index, for example
+   * "sonar.search.issues.shards".
+   */
+  public static final String SHARDS_PROPERTY_PATTERN = "sonar.search.%s.shards";
+
+  static final int DEFAULT_CLUSTER_SHARDS = 4;
+
   private final String indexName;
   private final ImmutableSettings.Builder settings = DefaultIndexSettings.defaults();
   private final SortedMap<String, NewIndexType> types = new TreeMap<String, NewIndexType>();
@@ -244,6 +255,28 @@ public class NewIndex {
     return settings;
   }
 
+  /**
+   * Defines the number of shards and replicas. Defaults are one shard without replica, or {@link #DEFAULT_CLUSTER_SHARDS}
+   * shards with one replica when cluster is enabled. The number of shards can be overridden by the property
+   * {@link #SHARDS_PROPERTY_PATTERN}. As it changes the definition hash, the index is then dropped and re-populated
+   * at next startup (see {@link IndexCreator}).
+   */
+  public NewIndex configureShards(Settings sonarSettings) {
+    boolean clusterMode = sonarSettings.getBoolean(ProcessConstants.CLUSTER_ACTIVATE);
+    int shards = sonarSettings.getInt(shardsProperty(indexName));
+    Preconditions.checkArgument(shards >= 0, String.format("Number of shards of index %s must be positive: %d", indexName, shards));
+    if (shards == 0) {
+      shards = clusterMode ? DEFAULT_CLUSTER_SHARDS : 1;
+    }
+    settings.put(IndexMetaData.SETTING_NUMBER_OF_SHARDS, shards);
+    settings.put(IndexMetaData.SETTING_NUMBER_OF_REPLICAS, clusterMode ? 1 : 0);
+    return this;
+  }
+
+  public static String shardsProperty(String indexName) {
+    return String.format(SHARDS_PROPERTY_PATTERN, indexName);
+  }
+
   public NewIndexType createType(String typeName) {
     NewIndexType type = new NewIndexType(typeName);
     types.put(typeName, type);
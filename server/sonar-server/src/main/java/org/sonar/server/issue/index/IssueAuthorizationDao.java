@@ -19,6 +19,7 @@
  */
 package org.sonar.server.issue.index;
 
+import com.google.common.collect.Iterables;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import org.apache.commons.dbutils.DbUtils;
@@ -94,7 +95,7 @@ public class IssueAuthorizationDao {
       "      WHERE " +
       "        projects.qualifier = 'TRK' " +
       "        AND projects.copy_resource_id is NULL " +
-      "        {dateCondition} " +
+      "        {projectCondition} " +
       "      UNION " +
 
       // users
@@ -110,7 +111,7 @@ public class IssueAuthorizationDao {
       "      WHERE " +
       "        projects.qualifier = 'TRK' " +
       "        AND projects.copy_resource_id is NULL " +
-      "        {dateCondition} " +
+      "        {projectCondition} " +
       "      UNION " +
 
       // groups without Anyone
@@ -126,7 +127,7 @@ public class IssueAuthorizationDao {
       "      WHERE " +
       "        projects.qualifier = 'TRK' " +
       "        AND projects.copy_resource_id is NULL " +
-      "        {dateCondition} " +
+      "        {projectCondition} " +
       "        AND group_id IS NOT NULL " +
       "      UNION " +
 
@@ -142,10 +143,16 @@ public class IssueAuthorizationDao {
       "      WHERE " +
       "        projects.qualifier = 'TRK' " +
       "        AND projects.copy_resource_id is NULL " +
-      "        {dateCondition} " +
+      "        {projectCondition} " +
       "        AND group_roles.group_id IS NULL " +
       "    ) project_authorization";
 
+  /**
+   * Number of project uuids per query, to stay under the limit of 1000 elements of ORACLE in clause "IN"
+   * and of 2000 parameters per statement of MsSQL (uuids are bound once per sub-query).
+   */
+  private static final int MAX_PROJECTS_PER_QUERY = 250;
+
   Collection<Dto> selectAfterDate(DbClient dbClient, Connection connection, long afterDate) {
     try {
       Map<String, Dto> dtosByProjectUuid = Maps.newHashMap();
@@ -167,12 +174,37 @@ public class IssueAuthorizationDao {
     }
   }
 
+  /**
+   * Authorizations of the given projects, whatever the date of their last change. Uuids
+   * that are not related to root projects are ignored.
+   */
+  Collection<Dto> selectByProjectUuids(DbClient dbClient, Connection connection, Collection<String> projectUuids) {
+    Map<String, Dto> dtosByProjectUuid = Maps.newHashMap();
+    for (List<String> partition : Iterables.partition(projectUuids, MAX_PROJECTS_PER_QUERY)) {
+      PreparedStatement stmt = null;
+      ResultSet rs = null;
+      try {
+        stmt = createStatement(dbClient, connection, partition);
+        rs = stmt.executeQuery();
+        while (rs.next()) {
+          processRow(rs, dtosByProjectUuid);
+        }
+      } catch (SQLException e) {
+        throw new IllegalStateException("Fail to select issue authorizations of projects: " + partition, e);
+      } finally {
+        DbUtils.closeQuietly(rs);
+        DbUtils.closeQuietly(stmt);
+      }
+    }
+    return dtosByProjectUuid.values();
+  }
+
   private PreparedStatement createStatement(DbClient dbClient, Connection connection, long afterDate) throws SQLException {
     String sql;
     if (afterDate > 0L) {
-      sql = StringUtils.replace(SQL_TEMPLATE, "{dateCondition}", " AND projects.authorization_updated_at>? ");
+      sql = StringUtils.replace(SQL_TEMPLATE, "{projectCondition}", " AND projects.authorization_updated_at>? ");
     } else {
-      sql = StringUtils.replace(SQL_TEMPLATE, "{dateCondition}", "");
+      sql = StringUtils.replace(SQL_TEMPLATE, "{projectCondition}", "");
     }
     PreparedStatement stmt = dbClient.newScrollingSelectStatement(connection, sql);
     if (afterDate > 0L) {
@@ -183,6 +215,20 @@ public class IssueAuthorizationDao {
     return stmt;
   }
 
+  private PreparedStatement createStatement(DbClient dbClient, Connection connection, List<String> projectUuids) throws SQLException {
+    String placeholders = StringUtils.repeat("?", ",", projectUuids.size());
+    String sql = StringUtils.replace(SQL_TEMPLATE, "{projectCondition}", " AND projects.uuid IN (" + placeholders + ") ");
+    PreparedStatement stmt = dbClient.newScrollingSelectStatement(connection, sql);
+    int index = 1;
+    for (int i = 0; i < 4; i++) {
+      for (String projectUuid : projectUuids) {
+        stmt.setString(index, projectUuid);
+        index++;
+      }
+    }
+    return stmt;
+  }
+
   private void processRow(ResultSet rs, Map<String, Dto> dtosByProjectUuid) throws SQLException {
     String projectUuid = rs.getString(1);
     String userLogin = rs.getString(2);
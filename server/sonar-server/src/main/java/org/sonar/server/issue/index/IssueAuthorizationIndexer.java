@@ -39,6 +39,7 @@ import java.util.Map;
  * Manages the synchronization of index issues/authorization with authorization settings defined in database :
  * <ul>
  *   <li>index the projects with recent permission changes</li>
+ *   <li>index a given set of projects, for example when permissions are changed</li>
  *   <li>delete project orphans from index</li>
  * </ul>
  */
@@ -70,6 +71,38 @@ public class IssueAuthorizationIndexer extends BaseIndexer {
     }
   }
 
+  /**
+   * Index authorizations of the given projects only, instead of looking for all the projects updated since
+   * last indexing. Index is refreshed once.
+   */
+  public void indexProjects(final Collection<String> projectUuids) {
+    if (projectUuids.isEmpty()) {
+      return;
+    }
+    index(new Runnable() {
+      @Override
+      public void run() {
+        doIndexProjects(projectUuids);
+      }
+    });
+  }
+
+  @VisibleForTesting
+  void doIndexProjects(Collection<String> projectUuids) {
+    BulkIndexer bulk = new BulkIndexer(esClient, IssueIndexDefinition.INDEX);
+
+    DbSession dbSession = dbClient.openSession(false);
+    Connection dbConnection = dbSession.getConnection();
+    try {
+      IssueAuthorizationDao dao = new IssueAuthorizationDao();
+      doIndex(bulk, dao.selectByProjectUuids(dbClient, dbConnection, projectUuids));
+
+    } finally {
+      DbUtils.closeQuietly(dbConnection);
+      dbSession.close();
+    }
+  }
+
   @VisibleForTesting
   public void index(Collection<IssueAuthorizationDao.Dto> authorizations) {
     final BulkIndexer bulk = new BulkIndexer(esClient, IssueIndexDefinition.INDEX);
@@ -90,6 +123,7 @@ public class IssueAuthorizationIndexer extends BaseIndexer {
   public void deleteProject(String uuid, boolean refresh) {
     esClient
       .prepareDelete(IssueIndexDefinition.INDEX, IssueIndexDefinition.TYPE_AUTHORIZATION, uuid)
+      .setRouting(uuid)
       .setRefresh(refresh)
       .get();
   }
@@ -175,6 +175,7 @@ public class IssueIndex extends BaseIndex {
 
     configureSorting(query, requestBuilder);
     configurePagination(options, requestBuilder);
+    configureRouting(query, options, requestBuilder);
 
     QueryBuilder esQuery = QueryBuilders.matchAllQuery();
     BoolFilterBuilder esFilter = FilterBuilders.boolFilter();
@@ -194,6 +195,19 @@ public class IssueIndex extends BaseIndex {
     return new SearchResult<>(requestBuilder.get(), DOC_CONVERTER);
   }
 
+  /**
+   * Issues are routed by project uuid, so a request restricted to a single project is sent
+   * to the only shard that contains it. It does not apply when the facet on projects is requested,
+   * as this facet must count the issues of all projects.
+   */
+  private static void configureRouting(IssueQuery query, SearchOptions options, SearchRequestBuilder esRequest) {
+    Collection<String> projectUuids = query.projectUuids();
+    if (projectUuids.size() == 1 && !BooleanUtils.isTrue(query.onComponentOnly())
+      && !options.getFacets().contains(IssueFilterParameters.PROJECT_UUIDS)) {
+      esRequest.setRouting(projectUuids.iterator().next());
+    }
+  }
+
   private void configureSorting(IssueQuery query, SearchRequestBuilder esRequest) {
     String sortField = query.sort();
     if (sortField != null) {
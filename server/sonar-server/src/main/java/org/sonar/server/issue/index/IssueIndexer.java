@@ -93,7 +93,7 @@ public class IssueIndexer extends BaseIndexer {
       QueryBuilders.matchAllQuery(),
       FilterBuilders.boolFilter().must(FilterBuilders.termsFilter(IssueIndexDefinition.FIELD_ISSUE_PROJECT_UUID, uuid))
       );
-    esClient.prepareDeleteByQuery(IssueIndexDefinition.INDEX).setQuery(query).get();
+    esClient.prepareDeleteByQuery(IssueIndexDefinition.INDEX).setRouting(uuid).setQuery(query).get();
     if (refresh) {
       esClient.prepareRefresh(IssueIndexDefinition.INDEX).get();
     }
@@ -59,6 +59,8 @@ import org.sonar.server.issue.index.IssueIndex;
 import org.sonar.server.rule.Rule;
 import org.sonar.server.rule.RuleService;
 import org.sonar.server.user.UserSession;
+import org.sonar.server.ws.JsonSections;
+import org.sonar.server.ws.ReferencedEntities;
 
 import javax.annotation.CheckForNull;
 import javax.annotation.Nullable;
@@ -295,12 +297,11 @@ public class SearchAction implements BaseIssuesWsAction {
 
   private void writeResponse(Request request, SearchResult<IssueDoc> result, JsonWriter json) {
     List<String> issueKeys = newArrayList();
-    Set<RuleKey> ruleKeys = newHashSet();
+    ReferencedEntities<RuleKey, Rule> rules = new ReferencedEntities<>(new RuleLoader());
     Set<String> projectUuids = newHashSet();
     Set<String> componentUuids = newHashSet();
-    Set<String> actionPlanKeys = newHashSet();
-    List<String> userLogins = newArrayList();
-    Map<String, User> usersByLogin = newHashMap();
+    ReferencedEntities<String, User> users = new ReferencedEntities<>(new UserLoader());
+    ReferencedEntities<String, ActionPlan> actionPlans = new ReferencedEntities<>(new ActionPlanLoader());
     Map<String, ComponentDto> componentsByUuid = newHashMap();
     Multimap<String, DefaultIssueComment> commentsByIssues = ArrayListMultimap.create();
     Collection<ComponentDto> componentDtos = newHashSet();
@@ -308,25 +309,21 @@ public class SearchAction implements BaseIssuesWsAction {
 
     for (IssueDoc issueDoc : result.getDocs()) {
       issueKeys.add(issueDoc.key());
-      ruleKeys.add(issueDoc.ruleKey());
+      rules.add(issueDoc.ruleKey());
       projectUuids.add(issueDoc.projectUuid());
       componentUuids.add(issueDoc.componentUuid());
-      actionPlanKeys.add(issueDoc.actionPlanKey());
-      if (issueDoc.reporter() != null) {
-        userLogins.add(issueDoc.reporter());
-      }
-      if (issueDoc.assignee() != null) {
-        userLogins.add(issueDoc.assignee());
-      }
+      actionPlans.add(issueDoc.actionPlanKey());
+      users.add(issueDoc.reporter());
+      users.add(issueDoc.assignee());
     }
 
-    collectRuleKeys(request, result, ruleKeys);
+    collectRuleKeys(request, result, rules);
 
-    collectFacetsData(request, result, projectUuids, componentUuids, userLogins, actionPlanKeys);
+    collectFacetsData(request, result, projectUuids, componentUuids, users, actionPlans);
 
     UserSession userSession = UserSession.get();
     if (userSession.isLoggedIn()) {
-      userLogins.add(userSession.login());
+      users.add(userSession.login());
     }
 
     DbSession session = dbClient.openSession(false);
@@ -334,11 +331,10 @@ public class SearchAction implements BaseIssuesWsAction {
       if (!BooleanUtils.isTrue(request.paramAsBoolean(IssueFilterParameters.HIDE_COMMENTS))) {
         List<DefaultIssueComment> comments = dbClient.issueChangeDao().selectCommentsByIssues(session, issueKeys);
         for (DefaultIssueComment issueComment : comments) {
-          userLogins.add(issueComment.userLogin());
+          users.add(issueComment.userLogin());
           commentsByIssues.put(issueComment.issueKey(), issueComment);
         }
       }
-      usersByLogin = getUsersByLogin(userLogins);
 
       List<ComponentDto> fileDtos = dbClient.componentDao().getByUuids(session, componentUuids);
       List<ComponentDto> subProjectDtos = dbClient.componentDao().findSubProjectsByComponentUuids(session, componentUuids);
@@ -361,17 +357,15 @@ public class SearchAction implements BaseIssuesWsAction {
       session.close();
     }
 
-    Map<String, ActionPlan> actionPlanByKeys = getActionPlanByKeys(actionPlanKeys);
-
-    writeIssues(result, commentsByIssues, usersByLogin, actionPlanByKeys, componentsByUuid, projectsByComponentUuid,
+    writeIssues(result, commentsByIssues, users, actionPlans, componentsByUuid, projectsByComponentUuid,
       request.paramAsStrings(EXTRA_FIELDS_PARAM), json);
-    writeRules(json, !request.mandatoryParamAsBoolean(IssueFilterParameters.HIDE_RULES) ? ruleService.getByKeys(ruleKeys) : Collections.<Rule>emptyList());
-    writeUsers(json, usersByLogin);
-    writeActionPlans(json, actionPlanByKeys.values());
+    writeRules(json, !request.mandatoryParamAsBoolean(IssueFilterParameters.HIDE_RULES) ? rules : Collections.<Rule>emptyList());
+    writeUsers(json, users);
+    writeActionPlans(json, actionPlans);
     writeLanguages(json);
   }
 
-  private void collectRuleKeys(Request request, SearchResult<IssueDoc> result, Set<RuleKey> ruleKeys) {
+  private void collectRuleKeys(Request request, SearchResult<IssueDoc> result, ReferencedEntities<RuleKey, Rule> ruleKeys) {
     Set<String> facetRules = result.getFacets().getBucketKeys(IssueFilterParameters.RULES);
     if (facetRules != null) {
       for (String rule : facetRules) {
@@ -439,8 +433,8 @@ public class SearchAction implements BaseIssuesWsAction {
     json.endArray();
   }
 
-  private void collectFacetsData(Request request, SearchResult<IssueDoc> result, Set<String> projectUuids, Set<String> componentUuids, List<String> userLogins,
-    Set<String> actionPlanKeys) {
+  private void collectFacetsData(Request request, SearchResult<IssueDoc> result, Set<String> projectUuids, Set<String> componentUuids,
+    ReferencedEntities<String, User> users, ReferencedEntities<String, ActionPlan> actionPlans) {
     collectBucketKeys(result, IssueFilterParameters.PROJECT_UUIDS, projectUuids);
     collectParameterValues(request, IssueFilterParameters.PROJECT_UUIDS, projectUuids);
 
@@ -453,12 +447,12 @@ public class SearchAction implements BaseIssuesWsAction {
     collectParameterValues(request, IssueFilterParameters.MODULE_UUIDS, componentUuids);
     collectParameterValues(request, IssueFilterParameters.COMPONENT_ROOT_UUIDS, componentUuids);
 
-    collectBucketKeys(result, IssueFilterParameters.ASSIGNEES, userLogins);
-    collectParameterValues(request, IssueFilterParameters.ASSIGNEES, userLogins);
-    collectBucketKeys(result, IssueFilterParameters.REPORTERS, userLogins);
-    collectParameterValues(request, IssueFilterParameters.REPORTERS, userLogins);
-    collectBucketKeys(result, IssueFilterParameters.ACTION_PLANS, actionPlanKeys);
-    collectParameterValues(request, IssueFilterParameters.ACTION_PLANS, actionPlanKeys);
+    users.addAll(result.getFacets().getBucketKeys(IssueFilterParameters.ASSIGNEES));
+    users.addAll(request.paramAsStrings(IssueFilterParameters.ASSIGNEES));
+    users.addAll(result.getFacets().getBucketKeys(IssueFilterParameters.REPORTERS));
+    users.addAll(request.paramAsStrings(IssueFilterParameters.REPORTERS));
+    actionPlans.addAll(result.getFacets().getBucketKeys(IssueFilterParameters.ACTION_PLANS));
+    actionPlans.addAll(request.paramAsStrings(IssueFilterParameters.ACTION_PLANS));
   }
 
   private void collectBucketKeys(SearchResult<IssueDoc> result, String facetName, Collection<String> bucketKeys) {
@@ -473,24 +467,25 @@ public class SearchAction implements BaseIssuesWsAction {
   }
 
   // TODO change to use the RuleMapper
-  private void writeRules(JsonWriter json, Collection<Rule> rules) {
-    json.name("rules").beginArray();
-    for (Rule rule : rules) {
-      json.beginObject()
-        .prop("key", rule.key().toString())
-        .prop("name", rule.name())
-        .prop("lang", rule.language())
-        .prop("desc", rule.htmlDescription())
-        .prop("status", rule.status().toString());
-      Language lang = languages.get(rule.language());
-      json.prop("langName", lang == null ? null : lang.getName());
-      json.endObject();
-    }
-    json.endArray();
+  private void writeRules(JsonWriter json, Iterable<Rule> rules) {
+    JsonSections.writeArray(json, "rules", rules, new JsonSections.ElementWriter<Rule>() {
+      @Override
+      public void write(JsonWriter json, Rule rule) {
+        json.beginObject()
+          .prop("key", rule.key().toString())
+          .prop("name", rule.name())
+          .prop("lang", rule.language())
+          .prop("desc", rule.htmlDescription())
+          .prop("status", rule.status().toString());
+        Language lang = languages.get(rule.language());
+        json.prop("langName", lang == null ? null : lang.getName());
+        json.endObject();
+      }
+    });
   }
 
-  private void writeIssues(SearchResult<IssueDoc> result, Multimap<String, DefaultIssueComment> commentsByIssues, Map<String, User> usersByLogin,
-    Map<String, ActionPlan> actionPlanByKeys,
+  private void writeIssues(SearchResult<IssueDoc> result, Multimap<String, DefaultIssueComment> commentsByIssues, ReferencedEntities<String, User> users,
+    ReferencedEntities<String, ActionPlan> actionPlans,
     Map<String, ComponentDto> componentsByUuid, Map<String, ComponentDto> projectsByComponentUuid, @Nullable List<String> extraFields, JsonWriter json) {
     json.name("issues").beginArray();
 
@@ -534,9 +529,9 @@ public class SearchAction implements BaseIssuesWsAction {
         .prop("closeDate", isoDate(issue.closeDate()));
 
       writeTags(issue, json);
-      writeIssueComments(commentsByIssues.get(issue.key()), usersByLogin, json);
+      writeIssueComments(commentsByIssues.get(issue.key()), users, json);
       writeIssueAttributes(issue, json);
-      writeIssueExtraFields(issue, project != null ? project.getKey() : null, usersByLogin, actionPlanByKeys, extraFields, json);
+      writeIssueExtraFields(issue, project != null ? project.getKey() : null, users, actionPlans, extraFields, json);
       json.endObject();
     }
 
@@ -554,13 +549,13 @@ public class SearchAction implements BaseIssuesWsAction {
     }
   }
 
-  private void writeIssueComments(Collection<DefaultIssueComment> issueComments, Map<String, User> usersByLogin, JsonWriter json) {
+  private void writeIssueComments(Collection<DefaultIssueComment> issueComments, ReferencedEntities<String, User> users, JsonWriter json) {
     if (!issueComments.isEmpty()) {
       json.name("comments").beginArray();
       String login = UserSession.get().login();
       for (IssueComment comment : issueComments) {
         String userLogin = comment.userLogin();
-        User user = userLogin != null ? usersByLogin.get(userLogin) : null;
+        User user = users.get(userLogin);
         json.beginObject()
           .prop("key", comment.key())
           .prop("login", comment.userLogin())
@@ -585,7 +580,8 @@ public class SearchAction implements BaseIssuesWsAction {
     }
   }
 
-  private void writeIssueExtraFields(Issue issue, @Nullable String projectKey, Map<String, User> usersByLogin, Map<String, ActionPlan> actionPlanByKeys,
+  private void writeIssueExtraFields(Issue issue, @Nullable String projectKey, ReferencedEntities<String, User> users,
+    ReferencedEntities<String, ActionPlan> actionPlans,
     @Nullable List<String> extraFields,
     JsonWriter json) {
     if (extraFields != null) {
@@ -597,103 +593,107 @@ public class SearchAction implements BaseIssuesWsAction {
         actionsWriter.writeTransitions(issue, json);
       }
 
-      writeAssigneeIfNeeded(issue, usersByLogin, extraFields, json);
+      writeAssigneeIfNeeded(issue, users, extraFields, json);
 
-      writeReporterIfNeeded(issue, usersByLogin, extraFields, json);
+      writeReporterIfNeeded(issue, users, extraFields, json);
 
-      writeActionPlanIfNeeded(issue, actionPlanByKeys, extraFields, json);
+      writeActionPlanIfNeeded(issue, actionPlans, extraFields, json);
     }
   }
 
-  private void writeAssigneeIfNeeded(Issue issue, Map<String, User> usersByLogin, List<String> extraFields, JsonWriter json) {
+  private void writeAssigneeIfNeeded(Issue issue, ReferencedEntities<String, User> users, List<String> extraFields, JsonWriter json) {
     String assignee = issue.assignee();
     if (extraFields.contains(ASSIGNEE_NAME_EXTRA_FIELD) && assignee != null) {
-      User user = usersByLogin.get(assignee);
+      User user = users.get(assignee);
       json.prop(ASSIGNEE_NAME_EXTRA_FIELD, user != null ? user.name() : null);
     }
   }
 
-  private void writeReporterIfNeeded(Issue issue, Map<String, User> usersByLogin, List<String> extraFields, JsonWriter json) {
+  private void writeReporterIfNeeded(Issue issue, ReferencedEntities<String, User> users, List<String> extraFields, JsonWriter json) {
     String reporter = issue.reporter();
     if (extraFields.contains(REPORTER_NAME_EXTRA_FIELD) && reporter != null) {
-      User user = usersByLogin.get(reporter);
+      User user = users.get(reporter);
       json.prop(REPORTER_NAME_EXTRA_FIELD, user != null ? user.name() : null);
     }
   }
 
-  private void writeActionPlanIfNeeded(Issue issue, Map<String, ActionPlan> actionPlanByKeys, List<String> extraFields, JsonWriter json) {
+  private void writeActionPlanIfNeeded(Issue issue, ReferencedEntities<String, ActionPlan> actionPlans, List<String> extraFields, JsonWriter json) {
     String actionPlanKey = issue.actionPlanKey();
     if (extraFields.contains(ACTION_PLAN_NAME_EXTRA_FIELD) && actionPlanKey != null) {
-      ActionPlan actionPlan = actionPlanByKeys.get(actionPlanKey);
+      ActionPlan actionPlan = actionPlans.get(actionPlanKey);
       json.prop(ACTION_PLAN_NAME_EXTRA_FIELD, actionPlan != null ? actionPlan.name() : null);
     }
   }
 
-  private void writeComponents(JsonWriter json, Collection<ComponentDto> components, Map<String, ComponentDto> projectsByComponentUuid) {
-    json.name("components").beginArray();
-    for (ComponentDto component : components) {
-      ComponentDto project = projectsByComponentUuid.get(component.uuid());
-      json.beginObject()
-        .prop("uuid", component.uuid())
-        .prop("key", component.key())
-        .prop("id", component.getId())
-        .prop("enabled", component.isEnabled())
-        .prop("qualifier", component.qualifier())
-        .prop("name", component.name())
-        .prop("longName", component.longName())
-        .prop("path", component.path())
-        // On a root project, parentProjectId is null but projectId is equal to itself, which make no sense.
-        .prop("projectId", (component.projectUuid() != null && component.parentProjectId() != null) ? project.getId() : null)
-        // TODO should be renamed to parentProjectId
-        .prop("subProjectId", component.parentProjectId())
-        .endObject();
-    }
-    json.endArray();
+  private void writeComponents(JsonWriter json, Collection<ComponentDto> components, final Map<String, ComponentDto> projectsByComponentUuid) {
+    JsonSections.writeArray(json, "components", components, new JsonSections.ElementWriter<ComponentDto>() {
+      @Override
+      public void write(JsonWriter json, ComponentDto component) {
+        ComponentDto project = projectsByComponentUuid.get(component.uuid());
+        json.beginObject()
+          .prop("uuid", component.uuid())
+          .prop("key", component.key())
+          .prop("id", component.getId())
+          .prop("enabled", component.isEnabled())
+          .prop("qualifier", component.qualifier())
+          .prop("name", component.name())
+          .prop("longName", component.longName())
+          .prop("path", component.path())
+          // On a root project, parentProjectId is null but projectId is equal to itself, which make no sense.
+          .prop("projectId", (component.projectUuid() != null && component.parentProjectId() != null) ? project.getId() : null)
+          // TODO should be renamed to parentProjectId
+          .prop("subProjectId", component.parentProjectId())
+          .endObject();
+      }
+    });
   }
 
   private void writeProjects(JsonWriter json, List<ComponentDto> projects) {
-    json.name("projects").beginArray();
-    for (ComponentDto project : projects) {
-      json.beginObject()
-        .prop("uuid", project.uuid())
-        .prop("key", project.key())
-        .prop("id", project.getId())
-        .prop("qualifier", project.qualifier())
-        .prop("name", project.name())
-        .prop("longName", project.longName())
-        .endObject();
-    }
-    json.endArray();
+    JsonSections.writeArray(json, "projects", projects, new JsonSections.ElementWriter<ComponentDto>() {
+      @Override
+      public void write(JsonWriter json, ComponentDto project) {
+        json.beginObject()
+          .prop("uuid", project.uuid())
+          .prop("key", project.key())
+          .prop("id", project.getId())
+          .prop("qualifier", project.qualifier())
+          .prop("name", project.name())
+          .prop("longName", project.longName())
+          .endObject();
+      }
+    });
   }
 
-  private void writeUsers(JsonWriter json, Map<String, User> usersByLogin) {
-    json.name("users").beginArray();
-    for (User user : usersByLogin.values()) {
-      json.beginObject()
-        .prop("login", user.login())
-        .prop("name", user.name())
-        .prop("active", user.active())
-        .prop("email", user.email())
-        .endObject();
-    }
-    json.endArray();
+  private void writeUsers(JsonWriter json, Iterable<User> users) {
+    JsonSections.writeArray(json, "users", users, new JsonSections.ElementWriter<User>() {
+      @Override
+      public void write(JsonWriter json, User user) {
+        json.beginObject()
+          .prop("login", user.login())
+          .prop("name", user.name())
+          .prop("active", user.active())
+          .prop("email", user.email())
+          .endObject();
+      }
+    });
   }
 
   private void writeLanguages(JsonWriter json) {
-    json.name("languages").beginArray();
-    for (Language language : languages.all()) {
-      json.beginObject()
-        .prop("key", language.getKey())
-        .prop("name", language.getName())
-        .endObject();
-    }
-    json.endArray();
+    JsonSections.writeArray(json, "languages", Arrays.asList(languages.all()), new JsonSections.ElementWriter<Language>() {
+      @Override
+      public void write(JsonWriter json, Language language) {
+        json.beginObject()
+          .prop("key", language.getKey())
+          .prop("name", language.getName())
+          .endObject();
+      }
+    });
   }
 
-  private void writeActionPlans(JsonWriter json, Collection<ActionPlan> plans) {
-    if (!plans.isEmpty()) {
-      json.name("actionPlans").beginArray();
-      for (ActionPlan actionPlan : plans) {
+  private void writeActionPlans(JsonWriter json, Iterable<ActionPlan> actionPlans) {
+    JsonSections.writeNonEmptyArray(json, "actionPlans", actionPlans, new JsonSections.ElementWriter<ActionPlan>() {
+      @Override
+      public void write(JsonWriter json, ActionPlan actionPlan) {
         Date deadLine = actionPlan.deadLine();
         Date updatedAt = actionPlan.updatedAt();
 
@@ -711,24 +711,43 @@ public class SearchAction implements BaseIssuesWsAction {
           .prop("fUpdatedAt", formatDate(updatedAt))
           .endObject();
       }
-      json.endArray();
+    });
+  }
+
+  private class UserLoader implements ReferencedEntities.Loader<String, User> {
+    @Override
+    public Collection<User> load(List<String> logins) {
+      return userFinder.findByLogins(logins);
+    }
+
+    @Override
+    public String keyOf(User user) {
+      return user.login();
     }
   }
 
-  private Map<String, User> getUsersByLogin(List<String> userLogins) {
-    Map<String, User> usersByLogin = newHashMap();
-    for (User user : userFinder.findByLogins(userLogins)) {
-      usersByLogin.put(user.login(), user);
+  private class RuleLoader implements ReferencedEntities.Loader<RuleKey, Rule> {
+    @Override
+    public Collection<Rule> load(List<RuleKey> keys) {
+      return ruleService.getByKeys(keys);
+    }
+
+    @Override
+    public RuleKey keyOf(Rule rule) {
+      return rule.key();
     }
-    return usersByLogin;
   }
 
-  private Map<String, ActionPlan> getActionPlanByKeys(Collection<String> actionPlanKeys) {
-    Map<String, ActionPlan> actionPlans = newHashMap();
-    for (ActionPlan actionPlan : actionPlanService.findByKeys(actionPlanKeys)) {
-      actionPlans.put(actionPlan.key(), actionPlan);
+  private class ActionPlanLoader implements ReferencedEntities.Loader<String, ActionPlan> {
+    @Override
+    public Collection<ActionPlan> load(List<String> keys) {
+      return actionPlanService.findByKeys(keys);
+    }
+
+    @Override
+    public String keyOf(ActionPlan actionPlan) {
+      return actionPlan.key();
     }
-    return actionPlans;
   }
 
   private Map<String, ComponentDto> getProjectsByComponentUuid(Collection<ComponentDto> components, Collection<ComponentDto> projects) {
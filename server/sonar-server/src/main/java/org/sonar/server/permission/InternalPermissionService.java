@@ -20,6 +20,7 @@
 
 package org.sonar.server.permission;
 
+import com.google.common.collect.Lists;
 import org.sonar.api.ServerComponent;
 import org.sonar.api.security.DefaultGroups;
 import org.sonar.api.web.UserRole;
@@ -39,6 +40,7 @@ import org.sonar.server.user.UserSession;
 import javax.annotation.CheckForNull;
 import javax.annotation.Nullable;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 
@@ -119,9 +121,10 @@ public class InternalPermissionService implements ServerComponent {
   public void applyDefaultPermissionTemplate(final String componentKey) {
     UserSession.get().checkLoggedIn();
 
+    ComponentDto component;
     DbSession session = dbClient.openSession(false);
     try {
-      ComponentDto component = dbClient.componentDao().getByKey(session, componentKey);
+      component = dbClient.componentDao().getByKey(session, componentKey);
       ResourceDto provisioned = dbClient.resourceDao().selectProvisionedProject(session, componentKey);
       if (provisioned == null) {
         checkProjectAdminPermission(componentKey);
@@ -133,7 +136,7 @@ public class InternalPermissionService implements ServerComponent {
     } finally {
       session.close();
     }
-    indexProjectPermissions();
+    indexProjectPermissions(Arrays.asList(component.uuid()));
   }
 
   public void applyPermissionTemplate(Map<String, Object> params) {
@@ -145,7 +148,7 @@ public class InternalPermissionService implements ServerComponent {
   void applyPermissionTemplate(ApplyPermissionTemplateQuery query) {
     query.validate();
 
-    boolean projectsChanged = false;
+    List<String> changedProjectUuids = Lists.newArrayList();
     DbSession session = dbClient.openSession(false);
     try {
       // If only one project is selected, check user has admin permission on it, otherwise we are in the case of a bulk change and only
@@ -161,15 +164,13 @@ public class InternalPermissionService implements ServerComponent {
       for (String componentKey : query.getSelectedComponents()) {
         ComponentDto component = dbClient.componentDao().getByKey(session, componentKey);
         permissionFacade.applyPermissionTemplate(session, query.getTemplateKey(), component.getId());
-        projectsChanged = true;
+        changedProjectUuids.add(component.uuid());
       }
       session.commit();
     } finally {
       session.close();
     }
-    if (projectsChanged) {
-      indexProjectPermissions();
-    }
+    indexProjectPermissions(changedProjectUuids);
   }
 
   private void applyChange(Operation operation, PermissionChange change, DbSession session) {
@@ -184,7 +185,8 @@ public class InternalPermissionService implements ServerComponent {
     if (changed) {
       session.commit();
       if (change.component() != null) {
-        indexProjectPermissions();
+        ComponentDto component = dbClient.componentDao().getByKey(session, change.component());
+        indexProjectPermissions(Arrays.asList(component.uuid()));
       }
     }
   }
@@ -275,7 +277,7 @@ public class InternalPermissionService implements ServerComponent {
     }
   }
 
-  private void indexProjectPermissions() {
-    issueAuthorizationIndexer.index();
+  private void indexProjectPermissions(List<String> projectUuids) {
+    issueAuthorizationIndexer.indexProjects(projectUuids);
   }
 }
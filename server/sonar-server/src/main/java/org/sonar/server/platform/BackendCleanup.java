@@ -30,6 +30,7 @@ import org.sonar.server.es.EsClient;
 import org.sonar.server.issue.index.IssueIndexDefinition;
 import org.sonar.server.search.IndexDefinition;
 import org.sonar.server.source.index.SourceLineIndexDefinition;
+import org.sonar.server.test.index.TestIndexDefinition;
 import org.sonar.server.view.index.ViewIndexDefinition;
 
 import java.sql.Connection;
@@ -129,6 +130,7 @@ public class BackendCleanup implements ServerComponent {
       // Clear inspection indexes
       clearIndex(IssueIndexDefinition.INDEX);
       clearIndex(SourceLineIndexDefinition.INDEX);
+      clearIndex(TestIndexDefinition.INDEX);
       clearIndex(ViewIndexDefinition.INDEX);
 
     } finally {
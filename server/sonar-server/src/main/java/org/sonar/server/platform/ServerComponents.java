@@ -89,6 +89,7 @@ import org.sonar.server.component.db.ComponentIndexDao;
 import org.sonar.server.component.db.ComponentLinkDao;
 import org.sonar.server.component.db.SnapshotDao;
 import org.sonar.server.component.ws.*;
+import org.sonar.server.computation.ComputationStatistics;
 import org.sonar.server.computation.ComputationThreadLauncher;
 import org.sonar.server.computation.ReportQueue;
 import org.sonar.server.computation.ReportQueueCleaner;
@@ -176,6 +177,9 @@ import org.sonar.server.source.ws.*;
 import org.sonar.server.source.ws.ShowAction;
 import org.sonar.server.startup.*;
 import org.sonar.server.test.CoverageService;
+import org.sonar.server.test.index.TestIndex;
+import org.sonar.server.test.index.TestIndexDefinition;
+import org.sonar.server.test.index.TestIndexer;
 import org.sonar.server.test.ws.*;
 import org.sonar.server.text.MacroInterpreter;
 import org.sonar.server.text.RubyTextService;
@@ -622,6 +626,9 @@ class ServerComponents {
 
     // Tests
     pico.addSingleton(CoverageService.class);
+    pico.addSingleton(TestIndexDefinition.class);
+    pico.addSingleton(TestIndex.class);
+    pico.addSingleton(TestIndexer.class);
     pico.addSingleton(CoverageWs.class);
     pico.addSingleton(CoverageShowAction.class);
     pico.addSingleton(TestsWs.class);
@@ -659,7 +666,8 @@ class ServerComponents {
       EsMonitor.class,
       PluginsMonitor.class,
       JvmPropertiesMonitor.class,
-      DatabaseMonitor.class
+      DatabaseMonitor.class,
+      ComputationMonitor.class
       ));
 
     // Compute engine
@@ -669,6 +677,8 @@ class ServerComponents {
     pico.addSingleton(IsQueueEmptyWebService.class);
     pico.addSingleton(QueueWsAction.class);
     pico.addSingleton(HistoryWsAction.class);
+    pico.addSingleton(StatisticsWsAction.class);
+    pico.addSingleton(ComputationStatistics.class);
     pico.addSingleton(DefaultPeriodCleaner.class);
     pico.addSingleton(DefaultPurgeTask.class);
     pico.addSingleton(ProjectCleaner.class);
@@ -0,0 +1,74 @@
+/*
+ * SonarQube, open source software quality management tool.
+ * Copyright (C) 2008-2014 SonarSource
+ * mailto:contact AT sonarsource DOT com
+ *
+ * SonarQube is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SonarQube is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.server.platform.monitoring;
+
+import org.sonar.server.computation.ComputationStatistics;
+
+import java.util.LinkedHashMap;
+
+/**
+ * Performance of the compute engine since server startup
+ */
+public class ComputationMonitor extends BaseMonitorMBean implements ComputationMonitorMBean {
+
+  private final ComputationStatistics statistics;
+
+  public ComputationMonitor(ComputationStatistics statistics) {
+    this.statistics = statistics;
+  }
+
+  @Override
+  public String name() {
+    return "ComputeEngine";
+  }
+
+  @Override
+  public long getProcessedReports() {
+    return statistics.getReports();
+  }
+
+  @Override
+  public long getAverageQueueWaitMillis() {
+    return statistics.getAverageQueueWaitTime();
+  }
+
+  @Override
+  public long getMaxQueueWaitMillis() {
+    return statistics.getMaxQueueWaitTime();
+  }
+
+  @Override
+  public long getAverageExecutionMillis() {
+    return statistics.getAverageExecutionTime();
+  }
+
+  @Override
+  public LinkedHashMap<String, Object> attributes() {
+    LinkedHashMap<String, Object> attributes = new LinkedHashMap<>();
+    attributes.put("Processed Reports", getProcessedReports());
+    attributes.put("Average Queue Wait (ms)", getAverageQueueWaitMillis());
+    attributes.put("Max Queue Wait (ms)", getMaxQueueWaitMillis());
+    attributes.put("Average Execution (ms)", getAverageExecutionMillis());
+    for (ComputationStatistics.StepAggregate step : statistics.getSteps()) {
+      attributes.put(String.format("Average Execution of '%s' (ms)", step.getDescription()), step.getAverageDuration());
+    }
+    return attributes;
+  }
+}
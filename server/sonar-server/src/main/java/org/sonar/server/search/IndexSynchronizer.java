@@ -31,6 +31,7 @@ import org.sonar.server.issue.index.IssueIndexer;
 import org.sonar.server.qualityprofile.index.ActiveRuleIndex;
 import org.sonar.server.rule.index.RuleIndex;
 import org.sonar.server.source.index.SourceLineIndexer;
+import org.sonar.server.test.index.TestIndexer;
 import org.sonar.server.user.index.UserIndexer;
 import org.sonar.server.view.index.ViewIndexer;
 
@@ -43,6 +44,7 @@ public class IndexSynchronizer {
   private final DbClient db;
   private final IndexClient index;
   private final SourceLineIndexer sourceLineIndexer;
+  private final TestIndexer testIndexer;
   private final IssueAuthorizationIndexer issueAuthorizationIndexer;
   private final IssueIndexer issueIndexer;
   private final UserIndexer userIndexer;
@@ -54,12 +56,13 @@ public class IndexSynchronizer {
    * because we need {@link org.sonar.server.issue.index.IssueAuthorizationIndexer} to be executed before
    * {@link org.sonar.server.issue.index.IssueIndexer}
    */
-  public IndexSynchronizer(DbClient db, IndexClient index, SourceLineIndexer sourceLineIndexer,
+  public IndexSynchronizer(DbClient db, IndexClient index, SourceLineIndexer sourceLineIndexer, TestIndexer testIndexer,
                            IssueAuthorizationIndexer issueAuthorizationIndexer, IssueIndexer issueIndexer,
                            UserIndexer userIndexer, ViewIndexer viewIndexer, ActivityIndexer activityIndexer) {
     this.db = db;
     this.index = index;
     this.sourceLineIndexer = sourceLineIndexer;
+    this.testIndexer = testIndexer;
     this.issueAuthorizationIndexer = issueAuthorizationIndexer;
     this.issueIndexer = issueIndexer;
     this.userIndexer = userIndexer;
@@ -89,6 +92,9 @@ public class IndexSynchronizer {
     LOG.info("Index source lines");
     sourceLineIndexer.setEnabled(true).index();
 
+    LOG.info("Index tests");
+    testIndexer.setEnabled(true).index();
+
     LOG.info("Index users");
     userIndexer.setEnabled(true).index();
 
@@ -19,9 +19,8 @@
  */
 package org.sonar.server.source.index;
 
-import org.elasticsearch.cluster.metadata.IndexMetaData;
+import com.google.common.collect.ImmutableMap;
 import org.sonar.api.config.Settings;
-import org.sonar.process.ProcessConstants;
 import org.sonar.server.es.IndexDefinition;
 import org.sonar.server.es.NewIndex;
 
@@ -67,15 +66,11 @@ public class SourceLineIndexDefinition implements IndexDefinition {
     index.getSettings().put("index.refresh_interval", "-1");
 
     // shards
-    boolean clusterMode = settings.getBoolean(ProcessConstants.CLUSTER_ACTIVATE);
-    if (clusterMode) {
-      index.getSettings().put(IndexMetaData.SETTING_NUMBER_OF_SHARDS, 4);
-      index.getSettings().put(IndexMetaData.SETTING_NUMBER_OF_REPLICAS, 1);
-      // else keep defaults (one shard)
-    }
+    index.configureShards(settings);
 
     // type "sourceline"
     NewIndex.NewIndexType sourceLineMapping = index.createType(TYPE);
+    sourceLineMapping.setAttribute("_routing", ImmutableMap.of("required", true, "path", FIELD_PROJECT_UUID));
     sourceLineMapping.stringFieldBuilder(FIELD_PROJECT_UUID).build();
     sourceLineMapping.stringFieldBuilder(FIELD_FILE_UUID).build();
     sourceLineMapping.createIntegerField(FIELD_LINE);
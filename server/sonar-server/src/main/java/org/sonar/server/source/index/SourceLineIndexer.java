@@ -116,6 +116,7 @@ public class SourceLineIndexer extends BaseIndexer {
   public void deleteByProject(String projectUuid) {
     esClient.prepareDeleteByQuery(SourceLineIndexDefinition.INDEX)
       .setTypes(SourceLineIndexDefinition.TYPE)
+      .setRouting(projectUuid)
       .setQuery(QueryBuilders.filteredQuery(QueryBuilders.matchAllQuery(),
         FilterBuilders.termFilter(FIELD_PROJECT_UUID, projectUuid).cache(false)))
       .get();
@@ -20,23 +20,18 @@
 
 package org.sonar.server.test;
 
-import com.google.common.collect.Maps;
+import com.google.common.base.Function;
 import org.sonar.api.ServerComponent;
-import org.sonar.api.measures.CoreMetrics;
-import org.sonar.api.test.MutableTestable;
-import org.sonar.api.test.Testable;
-import org.sonar.api.utils.KeyValueFormat;
 import org.sonar.api.web.UserRole;
-import org.sonar.core.component.SnapshotPerspectives;
-import org.sonar.core.measure.db.MeasureDto;
-import org.sonar.core.measure.db.MeasureKey;
-import org.sonar.core.persistence.DbSession;
-import org.sonar.core.persistence.MyBatis;
-import org.sonar.server.measure.persistence.MeasureDao;
+import org.sonar.core.source.db.FileSourceDao;
+import org.sonar.core.source.db.FileSourceDto;
+import org.sonar.server.test.index.TestIndex;
 import org.sonar.server.user.UserSession;
 
-import javax.annotation.CheckForNull;
+import javax.annotation.Nullable;
 
+import java.io.InputStream;
+import java.util.Collections;
 import java.util.Map;
 
 public class CoverageService implements ServerComponent {
@@ -45,78 +40,47 @@ public class CoverageService implements ServerComponent {
     UT, IT, OVERALL
   }
 
-  private final MyBatis myBatis;
-  private final MeasureDao measureDao;
-  private final SnapshotPerspectives snapshotPerspectives;
+  private final FileSourceDao fileSourceDao;
+  private final TestIndex testIndex;
 
-  public CoverageService(MyBatis myBatis, MeasureDao measureDao, SnapshotPerspectives snapshotPerspectives) {
-    this.myBatis = myBatis;
-    this.measureDao = measureDao;
-    this.snapshotPerspectives = snapshotPerspectives;
+  public CoverageService(FileSourceDao fileSourceDao, TestIndex testIndex) {
+    this.fileSourceDao = fileSourceDao;
+    this.testIndex = testIndex;
   }
 
   public void checkPermission(String fileKey) {
     UserSession.get().checkComponentPermission(UserRole.CODEVIEWER, fileKey);
   }
 
-  public Map<Integer, Integer> getHits(String fileKey, CoverageService.TYPE type) {
-    switch (type) {
-      case IT:
-        return findDataFromComponent(fileKey, CoreMetrics.IT_COVERAGE_LINE_HITS_DATA_KEY);
-      case OVERALL:
-        return findDataFromComponent(fileKey, CoreMetrics.OVERALL_COVERAGE_LINE_HITS_DATA_KEY);
-      default:
-        return findDataFromComponent(fileKey, CoreMetrics.COVERAGE_LINE_HITS_DATA_KEY);
-    }
-  }
-
-  public Map<Integer, Integer> getConditions(String fileKey, CoverageService.TYPE type) {
-    switch (type) {
-      case IT:
-        return findDataFromComponent(fileKey, CoreMetrics.IT_CONDITIONS_BY_LINE_KEY);
-      case OVERALL:
-        return findDataFromComponent(fileKey, CoreMetrics.OVERALL_CONDITIONS_BY_LINE_KEY);
-      default:
-        return findDataFromComponent(fileKey, CoreMetrics.CONDITIONS_BY_LINE_KEY);
-    }
-  }
-
-  public Map<Integer, Integer> getCoveredConditions(String fileKey, CoverageService.TYPE type) {
-    switch (type) {
-      case IT:
-        return findDataFromComponent(fileKey, CoreMetrics.IT_COVERED_CONDITIONS_BY_LINE_KEY);
-      case OVERALL:
-        return findDataFromComponent(fileKey, CoreMetrics.OVERALL_COVERED_CONDITIONS_BY_LINE_KEY);
-      default:
-        return findDataFromComponent(fileKey, CoreMetrics.COVERED_CONDITIONS_BY_LINE_KEY);
-    }
+  /**
+   * Line hits, conditions and covered conditions of all types of tests, loaded in a single request.
+   * Coverage is empty if the file does not exist or has no sources.
+   */
+  public FileCoverage getCoverage(String fileKey) {
+    FileCoverageParser parser = new FileCoverageParser();
+    fileSourceDao.readDataStreamByFileKey(fileKey, parser);
+    return parser.coverage;
   }
 
   /**
-   * Test cases is only return for unit tests
+   * Number of test cases covering each line. Test cases is only return for unit tests.
    */
   public Map<Integer, Integer> getTestCases(String fileKey, CoverageService.TYPE type) {
     if (TYPE.UT.equals(type)) {
-      Testable testable = snapshotPerspectives.as(MutableTestable.class, fileKey);
-      if (testable != null) {
-        return testable.testCasesByLines();
-      }
+      return testIndex.countTestCasesByLine(fileKey);
     }
-    return Maps.newHashMap();
+    return Collections.emptyMap();
   }
 
-  @CheckForNull
-  private Map<Integer, Integer> findDataFromComponent(String fileKey, String metricKey) {
-    DbSession session = myBatis.openSession(false);
-    try {
-      MeasureDto data = measureDao.getNullableByKey(session, MeasureKey.of(fileKey, metricKey));
-      String dataValue = data != null ? data.getData() : null;
-      if (dataValue != null) {
-        return KeyValueFormat.parseIntInt(dataValue);
+  private static class FileCoverageParser implements Function<InputStream, Void> {
+    private FileCoverage coverage = FileCoverage.empty();
+
+    @Override
+    public Void apply(@Nullable InputStream input) {
+      if (input != null) {
+        coverage = FileCoverage.create(FileSourceDto.decodeData(input));
       }
-      return Maps.newHashMap();
-    } finally {
-      MyBatis.closeQuietly(session);
+      return null;
     }
   }
 }
@@ -0,0 +1,144 @@
+/*
+ * SonarQube, open source software quality management tool.
+ * Copyright (C) 2008-2014 SonarSource
+ * mailto:contact AT sonarsource DOT com
+ *
+ * SonarQube is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SonarQube is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.server.test;
+
+import org.sonar.server.source.db.FileSourceDb;
+
+import javax.annotation.CheckForNull;
+
+import java.util.Arrays;
+
+/**
+ * Line-level coverage of a file for unit tests, integration tests and overall, as stored in
+ * the column FILE_SOURCES.BINARY_DATA. Data of each type of coverage is kept in primitive arrays,
+ * sorted by line.
+ */
+public class FileCoverage {
+
+  private static final FileCoverage EMPTY = new FileCoverage();
+
+  private final Lines[] linesByType = new Lines[CoverageService.TYPE.values().length];
+
+  private FileCoverage() {
+    for (int i = 0; i < linesByType.length; i++) {
+      linesByType[i] = new Lines();
+    }
+  }
+
+  public static FileCoverage empty() {
+    return EMPTY;
+  }
+
+  public static FileCoverage create(FileSourceDb.Data data) {
+    FileCoverage coverage = new FileCoverage();
+    Lines ut = coverage.lines(CoverageService.TYPE.UT);
+    Lines it = coverage.lines(CoverageService.TYPE.IT);
+    Lines overall = coverage.lines(CoverageService.TYPE.OVERALL);
+    for (FileSourceDb.Line line : data.getLinesList()) {
+      if (line.hasUtLineHits()) {
+        ut.add(line.getLine(), line.getUtLineHits(),
+          line.hasUtConditions() ? line.getUtConditions() : Lines.NONE,
+          line.hasUtCoveredConditions() ? line.getUtCoveredConditions() : Lines.NONE);
+      }
+      if (line.hasItLineHits()) {
+        it.add(line.getLine(), line.getItLineHits(),
+          line.hasItConditions() ? line.getItConditions() : Lines.NONE,
+          line.hasItCoveredConditions() ? line.getItCoveredConditions() : Lines.NONE);
+      }
+      if (line.hasOverallLineHits()) {
+        overall.add(line.getLine(), line.getOverallLineHits(),
+          line.hasOverallConditions() ? line.getOverallConditions() : Lines.NONE,
+          line.hasOverallCoveredConditions() ? line.getOverallCoveredConditions() : Lines.NONE);
+      }
+    }
+    return coverage;
+  }
+
+  /**
+   * Lines that are covered or to be covered by the given type of tests
+   */
+  public Lines lines(CoverageService.TYPE type) {
+    return linesByType[type.ordinal()];
+  }
+
+  public static class Lines {
+
+    private static final int NONE = -1;
+
+    private int size = 0;
+    private int[] lines = new int[0];
+    private int[] hits = new int[0];
+    private int[] conditions = new int[0];
+    private int[] coveredConditions = new int[0];
+
+    private void add(int line, int lineHits, int lineConditions, int lineCoveredConditions) {
+      if (size == lines.length) {
+        int capacity = Math.max(16, size * 2);
+        lines = Arrays.copyOf(lines, capacity);
+        hits = Arrays.copyOf(hits, capacity);
+        conditions = Arrays.copyOf(conditions, capacity);
+        coveredConditions = Arrays.copyOf(coveredConditions, capacity);
+      }
+      lines[size] = line;
+      hits[size] = lineHits;
+      conditions[size] = lineConditions;
+      coveredConditions[size] = lineCoveredConditions;
+      size++;
+    }
+
+    public int size() {
+      return size;
+    }
+
+    public boolean isEmpty() {
+      return size == 0;
+    }
+
+    /**
+     * Line number, starting from 1, of the index-th element
+     */
+    public int line(int index) {
+      return lines[checkIndex(index)];
+    }
+
+    public int hits(int index) {
+      return hits[checkIndex(index)];
+    }
+
+    @CheckForNull
+    public Integer conditions(int index) {
+      int value = conditions[checkIndex(index)];
+      return value == NONE ? null : value;
+    }
+
+    @CheckForNull
+    public Integer coveredConditions(int index) {
+      int value = coveredConditions[checkIndex(index)];
+      return value == NONE ? null : value;
+    }
+
+    private int checkIndex(int index) {
+      if (index < 0 || index >= size) {
+        throw new IndexOutOfBoundsException("Index: " + index + ", size: " + size);
+      }
+      return index;
+    }
+  }
+}
@@ -0,0 +1,67 @@
+/*
+ * SonarQube, open source software quality management tool.
+ * Copyright (C) 2008-2014 SonarSource
+ * mailto:contact AT sonarsource DOT com
+ *
+ * SonarQube is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SonarQube is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.server.test.index;
+
+import org.sonar.server.search.BaseDoc;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * File covered by a test case. Nested into {@link TestDoc}.
+ */
+public class CoveredFileDoc extends BaseDoc {
+
+  public CoveredFileDoc(Map<String, Object> fields) {
+    super(fields);
+  }
+
+  public CoveredFileDoc() {
+    this(new HashMap<String, Object>(4));
+  }
+
+  public String key() {
+    return getField(TestIndexDefinition.FIELD_COVERED_FILE_KEY);
+  }
+
+  public CoveredFileDoc setKey(String key) {
+    setField(TestIndexDefinition.FIELD_COVERED_FILE_KEY, key);
+    return this;
+  }
+
+  public String longName() {
+    return getField(TestIndexDefinition.FIELD_COVERED_FILE_LONG_NAME);
+  }
+
+  public CoveredFileDoc setLongName(String longName) {
+    setField(TestIndexDefinition.FIELD_COVERED_FILE_LONG_NAME, longName);
+    return this;
+  }
+
+  public List<Integer> lines() {
+    return getField(TestIndexDefinition.FIELD_COVERED_FILE_LINES);
+  }
+
+  public CoveredFileDoc setLines(List<Integer> lines) {
+    setField(TestIndexDefinition.FIELD_COVERED_FILE_LINES, lines);
+    return this;
+  }
+}
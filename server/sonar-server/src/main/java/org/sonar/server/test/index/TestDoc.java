@@ -0,0 +1,145 @@
+/*
+ * SonarQube, open source software quality management tool.
+ * Copyright (C) 2008-2014 SonarSource
+ * mailto:contact AT sonarsource DOT com
+ *
+ * SonarQube is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SonarQube is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.server.test.index;
+
+import com.google.common.collect.Lists;
+import org.sonar.server.search.BaseDoc;
+
+import javax.annotation.CheckForNull;
+import javax.annotation.Nullable;
+
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class TestDoc extends BaseDoc {
+
+  public TestDoc(Map<String, Object> fields) {
+    super(fields);
+  }
+
+  public TestDoc() {
+    this(new HashMap<String, Object>(10));
+  }
+
+  public String projectUuid() {
+    return getField(TestIndexDefinition.FIELD_PROJECT_UUID);
+  }
+
+  public TestDoc setProjectUuid(String projectUuid) {
+    setField(TestIndexDefinition.FIELD_PROJECT_UUID, projectUuid);
+    return this;
+  }
+
+  public String fileKey() {
+    return getField(TestIndexDefinition.FIELD_FILE_KEY);
+  }
+
+  public TestDoc setFileKey(String fileKey) {
+    setField(TestIndexDefinition.FIELD_FILE_KEY, fileKey);
+    return this;
+  }
+
+  public String name() {
+    return getField(TestIndexDefinition.FIELD_NAME);
+  }
+
+  public TestDoc setName(String name) {
+    setField(TestIndexDefinition.FIELD_NAME, name);
+    return this;
+  }
+
+  @CheckForNull
+  public String status() {
+    return getNullableField(TestIndexDefinition.FIELD_STATUS);
+  }
+
+  public TestDoc setStatus(@Nullable String status) {
+    setField(TestIndexDefinition.FIELD_STATUS, status);
+    return this;
+  }
+
+  @CheckForNull
+  public Long durationInMs() {
+    Number duration = getNullableField(TestIndexDefinition.FIELD_DURATION_IN_MS);
+    return duration == null ? null : duration.longValue();
+  }
+
+  public TestDoc setDurationInMs(@Nullable Long durationInMs) {
+    setField(TestIndexDefinition.FIELD_DURATION_IN_MS, durationInMs);
+    return this;
+  }
+
+  @CheckForNull
+  public String message() {
+    return getNullableField(TestIndexDefinition.FIELD_MESSAGE);
+  }
+
+  public TestDoc setMessage(@Nullable String message) {
+    setField(TestIndexDefinition.FIELD_MESSAGE, message);
+    return this;
+  }
+
+  @CheckForNull
+  public String stackTrace() {
+    return getNullableField(TestIndexDefinition.FIELD_STACKTRACE);
+  }
+
+  public TestDoc setStackTrace(@Nullable String stackTrace) {
+    setField(TestIndexDefinition.FIELD_STACKTRACE, stackTrace);
+    return this;
+  }
+
+  public List<CoveredFileDoc> coveredFiles() {
+    List<Map<String, Object>> coveredFiles = getField(TestIndexDefinition.FIELD_COVERED_FILES);
+    List<CoveredFileDoc> result = Lists.newArrayListWithCapacity(coveredFiles.size());
+    for (Map<String, Object> coveredFile : coveredFiles) {
+      result.add(new CoveredFileDoc(coveredFile));
+    }
+    return result;
+  }
+
+  public TestDoc setCoveredFiles(List<CoveredFileDoc> coveredFiles) {
+    List<Map<String, Object>> fields = Lists.newArrayListWithCapacity(coveredFiles.size());
+    for (CoveredFileDoc coveredFile : coveredFiles) {
+      fields.add(coveredFile.getFields());
+    }
+    setField(TestIndexDefinition.FIELD_COVERED_FILES, fields);
+    return this;
+  }
+
+  public int countCoveredLines() {
+    int result = 0;
+    for (CoveredFileDoc coveredFile : coveredFiles()) {
+      result += coveredFile.lines().size();
+    }
+    return result;
+  }
+
+  public Date updateDate() {
+    return getFieldAsDate(TestIndexDefinition.FIELD_UPDATED_AT);
+  }
+
+  public TestDoc setUpdateDate(Date updatedAt) {
+    setField(TestIndexDefinition.FIELD_UPDATED_AT, updatedAt);
+    return this;
+  }
+}
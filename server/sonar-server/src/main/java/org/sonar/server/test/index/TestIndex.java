@@ -0,0 +1,133 @@
+/*
+ * SonarQube, open source software quality management tool.
+ * Copyright (C) 2008-2014 SonarSource
+ * mailto:contact AT sonarsource DOT com
+ *
+ * SonarQube is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SonarQube is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.server.test.index;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import org.elasticsearch.action.search.SearchRequestBuilder;
+import org.elasticsearch.action.search.SearchResponse;
+import org.elasticsearch.index.query.FilterBuilder;
+import org.elasticsearch.index.query.FilterBuilders;
+import org.elasticsearch.index.query.QueryBuilders;
+import org.elasticsearch.search.SearchHit;
+import org.elasticsearch.search.aggregations.AggregationBuilders;
+import org.elasticsearch.search.aggregations.bucket.filter.Filter;
+import org.elasticsearch.search.aggregations.bucket.nested.Nested;
+import org.elasticsearch.search.aggregations.bucket.terms.Terms;
+import org.elasticsearch.search.sort.SortOrder;
+import org.sonar.server.es.BaseIndex;
+import org.sonar.server.es.EsClient;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.sonar.server.test.index.TestIndexDefinition.*;
+
+/**
+ * Search tests in the index {@link TestIndexDefinition}. Cost of requests depends on the number
+ * of returned tests, but not on the size of test plans.
+ */
+public class TestIndex extends BaseIndex {
+
+  private static final int MAX_RESULT = 10000;
+
+  private static final String[] FIELDS_WITHOUT_COVERAGE = {FIELD_PROJECT_UUID, FIELD_FILE_KEY, FIELD_NAME, FIELD_STATUS, FIELD_DURATION_IN_MS,
+    FIELD_MESSAGE, FIELD_STACKTRACE, FIELD_UPDATED_AT};
+
+  private static final String COVERED_FILES_AGGREGATION = "coveredFiles";
+  private static final String COVERED_FILE_AGGREGATION = "coveredFile";
+  private static final String LINES_AGGREGATION = "lines";
+
+  public TestIndex(EsClient esClient) {
+    super(esClient);
+  }
+
+  /**
+   * Test cases declared in the given test file, sorted by name
+   */
+  public List<TestDoc> searchByTestFileKey(String testFileKey) {
+    return search(prepareSearch()
+      .setPostFilter(FilterBuilders.termFilter(FIELD_FILE_KEY, testFileKey)));
+  }
+
+  /**
+   * Test cases with the given name declared in the given test file, with the files they cover
+   */
+  public List<TestDoc> searchByTestFileKeyAndName(String testFileKey, String name) {
+    return search(prepareSearch()
+      .setPostFilter(FilterBuilders.boolFilter()
+        .must(FilterBuilders.termFilter(FIELD_FILE_KEY, testFileKey))
+        .must(FilterBuilders.termFilter(FIELD_NAME, name))));
+  }
+
+  /**
+   * Test cases covering the given line of a source file. Covered files are not loaded.
+   */
+  public List<TestDoc> searchBySourceFileKeyAndLine(String sourceFileKey, int line) {
+    return search(prepareSearch()
+      .setFetchSource(FIELDS_WITHOUT_COVERAGE, null)
+      .setPostFilter(FilterBuilders.nestedFilter(FIELD_COVERED_FILES, FilterBuilders.boolFilter()
+        .must(coveredFileFilter(sourceFileKey))
+        .must(FilterBuilders.termFilter(FIELD_COVERED_FILES + "." + FIELD_COVERED_FILE_LINES, line)))));
+  }
+
+  /**
+   * Number of test cases covering each line of a source file. Lines that are not covered are absent.
+   */
+  public Map<Integer, Integer> countTestCasesByLine(String sourceFileKey) {
+    SearchResponse response = getClient().prepareSearch(INDEX)
+      .setTypes(TYPE)
+      .setSize(0)
+      .setQuery(QueryBuilders.filteredQuery(QueryBuilders.matchAllQuery(),
+        FilterBuilders.nestedFilter(FIELD_COVERED_FILES, coveredFileFilter(sourceFileKey))))
+      .addAggregation(AggregationBuilders.nested(COVERED_FILES_AGGREGATION).path(FIELD_COVERED_FILES)
+        .subAggregation(AggregationBuilders.filter(COVERED_FILE_AGGREGATION).filter(coveredFileFilter(sourceFileKey))
+          .subAggregation(AggregationBuilders.terms(LINES_AGGREGATION).field(FIELD_COVERED_FILES + "." + FIELD_COVERED_FILE_LINES).size(0))))
+      .get();
+
+    Nested coveredFiles = response.getAggregations().get(COVERED_FILES_AGGREGATION);
+    Filter coveredFile = coveredFiles.getAggregations().get(COVERED_FILE_AGGREGATION);
+    Terms lines = coveredFile.getAggregations().get(LINES_AGGREGATION);
+    Map<Integer, Integer> result = Maps.newHashMap();
+    for (Terms.Bucket bucket : lines.getBuckets()) {
+      result.put(bucket.getKeyAsNumber().intValue(), (int) bucket.getDocCount());
+    }
+    return result;
+  }
+
+  private static FilterBuilder coveredFileFilter(String sourceFileKey) {
+    return FilterBuilders.termFilter(FIELD_COVERED_FILES + "." + FIELD_COVERED_FILE_KEY, sourceFileKey);
+  }
+
+  private SearchRequestBuilder prepareSearch() {
+    return getClient().prepareSearch(INDEX)
+      .setTypes(TYPE)
+      .setSize(MAX_RESULT)
+      .addSort(FIELD_NAME, SortOrder.ASC);
+  }
+
+  private static List<TestDoc> search(SearchRequestBuilder request) {
+    List<TestDoc> result = Lists.newArrayList();
+    for (SearchHit hit : request.get().getHits().getHits()) {
+      result.add(new TestDoc(hit.sourceAsMap()));
+    }
+    return result;
+  }
+}
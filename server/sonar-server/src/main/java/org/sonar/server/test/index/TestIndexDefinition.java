@@ -0,0 +1,85 @@
+/*
+ * SonarQube, open source software quality management tool.
+ * Copyright (C) 2008-2014 SonarSource
+ * mailto:contact AT sonarsource DOT com
+ *
+ * SonarQube is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SonarQube is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.server.test.index;
+
+import com.google.common.collect.ImmutableMap;
+import org.sonar.api.config.Settings;
+import org.sonar.server.es.IndexDefinition;
+import org.sonar.server.es.NewIndex;
+
+/**
+ * Index of test cases, with the files and lines that they cover. It allows to get the tests
+ * covering a line without loading the test plans of the project.
+ */
+public class TestIndexDefinition implements IndexDefinition {
+
+  public static final String FIELD_PROJECT_UUID = "projectUuid";
+  /**
+   * Key of the test file declaring the test case
+   */
+  public static final String FIELD_FILE_KEY = "fileKey";
+  public static final String FIELD_NAME = "name";
+  public static final String FIELD_STATUS = "status";
+  public static final String FIELD_DURATION_IN_MS = "durationInMs";
+  public static final String FIELD_MESSAGE = "message";
+  public static final String FIELD_STACKTRACE = "stacktrace";
+  public static final String FIELD_COVERED_FILES = "coveredFiles";
+  public static final String FIELD_COVERED_FILE_KEY = "key";
+  public static final String FIELD_COVERED_FILE_LONG_NAME = "longName";
+  public static final String FIELD_COVERED_FILE_LINES = "lines";
+  public static final String FIELD_UPDATED_AT = "updatedAt";
+
+  public static final String INDEX = "tests";
+
+  public static final String TYPE = "test";
+
+  private final Settings settings;
+
+  public TestIndexDefinition(Settings settings) {
+    this.settings = settings;
+  }
+
+  @Override
+  public void define(IndexDefinitionContext context) {
+    NewIndex index = context.create(INDEX);
+
+    // refresh is always handled by TestIndexer
+    index.getSettings().put("index.refresh_interval", "-1");
+
+    // shards
+    index.configureShards(settings);
+
+    // type "test"
+    NewIndex.NewIndexType mapping = index.createType(TYPE);
+    mapping.setAttribute("_routing", ImmutableMap.of("required", true, "path", FIELD_PROJECT_UUID));
+    mapping.stringFieldBuilder(FIELD_PROJECT_UUID).build();
+    mapping.stringFieldBuilder(FIELD_FILE_KEY).build();
+    mapping.stringFieldBuilder(FIELD_NAME).build();
+    mapping.stringFieldBuilder(FIELD_STATUS).disableSearch().build();
+    mapping.createLongField(FIELD_DURATION_IN_MS);
+    mapping.stringFieldBuilder(FIELD_MESSAGE).disableSearch().build();
+    mapping.stringFieldBuilder(FIELD_STACKTRACE).disableSearch().build();
+    mapping.setProperty(FIELD_COVERED_FILES, ImmutableMap.of("type", "nested", "properties", ImmutableMap.of(
+      FIELD_COVERED_FILE_KEY, ImmutableMap.of("type", "string", "index", "not_analyzed", "omit_norms", "true"),
+      FIELD_COVERED_FILE_LONG_NAME, ImmutableMap.of("type", "string", "index", "no"),
+      FIELD_COVERED_FILE_LINES, ImmutableMap.of("type", "integer"))));
+    mapping.createDateTimeField(FIELD_UPDATED_AT);
+  }
+}
@@ -0,0 +1,138 @@
+/*
+ * SonarQube, open source software quality management tool.
+ * Copyright (C) 2008-2014 SonarSource
+ * mailto:contact AT sonarsource DOT com
+ *
+ * SonarQube is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SonarQube is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.server.test.index;
+
+import org.elasticsearch.action.index.IndexRequest;
+import org.elasticsearch.index.query.FilterBuilders;
+import org.elasticsearch.index.query.QueryBuilders;
+import org.sonar.core.component.SnapshotPerspectives;
+import org.sonar.core.persistence.DbSession;
+import org.sonar.server.db.DbClient;
+import org.sonar.server.es.BaseIndexer;
+import org.sonar.server.es.BulkIndexer;
+import org.sonar.server.es.EsClient;
+
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Set;
+
+import static org.sonar.server.test.index.TestIndexDefinition.FIELD_PROJECT_UUID;
+
+/**
+ * Add to Elasticsearch index {@link TestIndexDefinition} the test plans stored in db table GRAPHS
+ * that are not indexed yet
+ */
+public class TestIndexer extends BaseIndexer {
+
+  private final DbClient dbClient;
+  private final SnapshotPerspectives snapshotPerspectives;
+
+  public TestIndexer(DbClient dbClient, SnapshotPerspectives snapshotPerspectives, EsClient esClient) {
+    super(esClient, 0L, TestIndexDefinition.INDEX, TestIndexDefinition.TYPE, TestIndexDefinition.FIELD_UPDATED_AT);
+    this.dbClient = dbClient;
+    this.snapshotPerspectives = snapshotPerspectives;
+  }
+
+  @Override
+  protected long doIndex(long lastUpdatedAt) {
+    BulkIndexer bulk = new BulkIndexer(esClient, TestIndexDefinition.INDEX);
+    bulk.setLarge(lastUpdatedAt == 0L);
+
+    DbSession dbSession = dbClient.openSession(false);
+    try {
+      TestResultSetIterator rowIt = TestResultSetIterator.create(dbClient, snapshotPerspectives, dbSession.getConnection(), lastUpdatedAt);
+      // when index is not empty, tests of re-analyzed projects are replaced
+      long maxUpdatedAt = doIndex(bulk, rowIt, lastUpdatedAt > 0L);
+      rowIt.close();
+      return maxUpdatedAt;
+
+    } finally {
+      dbSession.close();
+    }
+  }
+
+  /**
+   * Replace all the tests of a project by the test plans of its last analysis
+   */
+  public void index(final String projectUuid) {
+    super.index(new Runnable() {
+      @Override
+      public void run() {
+        deleteByProject(projectUuid);
+        DbSession dbSession = dbClient.openSession(false);
+        try {
+          TestResultSetIterator rowIt = TestResultSetIterator.createForProject(dbClient, snapshotPerspectives, dbSession.getConnection(), projectUuid);
+          doIndex(new BulkIndexer(esClient, TestIndexDefinition.INDEX), rowIt, false);
+          rowIt.close();
+        } finally {
+          dbSession.close();
+        }
+      }
+    });
+  }
+
+  /**
+   * Replace all the tests of the projects of the given test files
+   */
+  public long index(Iterator<TestResultSetIterator.TestFile> testFiles) {
+    return doIndex(new BulkIndexer(esClient, TestIndexDefinition.INDEX), testFiles, true);
+  }
+
+  /**
+   * @param deleteProjects if true, existing tests of a project are deleted before indexing its first test file.
+   *                       Test files of a project must then be complete, as those of {@link TestResultSetIterator}.
+   */
+  private long doIndex(BulkIndexer bulk, Iterator<TestResultSetIterator.TestFile> testFiles, boolean deleteProjects) {
+    long maxUpdatedAt = 0L;
+    Set<String> deletedProjectUuids = new HashSet<>();
+    bulk.start();
+    while (testFiles.hasNext()) {
+      TestResultSetIterator.TestFile testFile = testFiles.next();
+      if (testFile == null) {
+        // not a test plan
+        continue;
+      }
+      if (deleteProjects && deletedProjectUuids.add(testFile.getProjectUuid())) {
+        deleteByProject(testFile.getProjectUuid());
+      }
+      for (TestDoc test : testFile.getTests()) {
+        bulk.add(newIndexRequest(test));
+      }
+      maxUpdatedAt = Math.max(maxUpdatedAt, testFile.getUpdatedAt());
+    }
+    bulk.stop();
+    return maxUpdatedAt;
+  }
+
+  private IndexRequest newIndexRequest(TestDoc test) {
+    return new IndexRequest(TestIndexDefinition.INDEX, TestIndexDefinition.TYPE)
+      .routing(test.projectUuid())
+      .source(test.getFields());
+  }
+
+  public void deleteByProject(String projectUuid) {
+    esClient.prepareDeleteByQuery(TestIndexDefinition.INDEX)
+      .setTypes(TestIndexDefinition.TYPE)
+      .setRouting(projectUuid)
+      .setQuery(QueryBuilders.filteredQuery(QueryBuilders.matchAllQuery(),
+        FilterBuilders.termFilter(FIELD_PROJECT_UUID, projectUuid).cache(false)))
+      .get();
+  }
+}
@@ -0,0 +1,172 @@
+/*
+ * SonarQube, open source software quality management tool.
+ * Copyright (C) 2008-2014 SonarSource
+ * mailto:contact AT sonarsource DOT com
+ *
+ * SonarQube is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SonarQube is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.server.test.index;
+
+import com.google.common.collect.Lists;
+import org.sonar.api.test.CoverageBlock;
+import org.sonar.api.test.MutableTestCase;
+import org.sonar.api.test.MutableTestPlan;
+import org.sonar.core.component.SnapshotPerspectives;
+import org.sonar.core.graph.jdbc.GraphDto;
+import org.sonar.server.db.DbClient;
+import org.sonar.server.db.ResultSetIterator;
+
+import javax.annotation.CheckForNull;
+import javax.annotation.Nullable;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Scroll over the test plans of the last analyses (db table GRAPHS, perspective "testplan") and
+ * convert them to the documents of index tests. Each test plan is deserialized once, when it is
+ * indexed.
+ */
+public class TestResultSetIterator extends ResultSetIterator<TestResultSetIterator.TestFile> {
+
+  public static class TestFile {
+    private final String projectUuid;
+    private final String fileKey;
+    private final long updatedAt;
+    private final List<TestDoc> tests = Lists.newArrayList();
+
+    public TestFile(String projectUuid, String fileKey, long updatedAt) {
+      this.projectUuid = projectUuid;
+      this.fileKey = fileKey;
+      this.updatedAt = updatedAt;
+    }
+
+    public String getProjectUuid() {
+      return projectUuid;
+    }
+
+    public String getFileKey() {
+      return fileKey;
+    }
+
+    public long getUpdatedAt() {
+      return updatedAt;
+    }
+
+    public List<TestDoc> getTests() {
+      return tests;
+    }
+  }
+
+  private static final String SQL_ALL = "select p.uuid, g.updated_at, g.format, g.root_vertex_id, g.data, g.binary_data " +
+    "from graphs g " +
+    "inner join snapshots s on s.id=g.snapshot_id " +
+    "inner join projects p on p.id=s.root_project_id " +
+    "where g.perspective='testplan' and s.islast=?";
+
+  /**
+   * All the test plans of the projects that have at least one test plan updated after a given date, so that
+   * tests of these projects can be replaced
+   */
+  private static final String SQL_AFTER_DATE = SQL_ALL + " and s.root_project_id in (" +
+    "select s2.root_project_id from graphs g2 " +
+    "inner join snapshots s2 on s2.id=g2.snapshot_id " +
+    "where g2.perspective='testplan' and g2.updated_at>?)";
+
+  private static final String SQL_PROJECT = SQL_ALL + " and p.uuid=?";
+
+  private final SnapshotPerspectives snapshotPerspectives;
+
+  private TestResultSetIterator(PreparedStatement stmt, SnapshotPerspectives snapshotPerspectives) throws SQLException {
+    super(stmt);
+    this.snapshotPerspectives = snapshotPerspectives;
+  }
+
+  public static TestResultSetIterator create(DbClient dbClient, SnapshotPerspectives snapshotPerspectives, Connection connection, long afterDate) {
+    try {
+      String sql = afterDate > 0L ? SQL_AFTER_DATE : SQL_ALL;
+      // graphs are big, so they are scrolled once at a time (one row in memory at a time)
+      PreparedStatement stmt = dbClient.newScrollingSingleRowSelectStatement(connection, sql);
+      stmt.setBoolean(1, true);
+      if (afterDate > 0L) {
+        stmt.setTimestamp(2, new Timestamp(afterDate));
+      }
+      return new TestResultSetIterator(stmt, snapshotPerspectives);
+    } catch (SQLException e) {
+      throw new IllegalStateException("Fail to prepare SQL request to select all test plans", e);
+    }
+  }
+
+  public static TestResultSetIterator createForProject(DbClient dbClient, SnapshotPerspectives snapshotPerspectives, Connection connection, String projectUuid) {
+    try {
+      PreparedStatement stmt = dbClient.newScrollingSingleRowSelectStatement(connection, SQL_PROJECT);
+      stmt.setBoolean(1, true);
+      stmt.setString(2, projectUuid);
+      return new TestResultSetIterator(stmt, snapshotPerspectives);
+    } catch (SQLException e) {
+      throw new IllegalStateException("Fail to prepare SQL request to select test plans of project " + projectUuid, e);
+    }
+  }
+
+  /**
+   * @return null if the row does not contain a test plan
+   */
+  @Override
+  @CheckForNull
+  protected TestFile read(ResultSet rs) throws SQLException {
+    String projectUuid = rs.getString(1);
+    Date updatedAt = toDate(rs.getTimestamp(2));
+    GraphDto graph = new GraphDto()
+      .setFormat(rs.getString(3))
+      .setRootVertexId(rs.getString(4))
+      .setData(rs.getString(5))
+      .setBinaryData(rs.getBytes(6));
+
+    MutableTestPlan testPlan = snapshotPerspectives.as(MutableTestPlan.class, graph);
+    if (testPlan == null) {
+      return null;
+    }
+    TestFile result = new TestFile(projectUuid, testPlan.component().key(), updatedAt.getTime());
+    for (MutableTestCase testCase : testPlan.testCases()) {
+      List<CoveredFileDoc> coveredFiles = Lists.newArrayList();
+      for (CoverageBlock block : testCase.coverageBlocks()) {
+        coveredFiles.add(new CoveredFileDoc()
+          .setKey(block.testable().component().key())
+          .setLongName(block.testable().component().longName())
+          .setLines(Lists.newArrayList(block.lines())));
+      }
+      result.getTests().add(new TestDoc()
+        .setProjectUuid(projectUuid)
+        .setFileKey(result.getFileKey())
+        .setName(testCase.name())
+        .setStatus(testCase.status() != null ? testCase.status().name() : null)
+        .setDurationInMs(testCase.durationInMs())
+        .setMessage(testCase.message())
+        .setStackTrace(testCase.stackTrace())
+        .setCoveredFiles(coveredFiles)
+        .setUpdateDate(updatedAt));
+    }
+    return result;
+  }
+
+  private static Date toDate(@Nullable Timestamp timestamp) {
+    return timestamp == null ? new Date(0L) : new Date(timestamp.getTime());
+  }
+}
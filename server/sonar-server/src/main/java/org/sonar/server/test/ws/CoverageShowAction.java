@@ -28,6 +28,7 @@ import org.sonar.api.server.ws.Response;
 import org.sonar.api.server.ws.WebService;
 import org.sonar.api.utils.text.JsonWriter;
 import org.sonar.server.test.CoverageService;
+import org.sonar.server.test.FileCoverage;
 
 import java.util.Map;
 
@@ -99,33 +100,26 @@ public class CoverageShowAction implements RequestHandler {
 
     JsonWriter json = response.newJsonWriter().beginObject();
 
-    Map<Integer, Integer> hits = coverageService.getHits(fileKey, type);
-    if (!hits.isEmpty()) {
+    FileCoverage.Lines lines = coverageService.getCoverage(fileKey).lines(type);
+    if (!lines.isEmpty()) {
       Map<Integer, Integer> testCases = coverageService.getTestCases(fileKey, type);
-      Map<Integer, Integer> conditions = coverageService.getConditions(fileKey, type);
-      Map<Integer, Integer> coveredConditions = coverageService.getCoveredConditions(fileKey, type);
-      writeCoverage(hits, testCases, conditions, coveredConditions, from, to, json);
+      writeCoverage(lines, testCases, from, to, json);
     }
 
     json.endObject().close();
   }
 
-  private void writeCoverage(Map<Integer, Integer> hitsByLine,
-                             Map<Integer, Integer> testCasesByLines,
-                             Map<Integer, Integer> conditionsByLine,
-                             Map<Integer, Integer> coveredConditionsByLine,
-                             int from, int to, JsonWriter json) {
+  private void writeCoverage(FileCoverage.Lines lines, Map<Integer, Integer> testCasesByLines, int from, int to, JsonWriter json) {
     json.name("coverage").beginArray();
-    for (Map.Entry<Integer, Integer> entry : hitsByLine.entrySet()) {
-      Integer line = entry.getKey();
+    for (int i = 0; i < lines.size(); i++) {
+      int line = lines.line(i);
       if (line >= from && line <= to) {
-        Integer hits = entry.getValue();
         json.beginArray();
         json.value(line);
-        json.value(hits > 0);
+        json.value(lines.hits(i) > 0);
         json.value(testCasesByLines.get(line));
-        json.value(conditionsByLine.get(line));
-        json.value(coveredConditionsByLine.get(line));
+        json.value(lines.conditions(i));
+        json.value(lines.coveredConditions(i));
         json.endArray();
       }
     }
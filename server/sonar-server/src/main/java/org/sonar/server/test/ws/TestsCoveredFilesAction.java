@@ -21,26 +21,28 @@
 package org.sonar.server.test.ws;
 
 import com.google.common.io.Resources;
-import org.sonar.api.component.Component;
 import org.sonar.api.server.ws.Request;
 import org.sonar.api.server.ws.RequestHandler;
 import org.sonar.api.server.ws.Response;
 import org.sonar.api.server.ws.WebService;
-import org.sonar.api.test.*;
 import org.sonar.api.utils.text.JsonWriter;
 import org.sonar.api.web.UserRole;
-import org.sonar.core.component.SnapshotPerspectives;
+import org.sonar.server.test.index.CoveredFileDoc;
+import org.sonar.server.test.index.TestDoc;
+import org.sonar.server.test.index.TestIndex;
 import org.sonar.server.user.UserSession;
 
+import java.util.List;
+
 public class TestsCoveredFilesAction implements RequestHandler {
 
   private static final String KEY = "key";
   private static final String TEST = "test";
 
-  private final SnapshotPerspectives snapshotPerspectives;
+  private final TestIndex testIndex;
 
-  public TestsCoveredFilesAction(SnapshotPerspectives snapshotPerspectives) {
-    this.snapshotPerspectives = snapshotPerspectives;
+  public TestsCoveredFilesAction(TestIndex testIndex) {
+    this.testIndex = testIndex;
   }
 
   void define(WebService.NewController controller) {
@@ -69,23 +71,22 @@ public class TestsCoveredFilesAction implements RequestHandler {
     UserSession.get().checkComponentPermission(UserRole.CODEVIEWER, fileKey);
     String test = request.mandatoryParam(TEST);
 
-    MutableTestPlan testPlan = snapshotPerspectives.as(MutableTestPlan.class, fileKey);
+    List<TestDoc> tests = testIndex.searchByTestFileKeyAndName(fileKey, test);
     JsonWriter json = response.newJsonWriter().beginObject();
-    if (testPlan != null) {
-      writeTests(testPlan, test, json);
+    if (!tests.isEmpty()) {
+      writeTests(tests, json);
     }
     json.endObject().close();
   }
 
-  private void writeTests(TestPlan<MutableTestCase> testPlan, String test, JsonWriter json) {
+  private void writeTests(List<TestDoc> tests, JsonWriter json) {
     json.name("files").beginArray();
-    for (TestCase testCase : testPlan.testCasesByName(test)) {
-      for (CoverageBlock coverageBlock : testCase.coverageBlocks()) {
+    for (TestDoc test : tests) {
+      for (CoveredFileDoc coveredFile : test.coveredFiles()) {
         json.beginObject();
-        Component file = coverageBlock.testable().component();
-        json.prop("key", file.key());
-        json.prop("longName", file.longName());
-        json.prop("coveredLines", coverageBlock.lines().size());
+        json.prop("key", coveredFile.key());
+        json.prop("longName", coveredFile.longName());
+        json.prop("coveredLines", coveredFile.lines().size());
         json.endObject();
       }
     }
@@ -29,15 +29,14 @@ import org.sonar.api.server.ws.Request;
 import org.sonar.api.server.ws.RequestHandler;
 import org.sonar.api.server.ws.Response;
 import org.sonar.api.server.ws.WebService;
-import org.sonar.api.test.MutableTestPlan;
-import org.sonar.api.test.TestCase;
 import org.sonar.api.utils.text.JsonWriter;
 import org.sonar.api.web.UserRole;
-import org.sonar.core.component.SnapshotPerspectives;
 import org.sonar.core.measure.db.MeasureDto;
 import org.sonar.core.persistence.DbSession;
 import org.sonar.core.persistence.MyBatis;
 import org.sonar.server.db.DbClient;
+import org.sonar.server.test.index.TestDoc;
+import org.sonar.server.test.index.TestIndex;
 import org.sonar.server.user.UserSession;
 
 import javax.annotation.CheckForNull;
@@ -45,17 +44,18 @@ import javax.xml.stream.XMLInputFactory;
 import javax.xml.stream.XMLStreamException;
 
 import java.io.StringReader;
+import java.util.List;
 
 public class TestsShowAction implements RequestHandler {
 
   private static final String KEY = "key";
 
   private final DbClient dbClient;
-  private final SnapshotPerspectives snapshotPerspectives;
+  private final TestIndex testIndex;
 
-  public TestsShowAction(DbClient dbClient, SnapshotPerspectives snapshotPerspectives) {
+  public TestsShowAction(DbClient dbClient, TestIndex testIndex) {
     this.dbClient = dbClient;
-    this.snapshotPerspectives = snapshotPerspectives;
+    this.testIndex = testIndex;
   }
 
   void define(WebService.NewController controller) {
@@ -77,29 +77,30 @@ public class TestsShowAction implements RequestHandler {
     String fileKey = request.mandatoryParam(KEY);
     UserSession.get().checkComponentPermission(UserRole.CODEVIEWER, fileKey);
 
-    String testData = findTestData(fileKey);
     JsonWriter json = response.newJsonWriter().beginObject();
-    if (testData != null) {
-      writeFromTestData(testData, json);
+    List<TestDoc> tests = testIndex.searchByTestFileKey(fileKey);
+    if (!tests.isEmpty()) {
+      writeFromIndex(tests, json);
     } else {
-      MutableTestPlan testPlan = snapshotPerspectives.as(MutableTestPlan.class, fileKey);
-      if (testPlan != null) {
-        writeFromTestable(testPlan, json);
+      // test plan is not available, for example when coverage per test is not supported by plugin
+      String testData = findTestData(fileKey);
+      if (testData != null) {
+        writeFromTestData(testData, json);
       }
     }
     json.endObject().close();
   }
 
-  private void writeFromTestable(MutableTestPlan testPlan, JsonWriter json) {
+  private void writeFromIndex(List<TestDoc> tests, JsonWriter json) {
     json.name("tests").beginArray();
-    for (TestCase testCase : testPlan.testCases()) {
+    for (TestDoc test : tests) {
       json.beginObject();
-      json.prop("name", testCase.name());
-      json.prop("status", testCase.status().name());
-      json.prop("durationInMs", testCase.durationInMs());
-      json.prop("coveredLines", testCase.countCoveredLines());
-      json.prop("message", testCase.message());
-      json.prop("stackTrace", testCase.stackTrace());
+      json.prop("name", test.name());
+      json.prop("status", test.status());
+      json.prop("durationInMs", test.durationInMs());
+      json.prop("coveredLines", test.countCoveredLines());
+      json.prop("message", test.message());
+      json.prop("stackTrace", test.stackTrace());
       json.endObject();
     }
     json.endArray();
@@ -22,23 +22,21 @@ package org.sonar.server.test.ws;
 
 import com.google.common.base.Preconditions;
 import com.google.common.io.Resources;
-import org.sonar.api.component.Component;
 import org.sonar.api.server.ws.Request;
 import org.sonar.api.server.ws.RequestHandler;
 import org.sonar.api.server.ws.Response;
 import org.sonar.api.server.ws.WebService;
-import org.sonar.api.test.MutableTestable;
-import org.sonar.api.test.TestCase;
-import org.sonar.api.test.Testable;
 import org.sonar.api.utils.text.JsonWriter;
 import org.sonar.api.web.UserRole;
 import org.sonar.core.component.ComponentDto;
-import org.sonar.core.component.SnapshotPerspectives;
 import org.sonar.core.persistence.DbSession;
 import org.sonar.server.component.ComponentService;
 import org.sonar.server.db.DbClient;
+import org.sonar.server.test.index.TestDoc;
+import org.sonar.server.test.index.TestIndex;
 import org.sonar.server.user.UserSession;
 
+import java.util.List;
 import java.util.Map;
 
 import static com.google.common.collect.Maps.newHashMap;
@@ -49,12 +47,12 @@ public class TestsTestCasesAction implements RequestHandler {
   private static final String UUID = "uuid";
   private static final String LINE = "line";
 
-  private final SnapshotPerspectives snapshotPerspectives;
+  private final TestIndex testIndex;
   private final ComponentService componentService;
   private final DbClient dbClient;
 
-  public TestsTestCasesAction(SnapshotPerspectives snapshotPerspectives, ComponentService componentService, DbClient dbClient) {
-    this.snapshotPerspectives = snapshotPerspectives;
+  public TestsTestCasesAction(TestIndex testIndex, ComponentService componentService, DbClient dbClient) {
+    this.testIndex = testIndex;
     this.componentService = componentService;
     this.dbClient = dbClient;
   }
@@ -98,31 +96,29 @@ public class TestsTestCasesAction implements RequestHandler {
     }
     int line = request.mandatoryParamAsInt(LINE);
 
-    Testable testable = snapshotPerspectives.as(MutableTestable.class, fileKey);
+    List<TestDoc> tests = testIndex.searchBySourceFileKeyAndLine(fileKey, line);
     JsonWriter json = response.newJsonWriter().beginObject();
-    if (testable != null) {
+    if (!tests.isEmpty()) {
       Map<String, Integer> refByTestPlan = newHashMap();
-      Map<String, Component> componentsByKey = newHashMap();
-      writeTests(testable, line, refByTestPlan, componentsByKey, json);
-      writeFiles(refByTestPlan, componentsByKey, json);
+      writeTests(tests, refByTestPlan, json);
+      writeFiles(refByTestPlan, json);
     }
     json.endObject().close();
   }
 
-  private void writeTests(Testable testable, Integer line, Map<String, Integer> refByTestPlan, Map<String, Component> componentsByKey, JsonWriter json) {
+  private void writeTests(List<TestDoc> tests, Map<String, Integer> refByTestPlan, JsonWriter json) {
     json.name("tests").beginArray();
-    for (TestCase testCase : testable.testCasesOfLine(line)) {
+    for (TestDoc test : tests) {
       json.beginObject();
-      json.prop("name", testCase.name());
-      json.prop("status", testCase.status().name());
-      json.prop("durationInMs", testCase.durationInMs());
+      json.prop("name", test.name());
+      json.prop("status", test.status());
+      json.prop("durationInMs", test.durationInMs());
 
-      Component testPlan = testCase.testPlan().component();
-      Integer ref = refByTestPlan.get(testPlan.key());
+      String testPlanKey = test.fileKey();
+      Integer ref = refByTestPlan.get(testPlanKey);
       if (ref == null) {
         ref = refByTestPlan.size() + 1;
-        refByTestPlan.put(testPlan.key(), ref);
-        componentsByKey.put(testPlan.key(), testPlan);
+        refByTestPlan.put(testPlanKey, ref);
       }
       json.prop("_ref", Integer.toString(ref));
       json.endObject();
@@ -130,10 +126,11 @@ public class TestsTestCasesAction implements RequestHandler {
     json.endArray();
   }
 
-  private void writeFiles(Map<String, Integer> refByTestPlan, Map<String, Component> componentsByKey, JsonWriter json) {
+  private void writeFiles(Map<String, Integer> refByTestPlan, JsonWriter json) {
+    Map<String, ComponentDto> componentsByKey = newHashMap();
     DbSession session = dbClient.openSession(false);
     try {
-      for (ComponentDto componentDto : dbClient.componentDao().getByKeys(session, componentsByKey.keySet())) {
+      for (ComponentDto componentDto : dbClient.componentDao().getByKeys(session, refByTestPlan.keySet())) {
         componentsByKey.put(componentDto.key(), componentDto);
       }
     } finally {
@@ -144,11 +141,13 @@ public class TestsTestCasesAction implements RequestHandler {
     for (Map.Entry<String, Integer> entry : refByTestPlan.entrySet()) {
       String componentKey = entry.getKey();
       Integer ref = entry.getValue();
-      Component file = componentsByKey.get(componentKey);
+      ComponentDto file = componentsByKey.get(componentKey);
       json.name(Integer.toString(ref)).beginObject();
-      json.prop("key", file.key());
-      json.prop("uuid", ((ComponentDto) file).uuid());
-      json.prop("longName", file.longName());
+      json.prop("key", componentKey);
+      if (file != null) {
+        json.prop("uuid", file.uuid());
+        json.prop("longName", file.longName());
+      }
       json.endObject();
     }
     json.endObject();
@@ -20,26 +20,60 @@
 
 package org.sonar.server.text;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
 import com.google.common.collect.ImmutableList;
 import org.sonar.api.ServerComponent;
 import org.sonar.api.platform.Server;
 
 import java.util.List;
+import java.util.regex.Pattern;
 
 public class MacroInterpreter implements ServerComponent {
 
-  private final List<Macro> macros;
+  /**
+   * Maximum number of interpreted texts kept in cache
+   */
+  private static final int CACHE_SIZE = 1000;
+
+  private final Pattern[] patterns;
+  private final String[] replacements;
+
+  /**
+   * Interpretation only depends on text, so a cached result can't be outdated when the description of a rule
+   * changes : the new description is a new entry, and the old one is evicted when cache is full.
+   */
+  private final Cache<String, String> interpretedTexts;
 
   public MacroInterpreter(Server server) {
-    this.macros = ImmutableList.<Macro>of(
+    List<Macro> macros = ImmutableList.<Macro>of(
       new RuleMacro(server.getContextPath())
-    );
+      );
+    this.patterns = new Pattern[macros.size()];
+    this.replacements = new String[macros.size()];
+    for (int i = 0; i < patterns.length; i++) {
+      patterns[i] = Pattern.compile(macros.get(i).getRegex());
+      replacements[i] = macros.get(i).getReplacement();
+    }
+    this.interpretedTexts = CacheBuilder.newBuilder()
+      .maximumSize(CACHE_SIZE)
+      .build(new CacheLoader<String, String>() {
+        @Override
+        public String load(String text) {
+          return doInterpret(text);
+        }
+      });
   }
 
   public String interpret(String text) {
+    return interpretedTexts.getUnchecked(text);
+  }
+
+  private String doInterpret(String text) {
     String textReplaced = text;
-    for (Macro macro : macros) {
-      textReplaced = textReplaced.replaceAll(macro.getRegex(), macro.getReplacement());
+    for (int i = 0; i < patterns.length; i++) {
+      textReplaced = patterns[i].matcher(textReplaced).replaceAll(replacements[i]);
     }
     return textReplaced;
   }
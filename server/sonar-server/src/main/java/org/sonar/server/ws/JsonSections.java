@@ -0,0 +1,68 @@
+/*
+ * SonarQube, open source software quality management tool.
+ * Copyright (C) 2008-2014 SonarSource
+ * mailto:contact AT sonarsource DOT com
+ *
+ * SonarQube is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SonarQube is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.server.ws;
+
+import org.sonar.api.utils.text.JsonWriter;
+
+import java.util.Iterator;
+
+/**
+ * Writes the sections of JSON responses while iterating on their elements, so that elements do not
+ * need to be collected before being written. Combined with {@link ReferencedEntities}, referenced
+ * entities are loaded by batches while the section is written.
+ *
+ * @since 5.2
+ */
+public final class JsonSections {
+
+  public interface ElementWriter<T> {
+    void write(JsonWriter json, T element);
+  }
+
+  private JsonSections() {
+    // only static methods
+  }
+
+  /**
+   * Writes the property {@code name} as an array of the given elements
+   */
+  public static <T> void writeArray(JsonWriter json, String name, Iterator<? extends T> elements, ElementWriter<T> writer) {
+    json.name(name).beginArray();
+    while (elements.hasNext()) {
+      writer.write(json, elements.next());
+    }
+    json.endArray();
+  }
+
+  public static <T> void writeArray(JsonWriter json, String name, Iterable<? extends T> elements, ElementWriter<T> writer) {
+    writeArray(json, name, elements.iterator(), writer);
+  }
+
+  /**
+   * Same as {@link #writeArray(JsonWriter, String, Iterator, ElementWriter)}, but the property is not written
+   * if there are no elements
+   */
+  public static <T> void writeNonEmptyArray(JsonWriter json, String name, Iterable<? extends T> elements, ElementWriter<T> writer) {
+    Iterator<? extends T> it = elements.iterator();
+    if (it.hasNext()) {
+      writeArray(json, name, it, writer);
+    }
+  }
+}
@@ -0,0 +1,180 @@
+/*
+ * SonarQube, open source software quality management tool.
+ * Copyright (C) 2008-2014 SonarSource
+ * mailto:contact AT sonarsource DOT com
+ *
+ * SonarQube is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SonarQube is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.server.ws;
+
+import com.google.common.base.Optional;
+import com.google.common.collect.AbstractIterator;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Iterators;
+import com.google.common.collect.Lists;
+
+import javax.annotation.CheckForNull;
+import javax.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Entities referenced by the main data of a web service response, for example the users and the action plans of issues.
+ * Keys are registered while main data is processed. Entities are loaded by batches, only when one of them is
+ * requested, and each key is loaded at most once. Iterating loads the remaining batches one after the other.
+ * Loaded entities are kept until the end of the response, their number is bounded by the keys registered for a page
+ * of main data.
+ *
+ * @since 5.2
+ */
+public class ReferencedEntities<K, V> implements Iterable<V> {
+
+  /**
+   * Number of keys loaded at once, which is also the maximal size of SQL IN clauses supported by Oracle
+   */
+  public static final int DEFAULT_BATCH_SIZE = 1000;
+
+  public interface Loader<K, V> {
+    /**
+     * @return the existing entities among the given keys, in any order
+     */
+    Collection<V> load(List<K> keys);
+
+    K keyOf(V entity);
+  }
+
+  private final Loader<K, V> loader;
+  private final int batchSize;
+  private final Set<K> registeredKeys = new LinkedHashSet<>();
+  private final Set<K> notLoadedKeys = new LinkedHashSet<>();
+  // absent values are the keys of missing entities
+  private final Map<K, Optional<V>> loadedEntities = new HashMap<>();
+
+  public ReferencedEntities(Loader<K, V> loader) {
+    this(loader, DEFAULT_BATCH_SIZE);
+  }
+
+  public ReferencedEntities(Loader<K, V> loader, int batchSize) {
+    this.loader = loader;
+    this.batchSize = batchSize;
+  }
+
+  public ReferencedEntities<K, V> add(@Nullable K key) {
+    if (key != null && registeredKeys.add(key)) {
+      notLoadedKeys.add(key);
+    }
+    return this;
+  }
+
+  public ReferencedEntities<K, V> addAll(@Nullable Iterable<K> keys) {
+    if (keys != null) {
+      for (K key : keys) {
+        add(key);
+      }
+    }
+    return this;
+  }
+
+  /**
+   * @return the entity, or null if key is null or if entity does not exist. Key does not need to be registered before.
+   * If the entity is not loaded yet, then it is loaded with the next registered keys that have never been loaded.
+   */
+  @CheckForNull
+  public V get(@Nullable K key) {
+    if (key == null) {
+      return null;
+    }
+    add(key);
+    Optional<V> entity = loadedEntities.get(key);
+    if (entity != null) {
+      return entity.orNull();
+    }
+    List<K> keys = Lists.newArrayList(key);
+    Iterator<K> others = notLoadedKeys.iterator();
+    while (keys.size() < batchSize && others.hasNext()) {
+      K other = others.next();
+      if (!other.equals(key)) {
+        keys.add(other);
+      }
+    }
+    return load(keys).get(key);
+  }
+
+  /**
+   * Iterates on the existing entities among registered keys, in the order of registration. Keys must not
+   * be registered during iteration.
+   */
+  @Override
+  public Iterator<V> iterator() {
+    final Iterator<List<K>> batches = Iterators.partition(ImmutableList.copyOf(registeredKeys).iterator(), batchSize);
+    return new AbstractIterator<V>() {
+      private Iterator<V> batch = Iterators.<V>emptyIterator();
+
+      @Override
+      protected V computeNext() {
+        while (!batch.hasNext()) {
+          if (!batches.hasNext()) {
+            return endOfData();
+          }
+          batch = entitiesOf(batches.next()).iterator();
+        }
+        return batch.next();
+      }
+    };
+  }
+
+  private List<V> entitiesOf(List<K> keys) {
+    Map<K, V> entitiesByKey = new HashMap<>();
+    List<K> keysToLoad = new ArrayList<>();
+    for (K key : keys) {
+      Optional<V> entity = loadedEntities.get(key);
+      if (entity == null) {
+        keysToLoad.add(key);
+      } else if (entity.isPresent()) {
+        entitiesByKey.put(key, entity.get());
+      }
+    }
+    if (!keysToLoad.isEmpty()) {
+      entitiesByKey.putAll(load(keysToLoad));
+    }
+    List<V> result = new ArrayList<>();
+    for (K key : keys) {
+      V entity = entitiesByKey.get(key);
+      if (entity != null) {
+        result.add(entity);
+      }
+    }
+    return result;
+  }
+
+  private Map<K, V> load(List<K> keys) {
+    Map<K, V> entitiesByKey = new HashMap<>();
+    for (V entity : loader.load(keys)) {
+      entitiesByKey.put(loader.keyOf(entity), entity);
+    }
+    for (K key : keys) {
+      loadedEntities.put(key, Optional.fromNullable(entitiesByKey.get(key)));
+      notLoadedKeys.remove(key);
+    }
+    return entitiesByKey;
+  }
+}
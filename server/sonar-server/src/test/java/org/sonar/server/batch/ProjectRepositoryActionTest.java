@@ -20,6 +20,7 @@
 
 package org.sonar.server.batch;
 
+import com.google.common.collect.ImmutableMap;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -29,7 +30,10 @@ import org.mockito.runners.MockitoJUnitRunner;
 import org.sonar.batch.protocol.input.ProjectRepositories;
 import org.sonar.server.ws.WsTester;
 
+import java.io.ByteArrayInputStream;
+
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -68,4 +72,18 @@ public class ProjectRepositoryActionTest {
     assertThat(queryArgumentCaptor.getValue().isPreview()).isFalse();
   }
 
+  @Test
+  public void project_referentials_as_protobuf() throws Exception {
+    ProjectRepositories projectReferentials = new ProjectRepositories();
+    projectReferentials.addSettings("org.codehaus.sonar:sonar", ImmutableMap.of("sonar.jira.project.key", "SONAR"));
+    when(projectRepositoryLoader.load(any(ProjectRepositoryQuery.class))).thenReturn(projectReferentials);
+
+    WsTester.TestRequest request = tester.newGetRequest("batch", "project")
+      .setParam("key", "org.codehaus.sonar:sonar")
+      .setParam("format", "protobuf");
+
+    ProjectRepositories result = ProjectRepositories.parseDelimitedFrom(new ByteArrayInputStream(request.execute().output()));
+    assertThat(result.settings("org.codehaus.sonar:sonar")).containsEntry("sonar.jira.project.key", "SONAR");
+  }
+
 }
@@ -25,15 +25,18 @@ import org.junit.Before;
 import org.junit.ClassRule;
 import org.junit.Rule;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
 import org.sonar.api.resources.Qualifiers;
 import org.sonar.api.utils.System2;
 import org.sonar.api.utils.ZipUtils;
 import org.sonar.api.utils.internal.JUnitTempFolder;
 import org.sonar.api.utils.log.LogTester;
 import org.sonar.api.utils.log.LoggerLevel;
-import org.sonar.batch.protocol.output.BatchReportWriter;
 import org.sonar.batch.protocol.output.BatchReport;
+import org.sonar.batch.protocol.output.BatchReportWriter;
 import org.sonar.core.computation.db.AnalysisReportDto;
 import org.sonar.core.persistence.DbTester;
 import org.sonar.server.activity.Activity;
@@ -70,13 +73,14 @@ public class ComputationServiceTest {
   ComputationSteps steps = mock(ComputationSteps.class);
   ActivityService activityService = mock(ActivityService.class);
   System2 system = mock(System2.class);
+  ComputationStatistics statistics = new ComputationStatistics();
   ComputationService sut;
   ProjectSettingsFactory settingsFactory = mock(ProjectSettingsFactory.class, Mockito.RETURNS_DEEP_STUBS);
 
   @Before
   public void setUp() throws Exception {
     DbClient dbClient = new DbClient(dbTester.database(), dbTester.myBatis(), new ComponentDao());
-    sut = new ComputationService(dbClient, steps, activityService, settingsFactory, tempFolder, system);
+    sut = new ComputationService(dbClient, steps, activityService, settingsFactory, tempFolder, system, statistics);
 
     // db contains project with key "P1"
     dbTester.prepareDbUnit(getClass(), "shared.xml");
@@ -108,6 +112,48 @@ public class ComputationServiceTest {
     verify(activityService).save(any(Activity.class));
   }
 
+  @Test
+  public void record_statistics_of_steps() throws Exception {
+    when(steps.orderedSteps()).thenReturn(Arrays.asList(projectStep1, projectStep2));
+    when(projectStep1.getDescription()).thenReturn("Step 1");
+    when(projectStep2.getDescription()).thenReturn("Step 2");
+    doAnswer(new Answer<Void>() {
+      @Override
+      public Void answer(InvocationOnMock invocation) {
+        ComputationContext context = (ComputationContext) invocation.getArguments()[0];
+        context.addProcessedItems(42);
+        return null;
+      }
+    }).when(projectStep2).execute(any(ComputationContext.class));
+    // submitted at 1000, started at 1500, step 1 from 1600 to 1700, step 2 from 1700 to 2000, finished at 2100
+    when(system.now()).thenReturn(1500L, 1600L, 1700L, 1700L, 2000L, 2100L);
+    AnalysisReportDto dto = AnalysisReportDto.newForTests(1L).setProjectKey("P1").setUuid("U1").setCreatedAt(1000L);
+    File zip = generateZip();
+
+    sut.process(new ReportQueue.Item(dto, zip));
+
+    assertThat(statistics.getReports()).isEqualTo(1L);
+    assertThat(statistics.getAverageQueueWaitTime()).isEqualTo(500L);
+    assertThat(statistics.getAverageExecutionTime()).isEqualTo(600L);
+    assertThat(statistics.getSteps()).hasSize(2);
+    ComputationStatistics.StepAggregate step1 = statistics.getSteps().get(0);
+    assertThat(step1.getDescription()).isEqualTo("Step 1");
+    assertThat(step1.getTotalDuration()).isEqualTo(100L);
+    assertThat(step1.getProcessedItems()).isEqualTo(0L);
+    ComputationStatistics.StepAggregate step2 = statistics.getSteps().get(1);
+    assertThat(step2.getDescription()).isEqualTo("Step 2");
+    assertThat(step2.getTotalDuration()).isEqualTo(300L);
+    assertThat(step2.getProcessedItems()).isEqualTo(42L);
+
+    // statistics are saved with activity
+    ArgumentCaptor<Activity> activity = ArgumentCaptor.forClass(Activity.class);
+    verify(activityService).save(activity.capture());
+    assertThat(activity.getValue().getData()).containsEntry("queueWaitTime", "500");
+    assertThat(activity.getValue().getData()).containsEntry("executionTime", "600");
+    assertThat(activity.getValue().getData()).containsEntry("stepDurations", "Step 1=100;Step 2=300");
+    assertThat(activity.getValue().getData()).containsEntry("stepProcessedItems", "Step 1=0;Step 2=42");
+  }
+
   @Test
   public void debug_logs() throws Exception {
     logTester.setLevel(LoggerLevel.DEBUG);
@@ -138,7 +184,15 @@ public class ComputationServiceTest {
   @Test
   public void step_error() throws Exception {
     when(steps.orderedSteps()).thenReturn(Arrays.asList(projectStep1));
-    doThrow(new IllegalStateException("pb")).when(projectStep1).execute(any(ComputationContext.class));
+    when(projectStep1.getDescription()).thenReturn("Step 1");
+    doAnswer(new Answer<Void>() {
+      @Override
+      public Void answer(InvocationOnMock invocation) {
+        ComputationContext context = (ComputationContext) invocation.getArguments()[0];
+        context.addProcessedItems(3);
+        throw new IllegalStateException("pb");
+      }
+    }).when(projectStep1).execute(any(ComputationContext.class));
 
     AnalysisReportDto dto = AnalysisReportDto.newForTests(1L).setProjectKey("P1").setUuid("U1");
     File zip = generateZip();
@@ -150,6 +204,12 @@ public class ComputationServiceTest {
       assertThat(e.getMessage()).isEqualTo("pb");
       assertThat(dto.getStatus()).isEqualTo(AnalysisReportDto.Status.FAILED);
       assertThat(dto.getFinishedAt()).isNotNull();
+
+      // statistics of the failed step are kept and logged
+      assertThat(statistics.getSteps()).hasSize(1);
+      assertThat(statistics.getSteps().get(0).getProcessedItems()).isEqualTo(3L);
+      assertThat(logTester.logs(LoggerLevel.ERROR)).hasSize(1);
+      assertThat(logTester.logs(LoggerLevel.ERROR).get(0)).startsWith("Step 'Step 1' failed | time=").contains("processedItems=3");
     }
   }
 
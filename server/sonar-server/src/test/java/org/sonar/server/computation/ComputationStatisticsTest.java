@@ -0,0 +1,81 @@
+/*
+ * SonarQube, open source software quality management tool.
+ * Copyright (C) 2008-2014 SonarSource
+ * mailto:contact AT sonarsource DOT com
+ *
+ * SonarQube is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SonarQube is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.server.computation;
+
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ComputationStatisticsTest {
+
+  ComputationStatistics sut = new ComputationStatistics();
+
+  @Test
+  public void no_reports() throws Exception {
+    assertThat(sut.getReports()).isEqualTo(0L);
+    assertThat(sut.getAverageQueueWaitTime()).isEqualTo(0L);
+    assertThat(sut.getAverageExecutionTime()).isEqualTo(0L);
+    assertThat(sut.getSteps()).isEmpty();
+    assertThat(sut.getSlowestReports()).isEmpty();
+  }
+
+  @Test
+  public void aggregate_reports() throws Exception {
+    sut.add(new ReportStatistics(1L, "P1", 100L).setExecutionTime(1000L)
+      .addStep(new ReportStatistics.Step("Parse", 400L, 10L, 2048L))
+      .addStep(new ReportStatistics.Step("Index", 600L, 0L, 0L)));
+    sut.add(new ReportStatistics(2L, "P2", 300L).setExecutionTime(3000L)
+      .addStep(new ReportStatistics.Step("Parse", 2000L, 30L, 4096L))
+      .addStep(new ReportStatistics.Step("Index", 1000L, 0L, 0L)));
+
+    assertThat(sut.getReports()).isEqualTo(2L);
+    assertThat(sut.getAverageQueueWaitTime()).isEqualTo(200L);
+    assertThat(sut.getMaxQueueWaitTime()).isEqualTo(300L);
+    assertThat(sut.getAverageExecutionTime()).isEqualTo(2000L);
+
+    assertThat(sut.getSteps()).hasSize(2);
+    ComputationStatistics.StepAggregate parse = sut.getSteps().get(0);
+    assertThat(parse.getDescription()).isEqualTo("Parse");
+    assertThat(parse.getExecutions()).isEqualTo(2L);
+    assertThat(parse.getTotalDuration()).isEqualTo(2400L);
+    assertThat(parse.getAverageDuration()).isEqualTo(1200L);
+    assertThat(parse.getMaxDuration()).isEqualTo(2000L);
+    assertThat(parse.getProcessedItems()).isEqualTo(40L);
+    assertThat(parse.getReadBytes()).isEqualTo(6144L);
+    assertThat(sut.getSteps().get(1).getDescription()).isEqualTo("Index");
+
+    // slowest first
+    assertThat(sut.getSlowestReports()).hasSize(2);
+    assertThat(sut.getSlowestReports().get(0).getProjectKey()).isEqualTo("P2");
+    assertThat(sut.getSlowestReports().get(1).getProjectKey()).isEqualTo("P1");
+  }
+
+  @Test
+  public void keep_only_slowest_reports() throws Exception {
+    for (int i = 0; i < ComputationStatistics.MAX_SLOWEST_REPORTS + 5; i++) {
+      sut.add(new ReportStatistics(i, "P" + i, 0L).setExecutionTime(i));
+    }
+
+    assertThat(sut.getReports()).isEqualTo(ComputationStatistics.MAX_SLOWEST_REPORTS + 5);
+    assertThat(sut.getSlowestReports()).hasSize(ComputationStatistics.MAX_SLOWEST_REPORTS);
+    assertThat(sut.getSlowestReports().get(0).getExecutionTime()).isEqualTo(ComputationStatistics.MAX_SLOWEST_REPORTS + 4);
+    assertThat(sut.getSlowestReports().get(ComputationStatistics.MAX_SLOWEST_REPORTS - 1).getExecutionTime()).isEqualTo(5L);
+  }
+}
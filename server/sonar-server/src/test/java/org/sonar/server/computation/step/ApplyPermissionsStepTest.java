@@ -20,11 +20,15 @@
 package org.sonar.server.computation.step;
 
 import org.junit.Test;
+import org.sonar.core.component.ComponentDto;
 import org.sonar.server.computation.ComputationContext;
 import org.sonar.server.issue.index.IssueAuthorizationIndexer;
 
+import java.util.Arrays;
+
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 public class ApplyPermissionsStepTest extends BaseStepTest {
 
@@ -33,8 +37,12 @@ public class ApplyPermissionsStepTest extends BaseStepTest {
 
   @Test
   public void index_issue_permissions() throws Exception {
-    step.execute(mock(ComputationContext.class));
-    verify(indexer).index();
+    ComputationContext context = mock(ComputationContext.class);
+    when(context.getProject()).thenReturn(new ComponentDto().setUuid("ABCD"));
+
+    step.execute(context);
+
+    verify(indexer).indexProjects(Arrays.asList("ABCD"));
   }
 
   @Override
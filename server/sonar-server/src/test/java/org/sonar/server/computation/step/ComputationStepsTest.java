@@ -35,6 +35,7 @@ public class ComputationStepsTest {
       mock(ApplyPermissionsStep.class),
       mock(ParseReportStep.class),
       mock(IndexSourceLinesStep.class),
+      mock(IndexTestsStep.class),
       mock(IndexViewsStep.class),
       mock(PurgeRemovedViewsStep.class),
       mock(PersistIssuesStep.class),
@@ -45,9 +46,9 @@ public class ComputationStepsTest {
       mock(IndexComponentsStep.class),
       mock(PersistComponentLinksStep.class));
 
-    assertThat(registry.orderedSteps()).hasSize(12);
+    assertThat(registry.orderedSteps()).hasSize(13);
     assertThat(registry.orderedSteps().get(0)).isInstanceOf(ParseReportStep.class);
-    assertThat(registry.orderedSteps().get(11)).isInstanceOf(SendIssueNotificationsStep.class);
+    assertThat(registry.orderedSteps().get(12)).isInstanceOf(SendIssueNotificationsStep.class);
   }
 
   @Test
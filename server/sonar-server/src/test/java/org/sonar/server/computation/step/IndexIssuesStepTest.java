@@ -22,7 +22,6 @@ package org.sonar.server.computation.step;
 
 import org.junit.Test;
 import org.sonar.server.computation.ComputationContext;
-import org.sonar.server.issue.index.IssueAuthorizationIndexer;
 import org.sonar.server.issue.index.IssueIndexer;
 
 import static org.mockito.Mockito.mock;
@@ -33,14 +32,12 @@ public class IndexIssuesStepTest {
   IndexIssuesStep sut;
 
   @Test
-  public void call_indexers() throws Exception {
-    IssueAuthorizationIndexer authorizationIndexer = mock(IssueAuthorizationIndexer.class);
+  public void index_issues() throws Exception {
     IssueIndexer issueIndexer = mock(IssueIndexer.class);
-    sut = new IndexIssuesStep(authorizationIndexer, issueIndexer);
+    sut = new IndexIssuesStep(issueIndexer);
 
     sut.execute(mock(ComputationContext.class));
 
-    verify(authorizationIndexer).index();
     verify(issueIndexer).index();
   }
 }
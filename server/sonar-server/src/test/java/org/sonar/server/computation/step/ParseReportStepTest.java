@@ -77,6 +77,9 @@ public class ParseReportStepTest extends BaseStepTest {
     verify(issueComputation).processComponentIssues(context, "FILE2_UUID", Collections.<BatchReport.Issue>emptyList());
     verify(issueComputation).processComponentIssues(context, "DELETED_UUID", ISSUES_ON_DELETED_COMPONENT);
     verify(issueComputation).afterReportProcessing();
+
+    // one issue processed on deleted component
+    assertThat(context.getProcessedItems()).isEqualTo(1L);
   }
 
   private File generateReport() throws IOException {
@@ -40,6 +40,7 @@ import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class PurgeRemovedViewsStepTest extends BaseStepTest {
@@ -87,6 +88,7 @@ public class PurgeRemovedViewsStepTest extends BaseStepTest {
 
     List<String> viewUuids = esTester.getDocumentFieldValues(ViewIndexDefinition.INDEX, ViewIndexDefinition.TYPE_VIEW, ViewIndexDefinition.FIELD_UUID);
     assertThat(viewUuids).containsOnly("ABCD", "BCDE");
+    verify(context).addProcessedItems(1);
   }
 
   @Test
@@ -0,0 +1,65 @@
+/*
+ * SonarQube, open source software quality management tool.
+ * Copyright (C) 2008-2014 SonarSource
+ * mailto:contact AT sonarsource DOT com
+ *
+ * SonarQube is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SonarQube is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.server.computation.ws;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.sonar.core.permission.GlobalPermissions;
+import org.sonar.server.computation.ComputationStatistics;
+import org.sonar.server.computation.ReportStatistics;
+import org.sonar.server.exceptions.ForbiddenException;
+import org.sonar.server.user.MockUserSession;
+import org.sonar.server.ws.WsTester;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class StatisticsWsActionTest {
+
+  ComputationStatistics statistics = new ComputationStatistics();
+  WsTester tester;
+
+  @Before
+  public void setUp() throws Exception {
+    tester = new WsTester(new ComputationWebService(new StatisticsWsAction(statistics)));
+  }
+
+  @Test
+  public void define() throws Exception {
+    assertThat(tester.controller(ComputationWebService.API_ENDPOINT).action("statistics")).isNotNull();
+  }
+
+  @Test
+  public void statistics() throws Exception {
+    MockUserSession.set().setGlobalPermissions(GlobalPermissions.SYSTEM_ADMIN);
+    statistics.add(new ReportStatistics(1L, "P1", 100L).setExecutionTime(1000L)
+      .addStep(new ReportStatistics.Step("Parse", 400L, 10L, 2048L))
+      .addStep(new ReportStatistics.Step("Index", 600L, 0L, 0L)));
+
+    WsTester.TestRequest request = tester.newGetRequest(ComputationWebService.API_ENDPOINT, "statistics");
+    request.execute().assertJson(getClass(), "statistics.json");
+  }
+
+  @Test(expected = ForbiddenException.class)
+  public void requires_admin_permission() throws Exception {
+    MockUserSession.set().setGlobalPermissions(GlobalPermissions.DASHBOARD_SHARING);
+
+    tester.newGetRequest(ComputationWebService.API_ENDPOINT, "statistics").execute();
+  }
+}
@@ -383,6 +383,129 @@ public class BaseDataChangeTest extends AbstractDaoTestCase {
     }.execute();
   }
 
+  @Test
+  public void mass_update_by_id_ranges() throws Exception {
+    db.prepareDbUnit(getClass(), "persons.xml");
+
+    new BaseDataChange(db.database()) {
+      @Override
+      public void execute(Context context) throws SQLException {
+        MassUpdate massUpdate = context.prepareMassUpdate();
+        massUpdate.select("select id from persons where id>=? and id<?");
+        massUpdate.update("update persons set login=?, age=? where id=?");
+        massUpdate.partitionByIds("select min(id), max(id) from persons where id>=2", 1L).workers(2).commitInterval(1);
+        massUpdate.execute(new MassUpdate.Handler() {
+          @Override
+          public boolean handle(Select.Row row, SqlStatement update) throws SQLException {
+            long id = row.getNullableLong(1);
+            update
+              .setString(1, "login" + id)
+              .setInt(2, 10 + (int) id)
+              .setLong(3, id);
+            return true;
+          }
+        });
+      }
+    }.execute();
+
+    db.assertDbUnit(getClass(), "mass-update-result.xml", "persons");
+  }
+
+  @Test
+  public void mass_update_by_id_ranges_when_no_rows() throws Exception {
+    db.prepareDbUnit(getClass(), "persons.xml");
+
+    new BaseDataChange(db.database()) {
+      @Override
+      public void execute(Context context) throws SQLException {
+        MassUpdate massUpdate = context.prepareMassUpdate();
+        massUpdate.select("select id from persons where id>=? and id<?");
+        massUpdate.update("update persons set login=?, age=? where id=?");
+        massUpdate.partitionByIds("select min(id), max(id) from persons where id>100", 10L).workers(2);
+        massUpdate.execute(new MassUpdate.Handler() {
+          @Override
+          public boolean handle(Select.Row row, SqlStatement update) throws SQLException {
+            throw new IllegalStateException("No rows must be processed");
+          }
+        });
+      }
+    }.execute();
+
+    db.assertDbUnit(getClass(), "persons.xml", "persons");
+  }
+
+  @Test
+  public void display_current_row_details_if_error_during_mass_update_by_id_ranges() throws Exception {
+    db.prepareDbUnit(getClass(), "persons.xml");
+
+    thrown.expect(IllegalStateException.class);
+    thrown.expectMessage("Error during processing of row: [id=2]");
+
+    new BaseDataChange(db.database()) {
+      @Override
+      public void execute(Context context) throws SQLException {
+        MassUpdate massUpdate = context.prepareMassUpdate();
+        massUpdate.select("select id from persons where id>=? and id<?");
+        massUpdate.update("update persons set login=?, age=? where id=?");
+        massUpdate.partitionByIds("select min(id), max(id) from persons where id=2", 10L).workers(2);
+        massUpdate.execute(new MassUpdate.Handler() {
+          @Override
+          public boolean handle(Select.Row row, SqlStatement update) throws SQLException {
+            throw new IllegalStateException("Unexpected error");
+          }
+        });
+      }
+    }.execute();
+  }
+
+  @Test
+  public void fail_if_parameters_of_select_are_set_when_partitioned_by_ids() throws Exception {
+    db.prepareDbUnit(getClass(), "persons.xml");
+
+    thrown.expect(IllegalStateException.class);
+    thrown.expectMessage("Parameters of SELECT request must not be set when rows are partitioned by ids");
+
+    new BaseDataChange(db.database()) {
+      @Override
+      public void execute(Context context) throws SQLException {
+        MassUpdate massUpdate = context.prepareMassUpdate();
+        massUpdate.select("select id from persons where id>=? and id<? and age>?").setInt(3, 10);
+        massUpdate.update("update persons set login=?, age=? where id=?");
+        massUpdate.partitionByIds("select min(id), max(id) from persons", 10L).workers(2);
+        massUpdate.execute(new MassUpdate.Handler() {
+          @Override
+          public boolean handle(Select.Row row, SqlStatement update) throws SQLException {
+            return false;
+          }
+        });
+      }
+    }.execute();
+  }
+
+  @Test
+  public void fail_if_several_workers_without_id_ranges() throws Exception {
+    db.prepareDbUnit(getClass(), "persons.xml");
+
+    thrown.expect(IllegalStateException.class);
+    thrown.expectMessage("Rows must be partitioned by ids to be processed by several workers");
+
+    new BaseDataChange(db.database()) {
+      @Override
+      public void execute(Context context) throws SQLException {
+        MassUpdate massUpdate = context.prepareMassUpdate();
+        massUpdate.select("select id from persons");
+        massUpdate.update("update persons set login=?, age=? where id=?");
+        massUpdate.workers(2);
+        massUpdate.execute(new MassUpdate.Handler() {
+          @Override
+          public boolean handle(Select.Row row, SqlStatement update) throws SQLException {
+            return false;
+          }
+        });
+      }
+    }.execute();
+  }
+
   @Test
   public void mass_update_nothing() throws Exception {
     db.prepareDbUnit(getClass(), "persons.xml");
@@ -38,8 +38,11 @@ import java.util.Collections;
 import java.util.List;
 
 import static com.google.common.collect.Lists.newArrayList;
+import static com.google.common.collect.Sets.newHashSet;
+import static org.mockito.Matchers.anyCollectionOf;
 import static org.mockito.Matchers.anyString;
 import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -75,10 +78,9 @@ public class DuplicationsJsonWriterTest {
     String key2 = "org.codehaus.sonar:sonar-ws-client:src/main/java/org/sonar/wsclient/services/PropertyUpdateQuery.java";
     ComponentDto file2 = ComponentTesting.newFileDto(project).setId(11L).setQualifier("FIL").setKey(key2).setLongName("PropertyUpdateQuery").setParentProjectId(5L);
 
-    when(componentDao.getNullableByKey(session, key1)).thenReturn(file1);
-    when(componentDao.getNullableByKey(session, key2)).thenReturn(file2);
-    when(componentDao.getNullableById(5L, session)).thenReturn(new ComponentDto().setId(5L).setKey("org.codehaus.sonar:sonar-ws-client").setLongName("SonarQube :: Web Service Client"));
-    when(componentDao.getNullableByUuid(session, project.uuid())).thenReturn(project);
+    when(componentDao.getByIds(session, newHashSet(5L))).thenReturn(
+      newArrayList(new ComponentDto().setId(5L).setKey("org.codehaus.sonar:sonar-ws-client").setLongName("SonarQube :: Web Service Client")));
+    when(componentDao.getByUuids(session, newHashSet(project.uuid()))).thenReturn(newArrayList(project));
 
     List<DuplicationsParser.Block> blocks = newArrayList();
     blocks.add(new DuplicationsParser.Block(newArrayList(
@@ -121,10 +123,10 @@ public class DuplicationsJsonWriterTest {
         "}"
     );
 
-    verify(componentDao, times(2)).getNullableByKey(eq(session), anyString());
-    // Verify call to dao is cached when searching for project / sub project
-    verify(componentDao, times(1)).getNullableByUuid(eq(session), eq(project.uuid()));
-    verify(componentDao, times(1)).getNullableById(eq(5L), eq(session));
+    // Files are not reloaded, projects and sub projects are loaded in one query each
+    verify(componentDao, never()).getNullableByKey(eq(session), anyString());
+    verify(componentDao, times(1)).getByUuids(eq(session), anyCollectionOf(String.class));
+    verify(componentDao, times(1)).getByIds(eq(session), anyCollectionOf(Long.class));
   }
 
   @Test
@@ -134,9 +136,7 @@ public class DuplicationsJsonWriterTest {
     String key2 = "org.codehaus.sonar:sonar-ws-client:src/main/java/org/sonar/wsclient/services/PropertyUpdateQuery.java";
     ComponentDto file2 = ComponentTesting.newFileDto(project).setId(11L).setKey(key2).setLongName("PropertyUpdateQuery");
 
-    when(componentDao.getNullableByKey(session, key1)).thenReturn(file1);
-    when(componentDao.getNullableByKey(session, key2)).thenReturn(file2);
-    when(componentDao.getNullableByUuid(session, project.uuid())).thenReturn(project);
+    when(componentDao.getByUuids(session, newHashSet(project.uuid()))).thenReturn(newArrayList(project));
 
     List<DuplicationsParser.Block> blocks = newArrayList();
     blocks.add(new DuplicationsParser.Block(newArrayList(
@@ -181,8 +181,7 @@ public class DuplicationsJsonWriterTest {
     String key1 = "org.codehaus.sonar:sonar-ws-client:src/main/java/org/sonar/wsclient/services/PropertyDeleteQuery.java";
     ComponentDto file1 = ComponentTesting.newFileDto(project).setId(10L).setKey(key1).setLongName("PropertyDeleteQuery");
 
-    when(componentDao.getNullableByKey(session, key1)).thenReturn(file1);
-    when(componentDao.getNullableByUuid(session, project.uuid())).thenReturn(project);
+    when(componentDao.getByUuids(session, newHashSet(project.uuid()))).thenReturn(newArrayList(project));
 
     List<DuplicationsParser.Block> blocks = newArrayList();
 
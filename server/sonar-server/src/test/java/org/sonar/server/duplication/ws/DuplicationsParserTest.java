@@ -41,7 +41,12 @@ import java.io.File;
 import java.io.IOException;
 import java.util.List;
 
+import static com.google.common.collect.Lists.newArrayList;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.anyCollectionOf;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -75,17 +80,16 @@ public class DuplicationsParserTest {
     // Current file
     String key1 = "org.codehaus.sonar:sonar-plugin-api:src/main/java/org/sonar/api/utils/command/CommandExecutor.java";
     currentFile = ComponentTesting.newFileDto(project1).setId(10L).setKey(key1).setLongName("CommandExecutor");
-    when(componentDao.getNullableByKey(session, key1)).thenReturn(currentFile);
 
     // File on same project
     String key2 = "org.codehaus.sonar:sonar-plugin-api:src/main/java/com/sonar/orchestrator/util/CommandExecutor.java";
     fileOnSameProject = ComponentTesting.newFileDto(project1).setId(11L).setKey(key2).setLongName("CommandExecutor");
-    when(componentDao.getNullableByKey(session, key2)).thenReturn(fileOnSameProject);
 
     // File on different project
     String key3 = "com.sonarsource.orchestrator:sonar-orchestrator:src/main/java/com/sonar/orchestrator/util/CommandExecutor.java";
     fileOnDifferentProject = ComponentTesting.newFileDto(project2).setId(12L).setKey(key3).setLongName("CommandExecutor");
-    when(componentDao.getNullableByKey(session, key3)).thenReturn(fileOnDifferentProject);
+
+    when(componentDao.getByKeys(eq(session), anyCollectionOf(String.class))).thenReturn(newArrayList(currentFile, fileOnSameProject, fileOnDifferentProject));
 
     parser = new DuplicationsParser(componentDao);
   }
@@ -175,6 +179,9 @@ public class DuplicationsParserTest {
 
     assertThat(blocks.get(1).duplications().get(0).from()).isEqualTo(94);
     assertThat(blocks.get(1).duplications().get(1).from()).isEqualTo(83);
+
+    // Components of all blocks are loaded in one query
+    verify(componentDao, times(1)).getByKeys(eq(session), anyCollectionOf(String.class));
   }
 
   @Test
@@ -22,6 +22,7 @@ package org.sonar.server.es;
 import com.google.common.collect.ImmutableMap;
 import org.elasticsearch.common.settings.Settings;
 import org.junit.Test;
+import org.sonar.process.ProcessConstants;
 
 import java.util.Map;
 
@@ -144,4 +145,52 @@ public class NewIndexTest {
       assertThat(e).hasMessage("Can't mix searchable and non-searchable arguments on field: my_field");
     }
   }
+
+  @Test
+  public void configure_default_shards() throws Exception {
+    NewIndex index = new NewIndex("issues");
+    index.configureShards(new org.sonar.api.config.Settings());
+
+    assertThat(index.getSettings().get("index.number_of_shards")).isEqualTo("1");
+    assertThat(index.getSettings().get("index.number_of_replicas")).isEqualTo("0");
+  }
+
+  @Test
+  public void configure_shards_in_cluster_mode() throws Exception {
+    org.sonar.api.config.Settings settings = new org.sonar.api.config.Settings();
+    settings.setProperty(ProcessConstants.CLUSTER_ACTIVATE, true);
+    NewIndex index = new NewIndex("issues");
+    index.configureShards(settings);
+
+    assertThat(index.getSettings().get("index.number_of_shards")).isEqualTo("4");
+    assertThat(index.getSettings().get("index.number_of_replicas")).isEqualTo("1");
+  }
+
+  @Test
+  public void override_number_of_shards() throws Exception {
+    org.sonar.api.config.Settings settings = new org.sonar.api.config.Settings();
+    settings.setProperty("sonar.search.issues.shards", 8);
+    NewIndex index = new NewIndex("issues");
+    index.configureShards(settings);
+
+    assertThat(index.getSettings().get("index.number_of_shards")).isEqualTo("8");
+    assertThat(index.getSettings().get("index.number_of_replicas")).isEqualTo("0");
+
+    // property is specific to each index
+    index = new NewIndex("sourcelines");
+    index.configureShards(settings);
+    assertThat(index.getSettings().get("index.number_of_shards")).isEqualTo("1");
+  }
+
+  @Test
+  public void fail_if_negative_number_of_shards() throws Exception {
+    org.sonar.api.config.Settings settings = new org.sonar.api.config.Settings();
+    settings.setProperty("sonar.search.issues.shards", -2);
+    try {
+      new NewIndex("issues").configureShards(settings);
+      fail();
+    } catch (IllegalArgumentException e) {
+      assertThat(e).hasMessage("Number of shards of index issues must be positive: -2");
+    }
+  }
 }
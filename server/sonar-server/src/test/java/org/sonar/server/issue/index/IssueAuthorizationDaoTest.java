@@ -21,6 +21,7 @@ package org.sonar.server.issue.index;
 
 import com.google.common.base.Predicate;
 import com.google.common.collect.Iterables;
+import com.google.common.collect.Lists;
 import org.apache.commons.dbutils.DbUtils;
 import org.junit.After;
 import org.junit.Before;
@@ -32,7 +33,9 @@ import org.sonar.server.db.DbClient;
 import org.sonar.test.DbTests;
 
 import java.sql.Connection;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -90,6 +93,34 @@ public class IssueAuthorizationDaoTest {
     assertThat(def.getUsers()).containsOnly("user1", "user2");
   }
 
+  @Test
+  public void select_by_project_uuids() throws Exception {
+    dbTester.prepareDbUnit(getClass(), "shared.xml");
+
+    Collection<IssueAuthorizationDao.Dto> dtos = dao.selectByProjectUuids(client, connection, Arrays.asList("ABC", "UNKNOWN"));
+
+    assertThat(dtos).hasSize(1);
+    IssueAuthorizationDao.Dto abc = Iterables.find(dtos, new ProjectPredicate("ABC"));
+    assertThat(abc.getGroups()).containsOnly("Anyone", "devs");
+    assertThat(abc.getUsers()).containsOnly("user1");
+  }
+
+  @Test
+  public void select_by_large_number_of_project_uuids() throws Exception {
+    dbTester.prepareDbUnit(getClass(), "shared.xml");
+
+    List<String> uuids = Lists.newArrayList();
+    for (int i = 0; i < 1500; i++) {
+      uuids.add("UUID_" + i);
+    }
+    uuids.add("DEF");
+    Collection<IssueAuthorizationDao.Dto> dtos = dao.selectByProjectUuids(client, connection, uuids);
+
+    assertThat(dtos).hasSize(1);
+    IssueAuthorizationDao.Dto def = Iterables.find(dtos, new ProjectPredicate("DEF"));
+    assertThat(def.getUsers()).containsOnly("user1", "user2");
+  }
+
   @Test
   public void no_authorization() throws Exception {
     dbTester.prepareDbUnit(getClass(), "no_authorization.xml");
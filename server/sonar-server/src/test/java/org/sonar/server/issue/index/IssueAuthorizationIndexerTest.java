@@ -79,6 +79,34 @@ public class IssueAuthorizationIndexerTest {
     assertThat(esTester.countDocuments("issues", "issueAuthorization")).isZero();
   }
 
+  @Test
+  public void index_projects() throws Exception {
+    dbTester.prepareDbUnit(getClass(), "index_projects.xml");
+
+    IssueAuthorizationIndexer indexer = createIndexer();
+    indexer.doIndexProjects(Arrays.asList("DEF"));
+
+    List<SearchHit> docs = esTester.getDocuments("issues", "authorization");
+    assertThat(docs).hasSize(1);
+    SearchHit doc = docs.get(0);
+    assertThat(doc.getSource().get("project")).isEqualTo("DEF");
+    assertThat((Collection) doc.getSource().get("users")).containsOnly("user2");
+  }
+
+  @Test
+  public void do_not_index_projects_if_disabled() throws Exception {
+    dbTester.prepareDbUnit(getClass(), "index_projects.xml");
+
+    IssueAuthorizationIndexer indexer = createIndexer();
+    indexer.setEnabled(false);
+    indexer.indexProjects(Arrays.asList("ABC", "DEF"));
+    assertThat(esTester.countDocuments("issues", "authorization")).isZero();
+
+    indexer.setEnabled(true);
+    indexer.indexProjects(Arrays.asList("ABC", "DEF"));
+    assertThat(esTester.countDocuments("issues", "authorization")).isEqualTo(2);
+  }
+
   @Test
   public void do_not_fail_when_deleting_unindexed_project() throws Exception {
     IssueAuthorizationIndexer indexer = createIndexer();
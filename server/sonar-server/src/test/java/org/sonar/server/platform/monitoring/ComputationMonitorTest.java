@@ -0,0 +1,54 @@
+/*
+ * SonarQube, open source software quality management tool.
+ * Copyright (C) 2008-2014 SonarSource
+ * mailto:contact AT sonarsource DOT com
+ *
+ * SonarQube is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SonarQube is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.server.platform.monitoring;
+
+import org.junit.Test;
+import org.sonar.server.computation.ComputationStatistics;
+import org.sonar.server.computation.ReportStatistics;
+
+import java.util.LinkedHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ComputationMonitorTest {
+
+  ComputationStatistics statistics = new ComputationStatistics();
+  ComputationMonitor sut = new ComputationMonitor(statistics);
+
+  @Test
+  public void name() throws Exception {
+    assertThat(sut.name()).isEqualTo("ComputeEngine");
+  }
+
+  @Test
+  public void attributes() throws Exception {
+    statistics.add(new ReportStatistics(1L, "P1", 100L).setExecutionTime(1000L)
+      .addStep(new ReportStatistics.Step("Parse", 400L, 10L, 2048L)));
+
+    assertThat(sut.getProcessedReports()).isEqualTo(1L);
+    assertThat(sut.getAverageQueueWaitMillis()).isEqualTo(100L);
+    assertThat(sut.getMaxQueueWaitMillis()).isEqualTo(100L);
+    assertThat(sut.getAverageExecutionMillis()).isEqualTo(1000L);
+
+    LinkedHashMap<String, Object> attributes = sut.attributes();
+    assertThat(attributes).containsEntry("Processed Reports", 1L);
+    assertThat(attributes).containsEntry("Average Execution of 'Parse' (ms)", 400L);
+  }
+}
@@ -58,4 +58,16 @@ public class SourceLineIndexDefinitionTest {
     assertThat(issuesIndex.getSettings().get("index.number_of_replicas")).isEqualTo("1");
   }
 
+  @Test
+  public void override_number_of_shards() throws Exception {
+    Settings settings = new Settings();
+    settings.setProperty("sonar.search.sourcelines.shards", 6);
+    IndexDefinition def = new SourceLineIndexDefinition(settings);
+    def.define(context);
+
+    NewIndex index = context.getIndices().get("sourcelines");
+    assertThat(index.getSettings().get("index.number_of_shards")).isEqualTo("6");
+    assertThat(index.getSettings().get("index.number_of_replicas")).isEqualTo("0");
+  }
+
 }
@@ -20,42 +20,39 @@
 
 package org.sonar.server.test;
 
+import com.google.common.base.Function;
 import org.junit.Before;
 import org.junit.Test;
-import org.junit.rules.ExpectedException;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
+import org.mockito.invocation.InvocationOnMock;
 import org.mockito.runners.MockitoJUnitRunner;
-import org.sonar.api.measures.CoreMetrics;
-import org.sonar.api.test.MutableTestable;
+import org.mockito.stubbing.Answer;
 import org.sonar.api.web.UserRole;
-import org.sonar.core.component.SnapshotPerspectives;
-import org.sonar.core.measure.db.MeasureKey;
-import org.sonar.core.persistence.DbSession;
-import org.sonar.core.persistence.MyBatis;
-import org.sonar.server.measure.persistence.MeasureDao;
+import org.sonar.core.source.db.FileSourceDao;
+import org.sonar.core.source.db.FileSourceDto;
+import org.sonar.server.source.db.FileSourceDb;
+import org.sonar.server.test.index.TestIndex;
 import org.sonar.server.user.MockUserSession;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
 import java.util.Collections;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.*;
 
 @RunWith(MockitoJUnitRunner.class)
 public class CoverageServiceTest {
 
-  @org.junit.Rule
-  public ExpectedException thrown = ExpectedException.none();
-
-  @Mock
-  DbSession session;
-
   @Mock
-  MeasureDao measureDao;
+  FileSourceDao fileSourceDao;
 
   @Mock
-  SnapshotPerspectives snapshotPerspectives;
+  TestIndex testIndex;
 
   static final String COMPONENT_KEY = "org.sonar.sample:Sample";
 
@@ -63,9 +60,7 @@ public class CoverageServiceTest {
 
   @Before
   public void setUp() throws Exception {
-    MyBatis myBatis = mock(MyBatis.class);
-    when(myBatis.openSession(false)).thenReturn(session);
-    service = new CoverageService(myBatis, measureDao, snapshotPerspectives);
+    service = new CoverageService(fileSourceDao, testIndex);
   }
 
   @Test
@@ -77,63 +72,56 @@ public class CoverageServiceTest {
   }
 
   @Test
-  public void get_hits_data() throws Exception {
-    service.getHits(COMPONENT_KEY, CoverageService.TYPE.UT);
-    verify(measureDao).getNullableByKey(session, MeasureKey.of(COMPONENT_KEY, CoreMetrics.COVERAGE_LINE_HITS_DATA_KEY));
-
-    service.getHits(COMPONENT_KEY, CoverageService.TYPE.IT);
-    verify(measureDao).getNullableByKey(session, MeasureKey.of(COMPONENT_KEY, CoreMetrics.IT_COVERAGE_LINE_HITS_DATA_KEY));
-
-    service.getHits(COMPONENT_KEY, CoverageService.TYPE.OVERALL);
-    verify(measureDao).getNullableByKey(session, MeasureKey.of(COMPONENT_KEY, CoreMetrics.OVERALL_COVERAGE_LINE_HITS_DATA_KEY));
-  }
-
-  @Test
-  public void not_get_hits_data_if_no_data() throws Exception {
-    when(measureDao.getNullableByKey(eq(session), any(MeasureKey.class))).thenReturn(null);
-    assertThat(service.getHits(COMPONENT_KEY, CoverageService.TYPE.UT)).isEqualTo(Collections.emptyMap());
-  }
-
-  @Test
-  public void get_conditions_data() throws Exception {
-    service.getConditions(COMPONENT_KEY, CoverageService.TYPE.UT);
-    verify(measureDao).getNullableByKey(session, MeasureKey.of(COMPONENT_KEY, CoreMetrics.CONDITIONS_BY_LINE_KEY));
-
-    service.getConditions(COMPONENT_KEY, CoverageService.TYPE.IT);
-    verify(measureDao).getNullableByKey(session, MeasureKey.of(COMPONENT_KEY, CoreMetrics.IT_CONDITIONS_BY_LINE_KEY));
-
-    service.getConditions(COMPONENT_KEY, CoverageService.TYPE.OVERALL);
-    verify(measureDao).getNullableByKey(session, MeasureKey.of(COMPONENT_KEY, CoreMetrics.OVERALL_CONDITIONS_BY_LINE_KEY));
+  public void get_coverage_of_all_types_in_a_single_request() throws Exception {
+    final FileSourceDb.Data data = FileSourceDb.Data.newBuilder()
+      .addLines(FileSourceDb.Line.newBuilder().setLine(1).setSource("package foo;"))
+      .addLines(FileSourceDb.Line.newBuilder().setLine(2).setUtLineHits(3).setUtConditions(4).setUtCoveredConditions(2).setOverallLineHits(3))
+      .addLines(FileSourceDb.Line.newBuilder().setLine(3).setItLineHits(0).setOverallLineHits(0))
+      .build();
+    doAnswer(new Answer<Void>() {
+      @Override
+      public Void answer(InvocationOnMock invocation) throws Throwable {
+        Function<InputStream, ?> function = (Function<InputStream, ?>) invocation.getArguments()[1];
+        function.apply(new ByteArrayInputStream(FileSourceDto.encodeData(data)));
+        return null;
+      }
+    }).when(fileSourceDao).readDataStreamByFileKey(eq(COMPONENT_KEY), any(Function.class));
+
+    FileCoverage coverage = service.getCoverage(COMPONENT_KEY);
+
+    verify(fileSourceDao, times(1)).readDataStreamByFileKey(eq(COMPONENT_KEY), any(Function.class));
+    FileCoverage.Lines ut = coverage.lines(CoverageService.TYPE.UT);
+    assertThat(ut.size()).isEqualTo(1);
+    assertThat(ut.line(0)).isEqualTo(2);
+    assertThat(ut.hits(0)).isEqualTo(3);
+    assertThat(ut.conditions(0)).isEqualTo(4);
+    assertThat(ut.coveredConditions(0)).isEqualTo(2);
+    assertThat(coverage.lines(CoverageService.TYPE.IT).size()).isEqualTo(1);
+    assertThat(coverage.lines(CoverageService.TYPE.OVERALL).size()).isEqualTo(2);
   }
 
   @Test
-  public void get_covered_conditions_data() throws Exception {
-    service.getCoveredConditions(COMPONENT_KEY, CoverageService.TYPE.UT);
-    verify(measureDao).getNullableByKey(session, MeasureKey.of(COMPONENT_KEY, CoreMetrics.COVERED_CONDITIONS_BY_LINE_KEY));
-
-    service.getCoveredConditions(COMPONENT_KEY, CoverageService.TYPE.IT);
-    verify(measureDao).getNullableByKey(session, MeasureKey.of(COMPONENT_KEY, CoreMetrics.IT_COVERED_CONDITIONS_BY_LINE_KEY));
+  public void get_empty_coverage_if_no_data() throws Exception {
+    FileCoverage coverage = service.getCoverage(COMPONENT_KEY);
 
-    service.getCoveredConditions(COMPONENT_KEY, CoverageService.TYPE.OVERALL);
-    verify(measureDao).getNullableByKey(session, MeasureKey.of(COMPONENT_KEY, CoreMetrics.OVERALL_COVERED_CONDITIONS_BY_LINE_KEY));
+    assertThat(coverage.lines(CoverageService.TYPE.UT).isEmpty()).isTrue();
+    assertThat(coverage.lines(CoverageService.TYPE.IT).isEmpty()).isTrue();
+    assertThat(coverage.lines(CoverageService.TYPE.OVERALL).isEmpty()).isTrue();
   }
 
   @Test
   public void get_test_cases_by_lines() throws Exception {
-    MutableTestable testable = mock(MutableTestable.class);
-    when(snapshotPerspectives.as(MutableTestable.class, COMPONENT_KEY)).thenReturn(testable);
+    Map<Integer, Integer> testCases = Collections.singletonMap(3, 2);
+    when(testIndex.countTestCasesByLine(COMPONENT_KEY)).thenReturn(testCases);
 
-    service.getTestCases(COMPONENT_KEY, CoverageService.TYPE.UT);
-    verify(testable).testCasesByLines();
-
-    assertThat(service.getTestCases(COMPONENT_KEY, CoverageService.TYPE.IT)).isEmpty();
+    assertThat(service.getTestCases(COMPONENT_KEY, CoverageService.TYPE.UT)).isEqualTo(testCases);
   }
 
   @Test
-  public void not_get_test_cases_by_lines_if_no_testable() throws Exception {
-    when(snapshotPerspectives.as(MutableTestable.class, COMPONENT_KEY)).thenReturn(null);
-
-    assertThat(service.getTestCases(COMPONENT_KEY, CoverageService.TYPE.UT)).isEqualTo(Collections.emptyMap());
+  public void test_cases_are_only_returned_for_unit_tests() throws Exception {
+    assertThat(service.getTestCases(COMPONENT_KEY, CoverageService.TYPE.IT)).isEmpty();
+    assertThat(service.getTestCases(COMPONENT_KEY, CoverageService.TYPE.OVERALL)).isEmpty();
+    verifyZeroInteractions(testIndex);
   }
 
 }
@@ -0,0 +1,74 @@
+/*
+ * SonarQube, open source software quality management tool.
+ * Copyright (C) 2008-2014 SonarSource
+ * mailto:contact AT sonarsource DOT com
+ *
+ * SonarQube is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SonarQube is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.server.test;
+
+import org.junit.Test;
+import org.sonar.server.source.db.FileSourceDb;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class FileCoverageTest {
+
+  @Test
+  public void create_from_file_source_data() throws Exception {
+    FileSourceDb.Data.Builder data = FileSourceDb.Data.newBuilder();
+    data.addLinesBuilder().setLine(1);
+    for (int line = 2; line <= 40; line++) {
+      data.addLinesBuilder().setLine(line).setUtLineHits(line % 2).setItLineHits(1);
+    }
+    data.addLinesBuilder().setLine(41).setUtLineHits(2).setUtConditions(4).setUtCoveredConditions(3)
+      .setOverallLineHits(0).setOverallConditions(4);
+
+    FileCoverage coverage = FileCoverage.create(data.build());
+
+    FileCoverage.Lines ut = coverage.lines(CoverageService.TYPE.UT);
+    assertThat(ut.size()).isEqualTo(40);
+    assertThat(ut.line(0)).isEqualTo(2);
+    assertThat(ut.hits(0)).isEqualTo(0);
+    assertThat(ut.conditions(0)).isNull();
+    assertThat(ut.coveredConditions(0)).isNull();
+    assertThat(ut.line(39)).isEqualTo(41);
+    assertThat(ut.hits(39)).isEqualTo(2);
+    assertThat(ut.conditions(39)).isEqualTo(4);
+    assertThat(ut.coveredConditions(39)).isEqualTo(3);
+
+    assertThat(coverage.lines(CoverageService.TYPE.IT).size()).isEqualTo(39);
+
+    FileCoverage.Lines overall = coverage.lines(CoverageService.TYPE.OVERALL);
+    assertThat(overall.size()).isEqualTo(1);
+    assertThat(overall.line(0)).isEqualTo(41);
+    assertThat(overall.conditions(0)).isEqualTo(4);
+    assertThat(overall.coveredConditions(0)).isNull();
+  }
+
+  @Test
+  public void empty() throws Exception {
+    FileCoverage coverage = FileCoverage.empty();
+
+    for (CoverageService.TYPE type : CoverageService.TYPE.values()) {
+      assertThat(coverage.lines(type).isEmpty()).isTrue();
+    }
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class)
+  public void fail_on_unknown_index() throws Exception {
+    FileCoverage.empty().lines(CoverageService.TYPE.UT).line(0);
+  }
+}
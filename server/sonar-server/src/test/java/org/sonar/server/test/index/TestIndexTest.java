@@ -0,0 +1,131 @@
+/*
+ * SonarQube, open source software quality management tool.
+ * Copyright (C) 2008-2014 SonarSource
+ * mailto:contact AT sonarsource DOT com
+ *
+ * SonarQube is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SonarQube is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.server.test.index;
+
+import com.google.common.collect.Iterators;
+import org.junit.Before;
+import org.junit.ClassRule;
+import org.junit.Test;
+import org.sonar.api.config.Settings;
+import org.sonar.core.component.SnapshotPerspectives;
+import org.sonar.server.db.DbClient;
+import org.sonar.server.es.EsTester;
+
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+import static org.mockito.Mockito.mock;
+
+public class TestIndexTest {
+
+  @ClassRule
+  public static EsTester es = new EsTester().addDefinitions(new TestIndexDefinition(new Settings()));
+
+  TestIndex index;
+
+  @Before
+  public void setUp() {
+    es.truncateIndices();
+    index = new TestIndex(es.client());
+
+    TestResultSetIterator.TestFile barTest = new TestResultSetIterator.TestFile("PROJECT_UUID", "BarTest.java", 1000L);
+    barTest.getTests().add(newTest("BarTest.java", "test_b", "OK")
+      .setCoveredFiles(Arrays.asList(coveredFile("Bar.java", 1, 2, 3), coveredFile("Foo.java", 3))));
+    barTest.getTests().add(newTest("BarTest.java", "test_a", "FAILURE")
+      .setCoveredFiles(Arrays.asList(coveredFile("Bar.java", 3, 4))));
+    TestResultSetIterator.TestFile fooTest = new TestResultSetIterator.TestFile("PROJECT_UUID", "FooTest.java", 1000L);
+    fooTest.getTests().add(newTest("FooTest.java", "test_a", "OK")
+      .setCoveredFiles(Arrays.asList(coveredFile("Foo.java", 3, 10))));
+    new TestIndexer(mock(DbClient.class), mock(SnapshotPerspectives.class), es.client())
+      .index(Iterators.forArray(barTest, fooTest));
+  }
+
+  @Test
+  public void search_by_test_file_key() throws Exception {
+    List<TestDoc> tests = index.searchByTestFileKey("BarTest.java");
+
+    assertThat(tests).hasSize(2);
+    assertThat(tests.get(0).name()).isEqualTo("test_a");
+    assertThat(tests.get(0).status()).isEqualTo("FAILURE");
+    assertThat(tests.get(0).countCoveredLines()).isEqualTo(2);
+    assertThat(tests.get(1).name()).isEqualTo("test_b");
+    assertThat(tests.get(1).countCoveredLines()).isEqualTo(4);
+
+    assertThat(index.searchByTestFileKey("Bar.java")).isEmpty();
+  }
+
+  @Test
+  public void search_by_test_file_key_and_name() throws Exception {
+    List<TestDoc> tests = index.searchByTestFileKeyAndName("BarTest.java", "test_b");
+
+    assertThat(tests).hasSize(1);
+    List<CoveredFileDoc> coveredFiles = tests.get(0).coveredFiles();
+    assertThat(coveredFiles).hasSize(2);
+    assertThat(coveredFiles.get(0).key()).isEqualTo("Bar.java");
+    assertThat(coveredFiles.get(0).longName()).isEqualTo("src/Bar.java");
+    assertThat(coveredFiles.get(0).lines()).containsExactly(1, 2, 3);
+
+    assertThat(index.searchByTestFileKeyAndName("BarTest.java", "unknown")).isEmpty();
+  }
+
+  @Test
+  public void search_by_source_file_key_and_line() throws Exception {
+    List<TestDoc> tests = index.searchBySourceFileKeyAndLine("Foo.java", 3);
+    assertThat(tests).hasSize(2);
+    assertThat(tests.get(0).fileKey()).isEqualTo("FooTest.java");
+    assertThat(tests.get(1).fileKey()).isEqualTo("BarTest.java");
+    assertThat(tests.get(1).name()).isEqualTo("test_b");
+    assertThat(tests.get(1).durationInMs()).isEqualTo(10L);
+
+    // line must be covered in the same file
+    assertThat(index.searchBySourceFileKeyAndLine("Foo.java", 1)).isEmpty();
+    assertThat(index.searchBySourceFileKeyAndLine("Bar.java", 10)).isEmpty();
+  }
+
+  @Test
+  public void count_test_cases_by_line() throws Exception {
+    Map<Integer, Integer> counts = index.countTestCasesByLine("Bar.java");
+    assertThat(counts).hasSize(4);
+    assertThat(counts).contains(entry(1, 1), entry(2, 1), entry(3, 2), entry(4, 1));
+
+    assertThat(index.countTestCasesByLine("Foo.java")).containsOnly(entry(3, 2), entry(10, 1));
+    assertThat(index.countTestCasesByLine("Unknown.java")).isEmpty();
+  }
+
+  private static TestDoc newTest(String fileKey, String name, String status) {
+    return new TestDoc()
+      .setProjectUuid("PROJECT_UUID")
+      .setFileKey(fileKey)
+      .setName(name)
+      .setStatus(status)
+      .setDurationInMs(10L)
+      .setMessage(null)
+      .setStackTrace(null)
+      .setUpdateDate(new Date(1000L));
+  }
+
+  private static CoveredFileDoc coveredFile(String key, Integer... lines) {
+    return new CoveredFileDoc().setKey(key).setLongName("src/" + key).setLines(Arrays.asList(lines));
+  }
+}
@@ -0,0 +1,183 @@
+/*
+ * SonarQube, open source software quality management tool.
+ * Copyright (C) 2008-2014 SonarSource
+ * mailto:contact AT sonarsource DOT com
+ *
+ * SonarQube is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SonarQube is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.server.test.index;
+
+import org.elasticsearch.search.SearchHit;
+import org.junit.Before;
+import org.junit.ClassRule;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.sonar.api.component.mock.MockSourceFile;
+import org.sonar.api.config.Settings;
+import org.sonar.api.test.MutableTestCase;
+import org.sonar.api.test.MutableTestPlan;
+import org.sonar.api.test.MutableTestable;
+import org.sonar.api.test.TestCase;
+import org.sonar.core.component.ComponentVertex;
+import org.sonar.core.component.GraphPerspectiveLoader;
+import org.sonar.core.component.ScanGraph;
+import org.sonar.core.component.SnapshotPerspectives;
+import org.sonar.core.graph.SubGraph;
+import org.sonar.core.graph.binary.BinaryGraphWriter;
+import org.sonar.core.graph.jdbc.GraphDao;
+import org.sonar.core.graph.jdbc.GraphDto;
+import org.sonar.core.graph.jdbc.GraphDtoMapper;
+import org.sonar.core.persistence.DbSession;
+import org.sonar.core.persistence.DbTester;
+import org.sonar.core.test.TestPlanBuilder;
+import org.sonar.core.test.TestPlanPerspectiveLoader;
+import org.sonar.core.test.TestableBuilder;
+import org.sonar.core.test.TestablePerspectiveLoader;
+import org.sonar.server.db.DbClient;
+import org.sonar.server.es.EsTester;
+import org.sonar.test.DbTests;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Category(DbTests.class)
+public class TestIndexerTest {
+
+  @ClassRule
+  public static EsTester es = new EsTester().addDefinitions(new TestIndexDefinition(new Settings()));
+
+  @ClassRule
+  public static DbTester db = new DbTester();
+
+  TestIndexer indexer;
+
+  @Before
+  public void setUp() {
+    es.truncateIndices();
+    db.truncateTables();
+    SnapshotPerspectives perspectives = new SnapshotPerspectives(new GraphDao(db.myBatis()),
+      new GraphPerspectiveLoader[] {new TestPlanPerspectiveLoader(), new TestablePerspectiveLoader()});
+    indexer = new TestIndexer(new DbClient(db.database(), db.myBatis()), perspectives, es.client());
+    indexer.setEnabled(true);
+  }
+
+  @Test
+  public void index_test_plans_of_last_snapshots() throws Exception {
+    db.prepareDbUnit(getClass(), "db.xml");
+    insertTestPlan(11L, "test_ok", "test_ko");
+    // previous analysis
+    insertTestPlan(12L, "test_removed");
+
+    indexer.index();
+
+    List<SearchHit> docs = es.getDocuments(TestIndexDefinition.INDEX, TestIndexDefinition.TYPE);
+    assertThat(docs).hasSize(2);
+    TestDoc test = new TestIndex(es.client()).searchByTestFileKeyAndName("org.foo.BarTest", "test_ko").get(0);
+    assertThat(test.projectUuid()).isEqualTo("PROJECT_UUID");
+    assertThat(test.status()).isEqualTo("ERROR");
+    assertThat(test.durationInMs()).isEqualTo(20L);
+    assertThat(test.message()).isEqualTo("failure");
+    assertThat(test.coveredFiles()).hasSize(1);
+    assertThat(test.coveredFiles().get(0).key()).isEqualTo("org.foo.Bar");
+    assertThat(test.coveredFiles().get(0).longName()).isEqualTo("src/org/foo/Bar.java");
+    assertThat(test.coveredFiles().get(0).lines()).containsExactly(3, 4, 5);
+  }
+
+  @Test
+  public void replace_tests_of_project() throws Exception {
+    db.prepareDbUnit(getClass(), "db.xml");
+    insertTestPlan(11L, "test_ok", "test_ko");
+    indexOldTestFile();
+
+    indexer.index("PROJECT_UUID");
+
+    TestIndex index = new TestIndex(es.client());
+    assertThat(index.searchByTestFileKey("org.foo.OldTest")).isEmpty();
+    assertThat(index.searchByTestFileKey("org.foo.BarTest")).hasSize(2);
+  }
+
+  @Test
+  public void replace_tests_of_reanalyzed_project() throws Exception {
+    db.prepareDbUnit(getClass(), "db.xml");
+    insertTestPlan(11L, "test_ok", "test_ko");
+    indexOldTestFile();
+    // index is not empty, so only the projects with test plans updated after the old test file are indexed
+    indexer.start();
+
+    indexer.index();
+
+    TestIndex index = new TestIndex(es.client());
+    assertThat(index.searchByTestFileKey("org.foo.OldTest")).isEmpty();
+    assertThat(index.searchByTestFileKey("org.foo.BarTest")).hasSize(2);
+  }
+
+  @Test
+  public void delete_project() throws Exception {
+    db.prepareDbUnit(getClass(), "db.xml");
+    insertTestPlan(11L, "test_ok");
+    indexer.index();
+    assertThat(es.countDocuments(TestIndexDefinition.INDEX, TestIndexDefinition.TYPE)).isEqualTo(1);
+
+    indexer.deleteByProject("PROJECT_UUID");
+    es.client().prepareRefresh(TestIndexDefinition.INDEX).get();
+
+    assertThat(es.countDocuments(TestIndexDefinition.INDEX, TestIndexDefinition.TYPE)).isEqualTo(0);
+  }
+
+  private void indexOldTestFile() {
+    TestResultSetIterator.TestFile oldFile = new TestResultSetIterator.TestFile("PROJECT_UUID", "org.foo.OldTest", 1000L);
+    oldFile.getTests().add(new TestDoc().setProjectUuid("PROJECT_UUID").setFileKey("org.foo.OldTest").setName("old")
+      .setCoveredFiles(Arrays.<CoveredFileDoc>asList()).setUpdateDate(new java.util.Date(1000L)));
+    indexer.index(Arrays.asList(oldFile).iterator());
+    es.client().prepareRefresh(TestIndexDefinition.INDEX).get();
+  }
+
+  private void insertTestPlan(long snapshotId, String... testNames) {
+    ScanGraph graph = ScanGraph.create();
+    TestPlanBuilder testPlanBuilder = new TestPlanBuilder(graph, new TestPlanPerspectiveLoader());
+    TestableBuilder testableBuilder = new TestableBuilder(graph, new TestablePerspectiveLoader());
+    ComponentVertex testFile = graph.addComponent(MockSourceFile.createMain("org.foo.BarTest"));
+    ComponentVertex mainFile = graph.addComponent(MockSourceFile.createMain("org.foo.Bar").setLongName("src/org/foo/Bar.java"));
+
+    MutableTestPlan testPlan = testPlanBuilder.create(testFile);
+    MutableTestable testable = testableBuilder.create(mainFile);
+    for (String testName : testNames) {
+      MutableTestCase testCase = testPlan.addTestCase(testName);
+      if (testName.endsWith("_ko")) {
+        testCase.setStatus(TestCase.Status.ERROR).setDurationInMs(20L).setMessage("failure");
+      } else {
+        testCase.setStatus(TestCase.Status.OK).setDurationInMs(10L);
+      }
+      testCase.setCoverageBlock(testable, Arrays.asList(3, 4, 5));
+    }
+
+    DbSession session = db.myBatis().openSession(false);
+    try {
+      session.getMapper(GraphDtoMapper.class).insert(new GraphDto()
+        .setBinaryData(new BinaryGraphWriter().write(SubGraph.extract(testFile.element(), testPlanBuilder.path())))
+        .setFormat(GraphDto.FORMAT_PROTOBUF)
+        .setPerspective("testplan")
+        .setVersion(1)
+        .setResourceId(2L)
+        .setSnapshotId(snapshotId)
+        .setRootVertexId(testFile.element().getId().toString()));
+      session.commit();
+    } finally {
+      session.close();
+    }
+  }
+}
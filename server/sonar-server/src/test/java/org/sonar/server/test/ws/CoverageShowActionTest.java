@@ -26,9 +26,13 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
+import org.sonar.server.source.db.FileSourceDb;
 import org.sonar.server.test.CoverageService;
+import org.sonar.server.test.FileCoverage;
 import org.sonar.server.ws.WsTester;
 
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -47,10 +51,8 @@ public class CoverageShowActionTest {
   @Test
   public void show_coverage_for_unit_test() throws Exception {
     String fileKey = "src/Foo.java";
-    when(coverageService.getHits(fileKey, CoverageService.TYPE.UT)).thenReturn(ImmutableMap.of(1, 1, 2, 1, 3, 0, 4, 1, 5 , 1));
+    when(coverageService.getCoverage(fileKey)).thenReturn(newCoverage(CoverageService.TYPE.UT));
     when(coverageService.getTestCases(fileKey, CoverageService.TYPE.UT)).thenReturn(ImmutableMap.of(4, 8, 1, 2));
-    when(coverageService.getConditions(fileKey, CoverageService.TYPE.UT)).thenReturn(ImmutableMap.of(2, 3, 3, 2));
-    when(coverageService.getCoveredConditions(fileKey, CoverageService.TYPE.UT)).thenReturn(ImmutableMap.of(2, 1, 3, 2));
 
     WsTester.TestRequest request = tester.newGetRequest("api/coverage", "show").setParam("key", fileKey).setParam("type", "UT");
 
@@ -60,10 +62,8 @@ public class CoverageShowActionTest {
   @Test
   public void show_coverage_for_unit_test_with_from_and_to() throws Exception {
     String fileKey = "src/Foo.java";
-    when(coverageService.getHits(fileKey, CoverageService.TYPE.UT)).thenReturn(ImmutableMap.of(1, 1, 2, 1, 3, 0, 4, 1, 5 , 1));
+    when(coverageService.getCoverage(fileKey)).thenReturn(newCoverage(CoverageService.TYPE.UT));
     when(coverageService.getTestCases(fileKey, CoverageService.TYPE.UT)).thenReturn(ImmutableMap.of(4, 8, 1, 2));
-    when(coverageService.getConditions(fileKey, CoverageService.TYPE.UT)).thenReturn(ImmutableMap.of(2, 3, 3, 2));
-    when(coverageService.getCoveredConditions(fileKey, CoverageService.TYPE.UT)).thenReturn(ImmutableMap.of(2, 1, 3, 2));
 
     WsTester.TestRequest request = tester.newGetRequest("api/coverage", "show").setParam("key", fileKey).setParam("from", "3").setParam("to", "4").setParam("type", "UT");
 
@@ -73,9 +73,7 @@ public class CoverageShowActionTest {
   @Test
   public void show_coverage_for_integration_test() throws Exception {
     String fileKey = "src/Foo.java";
-    when(coverageService.getHits(fileKey, CoverageService.TYPE.IT)).thenReturn(ImmutableMap.of(1, 1, 2, 1, 3, 0, 4, 1, 5 , 1));
-    when(coverageService.getConditions(fileKey, CoverageService.TYPE.IT)).thenReturn(ImmutableMap.of(2, 3, 3, 2));
-    when(coverageService.getCoveredConditions(fileKey, CoverageService.TYPE.IT)).thenReturn(ImmutableMap.of(2, 1, 3, 2));
+    when(coverageService.getCoverage(fileKey)).thenReturn(newCoverage(CoverageService.TYPE.IT));
 
     WsTester.TestRequest request = tester.newGetRequest("api/coverage", "show").setParam("key", fileKey).setParam("type", "IT");
 
@@ -85,13 +83,52 @@ public class CoverageShowActionTest {
   @Test
   public void show_coverage_for_overall_test() throws Exception {
     String fileKey = "src/Foo.java";
-    when(coverageService.getHits(fileKey, CoverageService.TYPE.OVERALL)).thenReturn(ImmutableMap.of(1, 1, 2, 1, 3, 0, 4, 1, 5 , 1));
-    when(coverageService.getConditions(fileKey, CoverageService.TYPE.OVERALL)).thenReturn(ImmutableMap.of(2, 3, 3, 2));
-    when(coverageService.getCoveredConditions(fileKey, CoverageService.TYPE.OVERALL)).thenReturn(ImmutableMap.of(2, 1, 3, 2));
+    when(coverageService.getCoverage(fileKey)).thenReturn(newCoverage(CoverageService.TYPE.OVERALL));
 
     WsTester.TestRequest request = tester.newGetRequest("api/coverage", "show").setParam("key", fileKey).setParam("type", "OVERALL");
 
     request.execute().assertJson(getClass(), "show_coverage_for_overall_test.json");
   }
 
+  @Test
+  public void show_no_coverage_if_file_not_covered_by_type_of_tests() throws Exception {
+    String fileKey = "src/Foo.java";
+    when(coverageService.getCoverage(fileKey)).thenReturn(newCoverage(CoverageService.TYPE.UT));
+
+    WsTester.TestRequest request = tester.newGetRequest("api/coverage", "show").setParam("key", fileKey).setParam("type", "IT");
+
+    request.execute().assertJson("{}");
+    verify(coverageService, never()).getTestCases(fileKey, CoverageService.TYPE.IT);
+  }
+
+  private static FileCoverage newCoverage(CoverageService.TYPE type) {
+    FileSourceDb.Data.Builder data = FileSourceDb.Data.newBuilder();
+    int[] hits = {1, 1, 0, 1, 1};
+    for (int line = 1; line <= hits.length; line++) {
+      FileSourceDb.Line.Builder lineBuilder = data.addLinesBuilder().setLine(line);
+      Integer conditions = line == 2 ? Integer.valueOf(3) : (line == 3 ? Integer.valueOf(2) : null);
+      Integer coveredConditions = line == 2 ? Integer.valueOf(1) : (line == 3 ? Integer.valueOf(2) : null);
+      switch (type) {
+        case IT:
+          lineBuilder.setItLineHits(hits[line - 1]);
+          if (conditions != null) {
+            lineBuilder.setItConditions(conditions).setItCoveredConditions(coveredConditions);
+          }
+          break;
+        case OVERALL:
+          lineBuilder.setOverallLineHits(hits[line - 1]);
+          if (conditions != null) {
+            lineBuilder.setOverallConditions(conditions).setOverallCoveredConditions(coveredConditions);
+          }
+          break;
+        default:
+          lineBuilder.setUtLineHits(hits[line - 1]);
+          if (conditions != null) {
+            lineBuilder.setUtConditions(conditions).setUtCoveredConditions(coveredConditions);
+          }
+      }
+    }
+    return FileCoverage.create(data.build());
+  }
+
 }
@@ -25,13 +25,10 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
-import org.sonar.api.test.CoverageBlock;
-import org.sonar.api.test.MutableTestCase;
-import org.sonar.api.test.MutableTestPlan;
-import org.sonar.api.test.Testable;
 import org.sonar.api.web.UserRole;
-import org.sonar.core.component.ComponentDto;
-import org.sonar.core.component.SnapshotPerspectives;
+import org.sonar.server.test.index.CoveredFileDoc;
+import org.sonar.server.test.index.TestDoc;
+import org.sonar.server.test.index.TestIndex;
 import org.sonar.server.user.MockUserSession;
 import org.sonar.server.ws.WsTester;
 
@@ -47,24 +44,22 @@ public class TestsCoveredFilesActionTest {
   static final String TEST_PLAN_KEY = "src/test/java/org/foo/BarTest.java";
 
   @Mock
-  MutableTestPlan testPlan;
+  TestIndex testIndex;
 
   WsTester tester;
 
   @Before
   public void setUp() throws Exception {
-    SnapshotPerspectives snapshotPerspectives = mock(SnapshotPerspectives.class);
-    when(snapshotPerspectives.as(MutableTestPlan.class, TEST_PLAN_KEY)).thenReturn(testPlan);
-    tester = new WsTester(new TestsWs(mock(TestsShowAction.class), mock(TestsTestCasesAction.class), new TestsCoveredFilesAction(snapshotPerspectives)));
+    tester = new WsTester(new TestsWs(mock(TestsShowAction.class), mock(TestsTestCasesAction.class), new TestsCoveredFilesAction(testIndex)));
   }
 
   @Test
   public void plan() throws Exception {
     MockUserSession.set().addComponentPermission(UserRole.CODEVIEWER, "SonarQube", TEST_PLAN_KEY);
 
-    MutableTestCase testCase1 = testCase("org.foo.Bar.java", "src/main/java/org/foo/Bar.java", 10);
-    MutableTestCase testCase2 = testCase("org.foo.File.java", "src/main/java/org/foo/File.java", 3);
-    when(testPlan.testCasesByName("my_test")).thenReturn(newArrayList(testCase1, testCase2));
+    TestDoc testCase1 = testCase("org.foo.Bar.java", "src/main/java/org/foo/Bar.java", 10);
+    TestDoc testCase2 = testCase("org.foo.File.java", "src/main/java/org/foo/File.java", 3);
+    when(testIndex.searchByTestFileKeyAndName(TEST_PLAN_KEY, "my_test")).thenReturn(newArrayList(testCase1, testCase2));
 
     WsTester.TestRequest request = tester.newGetRequest("api/tests", "covered_files").setParam("key", TEST_PLAN_KEY).setParam("test", "my_test");
 
@@ -84,17 +79,18 @@ public class TestsCoveredFilesActionTest {
       "}\n");
   }
 
-  private MutableTestCase testCase(String fileKey, String fileLongName, int coveredLines) {
-    Testable testable = mock(Testable.class);
-    when(testable.component()).thenReturn(new ComponentDto().setKey(fileKey).setLongName(fileLongName));
+  @Test
+  public void no_files_if_test_is_not_found() throws Exception {
+    MockUserSession.set().addComponentPermission(UserRole.CODEVIEWER, "SonarQube", TEST_PLAN_KEY);
 
-    CoverageBlock block = mock(CoverageBlock.class);
-    when(block.testable()).thenReturn(testable);
-    when(block.lines()).thenReturn(Arrays.asList(new Integer[coveredLines]));
+    WsTester.TestRequest request = tester.newGetRequest("api/tests", "covered_files").setParam("key", TEST_PLAN_KEY).setParam("test", "unknown");
+
+    request.execute().assertJson("{}");
+  }
 
-    MutableTestCase testCase = mock(MutableTestCase.class);
-    when(testCase.coverageBlocks()).thenReturn(newArrayList(block));
-    return testCase;
+  private TestDoc testCase(String fileKey, String fileLongName, int coveredLines) {
+    CoveredFileDoc coveredFile = new CoveredFileDoc().setKey(fileKey).setLongName(fileLongName).setLines(Arrays.asList(new Integer[coveredLines]));
+    return new TestDoc().setFileKey(TEST_PLAN_KEY).setName("my_test").setCoveredFiles(newArrayList(coveredFile));
   }
 
 }
@@ -25,21 +25,22 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
-import org.sonar.api.test.MutableTestCase;
-import org.sonar.api.test.MutableTestPlan;
-import org.sonar.api.test.TestCase;
 import org.sonar.api.web.UserRole;
-import org.sonar.core.component.SnapshotPerspectives;
 import org.sonar.core.measure.db.MeasureDto;
 import org.sonar.core.measure.db.MeasureKey;
 import org.sonar.core.persistence.DbSession;
 import org.sonar.server.db.DbClient;
 import org.sonar.server.measure.persistence.MeasureDao;
+import org.sonar.server.test.index.CoveredFileDoc;
+import org.sonar.server.test.index.TestDoc;
+import org.sonar.server.test.index.TestIndex;
 import org.sonar.server.user.MockUserSession;
 import org.sonar.server.ws.WsTester;
 
 import javax.annotation.Nullable;
 
+import java.util.Arrays;
+
 import static com.google.common.collect.Lists.newArrayList;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -56,10 +57,7 @@ public class TestsShowActionTest {
   MeasureDao measureDao;
 
   @Mock
-  MutableTestPlan testPlan;
-
-  @Mock
-  SnapshotPerspectives snapshotPerspectives;
+  TestIndex testIndex;
 
   WsTester tester;
 
@@ -69,23 +67,21 @@ public class TestsShowActionTest {
     when(dbClient.openSession(false)).thenReturn(session);
     when(dbClient.measureDao()).thenReturn(measureDao);
 
-    tester = new WsTester(new TestsWs(new TestsShowAction(dbClient, snapshotPerspectives), mock(TestsTestCasesAction.class), mock(TestsCoveredFilesAction.class)));
+    tester = new WsTester(new TestsWs(new TestsShowAction(dbClient, testIndex), mock(TestsTestCasesAction.class), mock(TestsCoveredFilesAction.class)));
   }
 
   @Test
   public void show() throws Exception {
     MockUserSession.set().addComponentPermission(UserRole.CODEVIEWER, "SonarQube", TEST_PLAN_KEY);
 
-    when(snapshotPerspectives.as(MutableTestPlan.class, TEST_PLAN_KEY)).thenReturn(testPlan);
-
-    MutableTestCase testCase1 = testCase("test1", TestCase.Status.OK, 10L, 32, null, null);
-    MutableTestCase testCase2 = testCase("test2", TestCase.Status.ERROR, 97L, 21, "expected:<true> but was:<false>",
+    TestDoc testCase1 = testCase("test1", "OK", 10L, 32, null, null);
+    TestDoc testCase2 = testCase("test2", "ERROR", 97L, 21, "expected:<true> but was:<false>",
       "java.lang.AssertionError: expected:<true> but was:<false>\n\t" +
         "at org.junit.Assert.fail(Assert.java:91)\n\t" +
         "at org.junit.Assert.failNotEquals(Assert.java:645)\n\t" +
         "at org.junit.Assert.assertEquals(Assert.java:126)\n\t" +
         "at org.junit.Assert.assertEquals(Assert.java:145)\n");
-    when(testPlan.testCases()).thenReturn(newArrayList(testCase1, testCase2));
+    when(testIndex.searchByTestFileKey(TEST_PLAN_KEY)).thenReturn(newArrayList(testCase1, testCase2));
 
     WsTester.TestRequest request = tester.newGetRequest("api/tests", "show").setParam("key", TEST_PLAN_KEY);
 
@@ -131,15 +127,15 @@ public class TestsShowActionTest {
     request.execute().assertJson(getClass(), "show_from_test_data_with_a_time_in_float.json");
   }
 
-  private MutableTestCase testCase(String name, TestCase.Status status, Long durationInMs, int coveredLines, @Nullable String message, @Nullable String stackTrace) {
-    MutableTestCase testCase = mock(MutableTestCase.class);
-    when(testCase.name()).thenReturn(name);
-    when(testCase.status()).thenReturn(status);
-    when(testCase.durationInMs()).thenReturn(durationInMs);
-    when(testCase.countCoveredLines()).thenReturn(coveredLines);
-    when(testCase.message()).thenReturn(message);
-    when(testCase.stackTrace()).thenReturn(stackTrace);
-    return testCase;
+  private TestDoc testCase(String name, String status, Long durationInMs, int coveredLines, @Nullable String message, @Nullable String stackTrace) {
+    return new TestDoc()
+      .setFileKey(TEST_PLAN_KEY)
+      .setName(name)
+      .setStatus(status)
+      .setDurationInMs(durationInMs)
+      .setCoveredFiles(newArrayList(new CoveredFileDoc().setKey("src/main/java/org/foo/Bar.java").setLines(Arrays.asList(new Integer[coveredLines]))))
+      .setMessage(message)
+      .setStackTrace(stackTrace);
   }
 
 }
@@ -26,17 +26,14 @@ import org.junit.runner.RunWith;
 import org.mockito.Matchers;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
-import org.sonar.api.test.MutableTestable;
-import org.sonar.api.test.TestCase;
-import org.sonar.api.test.TestPlan;
 import org.sonar.api.web.UserRole;
 import org.sonar.core.component.ComponentDto;
-import org.sonar.core.component.ComponentVertex;
-import org.sonar.core.component.SnapshotPerspectives;
 import org.sonar.core.persistence.DbSession;
 import org.sonar.server.component.ComponentService;
 import org.sonar.server.component.db.ComponentDao;
 import org.sonar.server.db.DbClient;
+import org.sonar.server.test.index.TestDoc;
+import org.sonar.server.test.index.TestIndex;
 import org.sonar.server.user.MockUserSession;
 import org.sonar.server.ws.WsTester;
 
@@ -80,7 +77,7 @@ public class TestsTestCasesActionTest {
 
 
   @Mock
-  MutableTestable testable;
+  TestIndex testIndex;
 
   @Mock
   ComponentService componentService;
@@ -95,11 +92,9 @@ public class TestsTestCasesActionTest {
 
   @Before
   public void setUp() throws Exception {
-    SnapshotPerspectives snapshotPerspectives = mock(SnapshotPerspectives.class);
-    when(snapshotPerspectives.as(MutableTestable.class, FILE_KEY)).thenReturn(testable);
     when(dbClient.componentDao()).thenReturn(componentDao);
     when(dbClient.openSession(false)).thenReturn(mock(DbSession.class));
-    tester = new WsTester(new TestsWs(mock(TestsShowAction.class), new TestsTestCasesAction(snapshotPerspectives, componentService, dbClient), mock(TestsCoveredFilesAction.class)));
+    tester = new WsTester(new TestsWs(mock(TestsShowAction.class), new TestsTestCasesAction(testIndex, componentService, dbClient), mock(TestsCoveredFilesAction.class)));
   }
 
   @Test
@@ -109,14 +104,14 @@ public class TestsTestCasesActionTest {
     String key1 = "org.foo.BarTest.java";
     String name1 = "src/test/java/org/foo/BarTest.java";
     String uuid1 = "ABCD";
-    TestCase testCase1 = testCase("test1", TestCase.Status.OK, 10L, key1);
+    TestDoc testCase1 = testCase("test1", "OK", 10L, key1);
     ComponentDto component1 = new ComponentDto().setKey(key1).setLongName(name1).setUuid(uuid1);
     String key2 = "org.foo.FileTest.java";
     String name2 = "src/test/java/org/foo/FileTest.java";
     String uuid2 = "BCDE";
-    TestCase testCase2 = testCase("test2", TestCase.Status.ERROR, 97L, key2);
+    TestDoc testCase2 = testCase("test2", "ERROR", 97L, key2);
     ComponentDto component2 = new ComponentDto().setKey(key2).setLongName(name2).setUuid(uuid2);
-    when(testable.testCasesOfLine(10)).thenReturn(newArrayList(testCase1, testCase2));
+    when(testIndex.searchBySourceFileKeyAndLine(FILE_KEY, 10)).thenReturn(newArrayList(testCase1, testCase2));
     when(componentDao.getByKeys(Matchers.isA(DbSession.class), Matchers.anyCollectionOf(String.class))).thenReturn(newArrayList(component1, component2));
 
     WsTester.TestRequest request = tester.newGetRequest("api/tests", "test_cases").setParam("key", FILE_KEY).setParam("line", "10");
@@ -133,14 +128,14 @@ public class TestsTestCasesActionTest {
     String key1 = "org.foo.BarTest.java";
     String name1 = "src/test/java/org/foo/BarTest.java";
     String uuid1 = "ABCD";
-    TestCase testCase1 = testCase("test1", TestCase.Status.OK, 10L, key1);
+    TestDoc testCase1 = testCase("test1", "OK", 10L, key1);
     ComponentDto component1 = new ComponentDto().setKey(key1).setLongName(name1).setUuid(uuid1);
     String key2 = "org.foo.FileTest.java";
     String name2 = "src/test/java/org/foo/FileTest.java";
     String uuid2 = "BCDE";
-    TestCase testCase2 = testCase("test2", TestCase.Status.ERROR, 97L, key2);
+    TestDoc testCase2 = testCase("test2", "ERROR", 97L, key2);
     ComponentDto component2 = new ComponentDto().setKey(key2).setLongName(name2).setUuid(uuid2);
-    when(testable.testCasesOfLine(10)).thenReturn(newArrayList(testCase1, testCase2));
+    when(testIndex.searchBySourceFileKeyAndLine(FILE_KEY, 10)).thenReturn(newArrayList(testCase1, testCase2));
     when(componentDao.getByKeys(Matchers.isA(DbSession.class), Matchers.anyCollectionOf(String.class))).thenReturn(newArrayList(component1, component2));
 
     WsTester.TestRequest request = tester.newGetRequest("api/tests", "test_cases").setParam("uuid", uuid).setParam("line", "10");
@@ -153,18 +148,21 @@ public class TestsTestCasesActionTest {
     tester.newGetRequest("api/tests", "test_cases").execute();
   }
 
-  private TestCase testCase(String name, TestCase.Status status, Long durationInMs, String testPlanKey) {
-    TestCase testCase = mock(TestCase.class);
-    when(testCase.name()).thenReturn(name);
-    when(testCase.status()).thenReturn(status);
-    when(testCase.durationInMs()).thenReturn(durationInMs);
-
-    TestPlan testPlan = mock(TestPlan.class);
-    ComponentVertex component = mock(ComponentVertex.class);
-    when(component.key()).thenReturn(testPlanKey);
-    when(testPlan.component()).thenReturn(component);
-    when(testCase.testPlan()).thenReturn(testPlan);
-    return testCase;
+  @Test
+  public void no_tests() throws Exception {
+    MockUserSession.set().addComponentPermission(UserRole.CODEVIEWER, "SonarQube", FILE_KEY);
+
+    WsTester.TestRequest request = tester.newGetRequest("api/tests", "test_cases").setParam("key", FILE_KEY).setParam("line", "10");
+
+    request.execute().assertJson("{}");
+  }
+
+  private TestDoc testCase(String name, String status, Long durationInMs, String testPlanKey) {
+    return new TestDoc()
+      .setName(name)
+      .setStatus(status)
+      .setDurationInMs(durationInMs)
+      .setFileKey(testPlanKey);
   }
 
 }
@@ -23,9 +23,9 @@ package org.sonar.server.test.ws;
 import org.junit.Before;
 import org.junit.Test;
 import org.sonar.api.server.ws.WebService;
-import org.sonar.core.component.SnapshotPerspectives;
 import org.sonar.server.component.ComponentService;
 import org.sonar.server.db.DbClient;
+import org.sonar.server.test.index.TestIndex;
 import org.sonar.server.ws.WsTester;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -37,11 +37,11 @@ public class TestsWsTest {
 
   @Before
   public void setUp() throws Exception {
-    SnapshotPerspectives snapshotPerspectives = mock(SnapshotPerspectives.class);
+    TestIndex testIndex = mock(TestIndex.class);
     WsTester tester = new WsTester(new TestsWs(
-      new TestsShowAction(mock(DbClient.class), snapshotPerspectives),
-      new TestsTestCasesAction(snapshotPerspectives, mock(ComponentService.class), mock(DbClient.class)),
-      new TestsCoveredFilesAction(snapshotPerspectives)));
+      new TestsShowAction(mock(DbClient.class), testIndex),
+      new TestsTestCasesAction(testIndex, mock(ComponentService.class), mock(DbClient.class)),
+      new TestsCoveredFilesAction(testIndex)));
     controller = tester.controller("api/tests");
   }
 
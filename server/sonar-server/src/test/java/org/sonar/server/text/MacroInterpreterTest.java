@@ -62,4 +62,20 @@ public class MacroInterpreterTest {
     String result = interpreter.interpret(origin);
     assertThat(result).isEqualTo("See <a href='" + path + "/coding_rules#rule_key=" + ruleKey + "'>my-key1</a> for detail.");
   }
+
+  @Test
+  public void should_replace_many_macros() {
+    String origin = "See {rule:repo:key1} and {rule:repo:key2}.";
+    String result = interpreter.interpret(origin);
+    assertThat(result).isEqualTo("See <a href='" + path + "/coding_rules#rule_key=repo:key1'>key1</a> and <a href='" + path + "/coding_rules#rule_key=repo:key2'>key2</a>.");
+  }
+
+  @Test
+  public void should_interpret_same_text_only_once() {
+    String origin = "See {rule:repo:key} for detail.";
+    String result = interpreter.interpret(origin);
+
+    assertThat(interpreter.interpret(new String(origin))).isSameAs(result);
+    assertThat(interpreter.interpret("See {rule:repo:other} for detail.")).isNotEqualTo(result);
+  }
 }
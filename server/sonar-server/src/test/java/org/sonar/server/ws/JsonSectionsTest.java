@@ -0,0 +1,73 @@
+/*
+ * SonarQube, open source software quality management tool.
+ * Copyright (C) 2008-2014 SonarSource
+ * mailto:contact AT sonarsource DOT com
+ *
+ * SonarQube is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SonarQube is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.server.ws;
+
+import com.google.common.collect.ImmutableList;
+import org.junit.Test;
+import org.sonar.api.utils.text.JsonWriter;
+
+import java.io.StringWriter;
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class JsonSectionsTest {
+
+  static final JsonSections.ElementWriter<String> WRITER = new JsonSections.ElementWriter<String>() {
+    @Override
+    public void write(JsonWriter json, String element) {
+      json.beginObject().prop("key", element).endObject();
+    }
+  };
+
+  @Test
+  public void write_array() throws Exception {
+    StringWriter output = new StringWriter();
+    JsonWriter json = JsonWriter.of(output);
+    json.beginObject();
+    JsonSections.writeArray(json, "items", ImmutableList.of("a", "b"), WRITER);
+    json.endObject().close();
+
+    assertThat(output.toString()).isEqualTo("{\"items\":[{\"key\":\"a\"},{\"key\":\"b\"}]}");
+  }
+
+  @Test
+  public void write_empty_array() throws Exception {
+    StringWriter output = new StringWriter();
+    JsonWriter json = JsonWriter.of(output);
+    json.beginObject();
+    JsonSections.writeArray(json, "items", Collections.<String>emptyIterator(), WRITER);
+    json.endObject().close();
+
+    assertThat(output.toString()).isEqualTo("{\"items\":[]}");
+  }
+
+  @Test
+  public void do_not_write_empty_optional_array() throws Exception {
+    StringWriter output = new StringWriter();
+    JsonWriter json = JsonWriter.of(output);
+    json.beginObject();
+    JsonSections.writeNonEmptyArray(json, "items", Collections.<String>emptyList(), WRITER);
+    JsonSections.writeNonEmptyArray(json, "others", ImmutableList.of("a"), WRITER);
+    json.endObject().close();
+
+    assertThat(output.toString()).isEqualTo("{\"others\":[{\"key\":\"a\"}]}");
+  }
+}
@@ -0,0 +1,138 @@
+/*
+ * SonarQube, open source software quality management tool.
+ * Copyright (C) 2008-2014 SonarSource
+ * mailto:contact AT sonarsource DOT com
+ *
+ * SonarQube is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SonarQube is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.server.ws;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ReferencedEntitiesTest {
+
+  RecordingLoader loader = new RecordingLoader();
+
+  @Test
+  public void load_registered_keys_once() throws Exception {
+    ReferencedEntities<String, String> entities = new ReferencedEntities<>(loader);
+    entities.add("a").add("b").add("a").add(null);
+
+    assertThat(entities.get("a")).isEqualTo("A");
+    assertThat(entities.get("b")).isEqualTo("B");
+    assertThat(Lists.newArrayList(entities)).containsExactly("A", "B");
+    assertThat(loader.calls).hasSize(1);
+    assertThat(loader.calls.get(0)).containsExactly("a", "b");
+  }
+
+  @Test
+  public void load_by_batches() throws Exception {
+    ReferencedEntities<String, String> entities = new ReferencedEntities<>(loader, 2);
+    entities.addAll(ImmutableList.of("a", "b", "c", "d", "e"));
+
+    assertThat(Lists.newArrayList(entities)).containsExactly("A", "B", "C", "D", "E");
+    assertThat(loader.calls).hasSize(3);
+    assertThat(loader.calls.get(2)).containsExactly("e");
+  }
+
+  @Test
+  public void load_only_the_batch_of_requested_entity() throws Exception {
+    ReferencedEntities<String, String> entities = new ReferencedEntities<>(loader, 2);
+    entities.addAll(ImmutableList.of("a", "b", "c", "d"));
+
+    assertThat(entities.get("c")).isEqualTo("C");
+    assertThat(loader.calls).hasSize(1);
+    assertThat(loader.calls.get(0)).containsExactly("c", "a");
+
+    assertThat(entities.get("a")).isEqualTo("A");
+    assertThat(entities.get("d")).isEqualTo("D");
+    assertThat(loader.calls).hasSize(2);
+    assertThat(loader.calls.get(1)).containsExactly("d", "b");
+  }
+
+  @Test
+  public void load_each_key_once() throws Exception {
+    ReferencedEntities<String, String> entities = new ReferencedEntities<>(loader, 2);
+    entities.addAll(ImmutableList.of("a", "b", "c"));
+    assertThat(Lists.newArrayList(entities)).containsExactly("A", "B", "C");
+    assertThat(loader.calls).hasSize(2);
+
+    assertThat(entities.get("a")).isEqualTo("A");
+    assertThat(entities.get("c")).isEqualTo("C");
+    assertThat(entities.get("b")).isEqualTo("B");
+    assertThat(Lists.newArrayList(entities)).containsExactly("A", "B", "C");
+    assertThat(loader.calls).hasSize(2);
+  }
+
+  @Test
+  public void do_not_reload_missing_entities() throws Exception {
+    ReferencedEntities<String, String> entities = new ReferencedEntities<>(loader);
+    entities.add("missing");
+
+    assertThat(entities.get("missing")).isNull();
+    assertThat(entities.get("missing")).isNull();
+    assertThat(Lists.newArrayList(entities.add("missing"))).isEmpty();
+    assertThat(loader.calls).hasSize(1);
+  }
+
+  @Test
+  public void load_keys_registered_after_first_load() throws Exception {
+    ReferencedEntities<String, String> entities = new ReferencedEntities<>(loader);
+    entities.add("a");
+    assertThat(Lists.newArrayList(entities)).containsExactly("A");
+
+    assertThat(entities.get("b")).isEqualTo("B");
+    assertThat(entities.get(null)).isNull();
+    assertThat(loader.calls).hasSize(2);
+    assertThat(loader.calls.get(1)).containsExactly("b");
+  }
+
+  @Test
+  public void do_not_load_if_no_keys() throws Exception {
+    ReferencedEntities<String, String> entities = new ReferencedEntities<>(loader);
+
+    assertThat(Lists.newArrayList(entities)).isEmpty();
+    assertThat(loader.calls).isEmpty();
+  }
+
+  private static class RecordingLoader implements ReferencedEntities.Loader<String, String> {
+    private final List<List<String>> calls = new ArrayList<>();
+
+    @Override
+    public Collection<String> load(List<String> keys) {
+      calls.add(new ArrayList<>(keys));
+      List<String> result = new ArrayList<>();
+      for (String key : keys) {
+        if (!"missing".equals(key)) {
+          result.add(key.toUpperCase());
+        }
+      }
+      return result;
+    }
+
+    @Override
+    public String keyOf(String entity) {
+      return entity.toLowerCase();
+    }
+  }
+}
@@ -4,102 +4,88 @@
 package org.sonar.batch.protocol.input;
 
 public final class BatchInput {
-  private BatchInput() {
-  }
-
+  private BatchInput() {}
   public static void registerAllExtensions(
-    com.google.protobuf.ExtensionRegistry registry) {
+      com.google.protobuf.ExtensionRegistry registry) {
   }
-
   public interface ServerIssueOrBuilder extends
-    // @@protoc_insertion_point(interface_extends:ServerIssue)
-    com.google.protobuf.MessageOrBuilder {
+      // @@protoc_insertion_point(interface_extends:ServerIssue)
+      com.google.protobuf.MessageOrBuilder {
 
     /**
      * <code>optional string key = 1;</code>
      */
     boolean hasKey();
-
     /**
      * <code>optional string key = 1;</code>
      */
     java.lang.String getKey();
-
     /**
      * <code>optional string key = 1;</code>
      */
     com.google.protobuf.ByteString
-      getKeyBytes();
+        getKeyBytes();
 
     /**
      * <code>optional string module_key = 2;</code>
      */
     boolean hasModuleKey();
-
     /**
      * <code>optional string module_key = 2;</code>
      */
     java.lang.String getModuleKey();
-
     /**
      * <code>optional string module_key = 2;</code>
      */
     com.google.protobuf.ByteString
-      getModuleKeyBytes();
+        getModuleKeyBytes();
 
     /**
      * <code>optional string path = 3;</code>
      */
     boolean hasPath();
-
     /**
      * <code>optional string path = 3;</code>
      */
     java.lang.String getPath();
-
     /**
      * <code>optional string path = 3;</code>
      */
     com.google.protobuf.ByteString
-      getPathBytes();
+        getPathBytes();
 
     /**
      * <code>optional string rule_repository = 4;</code>
      */
     boolean hasRuleRepository();
-
     /**
      * <code>optional string rule_repository = 4;</code>
      */
     java.lang.String getRuleRepository();
-
     /**
      * <code>optional string rule_repository = 4;</code>
      */
     com.google.protobuf.ByteString
-      getRuleRepositoryBytes();
+        getRuleRepositoryBytes();
 
     /**
      * <code>optional string rule_key = 5;</code>
      */
     boolean hasRuleKey();
-
     /**
      * <code>optional string rule_key = 5;</code>
      */
     java.lang.String getRuleKey();
-
     /**
      * <code>optional string rule_key = 5;</code>
      */
     com.google.protobuf.ByteString
-      getRuleKeyBytes();
+        getRuleKeyBytes();
 
     /**
      * <code>optional int32 line = 6;</code>
      */
     boolean hasLine();
-
     /**
      * <code>optional int32 line = 6;</code>
      */
@@ -109,23 +95,20 @@ public final class BatchInput {
      * <code>optional string msg = 7;</code>
      */
     boolean hasMsg();
-
     /**
      * <code>optional string msg = 7;</code>
      */
     java.lang.String getMsg();
-
     /**
      * <code>optional string msg = 7;</code>
      */
     com.google.protobuf.ByteString
-      getMsgBytes();
+        getMsgBytes();
 
     /**
      * <code>optional .Severity severity = 8;</code>
      */
     boolean hasSeverity();
-
     /**
      * <code>optional .Severity severity = 8;</code>
      */
@@ -135,7 +118,6 @@ public final class BatchInput {
      * <code>optional bool manual_severity = 9;</code>
      */
     boolean hasManualSeverity();
-
     /**
      * <code>optional bool manual_severity = 9;</code>
      */
@@ -145,71 +127,62 @@ public final class BatchInput {
      * <code>optional string resolution = 10;</code>
      */
     boolean hasResolution();
-
     /**
      * <code>optional string resolution = 10;</code>
      */
     java.lang.String getResolution();
-
     /**
      * <code>optional string resolution = 10;</code>
      */
     com.google.protobuf.ByteString
-      getResolutionBytes();
+        getResolutionBytes();
 
     /**
      * <code>optional string status = 11;</code>
      */
     boolean hasStatus();
-
     /**
      * <code>optional string status = 11;</code>
      */
     java.lang.String getStatus();
-
     /**
      * <code>optional string status = 11;</code>
      */
     com.google.protobuf.ByteString
-      getStatusBytes();
+        getStatusBytes();
 
     /**
      * <code>optional string checksum = 12;</code>
      */
     boolean hasChecksum();
-
     /**
      * <code>optional string checksum = 12;</code>
      */
     java.lang.String getChecksum();
-
     /**
      * <code>optional string checksum = 12;</code>
      */
     com.google.protobuf.ByteString
-      getChecksumBytes();
+        getChecksumBytes();
 
     /**
      * <code>optional string assignee_login = 13;</code>
      */
     boolean hasAssigneeLogin();
-
     /**
      * <code>optional string assignee_login = 13;</code>
      */
     java.lang.String getAssigneeLogin();
-
     /**
      * <code>optional string assignee_login = 13;</code>
      */
     com.google.protobuf.ByteString
-      getAssigneeLoginBytes();
+        getAssigneeLoginBytes();
 
     /**
      * <code>optional int64 creation_date = 14;</code>
      */
     boolean hasCreationDate();
-
     /**
      * <code>optional int64 creation_date = 14;</code>
      */
@@ -219,21 +192,17 @@ public final class BatchInput {
    * Protobuf type {@code ServerIssue}
    */
   public static final class ServerIssue extends
-    com.google.protobuf.GeneratedMessage implements
-    // @@protoc_insertion_point(message_implements:ServerIssue)
-    ServerIssueOrBuilder {
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:ServerIssue)
+      ServerIssueOrBuilder {
     // Use ServerIssue.newBuilder() to construct.
     private ServerIssue(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
       super(builder);
       this.unknownFields = builder.getUnknownFields();
     }
-
-    private ServerIssue(boolean noInit) {
-      this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance();
-    }
+    private ServerIssue(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
 
     private static final ServerIssue defaultInstance;
-
     public static ServerIssue getDefaultInstance() {
       return defaultInstance;
     }
@@ -243,21 +212,19 @@ public final class BatchInput {
     }
 
     private final com.google.protobuf.UnknownFieldSet unknownFields;
-
     @java.lang.Override
     public final com.google.protobuf.UnknownFieldSet
-      getUnknownFields() {
+        getUnknownFields() {
       return this.unknownFields;
     }
-
     private ServerIssue(
-      com.google.protobuf.CodedInputStream input,
-      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-      throws com.google.protobuf.InvalidProtocolBufferException {
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
       initFields();
       int mutable_bitField0_ = 0;
       com.google.protobuf.UnknownFieldSet.Builder unknownFields =
-        com.google.protobuf.UnknownFieldSet.newBuilder();
+          com.google.protobuf.UnknownFieldSet.newBuilder();
       try {
         boolean done = false;
         while (!done) {
@@ -268,7 +235,7 @@ public final class BatchInput {
               break;
             default: {
               if (!parseUnknownField(input, unknownFields,
-                extensionRegistry, tag)) {
+                                     extensionRegistry, tag)) {
                 done = true;
               }
               break;
@@ -365,34 +332,33 @@ public final class BatchInput {
         throw e.setUnfinishedMessage(this);
       } catch (java.io.IOException e) {
         throw new com.google.protobuf.InvalidProtocolBufferException(
-          e.getMessage()).setUnfinishedMessage(this);
+            e.getMessage()).setUnfinishedMessage(this);
       } finally {
         this.unknownFields = unknownFields.build();
         makeExtensionsImmutable();
       }
     }
-
     public static final com.google.protobuf.Descriptors.Descriptor
-      getDescriptor() {
+        getDescriptor() {
       return org.sonar.batch.protocol.input.BatchInput.internal_static_ServerIssue_descriptor;
     }
 
     protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
-      internalGetFieldAccessorTable() {
+        internalGetFieldAccessorTable() {
       return org.sonar.batch.protocol.input.BatchInput.internal_static_ServerIssue_fieldAccessorTable
-        .ensureFieldAccessorsInitialized(
-          org.sonar.batch.protocol.input.BatchInput.ServerIssue.class, org.sonar.batch.protocol.input.BatchInput.ServerIssue.Builder.class);
+          .ensureFieldAccessorsInitialized(
+              org.sonar.batch.protocol.input.BatchInput.ServerIssue.class, org.sonar.batch.protocol.input.BatchInput.ServerIssue.Builder.class);
     }
 
     public static com.google.protobuf.Parser<ServerIssue> PARSER =
-      new com.google.protobuf.AbstractParser<ServerIssue>() {
-        public ServerIssue parsePartialFrom(
+        new com.google.protobuf.AbstractParser<ServerIssue>() {
+      public ServerIssue parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-          return new ServerIssue(input, extensionRegistry);
-        }
-      };
+        return new ServerIssue(input, extensionRegistry);
+      }
+    };
 
     @java.lang.Override
     public com.google.protobuf.Parser<ServerIssue> getParserForType() {
@@ -402,14 +368,12 @@ public final class BatchInput {
     private int bitField0_;
     public static final int KEY_FIELD_NUMBER = 1;
     private java.lang.Object key_;
-
     /**
      * <code>optional string key = 1;</code>
      */
     public boolean hasKey() {
       return ((bitField0_ & 0x00000001) == 0x00000001);
     }
-
     /**
      * <code>optional string key = 1;</code>
      */
@@ -418,8 +382,8 @@ public final class BatchInput {
       if (ref instanceof java.lang.String) {
         return (java.lang.String) ref;
       } else {
-        com.google.protobuf.ByteString bs =
-          (com.google.protobuf.ByteString) ref;
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
         java.lang.String s = bs.toStringUtf8();
         if (bs.isValidUtf8()) {
           key_ = s;
@@ -427,17 +391,16 @@ public final class BatchInput {
         return s;
       }
     }
-
     /**
      * <code>optional string key = 1;</code>
      */
     public com.google.protobuf.ByteString
-      getKeyBytes() {
+        getKeyBytes() {
       java.lang.Object ref = key_;
       if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b =
-          com.google.protobuf.ByteString.copyFromUtf8(
-            (java.lang.String) ref);
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
         key_ = b;
         return b;
       } else {
@@ -447,14 +410,12 @@ public final class BatchInput {
 
     public static final int MODULE_KEY_FIELD_NUMBER = 2;
     private java.lang.Object moduleKey_;
-
     /**
      * <code>optional string module_key = 2;</code>
      */
     public boolean hasModuleKey() {
       return ((bitField0_ & 0x00000002) == 0x00000002);
     }
-
     /**
      * <code>optional string module_key = 2;</code>
      */
@@ -463,8 +424,8 @@ public final class BatchInput {
       if (ref instanceof java.lang.String) {
         return (java.lang.String) ref;
       } else {
-        com.google.protobuf.ByteString bs =
-          (com.google.protobuf.ByteString) ref;
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
         java.lang.String s = bs.toStringUtf8();
         if (bs.isValidUtf8()) {
           moduleKey_ = s;
@@ -472,17 +433,16 @@ public final class BatchInput {
         return s;
       }
     }
-
     /**
      * <code>optional string module_key = 2;</code>
      */
     public com.google.protobuf.ByteString
-      getModuleKeyBytes() {
+        getModuleKeyBytes() {
       java.lang.Object ref = moduleKey_;
       if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b =
-          com.google.protobuf.ByteString.copyFromUtf8(
-            (java.lang.String) ref);
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
         moduleKey_ = b;
         return b;
       } else {
@@ -492,14 +452,12 @@ public final class BatchInput {
 
     public static final int PATH_FIELD_NUMBER = 3;
     private java.lang.Object path_;
-
     /**
      * <code>optional string path = 3;</code>
      */
     public boolean hasPath() {
       return ((bitField0_ & 0x00000004) == 0x00000004);
     }
-
     /**
      * <code>optional string path = 3;</code>
      */
@@ -508,8 +466,8 @@ public final class BatchInput {
       if (ref instanceof java.lang.String) {
         return (java.lang.String) ref;
       } else {
-        com.google.protobuf.ByteString bs =
-          (com.google.protobuf.ByteString) ref;
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
         java.lang.String s = bs.toStringUtf8();
         if (bs.isValidUtf8()) {
           path_ = s;
@@ -517,17 +475,16 @@ public final class BatchInput {
         return s;
       }
     }
-
     /**
      * <code>optional string path = 3;</code>
      */
     public com.google.protobuf.ByteString
-      getPathBytes() {
+        getPathBytes() {
       java.lang.Object ref = path_;
       if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b =
-          com.google.protobuf.ByteString.copyFromUtf8(
-            (java.lang.String) ref);
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
         path_ = b;
         return b;
       } else {
@@ -537,14 +494,12 @@ public final class BatchInput {
 
     public static final int RULE_REPOSITORY_FIELD_NUMBER = 4;
     private java.lang.Object ruleRepository_;
-
     /**
      * <code>optional string rule_repository = 4;</code>
      */
     public boolean hasRuleRepository() {
       return ((bitField0_ & 0x00000008) == 0x00000008);
     }
-
     /**
      * <code>optional string rule_repository = 4;</code>
      */
@@ -553,8 +508,8 @@ public final class BatchInput {
       if (ref instanceof java.lang.String) {
         return (java.lang.String) ref;
       } else {
-        com.google.protobuf.ByteString bs =
-          (com.google.protobuf.ByteString) ref;
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
         java.lang.String s = bs.toStringUtf8();
         if (bs.isValidUtf8()) {
           ruleRepository_ = s;
@@ -562,17 +517,16 @@ public final class BatchInput {
         return s;
       }
     }
-
     /**
      * <code>optional string rule_repository = 4;</code>
      */
     public com.google.protobuf.ByteString
-      getRuleRepositoryBytes() {
+        getRuleRepositoryBytes() {
       java.lang.Object ref = ruleRepository_;
       if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b =
-          com.google.protobuf.ByteString.copyFromUtf8(
-            (java.lang.String) ref);
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
         ruleRepository_ = b;
         return b;
       } else {
@@ -582,14 +536,12 @@ public final class BatchInput {
 
     public static final int RULE_KEY_FIELD_NUMBER = 5;
     private java.lang.Object ruleKey_;
-
     /**
      * <code>optional string rule_key = 5;</code>
      */
     public boolean hasRuleKey() {
       return ((bitField0_ & 0x00000010) == 0x00000010);
     }
-
     /**
      * <code>optional string rule_key = 5;</code>
      */
@@ -598,8 +550,8 @@ public final class BatchInput {
       if (ref instanceof java.lang.String) {
         return (java.lang.String) ref;
       } else {
-        com.google.protobuf.ByteString bs =
-          (com.google.protobuf.ByteString) ref;
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
         java.lang.String s = bs.toStringUtf8();
         if (bs.isValidUtf8()) {
           ruleKey_ = s;
@@ -607,17 +559,16 @@ public final class BatchInput {
         return s;
       }
     }
-
     /**
      * <code>optional string rule_key = 5;</code>
      */
     public com.google.protobuf.ByteString
-      getRuleKeyBytes() {
+        getRuleKeyBytes() {
       java.lang.Object ref = ruleKey_;
       if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b =
-          com.google.protobuf.ByteString.copyFromUtf8(
-            (java.lang.String) ref);
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
         ruleKey_ = b;
         return b;
       } else {
@@ -627,14 +578,12 @@ public final class BatchInput {
 
     public static final int LINE_FIELD_NUMBER = 6;
     private int line_;
-
     /**
      * <code>optional int32 line = 6;</code>
      */
     public boolean hasLine() {
       return ((bitField0_ & 0x00000020) == 0x00000020);
     }
-
     /**
      * <code>optional int32 line = 6;</code>
      */
@@ -644,14 +593,12 @@ public final class BatchInput {
 
     public static final int MSG_FIELD_NUMBER = 7;
     private java.lang.Object msg_;
-
     /**
      * <code>optional string msg = 7;</code>
      */
     public boolean hasMsg() {
       return ((bitField0_ & 0x00000040) == 0x00000040);
     }
-
     /**
      * <code>optional string msg = 7;</code>
      */
@@ -660,8 +607,8 @@ public final class BatchInput {
       if (ref instanceof java.lang.String) {
         return (java.lang.String) ref;
       } else {
-        com.google.protobuf.ByteString bs =
-          (com.google.protobuf.ByteString) ref;
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
         java.lang.String s = bs.toStringUtf8();
         if (bs.isValidUtf8()) {
           msg_ = s;
@@ -669,17 +616,16 @@ public final class BatchInput {
         return s;
       }
     }
-
     /**
      * <code>optional string msg = 7;</code>
      */
     public com.google.protobuf.ByteString
-      getMsgBytes() {
+        getMsgBytes() {
       java.lang.Object ref = msg_;
       if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b =
-          com.google.protobuf.ByteString.copyFromUtf8(
-            (java.lang.String) ref);
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
         msg_ = b;
         return b;
       } else {
@@ -689,14 +635,12 @@ public final class BatchInput {
 
     public static final int SEVERITY_FIELD_NUMBER = 8;
     private org.sonar.batch.protocol.Constants.Severity severity_;
-
     /**
      * <code>optional .Severity severity = 8;</code>
      */
     public boolean hasSeverity() {
       return ((bitField0_ & 0x00000080) == 0x00000080);
     }
-
     /**
      * <code>optional .Severity severity = 8;</code>
      */
@@ -706,14 +650,12 @@ public final class BatchInput {
 
     public static final int MANUAL_SEVERITY_FIELD_NUMBER = 9;
     private boolean manualSeverity_;
-
     /**
      * <code>optional bool manual_severity = 9;</code>
      */
     public boolean hasManualSeverity() {
       return ((bitField0_ & 0x00000100) == 0x00000100);
     }
-
     /**
      * <code>optional bool manual_severity = 9;</code>
      */
@@ -723,14 +665,12 @@ public final class BatchInput {
 
     public static final int RESOLUTION_FIELD_NUMBER = 10;
     private java.lang.Object resolution_;
-
     /**
      * <code>optional string resolution = 10;</code>
      */
     public boolean hasResolution() {
       return ((bitField0_ & 0x00000200) == 0x00000200);
     }
-
     /**
      * <code>optional string resolution = 10;</code>
      */
@@ -739,8 +679,8 @@ public final class BatchInput {
       if (ref instanceof java.lang.String) {
         return (java.lang.String) ref;
       } else {
-        com.google.protobuf.ByteString bs =
-          (com.google.protobuf.ByteString) ref;
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
         java.lang.String s = bs.toStringUtf8();
         if (bs.isValidUtf8()) {
           resolution_ = s;
@@ -748,17 +688,16 @@ public final class BatchInput {
         return s;
       }
     }
-
     /**
      * <code>optional string resolution = 10;</code>
      */
     public com.google.protobuf.ByteString
-      getResolutionBytes() {
+        getResolutionBytes() {
       java.lang.Object ref = resolution_;
       if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b =
-          com.google.protobuf.ByteString.copyFromUtf8(
-            (java.lang.String) ref);
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
         resolution_ = b;
         return b;
       } else {
@@ -768,14 +707,12 @@ public final class BatchInput {
 
     public static final int STATUS_FIELD_NUMBER = 11;
     private java.lang.Object status_;
-
     /**
      * <code>optional string status = 11;</code>
      */
     public boolean hasStatus() {
       return ((bitField0_ & 0x00000400) == 0x00000400);
     }
-
     /**
      * <code>optional string status = 11;</code>
      */
@@ -784,8 +721,8 @@ public final class BatchInput {
       if (ref instanceof java.lang.String) {
         return (java.lang.String) ref;
       } else {
-        com.google.protobuf.ByteString bs =
-          (com.google.protobuf.ByteString) ref;
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
         java.lang.String s = bs.toStringUtf8();
         if (bs.isValidUtf8()) {
           status_ = s;
@@ -793,17 +730,16 @@ public final class BatchInput {
         return s;
       }
     }
-
     /**
      * <code>optional string status = 11;</code>
      */
     public com.google.protobuf.ByteString
-      getStatusBytes() {
+        getStatusBytes() {
       java.lang.Object ref = status_;
       if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b =
-          com.google.protobuf.ByteString.copyFromUtf8(
-            (java.lang.String) ref);
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
         status_ = b;
         return b;
       } else {
@@ -813,14 +749,12 @@ public final class BatchInput {
 
     public static final int CHECKSUM_FIELD_NUMBER = 12;
     private java.lang.Object checksum_;
-
     /**
      * <code>optional string checksum = 12;</code>
      */
     public boolean hasChecksum() {
       return ((bitField0_ & 0x00000800) == 0x00000800);
     }
-
     /**
      * <code>optional string checksum = 12;</code>
      */
@@ -829,8 +763,8 @@ public final class BatchInput {
       if (ref instanceof java.lang.String) {
         return (java.lang.String) ref;
       } else {
-        com.google.protobuf.ByteString bs =
-          (com.google.protobuf.ByteString) ref;
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
         java.lang.String s = bs.toStringUtf8();
         if (bs.isValidUtf8()) {
           checksum_ = s;
@@ -838,17 +772,16 @@ public final class BatchInput {
         return s;
       }
     }
-
     /**
      * <code>optional string checksum = 12;</code>
      */
     public com.google.protobuf.ByteString
-      getChecksumBytes() {
+        getChecksumBytes() {
       java.lang.Object ref = checksum_;
       if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b =
-          com.google.protobuf.ByteString.copyFromUtf8(
-            (java.lang.String) ref);
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
         checksum_ = b;
         return b;
       } else {
@@ -858,14 +791,12 @@ public final class BatchInput {
 
     public static final int ASSIGNEE_LOGIN_FIELD_NUMBER = 13;
     private java.lang.Object assigneeLogin_;
-
     /**
      * <code>optional string assignee_login = 13;</code>
      */
     public boolean hasAssigneeLogin() {
       return ((bitField0_ & 0x00001000) == 0x00001000);
     }
-
     /**
      * <code>optional string assignee_login = 13;</code>
      */
@@ -874,8 +805,8 @@ public final class BatchInput {
       if (ref instanceof java.lang.String) {
         return (java.lang.String) ref;
       } else {
-        com.google.protobuf.ByteString bs =
-          (com.google.protobuf.ByteString) ref;
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
         java.lang.String s = bs.toStringUtf8();
         if (bs.isValidUtf8()) {
           assigneeLogin_ = s;
@@ -883,17 +814,16 @@ public final class BatchInput {
         return s;
       }
     }
-
     /**
      * <code>optional string assignee_login = 13;</code>
      */
     public com.google.protobuf.ByteString
-      getAssigneeLoginBytes() {
+        getAssigneeLoginBytes() {
       java.lang.Object ref = assigneeLogin_;
       if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b =
-          com.google.protobuf.ByteString.copyFromUtf8(
-            (java.lang.String) ref);
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
         assigneeLogin_ = b;
         return b;
       } else {
@@ -903,14 +833,12 @@ public final class BatchInput {
 
     public static final int CREATION_DATE_FIELD_NUMBER = 14;
     private long creationDate_;
-
     /**
      * <code>optional int64 creation_date = 14;</code>
      */
     public boolean hasCreationDate() {
       return ((bitField0_ & 0x00002000) == 0x00002000);
     }
-
     /**
      * <code>optional int64 creation_date = 14;</code>
      */
@@ -934,22 +862,18 @@ public final class BatchInput {
       assigneeLogin_ = "";
       creationDate_ = 0L;
     }
-
     private byte memoizedIsInitialized = -1;
-
     public final boolean isInitialized() {
       byte isInitialized = memoizedIsInitialized;
-      if (isInitialized == 1)
-        return true;
-      if (isInitialized == 0)
-        return false;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
 
       memoizedIsInitialized = 1;
       return true;
     }
 
     public void writeTo(com.google.protobuf.CodedOutputStream output)
-      throws java.io.IOException {
+                        throws java.io.IOException {
       getSerializedSize();
       if (((bitField0_ & 0x00000001) == 0x00000001)) {
         output.writeBytes(1, getKeyBytes());
@@ -997,11 +921,9 @@ public final class BatchInput {
     }
 
     private int memoizedSerializedSize = -1;
-
     public int getSerializedSize() {
       int size = memoizedSerializedSize;
-      if (size != -1)
-        return size;
+      if (size != -1) return size;
 
       size = 0;
       if (((bitField0_ & 0x00000001) == 0x00000001)) {
@@ -1066,115 +988,95 @@ public final class BatchInput {
     }
 
     private static final long serialVersionUID = 0L;
-
     @java.lang.Override
     protected java.lang.Object writeReplace()
-      throws java.io.ObjectStreamException {
+        throws java.io.ObjectStreamException {
       return super.writeReplace();
     }
 
     public static org.sonar.batch.protocol.input.BatchInput.ServerIssue parseFrom(
-      com.google.protobuf.ByteString data)
-      throws com.google.protobuf.InvalidProtocolBufferException {
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-
     public static org.sonar.batch.protocol.input.BatchInput.ServerIssue parseFrom(
-      com.google.protobuf.ByteString data,
-      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-      throws com.google.protobuf.InvalidProtocolBufferException {
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-
     public static org.sonar.batch.protocol.input.BatchInput.ServerIssue parseFrom(byte[] data)
-      throws com.google.protobuf.InvalidProtocolBufferException {
+        throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-
     public static org.sonar.batch.protocol.input.BatchInput.ServerIssue parseFrom(
-      byte[] data,
-      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-      throws com.google.protobuf.InvalidProtocolBufferException {
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-
     public static org.sonar.batch.protocol.input.BatchInput.ServerIssue parseFrom(java.io.InputStream input)
-      throws java.io.IOException {
+        throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-
     public static org.sonar.batch.protocol.input.BatchInput.ServerIssue parseFrom(
-      java.io.InputStream input,
-      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-      throws java.io.IOException {
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
       return PARSER.parseFrom(input, extensionRegistry);
     }
-
     public static org.sonar.batch.protocol.input.BatchInput.ServerIssue parseDelimitedFrom(java.io.InputStream input)
-      throws java.io.IOException {
+        throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input);
     }
-
     public static org.sonar.batch.protocol.input.BatchInput.ServerIssue parseDelimitedFrom(
-      java.io.InputStream input,
-      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-      throws java.io.IOException {
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input, extensionRegistry);
     }
-
     public static org.sonar.batch.protocol.input.BatchInput.ServerIssue parseFrom(
-      com.google.protobuf.CodedInputStream input)
-      throws java.io.IOException {
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-
     public static org.sonar.batch.protocol.input.BatchInput.ServerIssue parseFrom(
-      com.google.protobuf.CodedInputStream input,
-      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-      throws java.io.IOException {
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
       return PARSER.parseFrom(input, extensionRegistry);
     }
 
-    public static Builder newBuilder() {
-      return Builder.create();
-    }
-
-    public Builder newBuilderForType() {
-      return newBuilder();
-    }
-
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
     public static Builder newBuilder(org.sonar.batch.protocol.input.BatchInput.ServerIssue prototype) {
       return newBuilder().mergeFrom(prototype);
     }
-
-    public Builder toBuilder() {
-      return newBuilder(this);
-    }
+    public Builder toBuilder() { return newBuilder(this); }
 
     @java.lang.Override
     protected Builder newBuilderForType(
-      com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
       Builder builder = new Builder(parent);
       return builder;
     }
-
     /**
      * Protobuf type {@code ServerIssue}
      */
     public static final class Builder extends
-      com.google.protobuf.GeneratedMessage.Builder<Builder> implements
-      // @@protoc_insertion_point(builder_implements:ServerIssue)
-      org.sonar.batch.protocol.input.BatchInput.ServerIssueOrBuilder {
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:ServerIssue)
+        org.sonar.batch.protocol.input.BatchInput.ServerIssueOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
-        getDescriptor() {
+          getDescriptor() {
         return org.sonar.batch.protocol.input.BatchInput.internal_static_ServerIssue_descriptor;
       }
 
       protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
-        internalGetFieldAccessorTable() {
+          internalGetFieldAccessorTable() {
         return org.sonar.batch.protocol.input.BatchInput.internal_static_ServerIssue_fieldAccessorTable
-          .ensureFieldAccessorsInitialized(
-            org.sonar.batch.protocol.input.BatchInput.ServerIssue.class, org.sonar.batch.protocol.input.BatchInput.ServerIssue.Builder.class);
+            .ensureFieldAccessorsInitialized(
+                org.sonar.batch.protocol.input.BatchInput.ServerIssue.class, org.sonar.batch.protocol.input.BatchInput.ServerIssue.Builder.class);
       }
 
       // Construct using org.sonar.batch.protocol.input.BatchInput.ServerIssue.newBuilder()
@@ -1183,16 +1085,14 @@ public final class BatchInput {
       }
 
       private Builder(
-        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
         super(parent);
         maybeForceBuilderInitialization();
       }
-
       private void maybeForceBuilderInitialization() {
         if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
         }
       }
-
       private static Builder create() {
         return new Builder();
       }
@@ -1235,7 +1135,7 @@ public final class BatchInput {
       }
 
       public com.google.protobuf.Descriptors.Descriptor
-        getDescriptorForType() {
+          getDescriptorForType() {
         return org.sonar.batch.protocol.input.BatchInput.internal_static_ServerIssue_descriptor;
       }
 
@@ -1318,7 +1218,7 @@ public final class BatchInput {
 
       public Builder mergeFrom(com.google.protobuf.Message other) {
         if (other instanceof org.sonar.batch.protocol.input.BatchInput.ServerIssue) {
-          return mergeFrom((org.sonar.batch.protocol.input.BatchInput.ServerIssue) other);
+          return mergeFrom((org.sonar.batch.protocol.input.BatchInput.ServerIssue)other);
         } else {
           super.mergeFrom(other);
           return this;
@@ -1326,8 +1226,7 @@ public final class BatchInput {
       }
 
       public Builder mergeFrom(org.sonar.batch.protocol.input.BatchInput.ServerIssue other) {
-        if (other == org.sonar.batch.protocol.input.BatchInput.ServerIssue.getDefaultInstance())
-          return this;
+        if (other == org.sonar.batch.protocol.input.BatchInput.ServerIssue.getDefaultInstance()) return this;
         if (other.hasKey()) {
           bitField0_ |= 0x00000001;
           key_ = other.key_;
@@ -1399,9 +1298,9 @@ public final class BatchInput {
       }
 
       public Builder mergeFrom(
-        com.google.protobuf.CodedInputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException {
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
         org.sonar.batch.protocol.input.BatchInput.ServerIssue parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
@@ -1415,18 +1314,15 @@ public final class BatchInput {
         }
         return this;
       }
-
       private int bitField0_;
 
       private java.lang.Object key_ = "";
-
       /**
        * <code>optional string key = 1;</code>
        */
       public boolean hasKey() {
         return ((bitField0_ & 0x00000001) == 0x00000001);
       }
-
       /**
        * <code>optional string key = 1;</code>
        */
@@ -1434,7 +1330,7 @@ public final class BatchInput {
         java.lang.Object ref = key_;
         if (!(ref instanceof java.lang.String)) {
           com.google.protobuf.ByteString bs =
-            (com.google.protobuf.ByteString) ref;
+              (com.google.protobuf.ByteString) ref;
           java.lang.String s = bs.toStringUtf8();
           if (bs.isValidUtf8()) {
             key_ = s;
@@ -1444,38 +1340,35 @@ public final class BatchInput {
           return (java.lang.String) ref;
         }
       }
-
       /**
        * <code>optional string key = 1;</code>
        */
       public com.google.protobuf.ByteString
-        getKeyBytes() {
+          getKeyBytes() {
         java.lang.Object ref = key_;
         if (ref instanceof String) {
-          com.google.protobuf.ByteString b =
-            com.google.protobuf.ByteString.copyFromUtf8(
-              (java.lang.String) ref);
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
           key_ = b;
           return b;
         } else {
           return (com.google.protobuf.ByteString) ref;
         }
       }
-
       /**
        * <code>optional string key = 1;</code>
        */
       public Builder setKey(
-        java.lang.String value) {
+          java.lang.String value) {
         if (value == null) {
-          throw new NullPointerException();
-        }
-        bitField0_ |= 0x00000001;
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
         key_ = value;
         onChanged();
         return this;
       }
-
       /**
        * <code>optional string key = 1;</code>
        */
@@ -1485,30 +1378,27 @@ public final class BatchInput {
         onChanged();
         return this;
       }
-
       /**
        * <code>optional string key = 1;</code>
        */
       public Builder setKeyBytes(
-        com.google.protobuf.ByteString value) {
+          com.google.protobuf.ByteString value) {
         if (value == null) {
-          throw new NullPointerException();
-        }
-        bitField0_ |= 0x00000001;
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
         key_ = value;
         onChanged();
         return this;
       }
 
       private java.lang.Object moduleKey_ = "";
-
       /**
        * <code>optional string module_key = 2;</code>
        */
       public boolean hasModuleKey() {
         return ((bitField0_ & 0x00000002) == 0x00000002);
       }
-
       /**
        * <code>optional string module_key = 2;</code>
        */
@@ -1516,7 +1406,7 @@ public final class BatchInput {
         java.lang.Object ref = moduleKey_;
         if (!(ref instanceof java.lang.String)) {
           com.google.protobuf.ByteString bs =
-            (com.google.protobuf.ByteString) ref;
+              (com.google.protobuf.ByteString) ref;
           java.lang.String s = bs.toStringUtf8();
           if (bs.isValidUtf8()) {
             moduleKey_ = s;
@@ -1526,38 +1416,35 @@ public final class BatchInput {
           return (java.lang.String) ref;
         }
       }
-
       /**
        * <code>optional string module_key = 2;</code>
        */
       public com.google.protobuf.ByteString
-        getModuleKeyBytes() {
+          getModuleKeyBytes() {
         java.lang.Object ref = moduleKey_;
         if (ref instanceof String) {
-          com.google.protobuf.ByteString b =
-            com.google.protobuf.ByteString.copyFromUtf8(
-              (java.lang.String) ref);
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
           moduleKey_ = b;
           return b;
         } else {
           return (com.google.protobuf.ByteString) ref;
         }
       }
-
       /**
        * <code>optional string module_key = 2;</code>
        */
       public Builder setModuleKey(
-        java.lang.String value) {
+          java.lang.String value) {
         if (value == null) {
-          throw new NullPointerException();
-        }
-        bitField0_ |= 0x00000002;
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
         moduleKey_ = value;
         onChanged();
         return this;
       }
-
       /**
        * <code>optional string module_key = 2;</code>
        */
@@ -1567,30 +1454,27 @@ public final class BatchInput {
         onChanged();
         return this;
       }
-
       /**
        * <code>optional string module_key = 2;</code>
        */
       public Builder setModuleKeyBytes(
-        com.google.protobuf.ByteString value) {
+          com.google.protobuf.ByteString value) {
         if (value == null) {
-          throw new NullPointerException();
-        }
-        bitField0_ |= 0x00000002;
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
         moduleKey_ = value;
         onChanged();
         return this;
       }
 
       private java.lang.Object path_ = "";
-
       /**
        * <code>optional string path = 3;</code>
        */
       public boolean hasPath() {
         return ((bitField0_ & 0x00000004) == 0x00000004);
       }
-
       /**
        * <code>optional string path = 3;</code>
        */
@@ -1598,7 +1482,7 @@ public final class BatchInput {
         java.lang.Object ref = path_;
         if (!(ref instanceof java.lang.String)) {
           com.google.protobuf.ByteString bs =
-            (com.google.protobuf.ByteString) ref;
+              (com.google.protobuf.ByteString) ref;
           java.lang.String s = bs.toStringUtf8();
           if (bs.isValidUtf8()) {
             path_ = s;
@@ -1608,38 +1492,35 @@ public final class BatchInput {
           return (java.lang.String) ref;
         }
       }
-
       /**
        * <code>optional string path = 3;</code>
        */
       public com.google.protobuf.ByteString
-        getPathBytes() {
+          getPathBytes() {
         java.lang.Object ref = path_;
         if (ref instanceof String) {
-          com.google.protobuf.ByteString b =
-            com.google.protobuf.ByteString.copyFromUtf8(
-              (java.lang.String) ref);
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
           path_ = b;
           return b;
         } else {
           return (com.google.protobuf.ByteString) ref;
         }
       }
-
       /**
        * <code>optional string path = 3;</code>
        */
       public Builder setPath(
-        java.lang.String value) {
+          java.lang.String value) {
         if (value == null) {
-          throw new NullPointerException();
-        }
-        bitField0_ |= 0x00000004;
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000004;
         path_ = value;
         onChanged();
         return this;
       }
-
       /**
        * <code>optional string path = 3;</code>
        */
@@ -1649,30 +1530,27 @@ public final class BatchInput {
         onChanged();
         return this;
       }
-
       /**
        * <code>optional string path = 3;</code>
        */
       public Builder setPathBytes(
-        com.google.protobuf.ByteString value) {
+          com.google.protobuf.ByteString value) {
         if (value == null) {
-          throw new NullPointerException();
-        }
-        bitField0_ |= 0x00000004;
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000004;
         path_ = value;
         onChanged();
         return this;
       }
 
       private java.lang.Object ruleRepository_ = "";
-
       /**
        * <code>optional string rule_repository = 4;</code>
        */
       public boolean hasRuleRepository() {
         return ((bitField0_ & 0x00000008) == 0x00000008);
       }
-
       /**
        * <code>optional string rule_repository = 4;</code>
        */
@@ -1680,7 +1558,7 @@ public final class BatchInput {
         java.lang.Object ref = ruleRepository_;
         if (!(ref instanceof java.lang.String)) {
           com.google.protobuf.ByteString bs =
-            (com.google.protobuf.ByteString) ref;
+              (com.google.protobuf.ByteString) ref;
           java.lang.String s = bs.toStringUtf8();
           if (bs.isValidUtf8()) {
             ruleRepository_ = s;
@@ -1690,38 +1568,35 @@ public final class BatchInput {
           return (java.lang.String) ref;
         }
       }
-
       /**
        * <code>optional string rule_repository = 4;</code>
        */
       public com.google.protobuf.ByteString
-        getRuleRepositoryBytes() {
+          getRuleRepositoryBytes() {
         java.lang.Object ref = ruleRepository_;
         if (ref instanceof String) {
-          com.google.protobuf.ByteString b =
-            com.google.protobuf.ByteString.copyFromUtf8(
-              (java.lang.String) ref);
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
           ruleRepository_ = b;
           return b;
         } else {
           return (com.google.protobuf.ByteString) ref;
         }
       }
-
       /**
        * <code>optional string rule_repository = 4;</code>
        */
       public Builder setRuleRepository(
-        java.lang.String value) {
+          java.lang.String value) {
         if (value == null) {
-          throw new NullPointerException();
-        }
-        bitField0_ |= 0x00000008;
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000008;
         ruleRepository_ = value;
         onChanged();
         return this;
       }
-
       /**
        * <code>optional string rule_repository = 4;</code>
        */
@@ -1731,30 +1606,27 @@ public final class BatchInput {
         onChanged();
         return this;
       }
-
       /**
        * <code>optional string rule_repository = 4;</code>
        */
       public Builder setRuleRepositoryBytes(
-        com.google.protobuf.ByteString value) {
+          com.google.protobuf.ByteString value) {
         if (value == null) {
-          throw new NullPointerException();
-        }
-        bitField0_ |= 0x00000008;
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000008;
         ruleRepository_ = value;
         onChanged();
         return this;
       }
 
       private java.lang.Object ruleKey_ = "";
-
       /**
        * <code>optional string rule_key = 5;</code>
        */
       public boolean hasRuleKey() {
         return ((bitField0_ & 0x00000010) == 0x00000010);
       }
-
       /**
        * <code>optional string rule_key = 5;</code>
        */
@@ -1762,7 +1634,7 @@ public final class BatchInput {
         java.lang.Object ref = ruleKey_;
         if (!(ref instanceof java.lang.String)) {
           com.google.protobuf.ByteString bs =
-            (com.google.protobuf.ByteString) ref;
+              (com.google.protobuf.ByteString) ref;
           java.lang.String s = bs.toStringUtf8();
           if (bs.isValidUtf8()) {
             ruleKey_ = s;
@@ -1772,38 +1644,35 @@ public final class BatchInput {
           return (java.lang.String) ref;
         }
       }
-
       /**
        * <code>optional string rule_key = 5;</code>
        */
       public com.google.protobuf.ByteString
-        getRuleKeyBytes() {
+          getRuleKeyBytes() {
         java.lang.Object ref = ruleKey_;
         if (ref instanceof String) {
-          com.google.protobuf.ByteString b =
-            com.google.protobuf.ByteString.copyFromUtf8(
-              (java.lang.String) ref);
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
           ruleKey_ = b;
           return b;
         } else {
           return (com.google.protobuf.ByteString) ref;
         }
       }
-
       /**
        * <code>optional string rule_key = 5;</code>
        */
       public Builder setRuleKey(
-        java.lang.String value) {
+          java.lang.String value) {
         if (value == null) {
-          throw new NullPointerException();
-        }
-        bitField0_ |= 0x00000010;
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000010;
         ruleKey_ = value;
         onChanged();
         return this;
       }
-
       /**
        * <code>optional string rule_key = 5;</code>
        */
@@ -1813,37 +1682,33 @@ public final class BatchInput {
         onChanged();
         return this;
       }
-
       /**
        * <code>optional string rule_key = 5;</code>
        */
       public Builder setRuleKeyBytes(
-        com.google.protobuf.ByteString value) {
+          com.google.protobuf.ByteString value) {
         if (value == null) {
-          throw new NullPointerException();
-        }
-        bitField0_ |= 0x00000010;
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000010;
         ruleKey_ = value;
         onChanged();
         return this;
       }
 
-      private int line_;
-
+      private int line_ ;
       /**
        * <code>optional int32 line = 6;</code>
        */
       public boolean hasLine() {
         return ((bitField0_ & 0x00000020) == 0x00000020);
       }
-
       /**
        * <code>optional int32 line = 6;</code>
        */
       public int getLine() {
         return line_;
       }
-
       /**
        * <code>optional int32 line = 6;</code>
        */
@@ -1853,7 +1718,6 @@ public final class BatchInput {
         onChanged();
         return this;
       }
-
       /**
        * <code>optional int32 line = 6;</code>
        */
@@ -1865,14 +1729,12 @@ public final class BatchInput {
       }
 
       private java.lang.Object msg_ = "";
-
       /**
        * <code>optional string msg = 7;</code>
        */
       public boolean hasMsg() {
         return ((bitField0_ & 0x00000040) == 0x00000040);
       }
-
       /**
        * <code>optional string msg = 7;</code>
        */
@@ -1880,7 +1742,7 @@ public final class BatchInput {
         java.lang.Object ref = msg_;
         if (!(ref instanceof java.lang.String)) {
           com.google.protobuf.ByteString bs =
-            (com.google.protobuf.ByteString) ref;
+              (com.google.protobuf.ByteString) ref;
           java.lang.String s = bs.toStringUtf8();
           if (bs.isValidUtf8()) {
             msg_ = s;
@@ -1890,38 +1752,35 @@ public final class BatchInput {
           return (java.lang.String) ref;
         }
       }
-
       /**
        * <code>optional string msg = 7;</code>
        */
       public com.google.protobuf.ByteString
-        getMsgBytes() {
+          getMsgBytes() {
         java.lang.Object ref = msg_;
         if (ref instanceof String) {
-          com.google.protobuf.ByteString b =
-            com.google.protobuf.ByteString.copyFromUtf8(
-              (java.lang.String) ref);
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
           msg_ = b;
           return b;
         } else {
           return (com.google.protobuf.ByteString) ref;
         }
       }
-
       /**
        * <code>optional string msg = 7;</code>
        */
       public Builder setMsg(
-        java.lang.String value) {
+          java.lang.String value) {
         if (value == null) {
-          throw new NullPointerException();
-        }
-        bitField0_ |= 0x00000040;
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000040;
         msg_ = value;
         onChanged();
         return this;
       }
-
       /**
        * <code>optional string msg = 7;</code>
        */
@@ -1931,37 +1790,33 @@ public final class BatchInput {
         onChanged();
         return this;
       }
-
       /**
        * <code>optional string msg = 7;</code>
        */
       public Builder setMsgBytes(
-        com.google.protobuf.ByteString value) {
+          com.google.protobuf.ByteString value) {
         if (value == null) {
-          throw new NullPointerException();
-        }
-        bitField0_ |= 0x00000040;
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000040;
         msg_ = value;
         onChanged();
         return this;
       }
 
       private org.sonar.batch.protocol.Constants.Severity severity_ = org.sonar.batch.protocol.Constants.Severity.INFO;
-
       /**
        * <code>optional .Severity severity = 8;</code>
        */
       public boolean hasSeverity() {
         return ((bitField0_ & 0x00000080) == 0x00000080);
       }
-
       /**
        * <code>optional .Severity severity = 8;</code>
        */
       public org.sonar.batch.protocol.Constants.Severity getSeverity() {
         return severity_;
       }
-
       /**
        * <code>optional .Severity severity = 8;</code>
        */
@@ -1974,7 +1829,6 @@ public final class BatchInput {
         onChanged();
         return this;
       }
-
       /**
        * <code>optional .Severity severity = 8;</code>
        */
@@ -1985,22 +1839,19 @@ public final class BatchInput {
         return this;
       }
 
-      private boolean manualSeverity_;
-
+      private boolean manualSeverity_ ;
       /**
        * <code>optional bool manual_severity = 9;</code>
        */
       public boolean hasManualSeverity() {
         return ((bitField0_ & 0x00000100) == 0x00000100);
       }
-
       /**
        * <code>optional bool manual_severity = 9;</code>
        */
       public boolean getManualSeverity() {
         return manualSeverity_;
       }
-
       /**
        * <code>optional bool manual_severity = 9;</code>
        */
@@ -2010,7 +1861,6 @@ public final class BatchInput {
         onChanged();
         return this;
       }
-
       /**
        * <code>optional bool manual_severity = 9;</code>
        */
@@ -2022,14 +1872,12 @@ public final class BatchInput {
       }
 
       private java.lang.Object resolution_ = "";
-
       /**
        * <code>optional string resolution = 10;</code>
        */
       public boolean hasResolution() {
         return ((bitField0_ & 0x00000200) == 0x00000200);
       }
-
       /**
        * <code>optional string resolution = 10;</code>
        */
@@ -2037,7 +1885,7 @@ public final class BatchInput {
         java.lang.Object ref = resolution_;
         if (!(ref instanceof java.lang.String)) {
           com.google.protobuf.ByteString bs =
-            (com.google.protobuf.ByteString) ref;
+              (com.google.protobuf.ByteString) ref;
           java.lang.String s = bs.toStringUtf8();
           if (bs.isValidUtf8()) {
             resolution_ = s;
@@ -2047,38 +1895,35 @@ public final class BatchInput {
           return (java.lang.String) ref;
         }
       }
-
       /**
        * <code>optional string resolution = 10;</code>
        */
       public com.google.protobuf.ByteString
-        getResolutionBytes() {
+          getResolutionBytes() {
         java.lang.Object ref = resolution_;
         if (ref instanceof String) {
-          com.google.protobuf.ByteString b =
-            com.google.protobuf.ByteString.copyFromUtf8(
-              (java.lang.String) ref);
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
           resolution_ = b;
           return b;
         } else {
           return (com.google.protobuf.ByteString) ref;
         }
       }
-
       /**
        * <code>optional string resolution = 10;</code>
        */
       public Builder setResolution(
-        java.lang.String value) {
+          java.lang.String value) {
         if (value == null) {
-          throw new NullPointerException();
-        }
-        bitField0_ |= 0x00000200;
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000200;
         resolution_ = value;
         onChanged();
         return this;
       }
-
       /**
        * <code>optional string resolution = 10;</code>
        */
@@ -2088,30 +1933,27 @@ public final class BatchInput {
         onChanged();
         return this;
       }
-
       /**
        * <code>optional string resolution = 10;</code>
        */
       public Builder setResolutionBytes(
-        com.google.protobuf.ByteString value) {
+          com.google.protobuf.ByteString value) {
         if (value == null) {
-          throw new NullPointerException();
-        }
-        bitField0_ |= 0x00000200;
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000200;
         resolution_ = value;
         onChanged();
         return this;
       }
 
       private java.lang.Object status_ = "";
-
       /**
        * <code>optional string status = 11;</code>
        */
       public boolean hasStatus() {
         return ((bitField0_ & 0x00000400) == 0x00000400);
       }
-
       /**
        * <code>optional string status = 11;</code>
        */
@@ -2119,7 +1961,7 @@ public final class BatchInput {
         java.lang.Object ref = status_;
         if (!(ref instanceof java.lang.String)) {
           com.google.protobuf.ByteString bs =
-            (com.google.protobuf.ByteString) ref;
+              (com.google.protobuf.ByteString) ref;
           java.lang.String s = bs.toStringUtf8();
           if (bs.isValidUtf8()) {
             status_ = s;
@@ -2129,38 +1971,35 @@ public final class BatchInput {
           return (java.lang.String) ref;
         }
       }
-
       /**
        * <code>optional string status = 11;</code>
        */
       public com.google.protobuf.ByteString
-        getStatusBytes() {
+          getStatusBytes() {
         java.lang.Object ref = status_;
         if (ref instanceof String) {
-          com.google.protobuf.ByteString b =
-            com.google.protobuf.ByteString.copyFromUtf8(
-              (java.lang.String) ref);
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
           status_ = b;
           return b;
         } else {
           return (com.google.protobuf.ByteString) ref;
         }
       }
-
       /**
        * <code>optional string status = 11;</code>
        */
       public Builder setStatus(
-        java.lang.String value) {
+          java.lang.String value) {
         if (value == null) {
-          throw new NullPointerException();
-        }
-        bitField0_ |= 0x00000400;
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000400;
         status_ = value;
         onChanged();
         return this;
       }
-
       /**
        * <code>optional string status = 11;</code>
        */
@@ -2170,30 +2009,27 @@ public final class BatchInput {
         onChanged();
         return this;
       }
-
       /**
        * <code>optional string status = 11;</code>
        */
       public Builder setStatusBytes(
-        com.google.protobuf.ByteString value) {
+          com.google.protobuf.ByteString value) {
         if (value == null) {
-          throw new NullPointerException();
-        }
-        bitField0_ |= 0x00000400;
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000400;
         status_ = value;
         onChanged();
         return this;
       }
 
       private java.lang.Object checksum_ = "";
-
       /**
        * <code>optional string checksum = 12;</code>
        */
       public boolean hasChecksum() {
         return ((bitField0_ & 0x00000800) == 0x00000800);
       }
-
       /**
        * <code>optional string checksum = 12;</code>
        */
@@ -2201,7 +2037,7 @@ public final class BatchInput {
         java.lang.Object ref = checksum_;
         if (!(ref instanceof java.lang.String)) {
           com.google.protobuf.ByteString bs =
-            (com.google.protobuf.ByteString) ref;
+              (com.google.protobuf.ByteString) ref;
           java.lang.String s = bs.toStringUtf8();
           if (bs.isValidUtf8()) {
             checksum_ = s;
@@ -2211,38 +2047,35 @@ public final class BatchInput {
           return (java.lang.String) ref;
         }
       }
-
       /**
        * <code>optional string checksum = 12;</code>
        */
       public com.google.protobuf.ByteString
-        getChecksumBytes() {
+          getChecksumBytes() {
         java.lang.Object ref = checksum_;
         if (ref instanceof String) {
-          com.google.protobuf.ByteString b =
-            com.google.protobuf.ByteString.copyFromUtf8(
-              (java.lang.String) ref);
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
           checksum_ = b;
           return b;
         } else {
           return (com.google.protobuf.ByteString) ref;
         }
       }
-
       /**
        * <code>optional string checksum = 12;</code>
        */
       public Builder setChecksum(
-        java.lang.String value) {
+          java.lang.String value) {
         if (value == null) {
-          throw new NullPointerException();
-        }
-        bitField0_ |= 0x00000800;
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000800;
         checksum_ = value;
         onChanged();
         return this;
       }
-
       /**
        * <code>optional string checksum = 12;</code>
        */
@@ -2252,30 +2085,27 @@ public final class BatchInput {
         onChanged();
         return this;
       }
-
       /**
        * <code>optional string checksum = 12;</code>
        */
       public Builder setChecksumBytes(
-        com.google.protobuf.ByteString value) {
+          com.google.protobuf.ByteString value) {
         if (value == null) {
-          throw new NullPointerException();
-        }
-        bitField0_ |= 0x00000800;
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000800;
         checksum_ = value;
         onChanged();
         return this;
       }
 
       private java.lang.Object assigneeLogin_ = "";
-
       /**
        * <code>optional string assignee_login = 13;</code>
        */
       public boolean hasAssigneeLogin() {
         return ((bitField0_ & 0x00001000) == 0x00001000);
       }
-
       /**
        * <code>optional string assignee_login = 13;</code>
        */
@@ -2283,7 +2113,7 @@ public final class BatchInput {
         java.lang.Object ref = assigneeLogin_;
         if (!(ref instanceof java.lang.String)) {
           com.google.protobuf.ByteString bs =
-            (com.google.protobuf.ByteString) ref;
+              (com.google.protobuf.ByteString) ref;
           java.lang.String s = bs.toStringUtf8();
           if (bs.isValidUtf8()) {
             assigneeLogin_ = s;
@@ -2293,38 +2123,35 @@ public final class BatchInput {
           return (java.lang.String) ref;
         }
       }
-
       /**
        * <code>optional string assignee_login = 13;</code>
        */
       public com.google.protobuf.ByteString
-        getAssigneeLoginBytes() {
+          getAssigneeLoginBytes() {
         java.lang.Object ref = assigneeLogin_;
         if (ref instanceof String) {
-          com.google.protobuf.ByteString b =
-            com.google.protobuf.ByteString.copyFromUtf8(
-              (java.lang.String) ref);
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
           assigneeLogin_ = b;
           return b;
         } else {
           return (com.google.protobuf.ByteString) ref;
         }
       }
-
       /**
        * <code>optional string assignee_login = 13;</code>
        */
       public Builder setAssigneeLogin(
-        java.lang.String value) {
+          java.lang.String value) {
         if (value == null) {
-          throw new NullPointerException();
-        }
-        bitField0_ |= 0x00001000;
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00001000;
         assigneeLogin_ = value;
         onChanged();
         return this;
       }
-
       /**
        * <code>optional string assignee_login = 13;</code>
        */
@@ -2334,37 +2161,33 @@ public final class BatchInput {
         onChanged();
         return this;
       }
-
       /**
        * <code>optional string assignee_login = 13;</code>
        */
       public Builder setAssigneeLoginBytes(
-        com.google.protobuf.ByteString value) {
+          com.google.protobuf.ByteString value) {
         if (value == null) {
-          throw new NullPointerException();
-        }
-        bitField0_ |= 0x00001000;
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00001000;
         assigneeLogin_ = value;
         onChanged();
         return this;
       }
 
-      private long creationDate_;
-
+      private long creationDate_ ;
       /**
        * <code>optional int64 creation_date = 14;</code>
        */
       public boolean hasCreationDate() {
         return ((bitField0_ & 0x00002000) == 0x00002000);
       }
-
       /**
        * <code>optional int64 creation_date = 14;</code>
        */
       public long getCreationDate() {
         return creationDate_;
       }
-
       /**
        * <code>optional int64 creation_date = 14;</code>
        */
@@ -2374,7 +2197,6 @@ public final class BatchInput {
         onChanged();
         return this;
       }
-
       /**
        * <code>optional int64 creation_date = 14;</code>
        */
@@ -2396,47 +2218,7354 @@ public final class BatchInput {
     // @@protoc_insertion_point(class_scope:ServerIssue)
   }
 
-  private static final com.google.protobuf.Descriptors.Descriptor internal_static_ServerIssue_descriptor;
-  private static com.google.protobuf.GeneratedMessage.FieldAccessorTable internal_static_ServerIssue_fieldAccessorTable;
+  public interface ProjectRepositoriesEntryOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:ProjectRepositoriesEntry)
+      com.google.protobuf.MessageOrBuilder {
 
-  public static com.google.protobuf.Descriptors.FileDescriptor
-    getDescriptor() {
-    return descriptor;
+    /**
+     * <code>optional .ProjectRepositoriesEntry.Header header = 1;</code>
+     */
+    boolean hasHeader();
+    /**
+     * <code>optional .ProjectRepositoriesEntry.Header header = 1;</code>
+     */
+    org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.Header getHeader();
+    /**
+     * <code>optional .ProjectRepositoriesEntry.Header header = 1;</code>
+     */
+    org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.HeaderOrBuilder getHeaderOrBuilder();
+
+    /**
+     * <code>optional .ProjectRepositoriesEntry.QProfile qprofile = 2;</code>
+     */
+    boolean hasQprofile();
+    /**
+     * <code>optional .ProjectRepositoriesEntry.QProfile qprofile = 2;</code>
+     */
+    org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.QProfile getQprofile();
+    /**
+     * <code>optional .ProjectRepositoriesEntry.QProfile qprofile = 2;</code>
+     */
+    org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.QProfileOrBuilder getQprofileOrBuilder();
+
+    /**
+     * <code>optional .ProjectRepositoriesEntry.ActiveRule active_rule = 3;</code>
+     */
+    boolean hasActiveRule();
+    /**
+     * <code>optional .ProjectRepositoriesEntry.ActiveRule active_rule = 3;</code>
+     */
+    org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.ActiveRule getActiveRule();
+    /**
+     * <code>optional .ProjectRepositoriesEntry.ActiveRule active_rule = 3;</code>
+     */
+    org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.ActiveRuleOrBuilder getActiveRuleOrBuilder();
+
+    /**
+     * <code>optional .ProjectRepositoriesEntry.ModuleSettings module_settings = 4;</code>
+     */
+    boolean hasModuleSettings();
+    /**
+     * <code>optional .ProjectRepositoriesEntry.ModuleSettings module_settings = 4;</code>
+     */
+    org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.ModuleSettings getModuleSettings();
+    /**
+     * <code>optional .ProjectRepositoriesEntry.ModuleSettings module_settings = 4;</code>
+     */
+    org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.ModuleSettingsOrBuilder getModuleSettingsOrBuilder();
+
+    /**
+     * <code>optional .ProjectRepositoriesEntry.FileData file_data = 5;</code>
+     */
+    boolean hasFileData();
+    /**
+     * <code>optional .ProjectRepositoriesEntry.FileData file_data = 5;</code>
+     */
+    org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.FileData getFileData();
+    /**
+     * <code>optional .ProjectRepositoriesEntry.FileData file_data = 5;</code>
+     */
+    org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.FileDataOrBuilder getFileDataOrBuilder();
   }
+  /**
+   * Protobuf type {@code ProjectRepositoriesEntry}
+   *
+   * <pre>
+   * Project repositories (/batch/project) are streamed as a sequence of delimited entries.
+   * Each entry has exactly one field set.
+   * </pre>
+   */
+  public static final class ProjectRepositoriesEntry extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:ProjectRepositoriesEntry)
+      ProjectRepositoriesEntryOrBuilder {
+    // Use ProjectRepositoriesEntry.newBuilder() to construct.
+    private ProjectRepositoriesEntry(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private ProjectRepositoriesEntry(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
 
-  private static com.google.protobuf.Descriptors.FileDescriptor descriptor;
-  static {
-    java.lang.String[] descriptorData = {
-      "\n\021batch_input.proto\032\017constants.proto\"\235\002\n" +
-        "\013ServerIssue\022\013\n\003key\030\001 \001(\t\022\022\n\nmodule_key\030" +
-        "\002 \001(\t\022\014\n\004path\030\003 \001(\t\022\027\n\017rule_repository\030\004" +
-        " \001(\t\022\020\n\010rule_key\030\005 \001(\t\022\014\n\004line\030\006 \001(\005\022\013\n\003" +
-        "msg\030\007 \001(\t\022\033\n\010severity\030\010 \001(\0162\t.Severity\022\027" +
-        "\n\017manual_severity\030\t \001(\010\022\022\n\nresolution\030\n " +
-        "\001(\t\022\016\n\006status\030\013 \001(\t\022\020\n\010checksum\030\014 \001(\t\022\026\n" +
-        "\016assignee_login\030\r \001(\t\022\025\n\rcreation_date\030\016" +
-        " \001(\003B\"\n\036org.sonar.batch.protocol.inputH\001"
+    private static final ProjectRepositoriesEntry defaultInstance;
+    public static ProjectRepositoriesEntry getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public ProjectRepositoriesEntry getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private ProjectRepositoriesEntry(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 10: {
+              org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.Header.Builder subBuilder = null;
+              if (((bitField0_ & 0x00000001) == 0x00000001)) {
+                subBuilder = header_.toBuilder();
+              }
+              header_ = input.readMessage(org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.Header.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(header_);
+                header_ = subBuilder.buildPartial();
+              }
+              bitField0_ |= 0x00000001;
+              break;
+            }
+            case 18: {
+              org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.QProfile.Builder subBuilder = null;
+              if (((bitField0_ & 0x00000002) == 0x00000002)) {
+                subBuilder = qprofile_.toBuilder();
+              }
+              qprofile_ = input.readMessage(org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.QProfile.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(qprofile_);
+                qprofile_ = subBuilder.buildPartial();
+              }
+              bitField0_ |= 0x00000002;
+              break;
+            }
+            case 26: {
+              org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.ActiveRule.Builder subBuilder = null;
+              if (((bitField0_ & 0x00000004) == 0x00000004)) {
+                subBuilder = activeRule_.toBuilder();
+              }
+              activeRule_ = input.readMessage(org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.ActiveRule.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(activeRule_);
+                activeRule_ = subBuilder.buildPartial();
+              }
+              bitField0_ |= 0x00000004;
+              break;
+            }
+            case 34: {
+              org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.ModuleSettings.Builder subBuilder = null;
+              if (((bitField0_ & 0x00000008) == 0x00000008)) {
+                subBuilder = moduleSettings_.toBuilder();
+              }
+              moduleSettings_ = input.readMessage(org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.ModuleSettings.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(moduleSettings_);
+                moduleSettings_ = subBuilder.buildPartial();
+              }
+              bitField0_ |= 0x00000008;
+              break;
+            }
+            case 42: {
+              org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.FileData.Builder subBuilder = null;
+              if (((bitField0_ & 0x00000010) == 0x00000010)) {
+                subBuilder = fileData_.toBuilder();
+              }
+              fileData_ = input.readMessage(org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.FileData.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(fileData_);
+                fileData_ = subBuilder.buildPartial();
+              }
+              bitField0_ |= 0x00000010;
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.sonar.batch.protocol.input.BatchInput.internal_static_ProjectRepositoriesEntry_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.sonar.batch.protocol.input.BatchInput.internal_static_ProjectRepositoriesEntry_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.class, org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<ProjectRepositoriesEntry> PARSER =
+        new com.google.protobuf.AbstractParser<ProjectRepositoriesEntry>() {
+      public ProjectRepositoriesEntry parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new ProjectRepositoriesEntry(input, extensionRegistry);
+      }
     };
-    com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner assigner =
-      new com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner() {
-        public com.google.protobuf.ExtensionRegistry assignDescriptors(
-          com.google.protobuf.Descriptors.FileDescriptor root) {
-          descriptor = root;
-          return null;
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<ProjectRepositoriesEntry> getParserForType() {
+      return PARSER;
+    }
+
+    public interface HeaderOrBuilder extends
+        // @@protoc_insertion_point(interface_extends:ProjectRepositoriesEntry.Header)
+        com.google.protobuf.MessageOrBuilder {
+
+      /**
+       * <code>optional int64 timestamp = 1;</code>
+       */
+      boolean hasTimestamp();
+      /**
+       * <code>optional int64 timestamp = 1;</code>
+       */
+      long getTimestamp();
+
+      /**
+       * <code>optional int64 last_analysis_date = 2;</code>
+       */
+      boolean hasLastAnalysisDate();
+      /**
+       * <code>optional int64 last_analysis_date = 2;</code>
+       */
+      long getLastAnalysisDate();
+    }
+    /**
+     * Protobuf type {@code ProjectRepositoriesEntry.Header}
+     */
+    public static final class Header extends
+        com.google.protobuf.GeneratedMessage implements
+        // @@protoc_insertion_point(message_implements:ProjectRepositoriesEntry.Header)
+        HeaderOrBuilder {
+      // Use Header.newBuilder() to construct.
+      private Header(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+        super(builder);
+        this.unknownFields = builder.getUnknownFields();
+      }
+      private Header(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+      private static final Header defaultInstance;
+      public static Header getDefaultInstance() {
+        return defaultInstance;
+      }
+
+      public Header getDefaultInstanceForType() {
+        return defaultInstance;
+      }
+
+      private final com.google.protobuf.UnknownFieldSet unknownFields;
+      @java.lang.Override
+      public final com.google.protobuf.UnknownFieldSet
+          getUnknownFields() {
+        return this.unknownFields;
+      }
+      private Header(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        initFields();
+        int mutable_bitField0_ = 0;
+        com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+            com.google.protobuf.UnknownFieldSet.newBuilder();
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              default: {
+                if (!parseUnknownField(input, unknownFields,
+                                       extensionRegistry, tag)) {
+                  done = true;
+                }
+                break;
+              }
+              case 8: {
+                bitField0_ |= 0x00000001;
+                timestamp_ = input.readInt64();
+                break;
+              }
+              case 16: {
+                bitField0_ |= 0x00000002;
+                lastAnalysisDate_ = input.readInt64();
+                break;
+              }
+            }
+          }
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(this);
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(
+              e.getMessage()).setUnfinishedMessage(this);
+        } finally {
+          this.unknownFields = unknownFields.build();
+          makeExtensionsImmutable();
+        }
+      }
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.sonar.batch.protocol.input.BatchInput.internal_static_ProjectRepositoriesEntry_Header_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.sonar.batch.protocol.input.BatchInput.internal_static_ProjectRepositoriesEntry_Header_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.Header.class, org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.Header.Builder.class);
+      }
+
+      public static com.google.protobuf.Parser<Header> PARSER =
+          new com.google.protobuf.AbstractParser<Header>() {
+        public Header parsePartialFrom(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws com.google.protobuf.InvalidProtocolBufferException {
+          return new Header(input, extensionRegistry);
         }
       };
-    com.google.protobuf.Descriptors.FileDescriptor
-      .internalBuildGeneratedFileFrom(descriptorData,
-        new com.google.protobuf.Descriptors.FileDescriptor[] {
-        org.sonar.batch.protocol.Constants.getDescriptor(),
-        }, assigner);
-    internal_static_ServerIssue_descriptor =
+
+      @java.lang.Override
+      public com.google.protobuf.Parser<Header> getParserForType() {
+        return PARSER;
+      }
+
+      private int bitField0_;
+      public static final int TIMESTAMP_FIELD_NUMBER = 1;
+      private long timestamp_;
+      /**
+       * <code>optional int64 timestamp = 1;</code>
+       */
+      public boolean hasTimestamp() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>optional int64 timestamp = 1;</code>
+       */
+      public long getTimestamp() {
+        return timestamp_;
+      }
+
+      public static final int LAST_ANALYSIS_DATE_FIELD_NUMBER = 2;
+      private long lastAnalysisDate_;
+      /**
+       * <code>optional int64 last_analysis_date = 2;</code>
+       */
+      public boolean hasLastAnalysisDate() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>optional int64 last_analysis_date = 2;</code>
+       */
+      public long getLastAnalysisDate() {
+        return lastAnalysisDate_;
+      }
+
+      private void initFields() {
+        timestamp_ = 0L;
+        lastAnalysisDate_ = 0L;
+      }
+      private byte memoizedIsInitialized = -1;
+      public final boolean isInitialized() {
+        byte isInitialized = memoizedIsInitialized;
+        if (isInitialized == 1) return true;
+        if (isInitialized == 0) return false;
+
+        memoizedIsInitialized = 1;
+        return true;
+      }
+
+      public void writeTo(com.google.protobuf.CodedOutputStream output)
+                          throws java.io.IOException {
+        getSerializedSize();
+        if (((bitField0_ & 0x00000001) == 0x00000001)) {
+          output.writeInt64(1, timestamp_);
+        }
+        if (((bitField0_ & 0x00000002) == 0x00000002)) {
+          output.writeInt64(2, lastAnalysisDate_);
+        }
+        getUnknownFields().writeTo(output);
+      }
+
+      private int memoizedSerializedSize = -1;
+      public int getSerializedSize() {
+        int size = memoizedSerializedSize;
+        if (size != -1) return size;
+
+        size = 0;
+        if (((bitField0_ & 0x00000001) == 0x00000001)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeInt64Size(1, timestamp_);
+        }
+        if (((bitField0_ & 0x00000002) == 0x00000002)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeInt64Size(2, lastAnalysisDate_);
+        }
+        size += getUnknownFields().getSerializedSize();
+        memoizedSerializedSize = size;
+        return size;
+      }
+
+      private static final long serialVersionUID = 0L;
+      @java.lang.Override
+      protected java.lang.Object writeReplace()
+          throws java.io.ObjectStreamException {
+        return super.writeReplace();
+      }
+
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.Header parseFrom(
+          com.google.protobuf.ByteString data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.Header parseFrom(
+          com.google.protobuf.ByteString data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.Header parseFrom(byte[] data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.Header parseFrom(
+          byte[] data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.Header parseFrom(java.io.InputStream input)
+          throws java.io.IOException {
+        return PARSER.parseFrom(input);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.Header parseFrom(
+          java.io.InputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return PARSER.parseFrom(input, extensionRegistry);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.Header parseDelimitedFrom(java.io.InputStream input)
+          throws java.io.IOException {
+        return PARSER.parseDelimitedFrom(input);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.Header parseDelimitedFrom(
+          java.io.InputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return PARSER.parseDelimitedFrom(input, extensionRegistry);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.Header parseFrom(
+          com.google.protobuf.CodedInputStream input)
+          throws java.io.IOException {
+        return PARSER.parseFrom(input);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.Header parseFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return PARSER.parseFrom(input, extensionRegistry);
+      }
+
+      public static Builder newBuilder() { return Builder.create(); }
+      public Builder newBuilderForType() { return newBuilder(); }
+      public static Builder newBuilder(org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.Header prototype) {
+        return newBuilder().mergeFrom(prototype);
+      }
+      public Builder toBuilder() { return newBuilder(this); }
+
+      @java.lang.Override
+      protected Builder newBuilderForType(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        Builder builder = new Builder(parent);
+        return builder;
+      }
+      /**
+       * Protobuf type {@code ProjectRepositoriesEntry.Header}
+       */
+      public static final class Builder extends
+          com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+          // @@protoc_insertion_point(builder_implements:ProjectRepositoriesEntry.Header)
+          org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.HeaderOrBuilder {
+        public static final com.google.protobuf.Descriptors.Descriptor
+            getDescriptor() {
+          return org.sonar.batch.protocol.input.BatchInput.internal_static_ProjectRepositoriesEntry_Header_descriptor;
+        }
+
+        protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+            internalGetFieldAccessorTable() {
+          return org.sonar.batch.protocol.input.BatchInput.internal_static_ProjectRepositoriesEntry_Header_fieldAccessorTable
+              .ensureFieldAccessorsInitialized(
+                  org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.Header.class, org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.Header.Builder.class);
+        }
+
+        // Construct using org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.Header.newBuilder()
+        private Builder() {
+          maybeForceBuilderInitialization();
+        }
+
+        private Builder(
+            com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+          super(parent);
+          maybeForceBuilderInitialization();
+        }
+        private void maybeForceBuilderInitialization() {
+          if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+          }
+        }
+        private static Builder create() {
+          return new Builder();
+        }
+
+        public Builder clear() {
+          super.clear();
+          timestamp_ = 0L;
+          bitField0_ = (bitField0_ & ~0x00000001);
+          lastAnalysisDate_ = 0L;
+          bitField0_ = (bitField0_ & ~0x00000002);
+          return this;
+        }
+
+        public Builder clone() {
+          return create().mergeFrom(buildPartial());
+        }
+
+        public com.google.protobuf.Descriptors.Descriptor
+            getDescriptorForType() {
+          return org.sonar.batch.protocol.input.BatchInput.internal_static_ProjectRepositoriesEntry_Header_descriptor;
+        }
+
+        public org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.Header getDefaultInstanceForType() {
+          return org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.Header.getDefaultInstance();
+        }
+
+        public org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.Header build() {
+          org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.Header result = buildPartial();
+          if (!result.isInitialized()) {
+            throw newUninitializedMessageException(result);
+          }
+          return result;
+        }
+
+        public org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.Header buildPartial() {
+          org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.Header result = new org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.Header(this);
+          int from_bitField0_ = bitField0_;
+          int to_bitField0_ = 0;
+          if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+            to_bitField0_ |= 0x00000001;
+          }
+          result.timestamp_ = timestamp_;
+          if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+            to_bitField0_ |= 0x00000002;
+          }
+          result.lastAnalysisDate_ = lastAnalysisDate_;
+          result.bitField0_ = to_bitField0_;
+          onBuilt();
+          return result;
+        }
+
+        public Builder mergeFrom(com.google.protobuf.Message other) {
+          if (other instanceof org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.Header) {
+            return mergeFrom((org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.Header)other);
+          } else {
+            super.mergeFrom(other);
+            return this;
+          }
+        }
+
+        public Builder mergeFrom(org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.Header other) {
+          if (other == org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.Header.getDefaultInstance()) return this;
+          if (other.hasTimestamp()) {
+            setTimestamp(other.getTimestamp());
+          }
+          if (other.hasLastAnalysisDate()) {
+            setLastAnalysisDate(other.getLastAnalysisDate());
+          }
+          this.mergeUnknownFields(other.getUnknownFields());
+          return this;
+        }
+
+        public final boolean isInitialized() {
+          return true;
+        }
+
+        public Builder mergeFrom(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws java.io.IOException {
+          org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.Header parsedMessage = null;
+          try {
+            parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+          } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+            parsedMessage = (org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.Header) e.getUnfinishedMessage();
+            throw e;
+          } finally {
+            if (parsedMessage != null) {
+              mergeFrom(parsedMessage);
+            }
+          }
+          return this;
+        }
+        private int bitField0_;
+
+        private long timestamp_ ;
+        /**
+         * <code>optional int64 timestamp = 1;</code>
+         */
+        public boolean hasTimestamp() {
+          return ((bitField0_ & 0x00000001) == 0x00000001);
+        }
+        /**
+         * <code>optional int64 timestamp = 1;</code>
+         */
+        public long getTimestamp() {
+          return timestamp_;
+        }
+        /**
+         * <code>optional int64 timestamp = 1;</code>
+         */
+        public Builder setTimestamp(long value) {
+          bitField0_ |= 0x00000001;
+          timestamp_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional int64 timestamp = 1;</code>
+         */
+        public Builder clearTimestamp() {
+          bitField0_ = (bitField0_ & ~0x00000001);
+          timestamp_ = 0L;
+          onChanged();
+          return this;
+        }
+
+        private long lastAnalysisDate_ ;
+        /**
+         * <code>optional int64 last_analysis_date = 2;</code>
+         */
+        public boolean hasLastAnalysisDate() {
+          return ((bitField0_ & 0x00000002) == 0x00000002);
+        }
+        /**
+         * <code>optional int64 last_analysis_date = 2;</code>
+         */
+        public long getLastAnalysisDate() {
+          return lastAnalysisDate_;
+        }
+        /**
+         * <code>optional int64 last_analysis_date = 2;</code>
+         */
+        public Builder setLastAnalysisDate(long value) {
+          bitField0_ |= 0x00000002;
+          lastAnalysisDate_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional int64 last_analysis_date = 2;</code>
+         */
+        public Builder clearLastAnalysisDate() {
+          bitField0_ = (bitField0_ & ~0x00000002);
+          lastAnalysisDate_ = 0L;
+          onChanged();
+          return this;
+        }
+
+        // @@protoc_insertion_point(builder_scope:ProjectRepositoriesEntry.Header)
+      }
+
+      static {
+        defaultInstance = new Header(true);
+        defaultInstance.initFields();
+      }
+
+      // @@protoc_insertion_point(class_scope:ProjectRepositoriesEntry.Header)
+    }
+
+    public interface QProfileOrBuilder extends
+        // @@protoc_insertion_point(interface_extends:ProjectRepositoriesEntry.QProfile)
+        com.google.protobuf.MessageOrBuilder {
+
+      /**
+       * <code>optional string key = 1;</code>
+       */
+      boolean hasKey();
+      /**
+       * <code>optional string key = 1;</code>
+       */
+      java.lang.String getKey();
+      /**
+       * <code>optional string key = 1;</code>
+       */
+      com.google.protobuf.ByteString
+          getKeyBytes();
+
+      /**
+       * <code>optional string name = 2;</code>
+       */
+      boolean hasName();
+      /**
+       * <code>optional string name = 2;</code>
+       */
+      java.lang.String getName();
+      /**
+       * <code>optional string name = 2;</code>
+       */
+      com.google.protobuf.ByteString
+          getNameBytes();
+
+      /**
+       * <code>optional string language = 3;</code>
+       */
+      boolean hasLanguage();
+      /**
+       * <code>optional string language = 3;</code>
+       */
+      java.lang.String getLanguage();
+      /**
+       * <code>optional string language = 3;</code>
+       */
+      com.google.protobuf.ByteString
+          getLanguageBytes();
+
+      /**
+       * <code>optional int64 rules_updated_at = 4;</code>
+       */
+      boolean hasRulesUpdatedAt();
+      /**
+       * <code>optional int64 rules_updated_at = 4;</code>
+       */
+      long getRulesUpdatedAt();
+    }
+    /**
+     * Protobuf type {@code ProjectRepositoriesEntry.QProfile}
+     */
+    public static final class QProfile extends
+        com.google.protobuf.GeneratedMessage implements
+        // @@protoc_insertion_point(message_implements:ProjectRepositoriesEntry.QProfile)
+        QProfileOrBuilder {
+      // Use QProfile.newBuilder() to construct.
+      private QProfile(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+        super(builder);
+        this.unknownFields = builder.getUnknownFields();
+      }
+      private QProfile(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+      private static final QProfile defaultInstance;
+      public static QProfile getDefaultInstance() {
+        return defaultInstance;
+      }
+
+      public QProfile getDefaultInstanceForType() {
+        return defaultInstance;
+      }
+
+      private final com.google.protobuf.UnknownFieldSet unknownFields;
+      @java.lang.Override
+      public final com.google.protobuf.UnknownFieldSet
+          getUnknownFields() {
+        return this.unknownFields;
+      }
+      private QProfile(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        initFields();
+        int mutable_bitField0_ = 0;
+        com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+            com.google.protobuf.UnknownFieldSet.newBuilder();
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              default: {
+                if (!parseUnknownField(input, unknownFields,
+                                       extensionRegistry, tag)) {
+                  done = true;
+                }
+                break;
+              }
+              case 10: {
+                com.google.protobuf.ByteString bs = input.readBytes();
+                bitField0_ |= 0x00000001;
+                key_ = bs;
+                break;
+              }
+              case 18: {
+                com.google.protobuf.ByteString bs = input.readBytes();
+                bitField0_ |= 0x00000002;
+                name_ = bs;
+                break;
+              }
+              case 26: {
+                com.google.protobuf.ByteString bs = input.readBytes();
+                bitField0_ |= 0x00000004;
+                language_ = bs;
+                break;
+              }
+              case 32: {
+                bitField0_ |= 0x00000008;
+                rulesUpdatedAt_ = input.readInt64();
+                break;
+              }
+            }
+          }
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(this);
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(
+              e.getMessage()).setUnfinishedMessage(this);
+        } finally {
+          this.unknownFields = unknownFields.build();
+          makeExtensionsImmutable();
+        }
+      }
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.sonar.batch.protocol.input.BatchInput.internal_static_ProjectRepositoriesEntry_QProfile_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.sonar.batch.protocol.input.BatchInput.internal_static_ProjectRepositoriesEntry_QProfile_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.QProfile.class, org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.QProfile.Builder.class);
+      }
+
+      public static com.google.protobuf.Parser<QProfile> PARSER =
+          new com.google.protobuf.AbstractParser<QProfile>() {
+        public QProfile parsePartialFrom(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws com.google.protobuf.InvalidProtocolBufferException {
+          return new QProfile(input, extensionRegistry);
+        }
+      };
+
+      @java.lang.Override
+      public com.google.protobuf.Parser<QProfile> getParserForType() {
+        return PARSER;
+      }
+
+      private int bitField0_;
+      public static final int KEY_FIELD_NUMBER = 1;
+      private java.lang.Object key_;
+      /**
+       * <code>optional string key = 1;</code>
+       */
+      public boolean hasKey() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>optional string key = 1;</code>
+       */
+      public java.lang.String getKey() {
+        java.lang.Object ref = key_;
+        if (ref instanceof java.lang.String) {
+          return (java.lang.String) ref;
+        } else {
+          com.google.protobuf.ByteString bs = 
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            key_ = s;
+          }
+          return s;
+        }
+      }
+      /**
+       * <code>optional string key = 1;</code>
+       */
+      public com.google.protobuf.ByteString
+          getKeyBytes() {
+        java.lang.Object ref = key_;
+        if (ref instanceof java.lang.String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          key_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+
+      public static final int NAME_FIELD_NUMBER = 2;
+      private java.lang.Object name_;
+      /**
+       * <code>optional string name = 2;</code>
+       */
+      public boolean hasName() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>optional string name = 2;</code>
+       */
+      public java.lang.String getName() {
+        java.lang.Object ref = name_;
+        if (ref instanceof java.lang.String) {
+          return (java.lang.String) ref;
+        } else {
+          com.google.protobuf.ByteString bs = 
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            name_ = s;
+          }
+          return s;
+        }
+      }
+      /**
+       * <code>optional string name = 2;</code>
+       */
+      public com.google.protobuf.ByteString
+          getNameBytes() {
+        java.lang.Object ref = name_;
+        if (ref instanceof java.lang.String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          name_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+
+      public static final int LANGUAGE_FIELD_NUMBER = 3;
+      private java.lang.Object language_;
+      /**
+       * <code>optional string language = 3;</code>
+       */
+      public boolean hasLanguage() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
+      }
+      /**
+       * <code>optional string language = 3;</code>
+       */
+      public java.lang.String getLanguage() {
+        java.lang.Object ref = language_;
+        if (ref instanceof java.lang.String) {
+          return (java.lang.String) ref;
+        } else {
+          com.google.protobuf.ByteString bs = 
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            language_ = s;
+          }
+          return s;
+        }
+      }
+      /**
+       * <code>optional string language = 3;</code>
+       */
+      public com.google.protobuf.ByteString
+          getLanguageBytes() {
+        java.lang.Object ref = language_;
+        if (ref instanceof java.lang.String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          language_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+
+      public static final int RULES_UPDATED_AT_FIELD_NUMBER = 4;
+      private long rulesUpdatedAt_;
+      /**
+       * <code>optional int64 rules_updated_at = 4;</code>
+       */
+      public boolean hasRulesUpdatedAt() {
+        return ((bitField0_ & 0x00000008) == 0x00000008);
+      }
+      /**
+       * <code>optional int64 rules_updated_at = 4;</code>
+       */
+      public long getRulesUpdatedAt() {
+        return rulesUpdatedAt_;
+      }
+
+      private void initFields() {
+        key_ = "";
+        name_ = "";
+        language_ = "";
+        rulesUpdatedAt_ = 0L;
+      }
+      private byte memoizedIsInitialized = -1;
+      public final boolean isInitialized() {
+        byte isInitialized = memoizedIsInitialized;
+        if (isInitialized == 1) return true;
+        if (isInitialized == 0) return false;
+
+        memoizedIsInitialized = 1;
+        return true;
+      }
+
+      public void writeTo(com.google.protobuf.CodedOutputStream output)
+                          throws java.io.IOException {
+        getSerializedSize();
+        if (((bitField0_ & 0x00000001) == 0x00000001)) {
+          output.writeBytes(1, getKeyBytes());
+        }
+        if (((bitField0_ & 0x00000002) == 0x00000002)) {
+          output.writeBytes(2, getNameBytes());
+        }
+        if (((bitField0_ & 0x00000004) == 0x00000004)) {
+          output.writeBytes(3, getLanguageBytes());
+        }
+        if (((bitField0_ & 0x00000008) == 0x00000008)) {
+          output.writeInt64(4, rulesUpdatedAt_);
+        }
+        getUnknownFields().writeTo(output);
+      }
+
+      private int memoizedSerializedSize = -1;
+      public int getSerializedSize() {
+        int size = memoizedSerializedSize;
+        if (size != -1) return size;
+
+        size = 0;
+        if (((bitField0_ & 0x00000001) == 0x00000001)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeBytesSize(1, getKeyBytes());
+        }
+        if (((bitField0_ & 0x00000002) == 0x00000002)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeBytesSize(2, getNameBytes());
+        }
+        if (((bitField0_ & 0x00000004) == 0x00000004)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeBytesSize(3, getLanguageBytes());
+        }
+        if (((bitField0_ & 0x00000008) == 0x00000008)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeInt64Size(4, rulesUpdatedAt_);
+        }
+        size += getUnknownFields().getSerializedSize();
+        memoizedSerializedSize = size;
+        return size;
+      }
+
+      private static final long serialVersionUID = 0L;
+      @java.lang.Override
+      protected java.lang.Object writeReplace()
+          throws java.io.ObjectStreamException {
+        return super.writeReplace();
+      }
+
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.QProfile parseFrom(
+          com.google.protobuf.ByteString data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.QProfile parseFrom(
+          com.google.protobuf.ByteString data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.QProfile parseFrom(byte[] data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.QProfile parseFrom(
+          byte[] data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.QProfile parseFrom(java.io.InputStream input)
+          throws java.io.IOException {
+        return PARSER.parseFrom(input);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.QProfile parseFrom(
+          java.io.InputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return PARSER.parseFrom(input, extensionRegistry);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.QProfile parseDelimitedFrom(java.io.InputStream input)
+          throws java.io.IOException {
+        return PARSER.parseDelimitedFrom(input);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.QProfile parseDelimitedFrom(
+          java.io.InputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return PARSER.parseDelimitedFrom(input, extensionRegistry);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.QProfile parseFrom(
+          com.google.protobuf.CodedInputStream input)
+          throws java.io.IOException {
+        return PARSER.parseFrom(input);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.QProfile parseFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return PARSER.parseFrom(input, extensionRegistry);
+      }
+
+      public static Builder newBuilder() { return Builder.create(); }
+      public Builder newBuilderForType() { return newBuilder(); }
+      public static Builder newBuilder(org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.QProfile prototype) {
+        return newBuilder().mergeFrom(prototype);
+      }
+      public Builder toBuilder() { return newBuilder(this); }
+
+      @java.lang.Override
+      protected Builder newBuilderForType(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        Builder builder = new Builder(parent);
+        return builder;
+      }
+      /**
+       * Protobuf type {@code ProjectRepositoriesEntry.QProfile}
+       */
+      public static final class Builder extends
+          com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+          // @@protoc_insertion_point(builder_implements:ProjectRepositoriesEntry.QProfile)
+          org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.QProfileOrBuilder {
+        public static final com.google.protobuf.Descriptors.Descriptor
+            getDescriptor() {
+          return org.sonar.batch.protocol.input.BatchInput.internal_static_ProjectRepositoriesEntry_QProfile_descriptor;
+        }
+
+        protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+            internalGetFieldAccessorTable() {
+          return org.sonar.batch.protocol.input.BatchInput.internal_static_ProjectRepositoriesEntry_QProfile_fieldAccessorTable
+              .ensureFieldAccessorsInitialized(
+                  org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.QProfile.class, org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.QProfile.Builder.class);
+        }
+
+        // Construct using org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.QProfile.newBuilder()
+        private Builder() {
+          maybeForceBuilderInitialization();
+        }
+
+        private Builder(
+            com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+          super(parent);
+          maybeForceBuilderInitialization();
+        }
+        private void maybeForceBuilderInitialization() {
+          if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+          }
+        }
+        private static Builder create() {
+          return new Builder();
+        }
+
+        public Builder clear() {
+          super.clear();
+          key_ = "";
+          bitField0_ = (bitField0_ & ~0x00000001);
+          name_ = "";
+          bitField0_ = (bitField0_ & ~0x00000002);
+          language_ = "";
+          bitField0_ = (bitField0_ & ~0x00000004);
+          rulesUpdatedAt_ = 0L;
+          bitField0_ = (bitField0_ & ~0x00000008);
+          return this;
+        }
+
+        public Builder clone() {
+          return create().mergeFrom(buildPartial());
+        }
+
+        public com.google.protobuf.Descriptors.Descriptor
+            getDescriptorForType() {
+          return org.sonar.batch.protocol.input.BatchInput.internal_static_ProjectRepositoriesEntry_QProfile_descriptor;
+        }
+
+        public org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.QProfile getDefaultInstanceForType() {
+          return org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.QProfile.getDefaultInstance();
+        }
+
+        public org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.QProfile build() {
+          org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.QProfile result = buildPartial();
+          if (!result.isInitialized()) {
+            throw newUninitializedMessageException(result);
+          }
+          return result;
+        }
+
+        public org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.QProfile buildPartial() {
+          org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.QProfile result = new org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.QProfile(this);
+          int from_bitField0_ = bitField0_;
+          int to_bitField0_ = 0;
+          if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+            to_bitField0_ |= 0x00000001;
+          }
+          result.key_ = key_;
+          if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+            to_bitField0_ |= 0x00000002;
+          }
+          result.name_ = name_;
+          if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+            to_bitField0_ |= 0x00000004;
+          }
+          result.language_ = language_;
+          if (((from_bitField0_ & 0x00000008) == 0x00000008)) {
+            to_bitField0_ |= 0x00000008;
+          }
+          result.rulesUpdatedAt_ = rulesUpdatedAt_;
+          result.bitField0_ = to_bitField0_;
+          onBuilt();
+          return result;
+        }
+
+        public Builder mergeFrom(com.google.protobuf.Message other) {
+          if (other instanceof org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.QProfile) {
+            return mergeFrom((org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.QProfile)other);
+          } else {
+            super.mergeFrom(other);
+            return this;
+          }
+        }
+
+        public Builder mergeFrom(org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.QProfile other) {
+          if (other == org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.QProfile.getDefaultInstance()) return this;
+          if (other.hasKey()) {
+            bitField0_ |= 0x00000001;
+            key_ = other.key_;
+            onChanged();
+          }
+          if (other.hasName()) {
+            bitField0_ |= 0x00000002;
+            name_ = other.name_;
+            onChanged();
+          }
+          if (other.hasLanguage()) {
+            bitField0_ |= 0x00000004;
+            language_ = other.language_;
+            onChanged();
+          }
+          if (other.hasRulesUpdatedAt()) {
+            setRulesUpdatedAt(other.getRulesUpdatedAt());
+          }
+          this.mergeUnknownFields(other.getUnknownFields());
+          return this;
+        }
+
+        public final boolean isInitialized() {
+          return true;
+        }
+
+        public Builder mergeFrom(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws java.io.IOException {
+          org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.QProfile parsedMessage = null;
+          try {
+            parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+          } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+            parsedMessage = (org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.QProfile) e.getUnfinishedMessage();
+            throw e;
+          } finally {
+            if (parsedMessage != null) {
+              mergeFrom(parsedMessage);
+            }
+          }
+          return this;
+        }
+        private int bitField0_;
+
+        private java.lang.Object key_ = "";
+        /**
+         * <code>optional string key = 1;</code>
+         */
+        public boolean hasKey() {
+          return ((bitField0_ & 0x00000001) == 0x00000001);
+        }
+        /**
+         * <code>optional string key = 1;</code>
+         */
+        public java.lang.String getKey() {
+          java.lang.Object ref = key_;
+          if (!(ref instanceof java.lang.String)) {
+            com.google.protobuf.ByteString bs =
+                (com.google.protobuf.ByteString) ref;
+            java.lang.String s = bs.toStringUtf8();
+            if (bs.isValidUtf8()) {
+              key_ = s;
+            }
+            return s;
+          } else {
+            return (java.lang.String) ref;
+          }
+        }
+        /**
+         * <code>optional string key = 1;</code>
+         */
+        public com.google.protobuf.ByteString
+            getKeyBytes() {
+          java.lang.Object ref = key_;
+          if (ref instanceof String) {
+            com.google.protobuf.ByteString b = 
+                com.google.protobuf.ByteString.copyFromUtf8(
+                    (java.lang.String) ref);
+            key_ = b;
+            return b;
+          } else {
+            return (com.google.protobuf.ByteString) ref;
+          }
+        }
+        /**
+         * <code>optional string key = 1;</code>
+         */
+        public Builder setKey(
+            java.lang.String value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+          key_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional string key = 1;</code>
+         */
+        public Builder clearKey() {
+          bitField0_ = (bitField0_ & ~0x00000001);
+          key_ = getDefaultInstance().getKey();
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional string key = 1;</code>
+         */
+        public Builder setKeyBytes(
+            com.google.protobuf.ByteString value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+          key_ = value;
+          onChanged();
+          return this;
+        }
+
+        private java.lang.Object name_ = "";
+        /**
+         * <code>optional string name = 2;</code>
+         */
+        public boolean hasName() {
+          return ((bitField0_ & 0x00000002) == 0x00000002);
+        }
+        /**
+         * <code>optional string name = 2;</code>
+         */
+        public java.lang.String getName() {
+          java.lang.Object ref = name_;
+          if (!(ref instanceof java.lang.String)) {
+            com.google.protobuf.ByteString bs =
+                (com.google.protobuf.ByteString) ref;
+            java.lang.String s = bs.toStringUtf8();
+            if (bs.isValidUtf8()) {
+              name_ = s;
+            }
+            return s;
+          } else {
+            return (java.lang.String) ref;
+          }
+        }
+        /**
+         * <code>optional string name = 2;</code>
+         */
+        public com.google.protobuf.ByteString
+            getNameBytes() {
+          java.lang.Object ref = name_;
+          if (ref instanceof String) {
+            com.google.protobuf.ByteString b = 
+                com.google.protobuf.ByteString.copyFromUtf8(
+                    (java.lang.String) ref);
+            name_ = b;
+            return b;
+          } else {
+            return (com.google.protobuf.ByteString) ref;
+          }
+        }
+        /**
+         * <code>optional string name = 2;</code>
+         */
+        public Builder setName(
+            java.lang.String value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+          name_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional string name = 2;</code>
+         */
+        public Builder clearName() {
+          bitField0_ = (bitField0_ & ~0x00000002);
+          name_ = getDefaultInstance().getName();
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional string name = 2;</code>
+         */
+        public Builder setNameBytes(
+            com.google.protobuf.ByteString value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+          name_ = value;
+          onChanged();
+          return this;
+        }
+
+        private java.lang.Object language_ = "";
+        /**
+         * <code>optional string language = 3;</code>
+         */
+        public boolean hasLanguage() {
+          return ((bitField0_ & 0x00000004) == 0x00000004);
+        }
+        /**
+         * <code>optional string language = 3;</code>
+         */
+        public java.lang.String getLanguage() {
+          java.lang.Object ref = language_;
+          if (!(ref instanceof java.lang.String)) {
+            com.google.protobuf.ByteString bs =
+                (com.google.protobuf.ByteString) ref;
+            java.lang.String s = bs.toStringUtf8();
+            if (bs.isValidUtf8()) {
+              language_ = s;
+            }
+            return s;
+          } else {
+            return (java.lang.String) ref;
+          }
+        }
+        /**
+         * <code>optional string language = 3;</code>
+         */
+        public com.google.protobuf.ByteString
+            getLanguageBytes() {
+          java.lang.Object ref = language_;
+          if (ref instanceof String) {
+            com.google.protobuf.ByteString b = 
+                com.google.protobuf.ByteString.copyFromUtf8(
+                    (java.lang.String) ref);
+            language_ = b;
+            return b;
+          } else {
+            return (com.google.protobuf.ByteString) ref;
+          }
+        }
+        /**
+         * <code>optional string language = 3;</code>
+         */
+        public Builder setLanguage(
+            java.lang.String value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000004;
+          language_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional string language = 3;</code>
+         */
+        public Builder clearLanguage() {
+          bitField0_ = (bitField0_ & ~0x00000004);
+          language_ = getDefaultInstance().getLanguage();
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional string language = 3;</code>
+         */
+        public Builder setLanguageBytes(
+            com.google.protobuf.ByteString value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000004;
+          language_ = value;
+          onChanged();
+          return this;
+        }
+
+        private long rulesUpdatedAt_ ;
+        /**
+         * <code>optional int64 rules_updated_at = 4;</code>
+         */
+        public boolean hasRulesUpdatedAt() {
+          return ((bitField0_ & 0x00000008) == 0x00000008);
+        }
+        /**
+         * <code>optional int64 rules_updated_at = 4;</code>
+         */
+        public long getRulesUpdatedAt() {
+          return rulesUpdatedAt_;
+        }
+        /**
+         * <code>optional int64 rules_updated_at = 4;</code>
+         */
+        public Builder setRulesUpdatedAt(long value) {
+          bitField0_ |= 0x00000008;
+          rulesUpdatedAt_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional int64 rules_updated_at = 4;</code>
+         */
+        public Builder clearRulesUpdatedAt() {
+          bitField0_ = (bitField0_ & ~0x00000008);
+          rulesUpdatedAt_ = 0L;
+          onChanged();
+          return this;
+        }
+
+        // @@protoc_insertion_point(builder_scope:ProjectRepositoriesEntry.QProfile)
+      }
+
+      static {
+        defaultInstance = new QProfile(true);
+        defaultInstance.initFields();
+      }
+
+      // @@protoc_insertion_point(class_scope:ProjectRepositoriesEntry.QProfile)
+    }
+
+    public interface ActiveRuleOrBuilder extends
+        // @@protoc_insertion_point(interface_extends:ProjectRepositoriesEntry.ActiveRule)
+        com.google.protobuf.MessageOrBuilder {
+
+      /**
+       * <code>optional string repository_key = 1;</code>
+       */
+      boolean hasRepositoryKey();
+      /**
+       * <code>optional string repository_key = 1;</code>
+       */
+      java.lang.String getRepositoryKey();
+      /**
+       * <code>optional string repository_key = 1;</code>
+       */
+      com.google.protobuf.ByteString
+          getRepositoryKeyBytes();
+
+      /**
+       * <code>optional string rule_key = 2;</code>
+       */
+      boolean hasRuleKey();
+      /**
+       * <code>optional string rule_key = 2;</code>
+       */
+      java.lang.String getRuleKey();
+      /**
+       * <code>optional string rule_key = 2;</code>
+       */
+      com.google.protobuf.ByteString
+          getRuleKeyBytes();
+
+      /**
+       * <code>optional string template_rule_key = 3;</code>
+       */
+      boolean hasTemplateRuleKey();
+      /**
+       * <code>optional string template_rule_key = 3;</code>
+       */
+      java.lang.String getTemplateRuleKey();
+      /**
+       * <code>optional string template_rule_key = 3;</code>
+       */
+      com.google.protobuf.ByteString
+          getTemplateRuleKeyBytes();
+
+      /**
+       * <code>optional string name = 4;</code>
+       */
+      boolean hasName();
+      /**
+       * <code>optional string name = 4;</code>
+       */
+      java.lang.String getName();
+      /**
+       * <code>optional string name = 4;</code>
+       */
+      com.google.protobuf.ByteString
+          getNameBytes();
+
+      /**
+       * <code>optional string severity = 5;</code>
+       */
+      boolean hasSeverity();
+      /**
+       * <code>optional string severity = 5;</code>
+       */
+      java.lang.String getSeverity();
+      /**
+       * <code>optional string severity = 5;</code>
+       */
+      com.google.protobuf.ByteString
+          getSeverityBytes();
+
+      /**
+       * <code>optional string internal_key = 6;</code>
+       */
+      boolean hasInternalKey();
+      /**
+       * <code>optional string internal_key = 6;</code>
+       */
+      java.lang.String getInternalKey();
+      /**
+       * <code>optional string internal_key = 6;</code>
+       */
+      com.google.protobuf.ByteString
+          getInternalKeyBytes();
+
+      /**
+       * <code>optional string language = 7;</code>
+       */
+      boolean hasLanguage();
+      /**
+       * <code>optional string language = 7;</code>
+       */
+      java.lang.String getLanguage();
+      /**
+       * <code>optional string language = 7;</code>
+       */
+      com.google.protobuf.ByteString
+          getLanguageBytes();
+
+      /**
+       * <code>repeated .ProjectRepositoriesEntry.KeyValue param = 8;</code>
+       */
+      java.util.List<org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.KeyValue> 
+          getParamList();
+      /**
+       * <code>repeated .ProjectRepositoriesEntry.KeyValue param = 8;</code>
+       */
+      org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.KeyValue getParam(int index);
+      /**
+       * <code>repeated .ProjectRepositoriesEntry.KeyValue param = 8;</code>
+       */
+      int getParamCount();
+      /**
+       * <code>repeated .ProjectRepositoriesEntry.KeyValue param = 8;</code>
+       */
+      java.util.List<? extends org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.KeyValueOrBuilder> 
+          getParamOrBuilderList();
+      /**
+       * <code>repeated .ProjectRepositoriesEntry.KeyValue param = 8;</code>
+       */
+      org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.KeyValueOrBuilder getParamOrBuilder(
+          int index);
+    }
+    /**
+     * Protobuf type {@code ProjectRepositoriesEntry.ActiveRule}
+     */
+    public static final class ActiveRule extends
+        com.google.protobuf.GeneratedMessage implements
+        // @@protoc_insertion_point(message_implements:ProjectRepositoriesEntry.ActiveRule)
+        ActiveRuleOrBuilder {
+      // Use ActiveRule.newBuilder() to construct.
+      private ActiveRule(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+        super(builder);
+        this.unknownFields = builder.getUnknownFields();
+      }
+      private ActiveRule(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+      private static final ActiveRule defaultInstance;
+      public static ActiveRule getDefaultInstance() {
+        return defaultInstance;
+      }
+
+      public ActiveRule getDefaultInstanceForType() {
+        return defaultInstance;
+      }
+
+      private final com.google.protobuf.UnknownFieldSet unknownFields;
+      @java.lang.Override
+      public final com.google.protobuf.UnknownFieldSet
+          getUnknownFields() {
+        return this.unknownFields;
+      }
+      private ActiveRule(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        initFields();
+        int mutable_bitField0_ = 0;
+        com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+            com.google.protobuf.UnknownFieldSet.newBuilder();
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              default: {
+                if (!parseUnknownField(input, unknownFields,
+                                       extensionRegistry, tag)) {
+                  done = true;
+                }
+                break;
+              }
+              case 10: {
+                com.google.protobuf.ByteString bs = input.readBytes();
+                bitField0_ |= 0x00000001;
+                repositoryKey_ = bs;
+                break;
+              }
+              case 18: {
+                com.google.protobuf.ByteString bs = input.readBytes();
+                bitField0_ |= 0x00000002;
+                ruleKey_ = bs;
+                break;
+              }
+              case 26: {
+                com.google.protobuf.ByteString bs = input.readBytes();
+                bitField0_ |= 0x00000004;
+                templateRuleKey_ = bs;
+                break;
+              }
+              case 34: {
+                com.google.protobuf.ByteString bs = input.readBytes();
+                bitField0_ |= 0x00000008;
+                name_ = bs;
+                break;
+              }
+              case 42: {
+                com.google.protobuf.ByteString bs = input.readBytes();
+                bitField0_ |= 0x00000010;
+                severity_ = bs;
+                break;
+              }
+              case 50: {
+                com.google.protobuf.ByteString bs = input.readBytes();
+                bitField0_ |= 0x00000020;
+                internalKey_ = bs;
+                break;
+              }
+              case 58: {
+                com.google.protobuf.ByteString bs = input.readBytes();
+                bitField0_ |= 0x00000040;
+                language_ = bs;
+                break;
+              }
+              case 66: {
+                if (!((mutable_bitField0_ & 0x00000080) == 0x00000080)) {
+                  param_ = new java.util.ArrayList<org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.KeyValue>();
+                  mutable_bitField0_ |= 0x00000080;
+                }
+                param_.add(input.readMessage(org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.KeyValue.PARSER, extensionRegistry));
+                break;
+              }
+            }
+          }
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(this);
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(
+              e.getMessage()).setUnfinishedMessage(this);
+        } finally {
+          if (((mutable_bitField0_ & 0x00000080) == 0x00000080)) {
+            param_ = java.util.Collections.unmodifiableList(param_);
+          }
+          this.unknownFields = unknownFields.build();
+          makeExtensionsImmutable();
+        }
+      }
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.sonar.batch.protocol.input.BatchInput.internal_static_ProjectRepositoriesEntry_ActiveRule_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.sonar.batch.protocol.input.BatchInput.internal_static_ProjectRepositoriesEntry_ActiveRule_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.ActiveRule.class, org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.ActiveRule.Builder.class);
+      }
+
+      public static com.google.protobuf.Parser<ActiveRule> PARSER =
+          new com.google.protobuf.AbstractParser<ActiveRule>() {
+        public ActiveRule parsePartialFrom(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws com.google.protobuf.InvalidProtocolBufferException {
+          return new ActiveRule(input, extensionRegistry);
+        }
+      };
+
+      @java.lang.Override
+      public com.google.protobuf.Parser<ActiveRule> getParserForType() {
+        return PARSER;
+      }
+
+      private int bitField0_;
+      public static final int REPOSITORY_KEY_FIELD_NUMBER = 1;
+      private java.lang.Object repositoryKey_;
+      /**
+       * <code>optional string repository_key = 1;</code>
+       */
+      public boolean hasRepositoryKey() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>optional string repository_key = 1;</code>
+       */
+      public java.lang.String getRepositoryKey() {
+        java.lang.Object ref = repositoryKey_;
+        if (ref instanceof java.lang.String) {
+          return (java.lang.String) ref;
+        } else {
+          com.google.protobuf.ByteString bs = 
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            repositoryKey_ = s;
+          }
+          return s;
+        }
+      }
+      /**
+       * <code>optional string repository_key = 1;</code>
+       */
+      public com.google.protobuf.ByteString
+          getRepositoryKeyBytes() {
+        java.lang.Object ref = repositoryKey_;
+        if (ref instanceof java.lang.String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          repositoryKey_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+
+      public static final int RULE_KEY_FIELD_NUMBER = 2;
+      private java.lang.Object ruleKey_;
+      /**
+       * <code>optional string rule_key = 2;</code>
+       */
+      public boolean hasRuleKey() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>optional string rule_key = 2;</code>
+       */
+      public java.lang.String getRuleKey() {
+        java.lang.Object ref = ruleKey_;
+        if (ref instanceof java.lang.String) {
+          return (java.lang.String) ref;
+        } else {
+          com.google.protobuf.ByteString bs = 
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            ruleKey_ = s;
+          }
+          return s;
+        }
+      }
+      /**
+       * <code>optional string rule_key = 2;</code>
+       */
+      public com.google.protobuf.ByteString
+          getRuleKeyBytes() {
+        java.lang.Object ref = ruleKey_;
+        if (ref instanceof java.lang.String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          ruleKey_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+
+      public static final int TEMPLATE_RULE_KEY_FIELD_NUMBER = 3;
+      private java.lang.Object templateRuleKey_;
+      /**
+       * <code>optional string template_rule_key = 3;</code>
+       */
+      public boolean hasTemplateRuleKey() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
+      }
+      /**
+       * <code>optional string template_rule_key = 3;</code>
+       */
+      public java.lang.String getTemplateRuleKey() {
+        java.lang.Object ref = templateRuleKey_;
+        if (ref instanceof java.lang.String) {
+          return (java.lang.String) ref;
+        } else {
+          com.google.protobuf.ByteString bs = 
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            templateRuleKey_ = s;
+          }
+          return s;
+        }
+      }
+      /**
+       * <code>optional string template_rule_key = 3;</code>
+       */
+      public com.google.protobuf.ByteString
+          getTemplateRuleKeyBytes() {
+        java.lang.Object ref = templateRuleKey_;
+        if (ref instanceof java.lang.String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          templateRuleKey_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+
+      public static final int NAME_FIELD_NUMBER = 4;
+      private java.lang.Object name_;
+      /**
+       * <code>optional string name = 4;</code>
+       */
+      public boolean hasName() {
+        return ((bitField0_ & 0x00000008) == 0x00000008);
+      }
+      /**
+       * <code>optional string name = 4;</code>
+       */
+      public java.lang.String getName() {
+        java.lang.Object ref = name_;
+        if (ref instanceof java.lang.String) {
+          return (java.lang.String) ref;
+        } else {
+          com.google.protobuf.ByteString bs = 
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            name_ = s;
+          }
+          return s;
+        }
+      }
+      /**
+       * <code>optional string name = 4;</code>
+       */
+      public com.google.protobuf.ByteString
+          getNameBytes() {
+        java.lang.Object ref = name_;
+        if (ref instanceof java.lang.String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          name_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+
+      public static final int SEVERITY_FIELD_NUMBER = 5;
+      private java.lang.Object severity_;
+      /**
+       * <code>optional string severity = 5;</code>
+       */
+      public boolean hasSeverity() {
+        return ((bitField0_ & 0x00000010) == 0x00000010);
+      }
+      /**
+       * <code>optional string severity = 5;</code>
+       */
+      public java.lang.String getSeverity() {
+        java.lang.Object ref = severity_;
+        if (ref instanceof java.lang.String) {
+          return (java.lang.String) ref;
+        } else {
+          com.google.protobuf.ByteString bs = 
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            severity_ = s;
+          }
+          return s;
+        }
+      }
+      /**
+       * <code>optional string severity = 5;</code>
+       */
+      public com.google.protobuf.ByteString
+          getSeverityBytes() {
+        java.lang.Object ref = severity_;
+        if (ref instanceof java.lang.String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          severity_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+
+      public static final int INTERNAL_KEY_FIELD_NUMBER = 6;
+      private java.lang.Object internalKey_;
+      /**
+       * <code>optional string internal_key = 6;</code>
+       */
+      public boolean hasInternalKey() {
+        return ((bitField0_ & 0x00000020) == 0x00000020);
+      }
+      /**
+       * <code>optional string internal_key = 6;</code>
+       */
+      public java.lang.String getInternalKey() {
+        java.lang.Object ref = internalKey_;
+        if (ref instanceof java.lang.String) {
+          return (java.lang.String) ref;
+        } else {
+          com.google.protobuf.ByteString bs = 
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            internalKey_ = s;
+          }
+          return s;
+        }
+      }
+      /**
+       * <code>optional string internal_key = 6;</code>
+       */
+      public com.google.protobuf.ByteString
+          getInternalKeyBytes() {
+        java.lang.Object ref = internalKey_;
+        if (ref instanceof java.lang.String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          internalKey_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+
+      public static final int LANGUAGE_FIELD_NUMBER = 7;
+      private java.lang.Object language_;
+      /**
+       * <code>optional string language = 7;</code>
+       */
+      public boolean hasLanguage() {
+        return ((bitField0_ & 0x00000040) == 0x00000040);
+      }
+      /**
+       * <code>optional string language = 7;</code>
+       */
+      public java.lang.String getLanguage() {
+        java.lang.Object ref = language_;
+        if (ref instanceof java.lang.String) {
+          return (java.lang.String) ref;
+        } else {
+          com.google.protobuf.ByteString bs = 
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            language_ = s;
+          }
+          return s;
+        }
+      }
+      /**
+       * <code>optional string language = 7;</code>
+       */
+      public com.google.protobuf.ByteString
+          getLanguageBytes() {
+        java.lang.Object ref = language_;
+        if (ref instanceof java.lang.String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          language_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+
+      public static final int PARAM_FIELD_NUMBER = 8;
+      private java.util.List<org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.KeyValue> param_;
+      /**
+       * <code>repeated .ProjectRepositoriesEntry.KeyValue param = 8;</code>
+       */
+      public java.util.List<org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.KeyValue> getParamList() {
+        return param_;
+      }
+      /**
+       * <code>repeated .ProjectRepositoriesEntry.KeyValue param = 8;</code>
+       */
+      public java.util.List<? extends org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.KeyValueOrBuilder> 
+          getParamOrBuilderList() {
+        return param_;
+      }
+      /**
+       * <code>repeated .ProjectRepositoriesEntry.KeyValue param = 8;</code>
+       */
+      public int getParamCount() {
+        return param_.size();
+      }
+      /**
+       * <code>repeated .ProjectRepositoriesEntry.KeyValue param = 8;</code>
+       */
+      public org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.KeyValue getParam(int index) {
+        return param_.get(index);
+      }
+      /**
+       * <code>repeated .ProjectRepositoriesEntry.KeyValue param = 8;</code>
+       */
+      public org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.KeyValueOrBuilder getParamOrBuilder(
+          int index) {
+        return param_.get(index);
+      }
+
+      private void initFields() {
+        repositoryKey_ = "";
+        ruleKey_ = "";
+        templateRuleKey_ = "";
+        name_ = "";
+        severity_ = "";
+        internalKey_ = "";
+        language_ = "";
+        param_ = java.util.Collections.emptyList();
+      }
+      private byte memoizedIsInitialized = -1;
+      public final boolean isInitialized() {
+        byte isInitialized = memoizedIsInitialized;
+        if (isInitialized == 1) return true;
+        if (isInitialized == 0) return false;
+
+        memoizedIsInitialized = 1;
+        return true;
+      }
+
+      public void writeTo(com.google.protobuf.CodedOutputStream output)
+                          throws java.io.IOException {
+        getSerializedSize();
+        if (((bitField0_ & 0x00000001) == 0x00000001)) {
+          output.writeBytes(1, getRepositoryKeyBytes());
+        }
+        if (((bitField0_ & 0x00000002) == 0x00000002)) {
+          output.writeBytes(2, getRuleKeyBytes());
+        }
+        if (((bitField0_ & 0x00000004) == 0x00000004)) {
+          output.writeBytes(3, getTemplateRuleKeyBytes());
+        }
+        if (((bitField0_ & 0x00000008) == 0x00000008)) {
+          output.writeBytes(4, getNameBytes());
+        }
+        if (((bitField0_ & 0x00000010) == 0x00000010)) {
+          output.writeBytes(5, getSeverityBytes());
+        }
+        if (((bitField0_ & 0x00000020) == 0x00000020)) {
+          output.writeBytes(6, getInternalKeyBytes());
+        }
+        if (((bitField0_ & 0x00000040) == 0x00000040)) {
+          output.writeBytes(7, getLanguageBytes());
+        }
+        for (int i = 0; i < param_.size(); i++) {
+          output.writeMessage(8, param_.get(i));
+        }
+        getUnknownFields().writeTo(output);
+      }
+
+      private int memoizedSerializedSize = -1;
+      public int getSerializedSize() {
+        int size = memoizedSerializedSize;
+        if (size != -1) return size;
+
+        size = 0;
+        if (((bitField0_ & 0x00000001) == 0x00000001)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeBytesSize(1, getRepositoryKeyBytes());
+        }
+        if (((bitField0_ & 0x00000002) == 0x00000002)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeBytesSize(2, getRuleKeyBytes());
+        }
+        if (((bitField0_ & 0x00000004) == 0x00000004)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeBytesSize(3, getTemplateRuleKeyBytes());
+        }
+        if (((bitField0_ & 0x00000008) == 0x00000008)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeBytesSize(4, getNameBytes());
+        }
+        if (((bitField0_ & 0x00000010) == 0x00000010)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeBytesSize(5, getSeverityBytes());
+        }
+        if (((bitField0_ & 0x00000020) == 0x00000020)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeBytesSize(6, getInternalKeyBytes());
+        }
+        if (((bitField0_ & 0x00000040) == 0x00000040)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeBytesSize(7, getLanguageBytes());
+        }
+        for (int i = 0; i < param_.size(); i++) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeMessageSize(8, param_.get(i));
+        }
+        size += getUnknownFields().getSerializedSize();
+        memoizedSerializedSize = size;
+        return size;
+      }
+
+      private static final long serialVersionUID = 0L;
+      @java.lang.Override
+      protected java.lang.Object writeReplace()
+          throws java.io.ObjectStreamException {
+        return super.writeReplace();
+      }
+
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.ActiveRule parseFrom(
+          com.google.protobuf.ByteString data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.ActiveRule parseFrom(
+          com.google.protobuf.ByteString data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.ActiveRule parseFrom(byte[] data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.ActiveRule parseFrom(
+          byte[] data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.ActiveRule parseFrom(java.io.InputStream input)
+          throws java.io.IOException {
+        return PARSER.parseFrom(input);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.ActiveRule parseFrom(
+          java.io.InputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return PARSER.parseFrom(input, extensionRegistry);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.ActiveRule parseDelimitedFrom(java.io.InputStream input)
+          throws java.io.IOException {
+        return PARSER.parseDelimitedFrom(input);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.ActiveRule parseDelimitedFrom(
+          java.io.InputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return PARSER.parseDelimitedFrom(input, extensionRegistry);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.ActiveRule parseFrom(
+          com.google.protobuf.CodedInputStream input)
+          throws java.io.IOException {
+        return PARSER.parseFrom(input);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.ActiveRule parseFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return PARSER.parseFrom(input, extensionRegistry);
+      }
+
+      public static Builder newBuilder() { return Builder.create(); }
+      public Builder newBuilderForType() { return newBuilder(); }
+      public static Builder newBuilder(org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.ActiveRule prototype) {
+        return newBuilder().mergeFrom(prototype);
+      }
+      public Builder toBuilder() { return newBuilder(this); }
+
+      @java.lang.Override
+      protected Builder newBuilderForType(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        Builder builder = new Builder(parent);
+        return builder;
+      }
+      /**
+       * Protobuf type {@code ProjectRepositoriesEntry.ActiveRule}
+       */
+      public static final class Builder extends
+          com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+          // @@protoc_insertion_point(builder_implements:ProjectRepositoriesEntry.ActiveRule)
+          org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.ActiveRuleOrBuilder {
+        public static final com.google.protobuf.Descriptors.Descriptor
+            getDescriptor() {
+          return org.sonar.batch.protocol.input.BatchInput.internal_static_ProjectRepositoriesEntry_ActiveRule_descriptor;
+        }
+
+        protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+            internalGetFieldAccessorTable() {
+          return org.sonar.batch.protocol.input.BatchInput.internal_static_ProjectRepositoriesEntry_ActiveRule_fieldAccessorTable
+              .ensureFieldAccessorsInitialized(
+                  org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.ActiveRule.class, org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.ActiveRule.Builder.class);
+        }
+
+        // Construct using org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.ActiveRule.newBuilder()
+        private Builder() {
+          maybeForceBuilderInitialization();
+        }
+
+        private Builder(
+            com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+          super(parent);
+          maybeForceBuilderInitialization();
+        }
+        private void maybeForceBuilderInitialization() {
+          if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+            getParamFieldBuilder();
+          }
+        }
+        private static Builder create() {
+          return new Builder();
+        }
+
+        public Builder clear() {
+          super.clear();
+          repositoryKey_ = "";
+          bitField0_ = (bitField0_ & ~0x00000001);
+          ruleKey_ = "";
+          bitField0_ = (bitField0_ & ~0x00000002);
+          templateRuleKey_ = "";
+          bitField0_ = (bitField0_ & ~0x00000004);
+          name_ = "";
+          bitField0_ = (bitField0_ & ~0x00000008);
+          severity_ = "";
+          bitField0_ = (bitField0_ & ~0x00000010);
+          internalKey_ = "";
+          bitField0_ = (bitField0_ & ~0x00000020);
+          language_ = "";
+          bitField0_ = (bitField0_ & ~0x00000040);
+          if (paramBuilder_ == null) {
+            param_ = java.util.Collections.emptyList();
+            bitField0_ = (bitField0_ & ~0x00000080);
+          } else {
+            paramBuilder_.clear();
+          }
+          return this;
+        }
+
+        public Builder clone() {
+          return create().mergeFrom(buildPartial());
+        }
+
+        public com.google.protobuf.Descriptors.Descriptor
+            getDescriptorForType() {
+          return org.sonar.batch.protocol.input.BatchInput.internal_static_ProjectRepositoriesEntry_ActiveRule_descriptor;
+        }
+
+        public org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.ActiveRule getDefaultInstanceForType() {
+          return org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.ActiveRule.getDefaultInstance();
+        }
+
+        public org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.ActiveRule build() {
+          org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.ActiveRule result = buildPartial();
+          if (!result.isInitialized()) {
+            throw newUninitializedMessageException(result);
+          }
+          return result;
+        }
+
+        public org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.ActiveRule buildPartial() {
+          org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.ActiveRule result = new org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.ActiveRule(this);
+          int from_bitField0_ = bitField0_;
+          int to_bitField0_ = 0;
+          if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+            to_bitField0_ |= 0x00000001;
+          }
+          result.repositoryKey_ = repositoryKey_;
+          if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+            to_bitField0_ |= 0x00000002;
+          }
+          result.ruleKey_ = ruleKey_;
+          if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+            to_bitField0_ |= 0x00000004;
+          }
+          result.templateRuleKey_ = templateRuleKey_;
+          if (((from_bitField0_ & 0x00000008) == 0x00000008)) {
+            to_bitField0_ |= 0x00000008;
+          }
+          result.name_ = name_;
+          if (((from_bitField0_ & 0x00000010) == 0x00000010)) {
+            to_bitField0_ |= 0x00000010;
+          }
+          result.severity_ = severity_;
+          if (((from_bitField0_ & 0x00000020) == 0x00000020)) {
+            to_bitField0_ |= 0x00000020;
+          }
+          result.internalKey_ = internalKey_;
+          if (((from_bitField0_ & 0x00000040) == 0x00000040)) {
+            to_bitField0_ |= 0x00000040;
+          }
+          result.language_ = language_;
+          if (paramBuilder_ == null) {
+            if (((bitField0_ & 0x00000080) == 0x00000080)) {
+              param_ = java.util.Collections.unmodifiableList(param_);
+              bitField0_ = (bitField0_ & ~0x00000080);
+            }
+            result.param_ = param_;
+          } else {
+            result.param_ = paramBuilder_.build();
+          }
+          result.bitField0_ = to_bitField0_;
+          onBuilt();
+          return result;
+        }
+
+        public Builder mergeFrom(com.google.protobuf.Message other) {
+          if (other instanceof org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.ActiveRule) {
+            return mergeFrom((org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.ActiveRule)other);
+          } else {
+            super.mergeFrom(other);
+            return this;
+          }
+        }
+
+        public Builder mergeFrom(org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.ActiveRule other) {
+          if (other == org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.ActiveRule.getDefaultInstance()) return this;
+          if (other.hasRepositoryKey()) {
+            bitField0_ |= 0x00000001;
+            repositoryKey_ = other.repositoryKey_;
+            onChanged();
+          }
+          if (other.hasRuleKey()) {
+            bitField0_ |= 0x00000002;
+            ruleKey_ = other.ruleKey_;
+            onChanged();
+          }
+          if (other.hasTemplateRuleKey()) {
+            bitField0_ |= 0x00000004;
+            templateRuleKey_ = other.templateRuleKey_;
+            onChanged();
+          }
+          if (other.hasName()) {
+            bitField0_ |= 0x00000008;
+            name_ = other.name_;
+            onChanged();
+          }
+          if (other.hasSeverity()) {
+            bitField0_ |= 0x00000010;
+            severity_ = other.severity_;
+            onChanged();
+          }
+          if (other.hasInternalKey()) {
+            bitField0_ |= 0x00000020;
+            internalKey_ = other.internalKey_;
+            onChanged();
+          }
+          if (other.hasLanguage()) {
+            bitField0_ |= 0x00000040;
+            language_ = other.language_;
+            onChanged();
+          }
+          if (paramBuilder_ == null) {
+            if (!other.param_.isEmpty()) {
+              if (param_.isEmpty()) {
+                param_ = other.param_;
+                bitField0_ = (bitField0_ & ~0x00000080);
+              } else {
+                ensureParamIsMutable();
+                param_.addAll(other.param_);
+              }
+              onChanged();
+            }
+          } else {
+            if (!other.param_.isEmpty()) {
+              if (paramBuilder_.isEmpty()) {
+                paramBuilder_.dispose();
+                paramBuilder_ = null;
+                param_ = other.param_;
+                bitField0_ = (bitField0_ & ~0x00000080);
+                paramBuilder_ = 
+                  com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                     getParamFieldBuilder() : null;
+              } else {
+                paramBuilder_.addAllMessages(other.param_);
+              }
+            }
+          }
+          this.mergeUnknownFields(other.getUnknownFields());
+          return this;
+        }
+
+        public final boolean isInitialized() {
+          return true;
+        }
+
+        public Builder mergeFrom(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws java.io.IOException {
+          org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.ActiveRule parsedMessage = null;
+          try {
+            parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+          } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+            parsedMessage = (org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.ActiveRule) e.getUnfinishedMessage();
+            throw e;
+          } finally {
+            if (parsedMessage != null) {
+              mergeFrom(parsedMessage);
+            }
+          }
+          return this;
+        }
+        private int bitField0_;
+
+        private java.lang.Object repositoryKey_ = "";
+        /**
+         * <code>optional string repository_key = 1;</code>
+         */
+        public boolean hasRepositoryKey() {
+          return ((bitField0_ & 0x00000001) == 0x00000001);
+        }
+        /**
+         * <code>optional string repository_key = 1;</code>
+         */
+        public java.lang.String getRepositoryKey() {
+          java.lang.Object ref = repositoryKey_;
+          if (!(ref instanceof java.lang.String)) {
+            com.google.protobuf.ByteString bs =
+                (com.google.protobuf.ByteString) ref;
+            java.lang.String s = bs.toStringUtf8();
+            if (bs.isValidUtf8()) {
+              repositoryKey_ = s;
+            }
+            return s;
+          } else {
+            return (java.lang.String) ref;
+          }
+        }
+        /**
+         * <code>optional string repository_key = 1;</code>
+         */
+        public com.google.protobuf.ByteString
+            getRepositoryKeyBytes() {
+          java.lang.Object ref = repositoryKey_;
+          if (ref instanceof String) {
+            com.google.protobuf.ByteString b = 
+                com.google.protobuf.ByteString.copyFromUtf8(
+                    (java.lang.String) ref);
+            repositoryKey_ = b;
+            return b;
+          } else {
+            return (com.google.protobuf.ByteString) ref;
+          }
+        }
+        /**
+         * <code>optional string repository_key = 1;</code>
+         */
+        public Builder setRepositoryKey(
+            java.lang.String value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+          repositoryKey_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional string repository_key = 1;</code>
+         */
+        public Builder clearRepositoryKey() {
+          bitField0_ = (bitField0_ & ~0x00000001);
+          repositoryKey_ = getDefaultInstance().getRepositoryKey();
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional string repository_key = 1;</code>
+         */
+        public Builder setRepositoryKeyBytes(
+            com.google.protobuf.ByteString value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+          repositoryKey_ = value;
+          onChanged();
+          return this;
+        }
+
+        private java.lang.Object ruleKey_ = "";
+        /**
+         * <code>optional string rule_key = 2;</code>
+         */
+        public boolean hasRuleKey() {
+          return ((bitField0_ & 0x00000002) == 0x00000002);
+        }
+        /**
+         * <code>optional string rule_key = 2;</code>
+         */
+        public java.lang.String getRuleKey() {
+          java.lang.Object ref = ruleKey_;
+          if (!(ref instanceof java.lang.String)) {
+            com.google.protobuf.ByteString bs =
+                (com.google.protobuf.ByteString) ref;
+            java.lang.String s = bs.toStringUtf8();
+            if (bs.isValidUtf8()) {
+              ruleKey_ = s;
+            }
+            return s;
+          } else {
+            return (java.lang.String) ref;
+          }
+        }
+        /**
+         * <code>optional string rule_key = 2;</code>
+         */
+        public com.google.protobuf.ByteString
+            getRuleKeyBytes() {
+          java.lang.Object ref = ruleKey_;
+          if (ref instanceof String) {
+            com.google.protobuf.ByteString b = 
+                com.google.protobuf.ByteString.copyFromUtf8(
+                    (java.lang.String) ref);
+            ruleKey_ = b;
+            return b;
+          } else {
+            return (com.google.protobuf.ByteString) ref;
+          }
+        }
+        /**
+         * <code>optional string rule_key = 2;</code>
+         */
+        public Builder setRuleKey(
+            java.lang.String value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+          ruleKey_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional string rule_key = 2;</code>
+         */
+        public Builder clearRuleKey() {
+          bitField0_ = (bitField0_ & ~0x00000002);
+          ruleKey_ = getDefaultInstance().getRuleKey();
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional string rule_key = 2;</code>
+         */
+        public Builder setRuleKeyBytes(
+            com.google.protobuf.ByteString value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+          ruleKey_ = value;
+          onChanged();
+          return this;
+        }
+
+        private java.lang.Object templateRuleKey_ = "";
+        /**
+         * <code>optional string template_rule_key = 3;</code>
+         */
+        public boolean hasTemplateRuleKey() {
+          return ((bitField0_ & 0x00000004) == 0x00000004);
+        }
+        /**
+         * <code>optional string template_rule_key = 3;</code>
+         */
+        public java.lang.String getTemplateRuleKey() {
+          java.lang.Object ref = templateRuleKey_;
+          if (!(ref instanceof java.lang.String)) {
+            com.google.protobuf.ByteString bs =
+                (com.google.protobuf.ByteString) ref;
+            java.lang.String s = bs.toStringUtf8();
+            if (bs.isValidUtf8()) {
+              templateRuleKey_ = s;
+            }
+            return s;
+          } else {
+            return (java.lang.String) ref;
+          }
+        }
+        /**
+         * <code>optional string template_rule_key = 3;</code>
+         */
+        public com.google.protobuf.ByteString
+            getTemplateRuleKeyBytes() {
+          java.lang.Object ref = templateRuleKey_;
+          if (ref instanceof String) {
+            com.google.protobuf.ByteString b = 
+                com.google.protobuf.ByteString.copyFromUtf8(
+                    (java.lang.String) ref);
+            templateRuleKey_ = b;
+            return b;
+          } else {
+            return (com.google.protobuf.ByteString) ref;
+          }
+        }
+        /**
+         * <code>optional string template_rule_key = 3;</code>
+         */
+        public Builder setTemplateRuleKey(
+            java.lang.String value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000004;
+          templateRuleKey_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional string template_rule_key = 3;</code>
+         */
+        public Builder clearTemplateRuleKey() {
+          bitField0_ = (bitField0_ & ~0x00000004);
+          templateRuleKey_ = getDefaultInstance().getTemplateRuleKey();
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional string template_rule_key = 3;</code>
+         */
+        public Builder setTemplateRuleKeyBytes(
+            com.google.protobuf.ByteString value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000004;
+          templateRuleKey_ = value;
+          onChanged();
+          return this;
+        }
+
+        private java.lang.Object name_ = "";
+        /**
+         * <code>optional string name = 4;</code>
+         */
+        public boolean hasName() {
+          return ((bitField0_ & 0x00000008) == 0x00000008);
+        }
+        /**
+         * <code>optional string name = 4;</code>
+         */
+        public java.lang.String getName() {
+          java.lang.Object ref = name_;
+          if (!(ref instanceof java.lang.String)) {
+            com.google.protobuf.ByteString bs =
+                (com.google.protobuf.ByteString) ref;
+            java.lang.String s = bs.toStringUtf8();
+            if (bs.isValidUtf8()) {
+              name_ = s;
+            }
+            return s;
+          } else {
+            return (java.lang.String) ref;
+          }
+        }
+        /**
+         * <code>optional string name = 4;</code>
+         */
+        public com.google.protobuf.ByteString
+            getNameBytes() {
+          java.lang.Object ref = name_;
+          if (ref instanceof String) {
+            com.google.protobuf.ByteString b = 
+                com.google.protobuf.ByteString.copyFromUtf8(
+                    (java.lang.String) ref);
+            name_ = b;
+            return b;
+          } else {
+            return (com.google.protobuf.ByteString) ref;
+          }
+        }
+        /**
+         * <code>optional string name = 4;</code>
+         */
+        public Builder setName(
+            java.lang.String value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000008;
+          name_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional string name = 4;</code>
+         */
+        public Builder clearName() {
+          bitField0_ = (bitField0_ & ~0x00000008);
+          name_ = getDefaultInstance().getName();
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional string name = 4;</code>
+         */
+        public Builder setNameBytes(
+            com.google.protobuf.ByteString value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000008;
+          name_ = value;
+          onChanged();
+          return this;
+        }
+
+        private java.lang.Object severity_ = "";
+        /**
+         * <code>optional string severity = 5;</code>
+         */
+        public boolean hasSeverity() {
+          return ((bitField0_ & 0x00000010) == 0x00000010);
+        }
+        /**
+         * <code>optional string severity = 5;</code>
+         */
+        public java.lang.String getSeverity() {
+          java.lang.Object ref = severity_;
+          if (!(ref instanceof java.lang.String)) {
+            com.google.protobuf.ByteString bs =
+                (com.google.protobuf.ByteString) ref;
+            java.lang.String s = bs.toStringUtf8();
+            if (bs.isValidUtf8()) {
+              severity_ = s;
+            }
+            return s;
+          } else {
+            return (java.lang.String) ref;
+          }
+        }
+        /**
+         * <code>optional string severity = 5;</code>
+         */
+        public com.google.protobuf.ByteString
+            getSeverityBytes() {
+          java.lang.Object ref = severity_;
+          if (ref instanceof String) {
+            com.google.protobuf.ByteString b = 
+                com.google.protobuf.ByteString.copyFromUtf8(
+                    (java.lang.String) ref);
+            severity_ = b;
+            return b;
+          } else {
+            return (com.google.protobuf.ByteString) ref;
+          }
+        }
+        /**
+         * <code>optional string severity = 5;</code>
+         */
+        public Builder setSeverity(
+            java.lang.String value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000010;
+          severity_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional string severity = 5;</code>
+         */
+        public Builder clearSeverity() {
+          bitField0_ = (bitField0_ & ~0x00000010);
+          severity_ = getDefaultInstance().getSeverity();
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional string severity = 5;</code>
+         */
+        public Builder setSeverityBytes(
+            com.google.protobuf.ByteString value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000010;
+          severity_ = value;
+          onChanged();
+          return this;
+        }
+
+        private java.lang.Object internalKey_ = "";
+        /**
+         * <code>optional string internal_key = 6;</code>
+         */
+        public boolean hasInternalKey() {
+          return ((bitField0_ & 0x00000020) == 0x00000020);
+        }
+        /**
+         * <code>optional string internal_key = 6;</code>
+         */
+        public java.lang.String getInternalKey() {
+          java.lang.Object ref = internalKey_;
+          if (!(ref instanceof java.lang.String)) {
+            com.google.protobuf.ByteString bs =
+                (com.google.protobuf.ByteString) ref;
+            java.lang.String s = bs.toStringUtf8();
+            if (bs.isValidUtf8()) {
+              internalKey_ = s;
+            }
+            return s;
+          } else {
+            return (java.lang.String) ref;
+          }
+        }
+        /**
+         * <code>optional string internal_key = 6;</code>
+         */
+        public com.google.protobuf.ByteString
+            getInternalKeyBytes() {
+          java.lang.Object ref = internalKey_;
+          if (ref instanceof String) {
+            com.google.protobuf.ByteString b = 
+                com.google.protobuf.ByteString.copyFromUtf8(
+                    (java.lang.String) ref);
+            internalKey_ = b;
+            return b;
+          } else {
+            return (com.google.protobuf.ByteString) ref;
+          }
+        }
+        /**
+         * <code>optional string internal_key = 6;</code>
+         */
+        public Builder setInternalKey(
+            java.lang.String value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000020;
+          internalKey_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional string internal_key = 6;</code>
+         */
+        public Builder clearInternalKey() {
+          bitField0_ = (bitField0_ & ~0x00000020);
+          internalKey_ = getDefaultInstance().getInternalKey();
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional string internal_key = 6;</code>
+         */
+        public Builder setInternalKeyBytes(
+            com.google.protobuf.ByteString value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000020;
+          internalKey_ = value;
+          onChanged();
+          return this;
+        }
+
+        private java.lang.Object language_ = "";
+        /**
+         * <code>optional string language = 7;</code>
+         */
+        public boolean hasLanguage() {
+          return ((bitField0_ & 0x00000040) == 0x00000040);
+        }
+        /**
+         * <code>optional string language = 7;</code>
+         */
+        public java.lang.String getLanguage() {
+          java.lang.Object ref = language_;
+          if (!(ref instanceof java.lang.String)) {
+            com.google.protobuf.ByteString bs =
+                (com.google.protobuf.ByteString) ref;
+            java.lang.String s = bs.toStringUtf8();
+            if (bs.isValidUtf8()) {
+              language_ = s;
+            }
+            return s;
+          } else {
+            return (java.lang.String) ref;
+          }
+        }
+        /**
+         * <code>optional string language = 7;</code>
+         */
+        public com.google.protobuf.ByteString
+            getLanguageBytes() {
+          java.lang.Object ref = language_;
+          if (ref instanceof String) {
+            com.google.protobuf.ByteString b = 
+                com.google.protobuf.ByteString.copyFromUtf8(
+                    (java.lang.String) ref);
+            language_ = b;
+            return b;
+          } else {
+            return (com.google.protobuf.ByteString) ref;
+          }
+        }
+        /**
+         * <code>optional string language = 7;</code>
+         */
+        public Builder setLanguage(
+            java.lang.String value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000040;
+          language_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional string language = 7;</code>
+         */
+        public Builder clearLanguage() {
+          bitField0_ = (bitField0_ & ~0x00000040);
+          language_ = getDefaultInstance().getLanguage();
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional string language = 7;</code>
+         */
+        public Builder setLanguageBytes(
+            com.google.protobuf.ByteString value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000040;
+          language_ = value;
+          onChanged();
+          return this;
+        }
+
+        private java.util.List<org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.KeyValue> param_ =
+          java.util.Collections.emptyList();
+        private void ensureParamIsMutable() {
+          if (!((bitField0_ & 0x00000080) == 0x00000080)) {
+            param_ = new java.util.ArrayList<org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.KeyValue>(param_);
+            bitField0_ |= 0x00000080;
+           }
+        }
+
+        private com.google.protobuf.RepeatedFieldBuilder<
+            org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.KeyValue, org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.KeyValue.Builder, org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.KeyValueOrBuilder> paramBuilder_;
+
+        /**
+         * <code>repeated .ProjectRepositoriesEntry.KeyValue param = 8;</code>
+         */
+        public java.util.List<org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.KeyValue> getParamList() {
+          if (paramBuilder_ == null) {
+            return java.util.Collections.unmodifiableList(param_);
+          } else {
+            return paramBuilder_.getMessageList();
+          }
+        }
+        /**
+         * <code>repeated .ProjectRepositoriesEntry.KeyValue param = 8;</code>
+         */
+        public int getParamCount() {
+          if (paramBuilder_ == null) {
+            return param_.size();
+          } else {
+            return paramBuilder_.getCount();
+          }
+        }
+        /**
+         * <code>repeated .ProjectRepositoriesEntry.KeyValue param = 8;</code>
+         */
+        public org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.KeyValue getParam(int index) {
+          if (paramBuilder_ == null) {
+            return param_.get(index);
+          } else {
+            return paramBuilder_.getMessage(index);
+          }
+        }
+        /**
+         * <code>repeated .ProjectRepositoriesEntry.KeyValue param = 8;</code>
+         */
+        public Builder setParam(
+            int index, org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.KeyValue value) {
+          if (paramBuilder_ == null) {
+            if (value == null) {
+              throw new NullPointerException();
+            }
+            ensureParamIsMutable();
+            param_.set(index, value);
+            onChanged();
+          } else {
+            paramBuilder_.setMessage(index, value);
+          }
+          return this;
+        }
+        /**
+         * <code>repeated .ProjectRepositoriesEntry.KeyValue param = 8;</code>
+         */
+        public Builder setParam(
+            int index, org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.KeyValue.Builder builderForValue) {
+          if (paramBuilder_ == null) {
+            ensureParamIsMutable();
+            param_.set(index, builderForValue.build());
+            onChanged();
+          } else {
+            paramBuilder_.setMessage(index, builderForValue.build());
+          }
+          return this;
+        }
+        /**
+         * <code>repeated .ProjectRepositoriesEntry.KeyValue param = 8;</code>
+         */
+        public Builder addParam(org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.KeyValue value) {
+          if (paramBuilder_ == null) {
+            if (value == null) {
+              throw new NullPointerException();
+            }
+            ensureParamIsMutable();
+            param_.add(value);
+            onChanged();
+          } else {
+            paramBuilder_.addMessage(value);
+          }
+          return this;
+        }
+        /**
+         * <code>repeated .ProjectRepositoriesEntry.KeyValue param = 8;</code>
+         */
+        public Builder addParam(
+            int index, org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.KeyValue value) {
+          if (paramBuilder_ == null) {
+            if (value == null) {
+              throw new NullPointerException();
+            }
+            ensureParamIsMutable();
+            param_.add(index, value);
+            onChanged();
+          } else {
+            paramBuilder_.addMessage(index, value);
+          }
+          return this;
+        }
+        /**
+         * <code>repeated .ProjectRepositoriesEntry.KeyValue param = 8;</code>
+         */
+        public Builder addParam(
+            org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.KeyValue.Builder builderForValue) {
+          if (paramBuilder_ == null) {
+            ensureParamIsMutable();
+            param_.add(builderForValue.build());
+            onChanged();
+          } else {
+            paramBuilder_.addMessage(builderForValue.build());
+          }
+          return this;
+        }
+        /**
+         * <code>repeated .ProjectRepositoriesEntry.KeyValue param = 8;</code>
+         */
+        public Builder addParam(
+            int index, org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.KeyValue.Builder builderForValue) {
+          if (paramBuilder_ == null) {
+            ensureParamIsMutable();
+            param_.add(index, builderForValue.build());
+            onChanged();
+          } else {
+            paramBuilder_.addMessage(index, builderForValue.build());
+          }
+          return this;
+        }
+        /**
+         * <code>repeated .ProjectRepositoriesEntry.KeyValue param = 8;</code>
+         */
+        public Builder addAllParam(
+            java.lang.Iterable<? extends org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.KeyValue> values) {
+          if (paramBuilder_ == null) {
+            ensureParamIsMutable();
+            com.google.protobuf.AbstractMessageLite.Builder.addAll(
+                values, param_);
+            onChanged();
+          } else {
+            paramBuilder_.addAllMessages(values);
+          }
+          return this;
+        }
+        /**
+         * <code>repeated .ProjectRepositoriesEntry.KeyValue param = 8;</code>
+         */
+        public Builder clearParam() {
+          if (paramBuilder_ == null) {
+            param_ = java.util.Collections.emptyList();
+            bitField0_ = (bitField0_ & ~0x00000080);
+            onChanged();
+          } else {
+            paramBuilder_.clear();
+          }
+          return this;
+        }
+        /**
+         * <code>repeated .ProjectRepositoriesEntry.KeyValue param = 8;</code>
+         */
+        public Builder removeParam(int index) {
+          if (paramBuilder_ == null) {
+            ensureParamIsMutable();
+            param_.remove(index);
+            onChanged();
+          } else {
+            paramBuilder_.remove(index);
+          }
+          return this;
+        }
+        /**
+         * <code>repeated .ProjectRepositoriesEntry.KeyValue param = 8;</code>
+         */
+        public org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.KeyValue.Builder getParamBuilder(
+            int index) {
+          return getParamFieldBuilder().getBuilder(index);
+        }
+        /**
+         * <code>repeated .ProjectRepositoriesEntry.KeyValue param = 8;</code>
+         */
+        public org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.KeyValueOrBuilder getParamOrBuilder(
+            int index) {
+          if (paramBuilder_ == null) {
+            return param_.get(index);  } else {
+            return paramBuilder_.getMessageOrBuilder(index);
+          }
+        }
+        /**
+         * <code>repeated .ProjectRepositoriesEntry.KeyValue param = 8;</code>
+         */
+        public java.util.List<? extends org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.KeyValueOrBuilder> 
+             getParamOrBuilderList() {
+          if (paramBuilder_ != null) {
+            return paramBuilder_.getMessageOrBuilderList();
+          } else {
+            return java.util.Collections.unmodifiableList(param_);
+          }
+        }
+        /**
+         * <code>repeated .ProjectRepositoriesEntry.KeyValue param = 8;</code>
+         */
+        public org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.KeyValue.Builder addParamBuilder() {
+          return getParamFieldBuilder().addBuilder(
+              org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.KeyValue.getDefaultInstance());
+        }
+        /**
+         * <code>repeated .ProjectRepositoriesEntry.KeyValue param = 8;</code>
+         */
+        public org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.KeyValue.Builder addParamBuilder(
+            int index) {
+          return getParamFieldBuilder().addBuilder(
+              index, org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.KeyValue.getDefaultInstance());
+        }
+        /**
+         * <code>repeated .ProjectRepositoriesEntry.KeyValue param = 8;</code>
+         */
+        public java.util.List<org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.KeyValue.Builder> 
+             getParamBuilderList() {
+          return getParamFieldBuilder().getBuilderList();
+        }
+        private com.google.protobuf.RepeatedFieldBuilder<
+            org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.KeyValue, org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.KeyValue.Builder, org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.KeyValueOrBuilder> 
+            getParamFieldBuilder() {
+          if (paramBuilder_ == null) {
+            paramBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+                org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.KeyValue, org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.KeyValue.Builder, org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.KeyValueOrBuilder>(
+                    param_,
+                    ((bitField0_ & 0x00000080) == 0x00000080),
+                    getParentForChildren(),
+                    isClean());
+            param_ = null;
+          }
+          return paramBuilder_;
+        }
+
+        // @@protoc_insertion_point(builder_scope:ProjectRepositoriesEntry.ActiveRule)
+      }
+
+      static {
+        defaultInstance = new ActiveRule(true);
+        defaultInstance.initFields();
+      }
+
+      // @@protoc_insertion_point(class_scope:ProjectRepositoriesEntry.ActiveRule)
+    }
+
+    public interface ModuleSettingsOrBuilder extends
+        // @@protoc_insertion_point(interface_extends:ProjectRepositoriesEntry.ModuleSettings)
+        com.google.protobuf.MessageOrBuilder {
+
+      /**
+       * <code>optional string module_key = 1;</code>
+       */
+      boolean hasModuleKey();
+      /**
+       * <code>optional string module_key = 1;</code>
+       */
+      java.lang.String getModuleKey();
+      /**
+       * <code>optional string module_key = 1;</code>
+       */
+      com.google.protobuf.ByteString
+          getModuleKeyBytes();
+
+      /**
+       * <code>repeated .ProjectRepositoriesEntry.KeyValue property = 2;</code>
+       */
+      java.util.List<org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.KeyValue> 
+          getPropertyList();
+      /**
+       * <code>repeated .ProjectRepositoriesEntry.KeyValue property = 2;</code>
+       */
+      org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.KeyValue getProperty(int index);
+      /**
+       * <code>repeated .ProjectRepositoriesEntry.KeyValue property = 2;</code>
+       */
+      int getPropertyCount();
+      /**
+       * <code>repeated .ProjectRepositoriesEntry.KeyValue property = 2;</code>
+       */
+      java.util.List<? extends org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.KeyValueOrBuilder> 
+          getPropertyOrBuilderList();
+      /**
+       * <code>repeated .ProjectRepositoriesEntry.KeyValue property = 2;</code>
+       */
+      org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.KeyValueOrBuilder getPropertyOrBuilder(
+          int index);
+    }
+    /**
+     * Protobuf type {@code ProjectRepositoriesEntry.ModuleSettings}
+     */
+    public static final class ModuleSettings extends
+        com.google.protobuf.GeneratedMessage implements
+        // @@protoc_insertion_point(message_implements:ProjectRepositoriesEntry.ModuleSettings)
+        ModuleSettingsOrBuilder {
+      // Use ModuleSettings.newBuilder() to construct.
+      private ModuleSettings(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+        super(builder);
+        this.unknownFields = builder.getUnknownFields();
+      }
+      private ModuleSettings(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+      private static final ModuleSettings defaultInstance;
+      public static ModuleSettings getDefaultInstance() {
+        return defaultInstance;
+      }
+
+      public ModuleSettings getDefaultInstanceForType() {
+        return defaultInstance;
+      }
+
+      private final com.google.protobuf.UnknownFieldSet unknownFields;
+      @java.lang.Override
+      public final com.google.protobuf.UnknownFieldSet
+          getUnknownFields() {
+        return this.unknownFields;
+      }
+      private ModuleSettings(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        initFields();
+        int mutable_bitField0_ = 0;
+        com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+            com.google.protobuf.UnknownFieldSet.newBuilder();
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              default: {
+                if (!parseUnknownField(input, unknownFields,
+                                       extensionRegistry, tag)) {
+                  done = true;
+                }
+                break;
+              }
+              case 10: {
+                com.google.protobuf.ByteString bs = input.readBytes();
+                bitField0_ |= 0x00000001;
+                moduleKey_ = bs;
+                break;
+              }
+              case 18: {
+                if (!((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+                  property_ = new java.util.ArrayList<org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.KeyValue>();
+                  mutable_bitField0_ |= 0x00000002;
+                }
+                property_.add(input.readMessage(org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.KeyValue.PARSER, extensionRegistry));
+                break;
+              }
+            }
+          }
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(this);
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(
+              e.getMessage()).setUnfinishedMessage(this);
+        } finally {
+          if (((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+            property_ = java.util.Collections.unmodifiableList(property_);
+          }
+          this.unknownFields = unknownFields.build();
+          makeExtensionsImmutable();
+        }
+      }
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.sonar.batch.protocol.input.BatchInput.internal_static_ProjectRepositoriesEntry_ModuleSettings_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.sonar.batch.protocol.input.BatchInput.internal_static_ProjectRepositoriesEntry_ModuleSettings_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.ModuleSettings.class, org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.ModuleSettings.Builder.class);
+      }
+
+      public static com.google.protobuf.Parser<ModuleSettings> PARSER =
+          new com.google.protobuf.AbstractParser<ModuleSettings>() {
+        public ModuleSettings parsePartialFrom(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws com.google.protobuf.InvalidProtocolBufferException {
+          return new ModuleSettings(input, extensionRegistry);
+        }
+      };
+
+      @java.lang.Override
+      public com.google.protobuf.Parser<ModuleSettings> getParserForType() {
+        return PARSER;
+      }
+
+      private int bitField0_;
+      public static final int MODULE_KEY_FIELD_NUMBER = 1;
+      private java.lang.Object moduleKey_;
+      /**
+       * <code>optional string module_key = 1;</code>
+       */
+      public boolean hasModuleKey() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>optional string module_key = 1;</code>
+       */
+      public java.lang.String getModuleKey() {
+        java.lang.Object ref = moduleKey_;
+        if (ref instanceof java.lang.String) {
+          return (java.lang.String) ref;
+        } else {
+          com.google.protobuf.ByteString bs = 
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            moduleKey_ = s;
+          }
+          return s;
+        }
+      }
+      /**
+       * <code>optional string module_key = 1;</code>
+       */
+      public com.google.protobuf.ByteString
+          getModuleKeyBytes() {
+        java.lang.Object ref = moduleKey_;
+        if (ref instanceof java.lang.String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          moduleKey_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+
+      public static final int PROPERTY_FIELD_NUMBER = 2;
+      private java.util.List<org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.KeyValue> property_;
+      /**
+       * <code>repeated .ProjectRepositoriesEntry.KeyValue property = 2;</code>
+       */
+      public java.util.List<org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.KeyValue> getPropertyList() {
+        return property_;
+      }
+      /**
+       * <code>repeated .ProjectRepositoriesEntry.KeyValue property = 2;</code>
+       */
+      public java.util.List<? extends org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.KeyValueOrBuilder> 
+          getPropertyOrBuilderList() {
+        return property_;
+      }
+      /**
+       * <code>repeated .ProjectRepositoriesEntry.KeyValue property = 2;</code>
+       */
+      public int getPropertyCount() {
+        return property_.size();
+      }
+      /**
+       * <code>repeated .ProjectRepositoriesEntry.KeyValue property = 2;</code>
+       */
+      public org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.KeyValue getProperty(int index) {
+        return property_.get(index);
+      }
+      /**
+       * <code>repeated .ProjectRepositoriesEntry.KeyValue property = 2;</code>
+       */
+      public org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.KeyValueOrBuilder getPropertyOrBuilder(
+          int index) {
+        return property_.get(index);
+      }
+
+      private void initFields() {
+        moduleKey_ = "";
+        property_ = java.util.Collections.emptyList();
+      }
+      private byte memoizedIsInitialized = -1;
+      public final boolean isInitialized() {
+        byte isInitialized = memoizedIsInitialized;
+        if (isInitialized == 1) return true;
+        if (isInitialized == 0) return false;
+
+        memoizedIsInitialized = 1;
+        return true;
+      }
+
+      public void writeTo(com.google.protobuf.CodedOutputStream output)
+                          throws java.io.IOException {
+        getSerializedSize();
+        if (((bitField0_ & 0x00000001) == 0x00000001)) {
+          output.writeBytes(1, getModuleKeyBytes());
+        }
+        for (int i = 0; i < property_.size(); i++) {
+          output.writeMessage(2, property_.get(i));
+        }
+        getUnknownFields().writeTo(output);
+      }
+
+      private int memoizedSerializedSize = -1;
+      public int getSerializedSize() {
+        int size = memoizedSerializedSize;
+        if (size != -1) return size;
+
+        size = 0;
+        if (((bitField0_ & 0x00000001) == 0x00000001)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeBytesSize(1, getModuleKeyBytes());
+        }
+        for (int i = 0; i < property_.size(); i++) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeMessageSize(2, property_.get(i));
+        }
+        size += getUnknownFields().getSerializedSize();
+        memoizedSerializedSize = size;
+        return size;
+      }
+
+      private static final long serialVersionUID = 0L;
+      @java.lang.Override
+      protected java.lang.Object writeReplace()
+          throws java.io.ObjectStreamException {
+        return super.writeReplace();
+      }
+
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.ModuleSettings parseFrom(
+          com.google.protobuf.ByteString data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.ModuleSettings parseFrom(
+          com.google.protobuf.ByteString data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.ModuleSettings parseFrom(byte[] data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.ModuleSettings parseFrom(
+          byte[] data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.ModuleSettings parseFrom(java.io.InputStream input)
+          throws java.io.IOException {
+        return PARSER.parseFrom(input);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.ModuleSettings parseFrom(
+          java.io.InputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return PARSER.parseFrom(input, extensionRegistry);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.ModuleSettings parseDelimitedFrom(java.io.InputStream input)
+          throws java.io.IOException {
+        return PARSER.parseDelimitedFrom(input);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.ModuleSettings parseDelimitedFrom(
+          java.io.InputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return PARSER.parseDelimitedFrom(input, extensionRegistry);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.ModuleSettings parseFrom(
+          com.google.protobuf.CodedInputStream input)
+          throws java.io.IOException {
+        return PARSER.parseFrom(input);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.ModuleSettings parseFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return PARSER.parseFrom(input, extensionRegistry);
+      }
+
+      public static Builder newBuilder() { return Builder.create(); }
+      public Builder newBuilderForType() { return newBuilder(); }
+      public static Builder newBuilder(org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.ModuleSettings prototype) {
+        return newBuilder().mergeFrom(prototype);
+      }
+      public Builder toBuilder() { return newBuilder(this); }
+
+      @java.lang.Override
+      protected Builder newBuilderForType(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        Builder builder = new Builder(parent);
+        return builder;
+      }
+      /**
+       * Protobuf type {@code ProjectRepositoriesEntry.ModuleSettings}
+       */
+      public static final class Builder extends
+          com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+          // @@protoc_insertion_point(builder_implements:ProjectRepositoriesEntry.ModuleSettings)
+          org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.ModuleSettingsOrBuilder {
+        public static final com.google.protobuf.Descriptors.Descriptor
+            getDescriptor() {
+          return org.sonar.batch.protocol.input.BatchInput.internal_static_ProjectRepositoriesEntry_ModuleSettings_descriptor;
+        }
+
+        protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+            internalGetFieldAccessorTable() {
+          return org.sonar.batch.protocol.input.BatchInput.internal_static_ProjectRepositoriesEntry_ModuleSettings_fieldAccessorTable
+              .ensureFieldAccessorsInitialized(
+                  org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.ModuleSettings.class, org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.ModuleSettings.Builder.class);
+        }
+
+        // Construct using org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.ModuleSettings.newBuilder()
+        private Builder() {
+          maybeForceBuilderInitialization();
+        }
+
+        private Builder(
+            com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+          super(parent);
+          maybeForceBuilderInitialization();
+        }
+        private void maybeForceBuilderInitialization() {
+          if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+            getPropertyFieldBuilder();
+          }
+        }
+        private static Builder create() {
+          return new Builder();
+        }
+
+        public Builder clear() {
+          super.clear();
+          moduleKey_ = "";
+          bitField0_ = (bitField0_ & ~0x00000001);
+          if (propertyBuilder_ == null) {
+            property_ = java.util.Collections.emptyList();
+            bitField0_ = (bitField0_ & ~0x00000002);
+          } else {
+            propertyBuilder_.clear();
+          }
+          return this;
+        }
+
+        public Builder clone() {
+          return create().mergeFrom(buildPartial());
+        }
+
+        public com.google.protobuf.Descriptors.Descriptor
+            getDescriptorForType() {
+          return org.sonar.batch.protocol.input.BatchInput.internal_static_ProjectRepositoriesEntry_ModuleSettings_descriptor;
+        }
+
+        public org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.ModuleSettings getDefaultInstanceForType() {
+          return org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.ModuleSettings.getDefaultInstance();
+        }
+
+        public org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.ModuleSettings build() {
+          org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.ModuleSettings result = buildPartial();
+          if (!result.isInitialized()) {
+            throw newUninitializedMessageException(result);
+          }
+          return result;
+        }
+
+        public org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.ModuleSettings buildPartial() {
+          org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.ModuleSettings result = new org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.ModuleSettings(this);
+          int from_bitField0_ = bitField0_;
+          int to_bitField0_ = 0;
+          if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+            to_bitField0_ |= 0x00000001;
+          }
+          result.moduleKey_ = moduleKey_;
+          if (propertyBuilder_ == null) {
+            if (((bitField0_ & 0x00000002) == 0x00000002)) {
+              property_ = java.util.Collections.unmodifiableList(property_);
+              bitField0_ = (bitField0_ & ~0x00000002);
+            }
+            result.property_ = property_;
+          } else {
+            result.property_ = propertyBuilder_.build();
+          }
+          result.bitField0_ = to_bitField0_;
+          onBuilt();
+          return result;
+        }
+
+        public Builder mergeFrom(com.google.protobuf.Message other) {
+          if (other instanceof org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.ModuleSettings) {
+            return mergeFrom((org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.ModuleSettings)other);
+          } else {
+            super.mergeFrom(other);
+            return this;
+          }
+        }
+
+        public Builder mergeFrom(org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.ModuleSettings other) {
+          if (other == org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.ModuleSettings.getDefaultInstance()) return this;
+          if (other.hasModuleKey()) {
+            bitField0_ |= 0x00000001;
+            moduleKey_ = other.moduleKey_;
+            onChanged();
+          }
+          if (propertyBuilder_ == null) {
+            if (!other.property_.isEmpty()) {
+              if (property_.isEmpty()) {
+                property_ = other.property_;
+                bitField0_ = (bitField0_ & ~0x00000002);
+              } else {
+                ensurePropertyIsMutable();
+                property_.addAll(other.property_);
+              }
+              onChanged();
+            }
+          } else {
+            if (!other.property_.isEmpty()) {
+              if (propertyBuilder_.isEmpty()) {
+                propertyBuilder_.dispose();
+                propertyBuilder_ = null;
+                property_ = other.property_;
+                bitField0_ = (bitField0_ & ~0x00000002);
+                propertyBuilder_ = 
+                  com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                     getPropertyFieldBuilder() : null;
+              } else {
+                propertyBuilder_.addAllMessages(other.property_);
+              }
+            }
+          }
+          this.mergeUnknownFields(other.getUnknownFields());
+          return this;
+        }
+
+        public final boolean isInitialized() {
+          return true;
+        }
+
+        public Builder mergeFrom(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws java.io.IOException {
+          org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.ModuleSettings parsedMessage = null;
+          try {
+            parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+          } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+            parsedMessage = (org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.ModuleSettings) e.getUnfinishedMessage();
+            throw e;
+          } finally {
+            if (parsedMessage != null) {
+              mergeFrom(parsedMessage);
+            }
+          }
+          return this;
+        }
+        private int bitField0_;
+
+        private java.lang.Object moduleKey_ = "";
+        /**
+         * <code>optional string module_key = 1;</code>
+         */
+        public boolean hasModuleKey() {
+          return ((bitField0_ & 0x00000001) == 0x00000001);
+        }
+        /**
+         * <code>optional string module_key = 1;</code>
+         */
+        public java.lang.String getModuleKey() {
+          java.lang.Object ref = moduleKey_;
+          if (!(ref instanceof java.lang.String)) {
+            com.google.protobuf.ByteString bs =
+                (com.google.protobuf.ByteString) ref;
+            java.lang.String s = bs.toStringUtf8();
+            if (bs.isValidUtf8()) {
+              moduleKey_ = s;
+            }
+            return s;
+          } else {
+            return (java.lang.String) ref;
+          }
+        }
+        /**
+         * <code>optional string module_key = 1;</code>
+         */
+        public com.google.protobuf.ByteString
+            getModuleKeyBytes() {
+          java.lang.Object ref = moduleKey_;
+          if (ref instanceof String) {
+            com.google.protobuf.ByteString b = 
+                com.google.protobuf.ByteString.copyFromUtf8(
+                    (java.lang.String) ref);
+            moduleKey_ = b;
+            return b;
+          } else {
+            return (com.google.protobuf.ByteString) ref;
+          }
+        }
+        /**
+         * <code>optional string module_key = 1;</code>
+         */
+        public Builder setModuleKey(
+            java.lang.String value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+          moduleKey_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional string module_key = 1;</code>
+         */
+        public Builder clearModuleKey() {
+          bitField0_ = (bitField0_ & ~0x00000001);
+          moduleKey_ = getDefaultInstance().getModuleKey();
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional string module_key = 1;</code>
+         */
+        public Builder setModuleKeyBytes(
+            com.google.protobuf.ByteString value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+          moduleKey_ = value;
+          onChanged();
+          return this;
+        }
+
+        private java.util.List<org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.KeyValue> property_ =
+          java.util.Collections.emptyList();
+        private void ensurePropertyIsMutable() {
+          if (!((bitField0_ & 0x00000002) == 0x00000002)) {
+            property_ = new java.util.ArrayList<org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.KeyValue>(property_);
+            bitField0_ |= 0x00000002;
+           }
+        }
+
+        private com.google.protobuf.RepeatedFieldBuilder<
+            org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.KeyValue, org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.KeyValue.Builder, org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.KeyValueOrBuilder> propertyBuilder_;
+
+        /**
+         * <code>repeated .ProjectRepositoriesEntry.KeyValue property = 2;</code>
+         */
+        public java.util.List<org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.KeyValue> getPropertyList() {
+          if (propertyBuilder_ == null) {
+            return java.util.Collections.unmodifiableList(property_);
+          } else {
+            return propertyBuilder_.getMessageList();
+          }
+        }
+        /**
+         * <code>repeated .ProjectRepositoriesEntry.KeyValue property = 2;</code>
+         */
+        public int getPropertyCount() {
+          if (propertyBuilder_ == null) {
+            return property_.size();
+          } else {
+            return propertyBuilder_.getCount();
+          }
+        }
+        /**
+         * <code>repeated .ProjectRepositoriesEntry.KeyValue property = 2;</code>
+         */
+        public org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.KeyValue getProperty(int index) {
+          if (propertyBuilder_ == null) {
+            return property_.get(index);
+          } else {
+            return propertyBuilder_.getMessage(index);
+          }
+        }
+        /**
+         * <code>repeated .ProjectRepositoriesEntry.KeyValue property = 2;</code>
+         */
+        public Builder setProperty(
+            int index, org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.KeyValue value) {
+          if (propertyBuilder_ == null) {
+            if (value == null) {
+              throw new NullPointerException();
+            }
+            ensurePropertyIsMutable();
+            property_.set(index, value);
+            onChanged();
+          } else {
+            propertyBuilder_.setMessage(index, value);
+          }
+          return this;
+        }
+        /**
+         * <code>repeated .ProjectRepositoriesEntry.KeyValue property = 2;</code>
+         */
+        public Builder setProperty(
+            int index, org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.KeyValue.Builder builderForValue) {
+          if (propertyBuilder_ == null) {
+            ensurePropertyIsMutable();
+            property_.set(index, builderForValue.build());
+            onChanged();
+          } else {
+            propertyBuilder_.setMessage(index, builderForValue.build());
+          }
+          return this;
+        }
+        /**
+         * <code>repeated .ProjectRepositoriesEntry.KeyValue property = 2;</code>
+         */
+        public Builder addProperty(org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.KeyValue value) {
+          if (propertyBuilder_ == null) {
+            if (value == null) {
+              throw new NullPointerException();
+            }
+            ensurePropertyIsMutable();
+            property_.add(value);
+            onChanged();
+          } else {
+            propertyBuilder_.addMessage(value);
+          }
+          return this;
+        }
+        /**
+         * <code>repeated .ProjectRepositoriesEntry.KeyValue property = 2;</code>
+         */
+        public Builder addProperty(
+            int index, org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.KeyValue value) {
+          if (propertyBuilder_ == null) {
+            if (value == null) {
+              throw new NullPointerException();
+            }
+            ensurePropertyIsMutable();
+            property_.add(index, value);
+            onChanged();
+          } else {
+            propertyBuilder_.addMessage(index, value);
+          }
+          return this;
+        }
+        /**
+         * <code>repeated .ProjectRepositoriesEntry.KeyValue property = 2;</code>
+         */
+        public Builder addProperty(
+            org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.KeyValue.Builder builderForValue) {
+          if (propertyBuilder_ == null) {
+            ensurePropertyIsMutable();
+            property_.add(builderForValue.build());
+            onChanged();
+          } else {
+            propertyBuilder_.addMessage(builderForValue.build());
+          }
+          return this;
+        }
+        /**
+         * <code>repeated .ProjectRepositoriesEntry.KeyValue property = 2;</code>
+         */
+        public Builder addProperty(
+            int index, org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.KeyValue.Builder builderForValue) {
+          if (propertyBuilder_ == null) {
+            ensurePropertyIsMutable();
+            property_.add(index, builderForValue.build());
+            onChanged();
+          } else {
+            propertyBuilder_.addMessage(index, builderForValue.build());
+          }
+          return this;
+        }
+        /**
+         * <code>repeated .ProjectRepositoriesEntry.KeyValue property = 2;</code>
+         */
+        public Builder addAllProperty(
+            java.lang.Iterable<? extends org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.KeyValue> values) {
+          if (propertyBuilder_ == null) {
+            ensurePropertyIsMutable();
+            com.google.protobuf.AbstractMessageLite.Builder.addAll(
+                values, property_);
+            onChanged();
+          } else {
+            propertyBuilder_.addAllMessages(values);
+          }
+          return this;
+        }
+        /**
+         * <code>repeated .ProjectRepositoriesEntry.KeyValue property = 2;</code>
+         */
+        public Builder clearProperty() {
+          if (propertyBuilder_ == null) {
+            property_ = java.util.Collections.emptyList();
+            bitField0_ = (bitField0_ & ~0x00000002);
+            onChanged();
+          } else {
+            propertyBuilder_.clear();
+          }
+          return this;
+        }
+        /**
+         * <code>repeated .ProjectRepositoriesEntry.KeyValue property = 2;</code>
+         */
+        public Builder removeProperty(int index) {
+          if (propertyBuilder_ == null) {
+            ensurePropertyIsMutable();
+            property_.remove(index);
+            onChanged();
+          } else {
+            propertyBuilder_.remove(index);
+          }
+          return this;
+        }
+        /**
+         * <code>repeated .ProjectRepositoriesEntry.KeyValue property = 2;</code>
+         */
+        public org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.KeyValue.Builder getPropertyBuilder(
+            int index) {
+          return getPropertyFieldBuilder().getBuilder(index);
+        }
+        /**
+         * <code>repeated .ProjectRepositoriesEntry.KeyValue property = 2;</code>
+         */
+        public org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.KeyValueOrBuilder getPropertyOrBuilder(
+            int index) {
+          if (propertyBuilder_ == null) {
+            return property_.get(index);  } else {
+            return propertyBuilder_.getMessageOrBuilder(index);
+          }
+        }
+        /**
+         * <code>repeated .ProjectRepositoriesEntry.KeyValue property = 2;</code>
+         */
+        public java.util.List<? extends org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.KeyValueOrBuilder> 
+             getPropertyOrBuilderList() {
+          if (propertyBuilder_ != null) {
+            return propertyBuilder_.getMessageOrBuilderList();
+          } else {
+            return java.util.Collections.unmodifiableList(property_);
+          }
+        }
+        /**
+         * <code>repeated .ProjectRepositoriesEntry.KeyValue property = 2;</code>
+         */
+        public org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.KeyValue.Builder addPropertyBuilder() {
+          return getPropertyFieldBuilder().addBuilder(
+              org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.KeyValue.getDefaultInstance());
+        }
+        /**
+         * <code>repeated .ProjectRepositoriesEntry.KeyValue property = 2;</code>
+         */
+        public org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.KeyValue.Builder addPropertyBuilder(
+            int index) {
+          return getPropertyFieldBuilder().addBuilder(
+              index, org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.KeyValue.getDefaultInstance());
+        }
+        /**
+         * <code>repeated .ProjectRepositoriesEntry.KeyValue property = 2;</code>
+         */
+        public java.util.List<org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.KeyValue.Builder> 
+             getPropertyBuilderList() {
+          return getPropertyFieldBuilder().getBuilderList();
+        }
+        private com.google.protobuf.RepeatedFieldBuilder<
+            org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.KeyValue, org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.KeyValue.Builder, org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.KeyValueOrBuilder> 
+            getPropertyFieldBuilder() {
+          if (propertyBuilder_ == null) {
+            propertyBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+                org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.KeyValue, org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.KeyValue.Builder, org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.KeyValueOrBuilder>(
+                    property_,
+                    ((bitField0_ & 0x00000002) == 0x00000002),
+                    getParentForChildren(),
+                    isClean());
+            property_ = null;
+          }
+          return propertyBuilder_;
+        }
+
+        // @@protoc_insertion_point(builder_scope:ProjectRepositoriesEntry.ModuleSettings)
+      }
+
+      static {
+        defaultInstance = new ModuleSettings(true);
+        defaultInstance.initFields();
+      }
+
+      // @@protoc_insertion_point(class_scope:ProjectRepositoriesEntry.ModuleSettings)
+    }
+
+    public interface FileDataOrBuilder extends
+        // @@protoc_insertion_point(interface_extends:ProjectRepositoriesEntry.FileData)
+        com.google.protobuf.MessageOrBuilder {
+
+      /**
+       * <code>optional string module_key = 1;</code>
+       */
+      boolean hasModuleKey();
+      /**
+       * <code>optional string module_key = 1;</code>
+       */
+      java.lang.String getModuleKey();
+      /**
+       * <code>optional string module_key = 1;</code>
+       */
+      com.google.protobuf.ByteString
+          getModuleKeyBytes();
+
+      /**
+       * <code>optional string path = 2;</code>
+       */
+      boolean hasPath();
+      /**
+       * <code>optional string path = 2;</code>
+       */
+      java.lang.String getPath();
+      /**
+       * <code>optional string path = 2;</code>
+       */
+      com.google.protobuf.ByteString
+          getPathBytes();
+
+      /**
+       * <code>optional string hash = 3;</code>
+       */
+      boolean hasHash();
+      /**
+       * <code>optional string hash = 3;</code>
+       */
+      java.lang.String getHash();
+      /**
+       * <code>optional string hash = 3;</code>
+       */
+      com.google.protobuf.ByteString
+          getHashBytes();
+
+      /**
+       * <code>optional bool need_blame = 4;</code>
+       */
+      boolean hasNeedBlame();
+      /**
+       * <code>optional bool need_blame = 4;</code>
+       */
+      boolean getNeedBlame();
+
+      /**
+       * <code>optional string scm_last_commit_datetimes_by_line = 5;</code>
+       */
+      boolean hasScmLastCommitDatetimesByLine();
+      /**
+       * <code>optional string scm_last_commit_datetimes_by_line = 5;</code>
+       */
+      java.lang.String getScmLastCommitDatetimesByLine();
+      /**
+       * <code>optional string scm_last_commit_datetimes_by_line = 5;</code>
+       */
+      com.google.protobuf.ByteString
+          getScmLastCommitDatetimesByLineBytes();
+
+      /**
+       * <code>optional string scm_revisions_by_line = 6;</code>
+       */
+      boolean hasScmRevisionsByLine();
+      /**
+       * <code>optional string scm_revisions_by_line = 6;</code>
+       */
+      java.lang.String getScmRevisionsByLine();
+      /**
+       * <code>optional string scm_revisions_by_line = 6;</code>
+       */
+      com.google.protobuf.ByteString
+          getScmRevisionsByLineBytes();
+
+      /**
+       * <code>optional string scm_authors_by_line = 7;</code>
+       */
+      boolean hasScmAuthorsByLine();
+      /**
+       * <code>optional string scm_authors_by_line = 7;</code>
+       */
+      java.lang.String getScmAuthorsByLine();
+      /**
+       * <code>optional string scm_authors_by_line = 7;</code>
+       */
+      com.google.protobuf.ByteString
+          getScmAuthorsByLineBytes();
+    }
+    /**
+     * Protobuf type {@code ProjectRepositoriesEntry.FileData}
+     */
+    public static final class FileData extends
+        com.google.protobuf.GeneratedMessage implements
+        // @@protoc_insertion_point(message_implements:ProjectRepositoriesEntry.FileData)
+        FileDataOrBuilder {
+      // Use FileData.newBuilder() to construct.
+      private FileData(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+        super(builder);
+        this.unknownFields = builder.getUnknownFields();
+      }
+      private FileData(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+      private static final FileData defaultInstance;
+      public static FileData getDefaultInstance() {
+        return defaultInstance;
+      }
+
+      public FileData getDefaultInstanceForType() {
+        return defaultInstance;
+      }
+
+      private final com.google.protobuf.UnknownFieldSet unknownFields;
+      @java.lang.Override
+      public final com.google.protobuf.UnknownFieldSet
+          getUnknownFields() {
+        return this.unknownFields;
+      }
+      private FileData(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        initFields();
+        int mutable_bitField0_ = 0;
+        com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+            com.google.protobuf.UnknownFieldSet.newBuilder();
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              default: {
+                if (!parseUnknownField(input, unknownFields,
+                                       extensionRegistry, tag)) {
+                  done = true;
+                }
+                break;
+              }
+              case 10: {
+                com.google.protobuf.ByteString bs = input.readBytes();
+                bitField0_ |= 0x00000001;
+                moduleKey_ = bs;
+                break;
+              }
+              case 18: {
+                com.google.protobuf.ByteString bs = input.readBytes();
+                bitField0_ |= 0x00000002;
+                path_ = bs;
+                break;
+              }
+              case 26: {
+                com.google.protobuf.ByteString bs = input.readBytes();
+                bitField0_ |= 0x00000004;
+                hash_ = bs;
+                break;
+              }
+              case 32: {
+                bitField0_ |= 0x00000008;
+                needBlame_ = input.readBool();
+                break;
+              }
+              case 42: {
+                com.google.protobuf.ByteString bs = input.readBytes();
+                bitField0_ |= 0x00000010;
+                scmLastCommitDatetimesByLine_ = bs;
+                break;
+              }
+              case 50: {
+                com.google.protobuf.ByteString bs = input.readBytes();
+                bitField0_ |= 0x00000020;
+                scmRevisionsByLine_ = bs;
+                break;
+              }
+              case 58: {
+                com.google.protobuf.ByteString bs = input.readBytes();
+                bitField0_ |= 0x00000040;
+                scmAuthorsByLine_ = bs;
+                break;
+              }
+            }
+          }
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(this);
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(
+              e.getMessage()).setUnfinishedMessage(this);
+        } finally {
+          this.unknownFields = unknownFields.build();
+          makeExtensionsImmutable();
+        }
+      }
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.sonar.batch.protocol.input.BatchInput.internal_static_ProjectRepositoriesEntry_FileData_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.sonar.batch.protocol.input.BatchInput.internal_static_ProjectRepositoriesEntry_FileData_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.FileData.class, org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.FileData.Builder.class);
+      }
+
+      public static com.google.protobuf.Parser<FileData> PARSER =
+          new com.google.protobuf.AbstractParser<FileData>() {
+        public FileData parsePartialFrom(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws com.google.protobuf.InvalidProtocolBufferException {
+          return new FileData(input, extensionRegistry);
+        }
+      };
+
+      @java.lang.Override
+      public com.google.protobuf.Parser<FileData> getParserForType() {
+        return PARSER;
+      }
+
+      private int bitField0_;
+      public static final int MODULE_KEY_FIELD_NUMBER = 1;
+      private java.lang.Object moduleKey_;
+      /**
+       * <code>optional string module_key = 1;</code>
+       */
+      public boolean hasModuleKey() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>optional string module_key = 1;</code>
+       */
+      public java.lang.String getModuleKey() {
+        java.lang.Object ref = moduleKey_;
+        if (ref instanceof java.lang.String) {
+          return (java.lang.String) ref;
+        } else {
+          com.google.protobuf.ByteString bs = 
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            moduleKey_ = s;
+          }
+          return s;
+        }
+      }
+      /**
+       * <code>optional string module_key = 1;</code>
+       */
+      public com.google.protobuf.ByteString
+          getModuleKeyBytes() {
+        java.lang.Object ref = moduleKey_;
+        if (ref instanceof java.lang.String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          moduleKey_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+
+      public static final int PATH_FIELD_NUMBER = 2;
+      private java.lang.Object path_;
+      /**
+       * <code>optional string path = 2;</code>
+       */
+      public boolean hasPath() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>optional string path = 2;</code>
+       */
+      public java.lang.String getPath() {
+        java.lang.Object ref = path_;
+        if (ref instanceof java.lang.String) {
+          return (java.lang.String) ref;
+        } else {
+          com.google.protobuf.ByteString bs = 
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            path_ = s;
+          }
+          return s;
+        }
+      }
+      /**
+       * <code>optional string path = 2;</code>
+       */
+      public com.google.protobuf.ByteString
+          getPathBytes() {
+        java.lang.Object ref = path_;
+        if (ref instanceof java.lang.String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          path_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+
+      public static final int HASH_FIELD_NUMBER = 3;
+      private java.lang.Object hash_;
+      /**
+       * <code>optional string hash = 3;</code>
+       */
+      public boolean hasHash() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
+      }
+      /**
+       * <code>optional string hash = 3;</code>
+       */
+      public java.lang.String getHash() {
+        java.lang.Object ref = hash_;
+        if (ref instanceof java.lang.String) {
+          return (java.lang.String) ref;
+        } else {
+          com.google.protobuf.ByteString bs = 
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            hash_ = s;
+          }
+          return s;
+        }
+      }
+      /**
+       * <code>optional string hash = 3;</code>
+       */
+      public com.google.protobuf.ByteString
+          getHashBytes() {
+        java.lang.Object ref = hash_;
+        if (ref instanceof java.lang.String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          hash_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+
+      public static final int NEED_BLAME_FIELD_NUMBER = 4;
+      private boolean needBlame_;
+      /**
+       * <code>optional bool need_blame = 4;</code>
+       */
+      public boolean hasNeedBlame() {
+        return ((bitField0_ & 0x00000008) == 0x00000008);
+      }
+      /**
+       * <code>optional bool need_blame = 4;</code>
+       */
+      public boolean getNeedBlame() {
+        return needBlame_;
+      }
+
+      public static final int SCM_LAST_COMMIT_DATETIMES_BY_LINE_FIELD_NUMBER = 5;
+      private java.lang.Object scmLastCommitDatetimesByLine_;
+      /**
+       * <code>optional string scm_last_commit_datetimes_by_line = 5;</code>
+       */
+      public boolean hasScmLastCommitDatetimesByLine() {
+        return ((bitField0_ & 0x00000010) == 0x00000010);
+      }
+      /**
+       * <code>optional string scm_last_commit_datetimes_by_line = 5;</code>
+       */
+      public java.lang.String getScmLastCommitDatetimesByLine() {
+        java.lang.Object ref = scmLastCommitDatetimesByLine_;
+        if (ref instanceof java.lang.String) {
+          return (java.lang.String) ref;
+        } else {
+          com.google.protobuf.ByteString bs = 
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            scmLastCommitDatetimesByLine_ = s;
+          }
+          return s;
+        }
+      }
+      /**
+       * <code>optional string scm_last_commit_datetimes_by_line = 5;</code>
+       */
+      public com.google.protobuf.ByteString
+          getScmLastCommitDatetimesByLineBytes() {
+        java.lang.Object ref = scmLastCommitDatetimesByLine_;
+        if (ref instanceof java.lang.String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          scmLastCommitDatetimesByLine_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+
+      public static final int SCM_REVISIONS_BY_LINE_FIELD_NUMBER = 6;
+      private java.lang.Object scmRevisionsByLine_;
+      /**
+       * <code>optional string scm_revisions_by_line = 6;</code>
+       */
+      public boolean hasScmRevisionsByLine() {
+        return ((bitField0_ & 0x00000020) == 0x00000020);
+      }
+      /**
+       * <code>optional string scm_revisions_by_line = 6;</code>
+       */
+      public java.lang.String getScmRevisionsByLine() {
+        java.lang.Object ref = scmRevisionsByLine_;
+        if (ref instanceof java.lang.String) {
+          return (java.lang.String) ref;
+        } else {
+          com.google.protobuf.ByteString bs = 
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            scmRevisionsByLine_ = s;
+          }
+          return s;
+        }
+      }
+      /**
+       * <code>optional string scm_revisions_by_line = 6;</code>
+       */
+      public com.google.protobuf.ByteString
+          getScmRevisionsByLineBytes() {
+        java.lang.Object ref = scmRevisionsByLine_;
+        if (ref instanceof java.lang.String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          scmRevisionsByLine_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+
+      public static final int SCM_AUTHORS_BY_LINE_FIELD_NUMBER = 7;
+      private java.lang.Object scmAuthorsByLine_;
+      /**
+       * <code>optional string scm_authors_by_line = 7;</code>
+       */
+      public boolean hasScmAuthorsByLine() {
+        return ((bitField0_ & 0x00000040) == 0x00000040);
+      }
+      /**
+       * <code>optional string scm_authors_by_line = 7;</code>
+       */
+      public java.lang.String getScmAuthorsByLine() {
+        java.lang.Object ref = scmAuthorsByLine_;
+        if (ref instanceof java.lang.String) {
+          return (java.lang.String) ref;
+        } else {
+          com.google.protobuf.ByteString bs = 
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            scmAuthorsByLine_ = s;
+          }
+          return s;
+        }
+      }
+      /**
+       * <code>optional string scm_authors_by_line = 7;</code>
+       */
+      public com.google.protobuf.ByteString
+          getScmAuthorsByLineBytes() {
+        java.lang.Object ref = scmAuthorsByLine_;
+        if (ref instanceof java.lang.String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          scmAuthorsByLine_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+
+      private void initFields() {
+        moduleKey_ = "";
+        path_ = "";
+        hash_ = "";
+        needBlame_ = false;
+        scmLastCommitDatetimesByLine_ = "";
+        scmRevisionsByLine_ = "";
+        scmAuthorsByLine_ = "";
+      }
+      private byte memoizedIsInitialized = -1;
+      public final boolean isInitialized() {
+        byte isInitialized = memoizedIsInitialized;
+        if (isInitialized == 1) return true;
+        if (isInitialized == 0) return false;
+
+        memoizedIsInitialized = 1;
+        return true;
+      }
+
+      public void writeTo(com.google.protobuf.CodedOutputStream output)
+                          throws java.io.IOException {
+        getSerializedSize();
+        if (((bitField0_ & 0x00000001) == 0x00000001)) {
+          output.writeBytes(1, getModuleKeyBytes());
+        }
+        if (((bitField0_ & 0x00000002) == 0x00000002)) {
+          output.writeBytes(2, getPathBytes());
+        }
+        if (((bitField0_ & 0x00000004) == 0x00000004)) {
+          output.writeBytes(3, getHashBytes());
+        }
+        if (((bitField0_ & 0x00000008) == 0x00000008)) {
+          output.writeBool(4, needBlame_);
+        }
+        if (((bitField0_ & 0x00000010) == 0x00000010)) {
+          output.writeBytes(5, getScmLastCommitDatetimesByLineBytes());
+        }
+        if (((bitField0_ & 0x00000020) == 0x00000020)) {
+          output.writeBytes(6, getScmRevisionsByLineBytes());
+        }
+        if (((bitField0_ & 0x00000040) == 0x00000040)) {
+          output.writeBytes(7, getScmAuthorsByLineBytes());
+        }
+        getUnknownFields().writeTo(output);
+      }
+
+      private int memoizedSerializedSize = -1;
+      public int getSerializedSize() {
+        int size = memoizedSerializedSize;
+        if (size != -1) return size;
+
+        size = 0;
+        if (((bitField0_ & 0x00000001) == 0x00000001)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeBytesSize(1, getModuleKeyBytes());
+        }
+        if (((bitField0_ & 0x00000002) == 0x00000002)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeBytesSize(2, getPathBytes());
+        }
+        if (((bitField0_ & 0x00000004) == 0x00000004)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeBytesSize(3, getHashBytes());
+        }
+        if (((bitField0_ & 0x00000008) == 0x00000008)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeBoolSize(4, needBlame_);
+        }
+        if (((bitField0_ & 0x00000010) == 0x00000010)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeBytesSize(5, getScmLastCommitDatetimesByLineBytes());
+        }
+        if (((bitField0_ & 0x00000020) == 0x00000020)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeBytesSize(6, getScmRevisionsByLineBytes());
+        }
+        if (((bitField0_ & 0x00000040) == 0x00000040)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeBytesSize(7, getScmAuthorsByLineBytes());
+        }
+        size += getUnknownFields().getSerializedSize();
+        memoizedSerializedSize = size;
+        return size;
+      }
+
+      private static final long serialVersionUID = 0L;
+      @java.lang.Override
+      protected java.lang.Object writeReplace()
+          throws java.io.ObjectStreamException {
+        return super.writeReplace();
+      }
+
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.FileData parseFrom(
+          com.google.protobuf.ByteString data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.FileData parseFrom(
+          com.google.protobuf.ByteString data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.FileData parseFrom(byte[] data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.FileData parseFrom(
+          byte[] data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.FileData parseFrom(java.io.InputStream input)
+          throws java.io.IOException {
+        return PARSER.parseFrom(input);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.FileData parseFrom(
+          java.io.InputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return PARSER.parseFrom(input, extensionRegistry);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.FileData parseDelimitedFrom(java.io.InputStream input)
+          throws java.io.IOException {
+        return PARSER.parseDelimitedFrom(input);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.FileData parseDelimitedFrom(
+          java.io.InputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return PARSER.parseDelimitedFrom(input, extensionRegistry);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.FileData parseFrom(
+          com.google.protobuf.CodedInputStream input)
+          throws java.io.IOException {
+        return PARSER.parseFrom(input);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.FileData parseFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return PARSER.parseFrom(input, extensionRegistry);
+      }
+
+      public static Builder newBuilder() { return Builder.create(); }
+      public Builder newBuilderForType() { return newBuilder(); }
+      public static Builder newBuilder(org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.FileData prototype) {
+        return newBuilder().mergeFrom(prototype);
+      }
+      public Builder toBuilder() { return newBuilder(this); }
+
+      @java.lang.Override
+      protected Builder newBuilderForType(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        Builder builder = new Builder(parent);
+        return builder;
+      }
+      /**
+       * Protobuf type {@code ProjectRepositoriesEntry.FileData}
+       */
+      public static final class Builder extends
+          com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+          // @@protoc_insertion_point(builder_implements:ProjectRepositoriesEntry.FileData)
+          org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.FileDataOrBuilder {
+        public static final com.google.protobuf.Descriptors.Descriptor
+            getDescriptor() {
+          return org.sonar.batch.protocol.input.BatchInput.internal_static_ProjectRepositoriesEntry_FileData_descriptor;
+        }
+
+        protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+            internalGetFieldAccessorTable() {
+          return org.sonar.batch.protocol.input.BatchInput.internal_static_ProjectRepositoriesEntry_FileData_fieldAccessorTable
+              .ensureFieldAccessorsInitialized(
+                  org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.FileData.class, org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.FileData.Builder.class);
+        }
+
+        // Construct using org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.FileData.newBuilder()
+        private Builder() {
+          maybeForceBuilderInitialization();
+        }
+
+        private Builder(
+            com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+          super(parent);
+          maybeForceBuilderInitialization();
+        }
+        private void maybeForceBuilderInitialization() {
+          if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+          }
+        }
+        private static Builder create() {
+          return new Builder();
+        }
+
+        public Builder clear() {
+          super.clear();
+          moduleKey_ = "";
+          bitField0_ = (bitField0_ & ~0x00000001);
+          path_ = "";
+          bitField0_ = (bitField0_ & ~0x00000002);
+          hash_ = "";
+          bitField0_ = (bitField0_ & ~0x00000004);
+          needBlame_ = false;
+          bitField0_ = (bitField0_ & ~0x00000008);
+          scmLastCommitDatetimesByLine_ = "";
+          bitField0_ = (bitField0_ & ~0x00000010);
+          scmRevisionsByLine_ = "";
+          bitField0_ = (bitField0_ & ~0x00000020);
+          scmAuthorsByLine_ = "";
+          bitField0_ = (bitField0_ & ~0x00000040);
+          return this;
+        }
+
+        public Builder clone() {
+          return create().mergeFrom(buildPartial());
+        }
+
+        public com.google.protobuf.Descriptors.Descriptor
+            getDescriptorForType() {
+          return org.sonar.batch.protocol.input.BatchInput.internal_static_ProjectRepositoriesEntry_FileData_descriptor;
+        }
+
+        public org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.FileData getDefaultInstanceForType() {
+          return org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.FileData.getDefaultInstance();
+        }
+
+        public org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.FileData build() {
+          org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.FileData result = buildPartial();
+          if (!result.isInitialized()) {
+            throw newUninitializedMessageException(result);
+          }
+          return result;
+        }
+
+        public org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.FileData buildPartial() {
+          org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.FileData result = new org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.FileData(this);
+          int from_bitField0_ = bitField0_;
+          int to_bitField0_ = 0;
+          if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+            to_bitField0_ |= 0x00000001;
+          }
+          result.moduleKey_ = moduleKey_;
+          if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+            to_bitField0_ |= 0x00000002;
+          }
+          result.path_ = path_;
+          if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+            to_bitField0_ |= 0x00000004;
+          }
+          result.hash_ = hash_;
+          if (((from_bitField0_ & 0x00000008) == 0x00000008)) {
+            to_bitField0_ |= 0x00000008;
+          }
+          result.needBlame_ = needBlame_;
+          if (((from_bitField0_ & 0x00000010) == 0x00000010)) {
+            to_bitField0_ |= 0x00000010;
+          }
+          result.scmLastCommitDatetimesByLine_ = scmLastCommitDatetimesByLine_;
+          if (((from_bitField0_ & 0x00000020) == 0x00000020)) {
+            to_bitField0_ |= 0x00000020;
+          }
+          result.scmRevisionsByLine_ = scmRevisionsByLine_;
+          if (((from_bitField0_ & 0x00000040) == 0x00000040)) {
+            to_bitField0_ |= 0x00000040;
+          }
+          result.scmAuthorsByLine_ = scmAuthorsByLine_;
+          result.bitField0_ = to_bitField0_;
+          onBuilt();
+          return result;
+        }
+
+        public Builder mergeFrom(com.google.protobuf.Message other) {
+          if (other instanceof org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.FileData) {
+            return mergeFrom((org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.FileData)other);
+          } else {
+            super.mergeFrom(other);
+            return this;
+          }
+        }
+
+        public Builder mergeFrom(org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.FileData other) {
+          if (other == org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.FileData.getDefaultInstance()) return this;
+          if (other.hasModuleKey()) {
+            bitField0_ |= 0x00000001;
+            moduleKey_ = other.moduleKey_;
+            onChanged();
+          }
+          if (other.hasPath()) {
+            bitField0_ |= 0x00000002;
+            path_ = other.path_;
+            onChanged();
+          }
+          if (other.hasHash()) {
+            bitField0_ |= 0x00000004;
+            hash_ = other.hash_;
+            onChanged();
+          }
+          if (other.hasNeedBlame()) {
+            setNeedBlame(other.getNeedBlame());
+          }
+          if (other.hasScmLastCommitDatetimesByLine()) {
+            bitField0_ |= 0x00000010;
+            scmLastCommitDatetimesByLine_ = other.scmLastCommitDatetimesByLine_;
+            onChanged();
+          }
+          if (other.hasScmRevisionsByLine()) {
+            bitField0_ |= 0x00000020;
+            scmRevisionsByLine_ = other.scmRevisionsByLine_;
+            onChanged();
+          }
+          if (other.hasScmAuthorsByLine()) {
+            bitField0_ |= 0x00000040;
+            scmAuthorsByLine_ = other.scmAuthorsByLine_;
+            onChanged();
+          }
+          this.mergeUnknownFields(other.getUnknownFields());
+          return this;
+        }
+
+        public final boolean isInitialized() {
+          return true;
+        }
+
+        public Builder mergeFrom(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws java.io.IOException {
+          org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.FileData parsedMessage = null;
+          try {
+            parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+          } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+            parsedMessage = (org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.FileData) e.getUnfinishedMessage();
+            throw e;
+          } finally {
+            if (parsedMessage != null) {
+              mergeFrom(parsedMessage);
+            }
+          }
+          return this;
+        }
+        private int bitField0_;
+
+        private java.lang.Object moduleKey_ = "";
+        /**
+         * <code>optional string module_key = 1;</code>
+         */
+        public boolean hasModuleKey() {
+          return ((bitField0_ & 0x00000001) == 0x00000001);
+        }
+        /**
+         * <code>optional string module_key = 1;</code>
+         */
+        public java.lang.String getModuleKey() {
+          java.lang.Object ref = moduleKey_;
+          if (!(ref instanceof java.lang.String)) {
+            com.google.protobuf.ByteString bs =
+                (com.google.protobuf.ByteString) ref;
+            java.lang.String s = bs.toStringUtf8();
+            if (bs.isValidUtf8()) {
+              moduleKey_ = s;
+            }
+            return s;
+          } else {
+            return (java.lang.String) ref;
+          }
+        }
+        /**
+         * <code>optional string module_key = 1;</code>
+         */
+        public com.google.protobuf.ByteString
+            getModuleKeyBytes() {
+          java.lang.Object ref = moduleKey_;
+          if (ref instanceof String) {
+            com.google.protobuf.ByteString b = 
+                com.google.protobuf.ByteString.copyFromUtf8(
+                    (java.lang.String) ref);
+            moduleKey_ = b;
+            return b;
+          } else {
+            return (com.google.protobuf.ByteString) ref;
+          }
+        }
+        /**
+         * <code>optional string module_key = 1;</code>
+         */
+        public Builder setModuleKey(
+            java.lang.String value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+          moduleKey_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional string module_key = 1;</code>
+         */
+        public Builder clearModuleKey() {
+          bitField0_ = (bitField0_ & ~0x00000001);
+          moduleKey_ = getDefaultInstance().getModuleKey();
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional string module_key = 1;</code>
+         */
+        public Builder setModuleKeyBytes(
+            com.google.protobuf.ByteString value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+          moduleKey_ = value;
+          onChanged();
+          return this;
+        }
+
+        private java.lang.Object path_ = "";
+        /**
+         * <code>optional string path = 2;</code>
+         */
+        public boolean hasPath() {
+          return ((bitField0_ & 0x00000002) == 0x00000002);
+        }
+        /**
+         * <code>optional string path = 2;</code>
+         */
+        public java.lang.String getPath() {
+          java.lang.Object ref = path_;
+          if (!(ref instanceof java.lang.String)) {
+            com.google.protobuf.ByteString bs =
+                (com.google.protobuf.ByteString) ref;
+            java.lang.String s = bs.toStringUtf8();
+            if (bs.isValidUtf8()) {
+              path_ = s;
+            }
+            return s;
+          } else {
+            return (java.lang.String) ref;
+          }
+        }
+        /**
+         * <code>optional string path = 2;</code>
+         */
+        public com.google.protobuf.ByteString
+            getPathBytes() {
+          java.lang.Object ref = path_;
+          if (ref instanceof String) {
+            com.google.protobuf.ByteString b = 
+                com.google.protobuf.ByteString.copyFromUtf8(
+                    (java.lang.String) ref);
+            path_ = b;
+            return b;
+          } else {
+            return (com.google.protobuf.ByteString) ref;
+          }
+        }
+        /**
+         * <code>optional string path = 2;</code>
+         */
+        public Builder setPath(
+            java.lang.String value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+          path_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional string path = 2;</code>
+         */
+        public Builder clearPath() {
+          bitField0_ = (bitField0_ & ~0x00000002);
+          path_ = getDefaultInstance().getPath();
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional string path = 2;</code>
+         */
+        public Builder setPathBytes(
+            com.google.protobuf.ByteString value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+          path_ = value;
+          onChanged();
+          return this;
+        }
+
+        private java.lang.Object hash_ = "";
+        /**
+         * <code>optional string hash = 3;</code>
+         */
+        public boolean hasHash() {
+          return ((bitField0_ & 0x00000004) == 0x00000004);
+        }
+        /**
+         * <code>optional string hash = 3;</code>
+         */
+        public java.lang.String getHash() {
+          java.lang.Object ref = hash_;
+          if (!(ref instanceof java.lang.String)) {
+            com.google.protobuf.ByteString bs =
+                (com.google.protobuf.ByteString) ref;
+            java.lang.String s = bs.toStringUtf8();
+            if (bs.isValidUtf8()) {
+              hash_ = s;
+            }
+            return s;
+          } else {
+            return (java.lang.String) ref;
+          }
+        }
+        /**
+         * <code>optional string hash = 3;</code>
+         */
+        public com.google.protobuf.ByteString
+            getHashBytes() {
+          java.lang.Object ref = hash_;
+          if (ref instanceof String) {
+            com.google.protobuf.ByteString b = 
+                com.google.protobuf.ByteString.copyFromUtf8(
+                    (java.lang.String) ref);
+            hash_ = b;
+            return b;
+          } else {
+            return (com.google.protobuf.ByteString) ref;
+          }
+        }
+        /**
+         * <code>optional string hash = 3;</code>
+         */
+        public Builder setHash(
+            java.lang.String value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000004;
+          hash_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional string hash = 3;</code>
+         */
+        public Builder clearHash() {
+          bitField0_ = (bitField0_ & ~0x00000004);
+          hash_ = getDefaultInstance().getHash();
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional string hash = 3;</code>
+         */
+        public Builder setHashBytes(
+            com.google.protobuf.ByteString value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000004;
+          hash_ = value;
+          onChanged();
+          return this;
+        }
+
+        private boolean needBlame_ ;
+        /**
+         * <code>optional bool need_blame = 4;</code>
+         */
+        public boolean hasNeedBlame() {
+          return ((bitField0_ & 0x00000008) == 0x00000008);
+        }
+        /**
+         * <code>optional bool need_blame = 4;</code>
+         */
+        public boolean getNeedBlame() {
+          return needBlame_;
+        }
+        /**
+         * <code>optional bool need_blame = 4;</code>
+         */
+        public Builder setNeedBlame(boolean value) {
+          bitField0_ |= 0x00000008;
+          needBlame_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional bool need_blame = 4;</code>
+         */
+        public Builder clearNeedBlame() {
+          bitField0_ = (bitField0_ & ~0x00000008);
+          needBlame_ = false;
+          onChanged();
+          return this;
+        }
+
+        private java.lang.Object scmLastCommitDatetimesByLine_ = "";
+        /**
+         * <code>optional string scm_last_commit_datetimes_by_line = 5;</code>
+         */
+        public boolean hasScmLastCommitDatetimesByLine() {
+          return ((bitField0_ & 0x00000010) == 0x00000010);
+        }
+        /**
+         * <code>optional string scm_last_commit_datetimes_by_line = 5;</code>
+         */
+        public java.lang.String getScmLastCommitDatetimesByLine() {
+          java.lang.Object ref = scmLastCommitDatetimesByLine_;
+          if (!(ref instanceof java.lang.String)) {
+            com.google.protobuf.ByteString bs =
+                (com.google.protobuf.ByteString) ref;
+            java.lang.String s = bs.toStringUtf8();
+            if (bs.isValidUtf8()) {
+              scmLastCommitDatetimesByLine_ = s;
+            }
+            return s;
+          } else {
+            return (java.lang.String) ref;
+          }
+        }
+        /**
+         * <code>optional string scm_last_commit_datetimes_by_line = 5;</code>
+         */
+        public com.google.protobuf.ByteString
+            getScmLastCommitDatetimesByLineBytes() {
+          java.lang.Object ref = scmLastCommitDatetimesByLine_;
+          if (ref instanceof String) {
+            com.google.protobuf.ByteString b = 
+                com.google.protobuf.ByteString.copyFromUtf8(
+                    (java.lang.String) ref);
+            scmLastCommitDatetimesByLine_ = b;
+            return b;
+          } else {
+            return (com.google.protobuf.ByteString) ref;
+          }
+        }
+        /**
+         * <code>optional string scm_last_commit_datetimes_by_line = 5;</code>
+         */
+        public Builder setScmLastCommitDatetimesByLine(
+            java.lang.String value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000010;
+          scmLastCommitDatetimesByLine_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional string scm_last_commit_datetimes_by_line = 5;</code>
+         */
+        public Builder clearScmLastCommitDatetimesByLine() {
+          bitField0_ = (bitField0_ & ~0x00000010);
+          scmLastCommitDatetimesByLine_ = getDefaultInstance().getScmLastCommitDatetimesByLine();
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional string scm_last_commit_datetimes_by_line = 5;</code>
+         */
+        public Builder setScmLastCommitDatetimesByLineBytes(
+            com.google.protobuf.ByteString value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000010;
+          scmLastCommitDatetimesByLine_ = value;
+          onChanged();
+          return this;
+        }
+
+        private java.lang.Object scmRevisionsByLine_ = "";
+        /**
+         * <code>optional string scm_revisions_by_line = 6;</code>
+         */
+        public boolean hasScmRevisionsByLine() {
+          return ((bitField0_ & 0x00000020) == 0x00000020);
+        }
+        /**
+         * <code>optional string scm_revisions_by_line = 6;</code>
+         */
+        public java.lang.String getScmRevisionsByLine() {
+          java.lang.Object ref = scmRevisionsByLine_;
+          if (!(ref instanceof java.lang.String)) {
+            com.google.protobuf.ByteString bs =
+                (com.google.protobuf.ByteString) ref;
+            java.lang.String s = bs.toStringUtf8();
+            if (bs.isValidUtf8()) {
+              scmRevisionsByLine_ = s;
+            }
+            return s;
+          } else {
+            return (java.lang.String) ref;
+          }
+        }
+        /**
+         * <code>optional string scm_revisions_by_line = 6;</code>
+         */
+        public com.google.protobuf.ByteString
+            getScmRevisionsByLineBytes() {
+          java.lang.Object ref = scmRevisionsByLine_;
+          if (ref instanceof String) {
+            com.google.protobuf.ByteString b = 
+                com.google.protobuf.ByteString.copyFromUtf8(
+                    (java.lang.String) ref);
+            scmRevisionsByLine_ = b;
+            return b;
+          } else {
+            return (com.google.protobuf.ByteString) ref;
+          }
+        }
+        /**
+         * <code>optional string scm_revisions_by_line = 6;</code>
+         */
+        public Builder setScmRevisionsByLine(
+            java.lang.String value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000020;
+          scmRevisionsByLine_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional string scm_revisions_by_line = 6;</code>
+         */
+        public Builder clearScmRevisionsByLine() {
+          bitField0_ = (bitField0_ & ~0x00000020);
+          scmRevisionsByLine_ = getDefaultInstance().getScmRevisionsByLine();
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional string scm_revisions_by_line = 6;</code>
+         */
+        public Builder setScmRevisionsByLineBytes(
+            com.google.protobuf.ByteString value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000020;
+          scmRevisionsByLine_ = value;
+          onChanged();
+          return this;
+        }
+
+        private java.lang.Object scmAuthorsByLine_ = "";
+        /**
+         * <code>optional string scm_authors_by_line = 7;</code>
+         */
+        public boolean hasScmAuthorsByLine() {
+          return ((bitField0_ & 0x00000040) == 0x00000040);
+        }
+        /**
+         * <code>optional string scm_authors_by_line = 7;</code>
+         */
+        public java.lang.String getScmAuthorsByLine() {
+          java.lang.Object ref = scmAuthorsByLine_;
+          if (!(ref instanceof java.lang.String)) {
+            com.google.protobuf.ByteString bs =
+                (com.google.protobuf.ByteString) ref;
+            java.lang.String s = bs.toStringUtf8();
+            if (bs.isValidUtf8()) {
+              scmAuthorsByLine_ = s;
+            }
+            return s;
+          } else {
+            return (java.lang.String) ref;
+          }
+        }
+        /**
+         * <code>optional string scm_authors_by_line = 7;</code>
+         */
+        public com.google.protobuf.ByteString
+            getScmAuthorsByLineBytes() {
+          java.lang.Object ref = scmAuthorsByLine_;
+          if (ref instanceof String) {
+            com.google.protobuf.ByteString b = 
+                com.google.protobuf.ByteString.copyFromUtf8(
+                    (java.lang.String) ref);
+            scmAuthorsByLine_ = b;
+            return b;
+          } else {
+            return (com.google.protobuf.ByteString) ref;
+          }
+        }
+        /**
+         * <code>optional string scm_authors_by_line = 7;</code>
+         */
+        public Builder setScmAuthorsByLine(
+            java.lang.String value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000040;
+          scmAuthorsByLine_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional string scm_authors_by_line = 7;</code>
+         */
+        public Builder clearScmAuthorsByLine() {
+          bitField0_ = (bitField0_ & ~0x00000040);
+          scmAuthorsByLine_ = getDefaultInstance().getScmAuthorsByLine();
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional string scm_authors_by_line = 7;</code>
+         */
+        public Builder setScmAuthorsByLineBytes(
+            com.google.protobuf.ByteString value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000040;
+          scmAuthorsByLine_ = value;
+          onChanged();
+          return this;
+        }
+
+        // @@protoc_insertion_point(builder_scope:ProjectRepositoriesEntry.FileData)
+      }
+
+      static {
+        defaultInstance = new FileData(true);
+        defaultInstance.initFields();
+      }
+
+      // @@protoc_insertion_point(class_scope:ProjectRepositoriesEntry.FileData)
+    }
+
+    public interface KeyValueOrBuilder extends
+        // @@protoc_insertion_point(interface_extends:ProjectRepositoriesEntry.KeyValue)
+        com.google.protobuf.MessageOrBuilder {
+
+      /**
+       * <code>optional string key = 1;</code>
+       */
+      boolean hasKey();
+      /**
+       * <code>optional string key = 1;</code>
+       */
+      java.lang.String getKey();
+      /**
+       * <code>optional string key = 1;</code>
+       */
+      com.google.protobuf.ByteString
+          getKeyBytes();
+
+      /**
+       * <code>optional string value = 2;</code>
+       */
+      boolean hasValue();
+      /**
+       * <code>optional string value = 2;</code>
+       */
+      java.lang.String getValue();
+      /**
+       * <code>optional string value = 2;</code>
+       */
+      com.google.protobuf.ByteString
+          getValueBytes();
+    }
+    /**
+     * Protobuf type {@code ProjectRepositoriesEntry.KeyValue}
+     */
+    public static final class KeyValue extends
+        com.google.protobuf.GeneratedMessage implements
+        // @@protoc_insertion_point(message_implements:ProjectRepositoriesEntry.KeyValue)
+        KeyValueOrBuilder {
+      // Use KeyValue.newBuilder() to construct.
+      private KeyValue(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+        super(builder);
+        this.unknownFields = builder.getUnknownFields();
+      }
+      private KeyValue(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+      private static final KeyValue defaultInstance;
+      public static KeyValue getDefaultInstance() {
+        return defaultInstance;
+      }
+
+      public KeyValue getDefaultInstanceForType() {
+        return defaultInstance;
+      }
+
+      private final com.google.protobuf.UnknownFieldSet unknownFields;
+      @java.lang.Override
+      public final com.google.protobuf.UnknownFieldSet
+          getUnknownFields() {
+        return this.unknownFields;
+      }
+      private KeyValue(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        initFields();
+        int mutable_bitField0_ = 0;
+        com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+            com.google.protobuf.UnknownFieldSet.newBuilder();
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              default: {
+                if (!parseUnknownField(input, unknownFields,
+                                       extensionRegistry, tag)) {
+                  done = true;
+                }
+                break;
+              }
+              case 10: {
+                com.google.protobuf.ByteString bs = input.readBytes();
+                bitField0_ |= 0x00000001;
+                key_ = bs;
+                break;
+              }
+              case 18: {
+                com.google.protobuf.ByteString bs = input.readBytes();
+                bitField0_ |= 0x00000002;
+                value_ = bs;
+                break;
+              }
+            }
+          }
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(this);
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(
+              e.getMessage()).setUnfinishedMessage(this);
+        } finally {
+          this.unknownFields = unknownFields.build();
+          makeExtensionsImmutable();
+        }
+      }
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.sonar.batch.protocol.input.BatchInput.internal_static_ProjectRepositoriesEntry_KeyValue_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.sonar.batch.protocol.input.BatchInput.internal_static_ProjectRepositoriesEntry_KeyValue_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.KeyValue.class, org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.KeyValue.Builder.class);
+      }
+
+      public static com.google.protobuf.Parser<KeyValue> PARSER =
+          new com.google.protobuf.AbstractParser<KeyValue>() {
+        public KeyValue parsePartialFrom(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws com.google.protobuf.InvalidProtocolBufferException {
+          return new KeyValue(input, extensionRegistry);
+        }
+      };
+
+      @java.lang.Override
+      public com.google.protobuf.Parser<KeyValue> getParserForType() {
+        return PARSER;
+      }
+
+      private int bitField0_;
+      public static final int KEY_FIELD_NUMBER = 1;
+      private java.lang.Object key_;
+      /**
+       * <code>optional string key = 1;</code>
+       */
+      public boolean hasKey() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>optional string key = 1;</code>
+       */
+      public java.lang.String getKey() {
+        java.lang.Object ref = key_;
+        if (ref instanceof java.lang.String) {
+          return (java.lang.String) ref;
+        } else {
+          com.google.protobuf.ByteString bs = 
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            key_ = s;
+          }
+          return s;
+        }
+      }
+      /**
+       * <code>optional string key = 1;</code>
+       */
+      public com.google.protobuf.ByteString
+          getKeyBytes() {
+        java.lang.Object ref = key_;
+        if (ref instanceof java.lang.String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          key_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+
+      public static final int VALUE_FIELD_NUMBER = 2;
+      private java.lang.Object value_;
+      /**
+       * <code>optional string value = 2;</code>
+       */
+      public boolean hasValue() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>optional string value = 2;</code>
+       */
+      public java.lang.String getValue() {
+        java.lang.Object ref = value_;
+        if (ref instanceof java.lang.String) {
+          return (java.lang.String) ref;
+        } else {
+          com.google.protobuf.ByteString bs = 
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            value_ = s;
+          }
+          return s;
+        }
+      }
+      /**
+       * <code>optional string value = 2;</code>
+       */
+      public com.google.protobuf.ByteString
+          getValueBytes() {
+        java.lang.Object ref = value_;
+        if (ref instanceof java.lang.String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          value_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+
+      private void initFields() {
+        key_ = "";
+        value_ = "";
+      }
+      private byte memoizedIsInitialized = -1;
+      public final boolean isInitialized() {
+        byte isInitialized = memoizedIsInitialized;
+        if (isInitialized == 1) return true;
+        if (isInitialized == 0) return false;
+
+        memoizedIsInitialized = 1;
+        return true;
+      }
+
+      public void writeTo(com.google.protobuf.CodedOutputStream output)
+                          throws java.io.IOException {
+        getSerializedSize();
+        if (((bitField0_ & 0x00000001) == 0x00000001)) {
+          output.writeBytes(1, getKeyBytes());
+        }
+        if (((bitField0_ & 0x00000002) == 0x00000002)) {
+          output.writeBytes(2, getValueBytes());
+        }
+        getUnknownFields().writeTo(output);
+      }
+
+      private int memoizedSerializedSize = -1;
+      public int getSerializedSize() {
+        int size = memoizedSerializedSize;
+        if (size != -1) return size;
+
+        size = 0;
+        if (((bitField0_ & 0x00000001) == 0x00000001)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeBytesSize(1, getKeyBytes());
+        }
+        if (((bitField0_ & 0x00000002) == 0x00000002)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeBytesSize(2, getValueBytes());
+        }
+        size += getUnknownFields().getSerializedSize();
+        memoizedSerializedSize = size;
+        return size;
+      }
+
+      private static final long serialVersionUID = 0L;
+      @java.lang.Override
+      protected java.lang.Object writeReplace()
+          throws java.io.ObjectStreamException {
+        return super.writeReplace();
+      }
+
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.KeyValue parseFrom(
+          com.google.protobuf.ByteString data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.KeyValue parseFrom(
+          com.google.protobuf.ByteString data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.KeyValue parseFrom(byte[] data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.KeyValue parseFrom(
+          byte[] data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.KeyValue parseFrom(java.io.InputStream input)
+          throws java.io.IOException {
+        return PARSER.parseFrom(input);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.KeyValue parseFrom(
+          java.io.InputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return PARSER.parseFrom(input, extensionRegistry);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.KeyValue parseDelimitedFrom(java.io.InputStream input)
+          throws java.io.IOException {
+        return PARSER.parseDelimitedFrom(input);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.KeyValue parseDelimitedFrom(
+          java.io.InputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return PARSER.parseDelimitedFrom(input, extensionRegistry);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.KeyValue parseFrom(
+          com.google.protobuf.CodedInputStream input)
+          throws java.io.IOException {
+        return PARSER.parseFrom(input);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.KeyValue parseFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return PARSER.parseFrom(input, extensionRegistry);
+      }
+
+      public static Builder newBuilder() { return Builder.create(); }
+      public Builder newBuilderForType() { return newBuilder(); }
+      public static Builder newBuilder(org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.KeyValue prototype) {
+        return newBuilder().mergeFrom(prototype);
+      }
+      public Builder toBuilder() { return newBuilder(this); }
+
+      @java.lang.Override
+      protected Builder newBuilderForType(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        Builder builder = new Builder(parent);
+        return builder;
+      }
+      /**
+       * Protobuf type {@code ProjectRepositoriesEntry.KeyValue}
+       */
+      public static final class Builder extends
+          com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+          // @@protoc_insertion_point(builder_implements:ProjectRepositoriesEntry.KeyValue)
+          org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.KeyValueOrBuilder {
+        public static final com.google.protobuf.Descriptors.Descriptor
+            getDescriptor() {
+          return org.sonar.batch.protocol.input.BatchInput.internal_static_ProjectRepositoriesEntry_KeyValue_descriptor;
+        }
+
+        protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+            internalGetFieldAccessorTable() {
+          return org.sonar.batch.protocol.input.BatchInput.internal_static_ProjectRepositoriesEntry_KeyValue_fieldAccessorTable
+              .ensureFieldAccessorsInitialized(
+                  org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.KeyValue.class, org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.KeyValue.Builder.class);
+        }
+
+        // Construct using org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.KeyValue.newBuilder()
+        private Builder() {
+          maybeForceBuilderInitialization();
+        }
+
+        private Builder(
+            com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+          super(parent);
+          maybeForceBuilderInitialization();
+        }
+        private void maybeForceBuilderInitialization() {
+          if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+          }
+        }
+        private static Builder create() {
+          return new Builder();
+        }
+
+        public Builder clear() {
+          super.clear();
+          key_ = "";
+          bitField0_ = (bitField0_ & ~0x00000001);
+          value_ = "";
+          bitField0_ = (bitField0_ & ~0x00000002);
+          return this;
+        }
+
+        public Builder clone() {
+          return create().mergeFrom(buildPartial());
+        }
+
+        public com.google.protobuf.Descriptors.Descriptor
+            getDescriptorForType() {
+          return org.sonar.batch.protocol.input.BatchInput.internal_static_ProjectRepositoriesEntry_KeyValue_descriptor;
+        }
+
+        public org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.KeyValue getDefaultInstanceForType() {
+          return org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.KeyValue.getDefaultInstance();
+        }
+
+        public org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.KeyValue build() {
+          org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.KeyValue result = buildPartial();
+          if (!result.isInitialized()) {
+            throw newUninitializedMessageException(result);
+          }
+          return result;
+        }
+
+        public org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.KeyValue buildPartial() {
+          org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.KeyValue result = new org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.KeyValue(this);
+          int from_bitField0_ = bitField0_;
+          int to_bitField0_ = 0;
+          if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+            to_bitField0_ |= 0x00000001;
+          }
+          result.key_ = key_;
+          if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+            to_bitField0_ |= 0x00000002;
+          }
+          result.value_ = value_;
+          result.bitField0_ = to_bitField0_;
+          onBuilt();
+          return result;
+        }
+
+        public Builder mergeFrom(com.google.protobuf.Message other) {
+          if (other instanceof org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.KeyValue) {
+            return mergeFrom((org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.KeyValue)other);
+          } else {
+            super.mergeFrom(other);
+            return this;
+          }
+        }
+
+        public Builder mergeFrom(org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.KeyValue other) {
+          if (other == org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.KeyValue.getDefaultInstance()) return this;
+          if (other.hasKey()) {
+            bitField0_ |= 0x00000001;
+            key_ = other.key_;
+            onChanged();
+          }
+          if (other.hasValue()) {
+            bitField0_ |= 0x00000002;
+            value_ = other.value_;
+            onChanged();
+          }
+          this.mergeUnknownFields(other.getUnknownFields());
+          return this;
+        }
+
+        public final boolean isInitialized() {
+          return true;
+        }
+
+        public Builder mergeFrom(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws java.io.IOException {
+          org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.KeyValue parsedMessage = null;
+          try {
+            parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+          } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+            parsedMessage = (org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.KeyValue) e.getUnfinishedMessage();
+            throw e;
+          } finally {
+            if (parsedMessage != null) {
+              mergeFrom(parsedMessage);
+            }
+          }
+          return this;
+        }
+        private int bitField0_;
+
+        private java.lang.Object key_ = "";
+        /**
+         * <code>optional string key = 1;</code>
+         */
+        public boolean hasKey() {
+          return ((bitField0_ & 0x00000001) == 0x00000001);
+        }
+        /**
+         * <code>optional string key = 1;</code>
+         */
+        public java.lang.String getKey() {
+          java.lang.Object ref = key_;
+          if (!(ref instanceof java.lang.String)) {
+            com.google.protobuf.ByteString bs =
+                (com.google.protobuf.ByteString) ref;
+            java.lang.String s = bs.toStringUtf8();
+            if (bs.isValidUtf8()) {
+              key_ = s;
+            }
+            return s;
+          } else {
+            return (java.lang.String) ref;
+          }
+        }
+        /**
+         * <code>optional string key = 1;</code>
+         */
+        public com.google.protobuf.ByteString
+            getKeyBytes() {
+          java.lang.Object ref = key_;
+          if (ref instanceof String) {
+            com.google.protobuf.ByteString b = 
+                com.google.protobuf.ByteString.copyFromUtf8(
+                    (java.lang.String) ref);
+            key_ = b;
+            return b;
+          } else {
+            return (com.google.protobuf.ByteString) ref;
+          }
+        }
+        /**
+         * <code>optional string key = 1;</code>
+         */
+        public Builder setKey(
+            java.lang.String value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+          key_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional string key = 1;</code>
+         */
+        public Builder clearKey() {
+          bitField0_ = (bitField0_ & ~0x00000001);
+          key_ = getDefaultInstance().getKey();
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional string key = 1;</code>
+         */
+        public Builder setKeyBytes(
+            com.google.protobuf.ByteString value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+          key_ = value;
+          onChanged();
+          return this;
+        }
+
+        private java.lang.Object value_ = "";
+        /**
+         * <code>optional string value = 2;</code>
+         */
+        public boolean hasValue() {
+          return ((bitField0_ & 0x00000002) == 0x00000002);
+        }
+        /**
+         * <code>optional string value = 2;</code>
+         */
+        public java.lang.String getValue() {
+          java.lang.Object ref = value_;
+          if (!(ref instanceof java.lang.String)) {
+            com.google.protobuf.ByteString bs =
+                (com.google.protobuf.ByteString) ref;
+            java.lang.String s = bs.toStringUtf8();
+            if (bs.isValidUtf8()) {
+              value_ = s;
+            }
+            return s;
+          } else {
+            return (java.lang.String) ref;
+          }
+        }
+        /**
+         * <code>optional string value = 2;</code>
+         */
+        public com.google.protobuf.ByteString
+            getValueBytes() {
+          java.lang.Object ref = value_;
+          if (ref instanceof String) {
+            com.google.protobuf.ByteString b = 
+                com.google.protobuf.ByteString.copyFromUtf8(
+                    (java.lang.String) ref);
+            value_ = b;
+            return b;
+          } else {
+            return (com.google.protobuf.ByteString) ref;
+          }
+        }
+        /**
+         * <code>optional string value = 2;</code>
+         */
+        public Builder setValue(
+            java.lang.String value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+          value_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional string value = 2;</code>
+         */
+        public Builder clearValue() {
+          bitField0_ = (bitField0_ & ~0x00000002);
+          value_ = getDefaultInstance().getValue();
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional string value = 2;</code>
+         */
+        public Builder setValueBytes(
+            com.google.protobuf.ByteString value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+          value_ = value;
+          onChanged();
+          return this;
+        }
+
+        // @@protoc_insertion_point(builder_scope:ProjectRepositoriesEntry.KeyValue)
+      }
+
+      static {
+        defaultInstance = new KeyValue(true);
+        defaultInstance.initFields();
+      }
+
+      // @@protoc_insertion_point(class_scope:ProjectRepositoriesEntry.KeyValue)
+    }
+
+    private int bitField0_;
+    public static final int HEADER_FIELD_NUMBER = 1;
+    private org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.Header header_;
+    /**
+     * <code>optional .ProjectRepositoriesEntry.Header header = 1;</code>
+     */
+    public boolean hasHeader() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>optional .ProjectRepositoriesEntry.Header header = 1;</code>
+     */
+    public org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.Header getHeader() {
+      return header_;
+    }
+    /**
+     * <code>optional .ProjectRepositoriesEntry.Header header = 1;</code>
+     */
+    public org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.HeaderOrBuilder getHeaderOrBuilder() {
+      return header_;
+    }
+
+    public static final int QPROFILE_FIELD_NUMBER = 2;
+    private org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.QProfile qprofile_;
+    /**
+     * <code>optional .ProjectRepositoriesEntry.QProfile qprofile = 2;</code>
+     */
+    public boolean hasQprofile() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>optional .ProjectRepositoriesEntry.QProfile qprofile = 2;</code>
+     */
+    public org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.QProfile getQprofile() {
+      return qprofile_;
+    }
+    /**
+     * <code>optional .ProjectRepositoriesEntry.QProfile qprofile = 2;</code>
+     */
+    public org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.QProfileOrBuilder getQprofileOrBuilder() {
+      return qprofile_;
+    }
+
+    public static final int ACTIVE_RULE_FIELD_NUMBER = 3;
+    private org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.ActiveRule activeRule_;
+    /**
+     * <code>optional .ProjectRepositoriesEntry.ActiveRule active_rule = 3;</code>
+     */
+    public boolean hasActiveRule() {
+      return ((bitField0_ & 0x00000004) == 0x00000004);
+    }
+    /**
+     * <code>optional .ProjectRepositoriesEntry.ActiveRule active_rule = 3;</code>
+     */
+    public org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.ActiveRule getActiveRule() {
+      return activeRule_;
+    }
+    /**
+     * <code>optional .ProjectRepositoriesEntry.ActiveRule active_rule = 3;</code>
+     */
+    public org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.ActiveRuleOrBuilder getActiveRuleOrBuilder() {
+      return activeRule_;
+    }
+
+    public static final int MODULE_SETTINGS_FIELD_NUMBER = 4;
+    private org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.ModuleSettings moduleSettings_;
+    /**
+     * <code>optional .ProjectRepositoriesEntry.ModuleSettings module_settings = 4;</code>
+     */
+    public boolean hasModuleSettings() {
+      return ((bitField0_ & 0x00000008) == 0x00000008);
+    }
+    /**
+     * <code>optional .ProjectRepositoriesEntry.ModuleSettings module_settings = 4;</code>
+     */
+    public org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.ModuleSettings getModuleSettings() {
+      return moduleSettings_;
+    }
+    /**
+     * <code>optional .ProjectRepositoriesEntry.ModuleSettings module_settings = 4;</code>
+     */
+    public org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.ModuleSettingsOrBuilder getModuleSettingsOrBuilder() {
+      return moduleSettings_;
+    }
+
+    public static final int FILE_DATA_FIELD_NUMBER = 5;
+    private org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.FileData fileData_;
+    /**
+     * <code>optional .ProjectRepositoriesEntry.FileData file_data = 5;</code>
+     */
+    public boolean hasFileData() {
+      return ((bitField0_ & 0x00000010) == 0x00000010);
+    }
+    /**
+     * <code>optional .ProjectRepositoriesEntry.FileData file_data = 5;</code>
+     */
+    public org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.FileData getFileData() {
+      return fileData_;
+    }
+    /**
+     * <code>optional .ProjectRepositoriesEntry.FileData file_data = 5;</code>
+     */
+    public org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.FileDataOrBuilder getFileDataOrBuilder() {
+      return fileData_;
+    }
+
+    private void initFields() {
+      header_ = org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.Header.getDefaultInstance();
+      qprofile_ = org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.QProfile.getDefaultInstance();
+      activeRule_ = org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.ActiveRule.getDefaultInstance();
+      moduleSettings_ = org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.ModuleSettings.getDefaultInstance();
+      fileData_ = org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.FileData.getDefaultInstance();
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeMessage(1, header_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeMessage(2, qprofile_);
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        output.writeMessage(3, activeRule_);
+      }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        output.writeMessage(4, moduleSettings_);
+      }
+      if (((bitField0_ & 0x00000010) == 0x00000010)) {
+        output.writeMessage(5, fileData_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, header_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, qprofile_);
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(3, activeRule_);
+      }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(4, moduleSettings_);
+      }
+      if (((bitField0_ & 0x00000010) == 0x00000010)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(5, fileData_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code ProjectRepositoriesEntry}
+     *
+     * <pre>
+     * Project repositories (/batch/project) are streamed as a sequence of delimited entries.
+     * Each entry has exactly one field set.
+     * </pre>
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:ProjectRepositoriesEntry)
+        org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntryOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.sonar.batch.protocol.input.BatchInput.internal_static_ProjectRepositoriesEntry_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.sonar.batch.protocol.input.BatchInput.internal_static_ProjectRepositoriesEntry_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.class, org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.Builder.class);
+      }
+
+      // Construct using org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+          getHeaderFieldBuilder();
+          getQprofileFieldBuilder();
+          getActiveRuleFieldBuilder();
+          getModuleSettingsFieldBuilder();
+          getFileDataFieldBuilder();
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        if (headerBuilder_ == null) {
+          header_ = org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.Header.getDefaultInstance();
+        } else {
+          headerBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000001);
+        if (qprofileBuilder_ == null) {
+          qprofile_ = org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.QProfile.getDefaultInstance();
+        } else {
+          qprofileBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000002);
+        if (activeRuleBuilder_ == null) {
+          activeRule_ = org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.ActiveRule.getDefaultInstance();
+        } else {
+          activeRuleBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000004);
+        if (moduleSettingsBuilder_ == null) {
+          moduleSettings_ = org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.ModuleSettings.getDefaultInstance();
+        } else {
+          moduleSettingsBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000008);
+        if (fileDataBuilder_ == null) {
+          fileData_ = org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.FileData.getDefaultInstance();
+        } else {
+          fileDataBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000010);
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.sonar.batch.protocol.input.BatchInput.internal_static_ProjectRepositoriesEntry_descriptor;
+      }
+
+      public org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry getDefaultInstanceForType() {
+        return org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.getDefaultInstance();
+      }
+
+      public org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry build() {
+        org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry buildPartial() {
+        org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry result = new org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        if (headerBuilder_ == null) {
+          result.header_ = header_;
+        } else {
+          result.header_ = headerBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        if (qprofileBuilder_ == null) {
+          result.qprofile_ = qprofile_;
+        } else {
+          result.qprofile_ = qprofileBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+          to_bitField0_ |= 0x00000004;
+        }
+        if (activeRuleBuilder_ == null) {
+          result.activeRule_ = activeRule_;
+        } else {
+          result.activeRule_ = activeRuleBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x00000008) == 0x00000008)) {
+          to_bitField0_ |= 0x00000008;
+        }
+        if (moduleSettingsBuilder_ == null) {
+          result.moduleSettings_ = moduleSettings_;
+        } else {
+          result.moduleSettings_ = moduleSettingsBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x00000010) == 0x00000010)) {
+          to_bitField0_ |= 0x00000010;
+        }
+        if (fileDataBuilder_ == null) {
+          result.fileData_ = fileData_;
+        } else {
+          result.fileData_ = fileDataBuilder_.build();
+        }
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry) {
+          return mergeFrom((org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry other) {
+        if (other == org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.getDefaultInstance()) return this;
+        if (other.hasHeader()) {
+          mergeHeader(other.getHeader());
+        }
+        if (other.hasQprofile()) {
+          mergeQprofile(other.getQprofile());
+        }
+        if (other.hasActiveRule()) {
+          mergeActiveRule(other.getActiveRule());
+        }
+        if (other.hasModuleSettings()) {
+          mergeModuleSettings(other.getModuleSettings());
+        }
+        if (other.hasFileData()) {
+          mergeFileData(other.getFileData());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.Header header_ = org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.Header.getDefaultInstance();
+      private com.google.protobuf.SingleFieldBuilder<
+          org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.Header, org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.Header.Builder, org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.HeaderOrBuilder> headerBuilder_;
+      /**
+       * <code>optional .ProjectRepositoriesEntry.Header header = 1;</code>
+       */
+      public boolean hasHeader() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>optional .ProjectRepositoriesEntry.Header header = 1;</code>
+       */
+      public org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.Header getHeader() {
+        if (headerBuilder_ == null) {
+          return header_;
+        } else {
+          return headerBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>optional .ProjectRepositoriesEntry.Header header = 1;</code>
+       */
+      public Builder setHeader(org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.Header value) {
+        if (headerBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          header_ = value;
+          onChanged();
+        } else {
+          headerBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000001;
+        return this;
+      }
+      /**
+       * <code>optional .ProjectRepositoriesEntry.Header header = 1;</code>
+       */
+      public Builder setHeader(
+          org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.Header.Builder builderForValue) {
+        if (headerBuilder_ == null) {
+          header_ = builderForValue.build();
+          onChanged();
+        } else {
+          headerBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000001;
+        return this;
+      }
+      /**
+       * <code>optional .ProjectRepositoriesEntry.Header header = 1;</code>
+       */
+      public Builder mergeHeader(org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.Header value) {
+        if (headerBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) == 0x00000001) &&
+              header_ != org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.Header.getDefaultInstance()) {
+            header_ =
+              org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.Header.newBuilder(header_).mergeFrom(value).buildPartial();
+          } else {
+            header_ = value;
+          }
+          onChanged();
+        } else {
+          headerBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000001;
+        return this;
+      }
+      /**
+       * <code>optional .ProjectRepositoriesEntry.Header header = 1;</code>
+       */
+      public Builder clearHeader() {
+        if (headerBuilder_ == null) {
+          header_ = org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.Header.getDefaultInstance();
+          onChanged();
+        } else {
+          headerBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000001);
+        return this;
+      }
+      /**
+       * <code>optional .ProjectRepositoriesEntry.Header header = 1;</code>
+       */
+      public org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.Header.Builder getHeaderBuilder() {
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return getHeaderFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .ProjectRepositoriesEntry.Header header = 1;</code>
+       */
+      public org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.HeaderOrBuilder getHeaderOrBuilder() {
+        if (headerBuilder_ != null) {
+          return headerBuilder_.getMessageOrBuilder();
+        } else {
+          return header_;
+        }
+      }
+      /**
+       * <code>optional .ProjectRepositoriesEntry.Header header = 1;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.Header, org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.Header.Builder, org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.HeaderOrBuilder> 
+          getHeaderFieldBuilder() {
+        if (headerBuilder_ == null) {
+          headerBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.Header, org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.Header.Builder, org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.HeaderOrBuilder>(
+                  getHeader(),
+                  getParentForChildren(),
+                  isClean());
+          header_ = null;
+        }
+        return headerBuilder_;
+      }
+
+      private org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.QProfile qprofile_ = org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.QProfile.getDefaultInstance();
+      private com.google.protobuf.SingleFieldBuilder<
+          org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.QProfile, org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.QProfile.Builder, org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.QProfileOrBuilder> qprofileBuilder_;
+      /**
+       * <code>optional .ProjectRepositoriesEntry.QProfile qprofile = 2;</code>
+       */
+      public boolean hasQprofile() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>optional .ProjectRepositoriesEntry.QProfile qprofile = 2;</code>
+       */
+      public org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.QProfile getQprofile() {
+        if (qprofileBuilder_ == null) {
+          return qprofile_;
+        } else {
+          return qprofileBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>optional .ProjectRepositoriesEntry.QProfile qprofile = 2;</code>
+       */
+      public Builder setQprofile(org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.QProfile value) {
+        if (qprofileBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          qprofile_ = value;
+          onChanged();
+        } else {
+          qprofileBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000002;
+        return this;
+      }
+      /**
+       * <code>optional .ProjectRepositoriesEntry.QProfile qprofile = 2;</code>
+       */
+      public Builder setQprofile(
+          org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.QProfile.Builder builderForValue) {
+        if (qprofileBuilder_ == null) {
+          qprofile_ = builderForValue.build();
+          onChanged();
+        } else {
+          qprofileBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000002;
+        return this;
+      }
+      /**
+       * <code>optional .ProjectRepositoriesEntry.QProfile qprofile = 2;</code>
+       */
+      public Builder mergeQprofile(org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.QProfile value) {
+        if (qprofileBuilder_ == null) {
+          if (((bitField0_ & 0x00000002) == 0x00000002) &&
+              qprofile_ != org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.QProfile.getDefaultInstance()) {
+            qprofile_ =
+              org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.QProfile.newBuilder(qprofile_).mergeFrom(value).buildPartial();
+          } else {
+            qprofile_ = value;
+          }
+          onChanged();
+        } else {
+          qprofileBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000002;
+        return this;
+      }
+      /**
+       * <code>optional .ProjectRepositoriesEntry.QProfile qprofile = 2;</code>
+       */
+      public Builder clearQprofile() {
+        if (qprofileBuilder_ == null) {
+          qprofile_ = org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.QProfile.getDefaultInstance();
+          onChanged();
+        } else {
+          qprofileBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000002);
+        return this;
+      }
+      /**
+       * <code>optional .ProjectRepositoriesEntry.QProfile qprofile = 2;</code>
+       */
+      public org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.QProfile.Builder getQprofileBuilder() {
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return getQprofileFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .ProjectRepositoriesEntry.QProfile qprofile = 2;</code>
+       */
+      public org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.QProfileOrBuilder getQprofileOrBuilder() {
+        if (qprofileBuilder_ != null) {
+          return qprofileBuilder_.getMessageOrBuilder();
+        } else {
+          return qprofile_;
+        }
+      }
+      /**
+       * <code>optional .ProjectRepositoriesEntry.QProfile qprofile = 2;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.QProfile, org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.QProfile.Builder, org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.QProfileOrBuilder> 
+          getQprofileFieldBuilder() {
+        if (qprofileBuilder_ == null) {
+          qprofileBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.QProfile, org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.QProfile.Builder, org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.QProfileOrBuilder>(
+                  getQprofile(),
+                  getParentForChildren(),
+                  isClean());
+          qprofile_ = null;
+        }
+        return qprofileBuilder_;
+      }
+
+      private org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.ActiveRule activeRule_ = org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.ActiveRule.getDefaultInstance();
+      private com.google.protobuf.SingleFieldBuilder<
+          org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.ActiveRule, org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.ActiveRule.Builder, org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.ActiveRuleOrBuilder> activeRuleBuilder_;
+      /**
+       * <code>optional .ProjectRepositoriesEntry.ActiveRule active_rule = 3;</code>
+       */
+      public boolean hasActiveRule() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
+      }
+      /**
+       * <code>optional .ProjectRepositoriesEntry.ActiveRule active_rule = 3;</code>
+       */
+      public org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.ActiveRule getActiveRule() {
+        if (activeRuleBuilder_ == null) {
+          return activeRule_;
+        } else {
+          return activeRuleBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>optional .ProjectRepositoriesEntry.ActiveRule active_rule = 3;</code>
+       */
+      public Builder setActiveRule(org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.ActiveRule value) {
+        if (activeRuleBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          activeRule_ = value;
+          onChanged();
+        } else {
+          activeRuleBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000004;
+        return this;
+      }
+      /**
+       * <code>optional .ProjectRepositoriesEntry.ActiveRule active_rule = 3;</code>
+       */
+      public Builder setActiveRule(
+          org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.ActiveRule.Builder builderForValue) {
+        if (activeRuleBuilder_ == null) {
+          activeRule_ = builderForValue.build();
+          onChanged();
+        } else {
+          activeRuleBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000004;
+        return this;
+      }
+      /**
+       * <code>optional .ProjectRepositoriesEntry.ActiveRule active_rule = 3;</code>
+       */
+      public Builder mergeActiveRule(org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.ActiveRule value) {
+        if (activeRuleBuilder_ == null) {
+          if (((bitField0_ & 0x00000004) == 0x00000004) &&
+              activeRule_ != org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.ActiveRule.getDefaultInstance()) {
+            activeRule_ =
+              org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.ActiveRule.newBuilder(activeRule_).mergeFrom(value).buildPartial();
+          } else {
+            activeRule_ = value;
+          }
+          onChanged();
+        } else {
+          activeRuleBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000004;
+        return this;
+      }
+      /**
+       * <code>optional .ProjectRepositoriesEntry.ActiveRule active_rule = 3;</code>
+       */
+      public Builder clearActiveRule() {
+        if (activeRuleBuilder_ == null) {
+          activeRule_ = org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.ActiveRule.getDefaultInstance();
+          onChanged();
+        } else {
+          activeRuleBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000004);
+        return this;
+      }
+      /**
+       * <code>optional .ProjectRepositoriesEntry.ActiveRule active_rule = 3;</code>
+       */
+      public org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.ActiveRule.Builder getActiveRuleBuilder() {
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return getActiveRuleFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .ProjectRepositoriesEntry.ActiveRule active_rule = 3;</code>
+       */
+      public org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.ActiveRuleOrBuilder getActiveRuleOrBuilder() {
+        if (activeRuleBuilder_ != null) {
+          return activeRuleBuilder_.getMessageOrBuilder();
+        } else {
+          return activeRule_;
+        }
+      }
+      /**
+       * <code>optional .ProjectRepositoriesEntry.ActiveRule active_rule = 3;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.ActiveRule, org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.ActiveRule.Builder, org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.ActiveRuleOrBuilder> 
+          getActiveRuleFieldBuilder() {
+        if (activeRuleBuilder_ == null) {
+          activeRuleBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.ActiveRule, org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.ActiveRule.Builder, org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.ActiveRuleOrBuilder>(
+                  getActiveRule(),
+                  getParentForChildren(),
+                  isClean());
+          activeRule_ = null;
+        }
+        return activeRuleBuilder_;
+      }
+
+      private org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.ModuleSettings moduleSettings_ = org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.ModuleSettings.getDefaultInstance();
+      private com.google.protobuf.SingleFieldBuilder<
+          org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.ModuleSettings, org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.ModuleSettings.Builder, org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.ModuleSettingsOrBuilder> moduleSettingsBuilder_;
+      /**
+       * <code>optional .ProjectRepositoriesEntry.ModuleSettings module_settings = 4;</code>
+       */
+      public boolean hasModuleSettings() {
+        return ((bitField0_ & 0x00000008) == 0x00000008);
+      }
+      /**
+       * <code>optional .ProjectRepositoriesEntry.ModuleSettings module_settings = 4;</code>
+       */
+      public org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.ModuleSettings getModuleSettings() {
+        if (moduleSettingsBuilder_ == null) {
+          return moduleSettings_;
+        } else {
+          return moduleSettingsBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>optional .ProjectRepositoriesEntry.ModuleSettings module_settings = 4;</code>
+       */
+      public Builder setModuleSettings(org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.ModuleSettings value) {
+        if (moduleSettingsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          moduleSettings_ = value;
+          onChanged();
+        } else {
+          moduleSettingsBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000008;
+        return this;
+      }
+      /**
+       * <code>optional .ProjectRepositoriesEntry.ModuleSettings module_settings = 4;</code>
+       */
+      public Builder setModuleSettings(
+          org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.ModuleSettings.Builder builderForValue) {
+        if (moduleSettingsBuilder_ == null) {
+          moduleSettings_ = builderForValue.build();
+          onChanged();
+        } else {
+          moduleSettingsBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000008;
+        return this;
+      }
+      /**
+       * <code>optional .ProjectRepositoriesEntry.ModuleSettings module_settings = 4;</code>
+       */
+      public Builder mergeModuleSettings(org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.ModuleSettings value) {
+        if (moduleSettingsBuilder_ == null) {
+          if (((bitField0_ & 0x00000008) == 0x00000008) &&
+              moduleSettings_ != org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.ModuleSettings.getDefaultInstance()) {
+            moduleSettings_ =
+              org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.ModuleSettings.newBuilder(moduleSettings_).mergeFrom(value).buildPartial();
+          } else {
+            moduleSettings_ = value;
+          }
+          onChanged();
+        } else {
+          moduleSettingsBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000008;
+        return this;
+      }
+      /**
+       * <code>optional .ProjectRepositoriesEntry.ModuleSettings module_settings = 4;</code>
+       */
+      public Builder clearModuleSettings() {
+        if (moduleSettingsBuilder_ == null) {
+          moduleSettings_ = org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.ModuleSettings.getDefaultInstance();
+          onChanged();
+        } else {
+          moduleSettingsBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000008);
+        return this;
+      }
+      /**
+       * <code>optional .ProjectRepositoriesEntry.ModuleSettings module_settings = 4;</code>
+       */
+      public org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.ModuleSettings.Builder getModuleSettingsBuilder() {
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return getModuleSettingsFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .ProjectRepositoriesEntry.ModuleSettings module_settings = 4;</code>
+       */
+      public org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.ModuleSettingsOrBuilder getModuleSettingsOrBuilder() {
+        if (moduleSettingsBuilder_ != null) {
+          return moduleSettingsBuilder_.getMessageOrBuilder();
+        } else {
+          return moduleSettings_;
+        }
+      }
+      /**
+       * <code>optional .ProjectRepositoriesEntry.ModuleSettings module_settings = 4;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.ModuleSettings, org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.ModuleSettings.Builder, org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.ModuleSettingsOrBuilder> 
+          getModuleSettingsFieldBuilder() {
+        if (moduleSettingsBuilder_ == null) {
+          moduleSettingsBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.ModuleSettings, org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.ModuleSettings.Builder, org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.ModuleSettingsOrBuilder>(
+                  getModuleSettings(),
+                  getParentForChildren(),
+                  isClean());
+          moduleSettings_ = null;
+        }
+        return moduleSettingsBuilder_;
+      }
+
+      private org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.FileData fileData_ = org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.FileData.getDefaultInstance();
+      private com.google.protobuf.SingleFieldBuilder<
+          org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.FileData, org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.FileData.Builder, org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.FileDataOrBuilder> fileDataBuilder_;
+      /**
+       * <code>optional .ProjectRepositoriesEntry.FileData file_data = 5;</code>
+       */
+      public boolean hasFileData() {
+        return ((bitField0_ & 0x00000010) == 0x00000010);
+      }
+      /**
+       * <code>optional .ProjectRepositoriesEntry.FileData file_data = 5;</code>
+       */
+      public org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.FileData getFileData() {
+        if (fileDataBuilder_ == null) {
+          return fileData_;
+        } else {
+          return fileDataBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>optional .ProjectRepositoriesEntry.FileData file_data = 5;</code>
+       */
+      public Builder setFileData(org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.FileData value) {
+        if (fileDataBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          fileData_ = value;
+          onChanged();
+        } else {
+          fileDataBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000010;
+        return this;
+      }
+      /**
+       * <code>optional .ProjectRepositoriesEntry.FileData file_data = 5;</code>
+       */
+      public Builder setFileData(
+          org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.FileData.Builder builderForValue) {
+        if (fileDataBuilder_ == null) {
+          fileData_ = builderForValue.build();
+          onChanged();
+        } else {
+          fileDataBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000010;
+        return this;
+      }
+      /**
+       * <code>optional .ProjectRepositoriesEntry.FileData file_data = 5;</code>
+       */
+      public Builder mergeFileData(org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.FileData value) {
+        if (fileDataBuilder_ == null) {
+          if (((bitField0_ & 0x00000010) == 0x00000010) &&
+              fileData_ != org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.FileData.getDefaultInstance()) {
+            fileData_ =
+              org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.FileData.newBuilder(fileData_).mergeFrom(value).buildPartial();
+          } else {
+            fileData_ = value;
+          }
+          onChanged();
+        } else {
+          fileDataBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000010;
+        return this;
+      }
+      /**
+       * <code>optional .ProjectRepositoriesEntry.FileData file_data = 5;</code>
+       */
+      public Builder clearFileData() {
+        if (fileDataBuilder_ == null) {
+          fileData_ = org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.FileData.getDefaultInstance();
+          onChanged();
+        } else {
+          fileDataBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000010);
+        return this;
+      }
+      /**
+       * <code>optional .ProjectRepositoriesEntry.FileData file_data = 5;</code>
+       */
+      public org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.FileData.Builder getFileDataBuilder() {
+        bitField0_ |= 0x00000010;
+        onChanged();
+        return getFileDataFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .ProjectRepositoriesEntry.FileData file_data = 5;</code>
+       */
+      public org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.FileDataOrBuilder getFileDataOrBuilder() {
+        if (fileDataBuilder_ != null) {
+          return fileDataBuilder_.getMessageOrBuilder();
+        } else {
+          return fileData_;
+        }
+      }
+      /**
+       * <code>optional .ProjectRepositoriesEntry.FileData file_data = 5;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.FileData, org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.FileData.Builder, org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.FileDataOrBuilder> 
+          getFileDataFieldBuilder() {
+        if (fileDataBuilder_ == null) {
+          fileDataBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.FileData, org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.FileData.Builder, org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry.FileDataOrBuilder>(
+                  getFileData(),
+                  getParentForChildren(),
+                  isClean());
+          fileData_ = null;
+        }
+        return fileDataBuilder_;
+      }
+
+      // @@protoc_insertion_point(builder_scope:ProjectRepositoriesEntry)
+    }
+
+    static {
+      defaultInstance = new ProjectRepositoriesEntry(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:ProjectRepositoriesEntry)
+  }
+
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_ServerIssue_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_ServerIssue_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_ProjectRepositoriesEntry_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_ProjectRepositoriesEntry_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_ProjectRepositoriesEntry_Header_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_ProjectRepositoriesEntry_Header_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_ProjectRepositoriesEntry_QProfile_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_ProjectRepositoriesEntry_QProfile_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_ProjectRepositoriesEntry_ActiveRule_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_ProjectRepositoriesEntry_ActiveRule_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_ProjectRepositoriesEntry_ModuleSettings_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_ProjectRepositoriesEntry_ModuleSettings_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_ProjectRepositoriesEntry_FileData_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_ProjectRepositoriesEntry_FileData_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_ProjectRepositoriesEntry_KeyValue_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_ProjectRepositoriesEntry_KeyValue_fieldAccessorTable;
+
+  public static com.google.protobuf.Descriptors.FileDescriptor
+      getDescriptor() {
+    return descriptor;
+  }
+  private static com.google.protobuf.Descriptors.FileDescriptor
+      descriptor;
+  static {
+    java.lang.String[] descriptorData = {
+      "\n\021batch_input.proto\032\017constants.proto\"\235\002\n" +
+      "\013ServerIssue\022\013\n\003key\030\001 \001(\t\022\022\n\nmodule_key\030" +
+      "\002 \001(\t\022\014\n\004path\030\003 \001(\t\022\027\n\017rule_repository\030\004" +
+      " \001(\t\022\020\n\010rule_key\030\005 \001(\t\022\014\n\004line\030\006 \001(\005\022\013\n\003" +
+      "msg\030\007 \001(\t\022\033\n\010severity\030\010 \001(\0162\t.Severity\022\027" +
+      "\n\017manual_severity\030\t \001(\010\022\022\n\nresolution\030\n " +
+      "\001(\t\022\016\n\006status\030\013 \001(\t\022\020\n\010checksum\030\014 \001(\t\022\026\n" +
+      "\016assignee_login\030\r \001(\t\022\025\n\rcreation_date\030\016" +
+      " \001(\003\"\316\007\n\030ProjectRepositoriesEntry\0220\n\006hea" +
+      "der\030\001 \001(\0132 .ProjectRepositoriesEntry.Hea",
+      "der\0224\n\010qprofile\030\002 \001(\0132\".ProjectRepositor" +
+      "iesEntry.QProfile\0229\n\013active_rule\030\003 \001(\0132$" +
+      ".ProjectRepositoriesEntry.ActiveRule\022A\n\017" +
+      "module_settings\030\004 \001(\0132(.ProjectRepositor" +
+      "iesEntry.ModuleSettings\0225\n\tfile_data\030\005 \001" +
+      "(\0132\".ProjectRepositoriesEntry.FileData\0327" +
+      "\n\006Header\022\021\n\ttimestamp\030\001 \001(\003\022\032\n\022last_anal" +
+      "ysis_date\030\002 \001(\003\032Q\n\010QProfile\022\013\n\003key\030\001 \001(\t" +
+      "\022\014\n\004name\030\002 \001(\t\022\020\n\010language\030\003 \001(\t\022\030\n\020rule" +
+      "s_updated_at\030\004 \001(\003\032\314\001\n\nActiveRule\022\026\n\016rep",
+      "ository_key\030\001 \001(\t\022\020\n\010rule_key\030\002 \001(\t\022\031\n\021t" +
+      "emplate_rule_key\030\003 \001(\t\022\014\n\004name\030\004 \001(\t\022\020\n\010" +
+      "severity\030\005 \001(\t\022\024\n\014internal_key\030\006 \001(\t\022\020\n\010" +
+      "language\030\007 \001(\t\0221\n\005param\030\010 \003(\0132\".ProjectR" +
+      "epositoriesEntry.KeyValue\032Z\n\016ModuleSetti" +
+      "ngs\022\022\n\nmodule_key\030\001 \001(\t\0224\n\010property\030\002 \003(" +
+      "\0132\".ProjectRepositoriesEntry.KeyValue\032\265\001" +
+      "\n\010FileData\022\022\n\nmodule_key\030\001 \001(\t\022\014\n\004path\030\002" +
+      " \001(\t\022\014\n\004hash\030\003 \001(\t\022\022\n\nneed_blame\030\004 \001(\010\022)" +
+      "\n!scm_last_commit_datetimes_by_line\030\005 \001(",
+      "\t\022\035\n\025scm_revisions_by_line\030\006 \001(\t\022\033\n\023scm_" +
+      "authors_by_line\030\007 \001(\t\032&\n\010KeyValue\022\013\n\003key" +
+      "\030\001 \001(\t\022\r\n\005value\030\002 \001(\tB\"\n\036org.sonar.batch" +
+      ".protocol.inputH\001"
+    };
+    com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner assigner =
+        new com.google.protobuf.Descriptors.FileDescriptor.    InternalDescriptorAssigner() {
+          public com.google.protobuf.ExtensionRegistry assignDescriptors(
+              com.google.protobuf.Descriptors.FileDescriptor root) {
+            descriptor = root;
+            return null;
+          }
+        };
+    com.google.protobuf.Descriptors.FileDescriptor
+      .internalBuildGeneratedFileFrom(descriptorData,
+        new com.google.protobuf.Descriptors.FileDescriptor[] {
+          org.sonar.batch.protocol.Constants.getDescriptor(),
+        }, assigner);
+    internal_static_ServerIssue_descriptor =
       getDescriptor().getMessageTypes().get(0);
     internal_static_ServerIssue_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_ServerIssue_descriptor,
-        new java.lang.String[] {"Key", "ModuleKey", "Path", "RuleRepository", "RuleKey", "Line", "Msg", "Severity", "ManualSeverity", "Resolution", "Status", "Checksum",
-          "AssigneeLogin", "CreationDate",});
+        new java.lang.String[] { "Key", "ModuleKey", "Path", "RuleRepository", "RuleKey", "Line", "Msg", "Severity", "ManualSeverity", "Resolution", "Status", "Checksum", "AssigneeLogin", "CreationDate", });
+    internal_static_ProjectRepositoriesEntry_descriptor =
+      getDescriptor().getMessageTypes().get(1);
+    internal_static_ProjectRepositoriesEntry_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_ProjectRepositoriesEntry_descriptor,
+        new java.lang.String[] { "Header", "Qprofile", "ActiveRule", "ModuleSettings", "FileData", });
+    internal_static_ProjectRepositoriesEntry_Header_descriptor =
+      internal_static_ProjectRepositoriesEntry_descriptor.getNestedTypes().get(0);
+    internal_static_ProjectRepositoriesEntry_Header_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_ProjectRepositoriesEntry_Header_descriptor,
+        new java.lang.String[] { "Timestamp", "LastAnalysisDate", });
+    internal_static_ProjectRepositoriesEntry_QProfile_descriptor =
+      internal_static_ProjectRepositoriesEntry_descriptor.getNestedTypes().get(1);
+    internal_static_ProjectRepositoriesEntry_QProfile_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_ProjectRepositoriesEntry_QProfile_descriptor,
+        new java.lang.String[] { "Key", "Name", "Language", "RulesUpdatedAt", });
+    internal_static_ProjectRepositoriesEntry_ActiveRule_descriptor =
+      internal_static_ProjectRepositoriesEntry_descriptor.getNestedTypes().get(2);
+    internal_static_ProjectRepositoriesEntry_ActiveRule_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_ProjectRepositoriesEntry_ActiveRule_descriptor,
+        new java.lang.String[] { "RepositoryKey", "RuleKey", "TemplateRuleKey", "Name", "Severity", "InternalKey", "Language", "Param", });
+    internal_static_ProjectRepositoriesEntry_ModuleSettings_descriptor =
+      internal_static_ProjectRepositoriesEntry_descriptor.getNestedTypes().get(3);
+    internal_static_ProjectRepositoriesEntry_ModuleSettings_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_ProjectRepositoriesEntry_ModuleSettings_descriptor,
+        new java.lang.String[] { "ModuleKey", "Property", });
+    internal_static_ProjectRepositoriesEntry_FileData_descriptor =
+      internal_static_ProjectRepositoriesEntry_descriptor.getNestedTypes().get(4);
+    internal_static_ProjectRepositoriesEntry_FileData_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_ProjectRepositoriesEntry_FileData_descriptor,
+        new java.lang.String[] { "ModuleKey", "Path", "Hash", "NeedBlame", "ScmLastCommitDatetimesByLine", "ScmRevisionsByLine", "ScmAuthorsByLine", });
+    internal_static_ProjectRepositoriesEntry_KeyValue_descriptor =
+      internal_static_ProjectRepositoriesEntry_descriptor.getNestedTypes().get(5);
+    internal_static_ProjectRepositoriesEntry_KeyValue_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_ProjectRepositoriesEntry_KeyValue_descriptor,
+        new java.lang.String[] { "Key", "Value", });
     org.sonar.batch.protocol.Constants.getDescriptor();
   }
 
@@ -0,0 +1,5686 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: graph_db.proto
+
+package org.sonar.core.graph.db;
+
+public final class GraphDb {
+  private GraphDb() {}
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistry registry) {
+  }
+  public interface GraphOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:org.sonar.core.graph.db.Graph)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>repeated string strings = 1;</code>
+     *
+     * <pre>
+     * ids, labels, property keys and string values are stored only once
+     * and are referenced by their index in this table
+     * </pre>
+     */
+    com.google.protobuf.ProtocolStringList
+        getStringsList();
+    /**
+     * <code>repeated string strings = 1;</code>
+     *
+     * <pre>
+     * ids, labels, property keys and string values are stored only once
+     * and are referenced by their index in this table
+     * </pre>
+     */
+    int getStringsCount();
+    /**
+     * <code>repeated string strings = 1;</code>
+     *
+     * <pre>
+     * ids, labels, property keys and string values are stored only once
+     * and are referenced by their index in this table
+     * </pre>
+     */
+    java.lang.String getStrings(int index);
+    /**
+     * <code>repeated string strings = 1;</code>
+     *
+     * <pre>
+     * ids, labels, property keys and string values are stored only once
+     * and are referenced by their index in this table
+     * </pre>
+     */
+    com.google.protobuf.ByteString
+        getStringsBytes(int index);
+
+    /**
+     * <code>repeated .org.sonar.core.graph.db.Vertex vertices = 2;</code>
+     */
+    java.util.List<org.sonar.core.graph.db.GraphDb.Vertex> 
+        getVerticesList();
+    /**
+     * <code>repeated .org.sonar.core.graph.db.Vertex vertices = 2;</code>
+     */
+    org.sonar.core.graph.db.GraphDb.Vertex getVertices(int index);
+    /**
+     * <code>repeated .org.sonar.core.graph.db.Vertex vertices = 2;</code>
+     */
+    int getVerticesCount();
+    /**
+     * <code>repeated .org.sonar.core.graph.db.Vertex vertices = 2;</code>
+     */
+    java.util.List<? extends org.sonar.core.graph.db.GraphDb.VertexOrBuilder> 
+        getVerticesOrBuilderList();
+    /**
+     * <code>repeated .org.sonar.core.graph.db.Vertex vertices = 2;</code>
+     */
+    org.sonar.core.graph.db.GraphDb.VertexOrBuilder getVerticesOrBuilder(
+        int index);
+
+    /**
+     * <code>repeated .org.sonar.core.graph.db.Edge edges = 3;</code>
+     */
+    java.util.List<org.sonar.core.graph.db.GraphDb.Edge> 
+        getEdgesList();
+    /**
+     * <code>repeated .org.sonar.core.graph.db.Edge edges = 3;</code>
+     */
+    org.sonar.core.graph.db.GraphDb.Edge getEdges(int index);
+    /**
+     * <code>repeated .org.sonar.core.graph.db.Edge edges = 3;</code>
+     */
+    int getEdgesCount();
+    /**
+     * <code>repeated .org.sonar.core.graph.db.Edge edges = 3;</code>
+     */
+    java.util.List<? extends org.sonar.core.graph.db.GraphDb.EdgeOrBuilder> 
+        getEdgesOrBuilderList();
+    /**
+     * <code>repeated .org.sonar.core.graph.db.Edge edges = 3;</code>
+     */
+    org.sonar.core.graph.db.GraphDb.EdgeOrBuilder getEdgesOrBuilder(
+        int index);
+  }
+  /**
+   * Protobuf type {@code org.sonar.core.graph.db.Graph}
+   */
+  public static final class Graph extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:org.sonar.core.graph.db.Graph)
+      GraphOrBuilder {
+    // Use Graph.newBuilder() to construct.
+    private Graph(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private Graph(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final Graph defaultInstance;
+    public static Graph getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public Graph getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private Graph(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 10: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              if (!((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+                strings_ = new com.google.protobuf.LazyStringArrayList();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              strings_.add(bs);
+              break;
+            }
+            case 18: {
+              if (!((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+                vertices_ = new java.util.ArrayList<org.sonar.core.graph.db.GraphDb.Vertex>();
+                mutable_bitField0_ |= 0x00000002;
+              }
+              vertices_.add(input.readMessage(org.sonar.core.graph.db.GraphDb.Vertex.PARSER, extensionRegistry));
+              break;
+            }
+            case 26: {
+              if (!((mutable_bitField0_ & 0x00000004) == 0x00000004)) {
+                edges_ = new java.util.ArrayList<org.sonar.core.graph.db.GraphDb.Edge>();
+                mutable_bitField0_ |= 0x00000004;
+              }
+              edges_.add(input.readMessage(org.sonar.core.graph.db.GraphDb.Edge.PARSER, extensionRegistry));
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+          strings_ = strings_.getUnmodifiableView();
+        }
+        if (((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+          vertices_ = java.util.Collections.unmodifiableList(vertices_);
+        }
+        if (((mutable_bitField0_ & 0x00000004) == 0x00000004)) {
+          edges_ = java.util.Collections.unmodifiableList(edges_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.sonar.core.graph.db.GraphDb.internal_static_org_sonar_core_graph_db_Graph_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.sonar.core.graph.db.GraphDb.internal_static_org_sonar_core_graph_db_Graph_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.sonar.core.graph.db.GraphDb.Graph.class, org.sonar.core.graph.db.GraphDb.Graph.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<Graph> PARSER =
+        new com.google.protobuf.AbstractParser<Graph>() {
+      public Graph parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new Graph(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<Graph> getParserForType() {
+      return PARSER;
+    }
+
+    public static final int STRINGS_FIELD_NUMBER = 1;
+    private com.google.protobuf.LazyStringList strings_;
+    /**
+     * <code>repeated string strings = 1;</code>
+     *
+     * <pre>
+     * ids, labels, property keys and string values are stored only once
+     * and are referenced by their index in this table
+     * </pre>
+     */
+    public com.google.protobuf.ProtocolStringList
+        getStringsList() {
+      return strings_;
+    }
+    /**
+     * <code>repeated string strings = 1;</code>
+     *
+     * <pre>
+     * ids, labels, property keys and string values are stored only once
+     * and are referenced by their index in this table
+     * </pre>
+     */
+    public int getStringsCount() {
+      return strings_.size();
+    }
+    /**
+     * <code>repeated string strings = 1;</code>
+     *
+     * <pre>
+     * ids, labels, property keys and string values are stored only once
+     * and are referenced by their index in this table
+     * </pre>
+     */
+    public java.lang.String getStrings(int index) {
+      return strings_.get(index);
+    }
+    /**
+     * <code>repeated string strings = 1;</code>
+     *
+     * <pre>
+     * ids, labels, property keys and string values are stored only once
+     * and are referenced by their index in this table
+     * </pre>
+     */
+    public com.google.protobuf.ByteString
+        getStringsBytes(int index) {
+      return strings_.getByteString(index);
+    }
+
+    public static final int VERTICES_FIELD_NUMBER = 2;
+    private java.util.List<org.sonar.core.graph.db.GraphDb.Vertex> vertices_;
+    /**
+     * <code>repeated .org.sonar.core.graph.db.Vertex vertices = 2;</code>
+     */
+    public java.util.List<org.sonar.core.graph.db.GraphDb.Vertex> getVerticesList() {
+      return vertices_;
+    }
+    /**
+     * <code>repeated .org.sonar.core.graph.db.Vertex vertices = 2;</code>
+     */
+    public java.util.List<? extends org.sonar.core.graph.db.GraphDb.VertexOrBuilder> 
+        getVerticesOrBuilderList() {
+      return vertices_;
+    }
+    /**
+     * <code>repeated .org.sonar.core.graph.db.Vertex vertices = 2;</code>
+     */
+    public int getVerticesCount() {
+      return vertices_.size();
+    }
+    /**
+     * <code>repeated .org.sonar.core.graph.db.Vertex vertices = 2;</code>
+     */
+    public org.sonar.core.graph.db.GraphDb.Vertex getVertices(int index) {
+      return vertices_.get(index);
+    }
+    /**
+     * <code>repeated .org.sonar.core.graph.db.Vertex vertices = 2;</code>
+     */
+    public org.sonar.core.graph.db.GraphDb.VertexOrBuilder getVerticesOrBuilder(
+        int index) {
+      return vertices_.get(index);
+    }
+
+    public static final int EDGES_FIELD_NUMBER = 3;
+    private java.util.List<org.sonar.core.graph.db.GraphDb.Edge> edges_;
+    /**
+     * <code>repeated .org.sonar.core.graph.db.Edge edges = 3;</code>
+     */
+    public java.util.List<org.sonar.core.graph.db.GraphDb.Edge> getEdgesList() {
+      return edges_;
+    }
+    /**
+     * <code>repeated .org.sonar.core.graph.db.Edge edges = 3;</code>
+     */
+    public java.util.List<? extends org.sonar.core.graph.db.GraphDb.EdgeOrBuilder> 
+        getEdgesOrBuilderList() {
+      return edges_;
+    }
+    /**
+     * <code>repeated .org.sonar.core.graph.db.Edge edges = 3;</code>
+     */
+    public int getEdgesCount() {
+      return edges_.size();
+    }
+    /**
+     * <code>repeated .org.sonar.core.graph.db.Edge edges = 3;</code>
+     */
+    public org.sonar.core.graph.db.GraphDb.Edge getEdges(int index) {
+      return edges_.get(index);
+    }
+    /**
+     * <code>repeated .org.sonar.core.graph.db.Edge edges = 3;</code>
+     */
+    public org.sonar.core.graph.db.GraphDb.EdgeOrBuilder getEdgesOrBuilder(
+        int index) {
+      return edges_.get(index);
+    }
+
+    private void initFields() {
+      strings_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      vertices_ = java.util.Collections.emptyList();
+      edges_ = java.util.Collections.emptyList();
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      for (int i = 0; i < strings_.size(); i++) {
+        output.writeBytes(1, strings_.getByteString(i));
+      }
+      for (int i = 0; i < vertices_.size(); i++) {
+        output.writeMessage(2, vertices_.get(i));
+      }
+      for (int i = 0; i < edges_.size(); i++) {
+        output.writeMessage(3, edges_.get(i));
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      {
+        int dataSize = 0;
+        for (int i = 0; i < strings_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeBytesSizeNoTag(strings_.getByteString(i));
+        }
+        size += dataSize;
+        size += 1 * getStringsList().size();
+      }
+      for (int i = 0; i < vertices_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, vertices_.get(i));
+      }
+      for (int i = 0; i < edges_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(3, edges_.get(i));
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static org.sonar.core.graph.db.GraphDb.Graph parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.sonar.core.graph.db.GraphDb.Graph parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.sonar.core.graph.db.GraphDb.Graph parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.sonar.core.graph.db.GraphDb.Graph parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.sonar.core.graph.db.GraphDb.Graph parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.sonar.core.graph.db.GraphDb.Graph parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static org.sonar.core.graph.db.GraphDb.Graph parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static org.sonar.core.graph.db.GraphDb.Graph parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static org.sonar.core.graph.db.GraphDb.Graph parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.sonar.core.graph.db.GraphDb.Graph parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(org.sonar.core.graph.db.GraphDb.Graph prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code org.sonar.core.graph.db.Graph}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:org.sonar.core.graph.db.Graph)
+        org.sonar.core.graph.db.GraphDb.GraphOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.sonar.core.graph.db.GraphDb.internal_static_org_sonar_core_graph_db_Graph_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.sonar.core.graph.db.GraphDb.internal_static_org_sonar_core_graph_db_Graph_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.sonar.core.graph.db.GraphDb.Graph.class, org.sonar.core.graph.db.GraphDb.Graph.Builder.class);
+      }
+
+      // Construct using org.sonar.core.graph.db.GraphDb.Graph.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+          getVerticesFieldBuilder();
+          getEdgesFieldBuilder();
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        strings_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        if (verticesBuilder_ == null) {
+          vertices_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000002);
+        } else {
+          verticesBuilder_.clear();
+        }
+        if (edgesBuilder_ == null) {
+          edges_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000004);
+        } else {
+          edgesBuilder_.clear();
+        }
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.sonar.core.graph.db.GraphDb.internal_static_org_sonar_core_graph_db_Graph_descriptor;
+      }
+
+      public org.sonar.core.graph.db.GraphDb.Graph getDefaultInstanceForType() {
+        return org.sonar.core.graph.db.GraphDb.Graph.getDefaultInstance();
+      }
+
+      public org.sonar.core.graph.db.GraphDb.Graph build() {
+        org.sonar.core.graph.db.GraphDb.Graph result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public org.sonar.core.graph.db.GraphDb.Graph buildPartial() {
+        org.sonar.core.graph.db.GraphDb.Graph result = new org.sonar.core.graph.db.GraphDb.Graph(this);
+        int from_bitField0_ = bitField0_;
+        if (((bitField0_ & 0x00000001) == 0x00000001)) {
+          strings_ = strings_.getUnmodifiableView();
+          bitField0_ = (bitField0_ & ~0x00000001);
+        }
+        result.strings_ = strings_;
+        if (verticesBuilder_ == null) {
+          if (((bitField0_ & 0x00000002) == 0x00000002)) {
+            vertices_ = java.util.Collections.unmodifiableList(vertices_);
+            bitField0_ = (bitField0_ & ~0x00000002);
+          }
+          result.vertices_ = vertices_;
+        } else {
+          result.vertices_ = verticesBuilder_.build();
+        }
+        if (edgesBuilder_ == null) {
+          if (((bitField0_ & 0x00000004) == 0x00000004)) {
+            edges_ = java.util.Collections.unmodifiableList(edges_);
+            bitField0_ = (bitField0_ & ~0x00000004);
+          }
+          result.edges_ = edges_;
+        } else {
+          result.edges_ = edgesBuilder_.build();
+        }
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.sonar.core.graph.db.GraphDb.Graph) {
+          return mergeFrom((org.sonar.core.graph.db.GraphDb.Graph)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.sonar.core.graph.db.GraphDb.Graph other) {
+        if (other == org.sonar.core.graph.db.GraphDb.Graph.getDefaultInstance()) return this;
+        if (!other.strings_.isEmpty()) {
+          if (strings_.isEmpty()) {
+            strings_ = other.strings_;
+            bitField0_ = (bitField0_ & ~0x00000001);
+          } else {
+            ensureStringsIsMutable();
+            strings_.addAll(other.strings_);
+          }
+          onChanged();
+        }
+        if (verticesBuilder_ == null) {
+          if (!other.vertices_.isEmpty()) {
+            if (vertices_.isEmpty()) {
+              vertices_ = other.vertices_;
+              bitField0_ = (bitField0_ & ~0x00000002);
+            } else {
+              ensureVerticesIsMutable();
+              vertices_.addAll(other.vertices_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.vertices_.isEmpty()) {
+            if (verticesBuilder_.isEmpty()) {
+              verticesBuilder_.dispose();
+              verticesBuilder_ = null;
+              vertices_ = other.vertices_;
+              bitField0_ = (bitField0_ & ~0x00000002);
+              verticesBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getVerticesFieldBuilder() : null;
+            } else {
+              verticesBuilder_.addAllMessages(other.vertices_);
+            }
+          }
+        }
+        if (edgesBuilder_ == null) {
+          if (!other.edges_.isEmpty()) {
+            if (edges_.isEmpty()) {
+              edges_ = other.edges_;
+              bitField0_ = (bitField0_ & ~0x00000004);
+            } else {
+              ensureEdgesIsMutable();
+              edges_.addAll(other.edges_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.edges_.isEmpty()) {
+            if (edgesBuilder_.isEmpty()) {
+              edgesBuilder_.dispose();
+              edgesBuilder_ = null;
+              edges_ = other.edges_;
+              bitField0_ = (bitField0_ & ~0x00000004);
+              edgesBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getEdgesFieldBuilder() : null;
+            } else {
+              edgesBuilder_.addAllMessages(other.edges_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        org.sonar.core.graph.db.GraphDb.Graph parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (org.sonar.core.graph.db.GraphDb.Graph) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private com.google.protobuf.LazyStringList strings_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      private void ensureStringsIsMutable() {
+        if (!((bitField0_ & 0x00000001) == 0x00000001)) {
+          strings_ = new com.google.protobuf.LazyStringArrayList(strings_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+      /**
+       * <code>repeated string strings = 1;</code>
+       *
+       * <pre>
+       * ids, labels, property keys and string values are stored only once
+       * and are referenced by their index in this table
+       * </pre>
+       */
+      public com.google.protobuf.ProtocolStringList
+          getStringsList() {
+        return strings_.getUnmodifiableView();
+      }
+      /**
+       * <code>repeated string strings = 1;</code>
+       *
+       * <pre>
+       * ids, labels, property keys and string values are stored only once
+       * and are referenced by their index in this table
+       * </pre>
+       */
+      public int getStringsCount() {
+        return strings_.size();
+      }
+      /**
+       * <code>repeated string strings = 1;</code>
+       *
+       * <pre>
+       * ids, labels, property keys and string values are stored only once
+       * and are referenced by their index in this table
+       * </pre>
+       */
+      public java.lang.String getStrings(int index) {
+        return strings_.get(index);
+      }
+      /**
+       * <code>repeated string strings = 1;</code>
+       *
+       * <pre>
+       * ids, labels, property keys and string values are stored only once
+       * and are referenced by their index in this table
+       * </pre>
+       */
+      public com.google.protobuf.ByteString
+          getStringsBytes(int index) {
+        return strings_.getByteString(index);
+      }
+      /**
+       * <code>repeated string strings = 1;</code>
+       *
+       * <pre>
+       * ids, labels, property keys and string values are stored only once
+       * and are referenced by their index in this table
+       * </pre>
+       */
+      public Builder setStrings(
+          int index, java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureStringsIsMutable();
+        strings_.set(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string strings = 1;</code>
+       *
+       * <pre>
+       * ids, labels, property keys and string values are stored only once
+       * and are referenced by their index in this table
+       * </pre>
+       */
+      public Builder addStrings(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureStringsIsMutable();
+        strings_.add(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string strings = 1;</code>
+       *
+       * <pre>
+       * ids, labels, property keys and string values are stored only once
+       * and are referenced by their index in this table
+       * </pre>
+       */
+      public Builder addAllStrings(
+          java.lang.Iterable<java.lang.String> values) {
+        ensureStringsIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, strings_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string strings = 1;</code>
+       *
+       * <pre>
+       * ids, labels, property keys and string values are stored only once
+       * and are referenced by their index in this table
+       * </pre>
+       */
+      public Builder clearStrings() {
+        strings_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string strings = 1;</code>
+       *
+       * <pre>
+       * ids, labels, property keys and string values are stored only once
+       * and are referenced by their index in this table
+       * </pre>
+       */
+      public Builder addStringsBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureStringsIsMutable();
+        strings_.add(value);
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<org.sonar.core.graph.db.GraphDb.Vertex> vertices_ =
+        java.util.Collections.emptyList();
+      private void ensureVerticesIsMutable() {
+        if (!((bitField0_ & 0x00000002) == 0x00000002)) {
+          vertices_ = new java.util.ArrayList<org.sonar.core.graph.db.GraphDb.Vertex>(vertices_);
+          bitField0_ |= 0x00000002;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilder<
+          org.sonar.core.graph.db.GraphDb.Vertex, org.sonar.core.graph.db.GraphDb.Vertex.Builder, org.sonar.core.graph.db.GraphDb.VertexOrBuilder> verticesBuilder_;
+
+      /**
+       * <code>repeated .org.sonar.core.graph.db.Vertex vertices = 2;</code>
+       */
+      public java.util.List<org.sonar.core.graph.db.GraphDb.Vertex> getVerticesList() {
+        if (verticesBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(vertices_);
+        } else {
+          return verticesBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .org.sonar.core.graph.db.Vertex vertices = 2;</code>
+       */
+      public int getVerticesCount() {
+        if (verticesBuilder_ == null) {
+          return vertices_.size();
+        } else {
+          return verticesBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .org.sonar.core.graph.db.Vertex vertices = 2;</code>
+       */
+      public org.sonar.core.graph.db.GraphDb.Vertex getVertices(int index) {
+        if (verticesBuilder_ == null) {
+          return vertices_.get(index);
+        } else {
+          return verticesBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .org.sonar.core.graph.db.Vertex vertices = 2;</code>
+       */
+      public Builder setVertices(
+          int index, org.sonar.core.graph.db.GraphDb.Vertex value) {
+        if (verticesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureVerticesIsMutable();
+          vertices_.set(index, value);
+          onChanged();
+        } else {
+          verticesBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .org.sonar.core.graph.db.Vertex vertices = 2;</code>
+       */
+      public Builder setVertices(
+          int index, org.sonar.core.graph.db.GraphDb.Vertex.Builder builderForValue) {
+        if (verticesBuilder_ == null) {
+          ensureVerticesIsMutable();
+          vertices_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          verticesBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .org.sonar.core.graph.db.Vertex vertices = 2;</code>
+       */
+      public Builder addVertices(org.sonar.core.graph.db.GraphDb.Vertex value) {
+        if (verticesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureVerticesIsMutable();
+          vertices_.add(value);
+          onChanged();
+        } else {
+          verticesBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .org.sonar.core.graph.db.Vertex vertices = 2;</code>
+       */
+      public Builder addVertices(
+          int index, org.sonar.core.graph.db.GraphDb.Vertex value) {
+        if (verticesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureVerticesIsMutable();
+          vertices_.add(index, value);
+          onChanged();
+        } else {
+          verticesBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .org.sonar.core.graph.db.Vertex vertices = 2;</code>
+       */
+      public Builder addVertices(
+          org.sonar.core.graph.db.GraphDb.Vertex.Builder builderForValue) {
+        if (verticesBuilder_ == null) {
+          ensureVerticesIsMutable();
+          vertices_.add(builderForValue.build());
+          onChanged();
+        } else {
+          verticesBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .org.sonar.core.graph.db.Vertex vertices = 2;</code>
+       */
+      public Builder addVertices(
+          int index, org.sonar.core.graph.db.GraphDb.Vertex.Builder builderForValue) {
+        if (verticesBuilder_ == null) {
+          ensureVerticesIsMutable();
+          vertices_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          verticesBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .org.sonar.core.graph.db.Vertex vertices = 2;</code>
+       */
+      public Builder addAllVertices(
+          java.lang.Iterable<? extends org.sonar.core.graph.db.GraphDb.Vertex> values) {
+        if (verticesBuilder_ == null) {
+          ensureVerticesIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, vertices_);
+          onChanged();
+        } else {
+          verticesBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .org.sonar.core.graph.db.Vertex vertices = 2;</code>
+       */
+      public Builder clearVertices() {
+        if (verticesBuilder_ == null) {
+          vertices_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000002);
+          onChanged();
+        } else {
+          verticesBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .org.sonar.core.graph.db.Vertex vertices = 2;</code>
+       */
+      public Builder removeVertices(int index) {
+        if (verticesBuilder_ == null) {
+          ensureVerticesIsMutable();
+          vertices_.remove(index);
+          onChanged();
+        } else {
+          verticesBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .org.sonar.core.graph.db.Vertex vertices = 2;</code>
+       */
+      public org.sonar.core.graph.db.GraphDb.Vertex.Builder getVerticesBuilder(
+          int index) {
+        return getVerticesFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .org.sonar.core.graph.db.Vertex vertices = 2;</code>
+       */
+      public org.sonar.core.graph.db.GraphDb.VertexOrBuilder getVerticesOrBuilder(
+          int index) {
+        if (verticesBuilder_ == null) {
+          return vertices_.get(index);  } else {
+          return verticesBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .org.sonar.core.graph.db.Vertex vertices = 2;</code>
+       */
+      public java.util.List<? extends org.sonar.core.graph.db.GraphDb.VertexOrBuilder> 
+           getVerticesOrBuilderList() {
+        if (verticesBuilder_ != null) {
+          return verticesBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(vertices_);
+        }
+      }
+      /**
+       * <code>repeated .org.sonar.core.graph.db.Vertex vertices = 2;</code>
+       */
+      public org.sonar.core.graph.db.GraphDb.Vertex.Builder addVerticesBuilder() {
+        return getVerticesFieldBuilder().addBuilder(
+            org.sonar.core.graph.db.GraphDb.Vertex.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .org.sonar.core.graph.db.Vertex vertices = 2;</code>
+       */
+      public org.sonar.core.graph.db.GraphDb.Vertex.Builder addVerticesBuilder(
+          int index) {
+        return getVerticesFieldBuilder().addBuilder(
+            index, org.sonar.core.graph.db.GraphDb.Vertex.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .org.sonar.core.graph.db.Vertex vertices = 2;</code>
+       */
+      public java.util.List<org.sonar.core.graph.db.GraphDb.Vertex.Builder> 
+           getVerticesBuilderList() {
+        return getVerticesFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          org.sonar.core.graph.db.GraphDb.Vertex, org.sonar.core.graph.db.GraphDb.Vertex.Builder, org.sonar.core.graph.db.GraphDb.VertexOrBuilder> 
+          getVerticesFieldBuilder() {
+        if (verticesBuilder_ == null) {
+          verticesBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              org.sonar.core.graph.db.GraphDb.Vertex, org.sonar.core.graph.db.GraphDb.Vertex.Builder, org.sonar.core.graph.db.GraphDb.VertexOrBuilder>(
+                  vertices_,
+                  ((bitField0_ & 0x00000002) == 0x00000002),
+                  getParentForChildren(),
+                  isClean());
+          vertices_ = null;
+        }
+        return verticesBuilder_;
+      }
+
+      private java.util.List<org.sonar.core.graph.db.GraphDb.Edge> edges_ =
+        java.util.Collections.emptyList();
+      private void ensureEdgesIsMutable() {
+        if (!((bitField0_ & 0x00000004) == 0x00000004)) {
+          edges_ = new java.util.ArrayList<org.sonar.core.graph.db.GraphDb.Edge>(edges_);
+          bitField0_ |= 0x00000004;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilder<
+          org.sonar.core.graph.db.GraphDb.Edge, org.sonar.core.graph.db.GraphDb.Edge.Builder, org.sonar.core.graph.db.GraphDb.EdgeOrBuilder> edgesBuilder_;
+
+      /**
+       * <code>repeated .org.sonar.core.graph.db.Edge edges = 3;</code>
+       */
+      public java.util.List<org.sonar.core.graph.db.GraphDb.Edge> getEdgesList() {
+        if (edgesBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(edges_);
+        } else {
+          return edgesBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .org.sonar.core.graph.db.Edge edges = 3;</code>
+       */
+      public int getEdgesCount() {
+        if (edgesBuilder_ == null) {
+          return edges_.size();
+        } else {
+          return edgesBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .org.sonar.core.graph.db.Edge edges = 3;</code>
+       */
+      public org.sonar.core.graph.db.GraphDb.Edge getEdges(int index) {
+        if (edgesBuilder_ == null) {
+          return edges_.get(index);
+        } else {
+          return edgesBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .org.sonar.core.graph.db.Edge edges = 3;</code>
+       */
+      public Builder setEdges(
+          int index, org.sonar.core.graph.db.GraphDb.Edge value) {
+        if (edgesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureEdgesIsMutable();
+          edges_.set(index, value);
+          onChanged();
+        } else {
+          edgesBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .org.sonar.core.graph.db.Edge edges = 3;</code>
+       */
+      public Builder setEdges(
+          int index, org.sonar.core.graph.db.GraphDb.Edge.Builder builderForValue) {
+        if (edgesBuilder_ == null) {
+          ensureEdgesIsMutable();
+          edges_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          edgesBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .org.sonar.core.graph.db.Edge edges = 3;</code>
+       */
+      public Builder addEdges(org.sonar.core.graph.db.GraphDb.Edge value) {
+        if (edgesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureEdgesIsMutable();
+          edges_.add(value);
+          onChanged();
+        } else {
+          edgesBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .org.sonar.core.graph.db.Edge edges = 3;</code>
+       */
+      public Builder addEdges(
+          int index, org.sonar.core.graph.db.GraphDb.Edge value) {
+        if (edgesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureEdgesIsMutable();
+          edges_.add(index, value);
+          onChanged();
+        } else {
+          edgesBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .org.sonar.core.graph.db.Edge edges = 3;</code>
+       */
+      public Builder addEdges(
+          org.sonar.core.graph.db.GraphDb.Edge.Builder builderForValue) {
+        if (edgesBuilder_ == null) {
+          ensureEdgesIsMutable();
+          edges_.add(builderForValue.build());
+          onChanged();
+        } else {
+          edgesBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .org.sonar.core.graph.db.Edge edges = 3;</code>
+       */
+      public Builder addEdges(
+          int index, org.sonar.core.graph.db.GraphDb.Edge.Builder builderForValue) {
+        if (edgesBuilder_ == null) {
+          ensureEdgesIsMutable();
+          edges_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          edgesBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .org.sonar.core.graph.db.Edge edges = 3;</code>
+       */
+      public Builder addAllEdges(
+          java.lang.Iterable<? extends org.sonar.core.graph.db.GraphDb.Edge> values) {
+        if (edgesBuilder_ == null) {
+          ensureEdgesIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, edges_);
+          onChanged();
+        } else {
+          edgesBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .org.sonar.core.graph.db.Edge edges = 3;</code>
+       */
+      public Builder clearEdges() {
+        if (edgesBuilder_ == null) {
+          edges_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000004);
+          onChanged();
+        } else {
+          edgesBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .org.sonar.core.graph.db.Edge edges = 3;</code>
+       */
+      public Builder removeEdges(int index) {
+        if (edgesBuilder_ == null) {
+          ensureEdgesIsMutable();
+          edges_.remove(index);
+          onChanged();
+        } else {
+          edgesBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .org.sonar.core.graph.db.Edge edges = 3;</code>
+       */
+      public org.sonar.core.graph.db.GraphDb.Edge.Builder getEdgesBuilder(
+          int index) {
+        return getEdgesFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .org.sonar.core.graph.db.Edge edges = 3;</code>
+       */
+      public org.sonar.core.graph.db.GraphDb.EdgeOrBuilder getEdgesOrBuilder(
+          int index) {
+        if (edgesBuilder_ == null) {
+          return edges_.get(index);  } else {
+          return edgesBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .org.sonar.core.graph.db.Edge edges = 3;</code>
+       */
+      public java.util.List<? extends org.sonar.core.graph.db.GraphDb.EdgeOrBuilder> 
+           getEdgesOrBuilderList() {
+        if (edgesBuilder_ != null) {
+          return edgesBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(edges_);
+        }
+      }
+      /**
+       * <code>repeated .org.sonar.core.graph.db.Edge edges = 3;</code>
+       */
+      public org.sonar.core.graph.db.GraphDb.Edge.Builder addEdgesBuilder() {
+        return getEdgesFieldBuilder().addBuilder(
+            org.sonar.core.graph.db.GraphDb.Edge.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .org.sonar.core.graph.db.Edge edges = 3;</code>
+       */
+      public org.sonar.core.graph.db.GraphDb.Edge.Builder addEdgesBuilder(
+          int index) {
+        return getEdgesFieldBuilder().addBuilder(
+            index, org.sonar.core.graph.db.GraphDb.Edge.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .org.sonar.core.graph.db.Edge edges = 3;</code>
+       */
+      public java.util.List<org.sonar.core.graph.db.GraphDb.Edge.Builder> 
+           getEdgesBuilderList() {
+        return getEdgesFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          org.sonar.core.graph.db.GraphDb.Edge, org.sonar.core.graph.db.GraphDb.Edge.Builder, org.sonar.core.graph.db.GraphDb.EdgeOrBuilder> 
+          getEdgesFieldBuilder() {
+        if (edgesBuilder_ == null) {
+          edgesBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              org.sonar.core.graph.db.GraphDb.Edge, org.sonar.core.graph.db.GraphDb.Edge.Builder, org.sonar.core.graph.db.GraphDb.EdgeOrBuilder>(
+                  edges_,
+                  ((bitField0_ & 0x00000004) == 0x00000004),
+                  getParentForChildren(),
+                  isClean());
+          edges_ = null;
+        }
+        return edgesBuilder_;
+      }
+
+      // @@protoc_insertion_point(builder_scope:org.sonar.core.graph.db.Graph)
+    }
+
+    static {
+      defaultInstance = new Graph(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:org.sonar.core.graph.db.Graph)
+  }
+
+  public interface VertexOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:org.sonar.core.graph.db.Vertex)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>optional int32 id = 1;</code>
+     *
+     * <pre>
+     * index in Graph.strings
+     * </pre>
+     */
+    boolean hasId();
+    /**
+     * <code>optional int32 id = 1;</code>
+     *
+     * <pre>
+     * index in Graph.strings
+     * </pre>
+     */
+    int getId();
+
+    /**
+     * <code>repeated .org.sonar.core.graph.db.Property properties = 2;</code>
+     */
+    java.util.List<org.sonar.core.graph.db.GraphDb.Property> 
+        getPropertiesList();
+    /**
+     * <code>repeated .org.sonar.core.graph.db.Property properties = 2;</code>
+     */
+    org.sonar.core.graph.db.GraphDb.Property getProperties(int index);
+    /**
+     * <code>repeated .org.sonar.core.graph.db.Property properties = 2;</code>
+     */
+    int getPropertiesCount();
+    /**
+     * <code>repeated .org.sonar.core.graph.db.Property properties = 2;</code>
+     */
+    java.util.List<? extends org.sonar.core.graph.db.GraphDb.PropertyOrBuilder> 
+        getPropertiesOrBuilderList();
+    /**
+     * <code>repeated .org.sonar.core.graph.db.Property properties = 2;</code>
+     */
+    org.sonar.core.graph.db.GraphDb.PropertyOrBuilder getPropertiesOrBuilder(
+        int index);
+  }
+  /**
+   * Protobuf type {@code org.sonar.core.graph.db.Vertex}
+   */
+  public static final class Vertex extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:org.sonar.core.graph.db.Vertex)
+      VertexOrBuilder {
+    // Use Vertex.newBuilder() to construct.
+    private Vertex(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private Vertex(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final Vertex defaultInstance;
+    public static Vertex getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public Vertex getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private Vertex(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 8: {
+              bitField0_ |= 0x00000001;
+              id_ = input.readInt32();
+              break;
+            }
+            case 18: {
+              if (!((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+                properties_ = new java.util.ArrayList<org.sonar.core.graph.db.GraphDb.Property>();
+                mutable_bitField0_ |= 0x00000002;
+              }
+              properties_.add(input.readMessage(org.sonar.core.graph.db.GraphDb.Property.PARSER, extensionRegistry));
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+          properties_ = java.util.Collections.unmodifiableList(properties_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.sonar.core.graph.db.GraphDb.internal_static_org_sonar_core_graph_db_Vertex_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.sonar.core.graph.db.GraphDb.internal_static_org_sonar_core_graph_db_Vertex_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.sonar.core.graph.db.GraphDb.Vertex.class, org.sonar.core.graph.db.GraphDb.Vertex.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<Vertex> PARSER =
+        new com.google.protobuf.AbstractParser<Vertex>() {
+      public Vertex parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new Vertex(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<Vertex> getParserForType() {
+      return PARSER;
+    }
+
+    private int bitField0_;
+    public static final int ID_FIELD_NUMBER = 1;
+    private int id_;
+    /**
+     * <code>optional int32 id = 1;</code>
+     *
+     * <pre>
+     * index in Graph.strings
+     * </pre>
+     */
+    public boolean hasId() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>optional int32 id = 1;</code>
+     *
+     * <pre>
+     * index in Graph.strings
+     * </pre>
+     */
+    public int getId() {
+      return id_;
+    }
+
+    public static final int PROPERTIES_FIELD_NUMBER = 2;
+    private java.util.List<org.sonar.core.graph.db.GraphDb.Property> properties_;
+    /**
+     * <code>repeated .org.sonar.core.graph.db.Property properties = 2;</code>
+     */
+    public java.util.List<org.sonar.core.graph.db.GraphDb.Property> getPropertiesList() {
+      return properties_;
+    }
+    /**
+     * <code>repeated .org.sonar.core.graph.db.Property properties = 2;</code>
+     */
+    public java.util.List<? extends org.sonar.core.graph.db.GraphDb.PropertyOrBuilder> 
+        getPropertiesOrBuilderList() {
+      return properties_;
+    }
+    /**
+     * <code>repeated .org.sonar.core.graph.db.Property properties = 2;</code>
+     */
+    public int getPropertiesCount() {
+      return properties_.size();
+    }
+    /**
+     * <code>repeated .org.sonar.core.graph.db.Property properties = 2;</code>
+     */
+    public org.sonar.core.graph.db.GraphDb.Property getProperties(int index) {
+      return properties_.get(index);
+    }
+    /**
+     * <code>repeated .org.sonar.core.graph.db.Property properties = 2;</code>
+     */
+    public org.sonar.core.graph.db.GraphDb.PropertyOrBuilder getPropertiesOrBuilder(
+        int index) {
+      return properties_.get(index);
+    }
+
+    private void initFields() {
+      id_ = 0;
+      properties_ = java.util.Collections.emptyList();
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeInt32(1, id_);
+      }
+      for (int i = 0; i < properties_.size(); i++) {
+        output.writeMessage(2, properties_.get(i));
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(1, id_);
+      }
+      for (int i = 0; i < properties_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, properties_.get(i));
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static org.sonar.core.graph.db.GraphDb.Vertex parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.sonar.core.graph.db.GraphDb.Vertex parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.sonar.core.graph.db.GraphDb.Vertex parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.sonar.core.graph.db.GraphDb.Vertex parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.sonar.core.graph.db.GraphDb.Vertex parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.sonar.core.graph.db.GraphDb.Vertex parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static org.sonar.core.graph.db.GraphDb.Vertex parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static org.sonar.core.graph.db.GraphDb.Vertex parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static org.sonar.core.graph.db.GraphDb.Vertex parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.sonar.core.graph.db.GraphDb.Vertex parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(org.sonar.core.graph.db.GraphDb.Vertex prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code org.sonar.core.graph.db.Vertex}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:org.sonar.core.graph.db.Vertex)
+        org.sonar.core.graph.db.GraphDb.VertexOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.sonar.core.graph.db.GraphDb.internal_static_org_sonar_core_graph_db_Vertex_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.sonar.core.graph.db.GraphDb.internal_static_org_sonar_core_graph_db_Vertex_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.sonar.core.graph.db.GraphDb.Vertex.class, org.sonar.core.graph.db.GraphDb.Vertex.Builder.class);
+      }
+
+      // Construct using org.sonar.core.graph.db.GraphDb.Vertex.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+          getPropertiesFieldBuilder();
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        id_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        if (propertiesBuilder_ == null) {
+          properties_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000002);
+        } else {
+          propertiesBuilder_.clear();
+        }
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.sonar.core.graph.db.GraphDb.internal_static_org_sonar_core_graph_db_Vertex_descriptor;
+      }
+
+      public org.sonar.core.graph.db.GraphDb.Vertex getDefaultInstanceForType() {
+        return org.sonar.core.graph.db.GraphDb.Vertex.getDefaultInstance();
+      }
+
+      public org.sonar.core.graph.db.GraphDb.Vertex build() {
+        org.sonar.core.graph.db.GraphDb.Vertex result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public org.sonar.core.graph.db.GraphDb.Vertex buildPartial() {
+        org.sonar.core.graph.db.GraphDb.Vertex result = new org.sonar.core.graph.db.GraphDb.Vertex(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.id_ = id_;
+        if (propertiesBuilder_ == null) {
+          if (((bitField0_ & 0x00000002) == 0x00000002)) {
+            properties_ = java.util.Collections.unmodifiableList(properties_);
+            bitField0_ = (bitField0_ & ~0x00000002);
+          }
+          result.properties_ = properties_;
+        } else {
+          result.properties_ = propertiesBuilder_.build();
+        }
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.sonar.core.graph.db.GraphDb.Vertex) {
+          return mergeFrom((org.sonar.core.graph.db.GraphDb.Vertex)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.sonar.core.graph.db.GraphDb.Vertex other) {
+        if (other == org.sonar.core.graph.db.GraphDb.Vertex.getDefaultInstance()) return this;
+        if (other.hasId()) {
+          setId(other.getId());
+        }
+        if (propertiesBuilder_ == null) {
+          if (!other.properties_.isEmpty()) {
+            if (properties_.isEmpty()) {
+              properties_ = other.properties_;
+              bitField0_ = (bitField0_ & ~0x00000002);
+            } else {
+              ensurePropertiesIsMutable();
+              properties_.addAll(other.properties_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.properties_.isEmpty()) {
+            if (propertiesBuilder_.isEmpty()) {
+              propertiesBuilder_.dispose();
+              propertiesBuilder_ = null;
+              properties_ = other.properties_;
+              bitField0_ = (bitField0_ & ~0x00000002);
+              propertiesBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getPropertiesFieldBuilder() : null;
+            } else {
+              propertiesBuilder_.addAllMessages(other.properties_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        org.sonar.core.graph.db.GraphDb.Vertex parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (org.sonar.core.graph.db.GraphDb.Vertex) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private int id_ ;
+      /**
+       * <code>optional int32 id = 1;</code>
+       *
+       * <pre>
+       * index in Graph.strings
+       * </pre>
+       */
+      public boolean hasId() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>optional int32 id = 1;</code>
+       *
+       * <pre>
+       * index in Graph.strings
+       * </pre>
+       */
+      public int getId() {
+        return id_;
+      }
+      /**
+       * <code>optional int32 id = 1;</code>
+       *
+       * <pre>
+       * index in Graph.strings
+       * </pre>
+       */
+      public Builder setId(int value) {
+        bitField0_ |= 0x00000001;
+        id_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int32 id = 1;</code>
+       *
+       * <pre>
+       * index in Graph.strings
+       * </pre>
+       */
+      public Builder clearId() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        id_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<org.sonar.core.graph.db.GraphDb.Property> properties_ =
+        java.util.Collections.emptyList();
+      private void ensurePropertiesIsMutable() {
+        if (!((bitField0_ & 0x00000002) == 0x00000002)) {
+          properties_ = new java.util.ArrayList<org.sonar.core.graph.db.GraphDb.Property>(properties_);
+          bitField0_ |= 0x00000002;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilder<
+          org.sonar.core.graph.db.GraphDb.Property, org.sonar.core.graph.db.GraphDb.Property.Builder, org.sonar.core.graph.db.GraphDb.PropertyOrBuilder> propertiesBuilder_;
+
+      /**
+       * <code>repeated .org.sonar.core.graph.db.Property properties = 2;</code>
+       */
+      public java.util.List<org.sonar.core.graph.db.GraphDb.Property> getPropertiesList() {
+        if (propertiesBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(properties_);
+        } else {
+          return propertiesBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .org.sonar.core.graph.db.Property properties = 2;</code>
+       */
+      public int getPropertiesCount() {
+        if (propertiesBuilder_ == null) {
+          return properties_.size();
+        } else {
+          return propertiesBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .org.sonar.core.graph.db.Property properties = 2;</code>
+       */
+      public org.sonar.core.graph.db.GraphDb.Property getProperties(int index) {
+        if (propertiesBuilder_ == null) {
+          return properties_.get(index);
+        } else {
+          return propertiesBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .org.sonar.core.graph.db.Property properties = 2;</code>
+       */
+      public Builder setProperties(
+          int index, org.sonar.core.graph.db.GraphDb.Property value) {
+        if (propertiesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensurePropertiesIsMutable();
+          properties_.set(index, value);
+          onChanged();
+        } else {
+          propertiesBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .org.sonar.core.graph.db.Property properties = 2;</code>
+       */
+      public Builder setProperties(
+          int index, org.sonar.core.graph.db.GraphDb.Property.Builder builderForValue) {
+        if (propertiesBuilder_ == null) {
+          ensurePropertiesIsMutable();
+          properties_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          propertiesBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .org.sonar.core.graph.db.Property properties = 2;</code>
+       */
+      public Builder addProperties(org.sonar.core.graph.db.GraphDb.Property value) {
+        if (propertiesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensurePropertiesIsMutable();
+          properties_.add(value);
+          onChanged();
+        } else {
+          propertiesBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .org.sonar.core.graph.db.Property properties = 2;</code>
+       */
+      public Builder addProperties(
+          int index, org.sonar.core.graph.db.GraphDb.Property value) {
+        if (propertiesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensurePropertiesIsMutable();
+          properties_.add(index, value);
+          onChanged();
+        } else {
+          propertiesBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .org.sonar.core.graph.db.Property properties = 2;</code>
+       */
+      public Builder addProperties(
+          org.sonar.core.graph.db.GraphDb.Property.Builder builderForValue) {
+        if (propertiesBuilder_ == null) {
+          ensurePropertiesIsMutable();
+          properties_.add(builderForValue.build());
+          onChanged();
+        } else {
+          propertiesBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .org.sonar.core.graph.db.Property properties = 2;</code>
+       */
+      public Builder addProperties(
+          int index, org.sonar.core.graph.db.GraphDb.Property.Builder builderForValue) {
+        if (propertiesBuilder_ == null) {
+          ensurePropertiesIsMutable();
+          properties_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          propertiesBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .org.sonar.core.graph.db.Property properties = 2;</code>
+       */
+      public Builder addAllProperties(
+          java.lang.Iterable<? extends org.sonar.core.graph.db.GraphDb.Property> values) {
+        if (propertiesBuilder_ == null) {
+          ensurePropertiesIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, properties_);
+          onChanged();
+        } else {
+          propertiesBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .org.sonar.core.graph.db.Property properties = 2;</code>
+       */
+      public Builder clearProperties() {
+        if (propertiesBuilder_ == null) {
+          properties_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000002);
+          onChanged();
+        } else {
+          propertiesBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .org.sonar.core.graph.db.Property properties = 2;</code>
+       */
+      public Builder removeProperties(int index) {
+        if (propertiesBuilder_ == null) {
+          ensurePropertiesIsMutable();
+          properties_.remove(index);
+          onChanged();
+        } else {
+          propertiesBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .org.sonar.core.graph.db.Property properties = 2;</code>
+       */
+      public org.sonar.core.graph.db.GraphDb.Property.Builder getPropertiesBuilder(
+          int index) {
+        return getPropertiesFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .org.sonar.core.graph.db.Property properties = 2;</code>
+       */
+      public org.sonar.core.graph.db.GraphDb.PropertyOrBuilder getPropertiesOrBuilder(
+          int index) {
+        if (propertiesBuilder_ == null) {
+          return properties_.get(index);  } else {
+          return propertiesBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .org.sonar.core.graph.db.Property properties = 2;</code>
+       */
+      public java.util.List<? extends org.sonar.core.graph.db.GraphDb.PropertyOrBuilder> 
+           getPropertiesOrBuilderList() {
+        if (propertiesBuilder_ != null) {
+          return propertiesBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(properties_);
+        }
+      }
+      /**
+       * <code>repeated .org.sonar.core.graph.db.Property properties = 2;</code>
+       */
+      public org.sonar.core.graph.db.GraphDb.Property.Builder addPropertiesBuilder() {
+        return getPropertiesFieldBuilder().addBuilder(
+            org.sonar.core.graph.db.GraphDb.Property.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .org.sonar.core.graph.db.Property properties = 2;</code>
+       */
+      public org.sonar.core.graph.db.GraphDb.Property.Builder addPropertiesBuilder(
+          int index) {
+        return getPropertiesFieldBuilder().addBuilder(
+            index, org.sonar.core.graph.db.GraphDb.Property.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .org.sonar.core.graph.db.Property properties = 2;</code>
+       */
+      public java.util.List<org.sonar.core.graph.db.GraphDb.Property.Builder> 
+           getPropertiesBuilderList() {
+        return getPropertiesFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          org.sonar.core.graph.db.GraphDb.Property, org.sonar.core.graph.db.GraphDb.Property.Builder, org.sonar.core.graph.db.GraphDb.PropertyOrBuilder> 
+          getPropertiesFieldBuilder() {
+        if (propertiesBuilder_ == null) {
+          propertiesBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              org.sonar.core.graph.db.GraphDb.Property, org.sonar.core.graph.db.GraphDb.Property.Builder, org.sonar.core.graph.db.GraphDb.PropertyOrBuilder>(
+                  properties_,
+                  ((bitField0_ & 0x00000002) == 0x00000002),
+                  getParentForChildren(),
+                  isClean());
+          properties_ = null;
+        }
+        return propertiesBuilder_;
+      }
+
+      // @@protoc_insertion_point(builder_scope:org.sonar.core.graph.db.Vertex)
+    }
+
+    static {
+      defaultInstance = new Vertex(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:org.sonar.core.graph.db.Vertex)
+  }
+
+  public interface EdgeOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:org.sonar.core.graph.db.Edge)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>optional int32 id = 1;</code>
+     *
+     * <pre>
+     * indexes in Graph.strings
+     * </pre>
+     */
+    boolean hasId();
+    /**
+     * <code>optional int32 id = 1;</code>
+     *
+     * <pre>
+     * indexes in Graph.strings
+     * </pre>
+     */
+    int getId();
+
+    /**
+     * <code>optional int32 label = 2;</code>
+     */
+    boolean hasLabel();
+    /**
+     * <code>optional int32 label = 2;</code>
+     */
+    int getLabel();
+
+    /**
+     * <code>optional int32 out_vertex = 3;</code>
+     *
+     * <pre>
+     * indexes in Graph.vertices
+     * </pre>
+     */
+    boolean hasOutVertex();
+    /**
+     * <code>optional int32 out_vertex = 3;</code>
+     *
+     * <pre>
+     * indexes in Graph.vertices
+     * </pre>
+     */
+    int getOutVertex();
+
+    /**
+     * <code>optional int32 in_vertex = 4;</code>
+     */
+    boolean hasInVertex();
+    /**
+     * <code>optional int32 in_vertex = 4;</code>
+     */
+    int getInVertex();
+
+    /**
+     * <code>repeated .org.sonar.core.graph.db.Property properties = 5;</code>
+     */
+    java.util.List<org.sonar.core.graph.db.GraphDb.Property> 
+        getPropertiesList();
+    /**
+     * <code>repeated .org.sonar.core.graph.db.Property properties = 5;</code>
+     */
+    org.sonar.core.graph.db.GraphDb.Property getProperties(int index);
+    /**
+     * <code>repeated .org.sonar.core.graph.db.Property properties = 5;</code>
+     */
+    int getPropertiesCount();
+    /**
+     * <code>repeated .org.sonar.core.graph.db.Property properties = 5;</code>
+     */
+    java.util.List<? extends org.sonar.core.graph.db.GraphDb.PropertyOrBuilder> 
+        getPropertiesOrBuilderList();
+    /**
+     * <code>repeated .org.sonar.core.graph.db.Property properties = 5;</code>
+     */
+    org.sonar.core.graph.db.GraphDb.PropertyOrBuilder getPropertiesOrBuilder(
+        int index);
+  }
+  /**
+   * Protobuf type {@code org.sonar.core.graph.db.Edge}
+   */
+  public static final class Edge extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:org.sonar.core.graph.db.Edge)
+      EdgeOrBuilder {
+    // Use Edge.newBuilder() to construct.
+    private Edge(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private Edge(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final Edge defaultInstance;
+    public static Edge getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public Edge getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private Edge(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 8: {
+              bitField0_ |= 0x00000001;
+              id_ = input.readInt32();
+              break;
+            }
+            case 16: {
+              bitField0_ |= 0x00000002;
+              label_ = input.readInt32();
+              break;
+            }
+            case 24: {
+              bitField0_ |= 0x00000004;
+              outVertex_ = input.readInt32();
+              break;
+            }
+            case 32: {
+              bitField0_ |= 0x00000008;
+              inVertex_ = input.readInt32();
+              break;
+            }
+            case 42: {
+              if (!((mutable_bitField0_ & 0x00000010) == 0x00000010)) {
+                properties_ = new java.util.ArrayList<org.sonar.core.graph.db.GraphDb.Property>();
+                mutable_bitField0_ |= 0x00000010;
+              }
+              properties_.add(input.readMessage(org.sonar.core.graph.db.GraphDb.Property.PARSER, extensionRegistry));
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000010) == 0x00000010)) {
+          properties_ = java.util.Collections.unmodifiableList(properties_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.sonar.core.graph.db.GraphDb.internal_static_org_sonar_core_graph_db_Edge_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.sonar.core.graph.db.GraphDb.internal_static_org_sonar_core_graph_db_Edge_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.sonar.core.graph.db.GraphDb.Edge.class, org.sonar.core.graph.db.GraphDb.Edge.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<Edge> PARSER =
+        new com.google.protobuf.AbstractParser<Edge>() {
+      public Edge parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new Edge(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<Edge> getParserForType() {
+      return PARSER;
+    }
+
+    private int bitField0_;
+    public static final int ID_FIELD_NUMBER = 1;
+    private int id_;
+    /**
+     * <code>optional int32 id = 1;</code>
+     *
+     * <pre>
+     * indexes in Graph.strings
+     * </pre>
+     */
+    public boolean hasId() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>optional int32 id = 1;</code>
+     *
+     * <pre>
+     * indexes in Graph.strings
+     * </pre>
+     */
+    public int getId() {
+      return id_;
+    }
+
+    public static final int LABEL_FIELD_NUMBER = 2;
+    private int label_;
+    /**
+     * <code>optional int32 label = 2;</code>
+     */
+    public boolean hasLabel() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>optional int32 label = 2;</code>
+     */
+    public int getLabel() {
+      return label_;
+    }
+
+    public static final int OUT_VERTEX_FIELD_NUMBER = 3;
+    private int outVertex_;
+    /**
+     * <code>optional int32 out_vertex = 3;</code>
+     *
+     * <pre>
+     * indexes in Graph.vertices
+     * </pre>
+     */
+    public boolean hasOutVertex() {
+      return ((bitField0_ & 0x00000004) == 0x00000004);
+    }
+    /**
+     * <code>optional int32 out_vertex = 3;</code>
+     *
+     * <pre>
+     * indexes in Graph.vertices
+     * </pre>
+     */
+    public int getOutVertex() {
+      return outVertex_;
+    }
+
+    public static final int IN_VERTEX_FIELD_NUMBER = 4;
+    private int inVertex_;
+    /**
+     * <code>optional int32 in_vertex = 4;</code>
+     */
+    public boolean hasInVertex() {
+      return ((bitField0_ & 0x00000008) == 0x00000008);
+    }
+    /**
+     * <code>optional int32 in_vertex = 4;</code>
+     */
+    public int getInVertex() {
+      return inVertex_;
+    }
+
+    public static final int PROPERTIES_FIELD_NUMBER = 5;
+    private java.util.List<org.sonar.core.graph.db.GraphDb.Property> properties_;
+    /**
+     * <code>repeated .org.sonar.core.graph.db.Property properties = 5;</code>
+     */
+    public java.util.List<org.sonar.core.graph.db.GraphDb.Property> getPropertiesList() {
+      return properties_;
+    }
+    /**
+     * <code>repeated .org.sonar.core.graph.db.Property properties = 5;</code>
+     */
+    public java.util.List<? extends org.sonar.core.graph.db.GraphDb.PropertyOrBuilder> 
+        getPropertiesOrBuilderList() {
+      return properties_;
+    }
+    /**
+     * <code>repeated .org.sonar.core.graph.db.Property properties = 5;</code>
+     */
+    public int getPropertiesCount() {
+      return properties_.size();
+    }
+    /**
+     * <code>repeated .org.sonar.core.graph.db.Property properties = 5;</code>
+     */
+    public org.sonar.core.graph.db.GraphDb.Property getProperties(int index) {
+      return properties_.get(index);
+    }
+    /**
+     * <code>repeated .org.sonar.core.graph.db.Property properties = 5;</code>
+     */
+    public org.sonar.core.graph.db.GraphDb.PropertyOrBuilder getPropertiesOrBuilder(
+        int index) {
+      return properties_.get(index);
+    }
+
+    private void initFields() {
+      id_ = 0;
+      label_ = 0;
+      outVertex_ = 0;
+      inVertex_ = 0;
+      properties_ = java.util.Collections.emptyList();
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeInt32(1, id_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeInt32(2, label_);
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        output.writeInt32(3, outVertex_);
+      }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        output.writeInt32(4, inVertex_);
+      }
+      for (int i = 0; i < properties_.size(); i++) {
+        output.writeMessage(5, properties_.get(i));
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(1, id_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(2, label_);
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(3, outVertex_);
+      }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(4, inVertex_);
+      }
+      for (int i = 0; i < properties_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(5, properties_.get(i));
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static org.sonar.core.graph.db.GraphDb.Edge parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.sonar.core.graph.db.GraphDb.Edge parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.sonar.core.graph.db.GraphDb.Edge parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.sonar.core.graph.db.GraphDb.Edge parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.sonar.core.graph.db.GraphDb.Edge parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.sonar.core.graph.db.GraphDb.Edge parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static org.sonar.core.graph.db.GraphDb.Edge parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static org.sonar.core.graph.db.GraphDb.Edge parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static org.sonar.core.graph.db.GraphDb.Edge parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.sonar.core.graph.db.GraphDb.Edge parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(org.sonar.core.graph.db.GraphDb.Edge prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code org.sonar.core.graph.db.Edge}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:org.sonar.core.graph.db.Edge)
+        org.sonar.core.graph.db.GraphDb.EdgeOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.sonar.core.graph.db.GraphDb.internal_static_org_sonar_core_graph_db_Edge_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.sonar.core.graph.db.GraphDb.internal_static_org_sonar_core_graph_db_Edge_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.sonar.core.graph.db.GraphDb.Edge.class, org.sonar.core.graph.db.GraphDb.Edge.Builder.class);
+      }
+
+      // Construct using org.sonar.core.graph.db.GraphDb.Edge.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+          getPropertiesFieldBuilder();
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        id_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        label_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        outVertex_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000004);
+        inVertex_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000008);
+        if (propertiesBuilder_ == null) {
+          properties_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000010);
+        } else {
+          propertiesBuilder_.clear();
+        }
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.sonar.core.graph.db.GraphDb.internal_static_org_sonar_core_graph_db_Edge_descriptor;
+      }
+
+      public org.sonar.core.graph.db.GraphDb.Edge getDefaultInstanceForType() {
+        return org.sonar.core.graph.db.GraphDb.Edge.getDefaultInstance();
+      }
+
+      public org.sonar.core.graph.db.GraphDb.Edge build() {
+        org.sonar.core.graph.db.GraphDb.Edge result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public org.sonar.core.graph.db.GraphDb.Edge buildPartial() {
+        org.sonar.core.graph.db.GraphDb.Edge result = new org.sonar.core.graph.db.GraphDb.Edge(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.id_ = id_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.label_ = label_;
+        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+          to_bitField0_ |= 0x00000004;
+        }
+        result.outVertex_ = outVertex_;
+        if (((from_bitField0_ & 0x00000008) == 0x00000008)) {
+          to_bitField0_ |= 0x00000008;
+        }
+        result.inVertex_ = inVertex_;
+        if (propertiesBuilder_ == null) {
+          if (((bitField0_ & 0x00000010) == 0x00000010)) {
+            properties_ = java.util.Collections.unmodifiableList(properties_);
+            bitField0_ = (bitField0_ & ~0x00000010);
+          }
+          result.properties_ = properties_;
+        } else {
+          result.properties_ = propertiesBuilder_.build();
+        }
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.sonar.core.graph.db.GraphDb.Edge) {
+          return mergeFrom((org.sonar.core.graph.db.GraphDb.Edge)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.sonar.core.graph.db.GraphDb.Edge other) {
+        if (other == org.sonar.core.graph.db.GraphDb.Edge.getDefaultInstance()) return this;
+        if (other.hasId()) {
+          setId(other.getId());
+        }
+        if (other.hasLabel()) {
+          setLabel(other.getLabel());
+        }
+        if (other.hasOutVertex()) {
+          setOutVertex(other.getOutVertex());
+        }
+        if (other.hasInVertex()) {
+          setInVertex(other.getInVertex());
+        }
+        if (propertiesBuilder_ == null) {
+          if (!other.properties_.isEmpty()) {
+            if (properties_.isEmpty()) {
+              properties_ = other.properties_;
+              bitField0_ = (bitField0_ & ~0x00000010);
+            } else {
+              ensurePropertiesIsMutable();
+              properties_.addAll(other.properties_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.properties_.isEmpty()) {
+            if (propertiesBuilder_.isEmpty()) {
+              propertiesBuilder_.dispose();
+              propertiesBuilder_ = null;
+              properties_ = other.properties_;
+              bitField0_ = (bitField0_ & ~0x00000010);
+              propertiesBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getPropertiesFieldBuilder() : null;
+            } else {
+              propertiesBuilder_.addAllMessages(other.properties_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        org.sonar.core.graph.db.GraphDb.Edge parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (org.sonar.core.graph.db.GraphDb.Edge) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private int id_ ;
+      /**
+       * <code>optional int32 id = 1;</code>
+       *
+       * <pre>
+       * indexes in Graph.strings
+       * </pre>
+       */
+      public boolean hasId() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>optional int32 id = 1;</code>
+       *
+       * <pre>
+       * indexes in Graph.strings
+       * </pre>
+       */
+      public int getId() {
+        return id_;
+      }
+      /**
+       * <code>optional int32 id = 1;</code>
+       *
+       * <pre>
+       * indexes in Graph.strings
+       * </pre>
+       */
+      public Builder setId(int value) {
+        bitField0_ |= 0x00000001;
+        id_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int32 id = 1;</code>
+       *
+       * <pre>
+       * indexes in Graph.strings
+       * </pre>
+       */
+      public Builder clearId() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        id_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private int label_ ;
+      /**
+       * <code>optional int32 label = 2;</code>
+       */
+      public boolean hasLabel() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>optional int32 label = 2;</code>
+       */
+      public int getLabel() {
+        return label_;
+      }
+      /**
+       * <code>optional int32 label = 2;</code>
+       */
+      public Builder setLabel(int value) {
+        bitField0_ |= 0x00000002;
+        label_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int32 label = 2;</code>
+       */
+      public Builder clearLabel() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        label_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private int outVertex_ ;
+      /**
+       * <code>optional int32 out_vertex = 3;</code>
+       *
+       * <pre>
+       * indexes in Graph.vertices
+       * </pre>
+       */
+      public boolean hasOutVertex() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
+      }
+      /**
+       * <code>optional int32 out_vertex = 3;</code>
+       *
+       * <pre>
+       * indexes in Graph.vertices
+       * </pre>
+       */
+      public int getOutVertex() {
+        return outVertex_;
+      }
+      /**
+       * <code>optional int32 out_vertex = 3;</code>
+       *
+       * <pre>
+       * indexes in Graph.vertices
+       * </pre>
+       */
+      public Builder setOutVertex(int value) {
+        bitField0_ |= 0x00000004;
+        outVertex_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int32 out_vertex = 3;</code>
+       *
+       * <pre>
+       * indexes in Graph.vertices
+       * </pre>
+       */
+      public Builder clearOutVertex() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        outVertex_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private int inVertex_ ;
+      /**
+       * <code>optional int32 in_vertex = 4;</code>
+       */
+      public boolean hasInVertex() {
+        return ((bitField0_ & 0x00000008) == 0x00000008);
+      }
+      /**
+       * <code>optional int32 in_vertex = 4;</code>
+       */
+      public int getInVertex() {
+        return inVertex_;
+      }
+      /**
+       * <code>optional int32 in_vertex = 4;</code>
+       */
+      public Builder setInVertex(int value) {
+        bitField0_ |= 0x00000008;
+        inVertex_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int32 in_vertex = 4;</code>
+       */
+      public Builder clearInVertex() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        inVertex_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<org.sonar.core.graph.db.GraphDb.Property> properties_ =
+        java.util.Collections.emptyList();
+      private void ensurePropertiesIsMutable() {
+        if (!((bitField0_ & 0x00000010) == 0x00000010)) {
+          properties_ = new java.util.ArrayList<org.sonar.core.graph.db.GraphDb.Property>(properties_);
+          bitField0_ |= 0x00000010;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilder<
+          org.sonar.core.graph.db.GraphDb.Property, org.sonar.core.graph.db.GraphDb.Property.Builder, org.sonar.core.graph.db.GraphDb.PropertyOrBuilder> propertiesBuilder_;
+
+      /**
+       * <code>repeated .org.sonar.core.graph.db.Property properties = 5;</code>
+       */
+      public java.util.List<org.sonar.core.graph.db.GraphDb.Property> getPropertiesList() {
+        if (propertiesBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(properties_);
+        } else {
+          return propertiesBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .org.sonar.core.graph.db.Property properties = 5;</code>
+       */
+      public int getPropertiesCount() {
+        if (propertiesBuilder_ == null) {
+          return properties_.size();
+        } else {
+          return propertiesBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .org.sonar.core.graph.db.Property properties = 5;</code>
+       */
+      public org.sonar.core.graph.db.GraphDb.Property getProperties(int index) {
+        if (propertiesBuilder_ == null) {
+          return properties_.get(index);
+        } else {
+          return propertiesBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .org.sonar.core.graph.db.Property properties = 5;</code>
+       */
+      public Builder setProperties(
+          int index, org.sonar.core.graph.db.GraphDb.Property value) {
+        if (propertiesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensurePropertiesIsMutable();
+          properties_.set(index, value);
+          onChanged();
+        } else {
+          propertiesBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .org.sonar.core.graph.db.Property properties = 5;</code>
+       */
+      public Builder setProperties(
+          int index, org.sonar.core.graph.db.GraphDb.Property.Builder builderForValue) {
+        if (propertiesBuilder_ == null) {
+          ensurePropertiesIsMutable();
+          properties_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          propertiesBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .org.sonar.core.graph.db.Property properties = 5;</code>
+       */
+      public Builder addProperties(org.sonar.core.graph.db.GraphDb.Property value) {
+        if (propertiesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensurePropertiesIsMutable();
+          properties_.add(value);
+          onChanged();
+        } else {
+          propertiesBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .org.sonar.core.graph.db.Property properties = 5;</code>
+       */
+      public Builder addProperties(
+          int index, org.sonar.core.graph.db.GraphDb.Property value) {
+        if (propertiesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensurePropertiesIsMutable();
+          properties_.add(index, value);
+          onChanged();
+        } else {
+          propertiesBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .org.sonar.core.graph.db.Property properties = 5;</code>
+       */
+      public Builder addProperties(
+          org.sonar.core.graph.db.GraphDb.Property.Builder builderForValue) {
+        if (propertiesBuilder_ == null) {
+          ensurePropertiesIsMutable();
+          properties_.add(builderForValue.build());
+          onChanged();
+        } else {
+          propertiesBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .org.sonar.core.graph.db.Property properties = 5;</code>
+       */
+      public Builder addProperties(
+          int index, org.sonar.core.graph.db.GraphDb.Property.Builder builderForValue) {
+        if (propertiesBuilder_ == null) {
+          ensurePropertiesIsMutable();
+          properties_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          propertiesBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .org.sonar.core.graph.db.Property properties = 5;</code>
+       */
+      public Builder addAllProperties(
+          java.lang.Iterable<? extends org.sonar.core.graph.db.GraphDb.Property> values) {
+        if (propertiesBuilder_ == null) {
+          ensurePropertiesIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, properties_);
+          onChanged();
+        } else {
+          propertiesBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .org.sonar.core.graph.db.Property properties = 5;</code>
+       */
+      public Builder clearProperties() {
+        if (propertiesBuilder_ == null) {
+          properties_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000010);
+          onChanged();
+        } else {
+          propertiesBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .org.sonar.core.graph.db.Property properties = 5;</code>
+       */
+      public Builder removeProperties(int index) {
+        if (propertiesBuilder_ == null) {
+          ensurePropertiesIsMutable();
+          properties_.remove(index);
+          onChanged();
+        } else {
+          propertiesBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .org.sonar.core.graph.db.Property properties = 5;</code>
+       */
+      public org.sonar.core.graph.db.GraphDb.Property.Builder getPropertiesBuilder(
+          int index) {
+        return getPropertiesFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .org.sonar.core.graph.db.Property properties = 5;</code>
+       */
+      public org.sonar.core.graph.db.GraphDb.PropertyOrBuilder getPropertiesOrBuilder(
+          int index) {
+        if (propertiesBuilder_ == null) {
+          return properties_.get(index);  } else {
+          return propertiesBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .org.sonar.core.graph.db.Property properties = 5;</code>
+       */
+      public java.util.List<? extends org.sonar.core.graph.db.GraphDb.PropertyOrBuilder> 
+           getPropertiesOrBuilderList() {
+        if (propertiesBuilder_ != null) {
+          return propertiesBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(properties_);
+        }
+      }
+      /**
+       * <code>repeated .org.sonar.core.graph.db.Property properties = 5;</code>
+       */
+      public org.sonar.core.graph.db.GraphDb.Property.Builder addPropertiesBuilder() {
+        return getPropertiesFieldBuilder().addBuilder(
+            org.sonar.core.graph.db.GraphDb.Property.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .org.sonar.core.graph.db.Property properties = 5;</code>
+       */
+      public org.sonar.core.graph.db.GraphDb.Property.Builder addPropertiesBuilder(
+          int index) {
+        return getPropertiesFieldBuilder().addBuilder(
+            index, org.sonar.core.graph.db.GraphDb.Property.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .org.sonar.core.graph.db.Property properties = 5;</code>
+       */
+      public java.util.List<org.sonar.core.graph.db.GraphDb.Property.Builder> 
+           getPropertiesBuilderList() {
+        return getPropertiesFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          org.sonar.core.graph.db.GraphDb.Property, org.sonar.core.graph.db.GraphDb.Property.Builder, org.sonar.core.graph.db.GraphDb.PropertyOrBuilder> 
+          getPropertiesFieldBuilder() {
+        if (propertiesBuilder_ == null) {
+          propertiesBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              org.sonar.core.graph.db.GraphDb.Property, org.sonar.core.graph.db.GraphDb.Property.Builder, org.sonar.core.graph.db.GraphDb.PropertyOrBuilder>(
+                  properties_,
+                  ((bitField0_ & 0x00000010) == 0x00000010),
+                  getParentForChildren(),
+                  isClean());
+          properties_ = null;
+        }
+        return propertiesBuilder_;
+      }
+
+      // @@protoc_insertion_point(builder_scope:org.sonar.core.graph.db.Edge)
+    }
+
+    static {
+      defaultInstance = new Edge(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:org.sonar.core.graph.db.Edge)
+  }
+
+  public interface PropertyOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:org.sonar.core.graph.db.Property)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>optional int32 key = 1;</code>
+     *
+     * <pre>
+     * index in Graph.strings
+     * </pre>
+     */
+    boolean hasKey();
+    /**
+     * <code>optional int32 key = 1;</code>
+     *
+     * <pre>
+     * index in Graph.strings
+     * </pre>
+     */
+    int getKey();
+
+    /**
+     * <code>optional .org.sonar.core.graph.db.Value value = 2;</code>
+     */
+    boolean hasValue();
+    /**
+     * <code>optional .org.sonar.core.graph.db.Value value = 2;</code>
+     */
+    org.sonar.core.graph.db.GraphDb.Value getValue();
+    /**
+     * <code>optional .org.sonar.core.graph.db.Value value = 2;</code>
+     */
+    org.sonar.core.graph.db.GraphDb.ValueOrBuilder getValueOrBuilder();
+  }
+  /**
+   * Protobuf type {@code org.sonar.core.graph.db.Property}
+   */
+  public static final class Property extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:org.sonar.core.graph.db.Property)
+      PropertyOrBuilder {
+    // Use Property.newBuilder() to construct.
+    private Property(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private Property(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final Property defaultInstance;
+    public static Property getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public Property getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private Property(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 8: {
+              bitField0_ |= 0x00000001;
+              key_ = input.readInt32();
+              break;
+            }
+            case 18: {
+              org.sonar.core.graph.db.GraphDb.Value.Builder subBuilder = null;
+              if (((bitField0_ & 0x00000002) == 0x00000002)) {
+                subBuilder = value_.toBuilder();
+              }
+              value_ = input.readMessage(org.sonar.core.graph.db.GraphDb.Value.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(value_);
+                value_ = subBuilder.buildPartial();
+              }
+              bitField0_ |= 0x00000002;
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.sonar.core.graph.db.GraphDb.internal_static_org_sonar_core_graph_db_Property_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.sonar.core.graph.db.GraphDb.internal_static_org_sonar_core_graph_db_Property_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.sonar.core.graph.db.GraphDb.Property.class, org.sonar.core.graph.db.GraphDb.Property.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<Property> PARSER =
+        new com.google.protobuf.AbstractParser<Property>() {
+      public Property parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new Property(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<Property> getParserForType() {
+      return PARSER;
+    }
+
+    private int bitField0_;
+    public static final int KEY_FIELD_NUMBER = 1;
+    private int key_;
+    /**
+     * <code>optional int32 key = 1;</code>
+     *
+     * <pre>
+     * index in Graph.strings
+     * </pre>
+     */
+    public boolean hasKey() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>optional int32 key = 1;</code>
+     *
+     * <pre>
+     * index in Graph.strings
+     * </pre>
+     */
+    public int getKey() {
+      return key_;
+    }
+
+    public static final int VALUE_FIELD_NUMBER = 2;
+    private org.sonar.core.graph.db.GraphDb.Value value_;
+    /**
+     * <code>optional .org.sonar.core.graph.db.Value value = 2;</code>
+     */
+    public boolean hasValue() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>optional .org.sonar.core.graph.db.Value value = 2;</code>
+     */
+    public org.sonar.core.graph.db.GraphDb.Value getValue() {
+      return value_;
+    }
+    /**
+     * <code>optional .org.sonar.core.graph.db.Value value = 2;</code>
+     */
+    public org.sonar.core.graph.db.GraphDb.ValueOrBuilder getValueOrBuilder() {
+      return value_;
+    }
+
+    private void initFields() {
+      key_ = 0;
+      value_ = org.sonar.core.graph.db.GraphDb.Value.getDefaultInstance();
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeInt32(1, key_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeMessage(2, value_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(1, key_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, value_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static org.sonar.core.graph.db.GraphDb.Property parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.sonar.core.graph.db.GraphDb.Property parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.sonar.core.graph.db.GraphDb.Property parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.sonar.core.graph.db.GraphDb.Property parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.sonar.core.graph.db.GraphDb.Property parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.sonar.core.graph.db.GraphDb.Property parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static org.sonar.core.graph.db.GraphDb.Property parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static org.sonar.core.graph.db.GraphDb.Property parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static org.sonar.core.graph.db.GraphDb.Property parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.sonar.core.graph.db.GraphDb.Property parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(org.sonar.core.graph.db.GraphDb.Property prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code org.sonar.core.graph.db.Property}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:org.sonar.core.graph.db.Property)
+        org.sonar.core.graph.db.GraphDb.PropertyOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.sonar.core.graph.db.GraphDb.internal_static_org_sonar_core_graph_db_Property_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.sonar.core.graph.db.GraphDb.internal_static_org_sonar_core_graph_db_Property_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.sonar.core.graph.db.GraphDb.Property.class, org.sonar.core.graph.db.GraphDb.Property.Builder.class);
+      }
+
+      // Construct using org.sonar.core.graph.db.GraphDb.Property.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+          getValueFieldBuilder();
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        key_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        if (valueBuilder_ == null) {
+          value_ = org.sonar.core.graph.db.GraphDb.Value.getDefaultInstance();
+        } else {
+          valueBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000002);
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.sonar.core.graph.db.GraphDb.internal_static_org_sonar_core_graph_db_Property_descriptor;
+      }
+
+      public org.sonar.core.graph.db.GraphDb.Property getDefaultInstanceForType() {
+        return org.sonar.core.graph.db.GraphDb.Property.getDefaultInstance();
+      }
+
+      public org.sonar.core.graph.db.GraphDb.Property build() {
+        org.sonar.core.graph.db.GraphDb.Property result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public org.sonar.core.graph.db.GraphDb.Property buildPartial() {
+        org.sonar.core.graph.db.GraphDb.Property result = new org.sonar.core.graph.db.GraphDb.Property(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.key_ = key_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        if (valueBuilder_ == null) {
+          result.value_ = value_;
+        } else {
+          result.value_ = valueBuilder_.build();
+        }
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.sonar.core.graph.db.GraphDb.Property) {
+          return mergeFrom((org.sonar.core.graph.db.GraphDb.Property)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.sonar.core.graph.db.GraphDb.Property other) {
+        if (other == org.sonar.core.graph.db.GraphDb.Property.getDefaultInstance()) return this;
+        if (other.hasKey()) {
+          setKey(other.getKey());
+        }
+        if (other.hasValue()) {
+          mergeValue(other.getValue());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        org.sonar.core.graph.db.GraphDb.Property parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (org.sonar.core.graph.db.GraphDb.Property) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private int key_ ;
+      /**
+       * <code>optional int32 key = 1;</code>
+       *
+       * <pre>
+       * index in Graph.strings
+       * </pre>
+       */
+      public boolean hasKey() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>optional int32 key = 1;</code>
+       *
+       * <pre>
+       * index in Graph.strings
+       * </pre>
+       */
+      public int getKey() {
+        return key_;
+      }
+      /**
+       * <code>optional int32 key = 1;</code>
+       *
+       * <pre>
+       * index in Graph.strings
+       * </pre>
+       */
+      public Builder setKey(int value) {
+        bitField0_ |= 0x00000001;
+        key_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int32 key = 1;</code>
+       *
+       * <pre>
+       * index in Graph.strings
+       * </pre>
+       */
+      public Builder clearKey() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        key_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private org.sonar.core.graph.db.GraphDb.Value value_ = org.sonar.core.graph.db.GraphDb.Value.getDefaultInstance();
+      private com.google.protobuf.SingleFieldBuilder<
+          org.sonar.core.graph.db.GraphDb.Value, org.sonar.core.graph.db.GraphDb.Value.Builder, org.sonar.core.graph.db.GraphDb.ValueOrBuilder> valueBuilder_;
+      /**
+       * <code>optional .org.sonar.core.graph.db.Value value = 2;</code>
+       */
+      public boolean hasValue() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>optional .org.sonar.core.graph.db.Value value = 2;</code>
+       */
+      public org.sonar.core.graph.db.GraphDb.Value getValue() {
+        if (valueBuilder_ == null) {
+          return value_;
+        } else {
+          return valueBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>optional .org.sonar.core.graph.db.Value value = 2;</code>
+       */
+      public Builder setValue(org.sonar.core.graph.db.GraphDb.Value value) {
+        if (valueBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          value_ = value;
+          onChanged();
+        } else {
+          valueBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000002;
+        return this;
+      }
+      /**
+       * <code>optional .org.sonar.core.graph.db.Value value = 2;</code>
+       */
+      public Builder setValue(
+          org.sonar.core.graph.db.GraphDb.Value.Builder builderForValue) {
+        if (valueBuilder_ == null) {
+          value_ = builderForValue.build();
+          onChanged();
+        } else {
+          valueBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000002;
+        return this;
+      }
+      /**
+       * <code>optional .org.sonar.core.graph.db.Value value = 2;</code>
+       */
+      public Builder mergeValue(org.sonar.core.graph.db.GraphDb.Value value) {
+        if (valueBuilder_ == null) {
+          if (((bitField0_ & 0x00000002) == 0x00000002) &&
+              value_ != org.sonar.core.graph.db.GraphDb.Value.getDefaultInstance()) {
+            value_ =
+              org.sonar.core.graph.db.GraphDb.Value.newBuilder(value_).mergeFrom(value).buildPartial();
+          } else {
+            value_ = value;
+          }
+          onChanged();
+        } else {
+          valueBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000002;
+        return this;
+      }
+      /**
+       * <code>optional .org.sonar.core.graph.db.Value value = 2;</code>
+       */
+      public Builder clearValue() {
+        if (valueBuilder_ == null) {
+          value_ = org.sonar.core.graph.db.GraphDb.Value.getDefaultInstance();
+          onChanged();
+        } else {
+          valueBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000002);
+        return this;
+      }
+      /**
+       * <code>optional .org.sonar.core.graph.db.Value value = 2;</code>
+       */
+      public org.sonar.core.graph.db.GraphDb.Value.Builder getValueBuilder() {
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return getValueFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .org.sonar.core.graph.db.Value value = 2;</code>
+       */
+      public org.sonar.core.graph.db.GraphDb.ValueOrBuilder getValueOrBuilder() {
+        if (valueBuilder_ != null) {
+          return valueBuilder_.getMessageOrBuilder();
+        } else {
+          return value_;
+        }
+      }
+      /**
+       * <code>optional .org.sonar.core.graph.db.Value value = 2;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          org.sonar.core.graph.db.GraphDb.Value, org.sonar.core.graph.db.GraphDb.Value.Builder, org.sonar.core.graph.db.GraphDb.ValueOrBuilder> 
+          getValueFieldBuilder() {
+        if (valueBuilder_ == null) {
+          valueBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              org.sonar.core.graph.db.GraphDb.Value, org.sonar.core.graph.db.GraphDb.Value.Builder, org.sonar.core.graph.db.GraphDb.ValueOrBuilder>(
+                  getValue(),
+                  getParentForChildren(),
+                  isClean());
+          value_ = null;
+        }
+        return valueBuilder_;
+      }
+
+      // @@protoc_insertion_point(builder_scope:org.sonar.core.graph.db.Property)
+    }
+
+    static {
+      defaultInstance = new Property(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:org.sonar.core.graph.db.Property)
+  }
+
+  public interface ValueOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:org.sonar.core.graph.db.Value)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>optional .org.sonar.core.graph.db.Value.Type type = 1;</code>
+     */
+    boolean hasType();
+    /**
+     * <code>optional .org.sonar.core.graph.db.Value.Type type = 1;</code>
+     */
+    org.sonar.core.graph.db.GraphDb.Value.Type getType();
+
+    /**
+     * <code>optional int32 string_value = 2;</code>
+     *
+     * <pre>
+     * index in Graph.strings
+     * </pre>
+     */
+    boolean hasStringValue();
+    /**
+     * <code>optional int32 string_value = 2;</code>
+     *
+     * <pre>
+     * index in Graph.strings
+     * </pre>
+     */
+    int getStringValue();
+
+    /**
+     * <code>optional bool boolean_value = 3;</code>
+     */
+    boolean hasBooleanValue();
+    /**
+     * <code>optional bool boolean_value = 3;</code>
+     */
+    boolean getBooleanValue();
+
+    /**
+     * <code>optional sint64 long_value = 4;</code>
+     *
+     * <pre>
+     * INTEGER and LONG
+     * </pre>
+     */
+    boolean hasLongValue();
+    /**
+     * <code>optional sint64 long_value = 4;</code>
+     *
+     * <pre>
+     * INTEGER and LONG
+     * </pre>
+     */
+    long getLongValue();
+
+    /**
+     * <code>optional double double_value = 5;</code>
+     *
+     * <pre>
+     * FLOAT and DOUBLE
+     * </pre>
+     */
+    boolean hasDoubleValue();
+    /**
+     * <code>optional double double_value = 5;</code>
+     *
+     * <pre>
+     * FLOAT and DOUBLE
+     * </pre>
+     */
+    double getDoubleValue();
+
+    /**
+     * <code>repeated .org.sonar.core.graph.db.Value list_value = 6;</code>
+     *
+     * <pre>
+     * LIST and SET
+     * </pre>
+     */
+    java.util.List<org.sonar.core.graph.db.GraphDb.Value> 
+        getListValueList();
+    /**
+     * <code>repeated .org.sonar.core.graph.db.Value list_value = 6;</code>
+     *
+     * <pre>
+     * LIST and SET
+     * </pre>
+     */
+    org.sonar.core.graph.db.GraphDb.Value getListValue(int index);
+    /**
+     * <code>repeated .org.sonar.core.graph.db.Value list_value = 6;</code>
+     *
+     * <pre>
+     * LIST and SET
+     * </pre>
+     */
+    int getListValueCount();
+    /**
+     * <code>repeated .org.sonar.core.graph.db.Value list_value = 6;</code>
+     *
+     * <pre>
+     * LIST and SET
+     * </pre>
+     */
+    java.util.List<? extends org.sonar.core.graph.db.GraphDb.ValueOrBuilder> 
+        getListValueOrBuilderList();
+    /**
+     * <code>repeated .org.sonar.core.graph.db.Value list_value = 6;</code>
+     *
+     * <pre>
+     * LIST and SET
+     * </pre>
+     */
+    org.sonar.core.graph.db.GraphDb.ValueOrBuilder getListValueOrBuilder(
+        int index);
+
+    /**
+     * <code>repeated .org.sonar.core.graph.db.Property map_value = 7;</code>
+     */
+    java.util.List<org.sonar.core.graph.db.GraphDb.Property> 
+        getMapValueList();
+    /**
+     * <code>repeated .org.sonar.core.graph.db.Property map_value = 7;</code>
+     */
+    org.sonar.core.graph.db.GraphDb.Property getMapValue(int index);
+    /**
+     * <code>repeated .org.sonar.core.graph.db.Property map_value = 7;</code>
+     */
+    int getMapValueCount();
+    /**
+     * <code>repeated .org.sonar.core.graph.db.Property map_value = 7;</code>
+     */
+    java.util.List<? extends org.sonar.core.graph.db.GraphDb.PropertyOrBuilder> 
+        getMapValueOrBuilderList();
+    /**
+     * <code>repeated .org.sonar.core.graph.db.Property map_value = 7;</code>
+     */
+    org.sonar.core.graph.db.GraphDb.PropertyOrBuilder getMapValueOrBuilder(
+        int index);
+  }
+  /**
+   * Protobuf type {@code org.sonar.core.graph.db.Value}
+   */
+  public static final class Value extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:org.sonar.core.graph.db.Value)
+      ValueOrBuilder {
+    // Use Value.newBuilder() to construct.
+    private Value(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private Value(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final Value defaultInstance;
+    public static Value getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public Value getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private Value(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 8: {
+              int rawValue = input.readEnum();
+              org.sonar.core.graph.db.GraphDb.Value.Type value = org.sonar.core.graph.db.GraphDb.Value.Type.valueOf(rawValue);
+              if (value == null) {
+                unknownFields.mergeVarintField(1, rawValue);
+              } else {
+                bitField0_ |= 0x00000001;
+                type_ = value;
+              }
+              break;
+            }
+            case 16: {
+              bitField0_ |= 0x00000002;
+              stringValue_ = input.readInt32();
+              break;
+            }
+            case 24: {
+              bitField0_ |= 0x00000004;
+              booleanValue_ = input.readBool();
+              break;
+            }
+            case 32: {
+              bitField0_ |= 0x00000008;
+              longValue_ = input.readSInt64();
+              break;
+            }
+            case 41: {
+              bitField0_ |= 0x00000010;
+              doubleValue_ = input.readDouble();
+              break;
+            }
+            case 50: {
+              if (!((mutable_bitField0_ & 0x00000020) == 0x00000020)) {
+                listValue_ = new java.util.ArrayList<org.sonar.core.graph.db.GraphDb.Value>();
+                mutable_bitField0_ |= 0x00000020;
+              }
+              listValue_.add(input.readMessage(org.sonar.core.graph.db.GraphDb.Value.PARSER, extensionRegistry));
+              break;
+            }
+            case 58: {
+              if (!((mutable_bitField0_ & 0x00000040) == 0x00000040)) {
+                mapValue_ = new java.util.ArrayList<org.sonar.core.graph.db.GraphDb.Property>();
+                mutable_bitField0_ |= 0x00000040;
+              }
+              mapValue_.add(input.readMessage(org.sonar.core.graph.db.GraphDb.Property.PARSER, extensionRegistry));
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000020) == 0x00000020)) {
+          listValue_ = java.util.Collections.unmodifiableList(listValue_);
+        }
+        if (((mutable_bitField0_ & 0x00000040) == 0x00000040)) {
+          mapValue_ = java.util.Collections.unmodifiableList(mapValue_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.sonar.core.graph.db.GraphDb.internal_static_org_sonar_core_graph_db_Value_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.sonar.core.graph.db.GraphDb.internal_static_org_sonar_core_graph_db_Value_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.sonar.core.graph.db.GraphDb.Value.class, org.sonar.core.graph.db.GraphDb.Value.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<Value> PARSER =
+        new com.google.protobuf.AbstractParser<Value>() {
+      public Value parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new Value(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<Value> getParserForType() {
+      return PARSER;
+    }
+
+    /**
+     * Protobuf enum {@code org.sonar.core.graph.db.Value.Type}
+     */
+    public enum Type
+        implements com.google.protobuf.ProtocolMessageEnum {
+      /**
+       * <code>STRING = 0;</code>
+       */
+      STRING(0, 0),
+      /**
+       * <code>NULL = 1;</code>
+       */
+      NULL(1, 1),
+      /**
+       * <code>BOOLEAN = 2;</code>
+       */
+      BOOLEAN(2, 2),
+      /**
+       * <code>INTEGER = 3;</code>
+       */
+      INTEGER(3, 3),
+      /**
+       * <code>LONG = 4;</code>
+       */
+      LONG(4, 4),
+      /**
+       * <code>FLOAT = 5;</code>
+       */
+      FLOAT(5, 5),
+      /**
+       * <code>DOUBLE = 6;</code>
+       */
+      DOUBLE(6, 6),
+      /**
+       * <code>LIST = 7;</code>
+       */
+      LIST(7, 7),
+      /**
+       * <code>MAP = 8;</code>
+       *
+       * <pre>
+       * graph elements (vertices and edges) are stored as maps of their fields
+       * </pre>
+       */
+      MAP(8, 8),
+      /**
+       * <code>SET = 9;</code>
+       */
+      SET(9, 9),
+      ;
+
+      /**
+       * <code>STRING = 0;</code>
+       */
+      public static final int STRING_VALUE = 0;
+      /**
+       * <code>NULL = 1;</code>
+       */
+      public static final int NULL_VALUE = 1;
+      /**
+       * <code>BOOLEAN = 2;</code>
+       */
+      public static final int BOOLEAN_VALUE = 2;
+      /**
+       * <code>INTEGER = 3;</code>
+       */
+      public static final int INTEGER_VALUE = 3;
+      /**
+       * <code>LONG = 4;</code>
+       */
+      public static final int LONG_VALUE = 4;
+      /**
+       * <code>FLOAT = 5;</code>
+       */
+      public static final int FLOAT_VALUE = 5;
+      /**
+       * <code>DOUBLE = 6;</code>
+       */
+      public static final int DOUBLE_VALUE = 6;
+      /**
+       * <code>LIST = 7;</code>
+       */
+      public static final int LIST_VALUE = 7;
+      /**
+       * <code>MAP = 8;</code>
+       *
+       * <pre>
+       * graph elements (vertices and edges) are stored as maps of their fields
+       * </pre>
+       */
+      public static final int MAP_VALUE = 8;
+      /**
+       * <code>SET = 9;</code>
+       */
+      public static final int SET_VALUE = 9;
+
+
+      public final int getNumber() { return value; }
+
+      public static Type valueOf(int value) {
+        switch (value) {
+          case 0: return STRING;
+          case 1: return NULL;
+          case 2: return BOOLEAN;
+          case 3: return INTEGER;
+          case 4: return LONG;
+          case 5: return FLOAT;
+          case 6: return DOUBLE;
+          case 7: return LIST;
+          case 8: return MAP;
+          case 9: return SET;
+          default: return null;
+        }
+      }
+
+      public static com.google.protobuf.Internal.EnumLiteMap<Type>
+          internalGetValueMap() {
+        return internalValueMap;
+      }
+      private static com.google.protobuf.Internal.EnumLiteMap<Type>
+          internalValueMap =
+            new com.google.protobuf.Internal.EnumLiteMap<Type>() {
+              public Type findValueByNumber(int number) {
+                return Type.valueOf(number);
+              }
+            };
+
+      public final com.google.protobuf.Descriptors.EnumValueDescriptor
+          getValueDescriptor() {
+        return getDescriptor().getValues().get(index);
+      }
+      public final com.google.protobuf.Descriptors.EnumDescriptor
+          getDescriptorForType() {
+        return getDescriptor();
+      }
+      public static final com.google.protobuf.Descriptors.EnumDescriptor
+          getDescriptor() {
+        return org.sonar.core.graph.db.GraphDb.Value.getDescriptor().getEnumTypes().get(0);
+      }
+
+      private static final Type[] VALUES = values();
+
+      public static Type valueOf(
+          com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
+        if (desc.getType() != getDescriptor()) {
+          throw new java.lang.IllegalArgumentException(
+            "EnumValueDescriptor is not for this type.");
+        }
+        return VALUES[desc.getIndex()];
+      }
+
+      private final int index;
+      private final int value;
+
+      private Type(int index, int value) {
+        this.index = index;
+        this.value = value;
+      }
+
+      // @@protoc_insertion_point(enum_scope:org.sonar.core.graph.db.Value.Type)
+    }
+
+    private int bitField0_;
+    public static final int TYPE_FIELD_NUMBER = 1;
+    private org.sonar.core.graph.db.GraphDb.Value.Type type_;
+    /**
+     * <code>optional .org.sonar.core.graph.db.Value.Type type = 1;</code>
+     */
+    public boolean hasType() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>optional .org.sonar.core.graph.db.Value.Type type = 1;</code>
+     */
+    public org.sonar.core.graph.db.GraphDb.Value.Type getType() {
+      return type_;
+    }
+
+    public static final int STRING_VALUE_FIELD_NUMBER = 2;
+    private int stringValue_;
+    /**
+     * <code>optional int32 string_value = 2;</code>
+     *
+     * <pre>
+     * index in Graph.strings
+     * </pre>
+     */
+    public boolean hasStringValue() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>optional int32 string_value = 2;</code>
+     *
+     * <pre>
+     * index in Graph.strings
+     * </pre>
+     */
+    public int getStringValue() {
+      return stringValue_;
+    }
+
+    public static final int BOOLEAN_VALUE_FIELD_NUMBER = 3;
+    private boolean booleanValue_;
+    /**
+     * <code>optional bool boolean_value = 3;</code>
+     */
+    public boolean hasBooleanValue() {
+      return ((bitField0_ & 0x00000004) == 0x00000004);
+    }
+    /**
+     * <code>optional bool boolean_value = 3;</code>
+     */
+    public boolean getBooleanValue() {
+      return booleanValue_;
+    }
+
+    public static final int LONG_VALUE_FIELD_NUMBER = 4;
+    private long longValue_;
+    /**
+     * <code>optional sint64 long_value = 4;</code>
+     *
+     * <pre>
+     * INTEGER and LONG
+     * </pre>
+     */
+    public boolean hasLongValue() {
+      return ((bitField0_ & 0x00000008) == 0x00000008);
+    }
+    /**
+     * <code>optional sint64 long_value = 4;</code>
+     *
+     * <pre>
+     * INTEGER and LONG
+     * </pre>
+     */
+    public long getLongValue() {
+      return longValue_;
+    }
+
+    public static final int DOUBLE_VALUE_FIELD_NUMBER = 5;
+    private double doubleValue_;
+    /**
+     * <code>optional double double_value = 5;</code>
+     *
+     * <pre>
+     * FLOAT and DOUBLE
+     * </pre>
+     */
+    public boolean hasDoubleValue() {
+      return ((bitField0_ & 0x00000010) == 0x00000010);
+    }
+    /**
+     * <code>optional double double_value = 5;</code>
+     *
+     * <pre>
+     * FLOAT and DOUBLE
+     * </pre>
+     */
+    public double getDoubleValue() {
+      return doubleValue_;
+    }
+
+    public static final int LIST_VALUE_FIELD_NUMBER = 6;
+    private java.util.List<org.sonar.core.graph.db.GraphDb.Value> listValue_;
+    /**
+     * <code>repeated .org.sonar.core.graph.db.Value list_value = 6;</code>
+     *
+     * <pre>
+     * LIST and SET
+     * </pre>
+     */
+    public java.util.List<org.sonar.core.graph.db.GraphDb.Value> getListValueList() {
+      return listValue_;
+    }
+    /**
+     * <code>repeated .org.sonar.core.graph.db.Value list_value = 6;</code>
+     *
+     * <pre>
+     * LIST and SET
+     * </pre>
+     */
+    public java.util.List<? extends org.sonar.core.graph.db.GraphDb.ValueOrBuilder> 
+        getListValueOrBuilderList() {
+      return listValue_;
+    }
+    /**
+     * <code>repeated .org.sonar.core.graph.db.Value list_value = 6;</code>
+     *
+     * <pre>
+     * LIST and SET
+     * </pre>
+     */
+    public int getListValueCount() {
+      return listValue_.size();
+    }
+    /**
+     * <code>repeated .org.sonar.core.graph.db.Value list_value = 6;</code>
+     *
+     * <pre>
+     * LIST and SET
+     * </pre>
+     */
+    public org.sonar.core.graph.db.GraphDb.Value getListValue(int index) {
+      return listValue_.get(index);
+    }
+    /**
+     * <code>repeated .org.sonar.core.graph.db.Value list_value = 6;</code>
+     *
+     * <pre>
+     * LIST and SET
+     * </pre>
+     */
+    public org.sonar.core.graph.db.GraphDb.ValueOrBuilder getListValueOrBuilder(
+        int index) {
+      return listValue_.get(index);
+    }
+
+    public static final int MAP_VALUE_FIELD_NUMBER = 7;
+    private java.util.List<org.sonar.core.graph.db.GraphDb.Property> mapValue_;
+    /**
+     * <code>repeated .org.sonar.core.graph.db.Property map_value = 7;</code>
+     */
+    public java.util.List<org.sonar.core.graph.db.GraphDb.Property> getMapValueList() {
+      return mapValue_;
+    }
+    /**
+     * <code>repeated .org.sonar.core.graph.db.Property map_value = 7;</code>
+     */
+    public java.util.List<? extends org.sonar.core.graph.db.GraphDb.PropertyOrBuilder> 
+        getMapValueOrBuilderList() {
+      return mapValue_;
+    }
+    /**
+     * <code>repeated .org.sonar.core.graph.db.Property map_value = 7;</code>
+     */
+    public int getMapValueCount() {
+      return mapValue_.size();
+    }
+    /**
+     * <code>repeated .org.sonar.core.graph.db.Property map_value = 7;</code>
+     */
+    public org.sonar.core.graph.db.GraphDb.Property getMapValue(int index) {
+      return mapValue_.get(index);
+    }
+    /**
+     * <code>repeated .org.sonar.core.graph.db.Property map_value = 7;</code>
+     */
+    public org.sonar.core.graph.db.GraphDb.PropertyOrBuilder getMapValueOrBuilder(
+        int index) {
+      return mapValue_.get(index);
+    }
+
+    private void initFields() {
+      type_ = org.sonar.core.graph.db.GraphDb.Value.Type.STRING;
+      stringValue_ = 0;
+      booleanValue_ = false;
+      longValue_ = 0L;
+      doubleValue_ = 0D;
+      listValue_ = java.util.Collections.emptyList();
+      mapValue_ = java.util.Collections.emptyList();
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeEnum(1, type_.getNumber());
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeInt32(2, stringValue_);
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        output.writeBool(3, booleanValue_);
+      }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        output.writeSInt64(4, longValue_);
+      }
+      if (((bitField0_ & 0x00000010) == 0x00000010)) {
+        output.writeDouble(5, doubleValue_);
+      }
+      for (int i = 0; i < listValue_.size(); i++) {
+        output.writeMessage(6, listValue_.get(i));
+      }
+      for (int i = 0; i < mapValue_.size(); i++) {
+        output.writeMessage(7, mapValue_.get(i));
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeEnumSize(1, type_.getNumber());
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(2, stringValue_);
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(3, booleanValue_);
+      }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeSInt64Size(4, longValue_);
+      }
+      if (((bitField0_ & 0x00000010) == 0x00000010)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeDoubleSize(5, doubleValue_);
+      }
+      for (int i = 0; i < listValue_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(6, listValue_.get(i));
+      }
+      for (int i = 0; i < mapValue_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(7, mapValue_.get(i));
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static org.sonar.core.graph.db.GraphDb.Value parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.sonar.core.graph.db.GraphDb.Value parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.sonar.core.graph.db.GraphDb.Value parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.sonar.core.graph.db.GraphDb.Value parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.sonar.core.graph.db.GraphDb.Value parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.sonar.core.graph.db.GraphDb.Value parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static org.sonar.core.graph.db.GraphDb.Value parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static org.sonar.core.graph.db.GraphDb.Value parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static org.sonar.core.graph.db.GraphDb.Value parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.sonar.core.graph.db.GraphDb.Value parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(org.sonar.core.graph.db.GraphDb.Value prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code org.sonar.core.graph.db.Value}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:org.sonar.core.graph.db.Value)
+        org.sonar.core.graph.db.GraphDb.ValueOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.sonar.core.graph.db.GraphDb.internal_static_org_sonar_core_graph_db_Value_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.sonar.core.graph.db.GraphDb.internal_static_org_sonar_core_graph_db_Value_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.sonar.core.graph.db.GraphDb.Value.class, org.sonar.core.graph.db.GraphDb.Value.Builder.class);
+      }
+
+      // Construct using org.sonar.core.graph.db.GraphDb.Value.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+          getListValueFieldBuilder();
+          getMapValueFieldBuilder();
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        type_ = org.sonar.core.graph.db.GraphDb.Value.Type.STRING;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        stringValue_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        booleanValue_ = false;
+        bitField0_ = (bitField0_ & ~0x00000004);
+        longValue_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000008);
+        doubleValue_ = 0D;
+        bitField0_ = (bitField0_ & ~0x00000010);
+        if (listValueBuilder_ == null) {
+          listValue_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000020);
+        } else {
+          listValueBuilder_.clear();
+        }
+        if (mapValueBuilder_ == null) {
+          mapValue_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000040);
+        } else {
+          mapValueBuilder_.clear();
+        }
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.sonar.core.graph.db.GraphDb.internal_static_org_sonar_core_graph_db_Value_descriptor;
+      }
+
+      public org.sonar.core.graph.db.GraphDb.Value getDefaultInstanceForType() {
+        return org.sonar.core.graph.db.GraphDb.Value.getDefaultInstance();
+      }
+
+      public org.sonar.core.graph.db.GraphDb.Value build() {
+        org.sonar.core.graph.db.GraphDb.Value result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public org.sonar.core.graph.db.GraphDb.Value buildPartial() {
+        org.sonar.core.graph.db.GraphDb.Value result = new org.sonar.core.graph.db.GraphDb.Value(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.type_ = type_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.stringValue_ = stringValue_;
+        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+          to_bitField0_ |= 0x00000004;
+        }
+        result.booleanValue_ = booleanValue_;
+        if (((from_bitField0_ & 0x00000008) == 0x00000008)) {
+          to_bitField0_ |= 0x00000008;
+        }
+        result.longValue_ = longValue_;
+        if (((from_bitField0_ & 0x00000010) == 0x00000010)) {
+          to_bitField0_ |= 0x00000010;
+        }
+        result.doubleValue_ = doubleValue_;
+        if (listValueBuilder_ == null) {
+          if (((bitField0_ & 0x00000020) == 0x00000020)) {
+            listValue_ = java.util.Collections.unmodifiableList(listValue_);
+            bitField0_ = (bitField0_ & ~0x00000020);
+          }
+          result.listValue_ = listValue_;
+        } else {
+          result.listValue_ = listValueBuilder_.build();
+        }
+        if (mapValueBuilder_ == null) {
+          if (((bitField0_ & 0x00000040) == 0x00000040)) {
+            mapValue_ = java.util.Collections.unmodifiableList(mapValue_);
+            bitField0_ = (bitField0_ & ~0x00000040);
+          }
+          result.mapValue_ = mapValue_;
+        } else {
+          result.mapValue_ = mapValueBuilder_.build();
+        }
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.sonar.core.graph.db.GraphDb.Value) {
+          return mergeFrom((org.sonar.core.graph.db.GraphDb.Value)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.sonar.core.graph.db.GraphDb.Value other) {
+        if (other == org.sonar.core.graph.db.GraphDb.Value.getDefaultInstance()) return this;
+        if (other.hasType()) {
+          setType(other.getType());
+        }
+        if (other.hasStringValue()) {
+          setStringValue(other.getStringValue());
+        }
+        if (other.hasBooleanValue()) {
+          setBooleanValue(other.getBooleanValue());
+        }
+        if (other.hasLongValue()) {
+          setLongValue(other.getLongValue());
+        }
+        if (other.hasDoubleValue()) {
+          setDoubleValue(other.getDoubleValue());
+        }
+        if (listValueBuilder_ == null) {
+          if (!other.listValue_.isEmpty()) {
+            if (listValue_.isEmpty()) {
+              listValue_ = other.listValue_;
+              bitField0_ = (bitField0_ & ~0x00000020);
+            } else {
+              ensureListValueIsMutable();
+              listValue_.addAll(other.listValue_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.listValue_.isEmpty()) {
+            if (listValueBuilder_.isEmpty()) {
+              listValueBuilder_.dispose();
+              listValueBuilder_ = null;
+              listValue_ = other.listValue_;
+              bitField0_ = (bitField0_ & ~0x00000020);
+              listValueBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getListValueFieldBuilder() : null;
+            } else {
+              listValueBuilder_.addAllMessages(other.listValue_);
+            }
+          }
+        }
+        if (mapValueBuilder_ == null) {
+          if (!other.mapValue_.isEmpty()) {
+            if (mapValue_.isEmpty()) {
+              mapValue_ = other.mapValue_;
+              bitField0_ = (bitField0_ & ~0x00000040);
+            } else {
+              ensureMapValueIsMutable();
+              mapValue_.addAll(other.mapValue_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.mapValue_.isEmpty()) {
+            if (mapValueBuilder_.isEmpty()) {
+              mapValueBuilder_.dispose();
+              mapValueBuilder_ = null;
+              mapValue_ = other.mapValue_;
+              bitField0_ = (bitField0_ & ~0x00000040);
+              mapValueBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getMapValueFieldBuilder() : null;
+            } else {
+              mapValueBuilder_.addAllMessages(other.mapValue_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        org.sonar.core.graph.db.GraphDb.Value parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (org.sonar.core.graph.db.GraphDb.Value) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private org.sonar.core.graph.db.GraphDb.Value.Type type_ = org.sonar.core.graph.db.GraphDb.Value.Type.STRING;
+      /**
+       * <code>optional .org.sonar.core.graph.db.Value.Type type = 1;</code>
+       */
+      public boolean hasType() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>optional .org.sonar.core.graph.db.Value.Type type = 1;</code>
+       */
+      public org.sonar.core.graph.db.GraphDb.Value.Type getType() {
+        return type_;
+      }
+      /**
+       * <code>optional .org.sonar.core.graph.db.Value.Type type = 1;</code>
+       */
+      public Builder setType(org.sonar.core.graph.db.GraphDb.Value.Type value) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        bitField0_ |= 0x00000001;
+        type_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional .org.sonar.core.graph.db.Value.Type type = 1;</code>
+       */
+      public Builder clearType() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        type_ = org.sonar.core.graph.db.GraphDb.Value.Type.STRING;
+        onChanged();
+        return this;
+      }
+
+      private int stringValue_ ;
+      /**
+       * <code>optional int32 string_value = 2;</code>
+       *
+       * <pre>
+       * index in Graph.strings
+       * </pre>
+       */
+      public boolean hasStringValue() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>optional int32 string_value = 2;</code>
+       *
+       * <pre>
+       * index in Graph.strings
+       * </pre>
+       */
+      public int getStringValue() {
+        return stringValue_;
+      }
+      /**
+       * <code>optional int32 string_value = 2;</code>
+       *
+       * <pre>
+       * index in Graph.strings
+       * </pre>
+       */
+      public Builder setStringValue(int value) {
+        bitField0_ |= 0x00000002;
+        stringValue_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int32 string_value = 2;</code>
+       *
+       * <pre>
+       * index in Graph.strings
+       * </pre>
+       */
+      public Builder clearStringValue() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        stringValue_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private boolean booleanValue_ ;
+      /**
+       * <code>optional bool boolean_value = 3;</code>
+       */
+      public boolean hasBooleanValue() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
+      }
+      /**
+       * <code>optional bool boolean_value = 3;</code>
+       */
+      public boolean getBooleanValue() {
+        return booleanValue_;
+      }
+      /**
+       * <code>optional bool boolean_value = 3;</code>
+       */
+      public Builder setBooleanValue(boolean value) {
+        bitField0_ |= 0x00000004;
+        booleanValue_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional bool boolean_value = 3;</code>
+       */
+      public Builder clearBooleanValue() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        booleanValue_ = false;
+        onChanged();
+        return this;
+      }
+
+      private long longValue_ ;
+      /**
+       * <code>optional sint64 long_value = 4;</code>
+       *
+       * <pre>
+       * INTEGER and LONG
+       * </pre>
+       */
+      public boolean hasLongValue() {
+        return ((bitField0_ & 0x00000008) == 0x00000008);
+      }
+      /**
+       * <code>optional sint64 long_value = 4;</code>
+       *
+       * <pre>
+       * INTEGER and LONG
+       * </pre>
+       */
+      public long getLongValue() {
+        return longValue_;
+      }
+      /**
+       * <code>optional sint64 long_value = 4;</code>
+       *
+       * <pre>
+       * INTEGER and LONG
+       * </pre>
+       */
+      public Builder setLongValue(long value) {
+        bitField0_ |= 0x00000008;
+        longValue_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional sint64 long_value = 4;</code>
+       *
+       * <pre>
+       * INTEGER and LONG
+       * </pre>
+       */
+      public Builder clearLongValue() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        longValue_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private double doubleValue_ ;
+      /**
+       * <code>optional double double_value = 5;</code>
+       *
+       * <pre>
+       * FLOAT and DOUBLE
+       * </pre>
+       */
+      public boolean hasDoubleValue() {
+        return ((bitField0_ & 0x00000010) == 0x00000010);
+      }
+      /**
+       * <code>optional double double_value = 5;</code>
+       *
+       * <pre>
+       * FLOAT and DOUBLE
+       * </pre>
+       */
+      public double getDoubleValue() {
+        return doubleValue_;
+      }
+      /**
+       * <code>optional double double_value = 5;</code>
+       *
+       * <pre>
+       * FLOAT and DOUBLE
+       * </pre>
+       */
+      public Builder setDoubleValue(double value) {
+        bitField0_ |= 0x00000010;
+        doubleValue_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional double double_value = 5;</code>
+       *
+       * <pre>
+       * FLOAT and DOUBLE
+       * </pre>
+       */
+      public Builder clearDoubleValue() {
+        bitField0_ = (bitField0_ & ~0x00000010);
+        doubleValue_ = 0D;
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<org.sonar.core.graph.db.GraphDb.Value> listValue_ =
+        java.util.Collections.emptyList();
+      private void ensureListValueIsMutable() {
+        if (!((bitField0_ & 0x00000020) == 0x00000020)) {
+          listValue_ = new java.util.ArrayList<org.sonar.core.graph.db.GraphDb.Value>(listValue_);
+          bitField0_ |= 0x00000020;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilder<
+          org.sonar.core.graph.db.GraphDb.Value, org.sonar.core.graph.db.GraphDb.Value.Builder, org.sonar.core.graph.db.GraphDb.ValueOrBuilder> listValueBuilder_;
+
+      /**
+       * <code>repeated .org.sonar.core.graph.db.Value list_value = 6;</code>
+       *
+       * <pre>
+       * LIST and SET
+       * </pre>
+       */
+      public java.util.List<org.sonar.core.graph.db.GraphDb.Value> getListValueList() {
+        if (listValueBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(listValue_);
+        } else {
+          return listValueBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .org.sonar.core.graph.db.Value list_value = 6;</code>
+       *
+       * <pre>
+       * LIST and SET
+       * </pre>
+       */
+      public int getListValueCount() {
+        if (listValueBuilder_ == null) {
+          return listValue_.size();
+        } else {
+          return listValueBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .org.sonar.core.graph.db.Value list_value = 6;</code>
+       *
+       * <pre>
+       * LIST and SET
+       * </pre>
+       */
+      public org.sonar.core.graph.db.GraphDb.Value getListValue(int index) {
+        if (listValueBuilder_ == null) {
+          return listValue_.get(index);
+        } else {
+          return listValueBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .org.sonar.core.graph.db.Value list_value = 6;</code>
+       *
+       * <pre>
+       * LIST and SET
+       * </pre>
+       */
+      public Builder setListValue(
+          int index, org.sonar.core.graph.db.GraphDb.Value value) {
+        if (listValueBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureListValueIsMutable();
+          listValue_.set(index, value);
+          onChanged();
+        } else {
+          listValueBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .org.sonar.core.graph.db.Value list_value = 6;</code>
+       *
+       * <pre>
+       * LIST and SET
+       * </pre>
+       */
+      public Builder setListValue(
+          int index, org.sonar.core.graph.db.GraphDb.Value.Builder builderForValue) {
+        if (listValueBuilder_ == null) {
+          ensureListValueIsMutable();
+          listValue_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          listValueBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .org.sonar.core.graph.db.Value list_value = 6;</code>
+       *
+       * <pre>
+       * LIST and SET
+       * </pre>
+       */
+      public Builder addListValue(org.sonar.core.graph.db.GraphDb.Value value) {
+        if (listValueBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureListValueIsMutable();
+          listValue_.add(value);
+          onChanged();
+        } else {
+          listValueBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .org.sonar.core.graph.db.Value list_value = 6;</code>
+       *
+       * <pre>
+       * LIST and SET
+       * </pre>
+       */
+      public Builder addListValue(
+          int index, org.sonar.core.graph.db.GraphDb.Value value) {
+        if (listValueBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureListValueIsMutable();
+          listValue_.add(index, value);
+          onChanged();
+        } else {
+          listValueBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .org.sonar.core.graph.db.Value list_value = 6;</code>
+       *
+       * <pre>
+       * LIST and SET
+       * </pre>
+       */
+      public Builder addListValue(
+          org.sonar.core.graph.db.GraphDb.Value.Builder builderForValue) {
+        if (listValueBuilder_ == null) {
+          ensureListValueIsMutable();
+          listValue_.add(builderForValue.build());
+          onChanged();
+        } else {
+          listValueBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .org.sonar.core.graph.db.Value list_value = 6;</code>
+       *
+       * <pre>
+       * LIST and SET
+       * </pre>
+       */
+      public Builder addListValue(
+          int index, org.sonar.core.graph.db.GraphDb.Value.Builder builderForValue) {
+        if (listValueBuilder_ == null) {
+          ensureListValueIsMutable();
+          listValue_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          listValueBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .org.sonar.core.graph.db.Value list_value = 6;</code>
+       *
+       * <pre>
+       * LIST and SET
+       * </pre>
+       */
+      public Builder addAllListValue(
+          java.lang.Iterable<? extends org.sonar.core.graph.db.GraphDb.Value> values) {
+        if (listValueBuilder_ == null) {
+          ensureListValueIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, listValue_);
+          onChanged();
+        } else {
+          listValueBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .org.sonar.core.graph.db.Value list_value = 6;</code>
+       *
+       * <pre>
+       * LIST and SET
+       * </pre>
+       */
+      public Builder clearListValue() {
+        if (listValueBuilder_ == null) {
+          listValue_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000020);
+          onChanged();
+        } else {
+          listValueBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .org.sonar.core.graph.db.Value list_value = 6;</code>
+       *
+       * <pre>
+       * LIST and SET
+       * </pre>
+       */
+      public Builder removeListValue(int index) {
+        if (listValueBuilder_ == null) {
+          ensureListValueIsMutable();
+          listValue_.remove(index);
+          onChanged();
+        } else {
+          listValueBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .org.sonar.core.graph.db.Value list_value = 6;</code>
+       *
+       * <pre>
+       * LIST and SET
+       * </pre>
+       */
+      public org.sonar.core.graph.db.GraphDb.Value.Builder getListValueBuilder(
+          int index) {
+        return getListValueFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .org.sonar.core.graph.db.Value list_value = 6;</code>
+       *
+       * <pre>
+       * LIST and SET
+       * </pre>
+       */
+      public org.sonar.core.graph.db.GraphDb.ValueOrBuilder getListValueOrBuilder(
+          int index) {
+        if (listValueBuilder_ == null) {
+          return listValue_.get(index);  } else {
+          return listValueBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .org.sonar.core.graph.db.Value list_value = 6;</code>
+       *
+       * <pre>
+       * LIST and SET
+       * </pre>
+       */
+      public java.util.List<? extends org.sonar.core.graph.db.GraphDb.ValueOrBuilder> 
+           getListValueOrBuilderList() {
+        if (listValueBuilder_ != null) {
+          return listValueBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(listValue_);
+        }
+      }
+      /**
+       * <code>repeated .org.sonar.core.graph.db.Value list_value = 6;</code>
+       *
+       * <pre>
+       * LIST and SET
+       * </pre>
+       */
+      public org.sonar.core.graph.db.GraphDb.Value.Builder addListValueBuilder() {
+        return getListValueFieldBuilder().addBuilder(
+            org.sonar.core.graph.db.GraphDb.Value.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .org.sonar.core.graph.db.Value list_value = 6;</code>
+       *
+       * <pre>
+       * LIST and SET
+       * </pre>
+       */
+      public org.sonar.core.graph.db.GraphDb.Value.Builder addListValueBuilder(
+          int index) {
+        return getListValueFieldBuilder().addBuilder(
+            index, org.sonar.core.graph.db.GraphDb.Value.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .org.sonar.core.graph.db.Value list_value = 6;</code>
+       *
+       * <pre>
+       * LIST and SET
+       * </pre>
+       */
+      public java.util.List<org.sonar.core.graph.db.GraphDb.Value.Builder> 
+           getListValueBuilderList() {
+        return getListValueFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          org.sonar.core.graph.db.GraphDb.Value, org.sonar.core.graph.db.GraphDb.Value.Builder, org.sonar.core.graph.db.GraphDb.ValueOrBuilder> 
+          getListValueFieldBuilder() {
+        if (listValueBuilder_ == null) {
+          listValueBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              org.sonar.core.graph.db.GraphDb.Value, org.sonar.core.graph.db.GraphDb.Value.Builder, org.sonar.core.graph.db.GraphDb.ValueOrBuilder>(
+                  listValue_,
+                  ((bitField0_ & 0x00000020) == 0x00000020),
+                  getParentForChildren(),
+                  isClean());
+          listValue_ = null;
+        }
+        return listValueBuilder_;
+      }
+
+      private java.util.List<org.sonar.core.graph.db.GraphDb.Property> mapValue_ =
+        java.util.Collections.emptyList();
+      private void ensureMapValueIsMutable() {
+        if (!((bitField0_ & 0x00000040) == 0x00000040)) {
+          mapValue_ = new java.util.ArrayList<org.sonar.core.graph.db.GraphDb.Property>(mapValue_);
+          bitField0_ |= 0x00000040;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilder<
+          org.sonar.core.graph.db.GraphDb.Property, org.sonar.core.graph.db.GraphDb.Property.Builder, org.sonar.core.graph.db.GraphDb.PropertyOrBuilder> mapValueBuilder_;
+
+      /**
+       * <code>repeated .org.sonar.core.graph.db.Property map_value = 7;</code>
+       */
+      public java.util.List<org.sonar.core.graph.db.GraphDb.Property> getMapValueList() {
+        if (mapValueBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(mapValue_);
+        } else {
+          return mapValueBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .org.sonar.core.graph.db.Property map_value = 7;</code>
+       */
+      public int getMapValueCount() {
+        if (mapValueBuilder_ == null) {
+          return mapValue_.size();
+        } else {
+          return mapValueBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .org.sonar.core.graph.db.Property map_value = 7;</code>
+       */
+      public org.sonar.core.graph.db.GraphDb.Property getMapValue(int index) {
+        if (mapValueBuilder_ == null) {
+          return mapValue_.get(index);
+        } else {
+          return mapValueBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .org.sonar.core.graph.db.Property map_value = 7;</code>
+       */
+      public Builder setMapValue(
+          int index, org.sonar.core.graph.db.GraphDb.Property value) {
+        if (mapValueBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureMapValueIsMutable();
+          mapValue_.set(index, value);
+          onChanged();
+        } else {
+          mapValueBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .org.sonar.core.graph.db.Property map_value = 7;</code>
+       */
+      public Builder setMapValue(
+          int index, org.sonar.core.graph.db.GraphDb.Property.Builder builderForValue) {
+        if (mapValueBuilder_ == null) {
+          ensureMapValueIsMutable();
+          mapValue_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          mapValueBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .org.sonar.core.graph.db.Property map_value = 7;</code>
+       */
+      public Builder addMapValue(org.sonar.core.graph.db.GraphDb.Property value) {
+        if (mapValueBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureMapValueIsMutable();
+          mapValue_.add(value);
+          onChanged();
+        } else {
+          mapValueBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .org.sonar.core.graph.db.Property map_value = 7;</code>
+       */
+      public Builder addMapValue(
+          int index, org.sonar.core.graph.db.GraphDb.Property value) {
+        if (mapValueBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureMapValueIsMutable();
+          mapValue_.add(index, value);
+          onChanged();
+        } else {
+          mapValueBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .org.sonar.core.graph.db.Property map_value = 7;</code>
+       */
+      public Builder addMapValue(
+          org.sonar.core.graph.db.GraphDb.Property.Builder builderForValue) {
+        if (mapValueBuilder_ == null) {
+          ensureMapValueIsMutable();
+          mapValue_.add(builderForValue.build());
+          onChanged();
+        } else {
+          mapValueBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .org.sonar.core.graph.db.Property map_value = 7;</code>
+       */
+      public Builder addMapValue(
+          int index, org.sonar.core.graph.db.GraphDb.Property.Builder builderForValue) {
+        if (mapValueBuilder_ == null) {
+          ensureMapValueIsMutable();
+          mapValue_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          mapValueBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .org.sonar.core.graph.db.Property map_value = 7;</code>
+       */
+      public Builder addAllMapValue(
+          java.lang.Iterable<? extends org.sonar.core.graph.db.GraphDb.Property> values) {
+        if (mapValueBuilder_ == null) {
+          ensureMapValueIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, mapValue_);
+          onChanged();
+        } else {
+          mapValueBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .org.sonar.core.graph.db.Property map_value = 7;</code>
+       */
+      public Builder clearMapValue() {
+        if (mapValueBuilder_ == null) {
+          mapValue_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000040);
+          onChanged();
+        } else {
+          mapValueBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .org.sonar.core.graph.db.Property map_value = 7;</code>
+       */
+      public Builder removeMapValue(int index) {
+        if (mapValueBuilder_ == null) {
+          ensureMapValueIsMutable();
+          mapValue_.remove(index);
+          onChanged();
+        } else {
+          mapValueBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .org.sonar.core.graph.db.Property map_value = 7;</code>
+       */
+      public org.sonar.core.graph.db.GraphDb.Property.Builder getMapValueBuilder(
+          int index) {
+        return getMapValueFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .org.sonar.core.graph.db.Property map_value = 7;</code>
+       */
+      public org.sonar.core.graph.db.GraphDb.PropertyOrBuilder getMapValueOrBuilder(
+          int index) {
+        if (mapValueBuilder_ == null) {
+          return mapValue_.get(index);  } else {
+          return mapValueBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .org.sonar.core.graph.db.Property map_value = 7;</code>
+       */
+      public java.util.List<? extends org.sonar.core.graph.db.GraphDb.PropertyOrBuilder> 
+           getMapValueOrBuilderList() {
+        if (mapValueBuilder_ != null) {
+          return mapValueBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(mapValue_);
+        }
+      }
+      /**
+       * <code>repeated .org.sonar.core.graph.db.Property map_value = 7;</code>
+       */
+      public org.sonar.core.graph.db.GraphDb.Property.Builder addMapValueBuilder() {
+        return getMapValueFieldBuilder().addBuilder(
+            org.sonar.core.graph.db.GraphDb.Property.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .org.sonar.core.graph.db.Property map_value = 7;</code>
+       */
+      public org.sonar.core.graph.db.GraphDb.Property.Builder addMapValueBuilder(
+          int index) {
+        return getMapValueFieldBuilder().addBuilder(
+            index, org.sonar.core.graph.db.GraphDb.Property.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .org.sonar.core.graph.db.Property map_value = 7;</code>
+       */
+      public java.util.List<org.sonar.core.graph.db.GraphDb.Property.Builder> 
+           getMapValueBuilderList() {
+        return getMapValueFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          org.sonar.core.graph.db.GraphDb.Property, org.sonar.core.graph.db.GraphDb.Property.Builder, org.sonar.core.graph.db.GraphDb.PropertyOrBuilder> 
+          getMapValueFieldBuilder() {
+        if (mapValueBuilder_ == null) {
+          mapValueBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              org.sonar.core.graph.db.GraphDb.Property, org.sonar.core.graph.db.GraphDb.Property.Builder, org.sonar.core.graph.db.GraphDb.PropertyOrBuilder>(
+                  mapValue_,
+                  ((bitField0_ & 0x00000040) == 0x00000040),
+                  getParentForChildren(),
+                  isClean());
+          mapValue_ = null;
+        }
+        return mapValueBuilder_;
+      }
+
+      // @@protoc_insertion_point(builder_scope:org.sonar.core.graph.db.Value)
+    }
+
+    static {
+      defaultInstance = new Value(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:org.sonar.core.graph.db.Value)
+  }
+
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_org_sonar_core_graph_db_Graph_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_org_sonar_core_graph_db_Graph_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_org_sonar_core_graph_db_Vertex_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_org_sonar_core_graph_db_Vertex_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_org_sonar_core_graph_db_Edge_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_org_sonar_core_graph_db_Edge_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_org_sonar_core_graph_db_Property_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_org_sonar_core_graph_db_Property_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_org_sonar_core_graph_db_Value_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_org_sonar_core_graph_db_Value_fieldAccessorTable;
+
+  public static com.google.protobuf.Descriptors.FileDescriptor
+      getDescriptor() {
+    return descriptor;
+  }
+  private static com.google.protobuf.Descriptors.FileDescriptor
+      descriptor;
+  static {
+    java.lang.String[] descriptorData = {
+      "\n\016graph_db.proto\022\027org.sonar.core.graph.d" +
+      "b\"y\n\005Graph\022\017\n\007strings\030\001 \003(\t\0221\n\010vertices\030" +
+      "\002 \003(\0132\037.org.sonar.core.graph.db.Vertex\022," +
+      "\n\005edges\030\003 \003(\0132\035.org.sonar.core.graph.db." +
+      "Edge\"K\n\006Vertex\022\n\n\002id\030\001 \001(\005\0225\n\nproperties" +
+      "\030\002 \003(\0132!.org.sonar.core.graph.db.Propert" +
+      "y\"\177\n\004Edge\022\n\n\002id\030\001 \001(\005\022\r\n\005label\030\002 \001(\005\022\022\n\n" +
+      "out_vertex\030\003 \001(\005\022\021\n\tin_vertex\030\004 \001(\005\0225\n\np" +
+      "roperties\030\005 \003(\0132!.org.sonar.core.graph.d" +
+      "b.Property\"F\n\010Property\022\013\n\003key\030\001 \001(\005\022-\n\005v",
+      "alue\030\002 \001(\0132\036.org.sonar.core.graph.db.Val" +
+      "ue\"\360\002\n\005Value\0221\n\004type\030\001 \001(\0162#.org.sonar.c" +
+      "ore.graph.db.Value.Type\022\024\n\014string_value\030" +
+      "\002 \001(\005\022\025\n\rboolean_value\030\003 \001(\010\022\022\n\nlong_val" +
+      "ue\030\004 \001(\022\022\024\n\014double_value\030\005 \001(\001\0222\n\nlist_v" +
+      "alue\030\006 \003(\0132\036.org.sonar.core.graph.db.Val" +
+      "ue\0224\n\tmap_value\030\007 \003(\0132!.org.sonar.core.g" +
+      "raph.db.Property\"s\n\004Type\022\n\n\006STRING\020\000\022\010\n\004" +
+      "NULL\020\001\022\013\n\007BOOLEAN\020\002\022\013\n\007INTEGER\020\003\022\010\n\004LONG" +
+      "\020\004\022\t\n\005FLOAT\020\005\022\n\n\006DOUBLE\020\006\022\010\n\004LIST\020\007\022\007\n\003M",
+      "AP\020\010\022\007\n\003SET\020\tB\002H\001"
+    };
+    com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner assigner =
+        new com.google.protobuf.Descriptors.FileDescriptor.    InternalDescriptorAssigner() {
+          public com.google.protobuf.ExtensionRegistry assignDescriptors(
+              com.google.protobuf.Descriptors.FileDescriptor root) {
+            descriptor = root;
+            return null;
+          }
+        };
+    com.google.protobuf.Descriptors.FileDescriptor
+      .internalBuildGeneratedFileFrom(descriptorData,
+        new com.google.protobuf.Descriptors.FileDescriptor[] {
+        }, assigner);
+    internal_static_org_sonar_core_graph_db_Graph_descriptor =
+      getDescriptor().getMessageTypes().get(0);
+    internal_static_org_sonar_core_graph_db_Graph_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_org_sonar_core_graph_db_Graph_descriptor,
+        new java.lang.String[] { "Strings", "Vertices", "Edges", });
+    internal_static_org_sonar_core_graph_db_Vertex_descriptor =
+      getDescriptor().getMessageTypes().get(1);
+    internal_static_org_sonar_core_graph_db_Vertex_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_org_sonar_core_graph_db_Vertex_descriptor,
+        new java.lang.String[] { "Id", "Properties", });
+    internal_static_org_sonar_core_graph_db_Edge_descriptor =
+      getDescriptor().getMessageTypes().get(2);
+    internal_static_org_sonar_core_graph_db_Edge_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_org_sonar_core_graph_db_Edge_descriptor,
+        new java.lang.String[] { "Id", "Label", "OutVertex", "InVertex", "Properties", });
+    internal_static_org_sonar_core_graph_db_Property_descriptor =
+      getDescriptor().getMessageTypes().get(3);
+    internal_static_org_sonar_core_graph_db_Property_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_org_sonar_core_graph_db_Property_descriptor,
+        new java.lang.String[] { "Key", "Value", });
+    internal_static_org_sonar_core_graph_db_Value_descriptor =
+      getDescriptor().getMessageTypes().get(4);
+    internal_static_org_sonar_core_graph_db_Value_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_org_sonar_core_graph_db_Value_descriptor,
+        new java.lang.String[] { "Type", "StringValue", "BooleanValue", "LongValue", "DoubleValue", "ListValue", "MapValue", });
+  }
+
+  // @@protoc_insertion_point(outer_class_scope)
+}
@@ -20,10 +20,14 @@
 package org.sonar.batch.protocol.input;
 
 import org.sonar.batch.protocol.GsonHelper;
+import org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesEntry;
 
 import javax.annotation.CheckForNull;
 import javax.annotation.Nullable;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.*;
 
 /**
@@ -115,4 +119,132 @@ public class ProjectRepositories {
     return GsonHelper.create().fromJson(json, ProjectRepositories.class);
   }
 
+  /**
+   * Writes a sequence of delimited {@link ProjectRepositoriesEntry}, so that data can be read
+   * entry by entry with {@link #parseDelimitedFrom(InputStream)}.
+   */
+  public void writeDelimitedTo(OutputStream output) throws IOException {
+    ProjectRepositoriesEntry.Builder entry = ProjectRepositoriesEntry.newBuilder();
+    ProjectRepositoriesEntry.Header.Builder header = entry.getHeaderBuilder().setTimestamp(timestamp);
+    if (lastAnalysisDate != null) {
+      header.setLastAnalysisDate(lastAnalysisDate.getTime());
+    }
+    entry.build().writeDelimitedTo(output);
+
+    for (QProfile qProfile : qprofilesByLanguage.values()) {
+      entry.clear().getQprofileBuilder()
+        .setKey(qProfile.key())
+        .setName(qProfile.name())
+        .setLanguage(qProfile.language())
+        .setRulesUpdatedAt(qProfile.rulesUpdatedAt().getTime());
+      entry.build().writeDelimitedTo(output);
+    }
+
+    for (ActiveRule activeRule : activeRules) {
+      writeActiveRule(entry.clear().getActiveRuleBuilder(), activeRule);
+      entry.build().writeDelimitedTo(output);
+    }
+
+    for (Map.Entry<String, Map<String, String>> moduleSettings : settingsByModule.entrySet()) {
+      ProjectRepositoriesEntry.ModuleSettings.Builder settings = entry.clear().getModuleSettingsBuilder().setModuleKey(moduleSettings.getKey());
+      for (Map.Entry<String, String> property : moduleSettings.getValue().entrySet()) {
+        settings.addPropertyBuilder().setKey(property.getKey()).setValue(property.getValue());
+      }
+      entry.build().writeDelimitedTo(output);
+    }
+
+    for (Map.Entry<String, Map<String, FileData>> moduleFileData : fileDataByModuleAndPath.entrySet()) {
+      for (Map.Entry<String, FileData> fileData : moduleFileData.getValue().entrySet()) {
+        writeFileData(entry.clear().getFileDataBuilder().setModuleKey(moduleFileData.getKey()).setPath(fileData.getKey()), fileData.getValue());
+        entry.build().writeDelimitedTo(output);
+      }
+    }
+  }
+
+  private static void writeActiveRule(ProjectRepositoriesEntry.ActiveRule.Builder builder, ActiveRule activeRule) {
+    builder.setRepositoryKey(activeRule.repositoryKey())
+      .setRuleKey(activeRule.ruleKey())
+      .setName(activeRule.name());
+    if (activeRule.templateRuleKey() != null) {
+      builder.setTemplateRuleKey(activeRule.templateRuleKey());
+    }
+    if (activeRule.severity() != null) {
+      builder.setSeverity(activeRule.severity());
+    }
+    if (activeRule.internalKey() != null) {
+      builder.setInternalKey(activeRule.internalKey());
+    }
+    if (activeRule.language() != null) {
+      builder.setLanguage(activeRule.language());
+    }
+    for (Map.Entry<String, String> param : activeRule.params().entrySet()) {
+      builder.addParamBuilder().setKey(param.getKey()).setValue(param.getValue());
+    }
+  }
+
+  private static void writeFileData(ProjectRepositoriesEntry.FileData.Builder builder, FileData fileData) {
+    builder.setNeedBlame(fileData.needBlame());
+    if (fileData.hash() != null) {
+      builder.setHash(fileData.hash());
+    }
+    if (fileData.scmLastCommitDatetimesByLine() != null) {
+      builder.setScmLastCommitDatetimesByLine(fileData.scmLastCommitDatetimesByLine());
+    }
+    if (fileData.scmRevisionsByLine() != null) {
+      builder.setScmRevisionsByLine(fileData.scmRevisionsByLine());
+    }
+    if (fileData.scmAuthorsByLine() != null) {
+      builder.setScmAuthorsByLine(fileData.scmAuthorsByLine());
+    }
+  }
+
+  /**
+   * Reads the entries written by {@link #writeDelimitedTo(OutputStream)} one by one.
+   */
+  public static ProjectRepositories parseDelimitedFrom(InputStream input) throws IOException {
+    ProjectRepositories ref = new ProjectRepositories();
+    ProjectRepositoriesEntry entry = ProjectRepositoriesEntry.parseDelimitedFrom(input);
+    while (entry != null) {
+      if (entry.hasHeader()) {
+        ref.setTimestamp(entry.getHeader().getTimestamp());
+        ref.setLastAnalysisDate(entry.getHeader().hasLastAnalysisDate() ? new Date(entry.getHeader().getLastAnalysisDate()) : null);
+      } else if (entry.hasQprofile()) {
+        ProjectRepositoriesEntry.QProfile qProfile = entry.getQprofile();
+        ref.addQProfile(new QProfile(qProfile.getKey(), qProfile.getName(), qProfile.getLanguage(), new Date(qProfile.getRulesUpdatedAt())));
+      } else if (entry.hasActiveRule()) {
+        ref.addActiveRule(toActiveRule(entry.getActiveRule()));
+      } else if (entry.hasModuleSettings()) {
+        ProjectRepositoriesEntry.ModuleSettings settings = entry.getModuleSettings();
+        Map<String, String> properties = new HashMap<>();
+        for (ProjectRepositoriesEntry.KeyValue property : settings.getPropertyList()) {
+          properties.put(property.getKey(), property.getValue());
+        }
+        ref.addSettings(settings.getModuleKey(), properties);
+      } else if (entry.hasFileData()) {
+        ProjectRepositoriesEntry.FileData fileData = entry.getFileData();
+        ref.addFileData(fileData.getModuleKey(), fileData.getPath(), new FileData(
+          fileData.hasHash() ? fileData.getHash() : null,
+          fileData.getNeedBlame(),
+          fileData.hasScmLastCommitDatetimesByLine() ? fileData.getScmLastCommitDatetimesByLine() : null,
+          fileData.hasScmRevisionsByLine() ? fileData.getScmRevisionsByLine() : null,
+          fileData.hasScmAuthorsByLine() ? fileData.getScmAuthorsByLine() : null));
+      }
+      entry = ProjectRepositoriesEntry.parseDelimitedFrom(input);
+    }
+    return ref;
+  }
+
+  private static ActiveRule toActiveRule(ProjectRepositoriesEntry.ActiveRule rule) {
+    ActiveRule activeRule = new ActiveRule(rule.getRepositoryKey(), rule.getRuleKey(),
+      rule.hasTemplateRuleKey() ? rule.getTemplateRuleKey() : null,
+      rule.getName(),
+      rule.hasSeverity() ? rule.getSeverity() : null,
+      rule.hasInternalKey() ? rule.getInternalKey() : null,
+      rule.hasLanguage() ? rule.getLanguage() : null);
+    for (ProjectRepositoriesEntry.KeyValue param : rule.getParamList()) {
+      activeRule.addParam(param.getKey(), param.getValue());
+    }
+    return activeRule;
+  }
+
 }
@@ -19,6 +19,8 @@
  */
 package org.sonar.batch.protocol.output;
 
+import com.google.protobuf.Message;
+import com.google.protobuf.Parser;
 import org.sonar.batch.protocol.ProtobufUtil;
 import org.sonar.batch.protocol.output.BatchReport.Issues;
 
@@ -29,6 +31,7 @@ import java.util.List;
 public class BatchReportReader {
 
   private final FileStructure fileStructure;
+  private long readBytes = 0L;
 
   public BatchReportReader(File dir) {
     this.fileStructure = new FileStructure(dir);
@@ -39,7 +42,7 @@ public class BatchReportReader {
     if (!file.exists() || !file.isFile()) {
       throw new IllegalStateException("Metadata file is missing in analysis report: " + file);
     }
-    return ProtobufUtil.readFile(file, BatchReport.Metadata.PARSER);
+    return read(file, BatchReport.Metadata.PARSER);
   }
 
   public BatchReport.Component readComponent(int componentRef) {
@@ -47,14 +50,14 @@ public class BatchReportReader {
     if (!file.exists() || !file.isFile()) {
       throw new IllegalStateException("Unable to find report for component #" + componentRef + ". File does not exist: " + file);
     }
-    return ProtobufUtil.readFile(file, BatchReport.Component.PARSER);
+    return read(file, BatchReport.Component.PARSER);
   }
 
   public List<BatchReport.Issue> readComponentIssues(int componentRef) {
     File file = fileStructure.fileFor(FileStructure.Domain.ISSUES, componentRef);
     if (file.exists() && file.isFile()) {
       // all the issues are loaded in memory
-      BatchReport.Issues issues = ProtobufUtil.readFile(file, BatchReport.Issues.PARSER);
+      BatchReport.Issues issues = read(file, BatchReport.Issues.PARSER);
       return issues.getListList();
     }
     return Collections.emptyList();
@@ -66,6 +69,18 @@ public class BatchReportReader {
       throw new IllegalStateException("Unable to find report for deleted component #" + deletedComponentRef);
     }
     // all the issues are loaded in memory
-    return ProtobufUtil.readFile(file, Issues.PARSER);
+    return read(file, Issues.PARSER);
+  }
+
+  /**
+   * Total size of the files read so far by this reader, in bytes
+   */
+  public long getReadBytes() {
+    return readBytes;
+  }
+
+  private <T extends Message> T read(File file, Parser<T> parser) {
+    readBytes += file.length();
+    return ProtobufUtil.readFile(file, parser);
   }
 }
@@ -23,6 +23,8 @@ import org.json.JSONException;
 import org.junit.Test;
 import org.skyscreamer.jsonassert.JSONAssert;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.util.HashMap;
@@ -64,6 +66,44 @@ public class ProjectRepositoriesTest {
         ref.toJson(), true);
   }
 
+  @Test
+  public void write_and_parse_delimited_entries() throws Exception {
+    ProjectRepositories ref = new ProjectRepositories();
+    ref.addQProfile(new QProfile("squid-java", "Java", "java", new SimpleDateFormat("dd/MM/yyyy").parse("14/03/1984")));
+    HashMap<String, String> settings = new HashMap<String, String>();
+    settings.put("prop1", "value1");
+    settings.put("prop2", "value2");
+    ref.addSettings("foo", settings);
+    ActiveRule activeRule = new ActiveRule("repo", "rule", "templateRule", "Rule", "MAJOR", "rule", "java");
+    activeRule.addParam("param1", "value1");
+    ref.addActiveRule(activeRule);
+    ref.addActiveRule(new ActiveRule("manual", "manualRule", null, "Manual Rule", null, null, null));
+    ref.setLastAnalysisDate(new SimpleDateFormat("dd/MM/yyyy").parse("31/10/2014"));
+    ref.setTimestamp(10);
+    ref.addFileData("foo", "src/main/java/Foo.java", new FileData("xyz", true, "1=12345,2=3456", "1=345,2=345", "1=henryju,2=gaudin"));
+    ref.addFileData("bar", "src/main/java/Foo2.java", new FileData(null, false, null, null, null));
+
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    ref.writeDelimitedTo(output);
+    ProjectRepositories parsed = ProjectRepositories.parseDelimitedFrom(new ByteArrayInputStream(output.toByteArray()));
+
+    JSONAssert.assertEquals(ref.toJson(), parsed.toJson(), true);
+    assertThat(parsed.fileData("bar", "src/main/java/Foo2.java").hash()).isNull();
+  }
+
+  @Test
+  public void parse_delimited_entries_without_analysis() throws Exception {
+    ProjectRepositories ref = new ProjectRepositories();
+
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    ref.writeDelimitedTo(output);
+    ProjectRepositories parsed = ProjectRepositories.parseDelimitedFrom(new ByteArrayInputStream(output.toByteArray()));
+
+    assertThat(parsed.lastAnalysisDate()).isNull();
+    assertThat(parsed.qProfiles()).isEmpty();
+    assertThat(parsed.activeRules()).isEmpty();
+  }
+
   @Test
   public void testFromJson() throws JSONException, ParseException {
     ProjectRepositories ref = ProjectRepositories
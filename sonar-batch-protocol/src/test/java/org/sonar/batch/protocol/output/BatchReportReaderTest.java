@@ -53,6 +53,28 @@ public class BatchReportReaderTest {
     assertThat(deletedComponentIssues.getListList()).hasSize(1);
   }
 
+  @Test
+  public void count_read_bytes() throws Exception {
+    File dir = temp.newFolder();
+    initFiles(dir);
+
+    BatchReportReader reader = new BatchReportReader(dir);
+    assertThat(reader.getReadBytes()).isEqualTo(0L);
+
+    reader.readMetadata();
+    long metadataSize = new FileStructure(dir).metadataFile().length();
+    assertThat(metadataSize).isGreaterThan(0L);
+    assertThat(reader.getReadBytes()).isEqualTo(metadataSize);
+
+    reader.readComponent(1);
+    long componentSize = new FileStructure(dir).fileFor(FileStructure.Domain.COMPONENT, 1).length();
+    assertThat(reader.getReadBytes()).isEqualTo(metadataSize + componentSize);
+
+    // no file -> nothing is read
+    reader.readComponentIssues(200);
+    assertThat(reader.getReadBytes()).isEqualTo(metadataSize + componentSize);
+  }
+
   @Test(expected = IllegalStateException.class)
   public void fail_if_missing_metadata_file() throws Exception {
     File dir = temp.newFolder();
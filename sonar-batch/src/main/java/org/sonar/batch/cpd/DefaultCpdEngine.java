@@ -35,6 +35,7 @@ import org.sonar.api.batch.sensor.SensorContext;
 import org.sonar.api.config.Settings;
 import org.sonar.api.resources.Project;
 import org.sonar.api.utils.SonarException;
+import org.sonar.batch.cpd.index.BlockCache;
 import org.sonar.batch.cpd.index.IndexFactory;
 import org.sonar.batch.cpd.index.SonarDuplicationsIndex;
 import org.sonar.duplications.DuplicationPredicates;
@@ -141,13 +142,22 @@ public class DefaultCpdEngine extends CpdEngine {
   }
 
   private void populateIndex(String languageKey, List<InputFile> sourceFiles, CpdMapping mapping, SonarDuplicationsIndex index) {
-    TokenizerBridge bridge = new TokenizerBridge(mapping.getTokenizer(), fs.encoding().name(), getBlockSize(languageKey));
+    int blockSize = getBlockSize(languageKey);
+    TokenizerBridge bridge = new TokenizerBridge(mapping.getTokenizer(), fs.encoding().name(), blockSize);
+    BlockCache blockCache = indexFactory.createBlockCache(fs.workDir(), languageKey, mapping.getTokenizer().getClass(), blockSize, fs.encoding());
     for (InputFile inputFile : sourceFiles) {
-      LOG.debug("Populating index from {}", inputFile);
-      String resourceEffectiveKey = ((DeprecatedDefaultInputFile) inputFile).key();
-      List<Block> blocks2 = bridge.chunk(resourceEffectiveKey, inputFile.file());
-      index.insert(inputFile, blocks2);
+      List<Block> blocks = blockCache.get(inputFile);
+      if (blocks == null) {
+        LOG.debug("Populating index from {}", inputFile);
+        String resourceEffectiveKey = ((DeprecatedDefaultInputFile) inputFile).key();
+        blocks = bridge.chunk(resourceEffectiveKey, inputFile.file());
+        blockCache.put(inputFile, blocks);
+      } else {
+        LOG.debug("Populating index from persisted blocks of {}", inputFile);
+      }
+      index.insert(inputFile, blocks);
     }
+    blockCache.save();
   }
 
   @VisibleForTesting
@@ -39,6 +39,7 @@ import org.sonar.api.measures.CoreMetrics;
 import org.sonar.api.resources.Project;
 import org.sonar.api.utils.KeyValueFormat;
 import org.sonar.api.utils.SonarException;
+import org.sonar.batch.cpd.index.BlockCache;
 import org.sonar.batch.cpd.index.IndexFactory;
 import org.sonar.batch.cpd.index.SonarDuplicationsIndex;
 import org.sonar.duplications.block.Block;
@@ -47,11 +48,8 @@ import org.sonar.duplications.detector.suffixtree.SuffixTreeCloneDetectionAlgori
 import org.sonar.duplications.index.CloneGroup;
 import org.sonar.duplications.index.CloneIndex;
 import org.sonar.duplications.index.ClonePart;
-import org.sonar.duplications.java.JavaStatementBuilder;
-import org.sonar.duplications.java.JavaTokenProducer;
+import org.sonar.duplications.java.JavaStatementChunker;
 import org.sonar.duplications.statement.Statement;
-import org.sonar.duplications.statement.StatementChunker;
-import org.sonar.duplications.token.TokenChunker;
 
 import javax.annotation.Nullable;
 
@@ -126,34 +124,45 @@ public class JavaCpdEngine extends CpdEngine {
 
   private SonarDuplicationsIndex createIndex(@Nullable Project project, String language, Iterable<InputFile> sourceFiles) {
     final SonarDuplicationsIndex index = indexFactory.create(project, language);
+    BlockCache blockCache = indexFactory.createBlockCache(fs.workDir(), language, JavaStatementChunker.class, BLOCK_SIZE, fs.encoding());
 
-    TokenChunker tokenChunker = JavaTokenProducer.build();
-    StatementChunker statementChunker = JavaStatementBuilder.build();
+    JavaStatementChunker statementChunker = new JavaStatementChunker();
     BlockChunker blockChunker = new BlockChunker(BLOCK_SIZE);
 
     for (InputFile inputFile : sourceFiles) {
-      LOG.debug("Populating index from {}", inputFile);
-      String resourceEffectiveKey = ((DeprecatedDefaultInputFile) inputFile).key();
-
-      List<Statement> statements;
-
-      Reader reader = null;
-      try {
-        reader = new InputStreamReader(new FileInputStream(inputFile.file()), fs.encoding());
-        statements = statementChunker.chunk(tokenChunker.chunk(reader));
-      } catch (FileNotFoundException e) {
-        throw new SonarException("Cannot find file " + inputFile.file(), e);
-      } finally {
-        IOUtils.closeQuietly(reader);
+      List<Block> blocks = blockCache.get(inputFile);
+      if (blocks == null) {
+        LOG.debug("Populating index from {}", inputFile);
+        blocks = chunk(inputFile, statementChunker, blockChunker);
+        blockCache.put(inputFile, blocks);
+      } else {
+        LOG.debug("Populating index from persisted blocks of {}", inputFile);
       }
-
-      List<Block> blocks = blockChunker.chunk(resourceEffectiveKey, statements);
       index.insert(inputFile, blocks);
     }
+    blockCache.save();
 
     return index;
   }
 
+  private List<Block> chunk(InputFile inputFile, JavaStatementChunker statementChunker, BlockChunker blockChunker) {
+    String resourceEffectiveKey = ((DeprecatedDefaultInputFile) inputFile).key();
+
+    List<Statement> statements;
+
+    Reader reader = null;
+    try {
+      reader = new InputStreamReader(new FileInputStream(inputFile.file()), fs.encoding());
+      statements = statementChunker.chunk(reader);
+    } catch (FileNotFoundException e) {
+      throw new SonarException("Cannot find file " + inputFile.file(), e);
+    } finally {
+      IOUtils.closeQuietly(reader);
+    }
+
+    return blockChunker.chunk(resourceEffectiveKey, statements);
+  }
+
   private void detect(SonarDuplicationsIndex index, org.sonar.api.batch.sensor.SensorContext context, List<InputFile> sourceFiles) {
     ExecutorService executorService = Executors.newSingleThreadExecutor();
     try {
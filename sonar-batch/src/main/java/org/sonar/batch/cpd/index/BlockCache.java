@@ -0,0 +1,230 @@
+/*
+ * SonarQube, open source software quality management tool.
+ * Copyright (C) 2008-2014 SonarSource
+ * mailto:contact AT sonarsource DOT com
+ *
+ * SonarQube is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SonarQube is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.batch.cpd.index;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.IOUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.sonar.api.batch.fs.InputFile;
+import org.sonar.api.batch.fs.internal.DefaultInputFile;
+import org.sonar.batch.scan.filesystem.InputFileMetadata;
+import org.sonar.batch.scan.filesystem.InputPathCache;
+import org.sonar.duplications.block.Block;
+import org.sonar.duplications.block.ByteArray;
+
+import javax.annotation.CheckForNull;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.CodeSource;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Blocks computed by previous analysis, persisted in the working directory and keyed by file hash, so that
+ * unchanged files do not have to be tokenized again. The signature identifies the way blocks are computed
+ * (tokenizer and its version, block size, encoding): blocks persisted with another signature are ignored.
+ * Only the blocks of the files indexed during the current analysis are kept by {@link #save()}.
+ */
+public class BlockCache {
+
+  private static final Logger LOG = LoggerFactory.getLogger(BlockCache.class);
+
+  private static final int FORMAT_VERSION = 1;
+
+  private final File file;
+  private final String signature;
+  private final InputPathCache inputPathCache;
+  private final Map<String, Entry> previousEntries;
+  private final Map<String, Entry> entries = new LinkedHashMap<>();
+
+  BlockCache(File file, String signature, InputPathCache inputPathCache) {
+    this.file = file;
+    this.signature = signature;
+    this.inputPathCache = inputPathCache;
+    this.previousEntries = load(file, signature);
+  }
+
+  /**
+   * The version of the chunker is the implementation version of its package when declared by the manifest, else
+   * the location of its jar, so that blocks are computed again when the chunker is upgraded.
+   */
+  static String signature(Class<?> chunkerClass, int blockSize, Charset encoding) {
+    String version = chunkerClass.getPackage() != null ? chunkerClass.getPackage().getImplementationVersion() : null;
+    if (version == null) {
+      CodeSource codeSource = chunkerClass.getProtectionDomain().getCodeSource();
+      version = codeSource != null && codeSource.getLocation() != null ? codeSource.getLocation().toString() : "";
+    }
+    return chunkerClass.getName() + ":" + version + ":" + blockSize + ":" + encoding;
+  }
+
+  /**
+   * @return the blocks persisted by previous analysis, or null if the file has changed since then
+   */
+  @CheckForNull
+  public List<Block> get(InputFile inputFile) {
+    String key = ((DefaultInputFile) inputFile).key();
+    String hash = hash(inputFile);
+    Entry entry = previousEntries.remove(key);
+    if (hash == null || entry == null || !hash.equals(entry.hash)) {
+      return null;
+    }
+    try {
+      List<Block> blocks = decode(key, entry.data);
+      entries.put(key, entry);
+      return blocks;
+    } catch (IOException e) {
+      LOG.debug("Fail to read persisted duplication blocks of " + inputFile, e);
+      return null;
+    }
+  }
+
+  public void put(InputFile inputFile, List<Block> blocks) {
+    String hash = hash(inputFile);
+    if (hash != null) {
+      entries.put(((DefaultInputFile) inputFile).key(), new Entry(hash, encode(blocks)));
+    }
+  }
+
+  public void save() {
+    File tmpFile = new File(file.getParentFile(), file.getName() + ".tmp");
+    DataOutputStream output = null;
+    try {
+      FileUtils.forceMkdir(file.getParentFile());
+      output = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tmpFile)));
+      output.writeInt(FORMAT_VERSION);
+      output.writeUTF(signature);
+      output.writeInt(entries.size());
+      for (Map.Entry<String, Entry> entry : entries.entrySet()) {
+        output.writeUTF(entry.getKey());
+        output.writeUTF(entry.getValue().hash);
+        output.writeInt(entry.getValue().data.length);
+        output.write(entry.getValue().data);
+      }
+      output.close();
+      Files.move(tmpFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+    } catch (IOException e) {
+      LOG.warn("Fail to persist duplication blocks to " + file, e);
+    } finally {
+      IOUtils.closeQuietly(output);
+      FileUtils.deleteQuietly(tmpFile);
+    }
+  }
+
+  @CheckForNull
+  private String hash(InputFile inputFile) {
+    InputFileMetadata metadata = inputPathCache.getFileMetadata(((DefaultInputFile) inputFile).moduleKey(), inputFile.relativePath());
+    return metadata != null ? metadata.hash() : null;
+  }
+
+  private static Map<String, Entry> load(File file, String signature) {
+    if (!file.isFile()) {
+      return Collections.emptyMap();
+    }
+    DataInputStream input = null;
+    try {
+      input = new DataInputStream(new BufferedInputStream(new FileInputStream(file)));
+      if (input.readInt() != FORMAT_VERSION || !signature.equals(input.readUTF())) {
+        return Collections.emptyMap();
+      }
+      int count = input.readInt();
+      Map<String, Entry> result = new HashMap<>(count * 2);
+      for (int i = 0; i < count; i++) {
+        String key = input.readUTF();
+        String hash = input.readUTF();
+        byte[] data = new byte[input.readInt()];
+        input.readFully(data);
+        result.put(key, new Entry(hash, data));
+      }
+      return result;
+    } catch (IOException e) {
+      LOG.debug("Fail to read persisted duplication blocks from " + file, e);
+      return Collections.emptyMap();
+    } finally {
+      IOUtils.closeQuietly(input);
+    }
+  }
+
+  private static byte[] encode(List<Block> blocks) {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream(blocks.size() * 32);
+    DataOutputStream output = new DataOutputStream(bytes);
+    try {
+      output.writeInt(blocks.size());
+      for (Block block : blocks) {
+        byte[] blockHash = block.getBlockHash().getBytes();
+        output.writeShort(blockHash.length);
+        output.write(blockHash);
+        output.writeInt(block.getIndexInFile());
+        output.writeInt(block.getStartLine());
+        output.writeInt(block.getEndLine());
+        output.writeInt(block.getStartUnit());
+        output.writeInt(block.getEndUnit());
+      }
+    } catch (IOException e) {
+      // not possible when writing to memory
+      throw new IllegalStateException("Fail to encode duplication blocks", e);
+    }
+    return bytes.toByteArray();
+  }
+
+  private static List<Block> decode(String resourceId, byte[] data) throws IOException {
+    DataInputStream input = new DataInputStream(new ByteArrayInputStream(data));
+    int count = input.readInt();
+    List<Block> blocks = new ArrayList<>(count);
+    Block.Builder builder = Block.builder().setResourceId(resourceId);
+    for (int i = 0; i < count; i++) {
+      byte[] blockHash = new byte[input.readUnsignedShort()];
+      input.readFully(blockHash);
+      blocks.add(builder
+        .setBlockHash(new ByteArray(blockHash))
+        .setIndexInFile(input.readInt())
+        .setLines(input.readInt(), input.readInt())
+        .setUnit(input.readInt(), input.readInt())
+        .build());
+    }
+    return blocks;
+  }
+
+  private static class Entry {
+    private final String hash;
+    private final byte[] data;
+
+    Entry(String hash, byte[] data) {
+      this.hash = hash;
+      this.data = data;
+    }
+  }
+}
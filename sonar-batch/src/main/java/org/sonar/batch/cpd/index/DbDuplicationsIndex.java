@@ -21,6 +21,8 @@ package org.sonar.batch.cpd.index;
 
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
+import org.apache.ibatis.session.ResultContext;
+import org.apache.ibatis.session.ResultHandler;
 import org.sonar.api.batch.fs.InputFile;
 import org.sonar.api.batch.fs.internal.DefaultInputFile;
 import org.sonar.api.database.DatabaseSession;
@@ -31,6 +33,7 @@ import org.sonar.core.duplication.DuplicationDao;
 import org.sonar.core.duplication.DuplicationUnitDto;
 import org.sonar.duplications.block.Block;
 import org.sonar.duplications.block.ByteArray;
+import org.sonar.duplications.index.PackedMemoryCloneIndex;
 
 import javax.persistence.Query;
 
@@ -44,7 +47,18 @@ public class DbDuplicationsIndex {
   private static final String RESOURCE_ID = "resourceId";
   private static final String LAST = "last";
 
-  private final Map<ByteArray, Collection<Block>> cache = Maps.newHashMap();
+  /**
+   * Size of block hashes produced by {@link org.sonar.duplications.block.BlockChunker}, as hexadecimal string
+   */
+  private static final int HASH_LENGTH = 16;
+
+  /**
+   * Number of units kept in memory before being flushed to database
+   */
+  static final int INSERT_BUFFER_SIZE = 1000;
+
+  private final List<DuplicationUnitDto> unitsToInsert = Lists.newArrayList();
+  private PackedMemoryCloneIndex candidates;
 
   private final int currentProjectSnapshotId;
   private final Integer lastSnapshotId;
@@ -76,62 +90,74 @@ public class DbDuplicationsIndex {
     return resourceCache.get(((DefaultInputFile) inputFile).key()).snapshotId();
   }
 
-  public void prepareCache(InputFile inputFile) {
-    int resourceSnapshotId = getSnapshotIdFor(inputFile);
-    List<DuplicationUnitDto> units = dao.selectCandidates(resourceSnapshotId, lastSnapshotId, languageKey);
-    cache.clear();
-    // TODO Godin: maybe remove conversion of units to blocks?
-    for (DuplicationUnitDto unit : units) {
-      String hash = unit.getHash();
-      String resourceKey = unit.getResourceKey();
-      int indexInFile = unit.getIndexInFile();
-      int startLine = unit.getStartLine();
-      int endLine = unit.getEndLine();
-
-      // TODO Godin: in fact we could work directly with id instead of key - this will allow to decrease memory consumption
-      Block block = Block.builder()
-        .setResourceId(resourceKey)
-        .setBlockHash(new ByteArray(hash))
-        .setIndexInFile(indexInFile)
-        .setLines(startLine, endLine)
-        .build();
-
-      // Group blocks by hash
-      Collection<Block> sameHash = cache.get(block.getBlockHash());
-      if (sameHash == null) {
-        sameHash = Lists.newArrayList();
-        cache.put(block.getBlockHash(), sameHash);
-      }
-      sameHash.add(block);
+  /**
+   * Loads candidates of all the blocks inserted so far in a single query. Should be called once all
+   * the files of the module have been inserted. Next calls are no-op until new blocks are inserted.
+   */
+  public void prepareCache() {
+    if (candidates != null) {
+      return;
     }
+    flush();
+    final PackedMemoryCloneIndex index = new PackedMemoryCloneIndex();
+    final Map<String, String> resourceKeys = Maps.newHashMap();
+    final Block.Builder blockBuilder = Block.builder();
+    dao.selectCandidatesOfProject(currentProjectSnapshotId, lastSnapshotId, languageKey, new ResultHandler() {
+      @Override
+      public void handleResult(ResultContext context) {
+        DuplicationUnitDto unit = (DuplicationUnitDto) context.getResultObject();
+        if (unit.getHash().length() != HASH_LENGTH) {
+          // not produced by the current block chunker, can't be stored in packed index
+          return;
+        }
+        // share instances of keys between blocks of the same resource
+        String resourceKey = resourceKeys.get(unit.getResourceKey());
+        if (resourceKey == null) {
+          resourceKey = unit.getResourceKey();
+          resourceKeys.put(resourceKey, resourceKey);
+        }
+        index.insert(blockBuilder
+          .setResourceId(resourceKey)
+          .setBlockHash(new ByteArray(unit.getHash()))
+          .setIndexInFile(unit.getIndexInFile())
+          .setLines(unit.getStartLine(), unit.getEndLine())
+          .build());
+      }
+    });
+    candidates = index;
   }
 
   public Collection<Block> getByHash(ByteArray hash) {
-    Collection<Block> result = cache.get(hash);
-    if (result != null) {
-      return result;
-    } else {
+    if (candidates == null) {
       return Collections.emptyList();
     }
+    return candidates.getBySequenceHash(hash);
   }
 
   public void insert(InputFile inputFile, Collection<Block> blocks) {
     int resourceSnapshotId = getSnapshotIdFor(inputFile);
 
-    // TODO Godin: maybe remove conversion of blocks to units?
-    List<DuplicationUnitDto> units = Lists.newArrayList();
     for (Block block : blocks) {
-      DuplicationUnitDto unit = new DuplicationUnitDto(
+      unitsToInsert.add(new DuplicationUnitDto(
         currentProjectSnapshotId,
         resourceSnapshotId,
         block.getBlockHash().toString(),
         block.getIndexInFile(),
         block.getStartLine(),
-        block.getEndLine());
-      units.add(unit);
+        block.getEndLine()));
+    }
+    if (unitsToInsert.size() >= INSERT_BUFFER_SIZE) {
+      flush();
     }
+    // candidates must be reloaded to take into account new blocks
+    candidates = null;
+  }
 
-    dao.insert(units);
+  private void flush() {
+    if (!unitsToInsert.isEmpty()) {
+      dao.insert(unitsToInsert);
+      unitsToInsert.clear();
+    }
   }
 
 }
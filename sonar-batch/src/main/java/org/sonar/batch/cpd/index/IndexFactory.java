@@ -30,10 +30,14 @@ import org.sonar.api.database.DatabaseSession;
 import org.sonar.api.resources.Project;
 import org.sonar.batch.bootstrap.DefaultAnalysisMode;
 import org.sonar.batch.index.ResourceCache;
+import org.sonar.batch.scan.filesystem.InputPathCache;
 import org.sonar.core.duplication.DuplicationDao;
 
 import javax.annotation.Nullable;
 
+import java.io.File;
+import java.nio.charset.Charset;
+
 public class IndexFactory implements BatchComponent {
 
   private static final Logger LOG = LoggerFactory.getLogger(IndexFactory.class);
@@ -43,20 +47,23 @@ public class IndexFactory implements BatchComponent {
   private final DefaultAnalysisMode mode;
   private final DatabaseSession session;
   private final ResourceCache resourceCache;
+  private final InputPathCache inputPathCache;
 
-  public IndexFactory(DefaultAnalysisMode mode, Settings settings, @Nullable DuplicationDao dao, @Nullable DatabaseSession session, ResourceCache resourceCache) {
+  public IndexFactory(DefaultAnalysisMode mode, Settings settings, @Nullable DuplicationDao dao, @Nullable DatabaseSession session, ResourceCache resourceCache,
+    InputPathCache inputPathCache) {
     this.mode = mode;
     this.settings = settings;
     this.dao = dao;
     this.session = session;
     this.resourceCache = resourceCache;
+    this.inputPathCache = inputPathCache;
   }
 
   /**
    * Used by new sensor mode
    */
-  public IndexFactory(DefaultAnalysisMode mode, Settings settings, ResourceCache resourceCache) {
-    this(mode, settings, null, null, resourceCache);
+  public IndexFactory(DefaultAnalysisMode mode, Settings settings, ResourceCache resourceCache, InputPathCache inputPathCache) {
+    this(mode, settings, null, null, resourceCache, inputPathCache);
   }
 
   public SonarDuplicationsIndex create(@Nullable Project project, String languageKey) {
@@ -66,6 +73,15 @@ public class IndexFactory implements BatchComponent {
     return new SonarDuplicationsIndex();
   }
 
+  /**
+   * Blocks of the language persisted in the given working directory by previous analysis.
+   * @param signature identifies the way blocks are computed, see {@link BlockCache}
+   */
+  public BlockCache createBlockCache(File workDir, String languageKey, Class<?> chunkerClass, int blockSize, Charset encoding) {
+    String signature = BlockCache.signature(chunkerClass, blockSize, encoding);
+    return new BlockCache(new File(workDir, "cpd/" + languageKey + ".blocks"), signature, inputPathCache);
+  }
+
   @VisibleForTesting
   boolean verifyCrossProject(@Nullable Project project, Logger logger) {
     boolean crossProject = false;
@@ -54,7 +54,7 @@ public class SonarDuplicationsIndex extends AbstractCloneIndex {
 
   public Collection<Block> getByInputFile(InputFile inputFile, String resourceKey) {
     if (db != null) {
-      db.prepareCache(inputFile);
+      db.prepareCache();
     }
     return mem.getByResourceId(resourceKey);
   }
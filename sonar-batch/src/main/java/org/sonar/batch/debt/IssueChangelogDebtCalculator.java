@@ -20,9 +20,6 @@
 
 package org.sonar.batch.debt;
 
-import com.google.common.base.Function;
-import com.google.common.collect.Ordering;
-import org.apache.commons.lang.time.DateUtils;
 import org.sonar.api.BatchComponent;
 import org.sonar.api.issue.Issue;
 import org.sonar.api.issue.internal.DefaultIssue;
@@ -32,7 +29,11 @@ import org.sonar.core.issue.IssueUpdater;
 import javax.annotation.CheckForNull;
 import javax.annotation.Nullable;
 
-import java.util.*;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
 
 import static com.google.common.collect.Lists.newArrayList;
 
@@ -41,97 +42,123 @@ import static com.google.common.collect.Lists.newArrayList;
  */
 public class IssueChangelogDebtCalculator implements BatchComponent {
 
-  @CheckForNull
-  public Long calculateNewTechnicalDebt(Issue issue, @Nullable Date periodDate) {
-    Long debt = ((DefaultIssue) issue).debtInMinutes();
-    Date periodDatePlusOneSecond = periodDate != null ? DateUtils.addSeconds(periodDate, 1) : null;
-    if (isAfter(issue.creationDate(), periodDatePlusOneSecond)) {
-      return debt;
-    } else {
-      return calculateNewTechnicalDebtValueFromChangelog(debt, issue, periodDate);
-    }
-  }
-
-  @CheckForNull
-  private Long calculateNewTechnicalDebtValueFromChangelog(@Nullable Long currentTechnicalDebtValue, Issue issue, Date periodDate) {
-    List<FieldDiffs> changelog = technicalDebtHistory(issue);
-    for (Iterator<FieldDiffs> iterator = changelog.iterator(); iterator.hasNext(); ) {
-      FieldDiffs diff = iterator.next();
-      Date date = diff.creationDate();
-      if (isLesserOrEqual(date, periodDate)) {
-        // return new value from the change that is just before the period date
-        return subtractNeverNegative(currentTechnicalDebtValue, newValue(diff));
+  /**
+   * Changelog have to be sorted from newest to oldest.
+   * Null date should be the first as this happen when technical debt has changed since previous analysis.
+   */
+  private static final Comparator<FieldDiffs> NEWEST_FIRST = new Comparator<FieldDiffs>() {
+    @Override
+    public int compare(FieldDiffs d1, FieldDiffs d2) {
+      Date date1 = d1.creationDate();
+      Date date2 = d2.creationDate();
+      if (date1 == null) {
+        return date2 == null ? 0 : -1;
       }
-      if (!iterator.hasNext()) {
-        // return old value from the change that is just after the period date when there's no more element in changelog
-        return subtractNeverNegative(currentTechnicalDebtValue, oldValue(diff));
+      if (date2 == null) {
+        return 1;
       }
+      return date2.compareTo(date1);
     }
-    // Return null when no changelog
-    return null;
-  }
+  };
 
-  /**
-   * SONAR-5059
-   */
   @CheckForNull
-  private Long subtractNeverNegative(@Nullable Long value, Long with) {
-    Long result = (value != null ? value : 0) - (with != null ? with : 0);
-    return result > 0 ? result : null;
+  public Long calculateNewTechnicalDebt(Issue issue, @Nullable Date periodDate) {
+    return debtHistory(issue).newTechnicalDebt(periodDate);
   }
 
-  private List<FieldDiffs> technicalDebtHistory(Issue issue) {
-    List<FieldDiffs> technicalDebtChangelog = changesOnField(((DefaultIssue) issue).changes());
-    if (!technicalDebtChangelog.isEmpty()) {
-      // Changelog have to be sorted from newest to oldest.
-      // Null date should be the first as this happen when technical debt has changed since previous analysis.
-      Ordering<FieldDiffs> ordering = Ordering.natural().reverse().nullsFirst().onResultOf(new Function<FieldDiffs, Date>() {
-        @Override
-        public Date apply(FieldDiffs diff) {
-          return diff.creationDate();
-        }
-      });
-      return ordering.immutableSortedCopy(technicalDebtChangelog);
-    }
-    return Collections.emptyList();
+  /**
+   * Technical debt history of the issue, to be used when new technical debt has to be computed on several periods :
+   * the changelog is filtered and sorted only once.
+   */
+  public DebtHistory debtHistory(Issue issue) {
+    DefaultIssue defaultIssue = (DefaultIssue) issue;
+    return new DebtHistory(defaultIssue.debtInMinutes(), issue.creationDate(), technicalDebtHistory(defaultIssue.changes()));
   }
 
-  private List<FieldDiffs> changesOnField(Collection<FieldDiffs> fieldDiffs) {
-    List<FieldDiffs> diffs = newArrayList();
+  private static List<FieldDiffs> technicalDebtHistory(Collection<FieldDiffs> fieldDiffs) {
+    List<FieldDiffs> diffs = null;
     for (FieldDiffs fieldDiff : fieldDiffs) {
       if (fieldDiff.diffs().containsKey(IssueUpdater.TECHNICAL_DEBT)) {
+        if (diffs == null) {
+          diffs = newArrayList();
+        }
         diffs.add(fieldDiff);
       }
     }
+    if (diffs == null) {
+      return Collections.emptyList();
+    }
+    Collections.sort(diffs, NEWEST_FIRST);
     return diffs;
   }
 
-  @CheckForNull
-  private Long newValue(FieldDiffs fieldDiffs) {
-    for (Map.Entry<String, FieldDiffs.Diff> entry : fieldDiffs.diffs().entrySet()) {
-      if (entry.getKey().equals(IssueUpdater.TECHNICAL_DEBT)) {
-        return entry.getValue().newValueLong();
-      }
-    }
-    return null;
+  /**
+   * Dates are compared at the second, as milliseconds are not stored in database
+   */
+  private static long toSeconds(Date date) {
+    long time = date.getTime();
+    return time >= 0 ? (time / 1000L) : ((time - 999L) / 1000L);
   }
 
-  @CheckForNull
-  private Long oldValue(FieldDiffs fieldDiffs) {
-    for (Map.Entry<String, FieldDiffs.Diff> entry : fieldDiffs.diffs().entrySet()) {
-      if (entry.getKey().equals(IssueUpdater.TECHNICAL_DEBT)) {
-        return entry.getValue().oldValueLong();
+  public static final class DebtHistory {
+
+    private final Long debt;
+    private final Long creationSeconds;
+    // Technical debt changes, from newest to oldest. Change date is null when debt has changed since previous analysis.
+    private final Long[] changeSeconds;
+    private final Long[] newValues;
+    private final Long[] oldValues;
+
+    private DebtHistory(@Nullable Long debt, @Nullable Date creationDate, List<FieldDiffs> changelog) {
+      this.debt = debt;
+      this.creationSeconds = creationDate != null ? toSeconds(creationDate) : null;
+      int size = changelog.size();
+      this.changeSeconds = new Long[size];
+      this.newValues = new Long[size];
+      this.oldValues = new Long[size];
+      for (int i = 0; i < size; i++) {
+        FieldDiffs diffs = changelog.get(i);
+        Date date = diffs.creationDate();
+        FieldDiffs.Diff diff = diffs.diffs().get(IssueUpdater.TECHNICAL_DEBT);
+        changeSeconds[i] = date != null ? toSeconds(date) : null;
+        newValues[i] = diff.newValueLong();
+        oldValues[i] = diff.oldValueLong();
       }
     }
-    return null;
-  }
 
-  private boolean isAfter(@Nullable Date currentDate, @Nullable Date pastDate) {
-    return pastDate == null || (currentDate != null && DateUtils.truncatedCompareTo(currentDate, pastDate, Calendar.SECOND) > 0);
-  }
+    @CheckForNull
+    public Long newTechnicalDebt(@Nullable Date periodDate) {
+      if (periodDate == null) {
+        return debt;
+      }
+      long periodSeconds = toSeconds(periodDate);
+      // Issue created after period date plus one second
+      if (creationSeconds != null && creationSeconds > periodSeconds + 1) {
+        return debt;
+      }
+      for (int i = 0; i < changeSeconds.length; i++) {
+        Long date = changeSeconds[i];
+        if (date != null && date <= periodSeconds) {
+          // return new value from the change that is just before the period date
+          return subtractNeverNegative(debt, newValues[i]);
+        }
+      }
+      if (changeSeconds.length > 0) {
+        // return old value from the change that is just after the period date when there's no more element in changelog
+        return subtractNeverNegative(debt, oldValues[changeSeconds.length - 1]);
+      }
+      // Return null when no changelog
+      return null;
+    }
 
-  private boolean isLesserOrEqual(@Nullable Date currentDate, @Nullable Date pastDate) {
-    return (currentDate != null) && (pastDate == null || (DateUtils.truncatedCompareTo(currentDate, pastDate, Calendar.SECOND) <= 0));
+    /**
+     * SONAR-5059
+     */
+    @CheckForNull
+    private static Long subtractNeverNegative(@Nullable Long value, @Nullable Long with) {
+      Long result = (value != null ? value : 0) - (with != null ? with : 0);
+      return result > 0 ? result : null;
+    }
   }
 
 }
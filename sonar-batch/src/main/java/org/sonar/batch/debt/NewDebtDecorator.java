@@ -39,8 +39,6 @@ import org.sonar.api.measures.Metric;
 import org.sonar.api.resources.Project;
 import org.sonar.api.resources.Resource;
 
-import javax.annotation.Nullable;
-
 import java.util.Collection;
 import java.util.Date;
 import java.util.List;
@@ -87,22 +85,33 @@ public final class NewDebtDecorator implements Decorator {
 
   private void saveMeasures(DecoratorContext context, Collection<Issue> issues) {
     Measure measure = new Measure(CoreMetrics.NEW_TECHNICAL_DEBT);
-    for (Period period : timeMachineConfiguration.periods()) {
-      Date periodDate = period.getDate();
-      double value = calculateNewTechnicalDebtValue(issues, periodDate);
-      Collection<Measure> children = context.getChildrenMeasures(measure.getMetric());
-      double sum = MeasureUtils.sumOnVariation(true, period.getIndex(), children) + value;
-      measure.setVariation(period.getIndex(), sum);
+    List<Period> periods = timeMachineConfiguration.periods();
+    long[] values = calculateNewTechnicalDebtValues(issues, periods);
+    Collection<Measure> children = context.getChildrenMeasures(measure.getMetric());
+    for (int i = 0; i < periods.size(); i++) {
+      int periodIndex = periods.get(i).getIndex();
+      double sum = MeasureUtils.sumOnVariation(true, periodIndex, children) + values[i];
+      measure.setVariation(periodIndex, sum);
     }
     context.saveMeasure(measure);
   }
 
-  private long calculateNewTechnicalDebtValue(Collection<Issue> issues, @Nullable Date periodDate) {
-    long result = 0;
+  /**
+   * New technical debt of the issues on each period, computed from a single read of the changelog of each issue
+   */
+  private long[] calculateNewTechnicalDebtValues(Collection<Issue> issues, List<Period> periods) {
+    Date[] periodDates = new Date[periods.size()];
+    for (int i = 0; i < periodDates.length; i++) {
+      periodDates[i] = periods.get(i).getDate();
+    }
+    long[] result = new long[periodDates.length];
     for (Issue issue : issues) {
-      Long debt = issueChangelogDebtCalculator.calculateNewTechnicalDebt(issue, periodDate);
-      if (debt != null) {
-        result += debt;
+      IssueChangelogDebtCalculator.DebtHistory history = issueChangelogDebtCalculator.debtHistory(issue);
+      for (int i = 0; i < periodDates.length; i++) {
+        Long debt = history.newTechnicalDebt(periodDates[i]);
+        if (debt != null) {
+          result[i] += debt;
+        }
       }
     }
     return result;
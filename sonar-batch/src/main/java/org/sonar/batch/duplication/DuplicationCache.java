@@ -52,7 +52,10 @@ public class DuplicationCache implements BatchComponent {
     return cache.values(effectiveKey);
   }
 
-  public DuplicationCache put(String effectiveKey, DefaultDuplication duplication) {
+  /**
+   * Synchronized as modules can be scanned concurrently
+   */
+  public synchronized DuplicationCache put(String effectiveKey, DefaultDuplication duplication) {
     cache.put(effectiveKey, sequence, duplication);
     sequence++;
     return this;
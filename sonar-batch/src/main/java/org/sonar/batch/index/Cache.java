@@ -23,6 +23,9 @@ import com.google.common.collect.Sets;
 import com.persistit.Exchange;
 import com.persistit.Key;
 import com.persistit.KeyFilter;
+import com.persistit.Persistit;
+import com.persistit.Value;
+import com.persistit.Volume;
 import com.persistit.exception.PersistitException;
 import org.apache.commons.lang.builder.ToStringBuilder;
 
@@ -34,40 +37,76 @@ import java.util.Set;
 
 /**
  * <p>
- * This cache is not thread-safe, due to direct usage of {@link com.persistit.Exchange}
+ * This cache is thread-safe: each thread uses its own {@link com.persistit.Exchange}. Iterables returned by
+ * {@link #values()} and {@link #entries()} must be iterated by the thread that created them.
  * </p>
  */
 public class Cache<V> {
 
   private final String name;
-  private final Exchange exchange;
+  private final Persistit persistit;
+  private final Volume volume;
+  private final ThreadLocal<Exchange> exchanges = new ThreadLocal<>();
 
-  Cache(String name, Exchange exchange) {
+  Cache(String name, Persistit persistit, Volume volume) {
     this.name = name;
-    this.exchange = exchange;
+    this.persistit = persistit;
+    this.volume = volume;
+    // create the tree
+    exchange();
+  }
+
+  /**
+   * Persistit exchanges must not be shared between threads, so each thread has its own exchange on this cache.
+   */
+  private Exchange exchange() {
+    Exchange exchange = exchanges.get();
+    if (exchange == null) {
+      exchange = newExchange();
+      exchanges.set(exchange);
+    }
+    return exchange;
+  }
+
+  /**
+   * Gives back to Persistit the exchange of the calling thread, if any. The thread can still use the cache
+   * afterwards, a new exchange is then created.
+   */
+  void releaseExchange() {
+    Exchange exchange = exchanges.get();
+    if (exchange != null) {
+      exchanges.remove();
+      persistit.releaseExchange(exchange);
+    }
+  }
+
+  private Exchange newExchange() {
+    try {
+      Exchange exchange = persistit.getExchange(volume, name, true);
+      exchange.setMaximumValueSize(Value.MAXIMUM_SIZE);
+      return exchange;
+    } catch (Exception e) {
+      throw new IllegalStateException("Fail to create cache: " + name, e);
+    }
   }
 
   public Cache<V> put(Object key, V value) {
-    resetKey(key);
-    return doPut(value);
+    return doPut(resetKey(key), value);
   }
 
   public Cache<V> put(Object firstKey, Object secondKey, V value) {
-    resetKey(firstKey, secondKey);
-    return doPut(value);
+    return doPut(resetKey(firstKey, secondKey), value);
   }
 
   public Cache<V> put(Object firstKey, Object secondKey, Object thirdKey, V value) {
-    resetKey(firstKey, secondKey, thirdKey);
-    return doPut(value);
+    return doPut(resetKey(firstKey, secondKey, thirdKey), value);
   }
 
   public Cache<V> put(Object[] key, V value) {
-    resetKey(key);
-    return doPut(value);
+    return doPut(resetKey(key), value);
   }
 
-  private Cache<V> doPut(V value) {
+  private Cache<V> doPut(Exchange exchange, V value) {
     try {
       exchange.getValue().put(value);
       exchange.store();
@@ -81,8 +120,7 @@ public class Cache<V> {
    * Returns the value object associated with keys, or null if not found.
    */
   public V get(Object key) {
-    resetKey(key);
-    return doGet();
+    return doGet(resetKey(key));
   }
 
   /**
@@ -90,8 +128,7 @@ public class Cache<V> {
    */
   @CheckForNull
   public V get(Object firstKey, Object secondKey) {
-    resetKey(firstKey, secondKey);
-    return doGet();
+    return doGet(resetKey(firstKey, secondKey));
   }
 
   /**
@@ -99,8 +136,7 @@ public class Cache<V> {
    */
   @CheckForNull
   public V get(Object firstKey, Object secondKey, Object thirdKey) {
-    resetKey(firstKey, secondKey, thirdKey);
-    return doGet();
+    return doGet(resetKey(firstKey, secondKey, thirdKey));
   }
 
   /**
@@ -108,13 +144,12 @@ public class Cache<V> {
    */
   @CheckForNull
   public V get(Object[] key) {
-    resetKey(key);
-    return doGet();
+    return doGet(resetKey(key));
   }
 
   @SuppressWarnings("unchecked")
   @CheckForNull
-  private V doGet() {
+  private V doGet(Exchange exchange) {
     try {
       exchange.fetch();
       if (!exchange.getValue().isDefined()) {
@@ -128,26 +163,22 @@ public class Cache<V> {
   }
 
   public boolean containsKey(Object key) {
-    resetKey(key);
-    return doContainsKey();
+    return doContainsKey(resetKey(key));
   }
 
   public boolean containsKey(Object firstKey, Object secondKey) {
-    resetKey(firstKey, secondKey);
-    return doContainsKey();
+    return doContainsKey(resetKey(firstKey, secondKey));
   }
 
   public boolean containsKey(Object firstKey, Object secondKey, Object thirdKey) {
-    resetKey(firstKey, secondKey, thirdKey);
-    return doContainsKey();
+    return doContainsKey(resetKey(firstKey, secondKey, thirdKey));
   }
 
   public boolean containsKey(Object[] key) {
-    resetKey(key);
-    return doContainsKey();
+    return doContainsKey(resetKey(key));
   }
 
-  private boolean doContainsKey() {
+  private boolean doContainsKey(Exchange exchange) {
     try {
       exchange.fetch();
       return exchange.isValueDefined();
@@ -158,26 +189,22 @@ public class Cache<V> {
   }
 
   public boolean remove(Object key) {
-    resetKey(key);
-    return doRemove();
+    return doRemove(resetKey(key));
   }
 
   public boolean remove(Object firstKey, Object secondKey) {
-    resetKey(firstKey, secondKey);
-    return doRemove();
+    return doRemove(resetKey(firstKey, secondKey));
   }
 
   public boolean remove(Object firstKey, Object secondKey, Object thirdKey) {
-    resetKey(firstKey, secondKey, thirdKey);
-    return doRemove();
+    return doRemove(resetKey(firstKey, secondKey, thirdKey));
   }
 
   public boolean remove(Object[] key) {
-    resetKey(key);
-    return doRemove();
+    return doRemove(resetKey(key));
   }
 
-  private boolean doRemove() {
+  private boolean doRemove(Exchange exchange) {
     try {
       return exchange.remove();
     } catch (Exception e) {
@@ -192,26 +219,22 @@ public class Cache<V> {
    * @param group The group name.
    */
   public Cache<V> clear(Object key) {
-    resetKey(key);
-    return doClear();
+    return doClear(resetKey(key));
   }
 
   public Cache<V> clear(Object firstKey, Object secondKey) {
-    resetKey(firstKey, secondKey);
-    return doClear();
+    return doClear(resetKey(firstKey, secondKey));
   }
 
   public Cache<V> clear(Object firstKey, Object secondKey, Object thirdKey) {
-    resetKey(firstKey, secondKey, thirdKey);
-    return doClear();
+    return doClear(resetKey(firstKey, secondKey, thirdKey));
   }
 
   public Cache<V> clear(Object[] key) {
-    resetKey(key);
-    return doClear();
+    return doClear(resetKey(key));
   }
 
-  private Cache<V> doClear() {
+  private Cache<V> doClear(Exchange exchange) {
     try {
       Key to = new Key(exchange.getKey());
       to.append(Key.AFTER);
@@ -227,6 +250,7 @@ public class Cache<V> {
    */
   public void clear() {
     try {
+      Exchange exchange = exchange();
       exchange.clear();
       exchange.removeAll();
     } catch (Exception e) {
@@ -245,8 +269,8 @@ public class Cache<V> {
   public Set keySet(Object key) {
     try {
       Set<Object> keys = Sets.newLinkedHashSet();
-      exchange.clear();
-      Exchange iteratorExchange = new Exchange(exchange);
+      Exchange iteratorExchange = new Exchange(exchange());
+      iteratorExchange.clear();
       iteratorExchange.append(key);
       iteratorExchange.append(Key.BEFORE);
       while (iteratorExchange.next(false)) {
@@ -262,8 +286,8 @@ public class Cache<V> {
   public Set keySet(Object firstKey, Object secondKey) {
     try {
       Set<Object> keys = Sets.newLinkedHashSet();
-      exchange.clear();
-      Exchange iteratorExchange = new Exchange(exchange);
+      Exchange iteratorExchange = new Exchange(exchange());
+      iteratorExchange.clear();
       iteratorExchange.append(firstKey);
       iteratorExchange.append(secondKey);
       iteratorExchange.append(Key.BEFORE);
@@ -284,8 +308,8 @@ public class Cache<V> {
   public Set<Object> keySet() {
     try {
       Set<Object> keys = Sets.newLinkedHashSet();
-      exchange.clear();
-      Exchange iteratorExchange = new Exchange(exchange);
+      Exchange iteratorExchange = new Exchange(exchange());
+      iteratorExchange.clear();
       iteratorExchange.append(Key.BEFORE);
       while (iteratorExchange.next(false)) {
         keys.add(iteratorExchange.getKey().indexTo(-1).decode());
@@ -300,51 +324,59 @@ public class Cache<V> {
    * Lazy-loading values for given keys
    */
   public Iterable<V> values(Object firstKey, Object secondKey) {
-    return new ValueIterable<V>(exchange, firstKey, secondKey);
+    return new ValueIterable<V>(exchange(), firstKey, secondKey);
   }
 
   /**
    * Lazy-loading values for a given key
    */
   public Iterable<V> values(Object firstKey) {
-    return new ValueIterable<V>(exchange, firstKey);
+    return new ValueIterable<V>(exchange(), firstKey);
   }
 
   /**
    * Lazy-loading values
    */
   public Iterable<V> values() {
-    return new ValueIterable<V>(exchange);
+    return new ValueIterable<V>(exchange());
   }
 
   public Iterable<Entry<V>> entries() {
-    return new EntryIterable<V>(exchange);
+    return new EntryIterable<V>(exchange());
   }
 
   public Iterable<Entry<V>> entries(Object firstKey) {
-    return new EntryIterable<V>(exchange, firstKey);
+    return new EntryIterable<V>(exchange(), firstKey);
   }
 
-  private void resetKey(Object key) {
+  private Exchange resetKey(Object key) {
+    Exchange exchange = exchange();
     exchange.clear();
     exchange.append(key);
+    return exchange;
   }
 
-  private void resetKey(Object first, Object second) {
+  private Exchange resetKey(Object first, Object second) {
+    Exchange exchange = exchange();
     exchange.clear();
     exchange.append(first).append(second);
+    return exchange;
   }
 
-  private void resetKey(Object first, Object second, Object third) {
+  private Exchange resetKey(Object first, Object second, Object third) {
+    Exchange exchange = exchange();
     exchange.clear();
     exchange.append(first).append(second).append(third);
+    return exchange;
   }
 
-  private void resetKey(Object[] keys) {
+  private Exchange resetKey(Object[] keys) {
+    Exchange exchange = exchange();
     exchange.clear();
     for (Object o : keys) {
       exchange.append(o);
     }
+    return exchange;
   }
 
   //
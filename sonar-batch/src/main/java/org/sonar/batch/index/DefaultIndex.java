@@ -91,14 +91,42 @@ public class DefaultIndex extends SonarIndex {
   private final ResourceKeyMigration migration;
   private final DependencyPersister dependencyPersister;
   private final EventPersister eventPersister;
-  // caches
-  private Project currentProject;
-  private Map<Resource, Bucket> buckets = Maps.newLinkedHashMap();
-  private Set<Dependency> dependencies = Sets.newLinkedHashSet();
-  private Map<Resource, Map<Resource, Dependency>> outgoingDependenciesByResource = Maps.newLinkedHashMap();
-  private Map<Resource, Map<Resource, Dependency>> incomingDependenciesByResource = Maps.newLinkedHashMap();
   private ProjectTree projectTree;
-  private ModuleIssues moduleIssues;
+  // caches
+  private volatile Project rootProject;
+  // projects, modules and libraries are shared by all modules
+  private final Map<Resource, Bucket> projectBuckets = Maps.newLinkedHashMap();
+  // dependencies from or to a project, module or library are kept from one module to another
+  private final Set<Dependency> projectDependencies = Sets.newLinkedHashSet();
+  // modules can be scanned concurrently, each thread indexes the resources of its own module
+  private final ThreadLocal<ModuleState> moduleStates = new ThreadLocal<ModuleState>() {
+    @Override
+    protected ModuleState initialValue() {
+      return new ModuleState(rootProject);
+    }
+  };
+
+  /**
+   * Resources and dependencies of the module being scanned by a thread
+   */
+  private static class ModuleState {
+    private Project project;
+    private ModuleIssues moduleIssues;
+    private final Map<Resource, Bucket> buckets = Maps.newLinkedHashMap();
+    private final Set<Dependency> dependencies = Sets.newLinkedHashSet();
+    private final Map<Resource, Map<Resource, Dependency>> outgoingDependenciesByResource = Maps.newLinkedHashMap();
+    private final Map<Resource, Map<Resource, Dependency>> incomingDependenciesByResource = Maps.newLinkedHashMap();
+
+    private ModuleState(@Nullable Project project) {
+      this.project = project;
+    }
+
+    private void clearDependencies() {
+      dependencies.clear();
+      incomingDependenciesByResource.clear();
+      outgoingDependenciesByResource.clear();
+    }
+  }
 
   public DefaultIndex(ResourceCache resourceCache, DependencyPersister dependencyPersister,
     EventPersister eventPersister, ProjectTree projectTree, MetricFinder metricFinder,
@@ -136,15 +164,26 @@ public class DefaultIndex extends SonarIndex {
       migration.checkIfMigrationNeeded(rootProject);
     }
     resourceCache.add(rootProject, null);
-    currentProject = rootProject;
+    this.rootProject = rootProject;
+    state().project = rootProject;
 
     for (Project module : rootProject.getModules()) {
       addModule(rootProject, module);
     }
   }
 
+  private ModuleState state() {
+    return moduleStates.get();
+  }
+
   private void addBucket(Resource resource, Bucket bucket) {
-    buckets.put(resource, bucket);
+    if (ResourceUtils.isSet(resource)) {
+      synchronized (projectBuckets) {
+        projectBuckets.put(resource, bucket);
+      }
+    } else {
+      state().buckets.put(resource, bucket);
+    }
   }
 
   private void addModule(Project parent, Project module) {
@@ -161,38 +200,54 @@ public class DefaultIndex extends SonarIndex {
 
   @Override
   public Project getProject() {
-    return currentProject;
+    return state().project;
   }
 
+  /**
+   * Sets the module scanned by the calling thread
+   */
   public void setCurrentProject(Project project, ModuleIssues moduleIssues) {
-    this.currentProject = project;
+    ModuleState state = state();
+    state.project = project;
 
     // the following components depend on the current module, so they need to be reloaded.
-    this.moduleIssues = moduleIssues;
+    state.moduleIssues = moduleIssues;
+
+    // inter module dependencies may have been added by the modules scanned by other threads
+    registerProjectDependencies();
   }
 
   /**
    * Keep only project stuff
    */
   public void clear() {
-    Iterator<Map.Entry<Resource, Bucket>> it = buckets.entrySet().iterator();
-    while (it.hasNext()) {
-      Map.Entry<Resource, Bucket> entry = it.next();
-      Resource resource = entry.getKey();
-      if (!ResourceUtils.isSet(resource)) {
-        entry.getValue().clear();
-        it.remove();
-      }
+    ModuleState state = state();
+    for (Bucket bucket : state.buckets.values()) {
+      bucket.clear();
     }
+    state.buckets.clear();
 
     // Keep only inter module dependencies
-    Set<Dependency> projectDependencies = getDependenciesBetweenProjects();
-    dependencies.clear();
-    incomingDependenciesByResource.clear();
-    outgoingDependenciesByResource.clear();
-    for (Dependency projectDependency : projectDependencies) {
-      projectDependency.setId(null);
-      registerDependency(projectDependency);
+    Set<Dependency> moduleProjectDependencies = getDependenciesBetweenProjects();
+    state.clearDependencies();
+    synchronized (projectDependencies) {
+      for (Dependency projectDependency : moduleProjectDependencies) {
+        projectDependency.setId(null);
+        projectDependencies.add(projectDependency);
+      }
+    }
+    registerProjectDependencies();
+  }
+
+  private void registerProjectDependencies() {
+    List<Dependency> dependenciesToRegister;
+    synchronized (projectDependencies) {
+      dependenciesToRegister = new ArrayList<>(projectDependencies);
+    }
+    for (Dependency projectDependency : dependenciesToRegister) {
+      if (getEdge(projectDependency.getFrom(), projectDependency.getTo()) == null) {
+        registerDependency(projectDependency);
+      }
     }
   }
 
@@ -282,7 +337,7 @@ public class DefaultIndex extends SonarIndex {
       addDependency(parentDependency);
     }
     registerDependency(dependency);
-    dependencyPersister.saveDependency(currentProject, dependency);
+    dependencyPersister.saveDependency(getProject(), dependency);
     return dependency;
   }
 
@@ -291,7 +346,7 @@ public class DefaultIndex extends SonarIndex {
     Bucket toBucket = doIndex(dependency.getTo());
 
     if (fromBucket != null && toBucket != null) {
-      dependencies.add(dependency);
+      state().dependencies.add(dependency);
       registerOutgoingDependency(dependency);
       registerIncomingDependency(dependency);
       return true;
@@ -300,6 +355,7 @@ public class DefaultIndex extends SonarIndex {
   }
 
   private void registerOutgoingDependency(Dependency dependency) {
+    Map<Resource, Map<Resource, Dependency>> outgoingDependenciesByResource = state().outgoingDependenciesByResource;
     Map<Resource, Dependency> outgoingDeps = outgoingDependenciesByResource.get(dependency.getFrom());
     if (outgoingDeps == null) {
       outgoingDeps = new HashMap<Resource, Dependency>();
@@ -309,6 +365,7 @@ public class DefaultIndex extends SonarIndex {
   }
 
   private void registerIncomingDependency(Dependency dependency) {
+    Map<Resource, Map<Resource, Dependency>> incomingDependenciesByResource = state().incomingDependenciesByResource;
     Map<Resource, Dependency> incomingDeps = incomingDependenciesByResource.get(dependency.getTo());
     if (incomingDeps == null) {
       incomingDeps = new HashMap<Resource, Dependency>();
@@ -319,12 +376,12 @@ public class DefaultIndex extends SonarIndex {
 
   @Override
   public Set<Dependency> getDependencies() {
-    return dependencies;
+    return state().dependencies;
   }
 
   @Override
   public Dependency getEdge(Resource from, Resource to) {
-    Map<Resource, Dependency> map = outgoingDependenciesByResource.get(from);
+    Map<Resource, Dependency> map = state().outgoingDependenciesByResource.get(from);
     if (map != null) {
       return map.get(to);
     }
@@ -338,12 +395,17 @@ public class DefaultIndex extends SonarIndex {
 
   @Override
   public Set<Resource> getVertices() {
-    return buckets.keySet();
+    Set<Resource> vertices;
+    synchronized (projectBuckets) {
+      vertices = Sets.newLinkedHashSet(projectBuckets.keySet());
+    }
+    vertices.addAll(state().buckets.keySet());
+    return vertices;
   }
 
   @Override
   public Collection<Dependency> getOutgoingEdges(Resource from) {
-    Map<Resource, Dependency> deps = outgoingDependenciesByResource.get(from);
+    Map<Resource, Dependency> deps = state().outgoingDependenciesByResource.get(from);
     if (deps != null) {
       return deps.values();
     }
@@ -352,7 +414,7 @@ public class DefaultIndex extends SonarIndex {
 
   @Override
   public Collection<Dependency> getIncomingEdges(Resource to) {
-    Map<Resource, Dependency> deps = incomingDependenciesByResource.get(to);
+    Map<Resource, Dependency> deps = state().incomingDependenciesByResource.get(to);
     if (deps != null) {
       return deps.values();
     }
@@ -361,7 +423,7 @@ public class DefaultIndex extends SonarIndex {
 
   Set<Dependency> getDependenciesBetweenProjects() {
     Set<Dependency> result = Sets.newLinkedHashSet();
-    for (Dependency dependency : dependencies) {
+    for (Dependency dependency : state().dependencies) {
       if (ResourceUtils.isSet(dependency.getFrom()) || ResourceUtils.isSet(dependency.getTo())) {
         result.add(dependency);
       }
@@ -381,7 +443,7 @@ public class DefaultIndex extends SonarIndex {
   public void addViolation(Violation violation, boolean force) {
     Resource resource = violation.getResource();
     if (resource == null) {
-      violation.setResource(currentProject);
+      violation.setResource(getProject());
     } else if (!Scopes.isHigherThanOrEquals(resource, Scopes.FILE)) {
       throw new IllegalArgumentException("Violations are only supported on files, directories and project");
     }
@@ -404,7 +466,7 @@ public class DefaultIndex extends SonarIndex {
     violation.setSeverity(null);
 
     violation.setResource(bucket.getResource());
-    moduleIssues.initAndAddViolation(violation);
+    state().moduleIssues.initAndAddViolation(violation);
   }
 
   //
@@ -453,7 +515,7 @@ public class DefaultIndex extends SonarIndex {
     Resource resource = getResource(reference);
     if (resource instanceof File) {
       File file = (File) resource;
-      Project module = currentProject;
+      Project module = getProject();
       ProjectDefinition def = projectTree.getProjectDefinition(module);
       try {
         return FileUtils.readFileToString(new java.io.File(def.getBaseDir(), file.getPath()));
@@ -524,6 +586,16 @@ public class DefaultIndex extends SonarIndex {
   }
 
   private Bucket doIndex(Resource resource, @Nullable Resource parentReference) {
+    if (ResourceUtils.isSet(resource)) {
+      // a library can be indexed concurrently by different modules
+      synchronized (projectBuckets) {
+        return doIndexResource(resource, parentReference);
+      }
+    }
+    return doIndexResource(resource, parentReference);
+  }
+
+  private Bucket doIndexResource(Resource resource, @Nullable Resource parentReference) {
     Bucket bucket = getBucket(resource);
     if (bucket != null) {
       return bucket;
@@ -537,7 +609,7 @@ public class DefaultIndex extends SonarIndex {
     Resource parent = null;
     if (!ResourceUtils.isLibrary(resource)) {
       // a library has no parent
-      parent = (Resource) ObjectUtils.defaultIfNull(parentReference, currentProject);
+      parent = (Resource) ObjectUtils.defaultIfNull(parentReference, getProject());
     }
 
     Bucket parentBucket = getBucket(parent);
@@ -549,7 +621,7 @@ public class DefaultIndex extends SonarIndex {
     if (ResourceUtils.isProject(resource) || /* For technical projects */ResourceUtils.isRootProject(resource)) {
       resource.setEffectiveKey(resource.getKey());
     } else {
-      resource.setEffectiveKey(ComponentKeys.createEffectiveKey(currentProject, resource));
+      resource.setEffectiveKey(ComponentKeys.createEffectiveKey(getProject(), resource));
     }
     bucket = new Bucket(resource).setParent(parentBucket);
     addBucket(resource, bucket);
@@ -575,7 +647,13 @@ public class DefaultIndex extends SonarIndex {
       return null;
     }
     if (StringUtils.isNotBlank(reference.getKey())) {
-      return buckets.get(reference);
+      Bucket bucket = state().buckets.get(reference);
+      if (bucket == null) {
+        synchronized (projectBuckets) {
+          bucket = projectBuckets.get(reference);
+        }
+      }
+      return bucket;
     }
     String relativePathFromSourceDir = null;
     boolean isTest = false;
@@ -33,6 +33,11 @@ import org.sonar.batch.duplication.DuplicationUtils;
 import org.sonar.core.persistence.DbSession;
 import org.sonar.core.persistence.MyBatis;
 
+/**
+ * Executed after {@link MeasurePersister} because both resolve rules of measures with the {@link RuleFinder},
+ * which relies on the Hibernate session and is not thread-safe.
+ */
+@PersistAfter({ResourcePersister.class, MeasurePersister.class})
 public final class DuplicationPersister implements ScanPersister {
   private final MyBatis mybatis;
   private final RuleFinder ruleFinder;
@@ -50,7 +55,8 @@ public final class DuplicationPersister implements ScanPersister {
   }
 
   @Override
-  public void persist() {
+  public int persist() {
+    int count = 0;
     // Don't use batch insert for duplications since keeping all data in memory can produce OOM
     try (DbSession session = mybatis.openSession(false)) {
       MeasureMapper mapper = session.getMapper(MeasureMapper.class);
@@ -64,8 +70,10 @@ public final class DuplicationPersister implements ScanPersister {
           MeasureModel measureModel = MeasurePersister.model(measure, ruleFinder).setSnapshotId(batchResource.snapshotId());
           mapper.insert(measureModel);
           session.commit();
+          count++;
         }
       }
+      return count;
     } catch (Exception e) {
       throw new IllegalStateException("Unable to save some measures", e);
     }
@@ -38,6 +38,7 @@ import org.sonar.core.persistence.MyBatis;
 
 import javax.annotation.Nullable;
 
+@PersistAfter(ResourcePersister.class)
 public class MeasurePersister implements ScanPersister {
   private final MyBatis mybatis;
   private final RuleFinder ruleFinder;
@@ -55,7 +56,8 @@ public class MeasurePersister implements ScanPersister {
   }
 
   @Override
-  public void persist() {
+  public int persist() {
+    int count = 0;
     try (DbSession session = mybatis.openSession(true)) {
       MeasureMapper mapper = session.getMapper(MeasureMapper.class);
 
@@ -70,10 +72,12 @@ public class MeasurePersister implements ScanPersister {
         if (shouldPersistMeasure(batchResource.resource(), measure)) {
           MeasureModel measureModel = model(measure, ruleFinder).setSnapshotId(batchResource.snapshotId());
           mapper.insert(measureModel);
+          count++;
         }
       }
 
       session.commit();
+      return count;
     } catch (Exception e) {
       throw new IllegalStateException("Unable to save some measures", e);
     }
@@ -21,6 +21,7 @@ package org.sonar.batch.index;
 
 import com.google.common.base.Preconditions;
 import com.google.common.base.Strings;
+import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import org.sonar.api.BatchComponent;
 import org.sonar.api.resources.Library;
@@ -32,6 +33,9 @@ import javax.annotation.Nullable;
 import java.util.Collection;
 import java.util.Map;
 
+/**
+ * Cache of the components of the project. Thread-safe.
+ */
 public class ResourceCache implements BatchComponent {
   // resource by component key
   private final Map<String, BatchResource> resources = Maps.newLinkedHashMap();
@@ -41,12 +45,12 @@ public class ResourceCache implements BatchComponent {
   private BatchResource root;
 
   @CheckForNull
-  public BatchResource get(String componentKey) {
+  public synchronized BatchResource get(String componentKey) {
     return resources.get(componentKey);
   }
 
   @CheckForNull
-  public BatchResource get(Resource resource) {
+  public synchronized BatchResource get(Resource resource) {
     if (!(resource instanceof Library)) {
       return resources.get(resource.getEffectiveKey());
     } else {
@@ -54,7 +58,7 @@ public class ResourceCache implements BatchComponent {
     }
   }
 
-  public BatchResource add(Resource resource, @Nullable Resource parentResource) {
+  public synchronized BatchResource add(Resource resource, @Nullable Resource parentResource) {
     String componentKey = resource.getEffectiveKey();
     Preconditions.checkState(!Strings.isNullOrEmpty(componentKey), "Missing resource effective key");
     BatchResource parent = parentResource != null ? get(parentResource.getEffectiveKey()) : null;
@@ -71,15 +75,18 @@ public class ResourceCache implements BatchComponent {
     return batchResource;
   }
 
-  public Collection<BatchResource> all() {
-    return resources.values();
+  /**
+   * Copy of the resources indexed so far, so that it can be iterated while new resources are added.
+   */
+  public synchronized Collection<BatchResource> all() {
+    return Lists.newArrayList(resources.values());
   }
 
-  public Collection<BatchResource> allLibraries() {
-    return libraries.values();
+  public synchronized Collection<BatchResource> allLibraries() {
+    return Lists.newArrayList(libraries.values());
   }
 
-  public BatchResource getRoot() {
+  public synchronized BatchResource getRoot() {
     return root;
   }
 }
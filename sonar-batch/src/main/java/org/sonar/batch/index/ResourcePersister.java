@@ -72,9 +72,10 @@ public class ResourcePersister implements ScanPersister {
   }
 
   @Override
-  public void persist() {
+  public int persist() {
+    int count = 0;
     for (BatchResource resource : resourceCache.all()) {
-      persist(resource);
+      count += persist(resource);
     }
 
     for (BatchResource lib : resourceCache.allLibraries()) {
@@ -83,7 +84,9 @@ public class ResourcePersister implements ScanPersister {
         continue;
       }
       persistLibrary(lib);
+      count++;
     }
+    return count;
   }
 
   private void persistLibrary(BatchResource lib) {
@@ -91,15 +94,19 @@ public class ResourcePersister implements ScanPersister {
     lib.setSnapshot(s);
   }
 
-  private void persist(BatchResource batchResource) {
+  /**
+   * @return the number of persisted resources, including parents that were not persisted yet
+   */
+  private int persist(BatchResource batchResource) {
     if (batchResource.snapshot() != null) {
       // already persisted
-      return;
+      return 0;
     }
+    int count = 1;
     BatchResource parentBatchResource = batchResource.parent();
     Snapshot s;
     if (parentBatchResource != null) {
-      persist(parentBatchResource);
+      count += persist(parentBatchResource);
       s = persist(findModule(parentBatchResource), batchResource.resource(), parentBatchResource.resource());
     } else {
       // Root project
@@ -109,6 +116,7 @@ public class ResourcePersister implements ScanPersister {
     if (ResourceUtils.isPersistable(batchResource.resource())) {
       graph.addComponent(batchResource.resource(), batchResource.snapshotId());
     }
+    return count;
   }
 
   private Project findModule(BatchResource batchResource) {
@@ -21,8 +21,15 @@ package org.sonar.batch.index;
 
 import org.sonar.api.BatchComponent;
 
+/**
+ * Persists data collected during analysis. Persisters are executed concurrently, each one
+ * with its own database session, unless ordering is declared with {@link PersistAfter}.
+ */
 public interface ScanPersister extends BatchComponent {
 
-  void persist();
+  /**
+   * @return the number of rows written to database
+   */
+  int persist();
 
 }
@@ -43,6 +43,7 @@ import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
 
+@PersistAfter(ResourcePersister.class)
 public class SourcePersister implements ScanPersister {
 
   private final MyBatis mybatis;
@@ -63,7 +64,8 @@ public class SourcePersister implements ScanPersister {
   }
 
   @Override
-  public void persist() {
+  public int persist() {
+    int count = 0;
     // Don't use batch insert for file_sources since keeping all data in memory can produce OOM for big files
     try (DbSession session = mybatis.openSession(false)) {
 
@@ -78,15 +80,20 @@ public class SourcePersister implements ScanPersister {
 
       FileSourceMapper mapper = session.getMapper(FileSourceMapper.class);
       for (InputFile inputFile : inputPathCache.allFiles()) {
-        persist(session, mapper, (DefaultInputFile) inputFile, previousDtosByUuid);
+        if (persist(session, mapper, (DefaultInputFile) inputFile, previousDtosByUuid)) {
+          count++;
+        }
       }
+      return count;
     } catch (Exception e) {
       throw new IllegalStateException("Unable to save file sources", e);
     }
-
   }
 
-  private void persist(DbSession session, FileSourceMapper mapper, DefaultInputFile inputFile, Map<String, FileSourceDto> previousDtosByUuid) {
+  /**
+   * @return true if a row has been inserted or updated
+   */
+  private boolean persist(DbSession session, FileSourceMapper mapper, DefaultInputFile inputFile, Map<String, FileSourceDto> previousDtosByUuid) {
     String fileUuid = resourceCache.get(inputFile.key()).resource().getUuid();
 
     InputFileMetadata metadata = inputPathCache.getFileMetadata(inputFile.moduleKey(), inputFile.relativePath());
@@ -105,21 +112,35 @@ public class SourcePersister implements ScanPersister {
         .setUpdatedAt(system2.now());
       mapper.insert(dto);
       session.commit();
-    } else {
-      // Update only if data_hash has changed or if src_hash is missing (progressive migration)
-      if (!dataHash.equals(previousDto.getDataHash()) || !metadata.hash().equals(previousDto.getSrcHash())) {
+      return true;
+    } else if (metadata.hash().equals(previousDto.getSrcHash())) {
+      // Source is unchanged (SAME status), so line hashes stored during previous analysis are still valid.
+      // Only data computed by sensors (SCM, coverage, highlighting, ...) may need to be updated.
+      if (!dataHash.equals(previousDto.getDataHash())) {
         previousDto
           .setBinaryData(data)
           .setDataHash(dataHash)
-          .setSrcHash(metadata.hash())
-          .setLineHashes(lineHashesAsMd5Hex(inputFile));
-        // Optimization do not change updated at when updating src_hash to avoid indexation by E/S
-        if (!dataHash.equals(previousDto.getDataHash())) {
-          previousDto.setUpdatedAt(system2.now());
-        }
-        mapper.update(previousDto);
+          .setUpdatedAt(system2.now());
+        mapper.updateData(previousDto);
         session.commit();
+        return true;
+      }
+      return false;
+    } else {
+      // Source has changed or src_hash is missing (progressive migration), so line hashes must be computed
+      boolean dataChanged = !dataHash.equals(previousDto.getDataHash());
+      previousDto
+        .setBinaryData(data)
+        .setDataHash(dataHash)
+        .setSrcHash(metadata.hash())
+        .setLineHashes(lineHashesAsMd5Hex(inputFile));
+      // Optimization do not change updated at when updating src_hash to avoid indexation by E/S
+      if (dataChanged) {
+        previousDto.setUpdatedAt(system2.now());
       }
+      mapper.update(previousDto);
+      session.commit();
+      return true;
     }
   }
 
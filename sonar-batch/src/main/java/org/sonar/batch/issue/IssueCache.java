@@ -55,6 +55,10 @@ public class IssueCache implements BatchComponent {
     return this;
   }
 
+  public void remove(DefaultIssue issue) {
+    cache.remove(issue.componentKey(), issue.key());
+  }
+
   public void clear(String componentKey) {
     cache.clear(componentKey);
   }
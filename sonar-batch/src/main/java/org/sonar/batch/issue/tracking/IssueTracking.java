@@ -45,7 +45,16 @@ public class IssueTracking implements BatchComponent {
    * @param sourceHashHolder Null when working on resource that is not a file (directory/project)
    */
   public IssueTrackingResult track(@Nullable SourceHashHolder sourceHashHolder, Collection<ServerIssue> previousIssues, Collection<DefaultIssue> newIssues) {
-    IssueTrackingResult result = new IssueTrackingResult();
+    return track(sourceHashHolder, previousIssues, newIssues, new IssueTrackingResult());
+  }
+
+  /**
+   * Same as {@link #track(SourceHashHolder, Collection, Collection)}, but reuses the structures of a previous result,
+   * which is cleared.
+   */
+  IssueTrackingResult track(@Nullable SourceHashHolder sourceHashHolder, Collection<ServerIssue> previousIssues, Collection<DefaultIssue> newIssues,
+    IssueTrackingResult result) {
+    result.clear();
 
     if (sourceHashHolder != null) {
       setChecksumOnNewIssues(newIssues, sourceHashHolder);
@@ -99,6 +99,16 @@ class IssueTrackingResult {
     return line != null ? line : 0;
   }
 
+  /**
+   * Removes all issues, so that the result can be reused to track issues of another component
+   */
+  void clear() {
+    unmatchedByKey.clear();
+    unmatchedByRuleAndKey.clear();
+    unmatchedByRuleAndLineAndChecksum.clear();
+    matched.clear();
+  }
+
   void setMatch(DefaultIssue issue, ServerIssue matching) {
     matched.put(issue, matching);
     RuleKey ruleKey = matching.ruleKey();
@@ -21,6 +21,7 @@ package org.sonar.batch.issue.tracking;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.sonar.api.BatchComponent;
@@ -28,6 +29,7 @@ import org.sonar.api.batch.AnalysisMode;
 import org.sonar.api.batch.fs.internal.DefaultInputFile;
 import org.sonar.api.batch.rule.ActiveRule;
 import org.sonar.api.batch.rule.ActiveRules;
+import org.sonar.api.config.Settings;
 import org.sonar.api.issue.Issue;
 import org.sonar.api.issue.internal.DefaultIssue;
 import org.sonar.api.issue.internal.IssueChangeContext;
@@ -35,6 +37,7 @@ import org.sonar.api.resources.Project;
 import org.sonar.api.resources.ResourceUtils;
 import org.sonar.api.rule.RuleKey;
 import org.sonar.batch.index.BatchResource;
+import org.sonar.batch.index.Caches;
 import org.sonar.batch.index.ResourceCache;
 import org.sonar.batch.issue.IssueCache;
 import org.sonar.batch.protocol.input.ProjectRepositories;
@@ -48,11 +51,21 @@ import javax.annotation.CheckForNull;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Date;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class LocalIssueTracking implements BatchComponent {
 
   private static final Logger LOG = LoggerFactory.getLogger(LocalIssueTracking.class);
 
+  static final String THREADS_PROPERTY = "sonar.issuesTracking.threads";
+  static final int DEFAULT_THREADS = 4;
+
   private final IssueCache issueCache;
   private final IssueTracking tracking;
   private final ServerLineHashesLoader lastLineHashes;
@@ -65,11 +78,13 @@ public class LocalIssueTracking implements BatchComponent {
   private final ServerIssueRepository serverIssueRepository;
   private final ProjectRepositories projectRepositories;
   private final AnalysisMode analysisMode;
+  private final Settings settings;
+  private final Caches caches;
 
   public LocalIssueTracking(ResourceCache resourceCache, IssueCache issueCache, IssueTracking tracking,
     ServerLineHashesLoader lastLineHashes, IssueWorkflow workflow, IssueUpdater updater,
     ActiveRules activeRules, InputPathCache inputPathCache, ServerIssueRepository serverIssueRepository,
-    ProjectRepositories projectRepositories, AnalysisMode analysisMode) {
+    ProjectRepositories projectRepositories, AnalysisMode analysisMode, Settings settings, Caches caches) {
     this.resourceCache = resourceCache;
     this.issueCache = issueCache;
     this.tracking = tracking;
@@ -80,6 +95,8 @@ public class LocalIssueTracking implements BatchComponent {
     this.serverIssueRepository = serverIssueRepository;
     this.projectRepositories = projectRepositories;
     this.analysisMode = analysisMode;
+    this.settings = settings;
+    this.caches = caches;
     this.changeContext = IssueChangeContext.createScan(((Project) resourceCache.getRoot().resource()).getAnalysisDate());
     this.activeRules = activeRules;
   }
@@ -92,38 +109,128 @@ public class LocalIssueTracking implements BatchComponent {
 
     serverIssueRepository.load();
 
+    List<BatchResource> files = new ArrayList<>();
+    List<BatchResource> otherComponents = new ArrayList<>();
     for (BatchResource component : resourceCache.all()) {
+      if (component.isFile()) {
+        files.add(component);
+      } else {
+        otherComponents.add(component);
+      }
+    }
+    trackFiles(files);
+    for (BatchResource component : otherComponents) {
       trackIssues(component);
     }
   }
 
+  /**
+   * Issues of a file do not depend on other files, so files are tracked concurrently. Each thread reuses
+   * the same matching structures for all its files.
+   */
+  private void trackFiles(final List<BatchResource> files) {
+    int threads = Math.min(numberOfThreads(), files.size());
+    if (threads <= 1) {
+      IssueTrackingResult trackingResult = new IssueTrackingResult();
+      for (BatchResource file : files) {
+        trackIssues(file, trackingResult);
+      }
+      return;
+    }
+    final AtomicInteger nextFile = new AtomicInteger(0);
+    ExecutorService executorService = Executors.newFixedThreadPool(threads,
+      new ThreadFactoryBuilder().setNameFormat("Issue tracking %d").setDaemon(true).build());
+    try {
+      List<Future<Void>> tasks = new ArrayList<>();
+      for (int i = 0; i < threads; i++) {
+        tasks.add(executorService.submit(new Callable<Void>() {
+          @Override
+          public Void call() {
+            try {
+              IssueTrackingResult trackingResult = new IssueTrackingResult();
+              int index = nextFile.getAndIncrement();
+              while (index < files.size()) {
+                trackIssues(files.get(index), trackingResult);
+                index = nextFile.getAndIncrement();
+              }
+              return null;
+            } finally {
+              caches.releaseExchanges();
+            }
+          }
+        }));
+      }
+      for (Future<Void> task : tasks) {
+        try {
+          task.get();
+        } catch (ExecutionException e) {
+          // Unwrap ExecutionException
+          throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          throw new IllegalStateException(e);
+        }
+      }
+    } finally {
+      executorService.shutdownNow();
+    }
+  }
+
+  @VisibleForTesting
+  int numberOfThreads() {
+    int threads = settings.getInt(THREADS_PROPERTY);
+    if (threads < 0) {
+      throw new IllegalArgumentException(String.format("Bad value of %s: %d", THREADS_PROPERTY, threads));
+    }
+    if (threads == 0) {
+      threads = DEFAULT_THREADS;
+    }
+    return threads;
+  }
+
   public void trackIssues(BatchResource component) {
+    trackIssues(component, new IssueTrackingResult());
+  }
 
+  private void trackIssues(BatchResource component, IssueTrackingResult trackingResult) {
+    String componentKey = component.resource().getEffectiveKey();
     Collection<DefaultIssue> issues = Lists.newArrayList();
-    for (Issue issue : issueCache.byComponent(component.resource().getEffectiveKey())) {
+    for (Issue issue : issueCache.byComponent(componentKey)) {
       issues.add((DefaultIssue) issue);
     }
-    issueCache.clear(component.resource().getEffectiveKey());
     // issues = all the issues created by rule engines during this module scan and not excluded by filters
 
     if (analysisMode.isIncremental() && !component.isFile()) {
       // No need to report issues on project or directories in preview mode since it is likely to be wrong anyway
+      if (!issues.isEmpty()) {
+        issueCache.clear(componentKey);
+      }
       return;
     }
 
     // all the issues that are not closed in db before starting this module scan, including manual issues
     Collection<ServerIssue> serverIssues = loadServerIssues(component);
 
+    boolean isRootProject = ResourceUtils.isRootProject(component.resource());
+    if (issues.isEmpty() && serverIssues.isEmpty() && !isRootProject) {
+      // nothing to track
+      return;
+    }
+
     SourceHashHolder sourceHashHolder = loadSourceHashes(component);
 
-    IssueTrackingResult trackingResult = tracking.track(sourceHashHolder, serverIssues, issues);
+    tracking.track(sourceHashHolder, serverIssues, issues, trackingResult);
 
     // unmatched = issues that have been resolved + issues on disabled/removed rules + manual issues
     addUnmatched(trackingResult.unmatched(), sourceHashHolder, issues);
 
+    // keys of matched issues are going to change, other issues are overwritten in cache
+    for (DefaultIssue matched : trackingResult.matched()) {
+      issueCache.remove(matched);
+    }
     mergeMatched(trackingResult);
 
-    if (ResourceUtils.isRootProject(component.resource())) {
+    if (isRootProject) {
       // issues that relate to deleted components
       addIssuesOnDeletedComponents(issues);
     }
@@ -23,10 +23,13 @@ import org.sonar.api.rule.RuleKey;
 
 public class ServerIssueFromWs implements ServerIssue {
 
-  private org.sonar.batch.protocol.input.BatchInput.ServerIssue dto;
+  private final org.sonar.batch.protocol.input.BatchInput.ServerIssue dto;
+  // rule key is compared many times during tracking
+  private final RuleKey ruleKey;
 
   public ServerIssueFromWs(org.sonar.batch.protocol.input.BatchInput.ServerIssue dto) {
     this.dto = dto;
+    this.ruleKey = RuleKey.of(dto.getRuleRepository(), dto.getRuleKey());
   }
 
   public org.sonar.batch.protocol.input.BatchInput.ServerIssue getDto() {
@@ -40,7 +43,7 @@ public class ServerIssueFromWs implements ServerIssue {
 
   @Override
   public RuleKey ruleKey() {
-    return RuleKey.of(dto.getRuleRepository(), dto.getRuleKey());
+    return ruleKey;
   }
 
   @Override
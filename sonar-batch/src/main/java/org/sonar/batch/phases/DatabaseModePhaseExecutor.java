@@ -29,7 +29,6 @@ import org.sonar.batch.events.BatchStepEvent;
 import org.sonar.batch.events.EventBus;
 import org.sonar.batch.index.DefaultIndex;
 import org.sonar.batch.index.ResourcePersister;
-import org.sonar.batch.index.ScanPersister;
 import org.sonar.batch.issue.ignore.scanner.IssueExclusionsLoader;
 import org.sonar.batch.report.PublishReportJob;
 import org.sonar.batch.rule.QProfileVerifier;
@@ -37,12 +36,6 @@ import org.sonar.batch.scan.filesystem.DefaultModuleFileSystem;
 import org.sonar.batch.scan.filesystem.FileSystemLogger;
 import org.sonar.batch.scan.report.IssuesReports;
 
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.Collections;
-import java.util.Comparator;
-import java.util.List;
-
 public final class DatabaseModePhaseExecutor implements PhaseExecutor {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(DatabaseModePhaseExecutor.class);
@@ -57,7 +50,7 @@ public final class DatabaseModePhaseExecutor implements PhaseExecutor {
   private final SensorContext sensorContext;
   private final DefaultIndex index;
   private final ProjectInitializer pi;
-  private final ScanPersister[] persisters;
+  private final PersistersExecutor persistersExecutor;
   private final FileSystemLogger fsLogger;
   private final IssuesReports jsonReport;
   private final DefaultModuleFileSystem fs;
@@ -71,7 +64,7 @@ public final class DatabaseModePhaseExecutor implements PhaseExecutor {
     InitializersExecutor initializersExecutor, PostJobsExecutor postJobsExecutor, SensorsExecutor sensorsExecutor,
     SensorContext sensorContext, DefaultIndex index,
     EventBus eventBus, PublishReportJob publishReportJob, ProjectInitializer pi,
-    ScanPersister[] persisters, FileSystemLogger fsLogger, IssuesReports jsonReport, DefaultModuleFileSystem fs, QProfileVerifier profileVerifier,
+    PersistersExecutor persistersExecutor, FileSystemLogger fsLogger, IssuesReports jsonReport, DefaultModuleFileSystem fs, QProfileVerifier profileVerifier,
     IssueExclusionsLoader issueExclusionsLoader, DefaultAnalysisMode analysisMode, DatabaseSession session, ResourcePersister resourcePersister) {
     this.phases = phases;
     this.decoratorsExecutor = decoratorsExecutor;
@@ -83,7 +76,7 @@ public final class DatabaseModePhaseExecutor implements PhaseExecutor {
     this.eventBus = eventBus;
     this.publishReportJob = publishReportJob;
     this.pi = pi;
-    this.persisters = persisters;
+    this.persistersExecutor = persistersExecutor;
     this.fsLogger = fsLogger;
     this.jsonReport = jsonReport;
     this.fs = fs;
@@ -157,31 +150,10 @@ public final class DatabaseModePhaseExecutor implements PhaseExecutor {
   private void executePersisters() {
     if (!analysisMode.isPreview()) {
       LOGGER.info("Store results in database");
-      List<ScanPersister> sortedPersisters = sortedPersisters();
-      eventBus.fireEvent(new PersistersPhaseEvent(sortedPersisters, true));
-      for (ScanPersister persister : sortedPersisters) {
-        LOGGER.debug("Execute {}", persister.getClass().getName());
-        eventBus.fireEvent(new PersisterExecutionEvent(persister, true));
-        persister.persist();
-        eventBus.fireEvent(new PersisterExecutionEvent(persister, false));
-      }
-
-      eventBus.fireEvent(new PersistersPhaseEvent(sortedPersisters, false));
+      persistersExecutor.execute();
     }
   }
 
-  List<ScanPersister> sortedPersisters() {
-    // Sort by reverse name so that ResourcePersister is executed before MeasurePersister
-    List<ScanPersister> sortedPersisters = new ArrayList<>(Arrays.asList(persisters));
-    Collections.sort(sortedPersisters, new Comparator<ScanPersister>() {
-      @Override
-      public int compare(ScanPersister o1, ScanPersister o2) {
-        return o2.getClass().getName().compareTo(o1.getClass().getName());
-      }
-    });
-    return sortedPersisters;
-  }
-
   private void publishReportJob() {
     String stepName = "Publish report";
     eventBus.fireEvent(new BatchStepEvent(stepName, true));
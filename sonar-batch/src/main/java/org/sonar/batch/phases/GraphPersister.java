@@ -21,22 +21,21 @@ package org.sonar.batch.phases;
 
 import com.tinkerpop.blueprints.Graph;
 import org.sonar.api.component.Perspective;
+import org.sonar.batch.index.PersistAfter;
+import org.sonar.batch.index.ResourcePersister;
 import org.sonar.batch.index.ScanPersister;
 import org.sonar.core.component.ComponentVertex;
 import org.sonar.core.component.GraphPerspectiveBuilder;
 import org.sonar.core.component.PerspectiveBuilder;
 import org.sonar.core.component.ScanGraph;
 import org.sonar.core.graph.SubGraph;
-import org.sonar.core.graph.graphson.GraphsonMode;
-import org.sonar.core.graph.graphson.GraphsonWriter;
+import org.sonar.core.graph.binary.BinaryGraphWriter;
 import org.sonar.core.graph.jdbc.GraphDto;
 import org.sonar.core.graph.jdbc.GraphDtoMapper;
 import org.sonar.core.persistence.DbSession;
 import org.sonar.core.persistence.MyBatis;
 
-import java.io.IOException;
-import java.io.StringWriter;
-
+@PersistAfter(ResourcePersister.class)
 public class GraphPersister implements ScanPersister {
   private final MyBatis myBatis;
   private final ScanGraph projectGraph;
@@ -49,20 +48,23 @@ public class GraphPersister implements ScanPersister {
   }
 
   @Override
-  public void persist() {
+  public int persist() {
     DbSession session = myBatis.openSession(true);
     GraphDtoMapper mapper = session.getMapper(GraphDtoMapper.class);
     try {
+      int count = 0;
       for (ComponentVertex component : projectGraph.getComponents()) {
-        persistComponentGraph(mapper, component);
+        count += persistComponentGraph(mapper, component);
       }
       session.commit();
+      return count;
     } finally {
       session.close();
     }
   }
 
-  private void persistComponentGraph(GraphDtoMapper mapper, ComponentVertex component) {
+  private int persistComponentGraph(GraphDtoMapper mapper, ComponentVertex component) {
+    int count = 0;
     Long snapshotId = (Long) component.element().getProperty("sid");
     if (snapshotId != null) {
       for (PerspectiveBuilder builder : builders) {
@@ -70,18 +72,19 @@ public class GraphPersister implements ScanPersister {
         Perspective perspective = graphPerspectiveBuilder.getPerspectiveLoader().load(component);
         if (perspective != null) {
           serializePerspectiveData(mapper, component, snapshotId, graphPerspectiveBuilder);
+          count++;
         }
       }
     }
+    return count;
   }
 
   private void serializePerspectiveData(GraphDtoMapper mapper, ComponentVertex component, Long snapshotId,
     GraphPerspectiveBuilder builder) {
     Graph subGraph = SubGraph.extract(component.element(), builder.path());
-    String data = write(subGraph);
     mapper.insert(new GraphDto()
-      .setData(data)
-      .setFormat("graphson")
+      .setBinaryData(new BinaryGraphWriter().write(subGraph))
+      .setFormat(GraphDto.FORMAT_PROTOBUF)
       .setPerspective(builder.getPerspectiveLoader().getPerspectiveKey())
       .setVersion(1)
       .setResourceId((Long) component.element().getProperty("rid"))
@@ -89,13 +92,4 @@ public class GraphPersister implements ScanPersister {
       .setRootVertexId(component.element().getId().toString())
       );
   }
-
-  private String write(Graph graph) {
-    try (StringWriter output = new StringWriter()) {
-      new GraphsonWriter().write(graph, output, GraphsonMode.EXTENDED);
-      return output.toString();
-    } catch (IOException e) {
-      throw new IllegalStateException("Unable to write graph", e);
-    }
-  }
 }
@@ -26,10 +26,24 @@ class PersisterExecutionEvent extends AbstractPhaseEvent<PersisterExecutionHandl
   implements PersisterExecutionHandler.PersisterExecutionEvent {
 
   private final ScanPersister persister;
+  private final int rowCount;
+  private final long durationMs;
 
   PersisterExecutionEvent(ScanPersister persister, boolean start) {
     super(start);
     this.persister = persister;
+    this.rowCount = 0;
+    this.durationMs = 0L;
+  }
+
+  /**
+   * End of execution
+   */
+  PersisterExecutionEvent(ScanPersister persister, int rowCount, long durationMs) {
+    super(false);
+    this.persister = persister;
+    this.rowCount = rowCount;
+    this.durationMs = durationMs;
   }
 
   @Override
@@ -37,6 +51,16 @@ class PersisterExecutionEvent extends AbstractPhaseEvent<PersisterExecutionHandl
     return persister;
   }
 
+  @Override
+  public int getRowCount() {
+    return rowCount;
+  }
+
+  @Override
+  public long getDurationMs() {
+    return durationMs;
+  }
+
   @Override
   public void dispatch(PersisterExecutionHandler handler) {
     handler.onPersisterExecution(this);
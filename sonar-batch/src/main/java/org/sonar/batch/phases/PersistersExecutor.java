@@ -0,0 +1,188 @@
+/*
+ * SonarQube, open source software quality management tool.
+ * Copyright (C) 2008-2014 SonarSource
+ * mailto:contact AT sonarsource DOT com
+ *
+ * SonarQube is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SonarQube is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.batch.phases;
+
+import com.google.common.annotations.VisibleForTesting;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.sonar.api.BatchComponent;
+import org.sonar.api.utils.System2;
+import org.sonar.batch.events.EventBus;
+import org.sonar.batch.index.Caches;
+import org.sonar.batch.index.PersistAfter;
+import org.sonar.batch.index.ScanPersister;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Executes {@link ScanPersister}s. Persisters are grouped in successive waves according to the dependencies
+ * declared with {@link PersistAfter}. Persisters of a same wave are executed concurrently, each one
+ * opening its own database session.
+ * <p>
+ * Collaborators shared by the persisters of the second wave ({@link org.sonar.batch.phases.GraphPersister},
+ * {@link org.sonar.batch.index.MeasurePersister} and {@link org.sonar.batch.index.SourcePersister}) are safe for
+ * concurrent reads: {@link org.sonar.batch.index.ResourceCache} and
+ * {@link org.sonar.batch.scan.filesystem.InputPathCache} are synchronized, {@link org.sonar.batch.index.Cache}s
+ * use an exchange per thread and the metric finder is not modified after its creation. Only
+ * {@link org.sonar.batch.index.MeasurePersister} uses the Hibernate session, through the rule finder. Persisters
+ * using it, like {@link org.sonar.batch.index.DuplicationPersister}, must be executed after it.
+ * </p>
+ */
+public class PersistersExecutor implements BatchComponent {
+
+  private static final Logger LOG = LoggerFactory.getLogger(PersistersExecutor.class);
+
+  private final ScanPersister[] persisters;
+  private final Caches caches;
+  private final EventBus eventBus;
+  private final System2 system2;
+
+  public PersistersExecutor(ScanPersister[] persisters, Caches caches, EventBus eventBus, System2 system2) {
+    this.persisters = persisters;
+    this.caches = caches;
+    this.eventBus = eventBus;
+    this.system2 = system2;
+  }
+
+  public void execute() {
+    List<List<ScanPersister>> waves = waves();
+    List<ScanPersister> sortedPersisters = new ArrayList<>();
+    int maxWaveSize = 1;
+    for (List<ScanPersister> wave : waves) {
+      sortedPersisters.addAll(wave);
+      maxWaveSize = Math.max(maxWaveSize, wave.size());
+    }
+
+    eventBus.fireEvent(new PersistersPhaseEvent(sortedPersisters, true));
+    ExecutorService executorService = Executors.newFixedThreadPool(maxWaveSize);
+    try {
+      for (List<ScanPersister> wave : waves) {
+        execute(executorService, wave);
+      }
+    } finally {
+      executorService.shutdown();
+    }
+    eventBus.fireEvent(new PersistersPhaseEvent(sortedPersisters, false));
+  }
+
+  private void execute(ExecutorService executorService, List<ScanPersister> wave) {
+    if (wave.size() == 1) {
+      // No need to switch thread
+      execute(wave.get(0));
+      return;
+    }
+    List<Future<Void>> tasks = new ArrayList<>();
+    for (final ScanPersister persister : wave) {
+      tasks.add(executorService.submit(new Callable<Void>() {
+        @Override
+        public Void call() {
+          try {
+            execute(persister);
+            return null;
+          } finally {
+            caches.releaseExchanges();
+          }
+        }
+      }));
+    }
+    for (Future<Void> task : tasks) {
+      try {
+        task.get();
+      } catch (ExecutionException e) {
+        // Unwrap ExecutionException
+        throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : new IllegalStateException(e.getCause());
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new IllegalStateException(e);
+      }
+    }
+  }
+
+  private void execute(ScanPersister persister) {
+    LOG.debug("Execute {}", persister.getClass().getName());
+    fireEvent(new PersisterExecutionEvent(persister, true));
+    long start = system2.now();
+    int rowCount = persister.persist();
+    long durationMs = system2.now() - start;
+    LOG.debug("{} persisted {} rows in {} ms", persister.getClass().getSimpleName(), rowCount, durationMs);
+    fireEvent(new PersisterExecutionEvent(persister, rowCount, durationMs));
+  }
+
+  /**
+   * Event handlers, for example profilers, are not thread-safe
+   */
+  private synchronized void fireEvent(PersisterExecutionEvent event) {
+    eventBus.fireEvent(event);
+  }
+
+  /**
+   * Groups persisters so that a persister is executed after the persisters it depends upon.
+   * Persisters of a wave are sorted by class name to keep execution predictable.
+   */
+  @VisibleForTesting
+  List<List<ScanPersister>> waves() {
+    List<ScanPersister> remaining = new ArrayList<>(Arrays.asList(persisters));
+    Collections.sort(remaining, new Comparator<ScanPersister>() {
+      @Override
+      public int compare(ScanPersister o1, ScanPersister o2) {
+        return o1.getClass().getName().compareTo(o2.getClass().getName());
+      }
+    });
+    List<List<ScanPersister>> waves = new ArrayList<>();
+    while (!remaining.isEmpty()) {
+      List<ScanPersister> wave = new ArrayList<>();
+      for (ScanPersister persister : remaining) {
+        if (dependenciesAreCompleted(persister, remaining)) {
+          wave.add(persister);
+        }
+      }
+      if (wave.isEmpty()) {
+        throw new IllegalStateException("Cycle detected in dependencies of persisters: " + remaining);
+      }
+      remaining.removeAll(wave);
+      waves.add(wave);
+    }
+    return waves;
+  }
+
+  private static boolean dependenciesAreCompleted(ScanPersister persister, List<ScanPersister> remaining) {
+    PersistAfter annotation = persister.getClass().getAnnotation(PersistAfter.class);
+    if (annotation == null) {
+      return true;
+    }
+    for (Class<? extends ScanPersister> dependency : annotation.value()) {
+      for (ScanPersister other : remaining) {
+        if (other != persister && dependency.isInstance(other)) {
+          return false;
+        }
+      }
+    }
+    return true;
+  }
+}
@@ -31,6 +31,16 @@ public interface PersisterExecutionHandler extends EventHandler {
 
     ScanPersister getPersister();
 
+    /**
+     * Number of rows written by the persister. Always zero on start event.
+     */
+    int getRowCount();
+
+    /**
+     * Execution time of the persister in milliseconds. Always zero on start event.
+     */
+    long getDurationMs();
+
     boolean isStart();
 
     boolean isEnd();
@@ -19,15 +19,20 @@
  */
 package org.sonar.batch.repository;
 
+import com.google.common.io.InputSupplier;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.sonar.api.batch.bootstrap.ProjectReactor;
+import org.sonar.api.utils.HttpDownloader;
 import org.sonar.batch.bootstrap.DefaultAnalysisMode;
 import org.sonar.batch.bootstrap.ServerClient;
 import org.sonar.batch.bootstrap.TaskProperties;
 import org.sonar.batch.protocol.input.ProjectRepositories;
 import org.sonar.batch.rule.ModuleQProfiles;
 
+import java.io.IOException;
+import java.io.InputStream;
+
 public class DefaultProjectRepositoriesLoader implements ProjectRepositoriesLoader {
 
   private static final Logger LOG = LoggerFactory.getLogger(DefaultProjectRepositoriesLoader.class);
@@ -52,7 +57,15 @@ public class DefaultProjectRepositoriesLoader implements ProjectRepositoriesLoad
       url += "&profile=" + ServerClient.encodeForUrl(taskProperties.properties().get(ModuleQProfiles.SONAR_PROFILE_PROP));
     }
     url += "&preview=" + analysisMode.isPreview();
-    return ProjectRepositories.fromJson(serverClient.request(url));
+    url += "&format=protobuf";
+    InputSupplier<InputStream> request = serverClient.doRequest(url, "GET", null);
+    try (InputStream is = request.getInput()) {
+      return ProjectRepositories.parseDelimitedFrom(is);
+    } catch (HttpDownloader.HttpException e) {
+      throw serverClient.handleHttpException(e);
+    } catch (IOException e) {
+      throw new IllegalStateException("Unable to load project repositories", e);
+    }
   }
 
 }
@@ -101,7 +101,8 @@ public class ModuleScanContainer extends ComponentContainer {
     module.setSettings(moduleSettings);
 
     if (analysisMode.isDb()) {
-      add(DatabaseModePhaseExecutor.class);
+      add(DatabaseModePhaseExecutor.class,
+        PersistersExecutor.class);
     } else {
       add(RuleFinderCompatibility.class,
         DatabaseLessPhaseExecutor.class);
@@ -221,6 +222,19 @@ public class ModuleScanContainer extends ComponentContainer {
     });
   }
 
+  @Override
+  public ComponentContainer stopComponents(boolean swallowException) {
+    // modules can be scanned concurrently, but picocontainer does not support concurrent removal of child containers
+    synchronized (getParent().getPicoContainer()) {
+      try {
+        return super.stopComponents(swallowException);
+      } finally {
+        // the parent only references the last created child, which is not this module when scanned concurrently
+        getParent().getPicoContainer().removeChildContainer(getPicoContainer());
+      }
+    }
+  }
+
   @Override
   protected void doAfterStart() {
     DefaultIndex index = getComponentByType(DefaultIndex.class);
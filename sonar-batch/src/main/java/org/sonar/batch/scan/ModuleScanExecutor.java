@@ -0,0 +1,178 @@
+/*
+ * SonarQube, open source software quality management tool.
+ * Copyright (C) 2008-2014 SonarSource
+ * mailto:contact AT sonarsource DOT com
+ *
+ * SonarQube is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SonarQube is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.batch.scan;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.sonar.api.CoreProperties;
+import org.sonar.api.config.Settings;
+import org.sonar.api.resources.Project;
+import org.sonar.batch.bootstrap.DefaultAnalysisMode;
+import org.sonar.batch.index.Caches;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Scans the modules of a project, sub-modules before their parent. When {@link #THREADS_PROPERTY} is greater than 1,
+ * modules that do not depend on each other are scanned concurrently. The root project is always scanned last,
+ * by the calling thread.
+ * <p/>
+ * Concurrent scan is only available when the analysis does not use the database, i.e. in preview and issues modes
+ * where modules are executed by {@link org.sonar.batch.phases.DatabaseLessPhaseExecutor}. In database mode, the
+ * {@link org.sonar.batch.phases.DatabaseModePhaseExecutor} of each module uses the single Hibernate session of the
+ * batch, and the snapshots it persists are attached to this session and reused when persisting the parent modules,
+ * so they can't be moved to a session per thread. Concurrent scan is also not available when profiling is enabled,
+ * because the profiler is not thread-safe.
+ *
+ * @since 5.2
+ */
+class ModuleScanExecutor {
+
+  interface ModuleScanner {
+    void scan(Project module);
+  }
+
+  private static final Logger LOG = LoggerFactory.getLogger(ModuleScanExecutor.class);
+
+  static final String THREADS_PROPERTY = "sonar.moduleScan.threads";
+  static final int DEFAULT_THREADS = 1;
+
+  private final Settings settings;
+  private final DefaultAnalysisMode analysisMode;
+  private final Caches caches;
+
+  ModuleScanExecutor(Settings settings, DefaultAnalysisMode analysisMode, Caches caches) {
+    this.settings = settings;
+    this.analysisMode = analysisMode;
+    this.caches = caches;
+  }
+
+  void execute(Project rootProject, ModuleScanner scanner) {
+    int threads = numberOfThreads();
+    if (threads > 1 && !rootProject.getModules().isEmpty()) {
+      scanConcurrently(rootProject, scanner, threads);
+    } else {
+      scanRecursively(rootProject, scanner);
+    }
+  }
+
+  private static void scanRecursively(Project module, ModuleScanner scanner) {
+    for (Project subModule : module.getModules()) {
+      scanRecursively(subModule, scanner);
+    }
+    scanner.scan(module);
+  }
+
+  private void scanConcurrently(Project rootProject, ModuleScanner scanner, int threads) {
+    ExecutorService executorService = Executors.newFixedThreadPool(threads,
+      new ThreadFactoryBuilder().setNameFormat("Module scanner %d").setDaemon(true).build());
+    CompletionService<Project> completionService = new ExecutorCompletionService<>(executorService);
+    try {
+      Map<Project, Integer> remainingSubModules = new HashMap<>();
+      Map<Project, Project> parents = new HashMap<>();
+      int runningScans = submitLeaves(rootProject, scanner, completionService, remainingSubModules, parents);
+      while (runningScans > 0) {
+        Project scannedModule = completionService.take().get();
+        runningScans--;
+        Project parent = parents.get(scannedModule);
+        int remaining = remainingSubModules.get(parent) - 1;
+        remainingSubModules.put(parent, remaining);
+        if (remaining == 0 && parent != rootProject) {
+          submit(parent, scanner, completionService);
+          runningScans++;
+        }
+      }
+    } catch (ExecutionException e) {
+      // Unwrap ExecutionException
+      throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : new IllegalStateException(e.getCause());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while scanning modules", e);
+    } finally {
+      // stops the scans of the other modules if one failed
+      executorService.shutdownNow();
+    }
+    scanner.scan(rootProject);
+  }
+
+  /**
+   * Submits the modules without sub-modules and counts the sub-modules of the others
+   *
+   * @return the number of submitted modules
+   */
+  private int submitLeaves(Project module, ModuleScanner scanner, CompletionService<Project> completionService,
+    Map<Project, Integer> remainingSubModules, Map<Project, Project> parents) {
+    int submitted = 0;
+    remainingSubModules.put(module, module.getModules().size());
+    for (Project subModule : module.getModules()) {
+      parents.put(subModule, module);
+      if (subModule.getModules().isEmpty()) {
+        submit(subModule, scanner, completionService);
+        submitted++;
+      } else {
+        submitted += submitLeaves(subModule, scanner, completionService, remainingSubModules, parents);
+      }
+    }
+    return submitted;
+  }
+
+  private void submit(final Project module, final ModuleScanner scanner, CompletionService<Project> completionService) {
+    completionService.submit(new Callable<Project>() {
+      @Override
+      public Project call() {
+        try {
+          scanner.scan(module);
+          return module;
+        } finally {
+          caches.releaseExchanges();
+        }
+      }
+    });
+  }
+
+  @VisibleForTesting
+  int numberOfThreads() {
+    int threads = settings.getInt(THREADS_PROPERTY);
+    if (threads < 0) {
+      throw new IllegalArgumentException(String.format("Bad value of %s: %d", THREADS_PROPERTY, threads));
+    }
+    if (threads == 0) {
+      threads = DEFAULT_THREADS;
+    }
+    if (threads > 1 && analysisMode.isDb()) {
+      LOG.warn("Modules are scanned sequentially, {} is supported only in preview and issues modes", THREADS_PROPERTY);
+      return 1;
+    }
+    if (threads > 1 && settings.getBoolean(CoreProperties.PROFILING_LOG_PROPERTY)) {
+      LOG.warn("Modules are scanned sequentially, {} is not supported when profiling is enabled", THREADS_PROPERTY);
+      return 1;
+    }
+    return threads;
+  }
+}
@@ -20,6 +20,7 @@
 package org.sonar.batch.scan;
 
 import com.google.common.annotations.VisibleForTesting;
+import org.picocontainer.MutablePicoContainer;
 import org.sonar.api.BatchComponent;
 import org.sonar.api.CoreProperties;
 import org.sonar.api.batch.InstantiationStrategy;
@@ -216,22 +217,34 @@ public class ProjectScanContainer extends ComponentContainer {
   @Override
   protected void doAfterStart() {
     ProjectTree tree = getComponentByType(ProjectTree.class);
-    scanRecursively(tree.getRootProject());
+    ModuleScanExecutor executor = new ModuleScanExecutor(getComponentByType(Settings.class), analysisMode, getComponentByType(Caches.class));
+    executor.execute(tree.getRootProject(), new ModuleScanExecutor.ModuleScanner() {
+      @Override
+      public void scan(Project module) {
+        ProjectScanContainer.this.scan(module);
+      }
+    });
     if (analysisMode.isMediumTest()) {
       getComponentByType(ScanTaskObservers.class).notifyEndOfScanTask();
     }
   }
 
-  private void scanRecursively(Project module) {
-    for (Project subModules : module.getModules()) {
-      scanRecursively(subModules);
-    }
-    scan(module);
+  @Override
+  protected MutablePicoContainer createChildPicoContainer() {
+    // modules can be scanned concurrently, so they resolve the components of the project through a synchronized view
+    MutablePicoContainer childPico = createPicoContainer(new SynchronizedPicoContainer(getPicoContainer()));
+    getPicoContainer().addChildContainer(childPico);
+    return childPico;
   }
 
   @VisibleForTesting
   void scan(Project module) {
-    new ModuleScanContainer(this, module).execute();
+    ModuleScanContainer moduleContainer;
+    // modules can be scanned concurrently, but picocontainer does not support concurrent creation of child containers
+    synchronized (getPicoContainer()) {
+      moduleContainer = new ModuleScanContainer(this, module);
+    }
+    moduleContainer.execute();
   }
 
   static class BatchExtensionFilter implements ExtensionMatcher {
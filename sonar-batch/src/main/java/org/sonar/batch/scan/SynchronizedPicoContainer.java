@@ -0,0 +1,126 @@
+/*
+ * SonarQube, open source software quality management tool.
+ * Copyright (C) 2008-2014 SonarSource
+ * mailto:contact AT sonarsource DOT com
+ *
+ * SonarQube is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SonarQube is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.batch.scan;
+
+import org.picocontainer.ComponentAdapter;
+import org.picocontainer.NameBinding;
+import org.picocontainer.PicoContainer;
+import org.picocontainer.containers.AbstractDelegatingPicoContainer;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * View of the picocontainer of the project, used as parent by the picocontainers of modules.
+ * Modules can be scanned concurrently, but picocontainer does not support concurrent lazy
+ * instantiation of components, so lookups are synchronized on the picocontainer of the project.
+ */
+class SynchronizedPicoContainer extends AbstractDelegatingPicoContainer {
+
+  SynchronizedPicoContainer(PicoContainer delegate) {
+    super(delegate);
+  }
+
+  @Override
+  public <T> T getComponent(Class<T> componentType) {
+    synchronized (getDelegate()) {
+      return super.getComponent(componentType);
+    }
+  }
+
+  @Override
+  public <T> T getComponent(Class<T> componentType, Class<? extends Annotation> binding) {
+    synchronized (getDelegate()) {
+      return super.getComponent(componentType, binding);
+    }
+  }
+
+  @Override
+  public Object getComponent(Object componentKeyOrType) {
+    synchronized (getDelegate()) {
+      return super.getComponent(componentKeyOrType);
+    }
+  }
+
+  @Override
+  public Object getComponent(Object componentKeyOrType, Type into) {
+    synchronized (getDelegate()) {
+      return super.getComponent(componentKeyOrType, into);
+    }
+  }
+
+  @Override
+  public <T> ComponentAdapter<T> getComponentAdapter(Class<T> componentType, NameBinding componentNameBinding) {
+    synchronized (getDelegate()) {
+      return super.getComponentAdapter(componentType, componentNameBinding);
+    }
+  }
+
+  @Override
+  public <T> ComponentAdapter<T> getComponentAdapter(Class<T> componentType, Class<? extends Annotation> binding) {
+    synchronized (getDelegate()) {
+      return super.getComponentAdapter(componentType, binding);
+    }
+  }
+
+  @Override
+  public ComponentAdapter<?> getComponentAdapter(Object componentKey) {
+    synchronized (getDelegate()) {
+      return super.getComponentAdapter(componentKey);
+    }
+  }
+
+  @Override
+  public Collection<ComponentAdapter<?>> getComponentAdapters() {
+    synchronized (getDelegate()) {
+      return super.getComponentAdapters();
+    }
+  }
+
+  @Override
+  public <T> List<ComponentAdapter<T>> getComponentAdapters(Class<T> componentType) {
+    synchronized (getDelegate()) {
+      return super.getComponentAdapters(componentType);
+    }
+  }
+
+  @Override
+  public <T> List<ComponentAdapter<T>> getComponentAdapters(Class<T> componentType, Class<? extends Annotation> binding) {
+    synchronized (getDelegate()) {
+      return super.getComponentAdapters(componentType, binding);
+    }
+  }
+
+  @Override
+  public List<Object> getComponents() {
+    synchronized (getDelegate()) {
+      return super.getComponents();
+    }
+  }
+
+  @Override
+  public <T> List<T> getComponents(Class<T> componentType) {
+    synchronized (getDelegate()) {
+      return super.getComponents(componentType);
+    }
+  }
+}
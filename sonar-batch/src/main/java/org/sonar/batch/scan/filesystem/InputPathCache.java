@@ -20,6 +20,7 @@
 package org.sonar.batch.scan.filesystem;
 
 import com.google.common.base.Function;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Iterables;
 import org.sonar.api.BatchComponent;
 import org.sonar.api.batch.fs.InputDir;
@@ -40,6 +41,8 @@ import java.util.TreeMap;
 /**
  * Cache of all files and dirs. This cache is shared amongst all project modules. Inclusion and
  * exclusion patterns are already applied.
+ * <p/>
+ * Thread-safe, so that different modules can be indexed concurrently.
  */
 public class InputPathCache implements BatchComponent {
 
@@ -47,46 +50,58 @@ public class InputPathCache implements BatchComponent {
   private final Map<String, SortedMap<String, InputDir>> inputDirCache = new LinkedHashMap<>();
   private final Map<String, Map<String, InputFileMetadata>> inputFileMetadataCache = new LinkedHashMap<>();
 
-  public Iterable<InputFile> allFiles() {
-    return Iterables.concat(Iterables.transform(inputFileCache.values(), new Function<Map<String, InputFile>, Collection<InputFile>>() {
+  /**
+   * Copy of all the files indexed so far
+   */
+  public synchronized Iterable<InputFile> allFiles() {
+    return ImmutableList.copyOf(Iterables.concat(Iterables.transform(inputFileCache.values(), new Function<Map<String, InputFile>, Collection<InputFile>>() {
       @Override
       public Collection<InputFile> apply(Map<String, InputFile> input) {
         return input.values();
       }
-    }));
+    })));
   }
 
-  public Iterable<InputDir> allDirs() {
-    return Iterables.concat(Iterables.transform(inputDirCache.values(), new Function<Map<String, InputDir>, Collection<InputDir>>() {
+  /**
+   * Copy of all the directories indexed so far
+   */
+  public synchronized Iterable<InputDir> allDirs() {
+    return ImmutableList.copyOf(Iterables.concat(Iterables.transform(inputDirCache.values(), new Function<Map<String, InputDir>, Collection<InputDir>>() {
       @Override
       public Collection<InputDir> apply(Map<String, InputDir> input) {
         return input.values();
       }
-    }));
+    })));
   }
 
-  public Iterable<InputFile> filesByModule(String moduleKey) {
+  /**
+   * Files of the module. The returned view must not be iterated while files of the same module are being indexed.
+   */
+  public synchronized Iterable<InputFile> filesByModule(String moduleKey) {
     if (inputFileCache.containsKey(moduleKey)) {
       return inputFileCache.get(moduleKey).values();
     }
     return Collections.emptyList();
   }
 
-  public Iterable<InputDir> dirsByModule(String moduleKey) {
+  /**
+   * Directories of the module. The returned view must not be iterated while directories of the same module are being indexed.
+   */
+  public synchronized Iterable<InputDir> dirsByModule(String moduleKey) {
     if (inputDirCache.containsKey(moduleKey)) {
       return inputDirCache.get(moduleKey).values();
     }
     return Collections.emptyList();
   }
 
-  public InputPathCache removeModule(String moduleKey) {
+  public synchronized InputPathCache removeModule(String moduleKey) {
     inputFileCache.remove(moduleKey);
     inputDirCache.remove(moduleKey);
     inputFileMetadataCache.remove(moduleKey);
     return this;
   }
 
-  public InputPathCache remove(String moduleKey, InputFile inputFile) {
+  public synchronized InputPathCache remove(String moduleKey, InputFile inputFile) {
     if (inputFileCache.containsKey(moduleKey)) {
       inputFileCache.get(moduleKey).remove(inputFile.relativePath());
     }
@@ -96,14 +111,14 @@ public class InputPathCache implements BatchComponent {
     return this;
   }
 
-  public InputPathCache remove(String moduleKey, InputDir inputDir) {
+  public synchronized InputPathCache remove(String moduleKey, InputDir inputDir) {
     if (inputDirCache.containsKey(moduleKey)) {
       inputDirCache.get(moduleKey).remove(inputDir.relativePath());
     }
     return this;
   }
 
-  public InputPathCache put(String moduleKey, InputFile inputFile) {
+  public synchronized InputPathCache put(String moduleKey, InputFile inputFile) {
     if (!inputFileCache.containsKey(moduleKey)) {
       inputFileCache.put(moduleKey, new TreeMap<String, InputFile>());
     }
@@ -119,7 +134,7 @@ public class InputPathCache implements BatchComponent {
     return this;
   }
 
-  public InputPathCache put(String moduleKey, InputDir inputDir) {
+  public synchronized InputPathCache put(String moduleKey, InputDir inputDir) {
     if (!inputDirCache.containsKey(moduleKey)) {
       inputDirCache.put(moduleKey, new TreeMap<String, InputDir>());
     }
@@ -128,7 +143,7 @@ public class InputPathCache implements BatchComponent {
   }
 
   @CheckForNull
-  public InputFile getFile(String moduleKey, String relativePath) {
+  public synchronized InputFile getFile(String moduleKey, String relativePath) {
     if (inputFileCache.containsKey(moduleKey)) {
       return inputFileCache.get(moduleKey).get(relativePath);
     }
@@ -136,7 +151,7 @@ public class InputPathCache implements BatchComponent {
   }
 
   @CheckForNull
-  public InputFileMetadata getFileMetadata(String moduleKey, String relativePath) {
+  public synchronized InputFileMetadata getFileMetadata(String moduleKey, String relativePath) {
     if (inputFileMetadataCache.containsKey(moduleKey)) {
       return inputFileMetadataCache.get(moduleKey).get(relativePath);
     }
@@ -144,7 +159,7 @@ public class InputPathCache implements BatchComponent {
   }
 
   @CheckForNull
-  public InputDir getDir(String moduleKey, String relativePath) {
+  public synchronized InputDir getDir(String moduleKey, String relativePath) {
     if (inputDirCache.containsKey(moduleKey)) {
       return inputDirCache.get(moduleKey).get(relativePath);
     }
@@ -152,7 +167,7 @@ public class InputPathCache implements BatchComponent {
   }
 
   @CheckForNull
-  public InputPath getInputPath(BatchResource component) {
+  public synchronized InputPath getInputPath(BatchResource component) {
     if (component.isFile()) {
       return getFile(component.parent().parent().resource().getEffectiveKey(), component.resource().getPath());
     } else if (component.isDir()) {
@@ -31,6 +31,7 @@ import org.slf4j.LoggerFactory;
 import org.sonar.api.CoreProperties;
 import org.sonar.api.batch.fs.InputFile;
 import org.sonar.api.batch.fs.internal.PathPattern;
+import org.sonar.api.batch.fs.internal.PathPatternSet;
 import org.sonar.api.config.Settings;
 import org.sonar.api.utils.MessageException;
 
@@ -54,6 +55,12 @@ class LanguageDetection {
   private final List<String> languagesToConsider = Lists.newArrayList();
   private final String forcedLanguage;
 
+  /**
+   * Patterns of all the languages to consider, so that a file is matched in a single pass
+   */
+  private final PathPatternSet patternsToConsider;
+  private final String[] languageByPatternIndex;
+
   LanguageDetection(Settings settings, LanguagesRepository languages) {
     for (Language language : languages.all()) {
       String[] filePatterns = settings.getStringArray(getFileLangPatternPropKey(language.key()));
@@ -84,6 +91,17 @@ class LanguageDetection {
     } else {
       languagesToConsider.addAll(patternsByLanguage.keySet());
     }
+
+    List<PathPattern> patterns = Lists.newArrayList();
+    List<String> languageKeys = Lists.newArrayList();
+    for (String languageKey : languagesToConsider) {
+      for (PathPattern pattern : patternsByLanguage.get(languageKey)) {
+        patterns.add(pattern);
+        languageKeys.add(languageKey);
+      }
+    }
+    patternsToConsider = PathPatternSet.create(patterns.toArray(new PathPattern[patterns.size()]));
+    languageByPatternIndex = languageKeys.toArray(new String[languageKeys.size()]);
   }
 
   Map<String, PathPattern[]> patternsByLanguage() {
@@ -93,15 +111,14 @@ class LanguageDetection {
   @CheckForNull
   String language(InputFile inputFile) {
     String detectedLanguage = null;
-    for (String languageKey : languagesToConsider) {
-      if (isCandidateForLanguage(inputFile, languageKey)) {
-        if (detectedLanguage == null) {
-          detectedLanguage = languageKey;
-        } else {
-          // Language was already forced by another pattern
-          throw MessageException.of(MessageFormat.format("Language of file ''{0}'' can not be decided as the file matches patterns of both {1} and {2}",
-            inputFile.relativePath(), getDetails(detectedLanguage), getDetails(languageKey)));
-        }
+    for (int patternIndex : patternsToConsider.match(inputFile, false)) {
+      String languageKey = languageByPatternIndex[patternIndex];
+      if (detectedLanguage == null) {
+        detectedLanguage = languageKey;
+      } else if (!detectedLanguage.equals(languageKey)) {
+        // Language was already forced by another pattern
+        throw MessageException.of(MessageFormat.format("Language of file ''{0}'' can not be decided as the file matches patterns of both {1} and {2}",
+          inputFile.relativePath(), getDetails(detectedLanguage), getDetails(languageKey)));
       }
     }
     if (detectedLanguage != null) {
@@ -117,18 +134,6 @@ class LanguageDetection {
     return null;
   }
 
-  private boolean isCandidateForLanguage(InputFile inputFile, String languageKey) {
-    PathPattern[] patterns = patternsByLanguage.get(languageKey);
-    if (patterns != null) {
-      for (PathPattern pathPattern : patterns) {
-        if (pathPattern.match(inputFile, false)) {
-          return true;
-        }
-      }
-    }
-    return false;
-  }
-
   private String getFileLangPatternPropKey(String languageKey) {
     return "sonar.lang.patterns." + languageKey;
   }
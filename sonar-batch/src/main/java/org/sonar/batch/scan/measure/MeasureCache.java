@@ -25,6 +25,7 @@ import org.sonar.api.batch.measure.MetricFinder;
 import org.sonar.api.measures.Measure;
 import org.sonar.api.measures.RuleMeasure;
 import org.sonar.api.resources.Resource;
+import org.sonar.api.rule.RuleKey;
 import org.sonar.api.technicaldebt.batch.Characteristic;
 import org.sonar.api.technicaldebt.batch.TechnicalDebtModel;
 import org.sonar.batch.index.Cache;
@@ -71,36 +72,30 @@ public class MeasureCache implements BatchComponent {
   public MeasureCache put(Resource resource, Measure measure) {
     Preconditions.checkNotNull(resource.getEffectiveKey());
     Preconditions.checkNotNull(measure.getMetricKey());
-    cache.put(resource.getEffectiveKey(), measure.getMetricKey(), computeMeasureKey(measure), measure);
+    cache.put(computeKey(resource, measure), measure);
     return this;
   }
 
   public boolean contains(Resource resource, Measure measure) {
     Preconditions.checkNotNull(resource.getEffectiveKey());
     Preconditions.checkNotNull(measure.getMetricKey());
-    return cache.containsKey(resource.getEffectiveKey(), measure.getMetricKey(), computeMeasureKey(measure));
+    return cache.containsKey(computeKey(resource, measure));
   }
 
-  private static String computeMeasureKey(Measure m) {
-    StringBuilder sb = new StringBuilder();
-    if (m.getMetricKey() != null) {
-      sb.append(m.getMetricKey());
-    }
-    sb.append("|");
+  /**
+   * Measures are stored under resource key and metric key, so that they can be iterated by resource and by metric, followed by
+   * the characteristic key, the person id and, for rule measures only, the rule key. These last parts are appended as
+   * separate elements of the Persistit key instead of being concatenated into a new string for each measure.
+   */
+  private static Object[] computeKey(Resource resource, Measure m) {
     Characteristic characteristic = m.getCharacteristic();
-    if (characteristic != null) {
-      sb.append(characteristic.key());
-    }
-    sb.append("|");
-    Integer personId = m.getPersonId();
-    if (personId != null) {
-      sb.append(personId);
-    }
+    String characteristicKey = characteristic != null ? characteristic.key() : null;
     if (m instanceof RuleMeasure) {
-      sb.append("|");
-      sb.append(((RuleMeasure) m).ruleKey());
+      RuleKey ruleKey = ((RuleMeasure) m).ruleKey();
+      return new Object[] {resource.getEffectiveKey(), m.getMetricKey(), characteristicKey, m.getPersonId(),
+        ruleKey != null ? ruleKey.repository() : null, ruleKey != null ? ruleKey.rule() : null};
     }
-    return sb.toString();
+    return new Object[] {resource.getEffectiveKey(), m.getMetricKey(), characteristicKey, m.getPersonId()};
   }
 
 }
@@ -30,15 +30,25 @@ import org.sonar.api.Property;
 import org.sonar.api.PropertyType;
 import org.sonar.api.batch.fs.FileSystem;
 import org.sonar.api.config.Settings;
+import org.sonar.batch.index.BatchResource;
 
+import java.io.BufferedWriter;
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
+import java.io.Reader;
 import java.io.Writer;
 import java.net.URISyntaxException;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 
 @Properties({
@@ -80,24 +90,43 @@ public class HtmlReport implements Reporter {
   @Override
   public void execute() {
     if (settings.getBoolean(HTML_REPORT_ENABLED_KEY)) {
-      IssuesReport report = builder.buildReport();
+      IssuesReport report = builder.buildSummary();
       print(report);
     }
   }
 
+  /**
+   * Complete and light reports are generated in a single pass over resources. The issues and the source code of a resource
+   * are loaded only while it is being written, so that memory does not grow with the size of the project. Sources are
+   * written to a temporary file next to each report, then appended after the summary.
+   */
   public void print(IssuesReport report) {
     File reportFileDir = getReportFileDir();
     String reportName = settings.getString(HTML_REPORT_NAME_KEY);
-    if (!isLightModeOnly()) {
-      File reportFile = new File(reportFileDir, reportName + ".html");
-      LOG.debug("Generating HTML Report to: " + reportFile.getAbsolutePath());
-      writeToFile(report, reportFile, true);
-      LOG.info("HTML Issues Report generated: " + reportFile.getAbsolutePath());
-    }
-    File lightReportFile = new File(reportFileDir, reportName + "-light.html");
-    LOG.debug("Generating Light HTML Report to: " + lightReportFile.getAbsolutePath());
-    writeToFile(report, lightReportFile, false);
-    LOG.info("Light HTML Issues Report generated: " + lightReportFile.getAbsolutePath());
+    List<ReportOutput> outputs = new ArrayList<>();
+    try {
+      if (!isLightModeOnly()) {
+        File reportFile = new File(reportFileDir, reportName + ".html");
+        LOG.debug("Generating HTML Report to: " + reportFile.getAbsolutePath());
+        outputs.add(new ReportOutput(reportFile, true, fs.encoding()));
+      }
+      File lightReportFile = new File(reportFileDir, reportName + "-light.html");
+      LOG.debug("Generating Light HTML Report to: " + lightReportFile.getAbsolutePath());
+      outputs.add(new ReportOutput(lightReportFile, false, fs.encoding()));
+
+      writeReports(report, outputs);
+
+      for (ReportOutput output : outputs) {
+        output.close();
+        LOG.info((output.complete ? "HTML Issues Report generated: " : "Light HTML Issues Report generated: ") + output.file.getAbsolutePath());
+      }
+    } catch (IOException e) {
+      throw new IllegalStateException("Fail to generate HTML Issues Report to: " + reportFileDir, e);
+    } finally {
+      for (ReportOutput output : outputs) {
+        output.closeQuietly();
+      }
+    }
     try {
       copyDependencies(reportFileDir);
     } catch (Exception e) {
@@ -123,32 +152,134 @@ public class HtmlReport implements Reporter {
     return reportFileDir;
   }
 
-  public void writeToFile(IssuesReport report, File toFile, boolean complete) {
-    Writer writer = null;
-    FileOutputStream fos = null;
+  private void writeReports(IssuesReport report, List<ReportOutput> outputs) throws IOException {
+    freemarker.template.Configuration cfg = newConfiguration();
+    Template header = getTemplate(cfg, "issuesreport_header.ftl");
+    Template resourceIssues = getTemplate(cfg, "issuesreport_resource_issues.ftl");
+    Template summary = getTemplate(cfg, "issuesreport_summary.ftl");
+    Template resource = getTemplate(cfg, "issuesreport_resource.ftl");
+    Template footer = getTemplate(cfg, "issuesreport_footer.ftl");
+
+    Map<String, Object> root = Maps.newHashMap();
+    root.put("report", report);
+    root.put("ruleNameProvider", ruleNameProvider);
+
+    process(header, root, outputs);
+
+    // The issues of all resources are declared before the summary, and their sources after it. The report of a resource
+    // is built once to write both fragments: sources are written to a temporary file, then copied after the summary.
+    int resourceIndex = 0;
+    for (Iterator<BatchResource> it = report.getResourcesWithReport().iterator(); it.hasNext();) {
+      BatchResource batchResource = it.next();
+      ResourceReport resourceReport = builder.buildResourceReport(batchResource);
+      root.put("resourceReport", resourceReport);
+      root.put("hasNext", it.hasNext());
+      process(resourceIssues, root, outputs);
+      if (!report.isNoFile()) {
+        root.put("resourceIndex", resourceIndex);
+        root.put("sourceLines", isWrittenByAnyOutput(resourceReport, outputs) ? sourceProvider.getEscapedSource(batchResource) : Collections.emptyList());
+        processSources(resource, root, outputs);
+        resourceIndex++;
+      }
+    }
+    root.remove("resourceReport");
+    root.remove("hasNext");
+    root.remove("resourceIndex");
+    root.remove("sourceLines");
+
+    process(summary, root, outputs);
+
+    for (ReportOutput output : outputs) {
+      output.appendSources();
+    }
+
+    process(footer, root, outputs);
+  }
+
+  private static boolean isWrittenByAnyOutput(ResourceReport resourceReport, List<ReportOutput> outputs) {
+    for (ReportOutput output : outputs) {
+      if (output.complete || resourceReport.getTotal().getNewIssuesCount() > 0) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static freemarker.template.Configuration newConfiguration() {
     try {
       freemarker.log.Logger.selectLoggerLibrary(freemarker.log.Logger.LIBRARY_NONE);
-      freemarker.template.Configuration cfg = new freemarker.template.Configuration();
-      cfg.setClassForTemplateLoading(HtmlReport.class, "");
-
-      Map<String, Object> root = Maps.newHashMap();
-      root.put("report", report);
-      root.put("ruleNameProvider", ruleNameProvider);
-      root.put("sourceProvider", sourceProvider);
-      root.put("complete", complete);
-
-      Template template = cfg.getTemplate("issuesreport.ftl");
-      fos = new FileOutputStream(toFile);
-      writer = new OutputStreamWriter(fos, fs.encoding());
-      template.process(root, writer);
-      writer.flush();
+    } catch (ClassNotFoundException e) {
+      throw new IllegalStateException("Fail to configure FreeMarker logging", e);
+    }
+    freemarker.template.Configuration cfg = new freemarker.template.Configuration();
+    cfg.setClassForTemplateLoading(HtmlReport.class, "");
+    return cfg;
+  }
 
+  private static Template getTemplate(freemarker.template.Configuration cfg, String name) {
+    try {
+      return cfg.getTemplate(name);
+    } catch (IOException e) {
+      throw new IllegalStateException("Fail to load HTML report template " + name, e);
+    }
+  }
+
+  private static void process(Template template, Map<String, Object> root, List<ReportOutput> outputs) {
+    for (ReportOutput output : outputs) {
+      process(template, root, output, output.writer);
+    }
+  }
+
+  private static void processSources(Template template, Map<String, Object> root, List<ReportOutput> outputs) {
+    for (ReportOutput output : outputs) {
+      process(template, root, output, output.sourcesWriter);
+    }
+  }
+
+  private static void process(Template template, Map<String, Object> root, ReportOutput output, Writer writer) {
+    root.put("complete", output.complete);
+    try {
+      template.process(root, writer);
     } catch (Exception e) {
-      throw new IllegalStateException("Fail to generate HTML Issues Report to: " + toFile, e);
+      throw new IllegalStateException("Fail to generate HTML Issues Report to: " + output.file, e);
+    }
+  }
 
-    } finally {
+  private static class ReportOutput {
+    private final File file;
+    private final boolean complete;
+    private final Charset encoding;
+    private final Writer writer;
+    private final File sourcesFile;
+    private final Writer sourcesWriter;
+
+    ReportOutput(File file, boolean complete, Charset encoding) throws IOException {
+      this.file = file;
+      this.complete = complete;
+      this.encoding = encoding;
+      this.writer = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(file), encoding));
+      this.sourcesFile = new File(file.getParentFile(), file.getName() + ".sources.tmp");
+      this.sourcesWriter = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(sourcesFile), encoding));
+    }
+
+    void appendSources() throws IOException {
+      sourcesWriter.close();
+      Reader reader = new InputStreamReader(new FileInputStream(sourcesFile), encoding);
+      try {
+        IOUtils.copy(reader, writer);
+      } finally {
+        IOUtils.closeQuietly(reader);
+      }
+    }
+
+    void close() throws IOException {
+      writer.close();
+    }
+
+    void closeQuietly() {
       IOUtils.closeQuietly(writer);
-      IOUtils.closeQuietly(fos);
+      IOUtils.closeQuietly(sourcesWriter);
+      FileUtils.deleteQuietly(sourcesFile);
     }
   }
 
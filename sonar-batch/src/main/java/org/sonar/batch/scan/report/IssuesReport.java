@@ -20,6 +20,7 @@
 package org.sonar.batch.scan.report;
 
 import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
 import org.sonar.api.issue.Issue;
 import org.sonar.api.rules.Rule;
 import org.sonar.api.rules.RulePriority;
@@ -29,6 +30,7 @@ import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 public class IssuesReport {
 
@@ -38,6 +40,7 @@ public class IssuesReport {
   private boolean noFile;
   private final ReportSummary summary = new ReportSummary();
   private final Map<BatchResource, ResourceReport> resourceReportsByResource = Maps.newLinkedHashMap();
+  private final Set<BatchResource> resourcesWithReport = Sets.newLinkedHashSet();
 
   public IssuesReport() {
   }
@@ -79,7 +82,7 @@ public class IssuesReport {
   }
 
   public List<BatchResource> getResourcesWithReport() {
-    return new ArrayList<BatchResource>(resourceReportsByResource.keySet());
+    return new ArrayList<BatchResource>(resourcesWithReport);
   }
 
   public void addIssueOnResource(BatchResource resource, Issue issue, Rule rule, RulePriority severity) {
@@ -94,7 +97,20 @@ public class IssuesReport {
     resourceReportsByResource.get(resource).addResolvedIssue(issue, rule, RulePriority.valueOf(issue.severity()));
   }
 
+  /**
+   * Counts the issue in summary, without adding it to the report of resource
+   */
+  public void addIssueToSummary(BatchResource resource, Issue issue, Rule rule, RulePriority severity) {
+    resourcesWithReport.add(resource);
+    if (issue.resolution() != null) {
+      getSummary().addResolvedIssue(issue, rule, severity);
+    } else {
+      getSummary().addIssue(issue, rule, severity);
+    }
+  }
+
   private void addResource(BatchResource resource) {
+    resourcesWithReport.add(resource);
     if (!resourceReportsByResource.containsKey(resource)) {
       resourceReportsByResource.put(resource, new ResourceReport(resource));
     }
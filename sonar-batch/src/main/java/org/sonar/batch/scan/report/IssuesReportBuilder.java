@@ -56,18 +56,49 @@ public class IssuesReportBuilder implements BatchExtension {
   }
 
   public IssuesReport buildReport() {
+    IssuesReport issuesReport = newReport();
+    processIssues(issuesReport, issueCache.all(), true);
+    return issuesReport;
+  }
+
+  /**
+   * Same as {@link #buildReport()} except that issues are only counted in the summary, so that they are not all
+   * loaded in memory. {@link IssuesReport#getResourceReports()} is empty, the report of each resource
+   * of {@link IssuesReport#getResourcesWithReport()} is loaded on demand by {@link #buildResourceReport(BatchResource)}.
+   */
+  public IssuesReport buildSummary() {
+    IssuesReport issuesReport = newReport();
+    processIssues(issuesReport, issueCache.all(), false);
+    return issuesReport;
+  }
+
+  public ResourceReport buildResourceReport(BatchResource resource) {
+    ResourceReport resourceReport = new ResourceReport(resource);
+    for (Issue issue : issueCache.byComponent(resource.key())) {
+      Rule rule = findRule(issue);
+      if (!validate(issue, rule, resource)) {
+        continue;
+      }
+      RulePriority severity = RulePriority.valueOf(issue.severity());
+      if (issue.resolution() != null) {
+        resourceReport.addResolvedIssue(issue, rule, severity);
+      } else {
+        resourceReport.addIssue(issue, rule, severity);
+      }
+    }
+    return resourceReport;
+  }
+
+  private IssuesReport newReport() {
     Project project = projectTree.getRootProject();
     IssuesReport issuesReport = new IssuesReport();
     issuesReport.setNoFile(!inputPathCache.allFiles().iterator().hasNext());
     issuesReport.setTitle(project.getName());
     issuesReport.setDate(project.getAnalysisDate());
-
-    processIssues(issuesReport, issueCache.all());
-
     return issuesReport;
   }
 
-  private void processIssues(IssuesReport issuesReport, Iterable<DefaultIssue> issues) {
+  private void processIssues(IssuesReport issuesReport, Iterable<DefaultIssue> issues, boolean withResourceReports) {
     for (Issue issue : issues) {
       Rule rule = findRule(issue);
       RulePriority severity = RulePriority.valueOf(issue.severity());
@@ -75,7 +106,9 @@ public class IssuesReportBuilder implements BatchExtension {
       if (!validate(issue, rule, resource)) {
         continue;
       }
-      if (issue.resolution() != null) {
+      if (!withResourceReports) {
+        issuesReport.addIssueToSummary(resource, issue, rule, severity);
+      } else if (issue.resolution() != null) {
         issuesReport.addResolvedIssueOnResource(resource, issue, rule, severity);
       } else {
         issuesReport.addIssueOnResource(resource, issue, rule, severity);
@@ -0,0 +1,12 @@
+<#-- End of the HTML issues report -->
+<#if !report.isNoFile()>
+  </div>
+</div>
+<script type="text/javascript">
+  $(function() {
+    refreshFilters(true);
+  });
+</script>
+</#if>
+</body>
+</html>
@@ -0,0 +1,169 @@
+<#-- Details of a resource, rendered once per resource -->
+    <#if complete || (resourceReport.getTotal().getNewIssuesCount() > 0)>
+      <#assign issueId=0>
+      <#if resourceReport.getTotal().getNewIssuesCount() = 0>
+      <#assign tableCss = 'all'>
+      <#else>
+      <#assign tableCss = ''>
+      </#if>
+  <table width="100%" class="data ${tableCss}" id="resource-${resourceIndex?c}">
+    <thead>
+    <tr class="total">
+      <th align="left" colspan="2" nowrap>
+        <div class="file_title">
+          <img src="issuesreport_files/${resourceReport.getType()}.png" title="Resource icon"/>
+          <a href="#" onclick="$('.resource-details-${resourceIndex?c}').toggleClass('masked'); return false;" style="color: black">${resourceReport.getName()}</a>
+        </div>
+      </th>
+      <th align="right" width="1%" nowrap class="resource-details-${resourceIndex?c}">
+        <#if resourceReport.getTotal().getNewIssuesCount() gt 0>
+          <span class="worst" id="new-total">${resourceReport.getTotal().getNewIssuesCount()?c}</span>
+        <#else>
+          <span id="new-total">0</span>
+        </#if>
+        <br/>New issues
+      </th>
+      <#if complete>
+      <th align="right" width="1%" nowrap class="resource-details-${resourceIndex?c}">
+        <#if resourceReport.getTotal().getResolvedIssuesCount() gt 0>
+          <span class="better" id="resolved-total">${resourceReport.getTotal().getResolvedIssuesCount()?c}</span>
+        <#else>
+          <span id="resolved-total">0</span>
+        </#if>
+        <br/>Resolved issues
+      </th>
+      <th align="right" width="1%" nowrap class="resource-details-${resourceIndex?c} all">
+        <span id="current-total">${resourceReport.getTotal().getCountInCurrentAnalysis()?c}</span><br/>Issues
+      </th>
+      </#if>
+    </tr>
+    </thead>
+    <tbody class="resource-details-${resourceIndex?c}">
+    <#if complete>
+    <#list resourceReport.getRuleReports() as ruleReport>
+      <tr class="hoverable all">
+        <td width="20">
+          <i class="icon-severity-${ruleReport.getSeverity()?lower_case}"></i>
+        </td>
+        <td align="left">
+          ${ruleNameProvider.nameForHTML(ruleReport.getRule())}
+        </td>
+        <td align="right">
+          <#if ruleReport.getTotal().getNewIssuesCount() gt 0>
+            <span class="worst">${ruleReport.getTotal().getNewIssuesCount()?c}</span>
+          <#else>
+            <span>0</span>
+          </#if>
+        </td>
+        <#if complete>
+        <td align="right">
+          <#if ruleReport.getTotal().getResolvedIssuesCount() gt 0>
+            <span class="better">${ruleReport.getTotal().getResolvedIssuesCount()?c}</span>
+          <#else>
+            <span>0</span>
+          </#if>
+        </td>
+        <td align="right" class="all">
+          ${ruleReport.getTotal().getCountInCurrentAnalysis()?c}
+        </td>
+        </#if>
+      </tr>
+    </#list>
+    </#if>
+    <#if complete>
+      <#assign colspan = '5'>
+    <#else>
+      <#assign colspan = '3'>
+    </#if>
+    <#assign issues=resourceReport.getIssuesAtLine(0, complete)>
+      <#if issues?has_content>
+      <tr class="globalIssues">
+        <td colspan="${colspan}">
+          <#list issues as issue>
+            <div class="issue" id="${issue.key()}">
+              <div class="vtitle">
+                <i class="icon-severity-${issue.severity()?lower_case}"></i>
+                <#if issue.message()??>
+                <span class="rulename">${issue.message()}</span>
+                <#else>
+                <span class="rulename">${ruleNameProvider.nameForHTML(issue.ruleKey())}</span>
+                </#if>
+                &nbsp;
+                <img src="issuesreport_files/sep12.png">&nbsp;
+
+                <span class="issue_date">
+                  <#if issue.isNew()>
+                    NEW
+                  <#else>
+                    ${issue.creationDate()?date}
+                  </#if>
+                </span>
+              </div>
+              <div class="discussionComment">
+              ${ruleNameProvider.nameForHTML(issue.ruleKey())}
+              </div>
+            </div>
+            <#assign issueId = issueId + 1>
+          </#list>
+        </td>
+      </tr>
+      </#if>
+      <tr>
+        <td colspan="${colspan}">
+          <table class="sources" border="0" cellpadding="0" cellspacing="0">
+            <#list sourceLines as line>
+              <#assign lineIndex=line_index+1>
+              <#if resourceReport.isDisplayableLine(lineIndex, complete)>
+                <tr id="${resourceIndex?c}L${lineIndex?c}" class="row">
+                  <td class="lid ">${lineIndex?c}</td>
+                  <td class="line ">
+                    <pre>${line}</pre>
+                  </td>
+                </tr>
+                <tr id="${resourceIndex}S${lineIndex?c}" class="blockSep">
+                  <td colspan="2"></td>
+                </tr>
+                <#assign issues=resourceReport.getIssuesAtLine(lineIndex, complete)>
+                <#if issues?has_content>
+                  <tr id="${resourceIndex?c}LV${lineIndex?c}" class="row">
+                    <td class="lid"></td>
+                    <td class="issues">
+                      <#list issues as issue>
+                        <div class="issue" id="${issue.key()}">
+                          <div class="vtitle">
+                            <i class="icon-severity-${issue.severity()?lower_case}"></i>
+                            <#if issue.message()??>
+                            <span class="rulename">${issue.message()}</span>
+                            <#else>
+                            <span class="rulename">${ruleNameProvider.nameForHTML(issue.ruleKey())}</span>
+                            </#if>
+                            &nbsp;
+                            <img src="issuesreport_files/sep12.png">&nbsp;
+
+                            <span class="issue_date">
+                              <#if issue.isNew()>
+                                NEW
+                              <#else>
+                                ${issue.creationDate()?date}
+                              </#if>
+                            </span>
+                            &nbsp;
+
+                          </div>
+                          <div class="discussionComment">
+                            ${ruleNameProvider.nameForHTML(issue.ruleKey())}
+                          </div>
+                        </div>
+                        <#assign issueId = issueId + 1>
+                      </#list>
+                    </td>
+                  </tr>
+                </#if>
+              </#if>
+            </#list>
+          </table>
+        </td>
+      </tr>
+    </tbody>
+  </table>
+    </#if>
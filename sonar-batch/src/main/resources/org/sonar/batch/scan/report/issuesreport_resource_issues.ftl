@@ -0,0 +1,10 @@
+<#-- Issues of a resource, rendered once per resource in the declaration of issues per resource -->
+      [
+        <#assign issues=resourceReport.getIssues()>
+        <#list issues as issue>
+          <#if complete || issue.isNew()>
+          {'k': '${issue.key()}', 'r': 'R${issue.ruleKey()}', 'l': ${(issue.line()!0)?c}, 'new': ${issue.isNew()?string}, 's': '${issue.severity()?lower_case}'}<#if issue_has_next>,</#if>
+          </#if>
+        </#list>
+      ]
+      <#if hasNext>,</#if>
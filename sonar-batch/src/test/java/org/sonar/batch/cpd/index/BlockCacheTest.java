@@ -0,0 +1,148 @@
+/*
+ * SonarQube, open source software quality management tool.
+ * Copyright (C) 2008-2014 SonarSource
+ * mailto:contact AT sonarsource DOT com
+ *
+ * SonarQube is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SonarQube is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.batch.cpd.index;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.sonar.api.batch.fs.internal.DefaultInputFile;
+import org.sonar.batch.scan.filesystem.InputFileMetadata;
+import org.sonar.batch.scan.filesystem.InputPathCache;
+import org.sonar.duplications.block.Block;
+import org.sonar.duplications.block.ByteArray;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class BlockCacheTest {
+
+  @Rule
+  public TemporaryFolder temp = new TemporaryFolder();
+
+  File file;
+  InputPathCache inputPathCache;
+  DefaultInputFile foo = new DefaultInputFile("module", "src/Foo.java");
+  DefaultInputFile bar = new DefaultInputFile("module", "src/Bar.java");
+
+  @Before
+  public void prepare() throws Exception {
+    file = new File(temp.newFolder(), "cpd/java.blocks");
+    inputPathCache = new InputPathCache();
+    setHash(foo, "foo1");
+    setHash(bar, "bar1");
+  }
+
+  @Test
+  public void reload_blocks_of_unchanged_files() {
+    BlockCache cache = new BlockCache(file, "sig", inputPathCache);
+    assertThat(cache.get(foo)).isNull();
+    cache.put(foo, Arrays.asList(block(foo, 0, 1, 3), block(foo, 1, 2, 4)));
+    cache.put(bar, Arrays.asList(block(bar, 0, 5, 8)));
+    cache.save();
+    assertThat(file).isFile();
+
+    setHash(bar, "bar2");
+    cache = new BlockCache(file, "sig", inputPathCache);
+    List<Block> blocks = cache.get(foo);
+    assertThat(blocks).containsExactly(block(foo, 0, 1, 3), block(foo, 1, 2, 4));
+    Block block = blocks.get(1);
+    assertThat(block.getResourceId()).isEqualTo(foo.key());
+    assertThat(block.getIndexInFile()).isEqualTo(1);
+    assertThat(block.getStartLine()).isEqualTo(2);
+    assertThat(block.getEndLine()).isEqualTo(4);
+    assertThat(block.getStartUnit()).isEqualTo(20);
+    assertThat(block.getEndUnit()).isEqualTo(40);
+    assertThat(cache.get(bar)).isNull();
+  }
+
+  @Test
+  public void only_keep_blocks_of_files_indexed_by_last_analysis() {
+    BlockCache cache = new BlockCache(file, "sig", inputPathCache);
+    cache.put(foo, Arrays.asList(block(foo, 0, 1, 3)));
+    cache.put(bar, Arrays.asList(block(bar, 0, 5, 8)));
+    cache.save();
+
+    cache = new BlockCache(file, "sig", inputPathCache);
+    assertThat(cache.get(foo)).hasSize(1);
+    cache.save();
+
+    cache = new BlockCache(file, "sig", inputPathCache);
+    assertThat(cache.get(foo)).hasSize(1);
+    assertThat(cache.get(bar)).isNull();
+  }
+
+  @Test
+  public void ignore_blocks_persisted_with_another_signature() {
+    BlockCache cache = new BlockCache(file, "sig", inputPathCache);
+    cache.put(foo, Arrays.asList(block(foo, 0, 1, 3)));
+    cache.save();
+
+    assertThat(new BlockCache(file, "other", inputPathCache).get(foo)).isNull();
+  }
+
+  @Test
+  public void signature_contains_version_of_chunker() {
+    String signature = BlockCache.signature(Block.class, 10, StandardCharsets.UTF_8);
+
+    assertThat(signature).startsWith(Block.class.getName() + ":").endsWith(":10:UTF-8");
+    String version = Block.class.getPackage().getImplementationVersion();
+    if (version == null) {
+      version = Block.class.getProtectionDomain().getCodeSource().getLocation().toString();
+    }
+    assertThat(signature).contains(":" + version + ":");
+  }
+
+  @Test
+  public void ignore_corrupted_file() throws Exception {
+    FileUtils.write(file, "corrupted");
+
+    assertThat(new BlockCache(file, "sig", inputPathCache).get(foo)).isNull();
+  }
+
+  @Test
+  public void do_not_persist_blocks_of_files_without_hash() {
+    DefaultInputFile noHash = new DefaultInputFile("module", "src/NoHash.java");
+    BlockCache cache = new BlockCache(file, "sig", inputPathCache);
+    cache.put(noHash, Arrays.asList(block(noHash, 0, 1, 3)));
+    cache.save();
+
+    assertThat(new BlockCache(file, "sig", inputPathCache).get(noHash)).isNull();
+  }
+
+  private void setHash(DefaultInputFile inputFile, String hash) {
+    inputPathCache.put(inputFile.moduleKey(), inputFile.relativePath(), new InputFileMetadata().setHash(hash));
+  }
+
+  private static Block block(DefaultInputFile inputFile, int index, int startLine, int endLine) {
+    return Block.builder()
+      .setResourceId(inputFile.key())
+      .setBlockHash(new ByteArray(startLine * 31L + endLine))
+      .setIndexInFile(index)
+      .setLines(startLine, endLine)
+      .setUnit(startLine * 10, endLine * 10)
+      .build();
+  }
+}
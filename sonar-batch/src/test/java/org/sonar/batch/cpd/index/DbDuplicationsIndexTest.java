@@ -0,0 +1,158 @@
+/*
+ * SonarQube, open source software quality management tool.
+ * Copyright (C) 2008-2014 SonarSource
+ * mailto:contact AT sonarsource DOT com
+ *
+ * SonarQube is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SonarQube is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.batch.cpd.index;
+
+import org.apache.ibatis.session.ResultContext;
+import org.apache.ibatis.session.ResultHandler;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+import org.sonar.api.batch.fs.internal.DefaultInputFile;
+import org.sonar.api.database.DatabaseSession;
+import org.sonar.api.resources.Project;
+import org.sonar.batch.index.BatchResource;
+import org.sonar.batch.index.ResourceCache;
+import org.sonar.core.duplication.DuplicationDao;
+import org.sonar.core.duplication.DuplicationUnitDto;
+import org.sonar.duplications.block.Block;
+import org.sonar.duplications.block.ByteArray;
+
+import javax.persistence.Query;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyCollection;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class DbDuplicationsIndexTest {
+
+  private static final String HASH = "0000000100000002";
+
+  DuplicationDao dao = mock(DuplicationDao.class);
+  ResourceCache resourceCache = mock(ResourceCache.class);
+  DefaultInputFile inputFile = new DefaultInputFile("foo", "src/Foo.java");
+  DbDuplicationsIndex index;
+
+  @Before
+  public void setUp() {
+    Project project = new Project("foo");
+    project.setId(1);
+    mockSnapshot("foo", 10);
+    mockSnapshot(inputFile.key(), 11);
+    DatabaseSession session = mock(DatabaseSession.class);
+    when(session.createQuery(anyString())).thenReturn(mock(Query.class));
+    index = new DbDuplicationsIndex(project, dao, "java", session, resourceCache);
+  }
+
+  @Test
+  public void load_candidates_of_all_files_once() {
+    mockCandidates(unit("bar:src/Bar.java", HASH), unit("bar:src/Other.java", HASH), unit("bar:src/Old.java", "aa"));
+    index.insert(inputFile, Arrays.asList(block(HASH)));
+
+    index.prepareCache();
+    index.prepareCache();
+
+    verify(dao, times(1)).selectCandidatesOfProject(eq(10), eq((Integer) null), eq("java"), any(ResultHandler.class));
+    Collection<Block> blocks = index.getByHash(new ByteArray(HASH));
+    assertThat(blocks).hasSize(2);
+    assertThat(blocks.iterator().next().getStartLine()).isEqualTo(1);
+    assertThat(index.getByHash(new ByteArray("0000000100000003"))).isEmpty();
+  }
+
+  @Test
+  public void no_candidates_before_preparing_cache() {
+    mockCandidates(unit("bar:src/Bar.java", HASH));
+
+    assertThat(index.getByHash(new ByteArray(HASH))).isEmpty();
+  }
+
+  @Test
+  public void buffer_inserts() {
+    List<Block> blocks = new ArrayList<>();
+    for (int i = 0; i < DbDuplicationsIndex.INSERT_BUFFER_SIZE / 2; i++) {
+      blocks.add(block(HASH));
+    }
+
+    index.insert(inputFile, blocks);
+    verify(dao, never()).insert(anyCollection());
+
+    index.insert(inputFile, blocks);
+    verify(dao, times(1)).insert(anyCollection());
+  }
+
+  @Test
+  public void flush_inserts_before_loading_candidates() {
+    mockCandidates();
+    index.insert(inputFile, Arrays.asList(block(HASH)));
+    verify(dao, never()).insert(anyCollection());
+
+    index.prepareCache();
+    verify(dao, times(1)).insert(anyCollection());
+  }
+
+  private void mockSnapshot(String key, int snapshotId) {
+    BatchResource resource = mock(BatchResource.class);
+    when(resource.snapshotId()).thenReturn(snapshotId);
+    when(resourceCache.get(key)).thenReturn(resource);
+  }
+
+  private void mockCandidates(final DuplicationUnitDto... units) {
+    doAnswer(new Answer<Void>() {
+      @Override
+      public Void answer(InvocationOnMock invocation) {
+        ResultHandler handler = (ResultHandler) invocation.getArguments()[3];
+        for (DuplicationUnitDto unit : units) {
+          ResultContext context = mock(ResultContext.class);
+          when(context.getResultObject()).thenReturn(unit);
+          handler.handleResult(context);
+        }
+        return null;
+      }
+    }).when(dao).selectCandidatesOfProject(eq(10), eq((Integer) null), anyString(), any(ResultHandler.class));
+  }
+
+  private static DuplicationUnitDto unit(String resourceKey, String hash) {
+    DuplicationUnitDto unit = new DuplicationUnitDto(1, 2, hash, 0, 1, 10);
+    unit.setResourceKey(resourceKey);
+    return unit;
+  }
+
+  private static Block block(String hash) {
+    return Block.builder()
+      .setResourceId("foo:src/Foo.java")
+      .setBlockHash(new ByteArray(hash))
+      .setIndexInFile(0)
+      .setLines(1, 10)
+      .build();
+  }
+}
@@ -146,4 +146,26 @@ public class IssueChangelogDebtCalculatorTest {
     assertThat(issueChangelogDebtCalculator.calculateNewTechnicalDebt(issue, rightNow)).isNull();
   }
 
+  @Test
+  public void calculate_new_technical_debt_of_many_periods_from_debt_history() {
+    Issue issue = new DefaultIssue().setKey("A").setCreationDate(tenDaysAgo).setDebt(fiveDaysDebt).setChanges(
+      newArrayList(
+        new FieldDiffs().setDiff("technicalDebt", null, oneDay).setCreationDate(nineDaysAgo),
+        new FieldDiffs().setDiff("technicalDebt", twoDays, fiveDays).setCreationDate(null),
+        new FieldDiffs().setDiff("assignee", null, "john").setCreationDate(fiveDaysAgo),
+        new FieldDiffs().setDiff("technicalDebt", oneDay, twoDays).setCreationDate(fourDaysAgo)
+      )
+    );
+
+    IssueChangelogDebtCalculator.DebtHistory history = issueChangelogDebtCalculator.debtHistory(issue);
+
+    assertThat(history.newTechnicalDebt(null)).isEqualTo(5 * oneDay);
+    assertThat(history.newTechnicalDebt(rightNow)).isEqualTo(3 * oneDay);
+    assertThat(history.newTechnicalDebt(fiveDaysAgo)).isEqualTo(4 * oneDay);
+    assertThat(history.newTechnicalDebt(elevenDaysAgo)).isEqualTo(5 * oneDay);
+    for (Date periodDate : newArrayList(null, rightNow, fourDaysAgo, fiveDaysAgo, nineDaysAgo, tenDaysAgo, elevenDaysAgo)) {
+      assertThat(history.newTechnicalDebt(periodDate)).isEqualTo(issueChangelogDebtCalculator.calculateNewTechnicalDebt(issue, periodDate));
+    }
+  }
+
 }
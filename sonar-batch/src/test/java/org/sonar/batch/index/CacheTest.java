@@ -20,6 +20,7 @@
 package org.sonar.batch.index;
 
 import com.google.common.collect.Iterables;
+import com.google.common.collect.Lists;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Rule;
@@ -27,6 +28,11 @@ import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
 import org.sonar.batch.index.Cache.Entry;
 
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 public class CacheTest {
@@ -47,6 +53,50 @@ public class CacheTest {
     caches.stop();
   }
 
+  @Test
+  public void concurrent_writers() throws Exception {
+    final Cache<Integer> cache = caches.createCache("modules");
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    List<Future<?>> futures = Lists.newArrayList();
+    for (int module = 0; module < 4; module++) {
+      final String moduleKey = "module" + module;
+      futures.add(executor.submit(new Runnable() {
+        @Override
+        public void run() {
+          try {
+            for (int i = 0; i < 500; i++) {
+              cache.put(moduleKey, i, i);
+              assertThat(cache.get(moduleKey, i)).isEqualTo(i);
+            }
+          } finally {
+            caches.releaseExchanges();
+          }
+        }
+      }));
+    }
+    for (Future<?> future : futures) {
+      future.get();
+    }
+    executor.shutdown();
+
+    assertThat(cache.keySet()).hasSize(4);
+    assertThat(cache.values("module2")).hasSize(500);
+  }
+
+  @Test
+  public void use_cache_after_release_of_exchanges() throws Exception {
+    Cache<String> cache = caches.createCache("issues");
+    cache.put("foo", "bar");
+
+    caches.releaseExchanges();
+    // releasing twice has no effect
+    caches.releaseExchanges();
+
+    assertThat(cache.get("foo")).isEqualTo("bar");
+    cache.put("foo", "baz");
+    assertThat(cache.get("foo")).isEqualTo("baz");
+  }
+
   @Test
   public void one_part_key() throws Exception {
     Cache<String> cache = caches.createCache("capitals");
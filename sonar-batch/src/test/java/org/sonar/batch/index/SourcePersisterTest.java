@@ -0,0 +1,161 @@
+/*
+ * SonarQube, open source software quality management tool.
+ * Copyright (C) 2008-2014 SonarSource
+ * mailto:contact AT sonarsource DOT com
+ *
+ * SonarQube is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SonarQube is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.batch.index;
+
+import com.google.common.base.Charsets;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.apache.commons.io.FileUtils;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.sonar.api.batch.fs.InputFile;
+import org.sonar.api.batch.fs.internal.DefaultInputFile;
+import org.sonar.api.resources.File;
+import org.sonar.api.resources.Project;
+import org.sonar.api.utils.System2;
+import org.sonar.batch.ProjectTree;
+import org.sonar.batch.scan.filesystem.InputFileMetadata;
+import org.sonar.batch.scan.filesystem.InputPathCache;
+import org.sonar.core.persistence.AbstractDaoTestCase;
+import org.sonar.core.persistence.DbSession;
+import org.sonar.core.source.db.FileSourceDto;
+import org.sonar.core.source.db.FileSourceMapper;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class SourcePersisterTest extends AbstractDaoTestCase {
+
+  private static final long PREVIOUS_UPDATED_AT = 1412952242000L;
+  private static final long NOW = 1500000000000L;
+
+  @Rule
+  public TemporaryFolder temp = new TemporaryFolder();
+
+  InputPathCache inputPathCache = mock(InputPathCache.class);
+  ResourceCache resourceCache = mock(ResourceCache.class);
+  SourceDataFactory dataFactory = mock(SourceDataFactory.class);
+  System2 system2 = mock(System2.class);
+  DefaultInputFile inputFile;
+  SourcePersister persister;
+
+  @Before
+  public void setUp() throws Exception {
+    setupData("shared");
+
+    java.io.File baseDir = temp.newFolder();
+    FileUtils.write(new java.io.File(baseDir, "src/Foo.java"), "first line\nsecond line", Charsets.UTF_8);
+    inputFile = new DefaultInputFile("foo", "src/Foo.java")
+      .setModuleBaseDir(baseDir.toPath())
+      .setCharset(Charsets.UTF_8)
+      .setLines(2);
+    when(inputPathCache.allFiles()).thenReturn(Arrays.<InputFile>asList(inputFile));
+
+    File file = File.create("src/Foo.java");
+    file.setUuid("FILE_UUID");
+    BatchResource batchResource = mock(BatchResource.class);
+    when(batchResource.resource()).thenReturn(file);
+    when(resourceCache.get(inputFile.key())).thenReturn(batchResource);
+
+    Project project = new Project("foo");
+    project.setUuid("PROJECT_UUID");
+    ProjectTree projectTree = mock(ProjectTree.class);
+    when(projectTree.getRootProject()).thenReturn(project);
+
+    when(system2.now()).thenReturn(NOW);
+
+    persister = new SourcePersister(inputPathCache, getMyBatis(), system2, projectTree, resourceCache, dataFactory);
+  }
+
+  @Test
+  public void only_update_data_of_same_file() throws Exception {
+    mockFile("123456", "new data");
+
+    assertThat(persister.persist()).isEqualTo(1);
+
+    FileSourceDto dto = selectFileSource();
+    assertThat(dto.getDataHash()).isEqualTo(DigestUtils.md5Hex("new data"));
+    assertThat(dto.getBinaryData()).isEqualTo("new data".getBytes(Charsets.UTF_8));
+    assertThat(dto.getUpdatedAt()).isEqualTo(NOW);
+    // line hashes are not computed again
+    assertThat(dto.getSrcHash()).isEqualTo("123456");
+    assertThat(dto.getLineHashes()).isEqualTo("8d7b3d6b83c0a517eac07e1aac94b773\n9a0364b9e99bb480dd25e1f0284c8555");
+  }
+
+  @Test
+  public void do_not_update_same_file_with_same_data() throws Exception {
+    mockFile("123456", "new data");
+    persister.persist();
+
+    when(system2.now()).thenReturn(NOW + 1000L);
+    assertThat(persister.persist()).isEqualTo(0);
+
+    FileSourceDto dto = selectFileSource();
+    assertThat(dto.getDataHash()).isEqualTo(DigestUtils.md5Hex("new data"));
+    assertThat(dto.getUpdatedAt()).isEqualTo(NOW);
+  }
+
+  @Test
+  public void compute_line_hashes_of_changed_file() throws Exception {
+    mockFile("654321", "new data");
+
+    assertThat(persister.persist()).isEqualTo(1);
+
+    FileSourceDto dto = selectFileSource();
+    assertThat(dto.getSrcHash()).isEqualTo("654321");
+    assertThat(dto.getDataHash()).isEqualTo(DigestUtils.md5Hex("new data"));
+    assertThat(dto.getUpdatedAt()).isEqualTo(NOW);
+    assertThat(dto.getLineHashes()).isEqualTo(DigestUtils.md5Hex("firstline") + "\n" + DigestUtils.md5Hex("secondline"));
+  }
+
+  @Test
+  public void do_not_change_update_date_of_changed_file_with_same_data() throws Exception {
+    mockFile("654321", "new data");
+    persister.persist();
+
+    when(system2.now()).thenReturn(NOW + 1000L);
+    mockFile("987654", "new data");
+    assertThat(persister.persist()).isEqualTo(1);
+
+    FileSourceDto dto = selectFileSource();
+    assertThat(dto.getSrcHash()).isEqualTo("987654");
+    assertThat(dto.getUpdatedAt()).isEqualTo(NOW);
+  }
+
+  private void mockFile(String srcHash, String data) throws Exception {
+    InputFileMetadata metadata = new InputFileMetadata().setHash(srcHash);
+    when(inputPathCache.getFileMetadata("foo", "src/Foo.java")).thenReturn(metadata);
+    when(dataFactory.consolidateData(any(DefaultInputFile.class), any(InputFileMetadata.class))).thenReturn(data.getBytes(Charsets.UTF_8));
+  }
+
+  private FileSourceDto selectFileSource() {
+    DbSession session = getMyBatis().openSession(false);
+    try {
+      return session.getMapper(FileSourceMapper.class).select("FILE_UUID");
+    } finally {
+      session.close();
+    }
+  }
+}
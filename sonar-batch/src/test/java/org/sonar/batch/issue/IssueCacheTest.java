@@ -88,6 +88,18 @@ public class IssueCacheTest {
     assertThat(reloaded.severity()).isEqualTo(Severity.MINOR);
   }
 
+  @Test
+  public void should_remove_issue() throws Exception {
+    IssueCache cache = new IssueCache(caches);
+    DefaultIssue issue1 = new DefaultIssue().setKey("111").setComponentKey("org.struts.Action");
+    DefaultIssue issue2 = new DefaultIssue().setKey("222").setComponentKey("org.struts.Action");
+    cache.put(issue1).put(issue2);
+
+    cache.remove(issue1);
+
+    assertThat(issueKeys(cache.byComponent("org.struts.Action"))).containsOnly("222");
+  }
+
   @Test
   public void should_get_all_issues() throws Exception {
     IssueCache cache = new IssueCache(caches);
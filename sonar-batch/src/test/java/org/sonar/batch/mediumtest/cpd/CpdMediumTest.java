@@ -40,6 +40,7 @@ import org.sonar.xoo.XooPlugin;
 import java.io.File;
 import java.io.IOException;
 import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -132,6 +133,31 @@ public class CpdMediumTest {
     assertThat(cloneGroupFile2.duplicates().get(0).resourceKey()).isEqualTo(((DefaultInputFile) inputFile1).key());
   }
 
+  @Test
+  public void reuseBlocksOfPreviousAnalysis() throws IOException {
+    File srcDir = new File(baseDir, "src");
+    srcDir.mkdir();
+
+    String duplicatedStuff = "Sample xoo\ncontent\nfoo\nbar\ntoto\ntiti\nfoo\nbar\ntoto\ntiti\nbar\ntoto\ntiti\nfoo\nbar\ntoto\ntiti";
+    FileUtils.write(new File(srcDir, "sample1.xoo"), duplicatedStuff);
+    FileUtils.write(new File(srcDir, "sample2.xoo"), duplicatedStuff);
+
+    Map<String, String> props = builder
+      .put("sonar.sources", "src")
+      .put("sonar.cpd.xoo.minimumTokens", "10")
+      .build();
+    tester.newTask().properties(props).start();
+    assertThat(new File(baseDir, ".sonar/cpd/xoo.blocks")).isFile();
+
+    TaskResult result = tester.newTask().properties(props).start();
+
+    InputFile inputFile1 = result.inputFile("src/sample1.xoo");
+    List<Duplication> duplicationGroupsFile1 = result.duplicationsFor(inputFile1);
+    assertThat(duplicationGroupsFile1).hasSize(1);
+    assertThat(duplicationGroupsFile1.get(0).originBlock().length()).isEqualTo(17);
+    assertThat(duplicationGroupsFile1.get(0).duplicates().get(0).resourceKey()).isEqualTo(((DefaultInputFile) result.inputFile("src/sample2.xoo")).key());
+  }
+
   // SONAR-6000
   @Test
   public void truncateDuplication() throws IOException {
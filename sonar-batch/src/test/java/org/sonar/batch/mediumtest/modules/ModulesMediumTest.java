@@ -0,0 +1,132 @@
+/*
+ * SonarQube, open source software quality management tool.
+ * Copyright (C) 2008-2014 SonarSource
+ * mailto:contact AT sonarsource DOT com
+ *
+ * SonarQube is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SonarQube is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.batch.mediumtest.modules;
+
+import com.google.common.collect.ImmutableMap;
+import org.apache.commons.io.FileUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.sonar.api.issue.Issue;
+import org.sonar.batch.mediumtest.BatchMediumTester;
+import org.sonar.batch.mediumtest.TaskResult;
+import org.sonar.batch.protocol.input.ActiveRule;
+import org.sonar.xoo.XooPlugin;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ModulesMediumTest {
+
+  @org.junit.Rule
+  public TemporaryFolder temp = new TemporaryFolder();
+
+  public BatchMediumTester tester = BatchMediumTester.builder()
+    .registerPlugin("xoo", new XooPlugin())
+    .addDefaultQProfile("xoo", "Sonar Way")
+    .activateRule(new ActiveRule("xoo", "OneIssuePerLine", null, "One issue per line", "MAJOR", "OneIssuePerLine.internal", "xoo"))
+    .build();
+
+  File baseDir;
+
+  @Before
+  public void prepare() throws IOException {
+    tester.start();
+
+    baseDir = temp.newFolder();
+    // the same file path in all modules
+    createFile("moduleA/src/sample.xoo", 3);
+    createFile("moduleB/moduleB1/src/sample.xoo", 5);
+    createFile("moduleB/moduleB2/src/sample.xoo", 6);
+    createFile("moduleC/src/sample.xoo", 7);
+  }
+
+  @After
+  public void stop() {
+    tester.stop();
+  }
+
+  @Test
+  public void scan_modules_sequentially() throws Exception {
+    TaskResult result = scan("1");
+
+    assertIssuesOnAllModules(result);
+  }
+
+  @Test
+  public void scan_modules_concurrently() throws Exception {
+    TaskResult result = scan("3");
+
+    assertIssuesOnAllModules(result);
+  }
+
+  private void assertIssuesOnAllModules(TaskResult result) {
+    Map<String, Integer> issuesByComponent = new HashMap<>();
+    for (Issue issue : result.issues()) {
+      Integer count = issuesByComponent.get(issue.componentKey());
+      issuesByComponent.put(issue.componentKey(), count == null ? 1 : count + 1);
+    }
+    assertThat(issuesByComponent).isEqualTo(ImmutableMap.of(
+      "com.foo.project:moduleA:src/sample.xoo", 3,
+      "com.foo.project:moduleB:moduleB1:src/sample.xoo", 5,
+      "com.foo.project:moduleB:moduleB2:src/sample.xoo", 6,
+      "com.foo.project:moduleC:src/sample.xoo", 7));
+  }
+
+  private TaskResult scan(String threads) {
+    return tester.newTask()
+      .properties(ImmutableMap.<String, String>builder()
+        .put("sonar.task", "scan")
+        .put("sonar.projectBaseDir", baseDir.getAbsolutePath())
+        .put("sonar.projectKey", "com.foo.project")
+        .put("sonar.projectName", "Foo Project")
+        .put("sonar.projectVersion", "1.0-SNAPSHOT")
+        .put("sonar.moduleScan.threads", threads)
+        .put("sonar.modules", "moduleA,moduleB,moduleC")
+        .put("moduleA.sonar.projectKey", "moduleA")
+        .put("moduleA.sonar.sources", "src")
+        .put("moduleB.sonar.projectKey", "moduleB")
+        .put("moduleB.sonar.modules", "moduleB1,moduleB2")
+        .put("moduleB.moduleB1.sonar.projectKey", "moduleB1")
+        .put("moduleB.moduleB1.sonar.sources", "src")
+        .put("moduleB.moduleB2.sonar.projectKey", "moduleB2")
+        .put("moduleB.moduleB2.sonar.sources", "src")
+        .put("moduleC.sonar.projectKey", "moduleC")
+        .put("moduleC.sonar.sources", "src")
+        .build())
+      .start();
+  }
+
+  private void createFile(String path, int lines) throws IOException {
+    StringBuilder content = new StringBuilder();
+    for (int line = 1; line <= lines; line++) {
+      content.append(line);
+      if (line < lines) {
+        content.append('\n');
+      }
+    }
+    FileUtils.write(new File(baseDir, path), content.toString());
+  }
+}
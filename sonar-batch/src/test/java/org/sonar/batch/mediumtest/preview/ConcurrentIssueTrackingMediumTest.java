@@ -0,0 +1,151 @@
+/*
+ * SonarQube, open source software quality management tool.
+ * Copyright (C) 2008-2014 SonarSource
+ * mailto:contact AT sonarsource DOT com
+ *
+ * SonarQube is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SonarQube is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.batch.mediumtest.preview;
+
+import com.google.common.collect.ImmutableMap;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.apache.commons.io.FileUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.sonar.api.CoreProperties;
+import org.sonar.api.issue.Issue;
+import org.sonar.batch.mediumtest.BatchMediumTester;
+import org.sonar.batch.mediumtest.TaskResult;
+import org.sonar.batch.protocol.Constants.Severity;
+import org.sonar.batch.protocol.input.ActiveRule;
+import org.sonar.batch.protocol.input.BatchInput.ServerIssue;
+import org.sonar.batch.protocol.input.FileData;
+import org.sonar.xoo.XooPlugin;
+
+import java.io.File;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ConcurrentIssueTrackingMediumTest {
+
+  private static final int NB_FILES = 10;
+  private static final String CONTENT = "first\nsecond\nthird";
+
+  @org.junit.Rule
+  public TemporaryFolder temp = new TemporaryFolder();
+
+  public BatchMediumTester tester = createTester();
+
+  private static BatchMediumTester createTester() {
+    BatchMediumTester.BatchMediumTesterBuilder builder = BatchMediumTester.builder()
+      .bootstrapProperties(ImmutableMap.of(CoreProperties.ANALYSIS_MODE, CoreProperties.ANALYSIS_MODE_PREVIEW))
+      .registerPlugin("xoo", new XooPlugin())
+      .addDefaultQProfile("xoo", "Sonar Way")
+      .activateRule(new ActiveRule("xoo", "OneIssuePerLine", null, "One issue per line", "MAJOR", null, "xoo"))
+      .setPreviousAnalysisDate(new Date());
+    for (int i = 0; i < NB_FILES; i++) {
+      String path = "src/sample" + i + ".xoo";
+      builder.addFileData("sample", path, new FileData(DigestUtils.md5Hex(CONTENT), false, null, null, null));
+      // Remote open issue on second line => will be tracked and not new
+      builder.mockServerIssue(ServerIssue.newBuilder().setKey("tracked" + i)
+        .setModuleKey("sample")
+        .setPath(path)
+        .setRuleRepository("xoo")
+        .setRuleKey("OneIssuePerLine")
+        .setLine(2)
+        .setSeverity(Severity.MAJOR)
+        .setCreationDate(new Date().getTime())
+        .setChecksum(DigestUtils.md5Hex("second"))
+        .setStatus("CONFIRMED")
+        .build());
+      // Remote open issue of a rule that is no more active => will be closed
+      builder.mockServerIssue(ServerIssue.newBuilder().setKey("removed" + i)
+        .setModuleKey("sample")
+        .setPath(path)
+        .setRuleRepository("xoo")
+        .setRuleKey("OneIssuePerFile")
+        .setSeverity(Severity.MAJOR)
+        .setCreationDate(new Date().getTime())
+        .setStatus("OPEN")
+        .build());
+    }
+    return builder.build();
+  }
+
+  @Before
+  public void prepare() {
+    tester.start();
+  }
+
+  @After
+  public void stop() {
+    tester.stop();
+  }
+
+  @Test
+  public void track_issues_of_files_concurrently() throws Exception {
+    File baseDir = temp.newFolder();
+    File srcDir = new File(baseDir, "src");
+    srcDir.mkdir();
+    for (int i = 0; i < NB_FILES; i++) {
+      FileUtils.write(new File(srcDir, "sample" + i + ".xoo"), CONTENT);
+    }
+
+    TaskResult result = tester.newTask()
+      .properties(ImmutableMap.<String, String>builder()
+        .put("sonar.task", "scan")
+        .put("sonar.projectBaseDir", baseDir.getAbsolutePath())
+        .put("sonar.projectKey", "sample")
+        .put("sonar.projectName", "Foo Project")
+        .put("sonar.projectVersion", "1.0-SNAPSHOT")
+        .put("sonar.sources", "src")
+        .put("sonar.issuesTracking.threads", "3")
+        .build())
+      .start();
+
+    Map<String, Issue> issuesByKey = new HashMap<>();
+    Map<String, Integer> newIssuesByComponent = new HashMap<>();
+    for (Issue issue : result.issues()) {
+      assertThat(issuesByKey.put(issue.key(), issue)).isNull();
+      if (issue.isNew()) {
+        Integer count = newIssuesByComponent.get(issue.componentKey());
+        newIssuesByComponent.put(issue.componentKey(), count == null ? 1 : count + 1);
+      }
+    }
+    assertThat(issuesByKey).hasSize(4 * NB_FILES);
+    assertThat(newIssuesByComponent).hasSize(NB_FILES);
+    for (int i = 0; i < NB_FILES; i++) {
+      String componentKey = "sample:src/sample" + i + ".xoo";
+      assertThat(newIssuesByComponent.get(componentKey)).isEqualTo(2);
+
+      Issue tracked = issuesByKey.get("tracked" + i);
+      assertThat(tracked.componentKey()).isEqualTo(componentKey);
+      assertThat(tracked.line()).isEqualTo(2);
+      assertThat(tracked.isNew()).isFalse();
+      assertThat(tracked.status()).isEqualTo(Issue.STATUS_CONFIRMED);
+
+      Issue removed = issuesByKey.get("removed" + i);
+      assertThat(removed.componentKey()).isEqualTo(componentKey);
+      assertThat(removed.status()).isEqualTo(Issue.STATUS_CLOSED);
+      assertThat(removed.resolution()).isEqualTo(Issue.RESOLUTION_REMOVED);
+    }
+  }
+
+}
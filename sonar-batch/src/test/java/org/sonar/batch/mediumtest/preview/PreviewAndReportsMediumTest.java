@@ -183,6 +183,8 @@ public class PreviewAndReportsMediumTest {
 
     assertThat(new File(projectDir, ".sonar/issues-report/issues-report.html")).exists();
     assertThat(new File(projectDir, ".sonar/issues-report/issues-report-light.html")).exists();
+    String html = FileUtils.readFileToString(new File(projectDir, ".sonar/issues-report/issues-report.html"));
+    assertThat(html).contains("var nbResources = 2;").contains("id=\"resource-0\"").contains("id=\"resource-1\"");
   }
 
   @Test
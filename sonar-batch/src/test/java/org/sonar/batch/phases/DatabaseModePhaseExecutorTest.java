@@ -19,35 +19,56 @@
  */
 package org.sonar.batch.phases;
 
+import org.junit.Before;
 import org.junit.Test;
-import org.sonar.batch.index.MeasurePersister;
+import org.sonar.api.database.DatabaseSession;
+import org.sonar.api.resources.Project;
+import org.sonar.batch.bootstrap.DefaultAnalysisMode;
+import org.sonar.batch.events.EventBus;
+import org.sonar.batch.index.DefaultIndex;
 import org.sonar.batch.index.ResourcePersister;
-import org.sonar.batch.index.ScanPersister;
+import org.sonar.batch.report.PublishReportJob;
+import org.sonar.batch.scan.report.IssuesReports;
 
-import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 public class DatabaseModePhaseExecutorTest {
 
+  PersistersExecutor persistersExecutor = mock(PersistersExecutor.class);
+  ResourcePersister resourcePersister = mock(ResourcePersister.class);
+  DefaultAnalysisMode analysisMode = mock(DefaultAnalysisMode.class);
+  DefaultIndex index = mock(DefaultIndex.class);
+  DatabaseModePhaseExecutor executor;
+
+  @Before
+  public void setUp() {
+    executor = new DatabaseModePhaseExecutor(mock(Phases.class), null, null, null, null,
+      null, index, mock(EventBus.class), mock(PublishReportJob.class), mock(ProjectInitializer.class),
+      persistersExecutor, null, mock(IssuesReports.class), null, null, null, analysisMode, mock(DatabaseSession.class), resourcePersister);
+  }
+
   @Test
-  public void shouldSortPersisters() {
-    ScanPersister otherPersister = mock(ScanPersister.class);
-    MeasurePersister measurePersister = new MeasurePersister(null, null, null, null, null);
-    ResourcePersister resourcePersister = new ResourcePersister(null, null, null, null, null);
-    ScanPersister[] persisters = new ScanPersister[] {otherPersister, measurePersister, resourcePersister};
-    DatabaseModePhaseExecutor executor = new DatabaseModePhaseExecutor(null, null, null, null, null,
-      null, null, null, null, null, persisters, null, null, null, null, null, null, null, null);
-    assertThat(executor.sortedPersisters()).containsSubsequence(resourcePersister, measurePersister);
-
-    persisters = new ScanPersister[] {measurePersister, resourcePersister, otherPersister};
-    executor = new DatabaseModePhaseExecutor(null, null, null, null, null,
-      null, null, null, null, null, persisters, null, null, null, null, null, null, null, null);
-    assertThat(executor.sortedPersisters()).containsSubsequence(resourcePersister, measurePersister);
-
-    persisters = new ScanPersister[] {measurePersister, otherPersister, resourcePersister};
-    executor = new DatabaseModePhaseExecutor(null, null, null, null, null,
-      null, null, null, null, null, persisters, null, null, null, null, null, null, null, null);
-    assertThat(executor.sortedPersisters()).containsSubsequence(resourcePersister, measurePersister);
+  public void execute_persisters_at_the_end_of_the_analysis() {
+    Project root = new Project("root");
+    Project module = new Project("module").setParent(root);
+
+    executor.execute(module);
+    verify(resourcePersister).persist();
+    verify(persistersExecutor, never()).execute();
+
+    executor.execute(root);
+    verify(persistersExecutor).execute();
   }
 
+  @Test
+  public void do_not_execute_persisters_in_preview_mode() {
+    when(analysisMode.isPreview()).thenReturn(true);
+
+    executor.execute(new Project("root"));
+
+    verify(persistersExecutor, never()).execute();
+  }
 }
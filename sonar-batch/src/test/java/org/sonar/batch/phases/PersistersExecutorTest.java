@@ -0,0 +1,196 @@
+/*
+ * SonarQube, open source software quality management tool.
+ * Copyright (C) 2008-2014 SonarSource
+ * mailto:contact AT sonarsource DOT com
+ *
+ * SonarQube is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SonarQube is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.batch.phases;
+
+import org.junit.Test;
+import org.sonar.api.utils.System2;
+import org.sonar.batch.events.EventBus;
+import org.sonar.batch.index.Caches;
+import org.sonar.batch.index.DuplicationPersister;
+import org.sonar.batch.index.MeasurePersister;
+import org.sonar.batch.index.PersistAfter;
+import org.sonar.batch.index.ResourcePersister;
+import org.sonar.batch.index.ScanPersister;
+import org.sonar.batch.index.SourcePersister;
+import org.sonar.batch.phases.event.PersisterExecutionHandler;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.fail;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class PersistersExecutorTest {
+
+  Caches caches = mock(Caches.class);
+
+  @Test
+  public void execute_persisters_after_their_dependencies() {
+    ScanPersister otherPersister = mock(ScanPersister.class);
+    MeasurePersister measurePersister = new MeasurePersister(null, null, null, null, null);
+    SourcePersister sourcePersister = new SourcePersister(null, null, null, null, null, null);
+    GraphPersister graphPersister = new GraphPersister(null, null, null);
+    ResourcePersister resourcePersister = new ResourcePersister(null, null, null, null, null);
+
+    List<List<ScanPersister>> waves = newExecutor(measurePersister, otherPersister, sourcePersister, graphPersister, resourcePersister).waves();
+
+    assertThat(waves).hasSize(2);
+    assertThat(waves.get(0)).containsOnly(otherPersister, resourcePersister);
+    assertThat(waves.get(1)).containsExactly(measurePersister, sourcePersister, graphPersister);
+  }
+
+  @Test
+  public void execute_duplication_persister_after_measure_persister() {
+    MeasurePersister measurePersister = new MeasurePersister(null, null, null, null, null);
+    DuplicationPersister duplicationPersister = new DuplicationPersister(null, null, null, null, null);
+    ResourcePersister resourcePersister = new ResourcePersister(null, null, null, null, null);
+
+    List<List<ScanPersister>> waves = newExecutor(duplicationPersister, measurePersister, resourcePersister).waves();
+
+    assertThat(waves).hasSize(3);
+    assertThat(waves.get(0)).containsExactly(resourcePersister);
+    assertThat(waves.get(1)).containsExactly(measurePersister);
+    assertThat(waves.get(2)).containsExactly(duplicationPersister);
+  }
+
+  @Test
+  public void ignore_dependencies_on_missing_persisters() {
+    MeasurePersister measurePersister = new MeasurePersister(null, null, null, null, null);
+
+    List<List<ScanPersister>> waves = newExecutor(measurePersister).waves();
+
+    assertThat(waves).hasSize(1);
+    assertThat(waves.get(0)).containsExactly(measurePersister);
+  }
+
+  @Test
+  public void fail_on_cycle() {
+    try {
+      newExecutor(new CyclePersister1(), new CyclePersister2()).waves();
+      fail();
+    } catch (IllegalStateException e) {
+      assertThat(e).hasMessageContaining("Cycle detected in dependencies of persisters");
+    }
+  }
+
+  @Test
+  public void execute_persisters_of_a_wave_concurrently() {
+    CountDownLatch latch = new CountDownLatch(2);
+    LatchPersister persister1 = new LatchPersister(latch);
+    LatchPersister persister2 = new LatchPersister(latch);
+    EventBus eventBus = mock(EventBus.class);
+
+    new PersistersExecutor(new ScanPersister[] {persister1, persister2}, caches, eventBus, System2.INSTANCE).execute();
+
+    // would have timed out if persisters were executed sequentially
+    assertThat(persister1.completed).isTrue();
+    assertThat(persister2.completed).isTrue();
+    // by each thread of the pool
+    verify(caches, times(2)).releaseExchanges();
+    // start and end of phase, start and end of each persister
+    verify(eventBus, times(6)).fireEvent(any(org.sonar.batch.events.BatchEvent.class));
+  }
+
+  @Test
+  public void report_row_count_and_duration() {
+    ScanPersister persister = mock(ScanPersister.class);
+    when(persister.persist()).thenReturn(42);
+    System2 system2 = mock(System2.class);
+    when(system2.now()).thenReturn(1000L, 1500L);
+    RecordingHandler handler = new RecordingHandler();
+
+    new PersistersExecutor(new ScanPersister[] {persister}, mock(Caches.class), new EventBus(new org.sonar.api.batch.events.EventHandler[] {handler}), system2).execute();
+
+    assertThat(handler.end.getPersister()).isSameAs(persister);
+    assertThat(handler.end.getRowCount()).isEqualTo(42);
+    assertThat(handler.end.getDurationMs()).isEqualTo(500L);
+  }
+
+  @Test
+  public void propagate_failure_of_persister() {
+    ScanPersister persister1 = mock(ScanPersister.class);
+    ScanPersister persister2 = mock(ScanPersister.class);
+    when(persister2.persist()).thenThrow(new IllegalStateException("Unable to save some measures"));
+
+    try {
+      newExecutor(persister1, persister2).execute();
+      fail();
+    } catch (IllegalStateException e) {
+      assertThat(e).hasMessage("Unable to save some measures");
+    }
+  }
+
+  private PersistersExecutor newExecutor(ScanPersister... persisters) {
+    return new PersistersExecutor(persisters, caches, mock(EventBus.class), System2.INSTANCE);
+  }
+
+  private static class LatchPersister implements ScanPersister {
+    private final CountDownLatch latch;
+    private boolean completed = false;
+
+    LatchPersister(CountDownLatch latch) {
+      this.latch = latch;
+    }
+
+    @Override
+    public int persist() {
+      latch.countDown();
+      try {
+        completed = latch.await(10, TimeUnit.SECONDS);
+      } catch (InterruptedException e) {
+        throw new IllegalStateException(e);
+      }
+      return 0;
+    }
+  }
+
+  @PersistAfter(CyclePersister2.class)
+  private static class CyclePersister1 implements ScanPersister {
+    @Override
+    public int persist() {
+      return 0;
+    }
+  }
+
+  @PersistAfter(CyclePersister1.class)
+  private static class CyclePersister2 implements ScanPersister {
+    @Override
+    public int persist() {
+      return 0;
+    }
+  }
+
+  private static class RecordingHandler implements PersisterExecutionHandler {
+    private PersisterExecutionEvent end;
+
+    @Override
+    public void onPersisterExecution(PersisterExecutionEvent event) {
+      if (event.isEnd()) {
+        end = event;
+      }
+    }
+  }
+}
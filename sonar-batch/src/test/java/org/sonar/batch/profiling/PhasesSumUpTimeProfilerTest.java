@@ -358,6 +358,16 @@ public class PhasesSumUpTimeProfilerTest {
       public ScanPersister getPersister() {
         return persister;
       }
+
+      @Override
+      public int getRowCount() {
+        return 0;
+      }
+
+      @Override
+      public long getDurationMs() {
+        return 0;
+      }
     };
   }
 
@@ -532,7 +542,8 @@ public class PhasesSumUpTimeProfilerTest {
 
   public class FakeScanPersister implements ScanPersister {
     @Override
-    public void persist() {
+    public int persist() {
+      return 0;
     }
   }
 }
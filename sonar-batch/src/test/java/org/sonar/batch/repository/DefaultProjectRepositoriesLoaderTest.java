@@ -20,6 +20,7 @@
 package org.sonar.batch.repository;
 
 import com.google.common.collect.Maps;
+import com.google.common.io.InputSupplier;
 import org.junit.Before;
 import org.junit.Test;
 import org.sonar.api.batch.bootstrap.ProjectDefinition;
@@ -29,6 +30,10 @@ import org.sonar.batch.bootstrap.ServerClient;
 import org.sonar.batch.bootstrap.TaskProperties;
 import org.sonar.batch.rule.ModuleQProfiles;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+
+import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.anyString;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
@@ -44,12 +49,14 @@ public class DefaultProjectRepositoriesLoaderTest {
   private TaskProperties taskProperties;
 
   @Before
-  public void prepare() {
+  public void prepare() throws Exception {
     serverClient = mock(ServerClient.class);
     analysisMode = mock(DefaultAnalysisMode.class);
     loader = new DefaultProjectRepositoriesLoader(serverClient, analysisMode);
     loader = spy(loader);
-    when(serverClient.request(anyString())).thenReturn("{}");
+    InputSupplier<InputStream> is = mock(InputSupplier.class);
+    when(is.getInput()).thenReturn(new ByteArrayInputStream(new byte[0]));
+    when(serverClient.doRequest(anyString(), anyString(), any(Integer.class))).thenReturn(is);
     taskProperties = new TaskProperties(Maps.<String, String>newHashMap(), "");
   }
 
@@ -58,18 +65,18 @@ public class DefaultProjectRepositoriesLoaderTest {
     reactor = new ProjectReactor(ProjectDefinition.create().setKey("foo"));
     when(analysisMode.isPreview()).thenReturn(false);
     loader.load(reactor, taskProperties);
-    verify(serverClient).request("/batch/project?key=foo&preview=false");
+    verify(serverClient).doRequest("/batch/project?key=foo&preview=false&format=protobuf", "GET", null);
 
     when(analysisMode.isPreview()).thenReturn(true);
     loader.load(reactor, taskProperties);
-    verify(serverClient).request("/batch/project?key=foo&preview=true");
+    verify(serverClient).doRequest("/batch/project?key=foo&preview=true&format=protobuf", "GET", null);
   }
 
   @Test
   public void passAndEncodeProjectKeyParameter() {
     reactor = new ProjectReactor(ProjectDefinition.create().setKey("foo bàr"));
     loader.load(reactor, taskProperties);
-    verify(serverClient).request("/batch/project?key=foo+b%C3%A0r&preview=false");
+    verify(serverClient).doRequest("/batch/project?key=foo+b%C3%A0r&preview=false&format=protobuf", "GET", null);
   }
 
   @Test
@@ -77,7 +84,7 @@ public class DefaultProjectRepositoriesLoaderTest {
     reactor = new ProjectReactor(ProjectDefinition.create().setKey("foo"));
     taskProperties.properties().put(ModuleQProfiles.SONAR_PROFILE_PROP, "my-profile#2");
     loader.load(reactor, taskProperties);
-    verify(serverClient).request("/batch/project?key=foo&profile=my-profile%232&preview=false");
+    verify(serverClient).doRequest("/batch/project?key=foo&profile=my-profile%232&preview=false&format=protobuf", "GET", null);
   }
 
 }
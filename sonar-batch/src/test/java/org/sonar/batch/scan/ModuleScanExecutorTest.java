@@ -0,0 +1,145 @@
+/*
+ * SonarQube, open source software quality management tool.
+ * Copyright (C) 2008-2014 SonarSource
+ * mailto:contact AT sonarsource DOT com
+ *
+ * SonarQube is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SonarQube is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.batch.scan;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.sonar.api.CoreProperties;
+import org.sonar.api.config.Settings;
+import org.sonar.api.resources.Project;
+import org.sonar.batch.bootstrap.DefaultAnalysisMode;
+import org.sonar.batch.index.Caches;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class ModuleScanExecutorTest {
+
+  Settings settings = new Settings();
+  DefaultAnalysisMode analysisMode = mock(DefaultAnalysisMode.class);
+  Caches caches = mock(Caches.class);
+  ModuleScanExecutor executor = new ModuleScanExecutor(settings, analysisMode, caches);
+
+  Project root = new Project("root");
+  Project moduleA = new Project("moduleA").setParent(root);
+  Project moduleB = new Project("moduleB").setParent(root);
+  Project moduleB1 = new Project("moduleB1").setParent(moduleB);
+  Project moduleB2 = new Project("moduleB2").setParent(moduleB);
+
+  List<Project> scannedModules = new CopyOnWriteArrayList<>();
+  ModuleScanExecutor.ModuleScanner scanner = new ModuleScanExecutor.ModuleScanner() {
+    @Override
+    public void scan(Project module) {
+      scannedModules.add(module);
+    }
+  };
+
+  @Before
+  public void setUp() {
+    when(analysisMode.isDb()).thenReturn(false);
+  }
+
+  @Test
+  public void default_number_of_threads() {
+    assertThat(executor.numberOfThreads()).isEqualTo(ModuleScanExecutor.DEFAULT_THREADS);
+
+    settings.setProperty(ModuleScanExecutor.THREADS_PROPERTY, 0);
+    assertThat(executor.numberOfThreads()).isEqualTo(ModuleScanExecutor.DEFAULT_THREADS);
+
+    settings.setProperty(ModuleScanExecutor.THREADS_PROPERTY, 4);
+    assertThat(executor.numberOfThreads()).isEqualTo(4);
+  }
+
+  @Test
+  public void fail_if_negative_number_of_threads() {
+    settings.setProperty(ModuleScanExecutor.THREADS_PROPERTY, -1);
+    try {
+      executor.numberOfThreads();
+      fail();
+    } catch (IllegalArgumentException e) {
+      assertThat(e).hasMessage("Bad value of sonar.moduleScan.threads: -1");
+    }
+  }
+
+  @Test
+  public void scan_sequentially_when_analysis_uses_database() {
+    settings.setProperty(ModuleScanExecutor.THREADS_PROPERTY, 4);
+    when(analysisMode.isDb()).thenReturn(true);
+
+    assertThat(executor.numberOfThreads()).isEqualTo(1);
+  }
+
+  @Test
+  public void scan_sequentially_when_profiling_is_enabled() {
+    settings.setProperty(ModuleScanExecutor.THREADS_PROPERTY, 4);
+    settings.setProperty(CoreProperties.PROFILING_LOG_PROPERTY, true);
+
+    assertThat(executor.numberOfThreads()).isEqualTo(1);
+  }
+
+  @Test
+  public void scan_sub_modules_before_their_parent() {
+    executor.execute(root, scanner);
+
+    assertThat(scannedModules).containsExactly(moduleA, moduleB1, moduleB2, moduleB, root);
+  }
+
+  @Test
+  public void scan_sub_modules_concurrently_before_their_parent() {
+    settings.setProperty(ModuleScanExecutor.THREADS_PROPERTY, 3);
+
+    executor.execute(root, scanner);
+
+    assertThat(scannedModules).containsOnly(moduleA, moduleB1, moduleB2, moduleB, root).hasSize(5);
+    assertThat(scannedModules.indexOf(moduleB)).isGreaterThan(scannedModules.indexOf(moduleB1));
+    assertThat(scannedModules.indexOf(moduleB)).isGreaterThan(scannedModules.indexOf(moduleB2));
+    assertThat(scannedModules.get(4)).isEqualTo(root);
+    verify(caches, atLeastOnce()).releaseExchanges();
+  }
+
+  @Test
+  public void fail_if_scan_of_module_fails() {
+    settings.setProperty(ModuleScanExecutor.THREADS_PROPERTY, 3);
+    ModuleScanExecutor.ModuleScanner failingScanner = new ModuleScanExecutor.ModuleScanner() {
+      @Override
+      public void scan(Project module) {
+        if (module == moduleB1) {
+          throw new IllegalStateException("Fail to scan moduleB1");
+        }
+        scannedModules.add(module);
+      }
+    };
+
+    try {
+      executor.execute(root, failingScanner);
+      fail();
+    } catch (IllegalStateException e) {
+      assertThat(e).hasMessage("Fail to scan moduleB1");
+    }
+    assertThat(scannedModules).doesNotContain(moduleB, root);
+  }
+}
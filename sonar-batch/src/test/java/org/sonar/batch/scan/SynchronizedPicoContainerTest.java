@@ -0,0 +1,83 @@
+/*
+ * SonarQube, open source software quality management tool.
+ * Copyright (C) 2008-2014 SonarSource
+ * mailto:contact AT sonarsource DOT com
+ *
+ * SonarQube is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SonarQube is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.batch.scan;
+
+import org.junit.Test;
+import org.picocontainer.DefaultPicoContainer;
+import org.picocontainer.MutablePicoContainer;
+import org.picocontainer.behaviors.Caching;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SynchronizedPicoContainerTest {
+
+  @Test
+  public void children_lazily_instantiate_components_of_parent_once() throws Exception {
+    final MutablePicoContainer parent = new DefaultPicoContainer(new Caching());
+    parent.addComponent(SlowComponent.class);
+    SlowComponent.instances.set(0);
+
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      List<Future<SlowComponent>> futures = new ArrayList<>();
+      for (int i = 0; i < 4; i++) {
+        futures.add(executor.submit(new Callable<SlowComponent>() {
+          @Override
+          public SlowComponent call() {
+            MutablePicoContainer child = new DefaultPicoContainer(new SynchronizedPicoContainer(parent));
+            child.addComponent(ChildComponent.class);
+            return child.getComponent(ChildComponent.class).component;
+          }
+        }));
+      }
+      for (Future<SlowComponent> future : futures) {
+        assertThat(future.get()).isSameAs(parent.getComponent(SlowComponent.class));
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+    assertThat(SlowComponent.instances.get()).isEqualTo(1);
+  }
+
+  public static class SlowComponent {
+    static final AtomicInteger instances = new AtomicInteger();
+
+    public SlowComponent() throws InterruptedException {
+      Thread.sleep(50L);
+      instances.incrementAndGet();
+    }
+  }
+
+  public static class ChildComponent {
+    final SlowComponent component;
+
+    public ChildComponent(SlowComponent component) {
+      this.component = component;
+    }
+  }
+}
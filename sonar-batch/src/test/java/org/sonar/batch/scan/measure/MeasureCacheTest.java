@@ -230,6 +230,23 @@ public class MeasureCacheTest {
     assertThat(cache.byResource(p)).hasSize(4);
   }
 
+  @Test
+  public void contains_measure_with_same_characteristic_person_and_rule() throws Exception {
+    Project p = new Project("struts");
+
+    cache.put(p, new Measure(CoreMetrics.NCLOC, 1.0).setPersonId(2));
+    cache.put(p, new RuleMeasure(CoreMetrics.NCLOC, RuleKey.of("repo", "rule"), RulePriority.BLOCKER, null));
+
+    assertThat(cache.contains(p, new Measure(CoreMetrics.NCLOC, 3.0).setPersonId(2))).isTrue();
+    assertThat(cache.contains(p, new Measure(CoreMetrics.NCLOC, 1.0).setPersonId(3))).isFalse();
+    assertThat(cache.contains(p, new Measure(CoreMetrics.NCLOC, 1.0))).isFalse();
+    assertThat(cache.contains(p, new Measure(CoreMetrics.NCLOC, 1.0).setPersonId(2).setCharacteristic(new DefaultCharacteristic().setKey("charac")))).isFalse();
+    assertThat(cache.contains(p, new RuleMeasure(CoreMetrics.NCLOC, RuleKey.of("repo", "rule"), RulePriority.MAJOR, null))).isTrue();
+    assertThat(cache.contains(p, new RuleMeasure(CoreMetrics.NCLOC, RuleKey.of("repo", "other"), RulePriority.BLOCKER, null))).isFalse();
+    assertThat(cache.contains(p, RuleMeasure.createForPriority(CoreMetrics.NCLOC, RulePriority.BLOCKER, 1.0))).isFalse();
+    assertThat(cache.byMetric(p, CoreMetrics.NCLOC_KEY)).hasSize(2);
+  }
+
   @Test
   public void should_get_measures() throws Exception {
     Project p = new Project("struts");
@@ -280,6 +297,7 @@ public class MeasureCacheTest {
 
     assertThat(EqualsBuilder.reflectionEquals(measure, savedMeasure)).isTrue();
 
+    Resource file2 = File.create("foo/bar/File2.txt").setEffectiveKey("struts:foo/bar/File2.txt");
     measure = new Measure(CoreMetrics.NCLOC);
     measure.setData("data");
     measure.setAlertStatus(Level.ERROR);
@@ -303,9 +321,9 @@ public class MeasureCacheTest {
     measure.setVariation3(13.0);
     measure.setVariation4(14.0);
     measure.setVariation5(15.0);
-    cache.put(file1, measure);
+    cache.put(file2, measure);
 
-    savedMeasure = cache.byResource(file1).iterator().next();
+    savedMeasure = cache.byResource(file2).iterator().next();
     assertThat(EqualsBuilder.reflectionEquals(measure, savedMeasure)).isTrue();
 
   }
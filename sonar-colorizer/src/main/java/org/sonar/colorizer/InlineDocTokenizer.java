@@ -41,6 +41,11 @@ public abstract class InlineDocTokenizer extends Tokenizer {
     this.startToken = startToken.toCharArray();
   }
 
+  @Override
+  boolean mayStartWith(int character) {
+    return character == startToken[0];
+  }
+
   @Override
   public boolean consume(CodeReader code, HtmlCodeBuilder codeBuilder) {
     if (code.peek() == startToken[0] && Arrays.equals(code.peek(startToken.length), startToken)) {
@@ -43,6 +43,11 @@ public class JavaAnnotationTokenizer extends Tokenizer {
     }
   };
 
+  @Override
+  boolean mayStartWith(int character) {
+    return character == '@';
+  }
+
   @Override
   public boolean consume(CodeReader code, HtmlCodeBuilder codeBuilder) {
     if (code.peek() == '@') {
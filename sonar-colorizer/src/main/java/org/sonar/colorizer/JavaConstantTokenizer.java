@@ -51,6 +51,11 @@ public class JavaConstantTokenizer extends Tokenizer {
     return false;
   }
 
+  @Override
+  boolean mayStartWith(int character) {
+    return isJavaConstantStart(character);
+  }
+
   @Override
   public boolean consume(CodeReader code, HtmlCodeBuilder codeBuilder) {
     if (hasNextToken(code)) {
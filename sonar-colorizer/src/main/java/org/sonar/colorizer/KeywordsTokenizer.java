@@ -21,6 +21,8 @@ package org.sonar.colorizer;
 
 import org.sonar.channel.CodeReader;
 
+import javax.annotation.Nullable;
+
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
@@ -42,15 +44,18 @@ public class KeywordsTokenizer extends NotThreadSafeTokenizer {
 
   private Set<String> keywords = new HashSet<String>();
 
+  /**
+   * Keywords of the default regular expression are matched without regular expression. Null if
+   * a custom regular expression is used.
+   */
+  private KeywordsTrie keywordsTrie;
+
   public KeywordsTokenizer(String tagBefore, String tagAfter, Set<String> keywords) {
     this(tagBefore, tagAfter, keywords, DEFAULT_REGEX);
   }
 
   public KeywordsTokenizer(String tagBefore, String tagAfter, Set<String> keywords, String regex) {
-    this.tagBefore = tagBefore;
-    this.tagAfter = tagAfter;
-    this.keywords = keywords;
-    this.matcher = Pattern.compile(regex).matcher("");
+    this(tagBefore, tagAfter, keywords, regex, DEFAULT_REGEX.equals(regex) ? new KeywordsTrie(keywords) : null);
   }
 
   public KeywordsTokenizer(String tagBefore, String tagAfter, String... keywords) {
@@ -58,10 +63,27 @@ public class KeywordsTokenizer extends NotThreadSafeTokenizer {
     this.tagAfter = tagAfter;
     Collections.addAll(this.keywords, keywords);
     this.matcher = Pattern.compile(DEFAULT_REGEX).matcher("");
+    this.keywordsTrie = new KeywordsTrie(this.keywords);
+  }
+
+  private KeywordsTokenizer(String tagBefore, String tagAfter, Set<String> keywords, String regex, @Nullable KeywordsTrie keywordsTrie) {
+    this.tagBefore = tagBefore;
+    this.tagAfter = tagAfter;
+    this.keywords = keywords;
+    this.matcher = Pattern.compile(regex).matcher("");
+    this.keywordsTrie = keywordsTrie;
+  }
+
+  @Override
+  boolean mayStartWith(int character) {
+    return keywordsTrie == null || KeywordsTrie.isIdentifierStart(character);
   }
 
   @Override
   public boolean consume(CodeReader code, HtmlCodeBuilder codeBuilder) {
+    if (keywordsTrie != null) {
+      return consumeIdentifier(code, codeBuilder);
+    }
     if (code.popTo(matcher, tmpBuilder) > 0) {
       if (isKeyword(tmpBuilder.toString())) {
         codeBuilder.appendWithoutTransforming(tagBefore);
@@ -76,6 +98,28 @@ public class KeywordsTokenizer extends NotThreadSafeTokenizer {
     return false;
   }
 
+  /**
+   * Same as the default regular expression, but reads characters only once
+   */
+  private boolean consumeIdentifier(CodeReader code, HtmlCodeBuilder codeBuilder) {
+    if (!KeywordsTrie.isIdentifierStart(code.peek())) {
+      return false;
+    }
+    do {
+      tmpBuilder.append((char) code.pop());
+    } while (KeywordsTrie.isIdentifierPart(code.peek()));
+    boolean keyword = caseInsensitive ? isKeyword(tmpBuilder.toString()) : keywordsTrie.contains(tmpBuilder, tmpBuilder.length());
+    if (keyword) {
+      codeBuilder.appendWithoutTransforming(tagBefore);
+      codeBuilder.append(tmpBuilder);
+      codeBuilder.appendWithoutTransforming(tagAfter);
+    } else {
+      codeBuilder.append(tmpBuilder);
+    }
+    tmpBuilder.delete(0, tmpBuilder.length());
+    return true;
+  }
+
   private boolean isKeyword(String word) {
     if (!caseInsensitive && keywords.contains(word)) {
       return true;
@@ -91,7 +135,7 @@ public class KeywordsTokenizer extends NotThreadSafeTokenizer {
 
   @Override
   public KeywordsTokenizer clone() {
-    KeywordsTokenizer clone = new KeywordsTokenizer(tagBefore, tagAfter, keywords, matcher.pattern().pattern());
+    KeywordsTokenizer clone = new KeywordsTokenizer(tagBefore, tagAfter, keywords, matcher.pattern().pattern(), keywordsTrie);
     clone.caseInsensitive = caseInsensitive;
     return clone;
   }
@@ -0,0 +1,113 @@
+/*
+ * SonarQube, open source software quality management tool.
+ * Copyright (C) 2008-2014 SonarSource
+ * mailto:contact AT sonarsource DOT com
+ *
+ * SonarQube is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SonarQube is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.colorizer;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * Immutable set of keywords made of the characters [a-zA-Z0-9_], stored as a trie so that
+ * the characters of code can be checked without extracting words.
+ */
+final class KeywordsTrie {
+
+  private static final int ALPHABET_SIZE = 26 + 26 + 10 + 1;
+  private static final int NO_NODE = 0;
+
+  // children of node n are stored at [n * ALPHABET_SIZE, (n + 1) * ALPHABET_SIZE[. Root is node 0.
+  private int[] children = new int[16 * ALPHABET_SIZE];
+  private boolean[] terminals = new boolean[16];
+  private int nodes = 1;
+
+  KeywordsTrie(Collection<String> keywords) {
+    for (String keyword : keywords) {
+      add(keyword);
+    }
+  }
+
+  private void add(String keyword) {
+    for (int i = 0; i < keyword.length(); i++) {
+      if (indexOf(keyword.charAt(i)) < 0) {
+        // can not be matched as an identifier
+        return;
+      }
+    }
+    int node = 0;
+    for (int i = 0; i < keyword.length(); i++) {
+      int slot = node * ALPHABET_SIZE + indexOf(keyword.charAt(i));
+      if (children[slot] == NO_NODE) {
+        // new node must be created before writing into array, which may be re-allocated
+        int child = newNode();
+        children[slot] = child;
+      }
+      node = children[slot];
+    }
+    terminals[node] = true;
+  }
+
+  private int newNode() {
+    if (nodes == terminals.length) {
+      terminals = Arrays.copyOf(terminals, nodes * 2);
+      children = Arrays.copyOf(children, nodes * 2 * ALPHABET_SIZE);
+    }
+    int node = nodes;
+    nodes++;
+    return node;
+  }
+
+  /**
+   * @return true if the {@code length} first characters of {@code chars} are a keyword
+   */
+  boolean contains(CharSequence chars, int length) {
+    int node = 0;
+    for (int i = 0; i < length; i++) {
+      int index = indexOf(chars.charAt(i));
+      if (index < 0) {
+        return false;
+      }
+      node = children[node * ALPHABET_SIZE + index];
+      if (node == NO_NODE) {
+        return false;
+      }
+    }
+    return terminals[node];
+  }
+
+  static boolean isIdentifierStart(int c) {
+    return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || c == '_';
+  }
+
+  static boolean isIdentifierPart(int c) {
+    return isIdentifierStart(c) || (c >= '0' && c <= '9');
+  }
+
+  private static int indexOf(int c) {
+    if (c >= 'a' && c <= 'z') {
+      return c - 'a';
+    }
+    if (c >= 'A' && c <= 'Z') {
+      return 26 + c - 'A';
+    }
+    if (c >= '0' && c <= '9') {
+      return 52 + c - '0';
+    }
+    return c == '_' ? 62 : -1;
+  }
+}
@@ -40,6 +40,11 @@ public class LiteralTokenizer extends Tokenizer {
     this("", "");
   }
 
+  @Override
+  boolean mayStartWith(int character) {
+    return character == '\'' || character == '\"';
+  }
+
   @Override
   public boolean consume(CodeReader code, HtmlCodeBuilder codeBuilder) {
     if (code.peek() == '\'' || code.peek() == '\"') {
@@ -59,6 +59,14 @@ public class MultilinesDocTokenizer extends Tokenizer {
         startToken)));
   }
 
+  /**
+   * A comment started on a previous line continues with any character
+   */
+  @Override
+  boolean mayStartWith(int character) {
+    return character != '\n' && character != '\r';
+  }
+
   @Override
   public boolean consume(CodeReader code, HtmlCodeBuilder codeBuilder) {
     if (hasNextToken(code, codeBuilder)) {
@@ -37,6 +37,11 @@ public class StringTokenizer extends Tokenizer {
     tokenizer = new LiteralTokenizer("", "");
   }
 
+  @Override
+  boolean mayStartWith(int character) {
+    return tokenizer.mayStartWith(character);
+  }
+
   @Override
   public boolean consume(CodeReader code, HtmlCodeBuilder output) {
     return tokenizer.consume(code, output);
@@ -30,4 +30,12 @@ import org.sonar.channel.Channel;
  */
 @Deprecated
 public abstract class Tokenizer extends Channel<HtmlCodeBuilder> {
+
+  /**
+   * Returns false if the tokenizer never consumes code starting with the given character. It allows
+   * {@link TokenizerDispatcher} to only offer characters to the tokenizers that may consume them.
+   */
+  boolean mayStartWith(int character) {
+    return true;
+  }
 }
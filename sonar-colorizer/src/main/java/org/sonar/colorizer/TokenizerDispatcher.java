@@ -22,18 +22,41 @@ package org.sonar.colorizer;
 import org.sonar.channel.Channel;
 import org.sonar.channel.CodeReader;
 
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 public class TokenizerDispatcher {
 
+  /**
+   * Tokenizers whose {@link Tokenizer#mayStartWith(int)} is trusted. Subclasses defined elsewhere
+   * may override {@link Channel#consume(CodeReader, Object)}, so they are always called.
+   */
+  private static final Set<Class<?>> FIRST_CHARACTER_AWARE_TOKENIZERS = new HashSet<Class<?>>(Arrays.<Class<?>>asList(
+    JavaAnnotationTokenizer.class, LiteralTokenizer.class, StringTokenizer.class, CDocTokenizer.class, MultilinesDocTokenizer.class,
+    CppDocTokenizer.class, JavadocTokenizer.class, JavaConstantTokenizer.class, KeywordsTokenizer.class, CaseInsensitiveKeywordsTokenizer.class));
+
+  /**
+   * Characters for which the tokenizers to be called are pre-computed. Other characters are offered to all tokenizers.
+   */
+  private static final int INDEXED_CHARACTERS = 128;
+
   private Channel<HtmlCodeBuilder>[] tokenizers;
+  private final int[][] tokenizerIndexesByFirstCharacter;
+  private final int[] allTokenizerIndexes;
 
   public TokenizerDispatcher(Channel<HtmlCodeBuilder>... tokenizers) {
     this.tokenizers = tokenizers;
+    this.allTokenizerIndexes = new int[tokenizers.length];
+    for (int i = 0; i < tokenizers.length; i++) {
+      allTokenizerIndexes[i] = i;
+    }
+    this.tokenizerIndexesByFirstCharacter = indexTokenizersByFirstCharacter(tokenizers);
   }
 
   public TokenizerDispatcher(List<Channel<HtmlCodeBuilder>> tokenizersArray) {
-    this.tokenizers = tokenizersArray.toArray(new Channel[tokenizersArray.size()]);
+    this(tokenizersArray.toArray(new Channel[tokenizersArray.size()]));
   }
 
   public final String colorize(String code) {
@@ -45,9 +68,10 @@ public class TokenizerDispatcher {
   public final void colorize(CodeReader code, HtmlCodeBuilder colorizedCode) {
     cloneNotThreadSafeTokenizers();
     nextChar:
-    while (code.peek() != -1) {
-      for (Channel<HtmlCodeBuilder> codeTokenizer : tokenizers) {
-        if (codeTokenizer.consume(code, colorizedCode)) {
+    for (int character = code.peek(); character != -1; character = code.peek()) {
+      int[] tokenizerIndexes = character < INDEXED_CHARACTERS ? tokenizerIndexesByFirstCharacter[character] : allTokenizerIndexes;
+      for (int tokenizerIndex : tokenizerIndexes) {
+        if (tokenizers[tokenizerIndex].consume(code, colorizedCode)) {
           continue nextChar;
         }
       }
@@ -55,6 +79,29 @@ public class TokenizerDispatcher {
     }
   }
 
+  /**
+   * Order of tokenizers is kept, only the tokenizers that can not consume the character are excluded
+   */
+  private static int[][] indexTokenizersByFirstCharacter(Channel<HtmlCodeBuilder>[] tokenizers) {
+    int[][] result = new int[INDEXED_CHARACTERS][];
+    int[] buffer = new int[tokenizers.length];
+    for (int character = 0; character < INDEXED_CHARACTERS; character++) {
+      int size = 0;
+      for (int i = 0; i < tokenizers.length; i++) {
+        if (mayStartWith(tokenizers[i], character)) {
+          buffer[size] = i;
+          size++;
+        }
+      }
+      result[character] = Arrays.copyOf(buffer, size);
+    }
+    return result;
+  }
+
+  private static boolean mayStartWith(Channel<HtmlCodeBuilder> tokenizer, int character) {
+    return !FIRST_CHARACTER_AWARE_TOKENIZERS.contains(tokenizer.getClass()) || ((Tokenizer) tokenizer).mayStartWith(character);
+  }
+
   private void cloneNotThreadSafeTokenizers() {
     for (int i = 0; i < tokenizers.length; i++) {
       if (tokenizers[i] instanceof NotThreadSafeTokenizer) {
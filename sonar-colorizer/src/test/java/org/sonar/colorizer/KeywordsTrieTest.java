@@ -0,0 +1,88 @@
+/*
+ * SonarQube, open source software quality management tool.
+ * Copyright (C) 2008-2014 SonarSource
+ * mailto:contact AT sonarsource DOT com
+ *
+ * SonarQube is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SonarQube is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.colorizer;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class KeywordsTrieTest {
+
+  @Test
+  public void contains_only_whole_keywords() {
+    KeywordsTrie trie = new KeywordsTrie(Arrays.asList("int", "interface", "in"));
+
+    assertThat(trie.contains("int", 3)).isTrue();
+    assertThat(trie.contains("in", 2)).isTrue();
+    assertThat(trie.contains("interface", 9)).isTrue();
+    assertThat(trie.contains("inter", 5)).isFalse();
+    assertThat(trie.contains("i", 1)).isFalse();
+    assertThat(trie.contains("integer", 7)).isFalse();
+    assertThat(trie.contains("", 0)).isFalse();
+  }
+
+  @Test
+  public void is_case_sensitive() {
+    KeywordsTrie trie = new KeywordsTrie(Arrays.asList("null"));
+
+    assertThat(trie.contains("null", 4)).isTrue();
+    assertThat(trie.contains("NULL", 4)).isFalse();
+  }
+
+  @Test
+  public void only_first_characters_are_read() {
+    KeywordsTrie trie = new KeywordsTrie(Arrays.asList("for"));
+
+    assertThat(trie.contains("foreach", 3)).isTrue();
+  }
+
+  @Test
+  public void grow_with_many_keywords() {
+    KeywordsTrie trie = new KeywordsTrie(JavaKeywords.get());
+
+    for (String keyword : JavaKeywords.get()) {
+      assertThat(trie.contains(keyword, keyword.length())).as(keyword).isTrue();
+    }
+    assertThat(trie.contains("foo", 3)).isFalse();
+  }
+
+  @Test
+  public void ignore_keywords_which_are_not_identifiers() {
+    KeywordsTrie trie = new KeywordsTrie(Arrays.asList("a-b", "ab"));
+
+    assertThat(trie.contains("ab", 2)).isTrue();
+    assertThat(trie.contains("a-b", 3)).isFalse();
+  }
+
+  @Test
+  public void identifier_characters() {
+    assertThat(KeywordsTrie.isIdentifierStart('a')).isTrue();
+    assertThat(KeywordsTrie.isIdentifierStart('Z')).isTrue();
+    assertThat(KeywordsTrie.isIdentifierStart('_')).isTrue();
+    assertThat(KeywordsTrie.isIdentifierStart('1')).isFalse();
+    assertThat(KeywordsTrie.isIdentifierStart('@')).isFalse();
+
+    assertThat(KeywordsTrie.isIdentifierPart('1')).isTrue();
+    assertThat(KeywordsTrie.isIdentifierPart('-')).isFalse();
+    assertThat(KeywordsTrie.isIdentifierPart(-1)).isFalse();
+  }
+}
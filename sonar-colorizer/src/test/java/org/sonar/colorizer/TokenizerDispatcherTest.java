@@ -55,6 +55,27 @@ public class TokenizerDispatcherTest {
     assertThat(colorization.colorize("assert(\"message\"); //comment")).isEqualTo("<k>assert</k>(<s>\"message\"</s>); <c>//comment</c>");
   }
 
+  @Test
+  public void offerAllCharactersToCustomTokenizers() {
+    TokenizerDispatcher colorization = newColorizer(new LiteralTokenizer("<s>", "</s>") {
+      @Override
+      public boolean consume(CodeReader code, HtmlCodeBuilder codeBuilder) {
+        if (code.peek() == '#') {
+          codeBuilder.appendWithoutTransforming("<h>" + (char) code.pop() + "</h>");
+          return true;
+        }
+        return super.consume(code, codeBuilder);
+      }
+    }, new KeywordsTokenizer("<k>", "</k>", JavaKeywords.get()));
+    assertThat(colorization.colorize("#int \"a\"")).isEqualTo("<h>#</h><k>int</k> <s>\"a\"</s>");
+  }
+
+  @Test
+  public void testNonAsciiCharacters() {
+    TokenizerDispatcher colorization = newColorizer(new KeywordsTokenizer("<k>", "</k>", JavaKeywords.get()));
+    assertThat(colorization.colorize("\u00e9int int")).isEqualTo("\u00e9<k>int</k> <k>int</k>");
+  }
+
   @Test(expected = IllegalStateException.class)
   public void testCloneNotThreadSafeTokenizers() {
     NotThreadSafeTokenizer tokenizer = new NotThreadSafeTokenizer() {
@@ -23,6 +23,7 @@ import com.google.common.collect.Maps;
 import com.tinkerpop.blueprints.impls.tg.TinkerGraph;
 import org.sonar.api.ServerComponent;
 import org.sonar.api.component.Perspective;
+import org.sonar.core.graph.binary.BinaryGraphReader;
 import org.sonar.core.graph.graphson.GraphsonReader;
 import org.sonar.core.graph.jdbc.GraphDao;
 import org.sonar.core.graph.jdbc.GraphDto;
@@ -65,21 +66,36 @@ public class SnapshotPerspectives implements ServerComponent {
     return doAs(builder, graphDto);
   }
 
+  /**
+   * Deserialize a graph that has already been loaded, for example when scrolling over all the graphs of a project.
+   */
+  @CheckForNull
+  public <T extends Perspective> T as(Class<T> perspectiveClass, GraphDto graphDto) {
+    GraphPerspectiveLoader<T> builder = (GraphPerspectiveLoader<T>) loaders.get(perspectiveClass);
+    if (builder == null) {
+      throw new IllegalStateException();
+    }
+    return doAs(builder, graphDto);
+  }
+
   private <T extends Perspective> T doAs(GraphPerspectiveLoader<T> loader, GraphDto graphDto) {
     T result = null;
     if (graphDto != null) {
-      SnapshotGraph graph = read(graphDto.getData(), graphDto.getRootVertexId());
+      SnapshotGraph graph = read(graphDto);
       result = loader.load(graph.wrap(graph.getComponentRoot(), ComponentVertex.class));
     }
     return result;
   }
 
-  private SnapshotGraph read(String data, String rootVertexId) {
-    StringReader input = new StringReader(data);
+  private SnapshotGraph read(GraphDto graphDto) {
     try {
       TinkerGraph graph = new TinkerGraph();
-      new GraphsonReader().read(input, graph);
-      return new SnapshotGraph(graph, rootVertexId);
+      if (GraphDto.FORMAT_PROTOBUF.equals(graphDto.getFormat())) {
+        new BinaryGraphReader().read(graphDto.getBinaryData(), graph);
+      } else {
+        new GraphsonReader().read(new StringReader(graphDto.getData()), graph);
+      }
+      return new SnapshotGraph(graph, graphDto.getRootVertexId());
     } catch (Exception e) {
       throw new IllegalStateException(e);
     }
@@ -19,12 +19,15 @@
  */
 package org.sonar.core.duplication;
 
+import org.apache.ibatis.session.ResultHandler;
 import org.apache.ibatis.session.SqlSession;
 import org.sonar.api.BatchComponent;
 import org.sonar.api.ServerComponent;
 import org.sonar.core.persistence.DbSession;
 import org.sonar.core.persistence.MyBatis;
 
+import javax.annotation.Nullable;
+
 import java.util.Collection;
 import java.util.List;
 
@@ -46,6 +49,21 @@ public class DuplicationDao implements BatchComponent, ServerComponent {
     }
   }
 
+  /**
+   * Streams candidates of all the blocks of a project (or module) snapshot with a single query, instead
+   * of one query per file as done by {@link #selectCandidates(int, Integer, String)}.
+   * Each result object passed to the handler is a {@link DuplicationUnitDto}.
+   */
+  public void selectCandidatesOfProject(int projectSnapshotId, @Nullable Integer lastSnapshotId, String language, ResultHandler handler) {
+    SqlSession session = mybatis.openSession(false);
+    try {
+      DuplicationMapper mapper = session.getMapper(DuplicationMapper.class);
+      mapper.selectCandidatesOfProject(projectSnapshotId, lastSnapshotId, language, handler);
+    } finally {
+      MyBatis.closeQuietly(session);
+    }
+  }
+
   /**
    * Insert rows in the table DUPLICATIONS_INDEX.
    * Note that generated ids are not returned.
@@ -0,0 +1,119 @@
+/*
+ * SonarQube, open source software quality management tool.
+ * Copyright (C) 2008-2014 SonarSource
+ * mailto:contact AT sonarsource DOT com
+ *
+ * SonarQube is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SonarQube is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.core.graph.binary;
+
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.tinkerpop.blueprints.Edge;
+import com.tinkerpop.blueprints.Element;
+import com.tinkerpop.blueprints.Graph;
+import com.tinkerpop.blueprints.Vertex;
+import org.sonar.core.graph.db.GraphDb;
+
+import javax.annotation.CheckForNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Loads into a graph the data written by {@link BinaryGraphWriter}.
+ * <p>
+ * Vertices and edges are decoded eagerly. Perspectives are loaded by navigating the given Blueprints graph
+ * from its root vertex, so all elements must be added to it, and protobuf parses the whole message anyway.
+ * Only the entries of the string table are decoded on first access, by the protobuf lazy string list.
+ * </p>
+ *
+ * @since 5.2
+ */
+public class BinaryGraphReader {
+
+  public Graph read(byte[] data, Graph toGraph) {
+    GraphDb.Graph graph;
+    try {
+      graph = GraphDb.Graph.parseFrom(data);
+    } catch (InvalidProtocolBufferException e) {
+      throw new IllegalStateException("Unable to parse binary graph", e);
+    }
+    List<String> strings = graph.getStringsList();
+
+    Vertex[] vertices = new Vertex[graph.getVerticesCount()];
+    for (int i = 0; i < vertices.length; i++) {
+      GraphDb.Vertex vertex = graph.getVertices(i);
+      vertices[i] = toGraph.addVertex(strings.get(vertex.getId()));
+      setProperties(vertices[i], vertex.getPropertiesList(), strings);
+    }
+    for (GraphDb.Edge edge : graph.getEdgesList()) {
+      Edge e = toGraph.addEdge(strings.get(edge.getId()), vertices[edge.getOutVertex()], vertices[edge.getInVertex()], strings.get(edge.getLabel()));
+      setProperties(e, edge.getPropertiesList(), strings);
+    }
+    toGraph.shutdown();
+    return toGraph;
+  }
+
+  private static void setProperties(Element element, List<GraphDb.Property> properties, List<String> strings) {
+    for (GraphDb.Property property : properties) {
+      Object value = value(property.getValue(), strings);
+      if (value != null) {
+        element.setProperty(strings.get(property.getKey()), value);
+      }
+    }
+  }
+
+  @CheckForNull
+  private static Object value(GraphDb.Value value, List<String> strings) {
+    switch (value.getType()) {
+      case STRING:
+        return strings.get(value.getStringValue());
+      case BOOLEAN:
+        return value.getBooleanValue();
+      case INTEGER:
+        return (int) value.getLongValue();
+      case LONG:
+        return value.getLongValue();
+      case FLOAT:
+        return (float) value.getDoubleValue();
+      case DOUBLE:
+        return value.getDoubleValue();
+      case LIST:
+        List<Object> list = new ArrayList<>(value.getListValueCount());
+        for (GraphDb.Value item : value.getListValueList()) {
+          list.add(value(item, strings));
+        }
+        return list;
+      case SET:
+        Set<Object> set = new LinkedHashSet<>();
+        for (GraphDb.Value item : value.getListValueList()) {
+          set.add(value(item, strings));
+        }
+        return set;
+      case MAP:
+        Map<String, Object> map = new HashMap<>();
+        for (GraphDb.Property entry : value.getMapValueList()) {
+          map.put(strings.get(entry.getKey()), value(entry.getValue(), strings));
+        }
+        return map;
+      default:
+        return null;
+    }
+  }
+}
@@ -0,0 +1,179 @@
+/*
+ * SonarQube, open source software quality management tool.
+ * Copyright (C) 2008-2014 SonarSource
+ * mailto:contact AT sonarsource DOT com
+ *
+ * SonarQube is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SonarQube is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.core.graph.binary;
+
+import com.tinkerpop.blueprints.Direction;
+import com.tinkerpop.blueprints.Edge;
+import com.tinkerpop.blueprints.Element;
+import com.tinkerpop.blueprints.Graph;
+import com.tinkerpop.blueprints.Vertex;
+import org.sonar.core.graph.db.GraphDb;
+
+import javax.annotation.Nullable;
+
+import java.lang.reflect.Array;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Serializes a graph into the protocol buffers format defined by graph_db.proto. Strings (ids, labels,
+ * property keys and string values) are stored once in a table and referenced by index.
+ *
+ * @see BinaryGraphReader
+ * @since 5.2
+ */
+public class BinaryGraphWriter {
+
+  /**
+   * Fields of elements stored as property values, named as in GraphSON
+   */
+  static final String ID_FIELD = "_id";
+  static final String TYPE_FIELD = "_type";
+  static final String LABEL_FIELD = "_label";
+  static final String OUT_VERTEX_FIELD = "_outV";
+  static final String IN_VERTEX_FIELD = "_inV";
+
+  public byte[] write(Graph graph) {
+    return new Serializer().serialize(graph).toByteArray();
+  }
+
+  private static class Serializer {
+    private final GraphDb.Graph.Builder graph = GraphDb.Graph.newBuilder();
+    private final Map<String, Integer> stringIndexes = new HashMap<>();
+    private final Map<Object, Integer> vertexIndexes = new HashMap<>();
+
+    GraphDb.Graph serialize(Graph from) {
+      for (Vertex vertex : from.getVertices()) {
+        vertexIndexes.put(vertex.getId(), graph.getVerticesCount());
+        GraphDb.Vertex.Builder builder = GraphDb.Vertex.newBuilder().setId(string(vertex.getId().toString()));
+        for (String key : vertex.getPropertyKeys()) {
+          builder.addProperties(property(key, vertex.getProperty(key)));
+        }
+        graph.addVertices(builder);
+      }
+      for (Edge edge : from.getEdges()) {
+        GraphDb.Edge.Builder builder = GraphDb.Edge.newBuilder()
+          .setId(string(edge.getId().toString()))
+          .setLabel(string(edge.getLabel()))
+          .setOutVertex(vertexIndex(edge.getVertex(Direction.OUT)))
+          .setInVertex(vertexIndex(edge.getVertex(Direction.IN)));
+        for (String key : edge.getPropertyKeys()) {
+          builder.addProperties(property(key, edge.getProperty(key)));
+        }
+        graph.addEdges(builder);
+      }
+      return graph.build();
+    }
+
+    private int vertexIndex(Vertex vertex) {
+      Integer index = vertexIndexes.get(vertex.getId());
+      if (index == null) {
+        throw new IllegalStateException("Edge refers to a vertex which is not part of graph: " + vertex.getId());
+      }
+      return index;
+    }
+
+    private int string(String s) {
+      Integer index = stringIndexes.get(s);
+      if (index == null) {
+        index = graph.getStringsCount();
+        graph.addStrings(s);
+        stringIndexes.put(s, index);
+      }
+      return index;
+    }
+
+    private static Map<String, Object> elementFields(Element element) {
+      Map<String, Object> fields = new LinkedHashMap<>();
+      fields.put(ID_FIELD, element.getId().toString());
+      if (element instanceof Edge) {
+        Edge edge = (Edge) element;
+        fields.put(TYPE_FIELD, "edge");
+        fields.put(LABEL_FIELD, edge.getLabel());
+        fields.put(OUT_VERTEX_FIELD, edge.getVertex(Direction.OUT).getId().toString());
+        fields.put(IN_VERTEX_FIELD, edge.getVertex(Direction.IN).getId().toString());
+      } else {
+        fields.put(TYPE_FIELD, "vertex");
+      }
+      for (String key : element.getPropertyKeys()) {
+        fields.put(key, element.getProperty(key));
+      }
+      return fields;
+    }
+
+    private GraphDb.Property.Builder property(String key, @Nullable Object value) {
+      return GraphDb.Property.newBuilder()
+        .setKey(string(key))
+        .setValue(value(value));
+    }
+
+    private GraphDb.Value.Builder value(@Nullable Object value) {
+      GraphDb.Value.Builder builder = GraphDb.Value.newBuilder();
+      if (value == null) {
+        builder.setType(GraphDb.Value.Type.NULL);
+      } else if (value instanceof String) {
+        // STRING is the default type
+        builder.setStringValue(string((String) value));
+      } else if (value instanceof Boolean) {
+        builder.setType(GraphDb.Value.Type.BOOLEAN).setBooleanValue((Boolean) value);
+      } else if (value instanceof Integer) {
+        builder.setType(GraphDb.Value.Type.INTEGER).setLongValue((Integer) value);
+      } else if (value instanceof Long) {
+        builder.setType(GraphDb.Value.Type.LONG).setLongValue((Long) value);
+      } else if (value instanceof Float) {
+        builder.setType(GraphDb.Value.Type.FLOAT).setDoubleValue((Float) value);
+      } else if (value instanceof Double) {
+        builder.setType(GraphDb.Value.Type.DOUBLE).setDoubleValue((Double) value);
+      } else if (value instanceof List) {
+        builder.setType(GraphDb.Value.Type.LIST);
+        for (Object item : (List) value) {
+          builder.addListValue(value(item));
+        }
+      } else if (value.getClass().isArray()) {
+        builder.setType(GraphDb.Value.Type.LIST);
+        for (int i = 0; i < Array.getLength(value); i++) {
+          builder.addListValue(value(Array.get(value, i)));
+        }
+      } else if (value instanceof Map) {
+        builder.setType(GraphDb.Value.Type.MAP);
+        for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+          builder.addMapValue(property(entry.getKey().toString(), entry.getValue()));
+        }
+      } else if (value instanceof Set) {
+        builder.setType(GraphDb.Value.Type.SET);
+        for (Object item : (Set) value) {
+          builder.addListValue(value(item));
+        }
+      } else if (value instanceof Element) {
+        // as GraphSON, elements are read back as maps
+        builder.setType(GraphDb.Value.Type.MAP);
+        for (Map.Entry<String, Object> entry : elementFields((Element) value).entrySet()) {
+          builder.addMapValue(property(entry.getKey(), entry.getValue()));
+        }
+      } else {
+        builder.setStringValue(string(value.toString()));
+      }
+      return builder;
+    }
+  }
+}
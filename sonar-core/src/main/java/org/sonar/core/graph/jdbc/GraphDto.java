@@ -20,6 +20,17 @@
 package org.sonar.core.graph.jdbc;
 
 public class GraphDto {
+
+  /**
+   * JSON, see {@link org.sonar.core.graph.graphson.GraphsonWriter}. Data is stored in column DATA.
+   */
+  public static final String FORMAT_GRAPHSON = "graphson";
+
+  /**
+   * Protocol buffers, see {@link org.sonar.core.graph.binary.BinaryGraphWriter}. Data is stored in column BINARY_DATA.
+   */
+  public static final String FORMAT_PROTOBUF = "protobuf";
+
   private long id;
   private long resourceId;
   private long snapshotId;
@@ -28,6 +39,7 @@ public class GraphDto {
   private int version;
   private String rootVertexId;
   private String data;
+  private byte[] binaryData;
 
   public long getId() {
     return id;
@@ -100,4 +112,13 @@ public class GraphDto {
     this.data = data;
     return this;
   }
+
+  public byte[] getBinaryData() {
+    return binaryData;
+  }
+
+  public GraphDto setBinaryData(byte[] binaryData) {
+    this.binaryData = binaryData;
+    return this;
+  }
 }
@@ -58,21 +58,33 @@ public class FileSourceDao implements BatchComponent, ServerComponent, DaoCompon
   }
 
   public <T> void readDataStream(String fileUuid, Function<InputStream, T> function) {
+    readDataStream("SELECT binary_data FROM file_sources WHERE file_uuid=?", fileUuid, function);
+  }
+
+  /**
+   * Same as {@link #readDataStream(String, Function)} but the file is identified by its key. The file uuid
+   * does not need to be loaded before, as both tables are joined in the same query.
+   */
+  public <T> void readDataStreamByFileKey(String fileKey, Function<InputStream, T> function) {
+    readDataStream("SELECT fs.binary_data FROM file_sources fs INNER JOIN projects p ON p.uuid=fs.file_uuid WHERE p.kee=?", fileKey, function);
+  }
+
+  private <T> void readDataStream(String sql, String file, Function<InputStream, T> function) {
     DbSession dbSession = mybatis.openSession(false);
     Connection connection = dbSession.getConnection();
     PreparedStatement pstmt = null;
     ResultSet rs = null;
     InputStream input = null;
     try {
-      pstmt = connection.prepareStatement("SELECT binary_data FROM file_sources WHERE file_uuid=?");
-      pstmt.setString(1, fileUuid);
+      pstmt = connection.prepareStatement(sql);
+      pstmt.setString(1, file);
       rs = pstmt.executeQuery();
       if (rs.next()) {
         input = rs.getBinaryStream(1);
         function.apply(input);
       }
     } catch (SQLException e) {
-      throw new IllegalStateException("Fail to read FILE_SOURCES.BINARY_DATA of file " + fileUuid, e);
+      throw new IllegalStateException("Fail to read FILE_SOURCES.BINARY_DATA of file " + file, e);
     } finally {
       IOUtils.closeQuietly(input);
       DbUtils.closeQuietly(connection, pstmt, rs);
@@ -121,4 +133,17 @@ public class FileSourceDao implements BatchComponent, ServerComponent, DaoCompon
     }
   }
 
+  /**
+   * Update binary data of a file which source is unchanged. Line hashes and source hash are not touched.
+   */
+  public void updateData(FileSourceDto dto) {
+    DbSession session = mybatis.openSession(false);
+    try {
+      session.getMapper(FileSourceMapper.class).updateData(dto);
+      session.commit();
+    } finally {
+      MyBatis.closeQuietly(session);
+    }
+  }
+
 }
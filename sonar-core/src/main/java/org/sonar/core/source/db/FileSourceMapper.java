@@ -35,6 +35,11 @@ public interface FileSourceMapper {
 
   void update(FileSourceDto dto);
 
+  /**
+   * Same as {@link #update(FileSourceDto)} but columns LINE_HASHES and SRC_HASH are kept unchanged.
+   */
+  void updateData(FileSourceDto dto);
+
   @CheckForNull
   String selectLineHashes(String fileUuid);
 }
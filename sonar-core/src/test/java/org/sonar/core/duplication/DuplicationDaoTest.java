@@ -19,10 +19,13 @@
  */
 package org.sonar.core.duplication;
 
+import org.apache.ibatis.session.ResultContext;
+import org.apache.ibatis.session.ResultHandler;
 import org.junit.Before;
 import org.junit.Test;
 import org.sonar.core.persistence.AbstractDaoTestCase;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
@@ -57,6 +60,26 @@ public class DuplicationDaoTest extends AbstractDaoTestCase {
     assertThat(blocks.size(), is(2));
   }
 
+  @Test
+  public void select_candidates_of_project() throws Exception {
+    setupData("shouldGetByHash");
+
+    CollectHandler handler = new CollectHandler();
+    dao.selectCandidatesOfProject(9, 7, "java", handler);
+    assertThat(handler.units.size(), is(1));
+
+    DuplicationUnitDto block = handler.units.get(0);
+    assertThat("block resourceId", block.getResourceKey(), is("bar-last"));
+    assertThat("block hash", block.getHash(), is("aa"));
+    assertThat("block start line", block.getStartLine(), is(1));
+    assertThat("block end line", block.getEndLine(), is(2));
+
+    // check null for lastSnapshotId
+    handler = new CollectHandler();
+    dao.selectCandidatesOfProject(9, null, "java", handler);
+    assertThat(handler.units.size(), is(2));
+  }
+
   @Test
   public void shouldInsert() throws Exception {
     setupData("shouldInsert");
@@ -66,4 +89,13 @@ public class DuplicationDaoTest extends AbstractDaoTestCase {
     checkTables("shouldInsert", "duplications_index");
   }
 
+  private static class CollectHandler implements ResultHandler {
+    List<DuplicationUnitDto> units = new ArrayList<>();
+
+    @Override
+    public void handleResult(ResultContext context) {
+      units.add((DuplicationUnitDto) context.getResultObject());
+    }
+  }
+
 }
@@ -0,0 +1,157 @@
+/*
+ * SonarQube, open source software quality management tool.
+ * Copyright (C) 2008-2014 SonarSource
+ * mailto:contact AT sonarsource DOT com
+ *
+ * SonarQube is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SonarQube is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.core.graph.binary;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.tinkerpop.blueprints.Direction;
+import com.tinkerpop.blueprints.Edge;
+import com.tinkerpop.blueprints.Graph;
+import com.tinkerpop.blueprints.Vertex;
+import com.tinkerpop.blueprints.impls.tg.TinkerGraph;
+import com.tinkerpop.blueprints.impls.tg.TinkerGraphFactory;
+import org.junit.Test;
+import org.sonar.core.graph.graphson.GraphsonMode;
+import org.sonar.core.graph.graphson.GraphsonWriter;
+
+import java.io.StringWriter;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class BinaryGraphReaderTest {
+
+  @Test
+  public void full_cycle() {
+    TinkerGraph graph = TinkerGraphFactory.createTinkerGraph();
+
+    Graph copy = new BinaryGraphReader().read(new BinaryGraphWriter().write(graph), new TinkerGraph());
+
+    assertThat(copy.getVertices()).hasSize(6);
+    assertThat(copy.getEdges()).hasSize(6);
+    for (Vertex vertex : graph.getVertices()) {
+      Vertex copiedVertex = copy.getVertex(vertex.getId());
+      assertThat(copiedVertex.getPropertyKeys()).isEqualTo(vertex.getPropertyKeys());
+      for (String key : vertex.getPropertyKeys()) {
+        assertThat(copiedVertex.getProperty(key)).isEqualTo(vertex.getProperty(key));
+      }
+    }
+    for (Edge edge : graph.getEdges()) {
+      Edge copiedEdge = copy.getEdge(edge.getId());
+      assertThat(copiedEdge.getLabel()).isEqualTo(edge.getLabel());
+      assertThat(copiedEdge.getVertex(Direction.OUT).getId()).isEqualTo(edge.getVertex(Direction.OUT).getId());
+      assertThat(copiedEdge.getVertex(Direction.IN).getId()).isEqualTo(edge.getVertex(Direction.IN).getId());
+      assertThat(copiedEdge.getProperty("weight")).isEqualTo(edge.getProperty("weight"));
+    }
+  }
+
+  @Test
+  public void property_types() {
+    TinkerGraph graph = new TinkerGraph();
+    Vertex v1 = graph.addVertex("1");
+    v1.setProperty("string", "please work");
+    v1.setProperty("boolean", true);
+    v1.setProperty("int", 42);
+    v1.setProperty("long", 10000000000L);
+    v1.setProperty("float", 0.5f);
+    v1.setProperty("double", 0.4954959595959);
+    v1.setProperty("list", Arrays.asList(1, 2, null, "four"));
+    v1.setProperty("array", new int[] {5, 6});
+    v1.setProperty("map", ImmutableMap.of("big", 10000000000L, "nested", Arrays.asList("a")));
+    Vertex v2 = graph.addVertex("2");
+    graph.addEdge("100", v1, v2, "covers").setProperty("lines", Arrays.asList(3, 4));
+
+    Graph copy = new BinaryGraphReader().read(new BinaryGraphWriter().write(graph), new TinkerGraph());
+
+    Vertex vertex = copy.getVertex("1");
+    assertThat(vertex.getProperty("string")).isEqualTo("please work");
+    assertThat(vertex.getProperty("boolean")).isEqualTo(true);
+    assertThat(vertex.getProperty("int")).isEqualTo(42);
+    assertThat(vertex.getProperty("long")).isEqualTo(10000000000L);
+    assertThat(vertex.getProperty("float")).isEqualTo(0.5f);
+    assertThat(vertex.getProperty("double")).isEqualTo(0.4954959595959);
+    assertThat((List) vertex.getProperty("list")).containsExactly(1, 2, null, "four");
+    assertThat((List) vertex.getProperty("array")).containsExactly(5, 6);
+    Map map = (Map) vertex.getProperty("map");
+    assertThat(map).hasSize(2);
+    assertThat(map.get("big")).isEqualTo(10000000000L);
+    assertThat((List) map.get("nested")).containsExactly("a");
+
+    Edge edge = copy.getEdge("100");
+    assertThat(edge.getLabel()).isEqualTo("covers");
+    assertThat(edge.getVertex(Direction.OUT)).isEqualTo(vertex);
+    assertThat(edge.getVertex(Direction.IN)).isEqualTo(copy.getVertex("2"));
+    assertThat((List) edge.getProperty("lines")).containsExactly(3, 4);
+  }
+
+  @Test
+  public void set_and_element_properties() {
+    TinkerGraph graph = new TinkerGraph();
+    Vertex v1 = graph.addVertex("1");
+    Vertex v2 = graph.addVertex("2");
+    v2.setProperty("name", "other");
+    Edge edge = graph.addEdge("100", v1, v2, "covers");
+    v1.setProperty("set", ImmutableSet.of("a", "b"));
+    v1.setProperty("vertex", v2);
+    v1.setProperty("edge", edge);
+
+    Graph copy = new BinaryGraphReader().read(new BinaryGraphWriter().write(graph), new TinkerGraph());
+
+    Vertex vertex = copy.getVertex("1");
+    assertThat((Set) vertex.getProperty("set")).containsOnly("a", "b");
+    Map vertexValue = (Map) vertex.getProperty("vertex");
+    assertThat(vertexValue.get("_id")).isEqualTo("2");
+    assertThat(vertexValue.get("_type")).isEqualTo("vertex");
+    assertThat(vertexValue.get("name")).isEqualTo("other");
+    Map edgeValue = (Map) vertex.getProperty("edge");
+    assertThat(edgeValue.get("_id")).isEqualTo("100");
+    assertThat(edgeValue.get("_type")).isEqualTo("edge");
+    assertThat(edgeValue.get("_label")).isEqualTo("covers");
+    assertThat(edgeValue.get("_outV")).isEqualTo("1");
+    assertThat(edgeValue.get("_inV")).isEqualTo("2");
+  }
+
+  @Test
+  public void is_smaller_than_graphson() {
+    TinkerGraph graph = new TinkerGraph();
+    Vertex plan = graph.addVertex("plan");
+    plan.setProperty("type", "test-plan");
+    for (int i = 0; i < 100; i++) {
+      Vertex testCase = graph.addVertex("test" + i);
+      testCase.setProperty("type", "unit");
+      testCase.setProperty("status", "OK");
+      testCase.setProperty("name", "test" + i);
+      testCase.setProperty("duration", (long) i);
+      graph.addEdge(null, plan, testCase, "testcase").setProperty("lines", Arrays.asList(i, i + 1, i + 2));
+    }
+    StringWriter json = new StringWriter();
+    new GraphsonWriter().write(graph, json, GraphsonMode.EXTENDED);
+
+    assertThat(new BinaryGraphWriter().write(graph).length).isLessThan(json.toString().length() / 4);
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void fail_to_read_corrupted_data() {
+    new BinaryGraphReader().read(new byte[] {1, 2, 3}, new TinkerGraph());
+  }
+}
@@ -75,6 +75,19 @@ public class FileSourceDaoTest extends AbstractDaoTestCase {
     assertThat(fn.result).isNotEmpty();
   }
 
+  @Test
+  public void select_data_by_file_key() throws Exception {
+    setupData("select_data_by_file_key");
+
+    InputStreamToStringFunction fn = new InputStreamToStringFunction();
+    dao.readDataStreamByFileKey("org.struts:struts-core:src/org/struts/RequestContext.java", fn);
+    assertThat(fn.result).isNotEmpty();
+
+    fn = new InputStreamToStringFunction();
+    dao.readDataStreamByFileKey("org.struts:struts-core:src/org/struts/Unknown.java", fn);
+    assertThat(fn.result).isNull();
+  }
+
   @Test
   public void select_line_hashes() throws Exception {
     setupData("shared");
@@ -128,6 +141,22 @@ public class FileSourceDaoTest extends AbstractDaoTestCase {
     checkTable("update", "file_sources", "project_uuid", "file_uuid", "data_hash", "line_hashes", "src_hash", "created_at", "updated_at");
   }
 
+  @Test
+  public void update_data_keeps_line_hashes_and_src_hash() throws Exception {
+    setupData("shared");
+
+    dao.updateData(new FileSourceDto().setId(101L)
+      .setProjectUuid("PRJ_UUID")
+      .setFileUuid("FILE1_UUID")
+      .setBinaryData("updated data".getBytes())
+      .setDataHash("NEW_DATA_HASH")
+      .setSrcHash("NEW_FILE_HASH")
+      .setLineHashes("NEW_LINE_HASHES")
+      .setUpdatedAt(1500000000002L));
+
+    checkTable("update_data", "file_sources", "project_uuid", "file_uuid", "data_hash", "line_hashes", "src_hash", "created_at", "updated_at");
+  }
+
   private static class ReaderToStringFunction implements Function<Reader, String> {
 
     String result = null;
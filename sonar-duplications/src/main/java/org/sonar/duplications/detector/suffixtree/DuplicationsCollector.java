@@ -27,6 +27,7 @@ import org.sonar.duplications.index.ClonePart;
 import org.sonar.duplications.utils.SortedListsUtils;
 
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 
 /**
@@ -34,11 +35,34 @@ import java.util.List;
  */
 public class DuplicationsCollector extends Search.Collector {
 
+  /**
+   * Defines order by descending length, then by origin and by parts. Groups of same length are reported
+   * in an order which depends on the implementation of suffix tree, so it is not relevant.
+   */
+  private static final Comparator<CloneGroup> GROUP_COMPARATOR = new Comparator<CloneGroup>() {
+    @Override
+    public int compare(CloneGroup o1, CloneGroup o2) {
+      int c = o2.getCloneUnitLength() - o1.getCloneUnitLength();
+      if (c == 0) {
+        c = ContainsInComparator.CLONEPART_COMPARATOR.compare(o1.getOriginPart(), o2.getOriginPart());
+      }
+      if (c == 0) {
+        c = o1.getCloneParts().size() - o2.getCloneParts().size();
+      }
+      for (int i = 0; c == 0 && i < o1.getCloneParts().size(); i++) {
+        c = ContainsInComparator.CLONEPART_COMPARATOR.compare(o1.getCloneParts().get(i), o2.getCloneParts().get(i));
+      }
+      return c;
+    }
+  };
+
   private final TextSet text;
   private final String originResourceId;
 
   private final List<CloneGroup> filtered = Lists.newArrayList();
 
+  private boolean sorted = true;
+
   private int length;
   private int count;
   private int[][] blockNumbers;
@@ -49,9 +73,14 @@ public class DuplicationsCollector extends Search.Collector {
   }
 
   /**
-   * @return current result
+   * @return current result, sorted by descending length, then by origin and by parts, so that
+   * it does not depend on the implementation of suffix tree
    */
   public List<CloneGroup> getResult() {
+    if (!sorted) {
+      Collections.sort(filtered, GROUP_COMPARATOR);
+      sorted = true;
+    }
     return filtered;
   }
 
@@ -146,6 +175,7 @@ public class DuplicationsCollector extends Search.Collector {
       }
     }
     filtered.add(current);
+    sorted = false;
   }
 
   /**
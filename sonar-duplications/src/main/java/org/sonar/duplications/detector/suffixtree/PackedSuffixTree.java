@@ -0,0 +1,397 @@
+/*
+ * SonarQube, open source software quality management tool.
+ * Copyright (C) 2008-2014 SonarSource
+ * mailto:contact AT sonarsource DOT com
+ *
+ * SonarQube is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SonarQube is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.duplications.detector.suffixtree;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Same algorithm as {@link SuffixTree} and {@link Search}, but nodes and edges are stored in arrays of primitives
+ * instead of objects, and those arrays are reused between invocations of {@link #perform(TextSet, Search.Collector)}.
+ * Thus an instance is not thread-safe, but can be reused by a thread in order to reduce pressure on garbage collector.
+ * <p>
+ * Each node, except root, has exactly one incoming edge, so edge is identified by its end node.
+ * Symbols of text are replaced by integers, equal symbols having equal integers.
+ * </p><p>
+ * Reported groups are the same as with {@link Search#perform(TextSet, Search.Collector)}.
+ * </p>
+ */
+public final class PackedSuffixTree {
+
+  private static final int ROOT = 0;
+  private static final int NONE = -1;
+
+  /**
+   * Arrays bigger than this number of symbols are not kept after {@link #perform(TextSet, Search.Collector)}.
+   */
+  private static final int MAX_RETAINED_CAPACITY = 1 << 20;
+
+  private final Map<Object, Integer> symbolIds = new HashMap<Object, Integer>();
+
+  private int capacity;
+  private int[] text;
+  private int length;
+
+  // nodes, incoming edge of node spans text from edgeBegin to edgeEnd inclusive
+  private int nodeCount;
+  private int[] edgeBegin;
+  private int[] edgeEnd;
+  private int[] parent;
+  private int[] suffixNode;
+
+  // open addressing hash table from (node, first symbol of edge) to end node of edge
+  private int tableMask;
+  private int[] tableNode;
+  private int[] tableSymbol;
+  private int[] tableChild;
+
+  // active point
+  private int activeNode;
+  private int activeBegin;
+  private int activeEnd;
+
+  // search
+  private int[] childrenStart;
+  private int[] children;
+  private int[] depth;
+  private int[] startSize;
+  private int[] endSize;
+  private int[] list;
+  private int listSize;
+  private int[] innerNodes;
+  private int innerNodesCount;
+  private int[] sortedInnerNodes;
+  private int[] stack;
+
+  public void perform(TextSet textSet, Search.Collector reporter) {
+    try {
+      init(textSet);
+      build();
+      dfs();
+      sortInnerNodes();
+      visitInnerNodes(textSet, reporter);
+    } finally {
+      symbolIds.clear();
+      if (capacity > MAX_RETAINED_CAPACITY) {
+        capacity = 0;
+        text = null;
+        edgeBegin = null;
+        edgeEnd = null;
+        parent = null;
+        suffixNode = null;
+        tableNode = null;
+        tableSymbol = null;
+        tableChild = null;
+        childrenStart = null;
+        children = null;
+        depth = null;
+        startSize = null;
+        endSize = null;
+        list = null;
+        innerNodes = null;
+        sortedInnerNodes = null;
+        stack = null;
+      }
+    }
+  }
+
+  private void init(TextSet textSet) {
+    length = textSet.length();
+    ensureCapacity(length);
+    for (int i = 0; i < length; i++) {
+      Object symbol = textSet.symbolAt(i);
+      Integer id = symbolIds.get(symbol);
+      if (id == null) {
+        id = symbolIds.size();
+        symbolIds.put(symbol, id);
+      }
+      text[i] = id;
+    }
+    tableMask = tableSize(length) - 1;
+    Arrays.fill(tableNode, 0, tableMask + 1, NONE);
+    nodeCount = 0;
+    newNode(0, -1, NONE);
+    listSize = 0;
+    innerNodesCount = 0;
+  }
+
+  private void ensureCapacity(int textLength) {
+    if (textLength <= capacity) {
+      return;
+    }
+    capacity = Math.max(textLength, 2 * capacity);
+    int maxNodes = 2 * capacity + 1;
+    text = new int[capacity];
+    edgeBegin = new int[maxNodes];
+    edgeEnd = new int[maxNodes];
+    parent = new int[maxNodes];
+    suffixNode = new int[maxNodes];
+    int tableSize = tableSize(capacity);
+    tableNode = new int[tableSize];
+    tableSymbol = new int[tableSize];
+    tableChild = new int[tableSize];
+    childrenStart = new int[maxNodes + 1];
+    children = new int[maxNodes];
+    depth = new int[maxNodes];
+    startSize = new int[maxNodes];
+    endSize = new int[maxNodes];
+    list = new int[capacity];
+    innerNodes = new int[maxNodes];
+    sortedInnerNodes = new int[maxNodes];
+    stack = new int[maxNodes];
+  }
+
+  /**
+   * @return power of two at least twice bigger than maximal number of edges
+   */
+  private static int tableSize(int textLength) {
+    return Integer.highestOneBit(2 * textLength + 1) << 2;
+  }
+
+  private int newNode(int begin, int end, int parentNode) {
+    int node = nodeCount;
+    nodeCount++;
+    edgeBegin[node] = begin;
+    edgeEnd[node] = end;
+    parent[node] = parentNode;
+    suffixNode[node] = NONE;
+    return node;
+  }
+
+  private int slot(int node, int symbol) {
+    // nodes and symbols are small sequential integers, so bits must be mixed to avoid clusters
+    int h = node * 0x9E3779B9 ^ symbol * 0x85EBCA6B;
+    h ^= h >>> 15;
+    h *= 0xC2B2AE35;
+    h ^= h >>> 16;
+    int i = h & tableMask;
+    while (tableNode[i] != NONE && (tableNode[i] != node || tableSymbol[i] != symbol)) {
+      i = (i + 1) & tableMask;
+    }
+    return i;
+  }
+
+  private int findChild(int node, int symbol) {
+    int i = slot(node, symbol);
+    return tableNode[i] == NONE ? NONE : tableChild[i];
+  }
+
+  private void putChild(int node, int symbol, int child) {
+    int i = slot(node, symbol);
+    tableNode[i] = node;
+    tableSymbol[i] = symbol;
+    tableChild[i] = child;
+  }
+
+  /**
+   * Ukkonen's algorithm, see {@link SuffixTree}.
+   */
+  private void build() {
+    activeNode = ROOT;
+    activeBegin = 0;
+    activeEnd = -1;
+    for (int i = 0; i < length; i++) {
+      addPrefix(i);
+    }
+  }
+
+  private void addPrefix(int endIndex) {
+    int lastParentNode = NONE;
+    int parentNode;
+
+    while (true) {
+      parentNode = activeNode;
+
+      if (activeBegin > activeEnd) {
+        // explicit node
+        if (findChild(activeNode, text[endIndex]) != NONE) {
+          break;
+        }
+      } else {
+        // implicit node
+        int edge = findChild(activeNode, text[activeBegin]);
+        int span = activeEnd - activeBegin;
+        if (text[edgeBegin[edge] + span + 1] == text[endIndex]) {
+          break;
+        }
+        parentNode = splitEdge(edge, span);
+      }
+
+      int leaf = newNode(endIndex, length - 1, parentNode);
+      putChild(parentNode, text[endIndex], leaf);
+      updateSuffixNode(lastParentNode, parentNode);
+      lastParentNode = parentNode;
+
+      if (activeNode == ROOT) {
+        activeBegin++;
+      } else {
+        activeNode = suffixNode[activeNode];
+      }
+      canonize();
+    }
+    updateSuffixNode(lastParentNode, parentNode);
+    activeEnd++;
+    canonize();
+  }
+
+  /**
+   * Splits edge, which ends in given node, after given span. Edge keeps its first symbol, so that new node
+   * simply replaces it in the hash table.
+   *
+   * @return new node
+   */
+  private int splitEdge(int edge, int span) {
+    int begin = edgeBegin[edge];
+    int node = newNode(begin, begin + span, activeNode);
+    suffixNode[node] = activeNode;
+    putChild(activeNode, text[begin], node);
+    edgeBegin[edge] = begin + span + 1;
+    parent[edge] = node;
+    putChild(node, text[edgeBegin[edge]], edge);
+    return node;
+  }
+
+  private void updateSuffixNode(int node, int suffix) {
+    if (node != NONE && node != ROOT) {
+      suffixNode[node] = suffix;
+    }
+  }
+
+  private void canonize() {
+    if (activeBegin <= activeEnd) {
+      int edge = findChild(activeNode, text[activeBegin]);
+      int edgeSpan = edgeEnd[edge] - edgeBegin[edge];
+      while (edgeSpan <= activeEnd - activeBegin) {
+        activeBegin += edgeSpan + 1;
+        activeNode = edge;
+        if (activeBegin <= activeEnd) {
+          edge = findChild(edge, text[activeBegin]);
+          edgeSpan = edgeEnd[edge] - edgeBegin[edge];
+        }
+      }
+    }
+  }
+
+  /**
+   * Depth-first search, see {@link Search}.
+   */
+  private void dfs() {
+    // children of each node, in order of creation
+    Arrays.fill(childrenStart, 0, nodeCount + 1, 0);
+    for (int node = 1; node < nodeCount; node++) {
+      childrenStart[parent[node] + 1]++;
+    }
+    for (int node = 0; node < nodeCount; node++) {
+      childrenStart[node + 1] += childrenStart[node];
+    }
+    // endSize is used as insertion position until it is computed below
+    System.arraycopy(childrenStart, 0, endSize, 0, nodeCount);
+    for (int node = 1; node < nodeCount; node++) {
+      children[endSize[parent[node]]++] = node;
+    }
+
+    int stackSize = 0;
+    depth[ROOT] = 0;
+    stack[stackSize++] = ROOT;
+    while (stackSize > 0) {
+      int node = stack[--stackSize];
+      startSize[node] = listSize;
+      int from = childrenStart[node];
+      int to = childrenStart[node + 1];
+      if (from == to) {
+        // leaf
+        list[listSize++] = depth[node];
+        endSize[node] = listSize;
+      } else {
+        if (node != ROOT) {
+          innerNodes[innerNodesCount++] = node;
+        }
+        for (int i = from; i < to; i++) {
+          int child = children[i];
+          depth[child] = depth[node] + edgeEnd[child] - edgeBegin[child] + 1;
+          stack[stackSize++] = child;
+        }
+      }
+    }
+    // inner nodes are ordered by the time of entering, so visit them from last to first
+    for (int i = innerNodesCount - 1; i >= 0; i--) {
+      int node = innerNodes[i];
+      int max = -1;
+      for (int j = childrenStart[node]; j < childrenStart[node + 1]; j++) {
+        max = Math.max(endSize[children[j]], max);
+      }
+      endSize[node] = max;
+    }
+  }
+
+  /**
+   * Stable counting sort of inner nodes in descending order of depth.
+   */
+  private void sortInnerNodes() {
+    // depth of inner node is less than length of text, so "stack" is large enough to count them
+    int[] counts = stack;
+    Arrays.fill(counts, 0, length + 1, 0);
+    for (int i = 0; i < innerNodesCount; i++) {
+      counts[length - depth[innerNodes[i]]]++;
+    }
+    int position = 0;
+    for (int i = 0; i <= length; i++) {
+      int count = counts[i];
+      counts[i] = position;
+      position += count;
+    }
+    for (int i = 0; i < innerNodesCount; i++) {
+      int node = innerNodes[i];
+      sortedInnerNodes[counts[length - depth[node]]++] = node;
+    }
+  }
+
+  private void visitInnerNodes(TextSet textSet, Search.Collector reporter) {
+    for (int i = 0; i < innerNodesCount; i++) {
+      int node = sortedInnerNodes[i];
+      if (containsOrigin(textSet, node)) {
+        report(node, reporter);
+      }
+    }
+  }
+
+  private boolean containsOrigin(TextSet textSet, int node) {
+    for (int i = startSize[node]; i < endSize[node]; i++) {
+      int start = length - list[i];
+      int end = start + depth[node];
+      if (textSet.isInsideOrigin(end)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private void report(int node, Search.Collector reporter) {
+    reporter.startOfGroup(endSize[node] - startSize[node], depth[node]);
+    for (int i = startSize[node]; i < endSize[node]; i++) {
+      int start = length - list[i];
+      int end = start + depth[node];
+      reporter.part(start, end);
+    }
+    reporter.endOfGroup();
+  }
+
+}
@@ -30,6 +30,16 @@ import com.google.common.collect.*;
 
 public final class SuffixTreeCloneDetectionAlgorithm {
 
+  /**
+   * Suffix tree is reused by each thread, see {@link PackedSuffixTree}.
+   */
+  private static final ThreadLocal<PackedSuffixTree> SUFFIX_TREES = new ThreadLocal<PackedSuffixTree>() {
+    @Override
+    protected PackedSuffixTree initialValue() {
+      return new PackedSuffixTree();
+    }
+  };
+
   public static List<CloneGroup> detect(CloneIndex cloneIndex, Collection<Block> fileBlocks) {
     if (fileBlocks.isEmpty()) {
       return Collections.EMPTY_LIST;
@@ -39,7 +49,7 @@ public final class SuffixTreeCloneDetectionAlgorithm {
       return Collections.EMPTY_LIST;
     }
     DuplicationsCollector reporter = new DuplicationsCollector(text);
-    Search.perform(text, reporter);
+    SUFFIX_TREES.get().perform(text, reporter);
     return reporter.getResult();
   }
 
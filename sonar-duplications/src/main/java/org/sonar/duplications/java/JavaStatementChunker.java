@@ -0,0 +1,613 @@
+/*
+ * SonarQube, open source software quality management tool.
+ * Copyright (C) 2008-2014 SonarSource
+ * mailto:contact AT sonarsource DOT com
+ *
+ * SonarQube is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SonarQube is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.duplications.java;
+
+import com.google.common.io.CharStreams;
+import com.google.common.io.Closeables;
+import org.sonar.duplications.DuplicationsException;
+import org.sonar.duplications.statement.Statement;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Hand-written equivalent of {@code JavaStatementBuilder.build().chunk(JavaTokenProducer.build().chunk(reader))}.
+ * <p>
+ * Tokens are not materialized: the lexer records kind, offsets and line of each token into primitive arrays, and the values of
+ * statements are appended directly from the source buffer. Rules and their order strictly follow {@link JavaTokenProducer} and
+ * {@link JavaStatementBuilder}, so that the produced statements are the same.
+ * <p>
+ * This class is stateless and thread-safe.
+ *
+ * @since 5.2
+ */
+public final class JavaStatementChunker {
+
+  private static final String NORMALIZED_CHARACTER_LITERAL = "$CHARS";
+  private static final String NORMALIZED_NUMERIC_LITERAL = "$NUMBER";
+
+  private static final int OTHER = 0;
+  private static final int CHARS = 1;
+  private static final int NUMBER = 2;
+  private static final int LEFT_BRACE = 3;
+  private static final int RIGHT_BRACE = 4;
+  private static final int SEMICOLON = 5;
+  private static final int AT = 6;
+  private static final int LEFT_PAREN = 7;
+  private static final int RIGHT_PAREN = 8;
+  private static final int IMPORT = 9;
+  private static final int PACKAGE = 10;
+  private static final int DO = 11;
+  private static final int IF = 12;
+  private static final int ELSE = 13;
+  private static final int FOR = 14;
+  private static final int WHILE = 15;
+  private static final int TRY = 16;
+  private static final int CASE = 17;
+  private static final int DEFAULT = 18;
+
+  private static final char[][] KEYWORDS = new char[DEFAULT + 1][];
+
+  static {
+    KEYWORDS[IMPORT] = "import".toCharArray();
+    KEYWORDS[PACKAGE] = "package".toCharArray();
+    KEYWORDS[DO] = "do".toCharArray();
+    KEYWORDS[IF] = "if".toCharArray();
+    KEYWORDS[ELSE] = "else".toCharArray();
+    KEYWORDS[FOR] = "for".toCharArray();
+    KEYWORDS[WHILE] = "while".toCharArray();
+    KEYWORDS[TRY] = "try".toCharArray();
+    KEYWORDS[CASE] = "case".toCharArray();
+    KEYWORDS[DEFAULT] = "default".toCharArray();
+  }
+
+  public List<Statement> chunk(String sourceCode) {
+    return chunk(sourceCode.toCharArray());
+  }
+
+  /**
+   * Note that this method will read everything from reader and will close it.
+   */
+  public List<Statement> chunk(Reader reader) {
+    try {
+      return chunk(CharStreams.toString(reader).toCharArray());
+    } catch (IOException e) {
+      throw new DuplicationsException("Unable to read source code", e);
+    } finally {
+      Closeables.closeQuietly(reader);
+    }
+  }
+
+  private static List<Statement> chunk(char[] code) {
+    Tokens tokens = new Tokens(code);
+    tokens.lex();
+    return new StatementBuilder(tokens).build();
+  }
+
+  /**
+   * Tokens of a source file, stored in parallel arrays.
+   */
+  private static final class Tokens {
+    private final char[] code;
+    private int size = 0;
+    private int[] kinds;
+    private int[] starts;
+    private int[] ends;
+    private int[] lines;
+
+    private int line = 1;
+
+    Tokens(char[] code) {
+      this.code = code;
+      int capacity = Math.max(16, code.length / 4);
+      kinds = new int[capacity];
+      starts = new int[capacity];
+      ends = new int[capacity];
+      lines = new int[capacity];
+    }
+
+    void lex() {
+      int length = code.length;
+      int pos = 0;
+      while (pos < length) {
+        char c = code[pos];
+        int end;
+        if (isWhitespace(c)) {
+          end = pos + 1;
+        } else if (c == '/' && pos + 1 < length && code[pos + 1] == '/') {
+          end = endOfLineComment(pos + 2);
+        } else if (c == '/' && pos + 1 < length && code[pos + 1] == '*' && (end = endOfBlockComment(pos + 2)) > 0) {
+          // ignored
+        } else if (c == '"' && (end = endOfStringLiteral(pos + 1)) > 0) {
+          add(CHARS, pos, end);
+        } else if (c == '\'' && (end = endOfCharacterLiteral(pos + 1)) > 0) {
+          add(CHARS, pos, end);
+        } else if (Character.isJavaIdentifierStart(Character.codePointAt(code, pos))) {
+          end = endOfIdentifier(pos);
+          add(keyword(pos, end), pos, end);
+        } else if ((end = endOfNumericLiteral(pos)) > 0) {
+          add(NUMBER, pos, end);
+        } else if (!isLineTerminator(c)) {
+          end = pos + Character.charCount(Character.codePointAt(code, pos));
+          add(kindOf(c), pos, end);
+        } else {
+          // not consumed by any channel, so simply skipped
+          end = pos + 1;
+        }
+        countLines(pos, end);
+        pos = end;
+      }
+    }
+
+    private void add(int kind, int start, int end) {
+      if (size == kinds.length) {
+        int capacity = size * 2;
+        kinds = Arrays.copyOf(kinds, capacity);
+        starts = Arrays.copyOf(starts, capacity);
+        ends = Arrays.copyOf(ends, capacity);
+        lines = Arrays.copyOf(lines, capacity);
+      }
+      kinds[size] = kind;
+      starts[size] = start;
+      ends[size] = end;
+      lines[size] = line;
+      size++;
+    }
+
+    /**
+     * Same rule as the one of {@link org.sonar.channel.CodeReader}, see JLS 3.4.
+     */
+    private void countLines(int start, int end) {
+      for (int i = start; i < end; i++) {
+        char c = code[i];
+        if (c == '\n' || (c == '\r' && (i + 1 == code.length || code[i + 1] != '\n'))) {
+          line++;
+        }
+      }
+    }
+
+    /**
+     * {@code //[^\n\r]*+}
+     */
+    private int endOfLineComment(int from) {
+      int i = from;
+      while (i < code.length && code[i] != '\n' && code[i] != '\r') {
+        i++;
+      }
+      return i;
+    }
+
+    /**
+     * {@code /\*[\s\S]*?\*}{@code /}
+     */
+    private int endOfBlockComment(int from) {
+      for (int i = from; i + 1 < code.length; i++) {
+        if (code[i] == '*' && code[i + 1] == '/') {
+          return i + 2;
+        }
+      }
+      return -1;
+    }
+
+    /**
+     * {@code "([^"\\]*+(\\[\s\S])?+)*+"}
+     */
+    private int endOfStringLiteral(int from) {
+      int i = from;
+      while (i < code.length) {
+        char c = code[i];
+        if (c == '"') {
+          return i + 1;
+        } else if (c == '\\') {
+          if (i + 1 == code.length) {
+            return -1;
+          }
+          i += 2;
+        } else {
+          i++;
+        }
+      }
+      return -1;
+    }
+
+    /**
+     * {@code '([^'\n\\]*+(\\.)?+)*+'}
+     */
+    private int endOfCharacterLiteral(int from) {
+      int i = from;
+      while (i < code.length) {
+        char c = code[i];
+        if (c == '\'') {
+          return i + 1;
+        } else if (c == '\n') {
+          return -1;
+        } else if (c == '\\') {
+          if (i + 1 == code.length || isLineTerminator(code[i + 1])) {
+            return -1;
+          }
+          i += 2;
+        } else {
+          i++;
+        }
+      }
+      return -1;
+    }
+
+    /**
+     * {@code \p{javaJavaIdentifierStart}++\p{javaJavaIdentifierPart}*+}
+     */
+    private int endOfIdentifier(int from) {
+      int i = from + Character.charCount(Character.codePointAt(code, from));
+      while (i < code.length) {
+        int codePoint = Character.codePointAt(code, i);
+        if (!Character.isJavaIdentifierPart(codePoint)) {
+          break;
+        }
+        i += Character.charCount(codePoint);
+      }
+      return i;
+    }
+
+    /**
+     * Numeric literals of {@link JavaTokenProducer}, tried in the same order: the first rule that matches wins, even if a later
+     * one would match a longer sequence.
+     */
+    private int endOfNumericLiteral(int from) {
+      char c = code[from];
+      if (c == '.') {
+        // \.[0-9_]++EXP?+[fFdD]?+
+        int i = digits(from + 1);
+        return i == from + 1 ? -1 : floatSuffix(exponent(i, 'e', 'E'));
+      }
+      if (c < '0' || c > '9') {
+        return -1;
+      }
+      int digitsEnd = digits(from);
+      if (isAt(digitsEnd, '.', '.')) {
+        // [0-9_]++\.([0-9_]++)?+EXP?+[fFdD]?+
+        return floatSuffix(exponent(digits(digitsEnd + 1), 'e', 'E'));
+      }
+      int i = exponent(digitsEnd, 'e', 'E');
+      if (i > digitsEnd) {
+        // [0-9_]++EXP[fFdD]?+
+        return floatSuffix(i);
+      }
+      if (c == '0' && isAt(from + 1, 'x', 'X')) {
+        int hexEnd = hexDigits(from + 2);
+        if (hexEnd > from + 2) {
+          if (isAt(hexEnd, '.', '.')) {
+            // 0[xX][0-9a-fA-F_]++\.[0-9a-fA-F_]*+BINARY_EXP?+[fFdD]?+
+            return floatSuffix(exponent(hexDigits(hexEnd + 1), 'p', 'P'));
+          }
+          i = exponent(hexEnd, 'p', 'P');
+          if (i > hexEnd) {
+            // 0[xX][0-9a-fA-F_]++BINARY_EXP[fFdD]?+
+            return floatSuffix(i);
+          }
+          // 0[xX][0-9a-fA-F_]++[lL]?+
+          return integerSuffix(hexEnd);
+        }
+      }
+      if (c == '0' && isAt(from + 1, 'b', 'B')) {
+        i = from + 2;
+        while (i < code.length && (code[i] == '0' || code[i] == '1' || code[i] == '_')) {
+          i++;
+        }
+        if (i > from + 2) {
+          // 0[bB][01_]++[lL]?+
+          return integerSuffix(i);
+        }
+      }
+      // [0-9_]++[lL]?+
+      return integerSuffix(digitsEnd);
+    }
+
+    /**
+     * {@code [0-9_]*+}
+     */
+    private int digits(int from) {
+      int i = from;
+      while (i < code.length && ((code[i] >= '0' && code[i] <= '9') || code[i] == '_')) {
+        i++;
+      }
+      return i;
+    }
+
+    /**
+     * {@code [0-9a-fA-F_]*+}
+     */
+    private int hexDigits(int from) {
+      int i = from;
+      while (i < code.length && (Character.digit(code[i], 16) >= 0 && code[i] < 128 || code[i] == '_')) {
+        i++;
+      }
+      return i;
+    }
+
+    /**
+     * {@code ([Ee][+-]?+[0-9_]++)?+}, or the binary exponent when called with 'p' and 'P'
+     */
+    private int exponent(int from, char lower, char upper) {
+      if (!isAt(from, lower, upper)) {
+        return from;
+      }
+      int i = from + 1;
+      if (isAt(i, '+', '-')) {
+        i++;
+      }
+      int end = digits(i);
+      return end > i ? end : from;
+    }
+
+    private int floatSuffix(int from) {
+      if (from < code.length) {
+        char c = code[from];
+        if (c == 'f' || c == 'F' || c == 'd' || c == 'D') {
+          return from + 1;
+        }
+      }
+      return from;
+    }
+
+    private int integerSuffix(int from) {
+      return isAt(from, 'l', 'L') ? (from + 1) : from;
+    }
+
+    private boolean isAt(int index, char c1, char c2) {
+      return index < code.length && (code[index] == c1 || code[index] == c2);
+    }
+
+    private int keyword(int start, int end) {
+      int length = end - start;
+      if (length < 2 || length > 7) {
+        return OTHER;
+      }
+      for (int kind = IMPORT; kind <= DEFAULT; kind++) {
+        char[] keyword = KEYWORDS[kind];
+        if (keyword.length == length && regionMatches(keyword, start)) {
+          return kind;
+        }
+      }
+      return OTHER;
+    }
+
+    private boolean regionMatches(char[] keyword, int start) {
+      for (int i = 0; i < keyword.length; i++) {
+        if (code[start + i] != keyword[i]) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    private static int kindOf(char c) {
+      switch (c) {
+        case '{':
+          return LEFT_BRACE;
+        case '}':
+          return RIGHT_BRACE;
+        case ';':
+          return SEMICOLON;
+        case '@':
+          return AT;
+        case '(':
+          return LEFT_PAREN;
+        case ')':
+          return RIGHT_PAREN;
+        default:
+          return OTHER;
+      }
+    }
+
+    /**
+     * {@code \s}
+     */
+    private static boolean isWhitespace(char c) {
+      return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    /**
+     * Characters not matched by {@code .}
+     */
+    private static boolean isLineTerminator(char c) {
+      return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+    }
+  }
+
+  /**
+   * Groups tokens into statements according to the rules of {@link JavaStatementBuilder}.
+   */
+  private static final class StatementBuilder {
+    private final Tokens tokens;
+    private final int[] kinds;
+    private final int size;
+    private final List<Statement> statements = new ArrayList<Statement>();
+    private final StringBuilder value = new StringBuilder();
+
+    StatementBuilder(Tokens tokens) {
+      this.tokens = tokens;
+      this.kinds = tokens.kinds;
+      this.size = tokens.size;
+    }
+
+    List<Statement> build() {
+      int i = 0;
+      while (i < size) {
+        i = consume(i);
+      }
+      return statements;
+    }
+
+    /**
+     * @return index of the first token, which was not consumed
+     */
+    private int consume(int i) {
+      int kind = kinds[i];
+      int end;
+      if ((kind == IMPORT || kind == PACKAGE) && (end = upTo(i + 1, SEMICOLON, SEMICOLON, SEMICOLON)) >= 0) {
+        return end + 1;
+      }
+      if (kind == LEFT_BRACE && (end = endOfBlock(i)) >= 0) {
+        return statement(i, end);
+      }
+      if (kind == LEFT_BRACE || kind == RIGHT_BRACE || kind == SEMICOLON) {
+        return i + 1;
+      }
+      if (kind == AT) {
+        if (i + 1 == size) {
+          throw unableToBuildStatement(i);
+        }
+        end = i + 1;
+        if (end + 1 < size && kinds[end + 1] == LEFT_PAREN) {
+          end = bridge(end + 1);
+          // unbalanced parenthesis: all remaining tokens are part of statement
+          end = end < 0 ? (size - 1) : end;
+        }
+        return statement(i, end);
+      }
+      if (kind == DO) {
+        return statement(i, i);
+      }
+      if ((kind == IF || kind == FOR || kind == WHILE || kind == TRY) && (end = bridgeAt(i + 1)) >= 0) {
+        return statement(i, end);
+      }
+      if (kind == ELSE) {
+        if (i + 1 < size && kinds[i + 1] == IF && (end = bridgeAt(i + 2)) >= 0) {
+          return statement(i, end);
+        }
+        return statement(i, i);
+      }
+      if ((kind == CASE || kind == DEFAULT) && (end = upTo(i + 1, SEMICOLON, LEFT_BRACE, RIGHT_BRACE)) >= 0) {
+        // last token is forgotten
+        statement(i, end - 1);
+        return end;
+      }
+      end = upTo(i, SEMICOLON, LEFT_BRACE, RIGHT_BRACE);
+      if (end < 0) {
+        throw new DuplicationsException("Unable to build statement from token : " + tokenToString(i),
+          new IllegalStateException("None of the statement channel has been able to consume a token: " + tokenToString(i)));
+      }
+      statement(i, end - 1);
+      return end;
+    }
+
+    /**
+     * @return index of the first token of one of given kinds starting from given index (inclusive), or -1 if there is no such token
+     */
+    private int upTo(int from, int kind1, int kind2, int kind3) {
+      if (from == size) {
+        // matcher expects at least one token
+        throw unableToBuildStatement(from - 1);
+      }
+      for (int i = from; i < size; i++) {
+        int kind = kinds[i];
+        if (kind == kind1 || kind == kind2 || kind == kind3) {
+          return i;
+        }
+      }
+      return -1;
+    }
+
+    /**
+     * Block between braces without semicolon, like array initializers.
+     *
+     * @return index of closing brace, or -1 if block is not closed or contains semicolon
+     */
+    private int endOfBlock(int from) {
+      int depth = 0;
+      for (int i = from; i < size; i++) {
+        int kind = kinds[i];
+        if (kind == LEFT_BRACE) {
+          depth++;
+        } else if (kind == RIGHT_BRACE) {
+          depth--;
+        } else if (kind == SEMICOLON) {
+          return -1;
+        }
+        if (depth == 0) {
+          return i;
+        }
+      }
+      return -1;
+    }
+
+    private int bridgeAt(int from) {
+      return from < size && kinds[from] == LEFT_PAREN ? bridge(from) : -1;
+    }
+
+    /**
+     * @return index of closing parenthesis, or -1 if not closed
+     */
+    private int bridge(int from) {
+      int depth = 0;
+      for (int i = from; i < size; i++) {
+        int kind = kinds[i];
+        if (kind == LEFT_PAREN) {
+          depth++;
+        } else if (kind == RIGHT_PAREN) {
+          depth--;
+        }
+        if (depth == 0) {
+          return i;
+        }
+      }
+      return -1;
+    }
+
+    /**
+     * Adds statement made of tokens from first to last (inclusive).
+     *
+     * @return index of token following the statement
+     */
+    private int statement(int first, int last) {
+      value.setLength(0);
+      for (int i = first; i <= last; i++) {
+        appendValue(i);
+      }
+      statements.add(new Statement(tokens.lines[first], tokens.lines[last], value.toString()));
+      return last + 1;
+    }
+
+    private void appendValue(int i) {
+      int kind = kinds[i];
+      if (kind == CHARS) {
+        value.append(NORMALIZED_CHARACTER_LITERAL);
+      } else if (kind == NUMBER) {
+        value.append(NORMALIZED_NUMERIC_LITERAL);
+      } else {
+        value.append(tokens.code, tokens.starts[i], tokens.ends[i] - tokens.starts[i]);
+      }
+    }
+
+    private DuplicationsException unableToBuildStatement(int i) {
+      return new DuplicationsException("Unable to build statement from token : " + tokenToString(i));
+    }
+
+    private String tokenToString(int i) {
+      value.setLength(0);
+      appendValue(i);
+      return "'" + value + "'[" + tokens.lines[i] + "," + tokens.starts[i] + "]";
+    }
+  }
+
+}
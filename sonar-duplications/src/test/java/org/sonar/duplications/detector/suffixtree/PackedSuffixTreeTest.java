@@ -0,0 +1,100 @@
+/*
+ * SonarQube, open source software quality management tool.
+ * Copyright (C) 2008-2014 SonarSource
+ * mailto:contact AT sonarsource DOT com
+ *
+ * SonarQube is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SonarQube is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.duplications.detector.suffixtree;
+
+import org.junit.Test;
+import org.sonar.duplications.block.Block;
+import org.sonar.duplications.block.ByteArray;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PackedSuffixTreeTest {
+
+  private final PackedSuffixTree packedSuffixTree = new PackedSuffixTree();
+
+  @Test
+  public void same_groups_as_object_based_implementation() {
+    Random random = new Random(42);
+    for (int i = 0; i < 2000; i++) {
+      int alphabet = 1 + random.nextInt(8);
+      int files = 1 + random.nextInt(4);
+      TextSet.Builder builder = TextSet.builder();
+      for (int f = 0; f < files; f++) {
+        builder.add(randomBlocks(random, "file" + f, 1 + random.nextInt(40), alphabet));
+      }
+      assertSameGroups(builder.build());
+    }
+  }
+
+  @Test
+  public void reuse_between_texts_of_different_sizes() {
+    Random random = new Random(1);
+    for (int size : new int[] {1000, 3, 200, 1, 5000, 10}) {
+      TextSet.Builder builder = TextSet.builder();
+      builder.add(randomBlocks(random, "origin", size, 3));
+      builder.add(randomBlocks(random, "other", size / 2, 3));
+      assertSameGroups(builder.build());
+    }
+  }
+
+  @Test
+  public void repeated_symbol() {
+    List<Block> blocks = new ArrayList<Block>();
+    for (int i = 0; i < 500; i++) {
+      blocks.add(block("x", i, 0));
+    }
+    TextSet.Builder builder = TextSet.builder();
+    builder.add(blocks);
+    assertSameGroups(builder.build());
+  }
+
+  private void assertSameGroups(TextSet text) {
+    DuplicationsCollector expected = new DuplicationsCollector(text);
+    Search.perform(text, expected);
+    DuplicationsCollector actual = new DuplicationsCollector(text);
+    packedSuffixTree.perform(text, actual);
+
+    // same groups in same order
+    assertThat(actual.getResult()).isEqualTo(expected.getResult());
+  }
+
+  private static List<Block> randomBlocks(Random random, String resourceId, int size, int alphabet) {
+    List<Block> blocks = new ArrayList<Block>(size);
+    for (int i = 0; i < size; i++) {
+      blocks.add(block(resourceId, i, random.nextInt(alphabet)));
+    }
+    return blocks;
+  }
+
+  private static Block block(String resourceId, int index, int hash) {
+    return Block.builder()
+      .setResourceId(resourceId)
+      .setBlockHash(new ByteArray(hash))
+      .setIndexInFile(index)
+      .setLines(index, index + 5)
+      .setUnit(index, index + 5)
+      .build();
+  }
+
+}
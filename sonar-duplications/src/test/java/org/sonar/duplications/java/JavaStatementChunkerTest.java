@@ -0,0 +1,151 @@
+/*
+ * SonarQube, open source software quality management tool.
+ * Copyright (C) 2008-2014 SonarSource
+ * mailto:contact AT sonarsource DOT com
+ *
+ * SonarQube is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SonarQube is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.duplications.java;
+
+import com.google.common.base.Charsets;
+import org.apache.commons.io.FileUtils;
+import org.junit.Test;
+import org.sonar.duplications.DuplicationsException;
+import org.sonar.duplications.DuplicationsTestUtil;
+import org.sonar.duplications.statement.Statement;
+import org.sonar.duplications.statement.StatementChunker;
+import org.sonar.duplications.token.TokenChunker;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Collection;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+/**
+ * Output of {@link JavaStatementChunker} must be the same as the one of {@link JavaTokenProducer} combined with {@link JavaStatementBuilder}.
+ */
+public class JavaStatementChunkerTest {
+
+  private final TokenChunker tokenChunker = JavaTokenProducer.build();
+  private final StatementChunker statementChunker = JavaStatementBuilder.build();
+  private final JavaStatementChunker chunker = new JavaStatementChunker();
+
+  @Test
+  public void real_examples() throws IOException {
+    assertSameStatements(FileUtils.readFileToString(DuplicationsTestUtil.findFile("/java/MessageResources.java"), Charsets.UTF_8.name()));
+    assertSameStatements(FileUtils.readFileToString(DuplicationsTestUtil.findFile("/java/RequestUtils.java"), Charsets.UTF_8.name()));
+  }
+
+  @Test
+  public void sources_of_this_module() throws IOException {
+    Collection<File> files = FileUtils.listFiles(DuplicationsTestUtil.findFile("/../../main/java"), new String[] {"java"}, true);
+    assertThat(files).isNotEmpty();
+    for (File file : files) {
+      assertSameStatements(FileUtils.readFileToString(file, Charsets.UTF_8.name()));
+    }
+  }
+
+  @Test
+  public void statements() {
+    assertSameStatements("package org.sonar; import java.util.List; import static java.lang.Math.*;");
+    assertSameStatements("@Override public void foo() { do { i++; } while (i < 10); }");
+    assertSameStatements("@SuppressWarnings(\"all\") @Nonnull class A { int[] a = {1, 2, {3}}; }");
+    assertSameStatements("if (a) { b(); } else if (c) { d(); } else { e(); }\nelse if x;");
+    assertSameStatements("for (int i = 0; i < 10; i++) {}\nwhile (true) {}\ntry (Stream s = open()) {} catch (Exception e) {} finally {}");
+    assertSameStatements("switch (a) { case 1: b(); break; case 2: { c(); } default: d(); }");
+    assertSameStatements("case ; default ; import a { b } ; package c { d }");
+    assertSameStatements("if (a; b) c; while ((a) d; for ;");
+    assertSameStatements("@Annotation(value = \"a\" int b;");
+    assertSameStatements("{ a, b ; c }");
+  }
+
+  @Test
+  public void literals() {
+    assertSameStatements("a = \"string \\\" \\\\\"; b = 'c'; d = '\\''; e = '\\u0000'; f = \"multi\nline\";");
+    assertSameStatements("n = 0 + 12 + 1_000 + 0x1F + 0XdeadBEEFL + 0b1010 + 0B1_1l + 017 + 1L;");
+    assertSameStatements("f = 1.0 + .5 + 1. + 1e10 + 1E-5f + 1.5e+3D + 0x1.8p3 + 0x1p-2f + 0x.8p1 + 1..2 + 1e + 0x + 0b2 + ._ + 0xg;");
+    assertSameStatements("s = \"unterminated; t = 'x; u = '\n'; v = '\\\n'; w = \"\\");
+    assertSameStatements("a = 'ab\rc'; b = 'a\\ ';");
+  }
+
+  @Test
+  public void comments_and_line_terminators() {
+    assertSameStatements("a; // comment\r\nb; /* block\n comment */ c; /** javadoc */ d;\r e;\n\r\n f;");
+    assertSameStatements("a; /* unterminated comment \n b;");
+    assertSameStatements("a; /*/ b; */ c; /**/ d;");
+    assertSameStatements("a\u0085b; c; d\u000B;\fe\t;");
+    assertSameStatements("a = b // comment at end of file");
+    assertSameStatements("a;\r");
+  }
+
+  @Test
+  public void unicode() {
+    assertSameStatements("String été = \"é\"; int 𝐀 = 1; char c = '😀'; x = 😀;");
+    assertSameStatements("a\u0000b = c d; \ud800;");
+  }
+
+  @Test
+  public void errors() {
+    assertSameStatements("a = b");
+    assertSameStatements("a; import");
+    assertSameStatements("a; @");
+    assertSameStatements("a; case");
+    assertSameStatements("if (a");
+  }
+
+  @Test
+  public void random_sources() {
+    String[] fragments = {" ", "\n", "\r", "\r\n", "\t", ";", "{", "}", "(", ")", "@", ".", ",", "=", "+", "-", "*", "/", "//", "/*", "*/",
+      "\"", "'", "\\", "a", "b1", "_c", "$d", "0", "1", "9_9", "0x", "0b", "e", "E", "p", "f", "L", "x", "if", "else", "do", "for",
+      "while", "try", "case", "default", "import", "package", "é", " ", "\u0085", "😀"};
+    Random random = new Random(42);
+    for (int i = 0; i < 5000; i++) {
+      StringBuilder sb = new StringBuilder();
+      int length = random.nextInt(40);
+      for (int j = 0; j < length; j++) {
+        sb.append(fragments[random.nextInt(fragments.length)]);
+      }
+      assertSameStatements(sb.toString());
+      assertSameStatements(sb.append("\n;").toString());
+    }
+  }
+
+  @Test
+  public void should_read_from_reader() {
+    assertThat(chunker.chunk(new StringReader("a = b;"))).containsExactly(new Statement(1, 1, "a=b"));
+  }
+
+  private void assertSameStatements(String sourceCode) {
+    List<Statement> expected;
+    try {
+      expected = statementChunker.chunk(tokenChunker.chunk(sourceCode));
+    } catch (DuplicationsException e) {
+      try {
+        chunker.chunk(sourceCode);
+        fail("Expected failure for: " + sourceCode);
+      } catch (DuplicationsException e2) {
+        // expected
+      }
+      return;
+    }
+    assertThat(chunker.chunk(sourceCode)).as(sourceCode).isEqualTo(expected);
+  }
+
+}
@@ -24,6 +24,9 @@ import org.apache.commons.lang.StringUtils;
 import org.sonar.api.batch.fs.InputFile;
 import org.sonar.api.utils.WildcardPattern;
 
+import javax.annotation.CheckForNull;
+import javax.annotation.Nullable;
+
 public abstract class PathPattern {
 
   final WildcardPattern pattern;
@@ -64,15 +67,12 @@ public abstract class PathPattern {
 
     @Override
     public boolean match(InputFile inputFile, boolean caseSensitiveFileExtension) {
-      String path = inputFile.absolutePath();
-      if (!caseSensitiveFileExtension) {
-        String extension = super.sanitizeExtension(FilenameUtils.getExtension(inputFile.file().getName()));
-        if (StringUtils.isNotBlank(extension)) {
-          path = StringUtils.removeEndIgnoreCase(path, extension);
-          path = path + extension;
-        }
-      }
-      return pattern.match(path);
+      return pattern.match(path(inputFile, caseSensitiveFileExtension));
+    }
+
+    @Override
+    String path(InputFile inputFile, boolean caseSensitiveFileExtension) {
+      return normalizeExtension(inputFile, inputFile.absolutePath(), caseSensitiveFileExtension);
     }
 
     @Override
@@ -96,23 +96,38 @@ public abstract class PathPattern {
 
     @Override
     public boolean match(InputFile inputFile, boolean caseSensitiveFileExtension) {
-      String path = inputFile.relativePath();
-      if (!caseSensitiveFileExtension) {
-        String extension = super.sanitizeExtension(FilenameUtils.getExtension(inputFile.file().getName()));
-        if (StringUtils.isNotBlank(extension)) {
-          path = StringUtils.removeEndIgnoreCase(path, extension);
-          path = path + extension;
-        }
-      }
+      String path = path(inputFile, caseSensitiveFileExtension);
       return path != null && pattern.match(path);
     }
 
+    @Override
+    String path(InputFile inputFile, boolean caseSensitiveFileExtension) {
+      return normalizeExtension(inputFile, inputFile.relativePath(), caseSensitiveFileExtension);
+    }
+
     @Override
     public String toString() {
       return pattern.toString();
     }
   }
 
+  /**
+   * Path of the file that is matched against the pattern
+   */
+  @CheckForNull
+  abstract String path(InputFile inputFile, boolean caseSensitiveFileExtension);
+
+  @CheckForNull
+  private static String normalizeExtension(InputFile inputFile, @Nullable String path, boolean caseSensitiveFileExtension) {
+    if (path != null && !caseSensitiveFileExtension) {
+      String extension = sanitizeExtension(FilenameUtils.getExtension(inputFile.file().getName()));
+      if (StringUtils.isNotBlank(extension)) {
+        return StringUtils.removeEndIgnoreCase(path, extension) + extension;
+      }
+    }
+    return path;
+  }
+
   static String sanitizeExtension(String suffix) {
     return StringUtils.lowerCase(StringUtils.removeStart(suffix, "."));
   }
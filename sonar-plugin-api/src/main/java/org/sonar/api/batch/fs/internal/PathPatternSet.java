@@ -0,0 +1,144 @@
+/*
+ * SonarQube, open source software quality management tool.
+ * Copyright (C) 2008-2014 SonarSource
+ * mailto:contact AT sonarsource DOT com
+ *
+ * SonarQube is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SonarQube is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.api.batch.fs.internal;
+
+import org.sonar.api.batch.fs.InputFile;
+import org.sonar.api.utils.internal.WildcardPatternSet;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Set of {@link PathPattern}s that are matched in a single pass over the path of the file, instead of
+ * testing patterns one by one.
+ *
+ * @since 5.2
+ */
+public class PathPatternSet {
+
+  private static final int[] NO_INDEXES = new int[0];
+
+  private final PathPattern[] patterns;
+  private final Group[] groups;
+
+  private PathPatternSet(PathPattern[] patterns) {
+    this.patterns = patterns;
+    // patterns relative to module basedir and absolute patterns are not applied on the same path
+    Map<Class<?>, List<Integer>> indexesByType = new LinkedHashMap<>();
+    for (int i = 0; i < patterns.length; i++) {
+      List<Integer> indexes = indexesByType.get(patterns[i].getClass());
+      if (indexes == null) {
+        indexes = new ArrayList<>();
+        indexesByType.put(patterns[i].getClass(), indexes);
+      }
+      indexes.add(i);
+    }
+    groups = new Group[indexesByType.size()];
+    int groupIndex = 0;
+    for (List<Integer> indexes : indexesByType.values()) {
+      groups[groupIndex] = new Group(patterns, indexes);
+      groupIndex++;
+    }
+  }
+
+  public static PathPatternSet create(String[] patterns) {
+    return new PathPatternSet(PathPattern.create(patterns));
+  }
+
+  public static PathPatternSet create(PathPattern[] patterns) {
+    return new PathPatternSet(patterns.clone());
+  }
+
+  public PathPattern[] patterns() {
+    return patterns.clone();
+  }
+
+  public boolean isEmpty() {
+    return patterns.length == 0;
+  }
+
+  public boolean matchAny(InputFile inputFile) {
+    return matchAny(inputFile, true);
+  }
+
+  public boolean matchAny(InputFile inputFile, boolean caseSensitiveFileExtension) {
+    for (Group group : groups) {
+      String path = group.path(inputFile, caseSensitiveFileExtension);
+      if (path != null && group.set.matchAny(path)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Returns the indexes, in ascending order, of the patterns matched by the file. Indexes refer to
+   * the array returned by {@link #patterns()}.
+   */
+  public int[] match(InputFile inputFile, boolean caseSensitiveFileExtension) {
+    int[] result = NO_INDEXES;
+    for (Group group : groups) {
+      String path = group.path(inputFile, caseSensitiveFileExtension);
+      if (path != null) {
+        int[] ids = group.set.match(path);
+        if (ids.length > 0) {
+          int offset = result.length;
+          result = Arrays.copyOf(result, offset + ids.length);
+          for (int i = 0; i < ids.length; i++) {
+            result[offset + i] = group.patternIndexes[ids[i]];
+          }
+        }
+      }
+    }
+    if (groups.length > 1) {
+      Arrays.sort(result);
+    }
+    return result;
+  }
+
+  @Override
+  public String toString() {
+    return Arrays.toString(patterns);
+  }
+
+  private static class Group {
+    private final PathPattern sample;
+    private final int[] patternIndexes;
+    private final WildcardPatternSet set;
+
+    private Group(PathPattern[] patterns, List<Integer> indexes) {
+      this.sample = patterns[indexes.get(0)];
+      this.patternIndexes = new int[indexes.size()];
+      String[] globs = new String[indexes.size()];
+      for (int i = 0; i < globs.length; i++) {
+        patternIndexes[i] = indexes.get(i);
+        globs[i] = patterns[indexes.get(i)].pattern.toString();
+      }
+      this.set = WildcardPatternSet.create(globs);
+    }
+
+    private String path(InputFile inputFile, boolean caseSensitiveFileExtension) {
+      return sample.path(inputFile, caseSensitiveFileExtension);
+    }
+  }
+}
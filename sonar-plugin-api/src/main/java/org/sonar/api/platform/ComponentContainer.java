@@ -24,6 +24,7 @@ import org.picocontainer.Characteristics;
 import org.picocontainer.ComponentAdapter;
 import org.picocontainer.DefaultPicoContainer;
 import org.picocontainer.MutablePicoContainer;
+import org.picocontainer.PicoContainer;
 import org.picocontainer.behaviors.OptInCaching;
 import org.picocontainer.lifecycle.ReflectionLifecycleStrategy;
 import org.picocontainer.monitors.NullComponentMonitor;
@@ -64,7 +65,7 @@ public class ComponentContainer implements BatchComponent, ServerComponent {
    */
   protected ComponentContainer(ComponentContainer parent) {
     this.parent = parent;
-    this.pico = parent.pico.makeChildContainer();
+    this.pico = parent.createChildPicoContainer();
     this.parent.child = this;
     this.propertyDefinitions = parent.propertyDefinitions;
     this.componentKeys = new ComponentKeys();
@@ -229,9 +230,25 @@ public class ComponentContainer implements BatchComponent, ServerComponent {
     return new ComponentContainer(this);
   }
 
+  /**
+   * Creates the picocontainer of a child container. Override it to change how the child resolves
+   * the components of this container.
+   * @since 5.2
+   */
+  protected MutablePicoContainer createChildPicoContainer() {
+    return pico.makeChildContainer();
+  }
+
   static MutablePicoContainer createPicoContainer() {
+    return createPicoContainer(null);
+  }
+
+  /**
+   * @since 5.2
+   */
+  protected static MutablePicoContainer createPicoContainer(@Nullable PicoContainer parent) {
     ReflectionLifecycleStrategy lifecycleStrategy = new ReflectionLifecycleStrategy(new NullComponentMonitor(), "start", "stop", "close");
-    return new DefaultPicoContainer(new OptInCaching(), lifecycleStrategy, null);
+    return new DefaultPicoContainer(new OptInCaching(), lifecycleStrategy, parent);
   }
 
   public ComponentContainer getParent() {
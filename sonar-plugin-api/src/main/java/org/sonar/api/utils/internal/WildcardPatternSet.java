@@ -0,0 +1,382 @@
+/*
+ * SonarQube, open source software quality management tool.
+ * Copyright (C) 2008-2014 SonarSource
+ * mailto:contact AT sonarsource DOT com
+ *
+ * SonarQube is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SonarQube is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.api.utils.internal;
+
+import org.apache.commons.lang.StringUtils;
+import org.sonar.api.utils.WildcardPattern;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Set of Ant-style patterns, with the same syntax and semantic as {@link WildcardPattern} and "/" as directory
+ * separator, that are matched in a single pass over the value.
+ * <p>
+ * Patterns are compiled into a trie of tokens, so that common prefixes like <code>&#42;&#42;/&#42;.</code> are
+ * shared, then the trie is converted on demand into a deterministic automaton. States of the automaton
+ * are cached and shared between threads, so that matching a value costs a single lookup per character
+ * once the automaton is warmed up.
+ * </p>
+ *
+ * @since 5.2
+ */
+public final class WildcardPatternSet {
+
+  private static final int[] NO_IDS = new int[0];
+  private static final char SEPARATOR = '/';
+  private static final int ASCII_SIZE = 128;
+
+  /**
+   * Upper bound of the number of cached states. Pathological sets of patterns could otherwise
+   * make the automaton grow exponentially.
+   */
+  private static final int MAX_CACHED_STATES = 10000;
+
+  private final String[] patterns;
+  private final List<Node> nodes = new ArrayList<>();
+  private final ConcurrentMap<StateKey, State> states = new ConcurrentHashMap<>();
+  private final State initialState;
+
+  private WildcardPatternSet(String[] patterns) {
+    this.patterns = patterns;
+    Node root = newNode(Loop.NONE);
+    for (int i = 0; i < patterns.length; i++) {
+      add(root, patterns[i], i);
+    }
+    initialState = state(closure(new int[] {root.id}));
+  }
+
+  public static WildcardPatternSet create(String... patterns) {
+    return new WildcardPatternSet(patterns.clone());
+  }
+
+  public static WildcardPatternSet create(List<String> patterns) {
+    return new WildcardPatternSet(patterns.toArray(new String[patterns.size()]));
+  }
+
+  public int size() {
+    return patterns.length;
+  }
+
+  public boolean isEmpty() {
+    return patterns.length == 0;
+  }
+
+  /**
+   * Returns the pattern with the given id, which is its index in the list of patterns used to create the set.
+   */
+  public String pattern(int id) {
+    return patterns[id];
+  }
+
+  /**
+   * Returns true if the value matches at least one pattern.
+   */
+  public boolean matchAny(String value) {
+    return run(value).matchingIds.length > 0;
+  }
+
+  /**
+   * Returns the ids, in ascending order, of all the patterns matched by value.
+   */
+  public int[] match(String value) {
+    int[] ids = run(value).matchingIds;
+    return ids.length == 0 ? NO_IDS : ids.clone();
+  }
+
+  private State run(String value) {
+    String path = StringUtils.removeStart(value, "/");
+    path = StringUtils.removeEnd(path, "/");
+    State state = initialState;
+    for (int i = 0; i < path.length() && !state.isDead(); i++) {
+      state = state.next(path.charAt(i));
+    }
+    return state;
+  }
+
+  @Override
+  public String toString() {
+    return Arrays.toString(patterns);
+  }
+
+  /**
+   * Tokenizes the pattern exactly like {@link WildcardPattern} builds its regular expression.
+   */
+  private void add(Node root, String pattern, int id) {
+    Node node = root;
+    int i = pattern.startsWith("/") || pattern.startsWith("\\") ? 1 : 0;
+    while (i < pattern.length()) {
+      char ch = pattern.charAt(i);
+      if (ch == '*') {
+        if (i + 1 < pattern.length() && pattern.charAt(i + 1) == '*') {
+          if (i + 2 < pattern.length() && isSlash(pattern.charAt(i + 2))) {
+            // Zero or more directories
+            node = node.directoriesChild();
+            i += 2;
+          } else {
+            // Zero or more characters, including directory separator
+            node = node.loopChild(Loop.ANY);
+            i += 1;
+          }
+        } else {
+          // Zero or more characters excluding directory separator
+          node = node.loopChild(Loop.NOT_SEPARATOR);
+        }
+      } else if (ch == '?') {
+        node = node.anyCharChild();
+      } else if (isSlash(ch)) {
+        node = node.literalChild(SEPARATOR);
+      } else {
+        node = node.literalChild(ch);
+      }
+      i++;
+    }
+    node.matchingIds.add(id);
+  }
+
+  private static boolean isSlash(char ch) {
+    return ch == '/' || ch == '\\';
+  }
+
+  /**
+   * Same as the "." of {@link java.util.regex.Pattern} without the DOTALL flag
+   */
+  private static boolean isLineTerminator(char ch) {
+    return ch == '\n' || ch == '\r' || ch == '\u0085' || ch == '\u2028' || ch == '\u2029';
+  }
+
+  private Node newNode(Loop loop) {
+    Node node = new Node(nodes.size(), loop);
+    nodes.add(node);
+    return node;
+  }
+
+  private int[] closure(int[] nodeIds) {
+    boolean[] visited = new boolean[nodes.size()];
+    List<Integer> stack = new ArrayList<>();
+    for (int nodeId : nodeIds) {
+      stack.add(nodeId);
+    }
+    int count = 0;
+    while (!stack.isEmpty()) {
+      int nodeId = stack.remove(stack.size() - 1);
+      if (!visited[nodeId]) {
+        visited[nodeId] = true;
+        count++;
+        for (Node epsilon : nodes.get(nodeId).epsilons) {
+          stack.add(epsilon.id);
+        }
+      }
+    }
+    int[] result = new int[count];
+    int index = 0;
+    for (int nodeId = 0; nodeId < visited.length; nodeId++) {
+      if (visited[nodeId]) {
+        result[index] = nodeId;
+        index++;
+      }
+    }
+    return result;
+  }
+
+  private State transition(State from, char ch) {
+    List<Integer> targets = new ArrayList<>();
+    for (int nodeId : from.nodeIds) {
+      Node node = nodes.get(nodeId);
+      if ((node.loop == Loop.ANY && !isLineTerminator(ch)) || (node.loop == Loop.NOT_SEPARATOR && ch != SEPARATOR)) {
+        targets.add(nodeId);
+      }
+      Node literal = node.literals.get(ch);
+      if (literal != null) {
+        targets.add(literal.id);
+      }
+      if (node.anyChar != null && ch != SEPARATOR) {
+        targets.add(node.anyChar.id);
+      }
+    }
+    int[] targetIds = new int[targets.size()];
+    for (int i = 0; i < targetIds.length; i++) {
+      targetIds[i] = targets.get(i);
+    }
+    return state(closure(targetIds));
+  }
+
+  private State state(int[] nodeIds) {
+    StateKey key = new StateKey(nodeIds);
+    State state = states.get(key);
+    if (state == null) {
+      state = new State(nodeIds, matchingIds(nodeIds), states.size() < MAX_CACHED_STATES);
+      if (state.cacheable) {
+        State existing = states.putIfAbsent(key, state);
+        if (existing != null) {
+          state = existing;
+        }
+      }
+    }
+    return state;
+  }
+
+  private int[] matchingIds(int[] nodeIds) {
+    List<Integer> ids = new ArrayList<>();
+    for (int nodeId : nodeIds) {
+      for (Integer id : nodes.get(nodeId).matchingIds) {
+        if (!ids.contains(id)) {
+          ids.add(id);
+        }
+      }
+    }
+    int[] result = new int[ids.size()];
+    for (int i = 0; i < result.length; i++) {
+      result[i] = ids.get(i);
+    }
+    Arrays.sort(result);
+    return result;
+  }
+
+  private enum Loop {
+    NONE, ANY, NOT_SEPARATOR
+  }
+
+  /**
+   * Node of the trie of tokens, which is also a state of the non-deterministic automaton
+   */
+  private final class Node {
+    private final int id;
+    private final Loop loop;
+    private final Map<Character, Node> literals = new HashMap<>();
+    private final List<Node> epsilons = new ArrayList<>();
+    private final List<Integer> matchingIds = new ArrayList<>();
+    private Node anyChar;
+    private Node anyLoop;
+    private Node notSeparatorLoop;
+    private Node directories;
+
+    private Node(int id, Loop loop) {
+      this.id = id;
+      this.loop = loop;
+    }
+
+    private Node literalChild(char ch) {
+      Node child = literals.get(ch);
+      if (child == null) {
+        child = newNode(Loop.NONE);
+        literals.put(ch, child);
+      }
+      return child;
+    }
+
+    private Node anyCharChild() {
+      if (anyChar == null) {
+        anyChar = newNode(Loop.NONE);
+      }
+      return anyChar;
+    }
+
+    private Node loopChild(Loop childLoop) {
+      Node child = childLoop == Loop.ANY ? anyLoop : notSeparatorLoop;
+      if (child == null) {
+        child = newNode(childLoop);
+        epsilons.add(child);
+        if (childLoop == Loop.ANY) {
+          anyLoop = child;
+        } else {
+          notSeparatorLoop = child;
+        }
+      }
+      return child;
+    }
+
+    /**
+     * "(?:.*&#47;|)" : either nothing, or any characters followed by a directory separator
+     */
+    private Node directoriesChild() {
+      if (directories == null) {
+        Node pending = newNode(Loop.ANY);
+        directories = newNode(Loop.NONE);
+        pending.literals.put(SEPARATOR, directories);
+        epsilons.add(pending);
+        epsilons.add(directories);
+      }
+      return directories;
+    }
+  }
+
+  /**
+   * State of the deterministic automaton, which is a set of nodes of the trie
+   */
+  private final class State {
+    private final int[] nodeIds;
+    private final int[] matchingIds;
+    private final boolean cacheable;
+    private final AtomicReferenceArray<State> asciiTransitions = new AtomicReferenceArray<>(ASCII_SIZE);
+    private final ConcurrentMap<Character, State> otherTransitions = new ConcurrentHashMap<>();
+
+    private State(int[] nodeIds, int[] matchingIds, boolean cacheable) {
+      this.nodeIds = nodeIds;
+      this.matchingIds = matchingIds;
+      this.cacheable = cacheable;
+    }
+
+    private boolean isDead() {
+      return nodeIds.length == 0;
+    }
+
+    private State next(char ch) {
+      State next = ch < ASCII_SIZE ? asciiTransitions.get(ch) : otherTransitions.get(ch);
+      if (next == null) {
+        next = transition(this, ch);
+        if (cacheable && next.cacheable) {
+          if (ch < ASCII_SIZE) {
+            asciiTransitions.set(ch, next);
+          } else {
+            otherTransitions.put(ch, next);
+          }
+        }
+      }
+      return next;
+    }
+  }
+
+  private static final class StateKey {
+    private final int[] nodeIds;
+    private final int hashCode;
+
+    private StateKey(int[] nodeIds) {
+      this.nodeIds = nodeIds;
+      this.hashCode = Arrays.hashCode(nodeIds);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      return o instanceof StateKey && Arrays.equals(nodeIds, ((StateKey) o).nodeIds);
+    }
+
+    @Override
+    public int hashCode() {
+      return hashCode;
+    }
+  }
+}
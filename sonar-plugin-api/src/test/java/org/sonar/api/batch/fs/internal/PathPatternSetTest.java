@@ -0,0 +1,72 @@
+/*
+ * SonarQube, open source software quality management tool.
+ * Copyright (C) 2008-2014 SonarSource
+ * mailto:contact AT sonarsource DOT com
+ *
+ * SonarQube is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SonarQube is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.api.batch.fs.internal;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.sonar.api.batch.fs.InputFile;
+
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PathPatternSetTest {
+  @Rule
+  public TemporaryFolder temp = new TemporaryFolder();
+
+  @Test
+  public void match_relative_and_absolute_patterns() throws Exception {
+    PathPatternSet set = PathPatternSet.create(new String[] {"**/*Foo.java", "file:**/src/main/**Bar.java", "**/*.java", "**/*.js"});
+    assertThat(set.toString()).isEqualTo("[**/*Foo.java, file:**/src/main/**Bar.java, **/*.java, **/*.js]");
+    assertThat(set.patterns()).hasSize(4);
+
+    Path moduleBaseDir = temp.newFolder().toPath();
+    InputFile foo = new DefaultInputFile("ABCDE", "src/main/java/org/MyFoo.java").setModuleBaseDir(moduleBaseDir);
+    assertThat(set.matchAny(foo)).isTrue();
+    assertThat(set.match(foo, true)).containsExactly(0, 2);
+
+    InputFile bar = new DefaultInputFile("ABCDE", "src/main/java/org/MyBar.java").setModuleBaseDir(moduleBaseDir);
+    assertThat(set.match(bar, true)).containsExactly(1, 2);
+
+    InputFile other = new DefaultInputFile("ABCDE", "src/main/java/org/Other.php").setModuleBaseDir(moduleBaseDir);
+    assertThat(set.matchAny(other)).isFalse();
+    assertThat(set.match(other, true)).isEmpty();
+  }
+
+  @Test
+  public void match_insensitive_file_extension() throws Exception {
+    PathPatternSet set = PathPatternSet.create(new String[] {"**/*Foo.java", "file:**/src/main/**Foo.java"});
+
+    Path moduleBaseDir = temp.newFolder().toPath();
+    InputFile inputFile = new DefaultInputFile("ABCDE", "src/main/java/org/MyFoo.JAVA").setModuleBaseDir(moduleBaseDir);
+    assertThat(set.matchAny(inputFile)).isFalse();
+    assertThat(set.matchAny(inputFile, false)).isTrue();
+    assertThat(set.match(inputFile, false)).containsExactly(0, 1);
+  }
+
+  @Test
+  public void empty_set() {
+    PathPatternSet set = PathPatternSet.create(new String[0]);
+
+    assertThat(set.isEmpty()).isTrue();
+    assertThat(set.matchAny(new DefaultInputFile("ABCDE", "src/main/java/org/MyFoo.java"))).isFalse();
+  }
+}
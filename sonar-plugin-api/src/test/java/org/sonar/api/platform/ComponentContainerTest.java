@@ -22,6 +22,7 @@ package org.sonar.api.platform;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
+import org.picocontainer.MutablePicoContainer;
 import org.picocontainer.injectors.ProviderAdapter;
 import org.sonar.api.Property;
 import org.sonar.api.config.PropertyDefinitions;
@@ -136,6 +137,24 @@ public class ComponentContainerTest {
     assertThat(parent.getChild()).isNull();
   }
 
+  @Test
+  public void child_pico_container_can_be_customized() {
+    final MutablePicoContainer[] childPico = new MutablePicoContainer[1];
+    ComponentContainer parent = new ComponentContainer() {
+      @Override
+      protected MutablePicoContainer createChildPicoContainer() {
+        childPico[0] = createPicoContainer(getPicoContainer());
+        return childPico[0];
+      }
+    };
+    parent.addSingleton(SimpleComponent.class);
+
+    ComponentContainer child = parent.createChild();
+
+    assertThat(child.getPicoContainer()).isSameAs(childPico[0]);
+    assertThat(child.getComponentByType(SimpleComponent.class)).isSameAs(parent.getComponentByType(SimpleComponent.class));
+  }
+
   @Test
   public void shouldForwardStartAndStopToDescendants() {
     ComponentContainer grandParent = new ComponentContainer();
@@ -0,0 +1,150 @@
+/*
+ * SonarQube, open source software quality management tool.
+ * Copyright (C) 2008-2014 SonarSource
+ * mailto:contact AT sonarsource DOT com
+ *
+ * SonarQube is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SonarQube is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.api.utils.internal;
+
+import org.junit.Test;
+import org.sonar.api.utils.WildcardPattern;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class WildcardPatternSetTest {
+
+  private static final String[] PATTERNS = {
+    "org/T?st.java", "org/*.java", "org/**", "org/**/Test.java", "org/**/*.java", "**/*.java", "**/*.js", "**/*.jsp",
+    "**", "*", "**/test/**", "src/other/**.java", "src/main/**/Action.java", "/src/main/**", "src\\main\\*.xml",
+    "***", "a**b", "**/**/*.c", "*.*", "foo$bar(1)+[x]{y}^|.txt", "?", "??/*", "org/sonar/**/Foo", ""
+  };
+
+  private static final String[] VALUES = {
+    "org/Test.java", "org/Tost.java", "org/Foo.java", "org/foo/bar.jsp", "org/foo/Test.java", "org/foo/bar/Baz.java",
+    "/org/Foo.java", "org/Foo.java/", "src/main/java/Action.java", "src/other/Foo.java", "src/main/pom.xml", "src/main/a/pom.xml",
+    "test/Foo.js", "foo/test/bar/Baz.jsp", "Foo.java", "Foo", "a/b", "axxb", "ax/xb", "ab", "x/y/z.c", "z.c",
+    "foo$bar(1)+[x]{y}^|.txt", "fooXbar(1)+[x]{y}^|.txt", "a", "ab/c", "org/sonar/Foo", "org/sonar/a/b/Foo", "", "/",
+    "org/foo\nbar.java", "été/café.java"
+  };
+
+  @Test
+  public void match_same_values_as_wildcard_pattern() {
+    WildcardPatternSet set = WildcardPatternSet.create(PATTERNS);
+
+    for (String value : VALUES) {
+      assertThat(set.match(value)).as(value).isEqualTo(expectedIds(PATTERNS, value));
+      assertThat(set.matchAny(value)).as(value).isEqualTo(expectedIds(PATTERNS, value).length > 0);
+    }
+  }
+
+  @Test
+  public void match_same_values_as_wildcard_pattern_on_random_input() {
+    Random random = new Random(42L);
+    String patternAlphabet = "ab/*?.\\";
+    String valueAlphabet = "ab/.c";
+    for (int round = 0; round < 200; round++) {
+      String[] patterns = new String[1 + random.nextInt(10)];
+      for (int i = 0; i < patterns.length; i++) {
+        patterns[i] = randomString(random, patternAlphabet, 8);
+      }
+      WildcardPatternSet set = WildcardPatternSet.create(patterns);
+      for (int i = 0; i < 50; i++) {
+        String value = randomString(random, valueAlphabet, 10);
+        assertThat(set.match(value)).as(set + " / " + value).isEqualTo(expectedIds(patterns, value));
+      }
+    }
+  }
+
+  @Test
+  public void empty_set() {
+    WildcardPatternSet set = WildcardPatternSet.create();
+
+    assertThat(set.isEmpty()).isTrue();
+    assertThat(set.size()).isEqualTo(0);
+    assertThat(set.matchAny("foo")).isFalse();
+    assertThat(set.match("foo")).isEmpty();
+  }
+
+  @Test
+  public void returned_ids_can_be_modified() {
+    WildcardPatternSet set = WildcardPatternSet.create("**/*.java", "**");
+
+    int[] ids = set.match("Foo.java");
+    ids[0] = 42;
+
+    assertThat(set.match("Foo.java")).containsExactly(0, 1);
+    assertThat(set.pattern(0)).isEqualTo("**/*.java");
+    assertThat(set.size()).isEqualTo(2);
+  }
+
+  @Test
+  public void concurrent_matching() throws Exception {
+    final WildcardPatternSet set = WildcardPatternSet.create(PATTERNS);
+    List<Thread> threads = new ArrayList<>();
+    final List<AssertionError> errors = new ArrayList<>();
+    for (int t = 0; t < 4; t++) {
+      Thread thread = new Thread() {
+        @Override
+        public void run() {
+          try {
+            for (int i = 0; i < 100; i++) {
+              for (String value : VALUES) {
+                assertThat(set.match(value)).isEqualTo(expectedIds(PATTERNS, value));
+              }
+            }
+          } catch (AssertionError e) {
+            synchronized (errors) {
+              errors.add(e);
+            }
+          }
+        }
+      };
+      threads.add(thread);
+      thread.start();
+    }
+    for (Thread thread : threads) {
+      thread.join();
+    }
+    assertThat(errors).isEmpty();
+  }
+
+  private static int[] expectedIds(String[] patterns, String value) {
+    List<Integer> ids = new ArrayList<>();
+    for (int i = 0; i < patterns.length; i++) {
+      if (WildcardPattern.create(patterns[i]).match(value)) {
+        ids.add(i);
+      }
+    }
+    int[] result = new int[ids.size()];
+    for (int i = 0; i < result.length; i++) {
+      result[i] = ids.get(i);
+    }
+    return result;
+  }
+
+  private static String randomString(Random random, String alphabet, int maxLength) {
+    int length = random.nextInt(maxLength + 1);
+    StringBuilder sb = new StringBuilder(length);
+    for (int i = 0; i < length; i++) {
+      sb.append(alphabet.charAt(random.nextInt(alphabet.length())));
+    }
+    return sb.toString();
+  }
+}